@@ -0,0 +1,108 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.popbill.api.BaseServiceImp;
+import com.popbill.api.PopbillException;
+
+/**
+ * 벤치마크용 서비스.
+ * 
+ * BaseServiceImp 의 httpget, httppost, httppostFiles 를 경로와 응답 형식을 지정하여
+ * 호출합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class BenchmarkService extends BaseServiceImp {
+
+	@Override
+	protected List<String> getScopes() {
+		return Arrays.asList("110");
+	}
+
+	/**
+	 * GET 요청.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	public <T> T get(String url, String CorpNum, Class<T> clazz)
+			throws PopbillException {
+		return httpget(url, CorpNum, null, clazz);
+	}
+
+	/**
+	 * 문자열 본문 POST 요청.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostData
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	public <T> T post(String url, String CorpNum, String PostData,
+			Class<T> clazz) throws PopbillException {
+		return httppost(url, CorpNum, PostData, null, clazz);
+	}
+
+	/**
+	 * 객체를 JSON 으로 직렬화하여 POST 요청.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostGraph
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	public <T> T postJson(String url, String CorpNum, Object PostGraph,
+			Class<T> clazz) throws PopbillException {
+		return httppostJson(url, CorpNum, PostGraph, null, clazz);
+	}
+
+	/**
+	 * 파일 첨부 POST 요청.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param form
+	 * @param file
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	public <T> T postFiles(String url, String CorpNum, String form,
+			File file, Class<T> clazz) throws PopbillException {
+		UploadFile uploadFile = new UploadFile();
+		uploadFile.fieldName = "Filedata";
+		uploadFile.fileName = file.getName();
+		uploadFile.file = file;
+
+		List<UploadFile> files = new ArrayList<UploadFile>();
+		files.add(uploadFile);
+
+		return httppostFiles(url, CorpNum, form, files, null, clazz);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.OutputStream;
+
+/**
+ * 기록한 크기만 세는 출력 스트림. 직렬화 결과를 버리면서도 JIT 가 직렬화를
+ * 제거하지 않도록 크기를 반환합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class CountingOutputStream extends OutputStream {
+
+	private long count;
+
+	@Override
+	public void write(int b) {
+		count++;
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) {
+		count += len;
+	}
+
+	/**
+	 * @return count of written bytes.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * 크기 초기화.
+	 */
+	public void reset() {
+		count = 0;
+	}
+}
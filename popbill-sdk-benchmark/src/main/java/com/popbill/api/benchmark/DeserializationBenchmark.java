@@ -0,0 +1,94 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.popbill.api.JsonCodecs;
+import com.popbill.api.hometax.HTTaxinvoiceSearchResult;
+import com.popbill.api.message.MSGSearchResult;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.transport.JsonCodec;
+
+/**
+ * 목록조회 응답의 역직렬화 시간.
+ * 
+ * 모든 필드를 채운 항목 pageSize 건의 응답을 응답 스트림과 같이 읽습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DeserializationBenchmark {
+
+	/** 페이지당 목록 수. 최대 1000건입니다. */
+	@Param({ "100", "1000" })
+	public int pageSize;
+
+	private JsonCodec codec;
+	private byte[] taxinvoicePage;
+	private byte[] messagePage;
+	private byte[] hometaxPage;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		codec = JsonCodecs.getDefault();
+		taxinvoicePage = Fixtures.json(Fixtures.searchResult(
+				TISearchResult.class, pageSize));
+		messagePage = Fixtures.json(Fixtures.searchResult(
+				MSGSearchResult.class, pageSize));
+		hometaxPage = Fixtures.json(Fixtures.searchResult(
+				HTTaxinvoiceSearchResult.class, pageSize));
+	}
+
+	@Benchmark
+	public TISearchResult decodeTISearchResult() throws IOException {
+		return codec.read(new ByteArrayInputStream(taxinvoicePage),
+				TISearchResult.class);
+	}
+
+	@Benchmark
+	public MSGSearchResult decodeMSGSearchResult() throws IOException {
+		return codec.read(new ByteArrayInputStream(messagePage),
+				MSGSearchResult.class);
+	}
+
+	@Benchmark
+	public HTTaxinvoiceSearchResult decodeHTTaxinvoiceSearchResult()
+			throws IOException {
+		return codec.read(new ByteArrayInputStream(hometaxPage),
+				HTTaxinvoiceSearchResult.class);
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.popbill.api.BaseServiceImp;
+import com.popbill.api.JsonCodecs;
+import com.popbill.api.TokenRegistry;
+import com.popbill.api.mock.MockPopbillServer;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceDetail;
+
+/**
+ * 벤치마크 입력 데이터.
+ * 
+ * 모델 클래스의 모든 필드를 채운 객체를 생성합니다. 필드가 추가되어도 벤치마크
+ * 입력에 반영되도록 리플렉션으로 채웁니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class Fixtures {
+
+	public static final String LINK_ID = "TESTER";
+	public static final String SECRET_KEY = "SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=";
+	public static final String CORP_NUM = "1234567890";
+
+	private Fixtures() {
+	}
+
+	/**
+	 * Mock 서버를 사용하는 서비스 설정. 서비스마다 별도의 토큰 저장소를 사용합니다.
+	 * 
+	 * @param service
+	 * @param server
+	 * @return service
+	 */
+	public static <T extends BaseServiceImp> T configure(T service,
+			MockPopbillServer server) {
+		service.setLinkID(LINK_ID);
+		service.setSecretKey(SECRET_KEY);
+		service.setTest(true);
+		service.setTokenRegistry(new TokenRegistry());
+		return server.configure(service);
+	}
+
+	/**
+	 * 품목이 detailCount 건인 세금계산서.
+	 * 
+	 * @param detailCount
+	 * @return Taxinvoice
+	 */
+	public static Taxinvoice taxinvoice(int detailCount) {
+		Taxinvoice taxinvoice = fill(Taxinvoice.class, 1);
+
+		List<TaxinvoiceDetail> details = new ArrayList<TaxinvoiceDetail>();
+		for (int i = 1; i <= detailCount; i++) {
+			TaxinvoiceDetail detail = fill(TaxinvoiceDetail.class, i);
+			detail.setSerialNum((short) i);
+			details.add(detail);
+		}
+		taxinvoice.setDetailList(details);
+
+		return taxinvoice;
+	}
+
+	/**
+	 * 목록조회 결과. list 필드에 count 건의 항목을 채웁니다.
+	 * 
+	 * @param type
+	 *            search result class. (ex. TISearchResult)
+	 * @param count
+	 *            count of list items.
+	 * @return search result
+	 */
+	public static <T> T searchResult(Class<T> type, int count) {
+		T result = fill(type, 1);
+
+		try {
+			Field list = type.getDeclaredField("list");
+			Class<?> itemType = (Class<?>) ((ParameterizedType) list
+					.getGenericType()).getActualTypeArguments()[0];
+
+			List<Object> items = new ArrayList<Object>();
+			for (int i = 1; i <= count; i++)
+				items.add(fill(itemType, i));
+
+			list.setAccessible(true);
+			list.set(result, items);
+		} catch (Exception e) {
+			throw new IllegalArgumentException(type.getName(), e);
+		}
+		return result;
+	}
+
+	/**
+	 * 응답 본문. SDK 기본 JsonCodec 으로 직렬화합니다.
+	 * 
+	 * @param value
+	 * @return UTF-8 JSON
+	 */
+	public static byte[] json(Object value) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			JsonCodecs.gson().write(value, output);
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return output.toByteArray();
+	}
+
+	/**
+	 * 임의의 내용으로 채운 임시 파일. JVM 종료시 삭제됩니다.
+	 * 
+	 * @param size
+	 *            file size in bytes.
+	 * @return temporary file
+	 * @throws IOException
+	 */
+	public static File tempFile(int size) throws IOException {
+		File file = File.createTempFile("popbill-benchmark", ".pdf");
+		file.deleteOnExit();
+
+		byte[] data = new byte[size];
+		new Random(size).nextBytes(data);
+
+		FileOutputStream output = new FileOutputStream(file);
+		try {
+			output.write(data);
+		} finally {
+			output.close();
+		}
+		return file;
+	}
+
+	/**
+	 * 문자열, 숫자, 논리값 필드를 모두 채운 객체.
+	 * 
+	 * @param type
+	 *            model class with default constructor.
+	 * @param seq
+	 *            sequence to make values distinct.
+	 * @return filled object
+	 */
+	public static <T> T fill(Class<T> type, int seq) {
+		try {
+			T value = type.newInstance();
+
+			for (Class<?> c = type; c != Object.class; c = c.getSuperclass()) {
+				for (Field field : c.getDeclaredFields()) {
+					int modifiers = field.getModifiers();
+					if (Modifier.isStatic(modifiers)
+							|| Modifier.isFinal(modifiers)
+							|| Modifier.isTransient(modifiers))
+						continue;
+
+					Object fieldValue = sample(field, seq);
+					if (fieldValue != null) {
+						field.setAccessible(true);
+						field.set(value, fieldValue);
+					}
+				}
+			}
+			return value;
+		} catch (InstantiationException e) {
+			throw new IllegalArgumentException(type.getName(), e);
+		} catch (IllegalAccessException e) {
+			throw new IllegalArgumentException(type.getName(), e);
+		}
+	}
+
+	private static Object sample(Field field, int seq) {
+		Class<?> type = field.getType();
+
+		if (type == String.class)
+			return field.getName() + "-" + seq;
+		if (type == int.class || type == Integer.class)
+			return Integer.valueOf(seq);
+		if (type == long.class || type == Long.class)
+			return Long.valueOf(seq);
+		if (type == short.class || type == Short.class)
+			return Short.valueOf((short) seq);
+		if (type == double.class || type == Double.class)
+			return Double.valueOf(seq);
+		if (type == float.class || type == Float.class)
+			return Float.valueOf(seq);
+		if (type == boolean.class || type == Boolean.class)
+			return Boolean.TRUE;
+
+		return null;
+	}
+}
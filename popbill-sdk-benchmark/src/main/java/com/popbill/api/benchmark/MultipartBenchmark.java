@@ -0,0 +1,107 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.popbill.api.transport.MultipartRequestBody;
+
+/**
+ * httppostFiles 의 multipart 본문 생성 및 기록 시간.
+ * 
+ * httppostFiles 와 같이 form 파트와 파일 파트로 본문을 구성하여 버리는 출력
+ * 스트림에 기록합니다. 파일 파트는 파일에서 직접 읽는 경우와 메모리의 스트림을
+ * 읽는 경우를 비교합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MultipartBenchmark {
+
+	private static final String boundary = "--u489jwe98j3498j394r23450--";
+
+	/** 첨부파일 크기. (bytes) */
+	@Param({ "16384", "1048576" })
+	public int fileSize;
+
+	private byte[] form;
+	private File file;
+	private byte[] fileData;
+	private CountingOutputStream output;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException {
+		form = "{\"snd\":\"07043042991\",\"fCnt\":1,\"rcvs\":[{\"rcv\":\"010111222\"}]}"
+				.getBytes(Charset.forName("UTF-8"));
+		file = Fixtures.tempFile(fileSize);
+		fileData = new byte[fileSize];
+		output = new CountingOutputStream();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		file.delete();
+	}
+
+	@Benchmark
+	public long encodeFilePart() throws IOException {
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+		body.addPart("form", "Application/json; charset=utf-8", form);
+		body.addFilePart("Filedata", file.getName(),
+				"Application/octet-stream", file);
+
+		output.reset();
+		body.writeTo(output);
+		return output.getCount() + body.getContentLength();
+	}
+
+	@Benchmark
+	public long encodeStreamPart() throws IOException {
+		ByteArrayInputStream data = new ByteArrayInputStream(fileData);
+
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+		body.addPart("form", "Application/json; charset=utf-8", form);
+		body.addStreamPart("Filedata", "file.pdf", "Application/octet-stream",
+				data, MultipartRequestBody.lengthOf(data));
+
+		output.reset();
+		body.writeTo(output);
+		return output.getCount() + body.getContentLength();
+	}
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.IOException;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 벤치마크 실행.
+ * 
+ * JMH 명령행 옵션에 GC 프로파일러(-prof gc)와 JSON 결과 파일을 기본으로 추가합니다.
+ * 할당률(gc.alloc.rate.norm)은 호출당 할당한 byte 수로, 릴리즈 전 이전 버전의 결과와
+ * 비교합니다.
+ * 
+ * <pre>
+ * java -jar target/benchmarks.jar                      # 전체 실행
+ * java -jar target/benchmarks.jar Serialization -rff 1.3.4.json
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class PopbillBenchmarks {
+
+	/** 기본 결과 파일. */
+	public static final String DEFAULT_RESULT = "jmh-result.json";
+
+	private PopbillBenchmarks() {
+	}
+
+	public static void main(String[] args) throws RunnerException,
+			CommandLineOptionException, IOException {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+
+		if (commandLine.shouldHelp()) {
+			commandLine.showHelp();
+			return;
+		}
+		if (commandLine.shouldList()) {
+			new Runner(commandLine).list();
+			return;
+		}
+
+		OptionsBuilder builder = new OptionsBuilder();
+		builder.parent(commandLine);
+
+		if (commandLine.getIncludes().isEmpty())
+			builder.include(PopbillBenchmarks.class.getPackage().getName()
+					+ ".*");
+
+		if (commandLine.getProfilers().isEmpty())
+			builder.addProfiler(GCProfiler.class);
+
+		if (commandLine.getResult().hasValue() == false
+				&& commandLine.getResultFormat().hasValue() == false) {
+			builder.resultFormat(ResultFormatType.JSON);
+			builder.result(DEFAULT_RESULT);
+		}
+
+		Options options = builder.build();
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.popbill.api.JsonCodecs;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.transport.JsonCodec;
+
+/**
+ * 세금계산서 직렬화 시간.
+ * 
+ * 요청 본문과 같이 출력 스트림으로 직접 직렬화합니다. JsonCodecs.getDefault() 를
+ * 사용하므로 -Dpopbill.json.codec 으로 다른 JsonCodec 과 비교할 수 있습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+
+	/** 품목 수. 세금계산서 품목은 최대 99건입니다. */
+	@Param({ "1", "10", "99" })
+	public int detailCount;
+
+	private JsonCodec codec;
+	private Taxinvoice taxinvoice;
+	private CountingOutputStream output;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		codec = JsonCodecs.getDefault();
+		taxinvoice = Fixtures.taxinvoice(detailCount);
+		output = new CountingOutputStream();
+	}
+
+	@Benchmark
+	public long encodeTaxinvoice() throws IOException {
+		output.reset();
+		codec.write(taxinvoice, output);
+		return output.getCount();
+	}
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.text.SimpleDateFormat;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import kr.co.linkhub.auth.Token;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.popbill.api.PopbillException;
+import com.popbill.api.TokenRegistry;
+
+/**
+ * 여러 쓰레드가 동시에 토큰을 확인하는 경우의 처리량.
+ * 
+ * BaseServiceImp.getSessionToken() 은 요청마다 TokenRegistry.get() 으로 유효한
+ * 토큰을 확인하므로, 같은 방식으로 저장소를 호출합니다. members 가 1 이면 모든
+ * 쓰레드가 같은 회원의 토큰을 확인하며, 토큰은 발급된 후 만료되지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(8)
+public class SessionTokenBenchmark {
+
+	/** 토큰을 확인하는 회원 수. */
+	@Param({ "1", "1000" })
+	public int members;
+
+	private TokenRegistry registry;
+	private TokenRegistry.TokenLoader loader;
+	private Set<String> scopes;
+	private String[] corpNums;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Setup(Level.Trial)
+	public void setUp() throws PopbillException {
+		final long expiration = System.currentTimeMillis()
+				+ TimeUnit.DAYS.toMillis(1);
+
+		SimpleDateFormat format = new SimpleDateFormat(
+				"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+		final Token token = new Gson().fromJson("{\"session_token\":\"benchmark\","
+				+ "\"serviceID\":\"POPBILL_TEST\",\"linkID\":\""
+				+ Fixtures.LINK_ID + "\",\"expiration\":\""
+				+ format.format(new Date(expiration)) + "\","
+				+ "\"scope\":[\"member\",\"110\"]}", Token.class);
+
+		loader = new TokenRegistry.TokenLoader() {
+			@Override
+			public Token load(String CorpNum, Set<String> scopes) {
+				return token;
+			}
+
+			@Override
+			public long getExpiration(Token token) {
+				return expiration;
+			}
+
+			@Override
+			public long currentTimeMillis() {
+				return System.currentTimeMillis();
+			}
+		};
+
+		scopes = Collections.unmodifiableSet(new HashSet<String>(
+				token.getScope()));
+		registry = new TokenRegistry();
+
+		corpNums = new String[members];
+		for (int i = 0; i < members; i++) {
+			corpNums[i] = Long.toString(1000000000L + i);
+
+			// 발급은 측정에서 제외합니다.
+			registry.get(Fixtures.LINK_ID, "POPBILL_TEST", corpNums[i],
+					scopes, loader);
+		}
+	}
+
+	@Benchmark
+	public Token getSessionToken(Cursor cursor) throws PopbillException {
+		String CorpNum = corpNums[cursor.next];
+		if (++cursor.next == corpNums.length)
+			cursor.next = 0;
+
+		return registry.get(Fixtures.LINK_ID, "POPBILL_TEST", CorpNum,
+				scopes, loader);
+	}
+}
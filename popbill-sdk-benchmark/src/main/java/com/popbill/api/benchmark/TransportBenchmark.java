@@ -0,0 +1,113 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.Response;
+import com.popbill.api.mock.MockPopbillServer;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceInfo;
+
+/**
+ * httpget, httppost, httppostJson, httppostFiles 의 요청-응답 시간.
+ * 
+ * 같은 프로세스의 MockPopbillServer 로 요청하므로 네트워크 지연 없이 SDK 의
+ * 요청 생성, 직렬화, 연결 재사용, 응답 해제(gzip) 및 역직렬화 비용을 측정합니다.
+ * 측정값에는 Mock 서버의 처리 시간이 포함됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransportBenchmark {
+
+	private MockPopbillServer server;
+	private BenchmarkService service;
+
+	private Taxinvoice taxinvoice;
+	private String postData;
+	private String form;
+	private File file;
+
+	@Setup(Level.Trial)
+	public void setUp() throws IOException, PopbillException {
+		server = new MockPopbillServer();
+		server.setRecording(false);
+		server.start();
+
+		service = Fixtures.configure(new BenchmarkService(), server);
+
+		taxinvoice = Fixtures.taxinvoice(10);
+		postData = new String(Fixtures.json(taxinvoice), "UTF-8");
+		form = "{\"snd\":\"07043042991\",\"fCnt\":1,\"rcvs\":[{\"rcv\":\"010111222\"}]}";
+		file = Fixtures.tempFile(64 * 1024);
+
+		// 토큰 발급과 연결 생성은 측정에서 제외합니다.
+		service.get("/Taxinvoice/SELL/K1", Fixtures.CORP_NUM,
+				TaxinvoiceInfo.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		server.stop();
+		file.delete();
+	}
+
+	@Benchmark
+	public TaxinvoiceInfo httpget() throws PopbillException {
+		return service.get("/Taxinvoice/SELL/K1", Fixtures.CORP_NUM,
+				TaxinvoiceInfo.class);
+	}
+
+	@Benchmark
+	public Response httppost() throws PopbillException {
+		return service.post("/Taxinvoice", Fixtures.CORP_NUM, postData,
+				Response.class);
+	}
+
+	@Benchmark
+	public Response httppostJson() throws PopbillException {
+		return service.postJson("/Taxinvoice", Fixtures.CORP_NUM, taxinvoice,
+				Response.class);
+	}
+
+	@Benchmark
+	public Response httppostFiles() throws PopbillException {
+		return service.postFiles("/FAX", Fixtures.CORP_NUM, form, file,
+				Response.class);
+	}
+}
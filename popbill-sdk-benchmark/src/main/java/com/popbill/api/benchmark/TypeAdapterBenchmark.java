@@ -0,0 +1,78 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.google.gson.Gson;
+import com.popbill.api.PopbillGson;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.taxinvoice.Taxinvoice;
+
+/**
+ * 리플렉션 방식과 생성된 TypeAdapter 의 변환 시간 비교.
+ * 
+ * reflective 는 기본 Gson, generated 는 GeneratedTypeAdapterFactory 를 등록한
+ * PopbillGson 으로 같은 세금계산서와 목록조회 응답을 변환합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeAdapterBenchmark {
+
+	@Param({ "reflective", "generated" })
+	public String adapter;
+
+	private Gson gson;
+	private Taxinvoice taxinvoice;
+	private String searchResult;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		gson = adapter.equals("generated") ? PopbillGson.get() : new Gson();
+		taxinvoice = Fixtures.taxinvoice(10);
+		searchResult = new Gson().toJson(Fixtures.searchResult(
+				TISearchResult.class, 100));
+	}
+
+	@Benchmark
+	public String writeTaxinvoice() {
+		return gson.toJson(taxinvoice);
+	}
+
+	@Benchmark
+	public TISearchResult readTISearchResult() {
+		return gson.fromJson(searchResult, TISearchResult.class);
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.jackson;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect.Visibility;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyName;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.introspect.Annotated;
+import com.fasterxml.jackson.databind.introspect.JacksonAnnotationIntrospector;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.google.gson.annotations.SerializedName;
+import com.popbill.api.transport.JsonCodec;
+import com.popbill.api.transport.JsonCodecException;
+
+/**
+ * Jackson JSON Codec.
+ * 
+ * Jackson 스트리밍 파서와 Afterburner 로 모델 클래스를 변환합니다. Gson 과 같은
+ * 결과를 내도록 필드만 사용하고, @SerializedName 이름을 따르며, null 필드는 기록하지
+ * 않고, 알 수 없는 속성은 무시합니다.
+ * 
+ * 사용하려면 서비스 객체에 설정하거나, 시스템 속성으로 기본 Codec 을 지정합니다.
+ * 
+ * <pre>
+ * service.setJsonCodec(new JacksonJsonCodec());
+ * -Dpopbill.json.codec=com.popbill.api.jackson.JacksonJsonCodec
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class JacksonJsonCodec implements JsonCodec {
+
+	private final ObjectMapper mapper;
+
+	public JacksonJsonCodec() {
+		this(createMapper());
+	}
+
+	/**
+	 * @param mapper
+	 *            ObjectMapper to use. must be configured like createMapper().
+	 */
+	public JacksonJsonCodec(ObjectMapper mapper) {
+		if (mapper == null)
+			throw new NullPointerException("mapper");
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Gson 과 같은 규칙으로 변환하는 ObjectMapper 생성.
+	 * 
+	 * @return configured ObjectMapper.
+	 */
+	public static ObjectMapper createMapper() {
+		ObjectMapper mapper = new ObjectMapper();
+
+		mapper.registerModule(new AfterburnerModule());
+		mapper.setAnnotationIntrospector(new GsonNameIntrospector());
+
+		mapper.setVisibility(PropertyAccessor.ALL, Visibility.NONE);
+		mapper.setVisibility(PropertyAccessor.FIELD, Visibility.ANY);
+		mapper.setSerializationInclusion(JsonInclude.Include.NON_NULL);
+
+		mapper.configure(SerializationFeature.FAIL_ON_EMPTY_BEANS, false);
+		mapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES,
+				false);
+		mapper.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+		mapper.configure(JsonParser.Feature.AUTO_CLOSE_SOURCE, false);
+
+		return mapper;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.JsonCodec#write(java.lang.Object,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public void write(Object value, OutputStream output) throws IOException {
+		JsonGenerator generator = mapper.getFactory().createGenerator(output,
+				JsonEncoding.UTF8);
+		try {
+			mapper.writeValue(generator, value);
+		} catch (JsonProcessingException e) {
+			throw new JsonCodecException(e.getMessage(), e);
+		}
+		generator.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.JsonCodec#read(java.io.InputStream,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> T read(InputStream input, Class<T> type) throws IOException {
+		JsonParser parser = mapper.getFactory().createParser(input);
+		try {
+			// Gson 과 같이 빈 본문과 null 은 null 로 변환합니다.
+			JsonToken token = parser.nextToken();
+			if (token == null || token == JsonToken.VALUE_NULL)
+				return null;
+
+			return mapper.readValue(parser, type);
+		} catch (JsonProcessingException e) {
+			throw new JsonCodecException(e.getMessage(), e);
+		} finally {
+			parser.close();
+		}
+	}
+
+	/**
+	 * 모델 클래스의 Gson @SerializedName 을 속성 이름으로 사용합니다.
+	 */
+	private static class GsonNameIntrospector extends
+			JacksonAnnotationIntrospector {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		public PropertyName findNameForSerialization(Annotated a) {
+			PropertyName name = serializedName(a);
+			return name != null ? name : super.findNameForSerialization(a);
+		}
+
+		@Override
+		public PropertyName findNameForDeserialization(Annotated a) {
+			PropertyName name = serializedName(a);
+			return name != null ? name : super.findNameForDeserialization(a);
+		}
+
+		private static PropertyName serializedName(Annotated a) {
+			SerializedName serializedName = a
+					.getAnnotation(SerializedName.class);
+			return serializedName == null ? null : new PropertyName(
+					serializedName.value());
+		}
+	}
+}
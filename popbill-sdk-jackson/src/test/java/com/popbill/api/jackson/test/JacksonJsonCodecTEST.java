@@ -0,0 +1,164 @@
+package com.popbill.api.jackson.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.JsonCodecs;
+import com.popbill.api.Response;
+import com.popbill.api.jackson.JacksonJsonCodec;
+import com.popbill.api.message.Message;
+import com.popbill.api.statement.Statement;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceDetail;
+import com.popbill.api.transport.JsonCodec;
+import com.popbill.api.transport.JsonCodecException;
+
+public class JacksonJsonCodecTEST {
+
+	private final Gson gson = new Gson();
+	private final JsonCodec jackson = new JacksonJsonCodec();
+
+	private static InputStream stream(String json) throws IOException {
+		return new ByteArrayInputStream(json.getBytes("UTF-8"));
+	}
+
+	private String write(JsonCodec codec, Object value) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		codec.write(value, output);
+		return output.toString("UTF-8");
+	}
+
+	private static Taxinvoice taxinvoice() {
+		Taxinvoice taxinvoice = new Taxinvoice();
+		taxinvoice.setWriteDate("20261017");
+		taxinvoice.setInvoicerCorpNum("1234567890");
+		taxinvoice.setInvoicerCorpName("공급자 상호");
+		taxinvoice.setSupplyCostTotal("100000");
+		taxinvoice.setTaxTotal("10000");
+		taxinvoice.setWriteSpecification(true);
+
+		List<TaxinvoiceDetail> details = new ArrayList<TaxinvoiceDetail>();
+		for (short i = 1; i <= 10; i++) {
+			TaxinvoiceDetail detail = new TaxinvoiceDetail();
+			detail.setSerialNum(i);
+			detail.setItemName("품목 " + i);
+			detail.setSupplyCost("10000");
+			details.add(detail);
+		}
+		taxinvoice.setDetailList(details);
+		return taxinvoice;
+	}
+
+	@Test
+	public void write_SameAsGson() throws Exception {
+		Taxinvoice taxinvoice = taxinvoice();
+
+		// 속성 순서와 무관하게 비교하도록 Gson 으로 다시 읽어 비교합니다.
+		assertEquals(gson.toJson(taxinvoice), gson.toJson(gson.fromJson(
+				write(jackson, taxinvoice), Taxinvoice.class)));
+
+		Message message = new Message();
+		message.setSender("07043042991");
+		message.setContent("내용");
+		String json = write(jackson, message);
+
+		assertTrue(json, json.contains("\"snd\":\"07043042991\""));
+		assertTrue(json, json.contains("\"msg\":\"내용\""));
+		assertTrue(json, json.contains("null") == false);
+
+		Statement statement = new Statement();
+		statement.getPropertyBag().put("Balance", "15000");
+		assertEquals(gson.toJson(statement), gson.toJson(gson.fromJson(
+				write(jackson, statement), Statement.class)));
+	}
+
+	@Test
+	public void read_SameAsGson() throws Exception {
+		String json = "{\"code\":1,\"total\":2,\"perPage\":500,"
+				+ "\"list\":[{\"itemKey\":\"K1\",\"stateCode\":300,"
+				+ "\"openYN\":true,\"unknown\":{\"a\":[1]}},"
+				+ "{\"itemKey\":\"K2\",\"lateIssueYN\":\"false\"}]}";
+
+		assertEquals(gson.toJson(gson.fromJson(json, TISearchResult.class)),
+				gson.toJson(jackson.read(stream(json), TISearchResult.class)));
+
+		Message message = jackson.read(stream("{\"snd\":\"070\",\"rcv\":\"010\"}"),
+				Message.class);
+		assertEquals("070", message.getSender());
+		assertEquals("010", message.getReceiver());
+
+		Response response = jackson.read(stream("{\"code\":\"-11000001\"}"),
+				Response.class);
+		assertEquals(-11000001, response.getCode());
+
+		assertNull(jackson.read(stream(""), Response.class));
+		assertNull(jackson.read(stream("null"), Response.class));
+
+		try {
+			jackson.read(stream("{\"code\":[1]}"), Response.class);
+			fail("unexpected array must be rejected.");
+		} catch (JsonCodecException e) {
+			assertTrue(e.getMessage(), e.getMessage() != null);
+		}
+	}
+
+	@Test
+	public void create_ByClassName() throws Exception {
+		assertTrue(JsonCodecs.create(JacksonJsonCodec.class.getName()) instanceof JacksonJsonCodec);
+	}
+
+	/**
+	 * Gson 과 Jackson 의 변환 속도 비교.
+	 */
+	@Test
+	public void benchmark() throws Exception {
+		JsonCodec gsonCodec = JsonCodecs.gson();
+		Taxinvoice taxinvoice = taxinvoice();
+
+		StringBuilder list = new StringBuilder();
+		for (int i = 0; i < 100; i++) {
+			if (i > 0)
+				list.append(',');
+			list.append("{\"itemKey\":\"K" + i + "\",\"stateCode\":300,"
+					+ "\"invoicerCorpName\":\"공급자\",\"openYN\":true}");
+		}
+		byte[] searchResult = ("{\"code\":1,\"total\":100,\"list\":[" + list
+				+ "]}").getBytes("UTF-8");
+
+		JsonCodec[] codecs = { gsonCodec, jackson };
+		for (int round = 0; round < 5; round++) {
+			for (JsonCodec codec : codecs) {
+				long write = 0, read = 0;
+
+				for (int i = 0; i < 2000; i++) {
+					long start = System.nanoTime();
+					codec.write(taxinvoice, new ByteArrayOutputStream());
+					write += System.nanoTime() - start;
+
+					start = System.nanoTime();
+					codec.read(new ByteArrayInputStream(searchResult),
+							TISearchResult.class);
+					read += System.nanoTime() - start;
+				}
+
+				if (round == 4)
+					System.out.println(codec.getClass().getSimpleName()
+							+ " Taxinvoice write " + write / 2000
+							+ "ns, TISearchResult read " + read / 2000 + "ns");
+			}
+		}
+	}
+}
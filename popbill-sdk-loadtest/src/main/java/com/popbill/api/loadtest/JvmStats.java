@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 힙 사용량과 GC 통계.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class JvmStats {
+
+	/** 수집기별 GC 횟수와 시간. */
+	public static class Collector {
+		String name;
+		long count;
+		long timeMillis;
+	}
+
+	long heapUsedBytes;
+	long heapCommittedBytes;
+	long heapMaxBytes;
+	long heapPeakBytes;
+	long gcCount;
+	long gcTimeMillis;
+	List<Collector> collectors = new ArrayList<Collector>();
+
+	/**
+	 * 현재 통계. GC 횟수와 시간은 JVM 시작부터의 누적값입니다.
+	 * 
+	 * @return JvmStats
+	 */
+	public static JvmStats capture() {
+		JvmStats stats = new JvmStats();
+
+		MemoryUsage heap = ManagementFactory.getMemoryMXBean()
+				.getHeapMemoryUsage();
+		stats.heapUsedBytes = heap.getUsed();
+		stats.heapCommittedBytes = heap.getCommitted();
+		stats.heapMaxBytes = heap.getMax();
+
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP && pool.getPeakUsage() != null)
+				stats.heapPeakBytes += pool.getPeakUsage().getUsed();
+		}
+
+		for (GarbageCollectorMXBean gc : ManagementFactory
+				.getGarbageCollectorMXBeans()) {
+			Collector collector = new Collector();
+			collector.name = gc.getName();
+			collector.count = Math.max(gc.getCollectionCount(), 0);
+			collector.timeMillis = Math.max(gc.getCollectionTime(), 0);
+
+			stats.collectors.add(collector);
+			stats.gcCount += collector.count;
+			stats.gcTimeMillis += collector.timeMillis;
+		}
+		return stats;
+	}
+
+	/**
+	 * 힙 영역별 최대 사용량 초기화. 측정 시작시 호출합니다.
+	 */
+	public static void resetPeak() {
+		for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+			if (pool.getType() == MemoryType.HEAP)
+				pool.resetPeakUsage();
+		}
+	}
+
+	/**
+	 * 측정 구간의 통계. 힙 사용량은 현재값이며, GC 횟수와 시간은 start 이후의
+	 * 증가분입니다.
+	 * 
+	 * @param start
+	 *            stats at start of measurement.
+	 * @return JvmStats
+	 */
+	public JvmStats since(JvmStats start) {
+		JvmStats stats = new JvmStats();
+		stats.heapUsedBytes = heapUsedBytes;
+		stats.heapCommittedBytes = heapCommittedBytes;
+		stats.heapMaxBytes = heapMaxBytes;
+		stats.heapPeakBytes = heapPeakBytes;
+		stats.gcCount = gcCount - start.gcCount;
+		stats.gcTimeMillis = gcTimeMillis - start.gcTimeMillis;
+
+		for (Collector collector : collectors) {
+			Collector delta = new Collector();
+			delta.name = collector.name;
+			delta.count = collector.count;
+			delta.timeMillis = collector.timeMillis;
+
+			for (Collector before : start.collectors) {
+				if (before.name.equals(collector.name)) {
+					delta.count -= before.count;
+					delta.timeMillis -= before.timeMillis;
+				}
+			}
+			stats.collectors.add(delta);
+		}
+		return stats;
+	}
+
+	public long getHeapUsedBytes() {
+		return heapUsedBytes;
+	}
+
+	public long getHeapPeakBytes() {
+		return heapPeakBytes;
+	}
+
+	public long getGcCount() {
+		return gcCount;
+	}
+
+	public long getGcTimeMillis() {
+		return gcTimeMillis;
+	}
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.popbill.api.BaseServiceImp;
+import com.popbill.api.TokenRegistry;
+import com.popbill.api.fax.FaxServiceImp;
+import com.popbill.api.message.MessageServiceImp;
+import com.popbill.api.taxinvoice.TaxinvoiceServiceImp;
+
+/**
+ * 작업자 쓰레드들이 공유하는 서비스 객체와 입력 데이터.
+ * 
+ * 애플리케이션과 같이 서비스마다 하나의 객체를 모든 쓰레드가 공유합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class LoadContext {
+
+	public static final String LINK_ID = "TESTER";
+	public static final String SECRET_KEY = "SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=";
+
+	private final TaxinvoiceServiceImp taxinvoiceService;
+	private final MessageServiceImp messageService;
+	private final FaxServiceImp faxService;
+
+	private final String[] corpNums;
+	private final File faxFile;
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * @param serviceURL
+	 *            base URL of mock server for both Popbill API and Linkhub
+	 *            auth.
+	 * @param members
+	 *            count of member CorpNums to spread requests over.
+	 * @param faxFileSize
+	 *            size of attached file of sendFAX in bytes.
+	 * @throws IOException
+	 */
+	public LoadContext(String serviceURL, int members, int faxFileSize)
+			throws IOException {
+		TokenRegistry tokenRegistry = new TokenRegistry();
+
+		this.taxinvoiceService = configure(new TaxinvoiceServiceImp(),
+				serviceURL, tokenRegistry);
+		this.messageService = configure(new MessageServiceImp(), serviceURL,
+				tokenRegistry);
+		this.faxService = configure(new FaxServiceImp(), serviceURL,
+				tokenRegistry);
+
+		this.corpNums = new String[members];
+		for (int i = 0; i < members; i++)
+			corpNums[i] = Long.toString(1000000000L + i);
+
+		this.faxFile = File.createTempFile("popbill-loadtest", ".pdf");
+		faxFile.deleteOnExit();
+
+		byte[] data = new byte[faxFileSize];
+		new Random(faxFileSize).nextBytes(data);
+
+		FileOutputStream output = new FileOutputStream(faxFile);
+		try {
+			output.write(data);
+		} finally {
+			output.close();
+		}
+	}
+
+	private static <T extends BaseServiceImp> T configure(T service,
+			String serviceURL, TokenRegistry tokenRegistry) {
+		service.setLinkID(LINK_ID);
+		service.setSecretKey(SECRET_KEY);
+		service.setTest(true);
+		service.setServiceURL(serviceURL);
+		service.setAuthURL(serviceURL);
+		service.setTokenRegistry(tokenRegistry);
+		return service;
+	}
+
+	public TaxinvoiceServiceImp getTaxinvoiceService() {
+		return taxinvoiceService;
+	}
+
+	public MessageServiceImp getMessageService() {
+		return messageService;
+	}
+
+	public FaxServiceImp getFaxService() {
+		return faxService;
+	}
+
+	public File getFaxFile() {
+		return faxFile;
+	}
+
+	/**
+	 * @param random
+	 * @return CorpNum of random member.
+	 */
+	public String corpNum(Random random) {
+		return corpNums[random.nextInt(corpNums.length)];
+	}
+
+	/**
+	 * @return unique management key. (ex. LT-00000000001)
+	 */
+	public String nextMgtKey() {
+		return String.format("LT-%011d", sequence.incrementAndGet());
+	}
+
+	/**
+	 * 임시파일 삭제.
+	 */
+	public void close() {
+		faxFile.delete();
+	}
+}
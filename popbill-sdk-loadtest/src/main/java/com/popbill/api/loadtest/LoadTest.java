@@ -0,0 +1,283 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import com.popbill.api.mock.MockPopbillServer;
+import com.popbill.api.transport.Histogram;
+
+/**
+ * 부하시험 실행.
+ * 
+ * 같은 JVM 또는 별도로 실행한 MockPopbillServer 에 작업 비율에 따른 요청을 지정한
+ * 쓰레드 수와 처리율로 보내고, 처리량, 응답시간 백분위, 오류 수, 힙 사용량과 GC
+ * 통계를 출력합니다. --output 을 지정하면 결과를 JSON 으로 기록하여 SDK 버전간
+ * 결과를 비교할 수 있습니다.
+ * 
+ * <pre>
+ * java -jar loadtest.jar --threads=16 --duration=300 --output=1.3.4.json
+ * 
+ * # Mock 서버의 처리가 측정에 포함되지 않도록 별도의 JVM 에서 실행
+ * java -cp loadtest.jar com.popbill.api.loadtest.LoadTest --serve=8080
+ * java -jar loadtest.jar --server=http://127.0.0.1:8080 --threads=64
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class LoadTest {
+
+	private LoadTest() {
+	}
+
+	public static void main(String[] args) throws Exception {
+		LoadTestConfig config;
+		try {
+			config = LoadTestConfig.parse(args);
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println();
+			System.err.print(LoadTestConfig.usage());
+			System.exit(2);
+			return;
+		}
+
+		if (config.help) {
+			System.out.print(LoadTestConfig.usage());
+			return;
+		}
+
+		if (config.servePort >= 0) {
+			MockPopbillServer server = startServer(config, config.servePort);
+			System.out.println("Mock 서버 실행중 : " + server.getURL());
+			Thread.currentThread().join();
+			return;
+		}
+
+		LoadTestResult result = run(config);
+		print(result);
+
+		if (config.output != null) {
+			Writer writer = new OutputStreamWriter(new FileOutputStream(
+					config.output), "UTF-8");
+			try {
+				writer.write(result.toJson());
+			} finally {
+				writer.close();
+			}
+			System.out.println("결과 : " + new File(config.output).getAbsolutePath());
+		}
+	}
+
+	private static MockPopbillServer startServer(LoadTestConfig config,
+			int port) throws IOException {
+		MockPopbillServer server = new MockPopbillServer();
+		server.setRecording(false);
+		server.setLatency(config.serverLatencyMillis, config.serverJitterMillis);
+		server.setErrorRate(config.serverErrorRate, 503);
+		return server.start(port);
+	}
+
+	/**
+	 * 부하시험 실행.
+	 * 
+	 * @param config
+	 * @return LoadTestResult
+	 * @throws IOException
+	 * @throws InterruptedException
+	 */
+	public static LoadTestResult run(LoadTestConfig config)
+			throws IOException, InterruptedException {
+		WorkloadMix mix = WorkloadMix.parse(config.mix);
+
+		MockPopbillServer server = null;
+		String serverURL = config.serverURL;
+		if (serverURL == null) {
+			server = startServer(config, 0);
+			serverURL = server.getURL();
+		}
+
+		LoadContext context = new LoadContext(serverURL, config.members,
+				config.faxFileSize);
+
+		Worker[] workers = new Worker[config.threads];
+		Thread[] threads = new Thread[config.threads];
+		for (int i = 0; i < workers.length; i++) {
+			workers[i] = new Worker(context, mix, config.rate / config.threads,
+					i + 1);
+			threads[i] = new Thread(workers[i], "loadtest-" + (i + 1));
+			threads[i].start();
+		}
+
+		LoadTestResult result = new LoadTestResult();
+		result.config = config;
+
+		try {
+			System.out.println("준비 " + config.warmupSeconds + "초, 측정 "
+					+ config.durationSeconds + "초, 쓰레드 " + config.threads
+					+ ", 작업 " + mix);
+
+			Thread.sleep(TimeUnit.SECONDS.toMillis(config.warmupSeconds));
+
+			for (Worker worker : workers)
+				worker.reset();
+			JvmStats.resetPeak();
+			JvmStats startStats = JvmStats.capture();
+
+			result.startTime = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ")
+					.format(new Date());
+			long start = System.nanoTime();
+			long end = start + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+			report(workers, config, start, end);
+
+			for (Worker worker : workers)
+				worker.stop();
+			for (Thread thread : threads)
+				thread.join();
+
+			result.durationSeconds = (System.nanoTime() - start) / 1e9;
+			result.jvm = JvmStats.capture().since(startStats);
+		} finally {
+			for (Worker worker : workers)
+				worker.stop();
+
+			context.close();
+			if (server != null)
+				server.stop();
+		}
+
+		summarize(result, workers, mix);
+		return result;
+	}
+
+	private static void report(Worker[] workers, LoadTestConfig config,
+			long start, long end) throws InterruptedException {
+		long intervalNanos = TimeUnit.SECONDS
+				.toNanos(config.reportIntervalSeconds);
+		Histogram interval = new Histogram(Worker.MAX_LATENCY_MICROS);
+		long last = start;
+
+		while (true) {
+			long now = System.nanoTime();
+			if (now >= end)
+				break;
+
+			long wake = intervalNanos > 0 ? Math.min(end, last + intervalNanos)
+					: end;
+			TimeUnit.NANOSECONDS.sleep(wake - now);
+
+			if (intervalNanos <= 0)
+				continue;
+
+			now = System.nanoTime();
+			interval.reset();
+			long errors = 0;
+			for (Worker worker : workers)
+				errors += worker.drainInterval(interval);
+
+			double seconds = (now - last) / 1e9;
+			last = now;
+
+			JvmStats stats = JvmStats.capture();
+			System.out.println(String.format(
+					"%6.0fs %10.1f ops/s  p50 %8.2fms  p99 %8.2fms  errors %d  heap %dMB",
+					(now - start) / 1e9, (interval.getCount() + errors)
+							/ seconds, interval.getValueAtPercentile(50) / 1000.0,
+					interval.getValueAtPercentile(99) / 1000.0, errors,
+					stats.getHeapUsedBytes() / (1024 * 1024)));
+		}
+	}
+
+	private static void summarize(LoadTestResult result, Worker[] workers,
+			WorkloadMix mix) {
+		Operation[] operations = Operation.values();
+		Histogram[] histograms = new Histogram[operations.length];
+		long[] errors = new long[operations.length];
+		Map<String, Long> errorCodes = new HashMap<String, Long>();
+
+		for (int i = 0; i < histograms.length; i++)
+			histograms[i] = new Histogram(Worker.MAX_LATENCY_MICROS);
+		for (Worker worker : workers)
+			worker.collect(histograms, errors, errorCodes);
+
+		Histogram total = new Histogram(Worker.MAX_LATENCY_MICROS);
+		long totalErrors = 0;
+
+		for (Operation operation : mix.getOperations()) {
+			int i = operation.ordinal();
+			total.add(histograms[i]);
+			totalErrors += errors[i];
+
+			result.operations.add(new LoadTestResult.OperationResult(
+					operation.getName(), mix.getPercent(operation),
+					histograms[i], errors[i], result.durationSeconds));
+		}
+
+		result.total = new LoadTestResult.OperationResult("total", 100, total,
+				totalErrors, result.durationSeconds);
+		result.errorCodes.putAll(new TreeMap<String, Long>(errorCodes));
+	}
+
+	private static void print(LoadTestResult result) {
+		System.out.println();
+		System.out.println(String.format("SDK %s, Java %s (%s), CPU %d",
+				result.sdkVersion, result.javaVersion, result.javaVM,
+				result.availableProcessors));
+		System.out.println(String.format("%-12s %6s %9s %7s %10s %9s %9s %9s %9s %9s",
+				"operation", "mix%", "count", "errors", "ops/s", "mean", "p50",
+				"p99", "p99.9", "max"));
+
+		List<LoadTestResult.OperationResult> rows = result.operations;
+		for (LoadTestResult.OperationResult row : rows)
+			print(row);
+		print(result.total);
+
+		for (Map.Entry<String, Long> entry : result.errorCodes.entrySet())
+			System.out.println("error " + entry.getKey() + " : "
+					+ entry.getValue());
+
+		JvmStats jvm = result.jvm;
+		System.out.println(String.format(
+				"heap used %dMB, peak %dMB, max %dMB, GC %d times %dms",
+				jvm.heapUsedBytes / (1024 * 1024), jvm.heapPeakBytes
+						/ (1024 * 1024), jvm.heapMaxBytes / (1024 * 1024),
+				jvm.gcCount, jvm.gcTimeMillis));
+		for (JvmStats.Collector collector : jvm.collectors)
+			System.out.println(String.format("  %-24s %6d times %8dms",
+					collector.name, collector.count, collector.timeMillis));
+	}
+
+	private static void print(LoadTestResult.OperationResult row) {
+		System.out.println(String.format(
+				"%-12s %6.1f %9d %7d %10.1f %8.2fms %7.2fms %7.2fms %7.2fms %7.2fms",
+				row.name, row.mixPercent, row.count, row.errors,
+				row.throughput, row.meanMicros / 1000.0, row.p50Micros / 1000.0,
+				row.p99Micros / 1000.0, row.p999Micros / 1000.0,
+				row.maxMicros / 1000.0));
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+/**
+ * 부하시험 설정.
+ * 
+ * 명령행에서 --name=value 형식으로 지정합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class LoadTestConfig {
+
+	int threads = 8;
+	double rate;
+	int durationSeconds = 60;
+	int warmupSeconds = 10;
+	String mix = WorkloadMix.DEFAULT;
+	int members = 10;
+	int faxFileSize = 32 * 1024;
+	int reportIntervalSeconds = 10;
+
+	String serverURL;
+	long serverLatencyMillis;
+	long serverJitterMillis;
+	double serverErrorRate;
+
+	transient String output;
+	transient int servePort = -1;
+	transient boolean help;
+
+	/**
+	 * 명령행 해석.
+	 * 
+	 * @param args
+	 * @return LoadTestConfig
+	 */
+	public static LoadTestConfig parse(String[] args) {
+		LoadTestConfig config = new LoadTestConfig();
+
+		for (String arg : args) {
+			if (arg.equals("-h") || arg.equals("--help")) {
+				config.help = true;
+				continue;
+			}
+
+			int equals = arg.indexOf('=');
+			if (arg.startsWith("--") == false || equals < 0)
+				throw new IllegalArgumentException("옵션 형식이 올바르지 않습니다. : "
+						+ arg);
+
+			String name = arg.substring(2, equals);
+			String value = arg.substring(equals + 1);
+
+			if (name.equals("threads"))
+				config.threads = Integer.parseInt(value);
+			else if (name.equals("rate"))
+				config.rate = Double.parseDouble(value);
+			else if (name.equals("duration"))
+				config.durationSeconds = Integer.parseInt(value);
+			else if (name.equals("warmup"))
+				config.warmupSeconds = Integer.parseInt(value);
+			else if (name.equals("mix"))
+				config.mix = value;
+			else if (name.equals("members"))
+				config.members = Integer.parseInt(value);
+			else if (name.equals("fax-file-size"))
+				config.faxFileSize = Integer.parseInt(value);
+			else if (name.equals("report-interval"))
+				config.reportIntervalSeconds = Integer.parseInt(value);
+			else if (name.equals("server"))
+				config.serverURL = value;
+			else if (name.equals("server-latency"))
+				config.serverLatencyMillis = Long.parseLong(value);
+			else if (name.equals("server-jitter"))
+				config.serverJitterMillis = Long.parseLong(value);
+			else if (name.equals("server-error-rate"))
+				config.serverErrorRate = Double.parseDouble(value);
+			else if (name.equals("output"))
+				config.output = value;
+			else if (name.equals("serve"))
+				config.servePort = Integer.parseInt(value);
+			else
+				throw new IllegalArgumentException("알 수 없는 옵션입니다. : " + arg);
+		}
+
+		if (config.threads < 1)
+			throw new IllegalArgumentException("threads must be positive.");
+		if (config.members < 1)
+			throw new IllegalArgumentException("members must be positive.");
+		if (config.durationSeconds < 1)
+			throw new IllegalArgumentException("duration must be positive.");
+
+		// 작업 비율 확인.
+		WorkloadMix.parse(config.mix);
+
+		return config;
+	}
+
+	/**
+	 * @return usage of command line.
+	 */
+	public static String usage() {
+		return "java -jar loadtest.jar [options]\n"
+				+ "\n"
+				+ "  --threads=8              작업자 쓰레드 수\n"
+				+ "  --rate=0                 초당 전체 요청 수. 0 은 제한 없음\n"
+				+ "  --duration=60            측정 시간(초)\n"
+				+ "  --warmup=10              준비 시간(초). 기록하지 않습니다\n"
+				+ "  --mix=" + WorkloadMix.DEFAULT + "\n"
+				+ "                           작업 비율\n"
+				+ "  --members=10             요청을 나눌 회원 사업자번호 수\n"
+				+ "  --fax-file-size=32768    sendFAX 첨부파일 크기(bytes)\n"
+				+ "  --report-interval=10     중간 보고 간격(초). 0 은 보고하지 않음\n"
+				+ "  --server=URL             별도로 실행한 Mock 서버. 지정하지 않으면 같은 JVM 에서 실행\n"
+				+ "  --server-latency=0       Mock 서버 응답 지연(ms)\n"
+				+ "  --server-jitter=0        Mock 서버 응답 지연 편차(ms)\n"
+				+ "  --server-error-rate=0    Mock 서버 오류 비율(0.0 ~ 1.0)\n"
+				+ "  --output=result.json     결과 JSON 파일\n"
+				+ "  --serve=PORT             Mock 서버만 실행\n";
+	}
+}
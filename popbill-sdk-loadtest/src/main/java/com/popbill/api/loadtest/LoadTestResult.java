@@ -0,0 +1,117 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.popbill.api.BaseServiceImp;
+import com.popbill.api.transport.Histogram;
+
+/**
+ * 부하시험 결과. 버전간 비교를 위해 JSON 으로 기록합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class LoadTestResult {
+
+	/** 작업별 결과. 응답시간은 microseconds 입니다. */
+	public static class OperationResult {
+		String name;
+		double mixPercent;
+		long count;
+		long errors;
+		double throughput;
+		double meanMicros;
+		long minMicros;
+		long p50Micros;
+		long p90Micros;
+		long p99Micros;
+		long p999Micros;
+		long maxMicros;
+
+		OperationResult(String name, double mixPercent,
+				Histogram histogram, long errors, double seconds) {
+			this.name = name;
+			this.mixPercent = mixPercent;
+			this.count = histogram.getCount();
+			this.errors = errors;
+			this.throughput = (count + errors) / seconds;
+			this.meanMicros = histogram.getMean();
+			this.minMicros = histogram.getMin();
+			this.p50Micros = histogram.getValueAtPercentile(50);
+			this.p90Micros = histogram.getValueAtPercentile(90);
+			this.p99Micros = histogram.getValueAtPercentile(99);
+			this.p999Micros = histogram.getValueAtPercentile(99.9);
+			this.maxMicros = histogram.getMax();
+		}
+	}
+
+	String sdkVersion = sdkVersion();
+	String javaVersion = System.getProperty("java.version");
+	String javaVM = System.getProperty("java.vm.name");
+	int availableProcessors = Runtime.getRuntime().availableProcessors();
+	String startTime;
+	double durationSeconds;
+
+	LoadTestConfig config;
+	OperationResult total;
+	List<OperationResult> operations = new ArrayList<OperationResult>();
+	Map<String, Long> errorCodes = new LinkedHashMap<String, Long>();
+	JvmStats jvm;
+
+	/**
+	 * @return pretty-printed JSON.
+	 */
+	public String toJson() {
+		Gson gson = new GsonBuilder().setPrettyPrinting()
+				.serializeSpecialFloatingPointValues().create();
+		return gson.toJson(this);
+	}
+
+	/**
+	 * 사용중인 SDK 버전. Maven 으로 빌드한 jar 의 pom.properties 에서 확인합니다.
+	 * 
+	 * @return version of popbill-sdk, or "unknown".
+	 */
+	static String sdkVersion() {
+		InputStream input = BaseServiceImp.class
+				.getResourceAsStream("/META-INF/maven/kr.co.linkhub/popbill-sdk/pom.properties");
+		if (input == null)
+			return "unknown";
+
+		try {
+			Properties properties = new Properties();
+			properties.load(input);
+			return properties.getProperty("version", "unknown");
+		} catch (IOException e) {
+			return "unknown";
+		} finally {
+			try {
+				input.close();
+			} catch (IOException e) {
+				// ignore.
+			}
+		}
+	}
+}
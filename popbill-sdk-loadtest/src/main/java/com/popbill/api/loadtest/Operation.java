@@ -0,0 +1,160 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.taxinvoice.MgtKeyType;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceDetail;
+
+/**
+ * 부하시험 작업.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public enum Operation {
+
+	/** 세금계산서 상태 확인. TaxinvoiceService.getInfo() */
+	GET_INFO("getInfo") {
+		@Override
+		public void execute(LoadContext context, Random random)
+				throws PopbillException {
+			context.getTaxinvoiceService().getInfo(context.corpNum(random),
+					MgtKeyType.SELL, context.nextMgtKey());
+		}
+	},
+
+	/** 세금계산서 즉시발행. 품목 5건. TaxinvoiceService.registIssue() */
+	REGIST_ISSUE("registIssue") {
+		@Override
+		public void execute(LoadContext context, Random random)
+				throws PopbillException {
+			String CorpNum = context.corpNum(random);
+			context.getTaxinvoiceService().registIssue(CorpNum,
+					taxinvoice(CorpNum, context.nextMgtKey()), false);
+		}
+	},
+
+	/** 단문 문자 전송. MessageService.sendSMS() */
+	SEND_SMS("sendSMS") {
+		@Override
+		public void execute(LoadContext context, Random random)
+				throws PopbillException {
+			context.getMessageService().sendSMS(context.corpNum(random),
+					"07043042991", "01011112222", "수신자명",
+					"부하시험 문자 메시지 내용입니다.", null, null);
+		}
+	},
+
+	/** 팩스 전송. FaxService.sendFAX() */
+	SEND_FAX("sendFAX") {
+		@Override
+		public void execute(LoadContext context, Random random)
+				throws PopbillException {
+			context.getFaxService().sendFAX(context.corpNum(random),
+					"07043042991", "070111222", "수신자명",
+					context.getFaxFile(), null, null);
+		}
+	};
+
+	private final String name;
+
+	private Operation(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * @return name of operation. (ex. getInfo)
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 작업 실행.
+	 * 
+	 * @param context
+	 * @param random
+	 *            random of worker thread.
+	 * @throws PopbillException
+	 */
+	public abstract void execute(LoadContext context, Random random)
+			throws PopbillException;
+
+	/**
+	 * @param name
+	 *            name of operation. (ex. getInfo)
+	 * @return Operation
+	 */
+	public static Operation forName(String name) {
+		for (Operation operation : values()) {
+			if (operation.name.equalsIgnoreCase(name))
+				return operation;
+		}
+		throw new IllegalArgumentException("알 수 없는 작업입니다. : " + name);
+	}
+
+	static Taxinvoice taxinvoice(String CorpNum, String MgtKey) {
+		Taxinvoice taxinvoice = new Taxinvoice();
+		taxinvoice.setWriteDate("20261017");
+		taxinvoice.setChargeDirection("정과금");
+		taxinvoice.setIssueType("정발행");
+		taxinvoice.setPurposeType("영수");
+		taxinvoice.setIssueTiming("직접발행");
+		taxinvoice.setTaxType("과세");
+
+		taxinvoice.setInvoicerCorpNum(CorpNum);
+		taxinvoice.setInvoicerMgtKey(MgtKey);
+		taxinvoice.setInvoicerCorpName("공급자 상호");
+		taxinvoice.setInvoicerCEOName("공급자 대표자 성명");
+		taxinvoice.setInvoicerAddr("공급자 주소");
+		taxinvoice.setInvoicerBizClass("공급자 종목");
+		taxinvoice.setInvoicerBizType("공급자 업태");
+		taxinvoice.setInvoicerEmail("invoicer@test.com");
+
+		taxinvoice.setInvoiceeType("사업자");
+		taxinvoice.setInvoiceeCorpNum("8888888888");
+		taxinvoice.setInvoiceeCorpName("공급받는자 상호");
+		taxinvoice.setInvoiceeCEOName("공급받는자 대표자 성명");
+		taxinvoice.setInvoiceeAddr("공급받는자 주소");
+		taxinvoice.setInvoiceeEmail1("invoicee@test.com");
+
+		taxinvoice.setSupplyCostTotal("500000");
+		taxinvoice.setTaxTotal("50000");
+		taxinvoice.setTotalAmount("550000");
+
+		List<TaxinvoiceDetail> details = new ArrayList<TaxinvoiceDetail>();
+		for (short i = 1; i <= 5; i++) {
+			TaxinvoiceDetail detail = new TaxinvoiceDetail();
+			detail.setSerialNum(i);
+			detail.setPurchaseDT("20261017");
+			detail.setItemName("품목명 " + i);
+			detail.setSpec("규격");
+			detail.setQty("1");
+			detail.setUnitCost("100000");
+			detail.setSupplyCost("100000");
+			detail.setTax("10000");
+			details.add(detail);
+		}
+		taxinvoice.setDetailList(details);
+
+		return taxinvoice;
+	}
+}
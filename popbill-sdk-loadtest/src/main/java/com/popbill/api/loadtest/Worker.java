@@ -0,0 +1,197 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.transport.Histogram;
+
+/**
+ * 작업자 쓰레드.
+ * 
+ * 작업 비율에 따라 작업을 반복하며 작업별 응답시간과 오류를 기록합니다. 처리율을
+ * 지정한 경우 정해진 시각마다 요청을 시작하며, 응답시간은 예정된 시작 시각부터
+ * 측정하므로 응답이 지연되어 밀린 요청의 대기시간도 포함됩니다. 오류 응답의
+ * 응답시간은 분포에 포함하지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class Worker implements Runnable {
+
+	/** 구분하여 기록할 최대 응답시간. 1시간. (us) */
+	public static final long MAX_LATENCY_MICROS = 60L * 60 * 1000 * 1000;
+
+	private final LoadContext context;
+	private final WorkloadMix mix;
+	private final long intervalNanos;
+	private final Random random;
+
+	private final Operation[] operations = Operation.values();
+	private final Histogram[] histograms = new Histogram[operations.length];
+	private final long[] errors = new long[operations.length];
+	private final Map<String, Long> errorCodes = new HashMap<String, Long>();
+	private final Histogram interval = new Histogram(MAX_LATENCY_MICROS);
+	private long intervalErrors;
+
+	private volatile boolean running = true;
+	private volatile boolean rebase;
+
+	/**
+	 * @param context
+	 * @param mix
+	 * @param ratePerSecond
+	 *            requests per second of this worker. 0 for unlimited.
+	 * @param seed
+	 *            seed of random.
+	 */
+	public Worker(LoadContext context, WorkloadMix mix, double ratePerSecond,
+			long seed) {
+		this.context = context;
+		this.mix = mix;
+		this.intervalNanos = ratePerSecond > 0 ? (long) (TimeUnit.SECONDS
+				.toNanos(1) / ratePerSecond) : 0;
+		this.random = new Random(seed);
+
+		for (int i = 0; i < histograms.length; i++)
+			histograms[i] = new Histogram(MAX_LATENCY_MICROS);
+	}
+
+	@Override
+	public void run() {
+		// 작업자들의 요청 시작 시각이 겹치지 않도록 분산.
+		long next = System.nanoTime()
+				+ (intervalNanos > 0 ? (long) (random.nextDouble() * intervalNanos)
+						: 0);
+
+		while (running) {
+			long start;
+
+			if (intervalNanos > 0) {
+				// 준비 단계에서 밀린 요청을 측정 구간으로 넘기지 않습니다.
+				if (rebase) {
+					rebase = false;
+					next = Math.max(next, System.nanoTime());
+				}
+
+				long wait;
+				while ((wait = next - System.nanoTime()) > 0 && running)
+					LockSupport.parkNanos(wait);
+
+				start = next;
+				next += intervalNanos;
+			} else {
+				start = System.nanoTime();
+			}
+
+			if (running == false)
+				break;
+
+			Operation operation = mix.next(random);
+			String errorCode = null;
+
+			try {
+				operation.execute(context, random);
+			} catch (PopbillException e) {
+				errorCode = Long.toString(e.getCode());
+			} catch (RuntimeException e) {
+				errorCode = e.getClass().getSimpleName();
+			}
+
+			long latency = TimeUnit.NANOSECONDS.toMicros(System.nanoTime()
+					- start);
+
+			synchronized (this) {
+				if (errorCode == null) {
+					histograms[operation.ordinal()].record(latency);
+					interval.record(latency);
+				} else {
+					errors[operation.ordinal()]++;
+					intervalErrors++;
+
+					Long count = errorCodes.get(operation.getName() + " "
+							+ errorCode);
+					errorCodes.put(operation.getName() + " " + errorCode,
+							count == null ? 1 : count + 1);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 종료 요청. 진행중인 작업은 완료됩니다.
+	 */
+	public void stop() {
+		running = false;
+	}
+
+	/**
+	 * 기록 초기화. 준비 단계가 끝난 후 호출합니다.
+	 */
+	public synchronized void reset() {
+		for (int i = 0; i < histograms.length; i++) {
+			histograms[i].reset();
+			errors[i] = 0;
+		}
+		errorCodes.clear();
+		interval.reset();
+		intervalErrors = 0;
+		rebase = true;
+	}
+
+	/**
+	 * 작업별 기록을 합침.
+	 * 
+	 * @param target
+	 *            histograms indexed by Operation.ordinal().
+	 * @param targetErrors
+	 *            error counts indexed by Operation.ordinal().
+	 * @param targetErrorCodes
+	 *            counts of "operation code".
+	 */
+	public synchronized void collect(Histogram[] target,
+			long[] targetErrors, Map<String, Long> targetErrorCodes) {
+		for (int i = 0; i < histograms.length; i++) {
+			target[i].add(histograms[i]);
+			targetErrors[i] += errors[i];
+		}
+
+		for (Map.Entry<String, Long> entry : errorCodes.entrySet()) {
+			Long count = targetErrorCodes.get(entry.getKey());
+			targetErrorCodes.put(entry.getKey(), count == null ? entry
+					.getValue() : count + entry.getValue());
+		}
+	}
+
+	/**
+	 * 중간 보고 구간의 기록을 합치고 초기화.
+	 * 
+	 * @param target
+	 * @return count of errors in interval.
+	 */
+	public synchronized long drainInterval(Histogram target) {
+		target.add(interval);
+		interval.reset();
+
+		long count = intervalErrors;
+		intervalErrors = 0;
+		return count;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 작업 비율.
+ * 
+ * "getInfo:60,registIssue:20,sendSMS:15,sendFAX:5" 형식으로 지정하며, 비율의 합이
+ * 100 일 필요는 없습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class WorkloadMix {
+
+	/** 기본 작업 비율. */
+	public static final String DEFAULT = "getInfo:60,registIssue:20,sendSMS:15,sendFAX:5";
+
+	private final List<Operation> operations = new ArrayList<Operation>();
+	private final List<Integer> weights = new ArrayList<Integer>();
+	private int[] cumulative = new int[0];
+	private int totalWeight;
+
+	/**
+	 * 작업 비율 해석.
+	 * 
+	 * @param mix
+	 *            comma separated name:weight pairs.
+	 * @return WorkloadMix
+	 */
+	public static WorkloadMix parse(String mix) {
+		WorkloadMix workloadMix = new WorkloadMix();
+
+		for (String entry : mix.split(",")) {
+			entry = entry.trim();
+			if (entry.isEmpty())
+				continue;
+
+			int colon = entry.indexOf(':');
+			if (colon < 0)
+				throw new IllegalArgumentException("작업 비율 형식이 올바르지 않습니다. : "
+						+ entry);
+
+			workloadMix.add(Operation.forName(entry.substring(0, colon).trim()),
+					Integer.parseInt(entry.substring(colon + 1).trim()));
+		}
+
+		if (workloadMix.totalWeight == 0)
+			throw new IllegalArgumentException("작업 비율이 지정되지 않았습니다. : " + mix);
+
+		return workloadMix;
+	}
+
+	/**
+	 * 작업 추가.
+	 * 
+	 * @param operation
+	 * @param weight
+	 *            relative weight. 0 to skip.
+	 * @return this
+	 */
+	public WorkloadMix add(Operation operation, int weight) {
+		if (weight < 0)
+			throw new IllegalArgumentException("weight must not be negative.");
+		if (operations.contains(operation))
+			throw new IllegalArgumentException("중복된 작업입니다. : "
+					+ operation.getName());
+		if (weight == 0)
+			return this;
+
+		operations.add(operation);
+		weights.add(weight);
+		totalWeight += weight;
+
+		cumulative = new int[weights.size()];
+		int sum = 0;
+		for (int i = 0; i < cumulative.length; i++) {
+			sum += weights.get(i);
+			cumulative[i] = sum;
+		}
+		return this;
+	}
+
+	/**
+	 * 비율에 따라 작업 선택.
+	 * 
+	 * @param random
+	 * @return Operation
+	 */
+	public Operation next(Random random) {
+		int value = random.nextInt(totalWeight);
+		for (int i = 0; i < cumulative.length; i++) {
+			if (value < cumulative[i])
+				return operations.get(i);
+		}
+		return operations.get(operations.size() - 1);
+	}
+
+	public List<Operation> getOperations() {
+		return Collections.unmodifiableList(operations);
+	}
+
+	/**
+	 * @param operation
+	 * @return percent of operation in mix.
+	 */
+	public double getPercent(Operation operation) {
+		int index = operations.indexOf(operation);
+		return index < 0 ? 0 : 100.0 * weights.get(index) / totalWeight;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < operations.size(); i++) {
+			if (i > 0)
+				builder.append(',');
+			builder.append(operations.get(i).getName()).append(':')
+					.append(weights.get(i));
+		}
+		return builder.toString();
+	}
+}
@@ -0,0 +1,797 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.mock;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.popbill.api.BaseServiceImp;
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 시험용 팝빌 API 서버.
+ *
+ * 링크허브 인증(토큰 발급, 서버 시간, 잔여포인트)과 각 서비스가 사용하는 팝빌 API
+ * 경로를 같은 포트에서 흉내냅니다. 경로별로 미리 정한 응답을 반환하며, stub() 으로
+ * 등록한 응답이 우선합니다. 응답 지연, 오류와 요청 제한(429)을 주입할 수 있고,
+ * 압축된 요청을 해제하고 응답을 gzip 으로 압축합니다.
+ *
+ * <pre>
+ * MockPopbillServer server = new MockPopbillServer().start();
+ * server.configure(service); // setServiceURL(), setAuthURL()
+ * ...
+ * server.stop();
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class MockPopbillServer {
+
+	/** 응답 생성. */
+	public interface Responder {
+		MockResponse respond(RecordedRequest request) throws IOException;
+	}
+
+	/** 수신한 요청. 압축된 본문은 해제되어 기록됩니다. */
+	public static class RecordedRequest {
+		private final String method;
+		private final String path;
+		private final String query;
+		private final Map<String, String> headers;
+		private final byte[] body;
+		private Matcher matcher;
+
+		RecordedRequest(String method, String path, String query,
+				Map<String, String> headers, byte[] body) {
+			this.method = method;
+			this.path = path;
+			this.query = query;
+			this.headers = headers;
+			this.body = body;
+		}
+
+		public String getMethod() {
+			return method;
+		}
+
+		public String getPath() {
+			return path;
+		}
+
+		/** @return query string without '?'. null if none. */
+		public String getQuery() {
+			return query;
+		}
+
+		/** @return path and query. (ex. /Taxinvoice?cfg=UNITCOST) */
+		public String getTarget() {
+			return query == null ? path : path + "?" + query;
+		}
+
+		/** @return value of header. name is case-insensitive. */
+		public String getHeader(String name) {
+			return headers.get(name.toLowerCase());
+		}
+
+		/** @return X-HTTP-Method-Override of request. null if none. */
+		public String getAction() {
+			return getHeader("X-HTTP-Method-Override");
+		}
+
+		public byte[] getBody() {
+			return body;
+		}
+
+		public String getBodyString() {
+			try {
+				return new String(body, "UTF-8");
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		/** @return group of matched route pattern. */
+		public String group(int group) {
+			return matcher == null ? null : matcher.group(group);
+		}
+
+		@Override
+		public String toString() {
+			return method + " " + getTarget();
+		}
+	}
+
+	/** 응답. */
+	public static class MockResponse {
+		private final int statusCode;
+		private final String contentType;
+		private final byte[] body;
+		private final Map<String, String> headers = new LinkedHashMap<String, String>();
+
+		public MockResponse(int statusCode, String contentType, byte[] body) {
+			this.statusCode = statusCode;
+			this.contentType = contentType;
+			this.body = body;
+		}
+
+		public static MockResponse json(int statusCode, String json) {
+			try {
+				return new MockResponse(statusCode,
+						"application/json; charset=utf-8",
+						json.getBytes("UTF-8"));
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+
+		public static MockResponse json(String json) {
+			return json(200, json);
+		}
+
+		/** @return Popbill error response. */
+		public static MockResponse error(int statusCode, long code,
+				String message) {
+			JsonObject error = new JsonObject();
+			error.addProperty("code", code);
+			error.addProperty("message", message);
+			return json(statusCode, error.toString());
+		}
+
+		public MockResponse header(String name, String value) {
+			headers.put(name, value);
+			return this;
+		}
+
+		public int getStatusCode() {
+			return statusCode;
+		}
+	}
+
+	private static final class Route {
+		final String method;
+		final Pattern pattern;
+		final Responder responder;
+
+		Route(String method, String regex, Responder responder) {
+			this.method = method;
+			this.pattern = Pattern.compile(regex);
+			this.responder = responder;
+		}
+	}
+
+	private static final String SEARCH_RESULT = "{\"code\":1,\"total\":0,\"perPage\":500,"
+			+ "\"pageNum\":1,\"pageCount\":0,\"message\":\"OK\",\"list\":[]}";
+
+	private final List<Route> stubs = new CopyOnWriteArrayList<Route>();
+	private final List<Route> routes = new ArrayList<Route>();
+	private final List<RecordedRequest> requests = Collections
+			.synchronizedList(new ArrayList<RecordedRequest>());
+
+	/** 접수번호, 작업아이디 등 18자리 번호. */
+	private final AtomicLong sequence = new AtomicLong(100000000000000000L);
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong tokenCount = new AtomicLong();
+	private final AtomicLong injectedErrorCount = new AtomicLong();
+	private final AtomicLong throttledCount = new AtomicLong();
+	private final Random random = new Random();
+
+	private HttpServer server;
+	private ExecutorService executor;
+
+	private volatile long latencyMillis;
+	private volatile long latencyJitterMillis;
+	private volatile double errorRate;
+	private volatile int errorStatus = 503;
+	private volatile int permitsPerSecond;
+	private volatile boolean gzipResponses = true;
+	private volatile boolean rejectGzipRequests;
+	private volatile boolean recording = true;
+	private volatile long tokenTTL = TimeUnit.HOURS.toMillis(1);
+
+	private long windowStart;
+	private int windowCount;
+
+	public MockPopbillServer() {
+		addDefaultRoutes();
+	}
+
+	/**
+	 * 127.0.0.1 의 빈 포트로 시작.
+	 *
+	 * @return this
+	 * @throws IOException
+	 */
+	public MockPopbillServer start() throws IOException {
+		return start(0);
+	}
+
+	/**
+	 * 지정한 포트로 시작.
+	 *
+	 * @param port
+	 *            0 for any free port.
+	 * @return this
+	 * @throws IOException
+	 */
+	public MockPopbillServer start(int port) throws IOException {
+		// 응답 헤더와 본문이 나뉘어 전송되므로, Nagle 알고리즘과 지연 ACK 가
+		// 겹쳐 응답마다 약 40ms 가 지연되지 않도록 합니다. 처음 생성하는
+		// HttpServer 에만 적용됩니다.
+		if (System.getProperty("sun.net.httpserver.nodelay") == null)
+			System.setProperty("sun.net.httpserver.nodelay", "true");
+
+		server = HttpServer.create(new InetSocketAddress(
+				InetAddress.getByName("127.0.0.1"), port), 256);
+
+		final AtomicInteger threadNumber = new AtomicInteger();
+		executor = Executors.newCachedThreadPool(new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable r) {
+				Thread thread = new Thread(r, "mock-popbill-"
+						+ threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			}
+		});
+
+		server.setExecutor(executor);
+		server.createContext("/", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				try {
+					MockPopbillServer.this.handle(exchange);
+				} finally {
+					exchange.close();
+				}
+			}
+		});
+		server.start();
+		return this;
+	}
+
+	public void stop() {
+		if (server != null) {
+			server.stop(0);
+			executor.shutdownNow();
+			server = null;
+		}
+	}
+
+	/** @return base URL of server. (ex. http://127.0.0.1:51234) */
+	public String getURL() {
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	/**
+	 * 서비스가 이 서버의 팝빌 API 와 인증 서버를 사용하도록 설정.
+	 *
+	 * @param service
+	 * @return service
+	 */
+	public <T extends BaseServiceImp> T configure(T service) {
+		service.setServiceURL(getURL());
+		service.setAuthURL(getURL());
+		return service;
+	}
+
+	/**
+	 * 응답 등록. 나중에 등록한 응답이 우선하며, 미리 정한 응답보다 우선합니다.
+	 *
+	 * @param method
+	 *            HTTP method. null for any.
+	 * @param regex
+	 *            pattern of path and query. (ex. ^/Taxinvoice/SELL/.*)
+	 * @param responder
+	 * @return this
+	 */
+	public MockPopbillServer stub(String method, String regex,
+			Responder responder) {
+		stubs.add(0, new Route(method, regex, responder));
+		return this;
+	}
+
+	public MockPopbillServer stub(String method, String regex,
+			final int statusCode, final String json) {
+		return stub(method, regex, new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json(statusCode, json);
+			}
+		});
+	}
+
+	/** 등록한 응답, 기록된 요청과 주입 설정 초기화. */
+	public void reset() {
+		stubs.clear();
+		requests.clear();
+		latencyMillis = 0;
+		latencyJitterMillis = 0;
+		errorRate = 0;
+		permitsPerSecond = 0;
+		gzipResponses = true;
+		rejectGzipRequests = false;
+	}
+
+	/**
+	 * 응답 지연 설정. 팝빌 API 와 인증 서버 모두에 적용됩니다.
+	 *
+	 * @param millis
+	 *            fixed delay.
+	 * @param jitterMillis
+	 *            random delay added up to.
+	 */
+	public void setLatency(long millis, long jitterMillis) {
+		this.latencyMillis = millis;
+		this.latencyJitterMillis = jitterMillis;
+	}
+
+	/**
+	 * 오류 주입. 팝빌 API 요청 중 rate 비율로 statusCode 오류를 응답합니다.
+	 *
+	 * @param rate
+	 *            0.0 ~ 1.0
+	 * @param statusCode
+	 *            HTTP status of injected error. (ex. 500, 503)
+	 */
+	public void setErrorRate(double rate, int statusCode) {
+		this.errorRate = rate;
+		this.errorStatus = statusCode;
+	}
+
+	/**
+	 * 요청 제한. 팝빌 API 요청이 초당 permits 를 넘으면 429 를 응답합니다.
+	 *
+	 * @param permitsPerSecond
+	 *            0 for unlimited.
+	 */
+	public synchronized void setThrottle(int permitsPerSecond) {
+		this.permitsPerSecond = permitsPerSecond;
+		this.windowCount = 0;
+	}
+
+	/** 요청에 Accept-Encoding: gzip 이 있는 경우 응답 압축 여부. 기본값은 true. */
+	public void setGzipResponses(boolean gzipResponses) {
+		this.gzipResponses = gzipResponses;
+	}
+
+	/** 압축된 요청을 415 로 거절할지 여부. */
+	public void setRejectGzipRequests(boolean rejectGzipRequests) {
+		this.rejectGzipRequests = rejectGzipRequests;
+	}
+
+	/** 요청 기록 여부. 부하 시험에서는 기록하지 않습니다. 기본값은 true. */
+	public void setRecording(boolean recording) {
+		this.recording = recording;
+	}
+
+	/** 발급하는 토큰의 유효시간. */
+	public void setTokenTTL(long millis) {
+		this.tokenTTL = millis;
+	}
+
+	/** @return copy of recorded requests. */
+	public List<RecordedRequest> getRequests() {
+		synchronized (requests) {
+			return new ArrayList<RecordedRequest>(requests);
+		}
+	}
+
+	/** @return last recorded request of path pattern. null if none. */
+	public RecordedRequest lastRequest(String regex) {
+		Pattern pattern = Pattern.compile(regex);
+		List<RecordedRequest> list = getRequests();
+
+		for (int i = list.size() - 1; i >= 0; i--)
+			if (pattern.matcher(list.get(i).getTarget()).find())
+				return list.get(i);
+		return null;
+	}
+
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	public long getTokenCount() {
+		return tokenCount.get();
+	}
+
+	public long getInjectedErrorCount() {
+		return injectedErrorCount.get();
+	}
+
+	public long getThrottledCount() {
+		return throttledCount.get();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		requestCount.incrementAndGet();
+
+		Headers requestHeaders = exchange.getRequestHeaders();
+		Map<String, String> headers = new LinkedHashMap<String, String>();
+		for (Map.Entry<String, List<String>> header : requestHeaders
+				.entrySet()) {
+			if (header.getValue().isEmpty() == false)
+				headers.put(header.getKey().toLowerCase(), header.getValue()
+						.get(0));
+		}
+
+		boolean gzipped = "gzip".equalsIgnoreCase(headers
+				.get("content-encoding"));
+		byte[] body = readFully(exchange.getRequestBody());
+
+		if (gzipped && rejectGzipRequests) {
+			send(exchange, new MockResponse(415, null, new byte[0]), false);
+			return;
+		}
+		if (gzipped)
+			body = readFully(new GZIPInputStream(new ByteArrayInputStream(body)));
+
+		RecordedRequest request = new RecordedRequest(exchange
+				.getRequestMethod(), exchange.getRequestURI().getRawPath(),
+				exchange.getRequestURI().getRawQuery(), headers, body);
+
+		if (recording)
+			requests.add(request);
+
+		delay();
+
+		MockResponse response;
+		try {
+			response = respond(request);
+		} catch (RuntimeException e) {
+			response = MockResponse.error(500, -99999999, String.valueOf(e));
+		}
+
+		String acceptEncoding = request.getHeader("Accept-Encoding");
+		send(exchange, response, gzipResponses && acceptEncoding != null
+				&& acceptEncoding.contains("gzip"));
+	}
+
+	private MockResponse respond(RecordedRequest request) throws IOException {
+		boolean auth = isAuthRequest(request);
+
+		if (auth == false) {
+			if (throttled()) {
+				throttledCount.incrementAndGet();
+				return MockResponse.error(429, -99999999, "요청 제한")
+						.header("Retry-After", "1");
+			}
+			double rate = errorRate;
+			if (rate > 0 && nextDouble() < rate) {
+				injectedErrorCount.incrementAndGet();
+				return MockResponse.error(errorStatus, -99999999, "주입된 오류");
+			}
+		}
+
+		MockResponse response = dispatch(stubs, request);
+		if (response == null)
+			response = dispatch(routes, request);
+		if (response == null)
+			response = MockResponse.error(404, -99999999, "Mock 서버에 없는 경로입니다. : "
+					+ request);
+		return response;
+	}
+
+	private static MockResponse dispatch(List<Route> routes,
+			RecordedRequest request) throws IOException {
+		for (Route route : routes) {
+			if (route.method != null
+					&& route.method.equals(request.getMethod()) == false)
+				continue;
+
+			Matcher matcher = route.pattern.matcher(request.getTarget());
+			if (matcher.find()) {
+				request.matcher = matcher;
+				return route.responder.respond(request);
+			}
+		}
+		return null;
+	}
+
+	private static boolean isAuthRequest(RecordedRequest request) {
+		String path = request.getPath();
+		return path.equals("/Time") || path.matches("^/POPBILL(_TEST)?/.*");
+	}
+
+	private synchronized boolean throttled() {
+		if (permitsPerSecond <= 0)
+			return false;
+
+		long now = System.nanoTime();
+		if (now - windowStart >= TimeUnit.SECONDS.toNanos(1)) {
+			windowStart = now;
+			windowCount = 0;
+		}
+		return ++windowCount > permitsPerSecond;
+	}
+
+	private synchronized double nextDouble() {
+		return random.nextDouble();
+	}
+
+	private void delay() {
+		long millis = latencyMillis;
+		long jitter = latencyJitterMillis;
+
+		if (jitter > 0) {
+			synchronized (this) {
+				millis += (long) (random.nextDouble() * jitter);
+			}
+		}
+
+		if (millis > 0) {
+			try {
+				Thread.sleep(millis);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private static void send(HttpExchange exchange, MockResponse response,
+			boolean gzip) throws IOException {
+		Headers headers = exchange.getResponseHeaders();
+		byte[] body = response.body;
+
+		if (response.contentType != null)
+			headers.set("Content-Type", response.contentType);
+		for (Map.Entry<String, String> header : response.headers.entrySet())
+			headers.set(header.getKey(), header.getValue());
+
+		if (gzip && body.length > 0) {
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+			GZIPOutputStream output = new GZIPOutputStream(compressed);
+			output.write(body);
+			output.close();
+
+			body = compressed.toByteArray();
+			headers.set("Content-Encoding", "gzip");
+		}
+
+		exchange.sendResponseHeaders(response.statusCode,
+				body.length == 0 ? -1 : body.length);
+		if (body.length > 0) {
+			OutputStream output = exchange.getResponseBody();
+			output.write(body);
+			output.close();
+		}
+	}
+
+	private static byte[] readFully(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+
+		while ((read = input.read(buffer)) != -1)
+			output.write(buffer, 0, read);
+
+		return output.toByteArray();
+	}
+
+	private String nextID() {
+		return Long.toString(sequence.incrementAndGet());
+	}
+
+	private static String formatUTC(String pattern, Date date) {
+		SimpleDateFormat format = new SimpleDateFormat(pattern);
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		return format.format(date);
+	}
+
+	private void route(String method, String regex, final String json) {
+		routes.add(new Route(method, regex, new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json(json);
+			}
+		}));
+	}
+
+	private void route(String method, String regex, Responder responder) {
+		routes.add(new Route(method, regex, responder));
+	}
+
+	/** 요청 본문의 배열 원소마다 응답 객체 생성. */
+	private Responder forEachKey(final String keyName, final String json) {
+		return new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				JsonArray result = new JsonArray();
+				JsonElement keys = new JsonParser().parse(request
+						.getBodyString());
+
+				if (keys.isJsonArray()) {
+					for (JsonElement key : keys.getAsJsonArray()) {
+						JsonObject item = new JsonParser().parse(json)
+								.getAsJsonObject();
+						item.add(keyName, key);
+						item.addProperty("itemKey", nextID());
+						result.add(item);
+					}
+				}
+				return MockResponse.json(result.toString());
+			}
+		};
+	}
+
+	private void addDefaultRoutes() {
+		// 링크허브 인증
+		route("POST", "^/[^/]+/Token$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				String authorization = request.getHeader("Authorization");
+				if (authorization == null
+						|| authorization.startsWith("LINKHUB ") == false
+						|| request.getHeader("x-lh-date") == null)
+					return MockResponse.error(401, -99999999, "인증 정보가 없습니다.");
+
+				JsonObject tokenRequest = new JsonParser().parse(
+						request.getBodyString()).getAsJsonObject();
+
+				JsonObject token = new JsonObject();
+				token.addProperty("session_token", "mock-" + nextID());
+				token.addProperty("serviceID", request.getPath().split("/")[1]);
+				token.addProperty("linkID", authorization.split(" ")[1]);
+				token.addProperty("usercode", tokenRequest.get("access_id")
+						.getAsString());
+				token.addProperty("ipaddress", "127.0.0.1");
+				token.addProperty("expiration", formatUTC(
+						"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'", new Date(System
+								.currentTimeMillis() + tokenTTL)));
+				token.add("scope", tokenRequest.get("scope"));
+
+				tokenCount.incrementAndGet();
+				return MockResponse.json(token.toString());
+			}
+		});
+		route("GET", "^/Time$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request)
+					throws IOException {
+				return new MockResponse(200, "text/plain", formatUTC(
+						"yyyy-MM-dd'T'HH:mm:ss'Z'", new Date()).getBytes(
+						"UTF-8"));
+			}
+		});
+		route("GET", "^/[^/]+/(Partner)?Point$", "{\"remainPoint\":10000}");
+
+		// 팝빌 API 조회
+		route("GET", "[?&]TG=", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"url\":\"" + getURL() + "/Popup/"
+						+ nextID() + "\"}");
+			}
+		});
+		route("GET", "cfg=UNITCOST|/UnitCost", "{\"unitCost\":\"10\"}");
+		route("GET", "cfg=CERT|/CertInfo$",
+				"{\"certificateExpiration\":\"20991231235959\"}");
+		route("GET", "/ChargeInfo",
+				"{\"unitCost\":\"10\",\"chargeMethod\":\"01\",\"rateSystem\":\"01\"}");
+		route("GET", "/Contract$", "{\"referenceID\":\"1234567890\","
+				+ "\"contractDT\":\"20260101000000\",\"baseDate\":5,"
+				+ "\"useEndDate\":\"20991231\",\"state\":1,"
+				+ "\"closeRequestYN\":false,\"useRestrictYN\":false,"
+				+ "\"closeOnExpired\":false,\"unPaidYN\":false}");
+		route("GET", "/EmailPublicKeys$",
+				"[{\"confirmNum\":\"1\",\"email\":\"test@test.com\"}]");
+		route("GET", "/(JobList|Logs|Files|Denied)$|^/IDs$", "[]");
+		route("GET", "^/HomeTax/\\w+/([^/?]+)/State$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"jobID\":\"" + request.group(1)
+						+ "\",\"jobState\":\"3\",\"errorCode\":1,"
+						+ "\"collectCount\":0}");
+			}
+		});
+		route("GET", "^/HomeTax/\\w+/[^/?]+/Summary", "{\"count\":0,"
+				+ "\"supplyCostTotal\":0,\"taxTotal\":0,\"serviceFeeTotal\":0,"
+				+ "\"amountTotal\":0}");
+		route("GET", "^/HomeTax/Taxinvoice/[^/?]+\\?T=xml$",
+				"{\"ResultCode\":1,\"Message\":\"OK\",\"retObject\":\"<TaxInvoice/>\"}");
+		route("GET", "^/HomeTax/\\w+/[^/?]+\\?", SEARCH_RESULT);
+		route("GET", "^/HomeTax/Taxinvoice/([^/?]+)$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"ntsconfirmNum\":\""
+						+ request.group(1) + "\",\"writeDate\":\"20261017\"}");
+			}
+		});
+		route("GET", "/Search\\?|^/Taxinvoice/(SELL|BUY|TRUSTEE)\\?",
+				SEARCH_RESULT);
+		route("GET", "^/(Message|FAX)/[^/?]+/Cancel$",
+				"{\"code\":1,\"message\":\"OK\"}");
+		route("GET", "^/(Message|FAX)/[^/?]+$", "[]");
+		route("GET", "^/CloseDown\\?CN=(\\d*)", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"corpNum\":\"" + request.group(1)
+						+ "\",\"type\":\"1\",\"state\":\"1\","
+						+ "\"stateDate\":\"20260101\",\"checkDate\":\"20261017\"}");
+			}
+		});
+		route("GET", "^/CorpInfo$", "{\"ceoname\":\"대표자\",\"corpName\":\"상호\","
+				+ "\"addr\":\"주소\",\"bizType\":\"업태\",\"bizClass\":\"종목\"}");
+		route("GET", "\\?Detail$", "{\"writeDate\":\"20261017\"}");
+		route("GET", "^/(Taxinvoice/\\w+|Cashbill|Statement/\\d+)/[^/?]+$",
+				new Responder() {
+					@Override
+					public MockResponse respond(RecordedRequest request) {
+						return MockResponse.json("{\"itemKey\":\"" + nextID()
+								+ "\",\"stateCode\":100}");
+					}
+				});
+		route("GET", "^/(Join|IDCheck)\\?", "{\"code\":1,\"message\":\"OK\"}");
+
+		// 팝빌 API 요청
+		route("POST", "^/HomeTax/\\w+/\\w+\\?", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"jobID\":\"" + nextID() + "\"}");
+			}
+		});
+		route("POST", "\\?Print$|/Prints$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"url\":\"" + getURL() + "/Popup/"
+						+ nextID() + "\"}");
+			}
+		});
+		route("POST", "^/CloseDown$", forEachKey("corpNum",
+				"{\"type\":\"1\",\"state\":\"1\",\"checkDate\":\"20261017\"}"));
+		route("POST", "^/(Taxinvoice/(SELL|BUY|TRUSTEE)|Cashbill/States|Statement/\\d+)$",
+				forEachKey("mgtKey", "{\"stateCode\":100}"));
+		route("POST", ".", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"code\":1,\"message\":\"OK\","
+						+ "\"receiptNum\":\"" + nextID() + "\"}");
+			}
+		});
+	}
+}
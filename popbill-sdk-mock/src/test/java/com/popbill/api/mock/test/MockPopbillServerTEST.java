@@ -0,0 +1,312 @@
+package com.popbill.api.mock.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.BaseServiceImp;
+import com.popbill.api.CorpInfo;
+import com.popbill.api.CorpState;
+import com.popbill.api.FlatRateState;
+import com.popbill.api.PopbillException;
+import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
+import com.popbill.api.TokenRegistry;
+import com.popbill.api.cashbill.CashbillInfo;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.closedown.CloseDownServiceImp;
+import com.popbill.api.fax.FaxServiceImp;
+import com.popbill.api.hometax.HTCashbillServiceImp;
+import com.popbill.api.hometax.HTTaxinvoiceJobState;
+import com.popbill.api.hometax.HTTaxinvoiceSearchResult;
+import com.popbill.api.hometax.HTTaxinvoiceServiceImp;
+import com.popbill.api.hometax.QueryType;
+import com.popbill.api.message.MessageServiceImp;
+import com.popbill.api.mock.MockPopbillServer;
+import com.popbill.api.mock.MockPopbillServer.MockResponse;
+import com.popbill.api.mock.MockPopbillServer.RecordedRequest;
+import com.popbill.api.mock.MockPopbillServer.Responder;
+import com.popbill.api.statement.StatementInfo;
+import com.popbill.api.statement.StatementServiceImp;
+import com.popbill.api.taxinvoice.MgtKeyType;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceInfo;
+import com.popbill.api.taxinvoice.TaxinvoiceServiceImp;
+import com.popbill.api.transport.CompressionPolicy;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.RetryPolicy;
+
+public class MockPopbillServerTEST {
+
+	private static final String testLinkID = "TESTER";
+	private static final String testSecretKey = "SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=";
+	private static final String testCorpNum = "1234567890";
+
+	private MockPopbillServer server;
+
+	@Before
+	public void setUp() throws Exception {
+		server = new MockPopbillServer().start();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop();
+	}
+
+	private <T extends BaseServiceImp> T service(T service) {
+		service.setLinkID(testLinkID);
+		service.setSecretKey(testSecretKey);
+		service.setTest(true);
+		service.setTokenRegistry(new TokenRegistry());
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setResponseCache(ResponseCache.none());
+		return server.configure(service);
+	}
+
+	@Test
+	public void auth_TokenAndBalance() throws Exception {
+		TaxinvoiceServiceImp service = service(new TaxinvoiceServiceImp());
+
+		assertEquals(10000, service.getBalance(testCorpNum), 0);
+		assertEquals(10000, service.getPartnerBalance(testCorpNum), 0);
+		assertEquals(1, server.getTokenCount());
+
+		RecordedRequest token = server.lastRequest("/Token$");
+		assertEquals("/POPBILL_TEST/Token", token.getPath());
+		assertTrue(token.getHeader("Authorization"), token.getHeader(
+				"Authorization").startsWith("LINKHUB " + testLinkID + " "));
+		assertNotNull(token.getHeader("x-lh-date"));
+		assertTrue(token.getBodyString(), token.getBodyString().contains(
+				"\"access_id\":\"" + testCorpNum + "\""));
+
+		RecordedRequest point = server.lastRequest("/PartnerPoint$");
+		assertTrue(point.getHeader("Authorization").startsWith("Bearer mock-"));
+
+		service.getCorpInfo(testCorpNum, null);
+		RecordedRequest corpInfo = server.lastRequest("^/CorpInfo");
+		assertTrue(corpInfo.getHeader("Authorization").startsWith("Bearer mock-"));
+		assertEquals(1, server.getTokenCount());
+	}
+
+	@Test
+	public void services_CannedResponses() throws Exception {
+		TaxinvoiceServiceImp taxinvoiceService = service(new TaxinvoiceServiceImp());
+
+		assertEquals(10, taxinvoiceService.getUnitCost(testCorpNum), 0);
+		assertNotNull(taxinvoiceService.getCertificateExpireDate(testCorpNum));
+		assertTrue(taxinvoiceService.checkMgtKeyInUse(testCorpNum,
+				MgtKeyType.SELL, "20261017-01"));
+		assertEquals(1, taxinvoiceService.register(testCorpNum, new Taxinvoice())
+				.getCode());
+
+		TaxinvoiceInfo[] infos = taxinvoiceService.getInfos(testCorpNum,
+				MgtKeyType.SELL, new String[] { "K1", "K2" });
+		assertEquals(2, infos.length);
+
+		TISearchResult searchResult = taxinvoiceService.Search(testCorpNum,
+				MgtKeyType.SELL, "W", "20261001", "20261017", null, null,
+				null, null, 1, 500, "D");
+		assertEquals("0", searchResult.getTotal());
+		assertTrue(taxinvoiceService.getURL(testCorpNum, null, "TBOX")
+				.startsWith(server.getURL()));
+
+		CashbillServiceImp cashbillService = service(new CashbillServiceImp());
+		CashbillInfo cashbillInfo = cashbillService.getInfo(testCorpNum, "C1");
+		assertNotNull(cashbillInfo.getItemKey());
+
+		StatementServiceImp statementService = service(new StatementServiceImp());
+		assertEquals(10, statementService.getUnitCost(testCorpNum, 121), 0);
+		StatementInfo[] statementInfos = statementService.getInfos(
+				testCorpNum, 121, new String[] { "S1" });
+		assertEquals(1, statementInfos.length);
+
+		MessageServiceImp messageService = service(new MessageServiceImp());
+		String receiptNum = messageService.sendSMS(testCorpNum, "07043042991",
+				"010111222", "수신자", "내용", null, null);
+		assertNotNull(receiptNum);
+		assertEquals(0, messageService.getMessages(testCorpNum, receiptNum).length);
+
+		FaxServiceImp faxService = service(new FaxServiceImp());
+		assertEquals(10, faxService.getUnitCost(testCorpNum), 0);
+
+		HTTaxinvoiceServiceImp htTaxinvoiceService = service(new HTTaxinvoiceServiceImp());
+		String jobID = htTaxinvoiceService.requestJob(testCorpNum,
+				QueryType.SELL, "W", "20261001", "20261017");
+		assertNotNull(jobID);
+
+		HTTaxinvoiceJobState jobState = htTaxinvoiceService.getJobState(
+				testCorpNum, jobID);
+		assertEquals(jobID, jobState.getJobID());
+
+		HTTaxinvoiceSearchResult htSearchResult = htTaxinvoiceService.search(
+				testCorpNum, jobID, null, null, null, null, null, null, 1,
+				500, "D");
+		assertEquals(0, htSearchResult.getTotal());
+		assertNotNull(htTaxinvoiceService.summary(testCorpNum, jobID, null,
+				null, null, null, null, null));
+
+		HTCashbillServiceImp htCashbillService = service(new HTCashbillServiceImp());
+		FlatRateState flatRateState = htCashbillService
+				.getFlatRateState(testCorpNum);
+		assertEquals(testCorpNum, flatRateState.getReferenceID());
+
+		CloseDownServiceImp closeDownService = service(new CloseDownServiceImp());
+		CorpState corpState = closeDownService.CheckCorpNum(testCorpNum,
+				"8888888888");
+		assertEquals("8888888888", corpState.getCorpNum());
+		CorpState[] corpStates = closeDownService.CheckCorpNum(testCorpNum,
+				new String[] { "1111111111", "2222222222" });
+		assertEquals("2222222222", corpStates[1].getCorpNum());
+
+		CorpInfo corpInfo = closeDownService.getCorpInfo(testCorpNum, null);
+		assertEquals("상호", corpInfo.getCorpName());
+		assertEquals(0, closeDownService.listContact(testCorpNum, null).length);
+		assertEquals(1, closeDownService.checkID("testid").getCode());
+
+		// 인증 요청은 서비스마다 한번씩입니다.
+		assertEquals(8, server.getTokenCount());
+	}
+
+	@Test
+	public void stub_OverridesCannedResponse() throws Exception {
+		TaxinvoiceServiceImp service = service(new TaxinvoiceServiceImp());
+
+		server.stub("GET", "^/Taxinvoice/SELL/UNUSED$", 400,
+				"{\"code\":-11000005,\"message\":\"존재하지 않는 문서\"}");
+		server.stub("POST", "^/Taxinvoice$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.json("{\"code\":1,\"message\":\""
+						+ request.getHeader("Content-Type") + "\"}");
+			}
+		});
+
+		assertFalse(service.checkMgtKeyInUse(testCorpNum, MgtKeyType.SELL,
+				"UNUSED"));
+		assertTrue(service.checkMgtKeyInUse(testCorpNum, MgtKeyType.SELL,
+				"USED"));
+
+		Response response = service.register(testCorpNum, new Taxinvoice());
+		assertTrue(response.getMessage(), response.getMessage().contains(
+				"application/json"));
+
+		server.reset();
+		assertTrue(service.checkMgtKeyInUse(testCorpNum, MgtKeyType.SELL,
+				"UNUSED"));
+		assertEquals(1, server.getRequests().size());
+	}
+
+	@Test
+	public void latency() throws Exception {
+		CloseDownServiceImp service = service(new CloseDownServiceImp());
+		service.getCorpInfo(testCorpNum, null);
+
+		server.setLatency(200, 50);
+
+		long start = System.currentTimeMillis();
+		service.getCorpInfo(testCorpNum, null);
+		long elapsed = System.currentTimeMillis() - start;
+
+		assertTrue("elapsed " + elapsed + "ms", elapsed >= 200);
+	}
+
+	@Test
+	public void errorInjection() throws Exception {
+		CloseDownServiceImp service = service(new CloseDownServiceImp());
+		server.setErrorRate(1.0, 503);
+
+		try {
+			service.getCorpInfo(testCorpNum, null);
+			fail("injected error must be thrown.");
+		} catch (PopbillException e) {
+			assertEquals(-99999999, e.getCode());
+		}
+		assertEquals(1, server.getInjectedErrorCount());
+
+		// 인증 요청에는 오류를 주입하지 않습니다.
+		assertEquals(1, server.getTokenCount());
+
+		server.setErrorRate(0, 503);
+		assertNotNull(service.getCorpInfo(testCorpNum, null));
+	}
+
+	@Test
+	public void throttle() throws Exception {
+		CloseDownServiceImp service = service(new CloseDownServiceImp());
+		server.setThrottle(2);
+
+		service.getCorpInfo(testCorpNum, null);
+		service.getCorpInfo(testCorpNum, null);
+
+		try {
+			service.getCorpInfo(testCorpNum, null);
+			fail("throttled request must be rejected.");
+		} catch (PopbillException e) {
+			assertEquals(-99999999, e.getCode());
+		}
+		assertEquals(1, server.getThrottledCount());
+	}
+
+	@Test
+	public void gzip() throws Exception {
+		CloseDownServiceImp service = service(new CloseDownServiceImp());
+
+		CompressionPolicy compressionPolicy = new CompressionPolicy();
+		compressionPolicy.setEnabled(true);
+		compressionPolicy.setThreshold(0);
+		service.setCompressionPolicy(compressionPolicy);
+
+		String[] corpNums = new String[100];
+		for (int i = 0; i < corpNums.length; i++)
+			corpNums[i] = Long.toString(1000000000L + i);
+
+		// 압축된 요청을 해제하고 응답을 압축합니다.
+		CorpState[] states = service.CheckCorpNum(testCorpNum, corpNums);
+		assertEquals(100, states.length);
+		assertEquals(corpNums[99], states[99].getCorpNum());
+		assertEquals(1, compressionPolicy.getCompressedCount());
+
+		RecordedRequest request = server.lastRequest("^/CloseDown$");
+		assertEquals("gzip", request.getHeader("Content-Encoding"));
+		assertTrue(request.getHeader("Accept-Encoding").contains("gzip"));
+
+		// 압축된 요청을 거절하면 압축하지 않고 다시 전송합니다.
+		server.setRejectGzipRequests(true);
+		compressionPolicy.reset();
+
+		states = service.CheckCorpNum(testCorpNum, corpNums);
+		assertEquals(100, states.length);
+		assertEquals(1, compressionPolicy.getFallbackCount());
+
+		request = server.lastRequest("^/CloseDown$");
+		assertEquals(null, request.getHeader("Content-Encoding"));
+	}
+
+	@Test
+	public void unknownPath() throws Exception {
+		CloseDownServiceImp service = service(new CloseDownServiceImp());
+		server.stub("GET", "^/CorpInfo$", new Responder() {
+			@Override
+			public MockResponse respond(RecordedRequest request) {
+				return MockResponse.error(404, -99999999, "없는 경로");
+			}
+		});
+
+		try {
+			service.getCorpInfo(testCorpNum, null);
+			fail("404 must be thrown.");
+		} catch (PopbillException e) {
+			assertEquals("없는 경로", e.getMessage());
+		}
+
+	}
+}
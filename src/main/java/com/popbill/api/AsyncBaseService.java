@@ -0,0 +1,110 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * Base Async Service Interface.
+ * 
+ * BaseService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.BaseService
+ */
+public interface AsyncBaseService {
+
+	/**
+	 * 연동회원 잔여 포인트 확인.
+	 * 
+	 * @see com.popbill.api.BaseService#getBalance(String)
+	 */
+	public abstract PopbillFuture<Double> getBalance(String CorpNum);
+
+	/**
+	 * 연동 파트너의 잔여포인트 확인
+	 * 
+	 * @see com.popbill.api.BaseService#getPartnerBalance(String)
+	 */
+	public abstract PopbillFuture<Double> getPartnerBalance(String CorpNum);
+
+	/**
+	 * 연동회원 가입요청.
+	 * 
+	 * @see com.popbill.api.BaseService#joinMember(JoinForm)
+	 */
+	public abstract PopbillFuture<Response> joinMember(JoinForm joinInfo);
+
+	/**
+	 * 팝빌의 SSO 접근 URL 요청.
+	 * 
+	 * @see com.popbill.api.BaseService#getPopbillURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getPopbillURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 연동회원의 가입여부 확인.
+	 * 
+	 * @see com.popbill.api.BaseService#checkIsMember(String, String)
+	 */
+	public abstract PopbillFuture<Response> checkIsMember(String CorpNum, String LinkID);
+
+	/**
+	 * 담당자 목록조회
+	 * 
+	 * @see com.popbill.api.BaseService#listContact(String, String)
+	 */
+	public abstract PopbillFuture<ContactInfo[]> listContact(String CorpNum,
+			String UserID);
+
+	/**
+	 * 담당자 정보수정
+	 * 
+	 * @see com.popbill.api.BaseService#updateContact(String, ContactInfo, String)
+	 */
+	public abstract PopbillFuture<Response> updateContact(String CorpNum,
+			ContactInfo contactInfo, String UserID);
+
+	/**
+	 * 담당차 등록
+	 * 
+	 * @see com.popbill.api.BaseService#registContact(String, ContactInfo, String)
+	 */
+	public abstract PopbillFuture<Response> registContact(String CorpNum,
+			ContactInfo contactInfo, String UserID);
+
+	/**
+	 * 팝빌회원 아이디 중복체크
+	 * 
+	 * @see com.popbill.api.BaseService#checkID(String)
+	 */
+	public abstract PopbillFuture<Response> checkID(String id);
+
+	/**
+	 * 회사정보 확인
+	 * 
+	 * @see com.popbill.api.BaseService#getCorpInfo(String, String)
+	 */
+	public abstract PopbillFuture<CorpInfo> getCorpInfo(String CorpNum, String UserID);
+
+	/**
+	 * 회사정보 수정
+	 * 
+	 * @see com.popbill.api.BaseService#updateCorpInfo(String, CorpInfo, String)
+	 */
+	public abstract PopbillFuture<Response> updateCorpInfo(String CorpNum,
+			CorpInfo corpInfo, String UserID);
+}
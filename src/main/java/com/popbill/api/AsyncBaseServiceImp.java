@@ -0,0 +1,312 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.popbill.api.transport.PooledTransport;
+
+/**
+ * Abstract class for Popbill Async Services.
+ * 
+ * 동기 서비스 객체의 호출을 Executor 에서 실행하고 PopbillFuture 로 결과를 반환합니다.
+ * 기본 Executor 의 작업 스레드 수는 PooledTransport 의 최대 연결 수와 같으며, 그 이상의
+ * 요청은 스레드를 추가로 점유하지 않고 대기열에서 기다립니다. 대기열이 가득 찬 경우
+ * 호출은 PopbillException.BULKHEAD_FULL 로 즉시 실패합니다.
+ * 
+ * PopbillFuture.cancel(true) 는 작업 스레드에서 진행중인 요청의 연결을 닫습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public abstract class AsyncBaseServiceImp implements AsyncBaseService {
+
+	/**
+	 * 기본 Executor 의 대기열 크기.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	private static ExecutorService defaultExecutor;
+
+	private final BaseService service;
+	private final Executor executor;
+
+	/**
+	 * @param service
+	 *            Popbill Service to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	protected AsyncBaseServiceImp(BaseService service, Executor executor) {
+		if (service == null)
+			throw new IllegalArgumentException("service is null.");
+		if (executor == null)
+			throw new IllegalArgumentException("executor is null.");
+
+		this.service = service;
+		this.executor = executor;
+	}
+
+	/**
+	 * 비동기 서비스 객체들이 공유하는 기본 Executor. 
+	 * 
+	 * @return shared ExecutorService of daemon threads.
+	 */
+	public static synchronized ExecutorService getDefaultExecutor() {
+		if (defaultExecutor == null) {
+			int threads = PooledTransport.DEFAULT_MAX_CONNECTIONS;
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(threads,
+					threads, 60L, TimeUnit.SECONDS,
+					new ArrayBlockingQueue<Runnable>(DEFAULT_QUEUE_CAPACITY),
+					new ThreadFactory() {
+						private final AtomicInteger sequence = new AtomicInteger();
+
+						@Override
+						public Thread newThread(Runnable runnable) {
+							Thread thread = new Thread(runnable, "popbill-async-"
+									+ sequence.incrementAndGet());
+							thread.setDaemon(true);
+							return thread;
+						}
+					});
+			executor.allowCoreThreadTimeOut(true);
+
+			defaultExecutor = executor;
+		}
+
+		return defaultExecutor;
+	}
+
+	/**
+	 * 호출을 Executor 에 등록. 현재 스레드의 호출 기한(Deadline)은 작업 스레드에도
+	 * 적용됩니다.
+	 * 
+	 * @param call
+	 *            call of sync service.
+	 * @return PopbillFuture of call.
+	 */
+	protected <T> PopbillFuture<T> submit(Callable<T> call) {
+		final Deadline deadline = Deadline.current();
+
+		// 등록한 스레드의 기한을 작업 스레드에 적용.
+		if (deadline != null) {
+			final Callable<T> inner = call;
+
+			call = new Callable<T>() {
+				@Override
+				public T call() throws Exception {
+					Deadline scope = Deadline.start(deadline);
+					try {
+						return inner.call();
+					} finally {
+						scope.end();
+					}
+				}
+			};
+		}
+
+		PopbillFutureTask<T> future = new PopbillFutureTask<T>(call);
+
+		try {
+			executor.execute(future);
+		} catch (RejectedExecutionException e) {
+			future.fail(new PopbillException(PopbillException.BULKHEAD_FULL,
+					"비동기 요청을 등록하지 못했습니다.", e));
+		}
+
+		return future;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#getBalance(String)
+	 */
+	@Override
+	public PopbillFuture<Double> getBalance(final String CorpNum) {
+		return submit(new Callable<Double>() {
+			@Override
+			public Double call() throws PopbillException {
+				return service.getBalance(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#getPartnerBalance(String)
+	 */
+	@Override
+	public PopbillFuture<Double> getPartnerBalance(final String CorpNum) {
+		return submit(new Callable<Double>() {
+			@Override
+			public Double call() throws PopbillException {
+				return service.getPartnerBalance(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#joinMember(JoinForm)
+	 */
+	@Override
+	public PopbillFuture<Response> joinMember(final JoinForm joinInfo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.joinMember(joinInfo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#getPopbillURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPopbillURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return service.getPopbillURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#checkIsMember(String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> checkIsMember(final String CorpNum,
+			final String LinkID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.checkIsMember(CorpNum, LinkID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#listContact(String, String)
+	 */
+	@Override
+	public PopbillFuture<ContactInfo[]> listContact(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<ContactInfo[]>() {
+			@Override
+			public ContactInfo[] call() throws PopbillException {
+				return service.listContact(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#updateContact(String, ContactInfo, String)
+	 */
+	@Override
+	public PopbillFuture<Response> updateContact(final String CorpNum,
+			final ContactInfo contactInfo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.updateContact(CorpNum, contactInfo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#registContact(String, ContactInfo, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registContact(final String CorpNum,
+			final ContactInfo contactInfo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.registContact(CorpNum, contactInfo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#checkID(String)
+	 */
+	@Override
+	public PopbillFuture<Response> checkID(final String id) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.checkID(id);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#getCorpInfo(String, String)
+	 */
+	@Override
+	public PopbillFuture<CorpInfo> getCorpInfo(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<CorpInfo>() {
+			@Override
+			public CorpInfo call() throws PopbillException {
+				return service.getCorpInfo(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncBaseService#updateCorpInfo(String, CorpInfo, String)
+	 */
+	@Override
+	public PopbillFuture<Response> updateCorpInfo(final String CorpNum,
+			final CorpInfo corpInfo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return service.updateCorpInfo(CorpNum, corpInfo, UserID);
+			}
+		});
+	}
+}
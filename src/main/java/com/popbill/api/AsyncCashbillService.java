@@ -0,0 +1,300 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import com.popbill.api.cashbill.CBSearchResult;
+import com.popbill.api.cashbill.Cashbill;
+import com.popbill.api.cashbill.CashbillInfo;
+import com.popbill.api.cashbill.CashbillLog;
+
+/**
+ * Cashbill Async Service Interface.
+ * 
+ * CashbillService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.CashbillService
+ */
+public interface AsyncCashbillService extends AsyncBaseService {
+
+	/**
+	 * 팝빌 현금영수증 관련 URL 확인, 반환된 URL은 30초 이내에 브라우저에 표시해야 함
+	 * 
+	 * @see com.popbill.api.CashbillService#getURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 현금영수증 발행단가 확인
+	 * 
+	 * @see com.popbill.api.CashbillService#getUnitCost(String)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum);
+
+	/**
+	 * 문서관리번호 사용여부 확인
+	 * 
+	 * @see com.popbill.api.CashbillService#checkMgtKeyInUse(String, String)
+	 */
+	public abstract PopbillFuture<Boolean> checkMgtKeyInUse(String Corpnum, String MgtKey);
+
+	/**
+	 * 현금영수증 1건 임시저장
+	 * 
+	 * @see com.popbill.api.CashbillService#register(String, Cashbill)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum, Cashbill cashbill);
+
+	/**
+	 * 현금영수증 1건 임시저장
+	 * 
+	 * @see com.popbill.api.CashbillService#register(String, Cashbill, String)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum, Cashbill cashbill,
+			String UserID);
+
+	/**
+	 * 임시저장된 현금영수증 수정
+	 * 
+	 * @see com.popbill.api.CashbillService#update(String, String, Cashbill)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, String MgtKey,
+			Cashbill cashbill);
+
+	/**
+	 * 임시저장된 현금영수증 수정
+	 * 
+	 * @see com.popbill.api.CashbillService#update(String, String, Cashbill, String)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, String MgtKey,
+			Cashbill cashbill, String UserID);
+
+	/**
+	 * 현금영수증 삭제
+	 * 
+	 * @see com.popbill.api.CashbillService#delete(String, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, String MgtKey);
+
+	/**
+	 * 현금영수증 삭제
+	 * 
+	 * @see com.popbill.api.CashbillService#delete(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, String MgtKey,
+			String UserID);
+
+	/**
+	 * 현금영수증 발행
+	 * 
+	 * @see com.popbill.api.CashbillService#issue(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, String MgtKey,
+			String Memo);
+
+	/**
+	 * 현금영수증 발행
+	 * 
+	 * @see com.popbill.api.CashbillService#issue(String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, String MgtKey,
+			String Memo, String UserID);
+
+	/**
+	 * 현금영수증 발행취소
+	 * 
+	 * @see com.popbill.api.CashbillService#cancelIssue(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelIssue(String CorpNum, String MgtKey,
+			String Memo);
+
+	/**
+	 * 현금영수증 발행취소
+	 * 
+	 * @see com.popbill.api.CashbillService#cancelIssue(String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelIssue(String CorpNum, String MgtKey,
+			String Memo, String UserID);
+
+	/**
+	 * 현금영수증 알림메일 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendEmail(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, String MgtKey,
+			String Receiver);
+
+	/**
+	 * 현금영수증 알림메일 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendEmail(String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, String MgtKey,
+			String Receiver, String UserID);
+
+	/**
+	 * 알림문자 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendSMS(String, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, String MgtKey,
+			String Sender, String Receiver, String Contents);
+
+	/**
+	 * 알림문자 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendSMS(String, String, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, String MgtKey,
+			String Sender, String Receiver, String Contents, String UserID);
+
+	/**
+	 * 현금영수증 팩스 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendFAX(String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, String MgtKey,
+			String Sender, String Receiver);
+
+	/**
+	 * 현금영수증 팩스 전송
+	 * 
+	 * @see com.popbill.api.CashbillService#sendFAX(String, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, String MgtKey,
+			String Sender, String Receiver, String UserID);
+
+	/**
+	 * 현금영수증 상세내역 조회
+	 * 
+	 * @see com.popbill.api.CashbillService#getDetailInfo(String, String)
+	 */
+	public abstract PopbillFuture<Cashbill> getDetailInfo(String CorpNum, String MgtKey);
+
+	/**
+	 * 현금영수증 요약/상태 정보 조회
+	 * 
+	 * @see com.popbill.api.CashbillService#getInfo(String, String)
+	 */
+	public abstract PopbillFuture<CashbillInfo> getInfo(String CorpNum, String MgtKey);
+
+	/**
+	 * 현금영수증 요약/상태 정보 대량 조회( 최대 1000건)
+	 * 
+	 * @see com.popbill.api.CashbillService#getInfos(String, String[])
+	 */
+	public abstract PopbillFuture<CashbillInfo[]> getInfos(String CorpNum,
+			String[] MgtKeyList);
+
+	/**
+	 * 현금영수증 문서 이력 조회
+	 * 
+	 * @see com.popbill.api.CashbillService#getLogs(String, String)
+	 */
+	public abstract PopbillFuture<CashbillLog[]> getLogs(String CorpNum, String MgtKey);
+
+	/**
+	 * 현금영수증 인쇄 URL
+	 * 
+	 * @see com.popbill.api.CashbillService#getPrintURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getPrintURL(String CorpNum, String MgtKey,
+			String UserID);
+
+	/**
+	 * 현금영수증 인쇄 URL(공급받는자용)
+	 * 
+	 * @see com.popbill.api.CashbillService#getEPrintURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getEPrintURL(String CorpNum, String MgtKey,
+			String UserID);
+
+	/**
+	 * 다량 현금영수증 인쇄 URL
+	 * 
+	 * @see com.popbill.api.CashbillService#getMassPrintURL(String, String[], String)
+	 */
+	public abstract PopbillFuture<String> getMassPrintURL(String CorpNum,
+			String[] MgtKeyList, String UserID);
+
+	/**
+	 * 공급받는자 메일링크 URL
+	 * 
+	 * @see com.popbill.api.CashbillService#getMailURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getMailURL(String CorpNum, String MgtKey,
+			String UserID);
+
+	/**
+	 * 현금영수증 내용 보기 팝업 URL
+	 * 
+	 * @see com.popbill.api.CashbillService#getPopUpURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getPopUpURL(String CorpNum, String MgtKey,
+			String UserID);
+
+	/**
+	 * 현금영수증 즉시발행
+	 * 
+	 * @see com.popbill.api.CashbillService#registIssue(String, Cashbill)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum, Cashbill cashbill);
+
+	/**
+	 * 현금영수증 즉시발행
+	 * 
+	 * @see com.popbill.api.CashbillService#registIssue(String, Cashbill, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Cashbill cashbill, String Memo);
+
+	/**
+	 * 현금영수증 즉시발행
+	 * 
+	 * @see com.popbill.api.CashbillService#registIssue(String, Cashbill, String, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Cashbill cashbill, String Memo, String UserID);
+
+	/**
+	 * 현금영수증 목록 조회
+	 * 
+	 * @see com.popbill.api.CashbillService#search(String, String, String, String, String[], String[], String[], String[], int, int, String)
+	 */
+	public abstract PopbillFuture<CBSearchResult> search(String CorpNum, String DType,
+			String SDate, String EDate, String[] State, String[] TradeType,
+			String[] TradeUsage, String[] TaxationType, int Page, int PerPage,
+			String Order);
+
+	/**
+	 * 현금영수증 목록 조회
+	 * 
+	 * @see com.popbill.api.CashbillService#search(String, String, String, String, String[], String[], String[], String[], String, int, int, String)
+	 */
+	public abstract PopbillFuture<CBSearchResult> search(String CorpNum, String DType,
+			String SDate, String EDate, String[] State, String[] TradeType,
+			String[] TradeUsage, String[] TaxationType, String QString,
+			int Page, int PerPage, String Order);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.CashbillService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+}
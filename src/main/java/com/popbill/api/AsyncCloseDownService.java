@@ -0,0 +1,58 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * CloseDown Async Service Interface.
+ * 
+ * CloseDownService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.CloseDownService
+ */
+public interface AsyncCloseDownService extends AsyncBaseService {
+
+	/**
+	 * 회원의 휴폐업 조회단가 확인
+	 * 
+	 * @see com.popbill.api.CloseDownService#getUnitCost(String)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum);
+
+	/**
+	 * 휴폐업상태 조회
+	 * 
+	 * @see com.popbill.api.CloseDownService#CheckCorpNum(String, String)
+	 */
+	public abstract PopbillFuture<CorpState> CheckCorpNum(String MemberCorpNum,
+			String CheckCorpNum);
+
+	/**
+	 * 휴폐업상태 다량 조회
+	 * 
+	 * @see com.popbill.api.CloseDownService#CheckCorpNum(String, String[])
+	 */
+	public abstract PopbillFuture<CorpState[]> CheckCorpNum(String MemberCorpNum,
+			String[] CorpNumList);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.CloseDownService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.File;
+import java.util.Date;
+
+import com.popbill.api.fax.FAXSearchResult;
+import com.popbill.api.fax.FaxResult;
+import com.popbill.api.fax.Receiver;
+
+/**
+ * Fax Async Service Interface.
+ * 
+ * FaxService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.FaxService
+ */
+public interface AsyncFaxService extends AsyncBaseService {
+
+	/**
+	 * 회원의 팩스 전송단가 확인
+	 * 
+	 * @see com.popbill.api.FaxService#getUnitCost(String)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum);
+
+	/**
+	 * 팝빌 팩스전송 관련 URL 확인. 반환한 url은 30초이내에 브라우져에 표시하여야 함.
+	 * 
+	 * @see com.popbill.api.FaxService#getURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 팩스전송 단일파일 단일 수신자.
+	 * 
+	 * @see com.popbill.api.FaxService#sendFAX(String, String, String, String, File, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendFAX(String CorpNum, String sendNum,
+			String receiveNum, String receiveName, File file, Date reserveDT,
+			String UserID);
+
+	/**
+	 * 팩스전송 단일파일 동보전송.
+	 * 
+	 * @see com.popbill.api.FaxService#sendFAX(String, String, Receiver[], File, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendFAX(String CorpNum, String sendNum,
+			Receiver[] receivers, File file, Date reserveDT, String UserID);
+
+	/**
+	 * 팩스전송 다중파일(최대5개) 단일 수신자.
+	 * 
+	 * @see com.popbill.api.FaxService#sendFAX(String, String, String, String, File[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendFAX(String CorpNum, String sendNum,
+			String receiveNum, String receiveName, File[] files, Date reserveDT,
+			String UserID);
+
+	/**
+	 * 팩스전송 다중파일(최대5개) 동보전송
+	 * 
+	 * @see com.popbill.api.FaxService#sendFAX(String, String, Receiver[], File[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendFAX(String CorpNum, String sendNum,
+			Receiver[] receivers, File[] files, Date reserveDT, String UserID);
+
+	/**
+	 * 팩스전송 다중파일(최대5개) 동보전송
+	 * 
+	 * @see com.popbill.api.FaxService#sendFAX(String, String, String, Receiver[], File[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendFAX(String CorpNum, String sendNum,
+			String senderName, Receiver[] receivers, File[] files,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 전송결과 확인
+	 * 
+	 * @see com.popbill.api.FaxService#getFaxResult(String, String)
+	 */
+	public abstract PopbillFuture<FaxResult[]> getFaxResult(String CorpNum,
+			String receiptNum);
+
+	/**
+	 * 예약건 전송 취소.(예약시간 10분전 까지만 가능)
+	 * 
+	 * @see com.popbill.api.FaxService#cancelReserve(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelReserve(String CorpNum,
+			String receiptNum, String UserID);
+
+	/**
+	 * 연동회원 사업자번호
+	 * 
+	 * @see com.popbill.api.FaxService#search(String, String, String, String[], Boolean, Boolean, int, int, String)
+	 */
+	public abstract PopbillFuture<FAXSearchResult> search(String CorpNum, String SDate,
+			String EDate, String[] State, Boolean ReserveYN,
+			Boolean SenderOnlyYN, int Page, int PerPage, String Order);
+
+	/**
+	 * 과금정보 조회
+	 * 
+	 * @see com.popbill.api.FaxService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.Date;
+
+import com.popbill.api.hometax.HTCashbillJobState;
+import com.popbill.api.hometax.HTCashbillSearchResult;
+import com.popbill.api.hometax.HTCashbillSummary;
+import com.popbill.api.hometax.QueryType;
+
+/**
+ * Hometax Cashbill Async Service Interface.
+ * 
+ * HTCashbillService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.HTCashbillService
+ */
+public interface AsyncHTCashbillService extends AsyncBaseService {
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+
+	/**
+	 * 수집 요청
+	 * 
+	 * @see com.popbill.api.HTCashbillService#requestJob(String, QueryType, String, String)
+	 */
+	public abstract PopbillFuture<String> requestJob(String CorpNum, QueryType queryType,
+			String SDate, String EDate);
+
+	/**
+	 * 수집 요청
+	 * 
+	 * @see com.popbill.api.HTCashbillService#requestJob(String, QueryType, String, String, String)
+	 */
+	public abstract PopbillFuture<String> requestJob(String CorpNum, QueryType queryType,
+			String SDate, String EDate, String UserID);
+
+	/**
+	 * 수집 상태 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getJobState(String, String)
+	 */
+	public abstract PopbillFuture<HTCashbillJobState> getJobState(String CorpNum,
+			String JobID);
+
+	/**
+	 * 수집 상태 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getJobState(String, String, String)
+	 */
+	public abstract PopbillFuture<HTCashbillJobState> getJobState(String CorpNum,
+			String JobID, String UserID);
+
+	/**
+	 * 수집 상태 목록 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#listActiveJob(String)
+	 */
+	public abstract PopbillFuture<HTCashbillJobState[]> listActiveJob(String CorpNum);
+
+	/**
+	 * 수집 상태 목록 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#listActiveJob(String, String)
+	 */
+	public abstract PopbillFuture<HTCashbillJobState[]> listActiveJob(String CorpNum,
+			String UserID);
+
+	/**
+	 * 수집 결과 조회
+	 * 
+	 * @see com.popbill.api.HTCashbillService#search(String, String, String[], String[], Integer, Integer, String)
+	 */
+	public abstract PopbillFuture<HTCashbillSearchResult> search(String CorpNum,
+			String JobID, String[] TradeUsage, String[] TradeType, Integer Page,
+			Integer PerPage, String Order);
+
+	/**
+	 * 수집 결과 조회
+	 * 
+	 * @see com.popbill.api.HTCashbillService#search(String, String, String[], String[], Integer, Integer, String, String)
+	 */
+	public abstract PopbillFuture<HTCashbillSearchResult> search(String CorpNum,
+			String JobID, String[] TradeUsage, String[] TradeType, Integer Page,
+			Integer PerPage, String Order, String UserID);
+
+	/**
+	 * 수집 결과 요약정보 조회
+	 * 
+	 * @see com.popbill.api.HTCashbillService#summary(String, String, String[], String[])
+	 */
+	public abstract PopbillFuture<HTCashbillSummary> summary(String CorpNum,
+			String JobID, String[] TradeUsage, String[] TradeType);
+
+	/**
+	 * 수집 결과 요약정보 조회
+	 * 
+	 * @see com.popbill.api.HTCashbillService#summary(String, String, String[], String[], String)
+	 */
+	public abstract PopbillFuture<HTCashbillSummary> summary(String CorpNum,
+			String JobID, String[] TradeUsage, String[] TradeType, String UserID);
+
+	/**
+	 * 정액제 신청 URL
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getFlatRatePopUpURL(String, String)
+	 */
+	public abstract PopbillFuture<String> getFlatRatePopUpURL(String CorpNum,
+			String UserID);
+
+	/**
+	 * 홈택스 현금영수증 공인인증서 등록 URL
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getCertificatePopUpURL(String, String)
+	 */
+	public abstract PopbillFuture<String> getCertificatePopUpURL(String CorpNum,
+			String UserID);
+
+	/**
+	 * 정액제 서비스 상태 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getFlatRateState(String)
+	 */
+	public abstract PopbillFuture<FlatRateState> getFlatRateState(String CorpNum);
+
+	/**
+	 * 정액제 서비스 상태 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getFlatRateState(String, String)
+	 */
+	public abstract PopbillFuture<FlatRateState> getFlatRateState(String CorpNum,
+			String UserID);
+
+	/**
+	 * 홈택스연계 공인인증서 만료일시 확인
+	 * 
+	 * @see com.popbill.api.HTCashbillService#getCertificateExpireDate(String)
+	 */
+	public abstract PopbillFuture<Date> getCertificateExpireDate(String CorpNum);
+}
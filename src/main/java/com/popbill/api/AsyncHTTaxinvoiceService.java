@@ -0,0 +1,200 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.Date;
+
+import com.popbill.api.hometax.HTTaxinvoice;
+import com.popbill.api.hometax.HTTaxinvoiceJobState;
+import com.popbill.api.hometax.HTTaxinvoiceSearchResult;
+import com.popbill.api.hometax.HTTaxinvoiceSummary;
+import com.popbill.api.hometax.HTTaxinvoiceXMLResponse;
+import com.popbill.api.hometax.QueryType;
+
+/**
+ * Hometax Taxinvoice Async Service Interface.
+ * 
+ * HTTaxinvoiceService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.HTTaxinvoiceService
+ */
+public interface AsyncHTTaxinvoiceService extends AsyncBaseService {
+
+	/**
+	 * 정액제 신청 URL
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getFlatRatePopUpURL(String, String)
+	 */
+	public abstract PopbillFuture<String> getFlatRatePopUpURL(String CorpNum,
+			String UserID);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+
+	/**
+	 * 홈택스 전자(세금)계산서 수집 요청
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#requestJob(String, QueryType, String, String, String)
+	 */
+	public abstract PopbillFuture<String> requestJob(String CorpNum, QueryType queryType,
+			String DType, String SDate, String EDate);
+
+	/**
+	 * 홈택스 전자(세금)계산서 수집 요청
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#requestJob(String, QueryType, String, String, String, String)
+	 */
+	public abstract PopbillFuture<String> requestJob(String CorpNum, QueryType queryType,
+			String DType, String SDate, String EDate, String UserID);
+
+	/**
+	 * 수집 상태 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getJobState(String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceJobState> getJobState(String CorpNum,
+			String JobID);
+
+	/**
+	 * 수집 상태 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getJobState(String, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceJobState> getJobState(String CorpNum,
+			String JobID, String UserID);
+
+	/**
+	 * 수집 상태 목록 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#listActiveJob(String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceJobState[]> listActiveJob(String CorpNum);
+
+	/**
+	 * 수집 상태 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#listActiveJob(String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceJobState[]> listActiveJob(String CorpNum,
+			String UserID);
+
+	/**
+	 * 수집 결과 조회
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#search(String, String, String[], String[], String[], String, String, String, Integer, Integer, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceSearchResult> search(String CorpNum,
+			String JobID, String[] Type, String[] TaxType, String[] PurposeType,
+			String TaxRegIDYN, String TaxRegIDType, String TaxRegID,
+			Integer Page, Integer PerPage, String Order);
+
+	/**
+	 * 수집 결과 조회
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#search(String, String, String[], String[], String[], String, String, String, Integer, Integer, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceSearchResult> search(String CorpNum,
+			String JobID, String[] Type, String[] TaxType, String[] PurposeType,
+			String TaxRegIDYN, String TaxRegIDType, String TaxRegID,
+			Integer Page, Integer PerPage, String Order, String UserID);
+
+	/**
+	 * 수집 결과 요약정보 조회
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#summary(String, String, String[], String[], String[], String, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceSummary> summary(String CorpNum,
+			String JobID, String[] Type, String[] TaxType, String[] PurposeType,
+			String TaxRegIDYN, String TaxRegIDType, String TaxRegID);
+
+	/**
+	 * 수집 결과 요약정보 조회
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#summary(String, String, String[], String[], String[], String, String, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceSummary> summary(String CorpNum,
+			String JobID, String[] Type, String[] TaxType, String[] PurposeType,
+			String TaxRegIDYN, String TaxRegIDType, String TaxRegID,
+			String UserID);
+
+	/**
+	 * 상세정보 확인 - JSON
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getTaxinvoice(String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoice> getTaxinvoice(String CorpNum,
+			String NTSConfirmNum);
+
+	/**
+	 * 상세정보 확인 - JSON
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getTaxinvoice(String, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoice> getTaxinvoice(String CorpNum,
+			String NTSConfirmNum, String UserID);
+
+	/**
+	 * 상세정보 확인 - XML
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getXML(String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceXMLResponse> getXML(String CorpNum,
+			String NTSConfirmNum);
+
+	/**
+	 * 상세정보 확인 - XML
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getXML(String, String, String)
+	 */
+	public abstract PopbillFuture<HTTaxinvoiceXMLResponse> getXML(String CorpNum,
+			String NTSConfirmNum, String UserID);
+
+	/**
+	 * 정액제 서비스 상태 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getFlatRateState(String)
+	 */
+	public abstract PopbillFuture<FlatRateState> getFlatRateState(String CorpNum);
+
+	/**
+	 * 정액제 서비스 상태 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getFlatRateState(String, String)
+	 */
+	public abstract PopbillFuture<FlatRateState> getFlatRateState(String CorpNum,
+			String UserID);
+
+	/**
+	 * 홈택스연계 공인인증서 등록 URL 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getCertificatePopUpURL(String, String)
+	 */
+	public abstract PopbillFuture<String> getCertificatePopUpURL(String CorpNum,
+			String UserID);
+
+	/**
+	 * 홈택스연계 공인인증서 만료일시 확인
+	 * 
+	 * @see com.popbill.api.HTTaxinvoiceService#getCertificateExpireDate(String)
+	 */
+	public abstract PopbillFuture<Date> getCertificateExpireDate(String CorpNum);
+}
@@ -0,0 +1,305 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.File;
+import java.util.Date;
+
+import com.popbill.api.message.AutoDeny;
+import com.popbill.api.message.MSGSearchResult;
+import com.popbill.api.message.Message;
+import com.popbill.api.message.MessageType;
+import com.popbill.api.message.SentMessage;
+
+/**
+ * Message Async Service Interface.
+ * 
+ * MessageService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.MessageService
+ */
+public interface AsyncMessageService extends AsyncBaseService {
+
+	/**
+	 * 회원의 문자메시지 전송단가 확인
+	 * 
+	 * @see com.popbill.api.MessageService#getUnitCost(String, MessageType)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum, MessageType MsgType);
+
+	/**
+	 * 팝빌 문자메시지 관련 URL 확인. 반환한 url은 30초이내에 브라우져에 표시하여야 함.
+	 * 
+	 * @see com.popbill.api.MessageService#getURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 단문문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, String, String, String, String, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, String sender,
+			String receiver, String receiverName, String content,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 단문문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, String, String, String, String, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, String sender,
+			String receiver, String receiverName, String content,
+			Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 단문문자메시지 다량 전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, Message[] Messages,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 단문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, String, String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, String sender,
+			String content, Message[] Messages, Date reserveDT, String UserID);
+
+	/**
+	 * 단문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, String sender,
+			String content, Message[] Messages, Date reserveDT, Boolean adsYN,
+			String UserID);
+
+	/**
+	 * 단문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendSMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendSMS(String CorpNum, String sender,
+			String senderName, String content, Message[] Messages,
+			Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 장문문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, String, String, String, String, String, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, Date reserveDT, String UserID);
+
+	/**
+	 * 장문문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, String, String, String, String, String, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 장문문자메시지 다량 전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, Message[] Messages,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 장문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, String, String, String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, Date reserveDT,
+			String UserID);
+
+	/**
+	 * 장문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, Date reserveDT,
+			Boolean adsYN, String UserID);
+
+	/**
+	 * 장문문자메시지 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendLMS(String, String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendLMS(String CorpNum, String sender,
+			String senderName, String subject, String content,
+			Message[] Messages, Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 멀티문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, String, String, String, String, String, File, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, File file, Date reserveDT, String UserID);
+
+	/**
+	 * 멀티문자메시지 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, String, String, String, String, String, File, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, File file, Date reserveDT, Boolean adsYN,
+			String UserID);
+
+	/**
+	 * 멀티 문자메시지 다량 전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, Message[], File, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, Message[] Messages,
+			File file, Date reserveDT, String UserID);
+
+	/**
+	 * 멀티 문자메시지 다량 전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, String, String, String, Message[], File, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, File file,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 멀티 문자메시지 다량 전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, String, String, String, Message[], File, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, File file,
+			Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 멀티 문자메시지 다량 전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendMMS(String, String, String, String, String, Message[], File, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendMMS(String CorpNum, String sender,
+			String senderName, String subject, String content,
+			Message[] Messages, File file, Date reserveDT, Boolean adsYN,
+			String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, String, String, String, String, String, Date, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, Date reserveDT, String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 1건 전송
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, String, String, String, String, String, Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, String sender,
+			String receiver, String receiverName, String subject,
+			String content, Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 다량 전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, Message[] Messages,
+			Date reserveDT, String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, String, String, String, Message[], Date, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, Date reserveDT,
+			String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, String sender,
+			String subject, String content, Message[] Messages, Date reserveDT,
+			Boolean adsYN, String UserID);
+
+	/**
+	 * 단/장문 문자메시지(메시지 길이에 따라 단문/장문을 선택하여 전송) 다량전송. 발신번호, 내용 동보전송. 1회 최대 1000건.
+	 * 
+	 * @see com.popbill.api.MessageService#sendXMS(String, String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	public abstract PopbillFuture<String> sendXMS(String CorpNum, String sender,
+			String senderName, String subject, String content,
+			Message[] Messages, Date reserveDT, Boolean adsYN, String UserID);
+
+	/**
+	 * 전송상태 확인
+	 * 
+	 * @see com.popbill.api.MessageService#getMessages(String, String)
+	 */
+	public abstract PopbillFuture<SentMessage[]> getMessages(String CorpNum,
+			String receiptNum);
+
+	/**
+	 * 예약 메시지 전송 취소. 예약시간 기준 10분전의 건만 취소 가능.
+	 * 
+	 * @see com.popbill.api.MessageService#cancelReserve(String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelReserve(String CorpNum,
+			String receiptNum, String UserID);
+
+	/**
+	 * 문자전송내역 조회
+	 * 
+	 * @see com.popbill.api.MessageService#search(String, String, String, String[], String[], Boolean, Boolean, int, int, String)
+	 */
+	public abstract PopbillFuture<MSGSearchResult> search(String CorpNum, String SDate,
+			String EDate, String[] State, String[] Item, Boolean ReserveYN,
+			Boolean SenderYN, int Page, int PerPage, String Order);
+
+	/**
+	 * 080 수신거부목록 확인
+	 * 
+	 * @see com.popbill.api.MessageService#getAutoDenyList(String)
+	 */
+	public abstract PopbillFuture<AutoDeny[]> getAutoDenyList(String CorpNum);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.MessageService#getChargeInfo(String, MessageType)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum,
+			MessageType MsgType);
+}
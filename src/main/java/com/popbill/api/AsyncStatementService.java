@@ -0,0 +1,380 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.InputStream;
+
+import com.popbill.api.statement.Statement;
+import com.popbill.api.statement.StatementInfo;
+import com.popbill.api.statement.StatementLog;
+import com.popbill.api.statement.StmtSearchResult;
+
+/**
+ * Statement Async Service Interface.
+ * 
+ * StatementService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.StatementService
+ */
+public interface AsyncStatementService extends AsyncBaseService {
+
+	/**
+	 * 팝빌 전자명세서 관련 URL 확인, 반환된 URL은 30초이내에 브라우저에 표시해야 함.
+	 * 
+	 * @see com.popbill.api.StatementService#getURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 명세서 발행단가 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getUnitCost(String, int)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum, int ItemCode);
+
+	/**
+	 * 문서관리번호 사용여부 확인
+	 * 
+	 * @see com.popbill.api.StatementService#checkMgtKeyInUse(String, int, String)
+	 */
+	public abstract PopbillFuture<Boolean> checkMgtKeyInUse(String CorpNum, int ItemCode,
+			String MgtKey);
+
+	/**
+	 * 명세서 1건 임시저장
+	 * 
+	 * @see com.popbill.api.StatementService#register(String, Statement)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum, Statement statement);
+
+	/**
+	 * 명세서 1건 임시저장
+	 * 
+	 * @see com.popbill.api.StatementService#register(String, Statement, String)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum, Statement statement,
+			String UserID);
+
+	/**
+	 * 임시저장된 전자명세서 정보 수정
+	 * 
+	 * @see com.popbill.api.StatementService#update(String, int, String, Statement)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, int ItemCode,
+			String MgtKey, Statement statement);
+
+	/**
+	 * 임시저장된 전자명세서 정보 수정
+	 * 
+	 * @see com.popbill.api.StatementService#update(String, int, String, Statement, String)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, int ItemCode,
+			String MgtKey, Statement statement, String UserID);
+
+	/**
+	 * 명세서 삭제, 삭제가능한 건만 삭제처리되고, 삭제 불가능한 상태의 경우 PopbillException 발생함.
+	 * 
+	 * @see com.popbill.api.StatementService#delete(String, int, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, int ItemCode,
+			String MgtKey);
+
+	/**
+	 * 명세서 삭제, 삭제가능한 건만 삭제처리되고, 삭제 불가능한 상태의 경우 PopbillException 발생함.
+	 * 
+	 * @see com.popbill.api.StatementService#delete(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 명세서 발행
+	 * 
+	 * @see com.popbill.api.StatementService#issue(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, int ItemCode,
+			String MgtKey, String Memo);
+
+	/**
+	 * 명세서 발행
+	 * 
+	 * @see com.popbill.api.StatementService#issue(String, int, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, int ItemCode,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 명세서 발행
+	 * 
+	 * @see com.popbill.api.StatementService#issue(String, int, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, int ItemCode,
+			String MgtKey, String Memo, String EmailSubject, String UserID);
+
+	/**
+	 * 명세서 발행취소
+	 * 
+	 * @see com.popbill.api.StatementService#cancel(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancel(String CorpNum, int ItemCode,
+			String MgtKey, String Memeo);
+
+	/**
+	 * 명세서 발행취소
+	 * 
+	 * @see com.popbill.api.StatementService#cancel(String, int, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancel(String CorpNum, int ItemCode,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 알림메일 재전송
+	 * 
+	 * @see com.popbill.api.StatementService#sendEmail(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, int ItemCode,
+			String MgtKey, String Receiver);
+
+	/**
+	 * 알림메일 재전송
+	 * 
+	 * @see com.popbill.api.StatementService#sendEmail(String, int, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, int ItemCode,
+			String MgtKey, String Receiver, String UserID);
+
+	/**
+	 * 문자 전송 요청
+	 * 
+	 * @see com.popbill.api.StatementService#sendSMS(String, int, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, int ItemCode,
+			String MgtKey, String Sender, String Receiver, String Contents);
+
+	/**
+	 * 문자 전송 요청
+	 * 
+	 * @see com.popbill.api.StatementService#sendSMS(String, int, String, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, int ItemCode,
+			String MgtKey, String Sender, String Receiver, String Contents,
+			String UserID);
+
+	/**
+	 * 팩스 전송 요청
+	 * 
+	 * @see com.popbill.api.StatementService#sendFAX(String, int, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, int ItemCode,
+			String MgtKey, String Sender, String Receiver);
+
+	/**
+	 * 팩스 전송 요청
+	 * 
+	 * @see com.popbill.api.StatementService#sendFAX(String, int, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, int ItemCode,
+			String MgtKey, String Sender, String Receiver, String UserID);
+
+	/**
+	 * 명세서 상세정보 확인.
+	 * 
+	 * @see com.popbill.api.StatementService#getDetailInfo(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Statement> getDetailInfo(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 명세서 상태/요약 정보 확인.
+	 * 
+	 * @see com.popbill.api.StatementService#getInfo(String, int, String)
+	 */
+	public abstract PopbillFuture<StatementInfo> getInfo(String CorpNum, int ItemCode,
+			String MgtKey);
+
+	/**
+	 * 명세서 상태/요약 정보 대량확인 (최대 1000건).
+	 * 
+	 * @see com.popbill.api.StatementService#getInfos(String, int, String[])
+	 */
+	public abstract PopbillFuture<StatementInfo[]> getInfos(String CorpNum, int ItemCode,
+			String[] MgtKeyList);
+
+	/**
+	 * 명세서 문서이력 확인.
+	 * 
+	 * @see com.popbill.api.StatementService#getLogs(String, int, String)
+	 */
+	public abstract PopbillFuture<StatementLog[]> getLogs(String CorpNum, int ItemCode,
+			String MgtKey);
+
+	/**
+	 * 명세서 팝빌화면 팝업 URL 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getPopUpURL(String, int, String, String)
+	 */
+	public abstract PopbillFuture<String> getPopUpURL(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 명세서 인쇄 팝업 URL 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getPrintURL(String, int, String, String)
+	 */
+	public abstract PopbillFuture<String> getPrintURL(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 명세서 인쇄 팝업 (공급받는자용) URL 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getEPrintURL(String, int, String, String)
+	 */
+	public abstract PopbillFuture<String> getEPrintURL(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 메일(공급받는자) 링크 URL 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getMailURL(String, int, String, String)
+	 */
+	public abstract PopbillFuture<String> getMailURL(String CorpNum, int ItemCode,
+			String MgtKey, String UserID);
+
+	/**
+	 * 다량 인쇄 팝업 URL 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getMassPrintURL(String, int, String[], String)
+	 */
+	public abstract PopbillFuture<String> getMassPrintURL(String CorpNum, int ItemCode,
+			String[] MgtKeyList, String UserID);
+
+	/**
+	 * 명세서 파일첨부
+	 * 
+	 * @see com.popbill.api.StatementService#attachFile(String, int, String, String, InputStream, String)
+	 */
+	public abstract PopbillFuture<Response> attachFile(String CorpNum, int ItemCode,
+			String MgtKey, String DisplayName, InputStream FileData,
+			String UserID);
+
+	/**
+	 * 첨부파일 목록 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getFiles(String, int, String)
+	 */
+	public abstract PopbillFuture<AttachedFile[]> getFiles(String CorpNum, int ItemCode,
+			String MgtKey);
+
+	/**
+	 * 첨부파일 삭제
+	 * 
+	 * @see com.popbill.api.StatementService#deleteFile(String, int, String, String)
+	 */
+	public abstract PopbillFuture<Response> deleteFile(String CorpNum, int ItemCode,
+			String MgtKey, String FileID);
+
+	/**
+	 * 첨부파일 삭제
+	 * 
+	 * @see com.popbill.api.StatementService#deleteFile(String, int, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> deleteFile(String CorpNum, int ItemCode,
+			String MgtKey, String FileID, String UserID);
+
+	/**
+	 * 명세서 1건 선팩스전송
+	 * 
+	 * @see com.popbill.api.StatementService#FAXSend(String, Statement, String, String)
+	 */
+	public abstract PopbillFuture<String> FAXSend(String CorpNum, Statement statement,
+			String SendNum, String receiveNum);
+
+	/**
+	 * 명세서 1건 선팩스전송
+	 * 
+	 * @see com.popbill.api.StatementService#FAXSend(String, Statement, String, String, String)
+	 */
+	public abstract PopbillFuture<String> FAXSend(String CorpNum, Statement statement,
+			String sendNum, String receiveNum, String UserID);
+
+	/**
+	 * 명세서 즉시밣행
+	 * 
+	 * @see com.popbill.api.StatementService#registIssue(String, Statement)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Statement statement);
+
+	/**
+	 * 명세서 즉시발행
+	 * 
+	 * @see com.popbill.api.StatementService#registIssue(String, Statement, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Statement statement, String Memo);
+
+	/**
+	 * 명세서 즉시발행
+	 * 
+	 * @see com.popbill.api.StatementService#registIssue(String, Statement, String, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Statement statement, String Memo, String UserID);
+
+	/**
+	 * 다른 전자명세서 첨부
+	 * 
+	 * @see com.popbill.api.StatementService#attachStatement(String, int, String, int, String)
+	 */
+	public abstract PopbillFuture<Response> attachStatement(String CorpNum, int ItemCode,
+			String MgtKey, int SubItemCode, String SubMgtKey);
+
+	/**
+	 * 다른 전자명세서 첨부해제
+	 * 
+	 * @see com.popbill.api.StatementService#detachStatement(String, int, String, int, String)
+	 */
+	public abstract PopbillFuture<Response> detachStatement(String CorpNum, int ItemCode,
+			String MgtKey, int SubItemCode, String SubMgtKey);
+
+	/**
+	 * 전자명세서 목록 조회
+	 * 
+	 * @see com.popbill.api.StatementService#search(String, String, String, String, String[], int[], int, int, String)
+	 */
+	public abstract PopbillFuture<StmtSearchResult> search(String CorpNum, String DType,
+			String SDate, String EDate, String[] State, int[] ItemCode,
+			int Page, int PerPage, String Order);
+
+	/**
+	 * 전자명세서 목록 조회
+	 * 
+	 * @see com.popbill.api.StatementService#search(String, String, String, String, String[], int[], String, int, int, String)
+	 */
+	public abstract PopbillFuture<StmtSearchResult> search(String CorpNum, String DType,
+			String SDate, String EDate, String[] State, int[] ItemCode,
+			String QString, int Page, int PerPage, String Order);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.StatementService#getChargeInfo(String, int)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum, int ItemCode);
+}
@@ -0,0 +1,569 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.InputStream;
+import java.util.Date;
+
+import com.popbill.api.taxinvoice.EmailPublicKey;
+import com.popbill.api.taxinvoice.MgtKeyType;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceInfo;
+import com.popbill.api.taxinvoice.TaxinvoiceLog;
+
+/**
+ * Taxinvoice Async Service Interface.
+ * 
+ * TaxinvoiceService 의 메소드를 비동기로 호출합니다. 호출 실패시 PopbillFuture 는
+ * PopbillException 으로 완료됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.TaxinvoiceService
+ */
+public interface AsyncTaxinvoiceService extends AsyncBaseService {
+
+	/**
+	 * 회원의 세금계산서 발행단가 확인
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getUnitCost(String)
+	 */
+	public abstract PopbillFuture<Float> getUnitCost(String CorpNum);
+
+	/**
+	 * 연동회원이 등록한 공인인증서의 만료일시 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getCertificateExpireDate(String)
+	 */
+	public abstract PopbillFuture<Date> getCertificateExpireDate(String CorpNum);
+
+	/**
+	 * 팝빌 세금계산서 관련 URL 확인. 반환한 url은 30초이내에 브라우져에 표시하여야 함.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getURL(String, String, String)
+	 */
+	public abstract PopbillFuture<String> getURL(String CorpNum, String UserID,
+			String TOGO);
+
+	/**
+	 * 연동관리번호 등록여부 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#checkMgtKeyInUse(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<Boolean> checkMgtKeyInUse(String CorpNum,
+			MgtKeyType KeyType, String MgtKey);
+
+	/**
+	 * 대량사업자간 Email 유통을 위한 국세청인증번호와 이메일 주소 반환.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getEmailPublicKeys(String)
+	 */
+	public abstract PopbillFuture<EmailPublicKey[]> getEmailPublicKeys(String CorpNum);
+
+	/**
+	 * 세금계산서 1건 임시저장.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#register(String, Taxinvoice)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum,
+			Taxinvoice taxinvoice);
+
+	/**
+	 * 세금계산서 1건 임시저장.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#register(String, Taxinvoice, String)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum,
+			Taxinvoice taxinvoice, String UserID);
+
+	/**
+	 * 세금계산서 1건 임시저장.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#register(String, Taxinvoice, String, boolean)
+	 */
+	public abstract PopbillFuture<Response> register(String CorpNum,
+			Taxinvoice taxinvoice, String UserID, boolean writeSpecification);
+
+	/**
+	 * 임시저장된 세금계산서 정보 수정.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#update(String, MgtKeyType, String, Taxinvoice)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, Taxinvoice taxinvoice);
+
+	/**
+	 * 임시저장된 세금계산서 정보 수정.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#update(String, MgtKeyType, String, Taxinvoice, String)
+	 */
+	public abstract PopbillFuture<Response> update(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, Taxinvoice taxinvoice, String UserID);
+
+	/**
+	 * 세금계산서 삭제. 삭제가능한 건만 삭제처리되고, 불가능한 건은 PopbillException 발생함.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#delete(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, MgtKeyType KeyType,
+			String MgtKey);
+
+	/**
+	 * 세금계산서 삭제. 삭제가능한 건만 삭제처리되고, 불가능한 건은 PopbillException 발생함.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#delete(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> delete(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String UserID);
+
+	/**
+	 * 정발행 세금계산서 발행예정 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#send(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> send(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 정발행 세금계산서 발행예정 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#send(String, MgtKeyType, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> send(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String EmailSubject, String UserID);
+
+	/**
+	 * 정발행 세금계산서 발행예정 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#send(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> send(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 발행예정 세금계산서의 취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelSend(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelSend(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo);
+
+	/**
+	 * 발행예정 세금계산서의 취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelSend(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelSend(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 발행예정 세금계산서의 공급받는자의 승인 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#accept(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> accept(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 발행예정 세금계산서의 공급받는자의 승인 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#accept(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> accept(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 발행예정 세금계산서의 공급받는자의 거부 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#deny(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> deny(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 발행예정 세금계산서의 공급받는자의 거부 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#deny(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> deny(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 세금계산서 발행.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#issue(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 세금계산서 발행.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#issue(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 세금계산서 발행.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#issue(String, MgtKeyType, String, String, boolean, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, boolean ForceIssue, String UserID);
+
+	/**
+	 * 세금계산서 발행.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#issue(String, MgtKeyType, String, String, String, boolean, String)
+	 */
+	public abstract PopbillFuture<Response> issue(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String EmailSubject, boolean ForceIssue,
+			String UserID);
+
+	/**
+	 * 세금계산서 발행취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelIssue(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelIssue(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo);
+
+	/**
+	 * 세금계산서 발행취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelIssue(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelIssue(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 역발행 세금계산서의 역)발행요청 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#request(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> request(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 역발행 세금계산서의 역)발행요청 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#request(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> request(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 역발행 세금계산서의 공급자의 발행거부 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#refuse(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> refuse(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo);
+
+	/**
+	 * 역발행 세금계산서의 공급자의 발행거부 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#refuse(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> refuse(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 역발행 세금계산서의 역)발행요청 취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelRequest(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelRequest(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo);
+
+	/**
+	 * 역발행 세금계산서의 역)발행요청 취소 처리.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#cancelRequest(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> cancelRequest(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String Memo, String UserID);
+
+	/**
+	 * 발행된 세금계산서의 국세청 즉시 전송 요청.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendToNTS(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<Response> sendToNTS(String CorpNum, MgtKeyType KeyType,
+			String MgtKey);
+
+	/**
+	 * 발행된 세금계산서의 국세청 즉시 전송 요청.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendToNTS(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendToNTS(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String UserID);
+
+	/**
+	 * 이메일 재전송 요청.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendEmail(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Receiver);
+
+	/**
+	 * 이메일 재전송 요청.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendEmail(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendEmail(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Receiver, String UserID);
+
+	/**
+	 * 문자 재전송 요청
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendSMS(String, MgtKeyType, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Sender, String Receiver, String Contents);
+
+	/**
+	 * 문자 재전송 요청
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendSMS(String, MgtKeyType, String, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendSMS(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Sender, String Receiver, String Contents,
+			String UserID);
+
+	/**
+	 * 팩스 전송 요청
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendFAX(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Sender, String Receiver);
+
+	/**
+	 * 팩스 전송 요청
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#sendFAX(String, MgtKeyType, String, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> sendFAX(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String Sender, String Receiver, String UserID);
+
+	/**
+	 * 세금계산서 상세정보 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getDetailInfo(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<Taxinvoice> getDetailInfo(String CorpNum,
+			MgtKeyType KeyType, String MgtKey);
+
+	/**
+	 * 세금계산서 상태정보 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getInfo(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<TaxinvoiceInfo> getInfo(String CorpNum,
+			MgtKeyType KeyType, String MgtKey);
+
+	/**
+	 * 세금계산서 상태정보 대량(최대 1000건) 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getInfos(String, MgtKeyType, String[])
+	 */
+	public abstract PopbillFuture<TaxinvoiceInfo[]> getInfos(String CorpNum,
+			MgtKeyType KeyType, String[] MgtKeyList);
+
+	/**
+	 * 세금계산서 문서이력 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getLogs(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<TaxinvoiceLog[]> getLogs(String CorpNum,
+			MgtKeyType KeyType, String MgtKey);
+
+	/**
+	 * 세금계산서 팝빌화면 팝업 URL 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getPopUpURL(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<String> getPopUpURL(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String UserID);
+
+	/**
+	 * 세금계산서 이메일의 링크 URL 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getMailURL(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<String> getMailURL(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String UserID);
+
+	/**
+	 * 세금계산서 팝빌 인쇄화면 URL 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getPrintURL(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<String> getPrintURL(String CorpNum, MgtKeyType KeyType,
+			String MgtKey, String UserID);
+
+	/**
+	 * 세금계산서 팝빌 인쇄화면(공급받는자용) URL 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getEPrintURL(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<String> getEPrintURL(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String UserID);
+
+	/**
+	 * 다량 인쇄 URL 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getMassPrintURL(String, MgtKeyType, String[], String)
+	 */
+	public abstract PopbillFuture<String> getMassPrintURL(String CorpNum,
+			MgtKeyType KeyType, String[] MgtKeyList, String UserID);
+
+	/**
+	 * 임시저장 세금계산서에 첨부파일 추가.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#attachFile(String, MgtKeyType, String, String, InputStream)
+	 */
+	public abstract PopbillFuture<Response> attachFile(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String DisplayName,
+			InputStream FileData);
+
+	/**
+	 * 임시저장 세금계산서에 첨부파일 추가.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#attachFile(String, MgtKeyType, String, String, InputStream, String)
+	 */
+	public abstract PopbillFuture<Response> attachFile(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String DisplayName,
+			InputStream FileData, String UserID);
+
+	/**
+	 * 첨부파일 목록 확인.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getFiles(String, MgtKeyType, String)
+	 */
+	public abstract PopbillFuture<AttachedFile[]> getFiles(String CorpNum,
+			MgtKeyType KeyType, String MgtKey);
+
+	/**
+	 * 첨부파일 삭제.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#deleteFile(String, MgtKeyType, String, String)
+	 */
+	public abstract PopbillFuture<Response> deleteFile(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String FileID);
+
+	/**
+	 * 첨부파일 삭제.
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#deleteFile(String, MgtKeyType, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> deleteFile(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, String FileID, String UserID);
+
+	/**
+	 * 세금계산서 목록조회
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, Integer, Integer, String)
+	 */
+	public abstract PopbillFuture<TISearchResult> Search(String CorpNum,
+			MgtKeyType KeyType, String DType, String SDate, String EDate,
+			String[] State, String[] Type, String[] TaxType, Boolean LateOnly,
+			Integer Page, Integer PerPage, String Order);
+
+	/**
+	 * 세금계산서 목록조회
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, String, String, String, Integer, Integer, String)
+	 */
+	public abstract PopbillFuture<TISearchResult> Search(String CorpNum,
+			MgtKeyType KeyType, String DType, String SDate, String EDate,
+			String[] State, String[] Type, String[] TaxType, Boolean LateOnly,
+			String TaxRegIDType, String TaxRegID, String TaxRegIDYN,
+			Integer Page, Integer PerPage, String Order);
+
+	/**
+	 * 세금계산서 목록조회
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, String, String, String, String, Integer, Integer, String)
+	 */
+	public abstract PopbillFuture<TISearchResult> Search(String CorpNum,
+			MgtKeyType KeyType, String DType, String SDate, String EDate,
+			String[] State, String[] Type, String[] TaxType, Boolean LateOnly,
+			String TaxRegIDType, String TaxRegID, String TaxRegIDYN,
+			String QString, Integer Page, Integer PerPage, String Order);
+
+	/**
+	 * 세금계산서 즉시발행
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#registIssue(String, Taxinvoice, Boolean)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Taxinvoice taxinvoice, Boolean WriteSpecification);
+
+	/**
+	 * 세금계산서 즉시발행
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#registIssue(String, Taxinvoice, String, Boolean)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Taxinvoice taxinvoice, String Memo, Boolean ForceIssue);
+
+	/**
+	 * 세금계산서 즉시발행
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#registIssue(String, Taxinvoice, Boolean, String, Boolean, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Taxinvoice taxinvoice, Boolean WriteSpecification, String Memo,
+			Boolean ForceIssue, String DealInvoiceKey);
+
+	/**
+	 * 세금계산서 즉시발행
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#registIssue(String, Taxinvoice, Boolean, String, Boolean, String, String, String)
+	 */
+	public abstract PopbillFuture<Response> registIssue(String CorpNum,
+			Taxinvoice taxinvoice, Boolean WriteSpecification, String Memo,
+			Boolean ForceIssue, String DealInvoiceKey, String EmailSubject,
+			String UserID);
+
+	/**
+	 * 전자명세서 첨부
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#attachStatement(String, MgtKeyType, String, int, String)
+	 */
+	public abstract PopbillFuture<Response> attachStatement(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, int SubItemCode, String SubMgtKey);
+
+	/**
+	 * 전자명세서 첨부해제
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#detachStatement(String, MgtKeyType, String, int, String)
+	 */
+	public abstract PopbillFuture<Response> detachStatement(String CorpNum,
+			MgtKeyType KeyType, String MgtKey, int SubItemCode, String SubMgtKey);
+
+	/**
+	 * 과금정보 확인
+	 * 
+	 * @see com.popbill.api.TaxinvoiceService#getChargeInfo(String)
+	 */
+	public abstract PopbillFuture<ChargeInfo> getChargeInfo(String CorpNum);
+}
@@ -14,29 +14,59 @@
  */
 package com.popbill.api;
 
-import java.io.BufferedReader;
-import java.io.DataOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.net.HttpURLConnection;
-import java.net.ProtocolException;
+import java.net.ConnectException;
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.net.UnknownHostException;
 import java.nio.charset.Charset;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
-import java.util.Date;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Set;
 import java.util.TimeZone;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPInputStream;
 
 import kr.co.linkhub.auth.LinkhubException;
 import kr.co.linkhub.auth.Token;
 import kr.co.linkhub.auth.TokenBuilder;
 
-import com.google.gson.Gson;
+import com.popbill.api.transport.Bulkhead;
+import com.popbill.api.transport.CircuitBreaker;
+import com.popbill.api.transport.CompressionPolicy;
+import com.popbill.api.transport.GzipRequestBody;
+import com.popbill.api.transport.HedgingPolicy;
+import com.popbill.api.transport.HttpStatusException;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.JsonCodec;
+import com.popbill.api.transport.JsonRequestBody;
+import com.popbill.api.transport.MultipartRequestBody;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.OperationCache;
+import com.popbill.api.transport.PooledTransport;
+import com.popbill.api.transport.PopbillMetrics;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RateLimiter;
+import com.popbill.api.transport.RequestBody;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
 
 /**
  * Abstract class for Popbill Services.
@@ -52,14 +82,36 @@ public abstract class BaseServiceImp implements BaseService {
 	private final String ServiceURL_TEST = "https://popbill_test.linkhub.co.kr";
 	private final String APIVersion = "1.0";
 
-	private TokenBuilder tokenBuilder;
+	private volatile TokenBuilder tokenBuilder;
 
 	private boolean isTest;
 	private String linkID;
 	private String secretKey;
-	private Gson _gsonParser = new Gson();
-
-	private Map<String, Token> tokenTable = new HashMap<String, Token>();
+	private volatile String serviceURL;
+	private volatile String authURL;
+	private JsonCodec jsonCodec;
+
+	private final ServerClock serverClock = new LinkhubServerClock();
+	private final TokenRegistry.TokenLoader tokenLoader = new SessionTokenLoader(null);
+	private volatile Set<String> scopeSet;
+
+	private TokenRegistry tokenRegistry;
+
+	private PopbillTransport transport;
+
+	private RetryPolicy retryPolicy;
+	private IsolationPolicy isolationPolicy;
+	private RateLimiter rateLimiter;
+	private HedgingPolicy hedgingPolicy;
+	private CompressionPolicy compressionPolicy;
+	private PopbillMetrics metrics;
+	private ResponseCache responseCache;
+	private RequestCoalescer requestCoalescer;
+	private volatile PopbillCallListener[] callListeners = new PopbillCallListener[0];
+	private long callTimeout;
+	private volatile String serviceName;
+	private volatile OperationCache operationCache;
+	private volatile String[] isolationTarget;
 
 	/**
 	 * 테스트모드 확인. 기본값은 false.
@@ -112,21 +164,435 @@ public abstract class BaseServiceImp implements BaseService {
 	}
 
 	protected String getServiceURL() {
+		String url = serviceURL;
+		if (url != null)
+			return url;
+
 		return isTest ? ServiceURL_TEST : ServiceURL_REAL;
 	}
 
+	/**
+	 * 팝빌 API 서버 URL 설정. 설정하지 않은 경우 테스트모드에 따라 결정됩니다.
+	 * 시험용 Mock 서버나 중계 서버를 사용하는 경우 지정합니다.
+	 * 
+	 * @param serviceURL
+	 *            base URL of Popbill API. (ex. http://127.0.0.1:8080) null for
+	 *            default.
+	 */
+	public void setServiceURL(String serviceURL) {
+		this.serviceURL = trimSlash(serviceURL);
+	}
+
+	/**
+	 * 링크허브 인증 서버 URL 확인.
+	 * 
+	 * @return URL of Linkhub auth server. null if default of linkhub-auth.
+	 */
+	public String getAuthURL() {
+		return authURL;
+	}
+
+	/**
+	 * 링크허브 인증 서버 URL 설정. 설정한 경우 토큰 발급, 서버 시간과 잔여포인트 조회를
+	 * 지정한 서버로 요청합니다. 설정하지 않은 경우 linkhub-auth 의 기본 서버를
+	 * 사용합니다.
+	 * 
+	 * @param authURL
+	 *            base URL of Linkhub auth server. null for default.
+	 */
+	public void setAuthURL(String authURL) {
+		this.authURL = trimSlash(authURL);
+	}
+
+	private static String trimSlash(String url) {
+		if (url == null || url.isEmpty())
+			return null;
+
+		while (url.endsWith("/"))
+			url = url.substring(0, url.length() - 1);
+
+		return url;
+	}
+
+	/**
+	 * 인증 서버 URL 을 지정한 경우의 인증 클라이언트.
+	 * 
+	 * @return LinkhubAuthClient, or null to use linkhub-auth.
+	 */
+	private LinkhubAuthClient getAuthClient() {
+		String url = authURL;
+		if (url == null)
+			return null;
+
+		return new LinkhubAuthClient(url, getLinkID(), getSecretKey(),
+				getTransport(), getJsonCodec());
+	}
+
+	/**
+	 * HTTP Transport 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * PooledTransport.getDefault() 를 사용합니다.
+	 * 
+	 * @return transport.
+	 */
+	public PopbillTransport getTransport() {
+		if (transport == null)
+			return PooledTransport.getDefault();
+
+		return transport;
+	}
+
+	/**
+	 * HTTP Transport 설정. 연결 풀 크기나 유휴시간을 변경하려면 직접 생성한
+	 * PooledTransport 를 설정합니다.
+	 * 
+	 * @param transport
+	 *            PopbillTransport.
+	 */
+	public void setTransport(PopbillTransport transport) {
+		this.transport = transport;
+	}
+
+	/**
+	 * 재시도 정책 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * RetryPolicy.getDefault() 를 사용합니다.
+	 * 
+	 * @return retry policy.
+	 */
+	public RetryPolicy getRetryPolicy() {
+		if (retryPolicy == null)
+			return RetryPolicy.getDefault();
+
+		return retryPolicy;
+	}
+
+	/**
+	 * 재시도 정책 설정. 재시도하지 않으려면 RetryPolicy.none() 을 설정합니다.
+	 * 
+	 * @param retryPolicy
+	 *            RetryPolicy.
+	 */
+	public void setRetryPolicy(RetryPolicy retryPolicy) {
+		this.retryPolicy = retryPolicy;
+	}
+
+	/**
+	 * 회로 차단기 및 동시 호출 제한 정책 확인. 설정하지 않은 경우 서비스 객체들이
+	 * 공유하는 IsolationPolicy.getDefault() 를 사용합니다.
+	 * 
+	 * @return isolation policy.
+	 */
+	public IsolationPolicy getIsolationPolicy() {
+		if (isolationPolicy == null)
+			return IsolationPolicy.getDefault();
+
+		return isolationPolicy;
+	}
+
+	/**
+	 * 회로 차단기 및 동시 호출 제한 정책 설정. 사용하지 않으려면
+	 * IsolationPolicy.none() 을 설정합니다.
+	 * 
+	 * @param isolationPolicy
+	 *            IsolationPolicy.
+	 */
+	public void setIsolationPolicy(IsolationPolicy isolationPolicy) {
+		this.isolationPolicy = isolationPolicy;
+	}
+
+	/**
+	 * 호출 속도 제한 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * RateLimiter.getDefault() 를 사용하며, 기본적으로 제한이 없습니다.
+	 * 
+	 * @return rate limiter.
+	 */
+	public RateLimiter getRateLimiter() {
+		if (rateLimiter == null)
+			return RateLimiter.getDefault();
+
+		return rateLimiter;
+	}
+
+	/**
+	 * 호출 속도 제한 설정.
+	 * 
+	 * @param rateLimiter
+	 *            RateLimiter.
+	 */
+	public void setRateLimiter(RateLimiter rateLimiter) {
+		this.rateLimiter = rateLimiter;
+	}
+
+	/**
+	 * 조회 요청 재전송 정책 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * HedgingPolicy.getDefault() 를 사용하며, 기본적으로 재전송하지 않습니다.
+	 * 
+	 * @return hedging policy.
+	 */
+	public HedgingPolicy getHedgingPolicy() {
+		if (hedgingPolicy == null)
+			return HedgingPolicy.getDefault();
+
+		return hedgingPolicy;
+	}
+
+	/**
+	 * 조회 요청 재전송 정책 설정.
+	 * 
+	 * @param hedgingPolicy
+	 *            HedgingPolicy.
+	 */
+	public void setHedgingPolicy(HedgingPolicy hedgingPolicy) {
+		this.hedgingPolicy = hedgingPolicy;
+	}
+
+	/**
+	 * 요청 본문 압축 정책 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * CompressionPolicy.getDefault() 를 사용하며, 기본적으로 압축하지 않습니다.
+	 * 
+	 * @return compression policy.
+	 */
+	public CompressionPolicy getCompressionPolicy() {
+		if (compressionPolicy == null)
+			return CompressionPolicy.getDefault();
+
+		return compressionPolicy;
+	}
+
+	/**
+	 * 요청 본문 압축 정책 설정.
+	 * 
+	 * @param compressionPolicy
+	 *            CompressionPolicy.
+	 */
+	public void setCompressionPolicy(CompressionPolicy compressionPolicy) {
+		this.compressionPolicy = compressionPolicy;
+	}
+
+	/**
+	 * 호출 측정 구현 확인. 설정하지 않은 경우 PopbillMetrics.NONE 입니다.
+	 * 
+	 * @return metrics.
+	 */
+	public PopbillMetrics getMetrics() {
+		if (metrics == null)
+			return PopbillMetrics.NONE;
+
+		return metrics;
+	}
+
+	/**
+	 * 호출 측정 구현 설정. (ex. InMemoryMetrics)
+	 * 
+	 * @param metrics
+	 *            PopbillMetrics.
+	 */
+	public void setMetrics(PopbillMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * JSON Codec 확인. 설정하지 않은 경우 JsonCodecs.getDefault() 를 사용합니다.
+	 * 
+	 * @return JSON codec.
+	 */
+	public JsonCodec getJsonCodec() {
+		if (jsonCodec == null)
+			return JsonCodecs.getDefault();
+
+		return jsonCodec;
+	}
+
+	/**
+	 * 요청과 응답 본문의 JSON Codec 설정.
+	 * 
+	 * @param jsonCodec
+	 *            JsonCodec. (ex. GsonJsonCodec)
+	 */
+	public void setJsonCodec(JsonCodec jsonCodec) {
+		this.jsonCodec = jsonCodec;
+	}
+
+	/**
+	 * 조회 응답 캐시 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * ResponseCache.getDefault() 를 사용하며, 기본적으로 보관하지 않습니다.
+	 * 
+	 * @return response cache.
+	 */
+	public ResponseCache getResponseCache() {
+		if (responseCache == null)
+			return ResponseCache.getDefault();
+
+		return responseCache;
+	}
+
+	/**
+	 * 조회 응답 캐시 설정. 회사정보, 담당자 수정시의 자동 삭제는 이 서비스 객체의
+	 * 캐시에만 적용되므로, 여러 서비스 객체가 같은 캐시를 공유하는 것을 권장합니다.
+	 * 
+	 * @param responseCache
+	 *            ResponseCache.
+	 */
+	public void setResponseCache(ResponseCache responseCache) {
+		this.responseCache = responseCache;
+	}
+
+	/**
+	 * 동일 조회 요청 병합기 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * RequestCoalescer.getDefault() 를 사용합니다.
+	 * 
+	 * @return request coalescer.
+	 */
+	public RequestCoalescer getRequestCoalescer() {
+		if (requestCoalescer == null)
+			return RequestCoalescer.getDefault();
+
+		return requestCoalescer;
+	}
+
+	/**
+	 * 동일 조회 요청 병합기 설정. 병합하지 않으려면 RequestCoalescer.none() 을
+	 * 설정합니다.
+	 * 
+	 * @param requestCoalescer
+	 *            RequestCoalescer.
+	 */
+	public void setRequestCoalescer(RequestCoalescer requestCoalescer) {
+		this.requestCoalescer = requestCoalescer;
+	}
+
+	/**
+	 * 호출 Listener 등록. 등록된 Listener 가 없으면 호출 정보를 만들지 않습니다.
+	 * 
+	 * @param listener
+	 *            PopbillCallListener.
+	 */
+	public synchronized void addCallListener(PopbillCallListener listener) {
+		if (listener == null)
+			throw new IllegalArgumentException("listener must not be null.");
+
+		PopbillCallListener[] listeners = new PopbillCallListener[callListeners.length + 1];
+		System.arraycopy(callListeners, 0, listeners, 0, callListeners.length);
+		listeners[callListeners.length] = listener;
+
+		callListeners = listeners;
+	}
+
+	/**
+	 * 호출 Listener 해제.
+	 * 
+	 * @param listener
+	 *            PopbillCallListener.
+	 */
+	public synchronized void removeCallListener(PopbillCallListener listener) {
+		List<PopbillCallListener> listeners = new ArrayList<PopbillCallListener>(
+				Arrays.asList(callListeners));
+
+		if (listeners.remove(listener))
+			callListeners = listeners.toArray(new PopbillCallListener[listeners
+					.size()]);
+	}
+
+	/**
+	 * 호출 제한시간 확인. 기본값은 0 (제한없음).
+	 * 
+	 * @return call timeout in milliseconds.
+	 */
+	public long getCallTimeout() {
+		return callTimeout;
+	}
+
+	/**
+	 * 호출 제한시간 설정. 토큰 발급, 연결, 전송, 수신과 재시도 대기를 모두 포함한
+	 * 호출 1건의 제한시간이며, 현재 스레드에 Deadline 이 적용중이면 더 이른 기한이
+	 * 적용됩니다. 연결과 수신 대기 제한은 PooledTransport 에서 설정합니다.
+	 * 
+	 * @param callTimeout
+	 *            call timeout in milliseconds. 0 is unlimited.
+	 */
+	public void setCallTimeout(long callTimeout) {
+		if (callTimeout < 0)
+			throw new IllegalArgumentException("callTimeout must not be negative.");
+
+		this.callTimeout = callTimeout;
+	}
+
+	/**
+	 * 서버 시간 확인. 토큰 만료여부는 이 시간을 기준으로 확인합니다. 재측정 주기는
+	 * getServerClock().setSyncInterval() 로 변경할 수 있습니다.
+	 * 
+	 * @return clock of Linkhub server.
+	 */
+	public ServerClock getServerClock() {
+		return serverClock;
+	}
+
+	/**
+	 * 세션토큰 저장소 확인. 설정하지 않은 경우 서비스 객체들이 공유하는
+	 * TokenRegistry.getDefault() 를 사용합니다.
+	 * 
+	 * @return token registry.
+	 */
+	public TokenRegistry getTokenRegistry() {
+		if (tokenRegistry == null)
+			return TokenRegistry.getDefault();
+
+		return tokenRegistry;
+	}
+
+	/**
+	 * 세션토큰 저장소 설정. 다른 서비스 객체와 토큰을 공유하지 않으려면 직접 생성한
+	 * TokenRegistry 를 설정합니다.
+	 * 
+	 * @param tokenRegistry
+	 *            TokenRegistry.
+	 */
+	public void setTokenRegistry(TokenRegistry tokenRegistry) {
+		this.tokenRegistry = tokenRegistry;
+	}
+
+	/**
+	 * 토큰 선 재발급기 확인. 기본적으로 중지되어 있으며, start() 호출시 최근 사용된
+	 * 회원의 토큰을 만료 전에 백그라운드에서 재발급합니다. 같은 저장소를 사용하는 서비스
+	 * 객체들이 공유합니다.
+	 * 
+	 * @return token refresher of token registry.
+	 */
+	public TokenRefresher getTokenRefresher() {
+		return getTokenRegistry().getRefresher();
+	}
+
+	private Set<String> getScopeSet() {
+		Set<String> scopes = this.scopeSet;
+
+		if (scopes == null) {
+			scopes = new TreeSet<String>();
+			scopes.add("member");
+			scopes.addAll(getScopes());
+
+			scopes = Collections.unmodifiableSet(scopes);
+			this.scopeSet = scopes;
+		}
+
+		return scopes;
+	}
+
 	private TokenBuilder getTokenbuilder() {
-		if (this.tokenBuilder == null) {
-			tokenBuilder = TokenBuilder
+		TokenBuilder builder = this.tokenBuilder;
+
+		if (builder == null) {
+			builder = TokenBuilder
 					.getInstance(getLinkID(), getSecretKey())
 					.ServiceID(isTest ? ServiceID_TEST : ServiceID_REAL)
 					.addScope("member");
 
 			for (String scope : getScopes())
-				tokenBuilder.addScope(scope);
+				builder.addScope(scope);
+
+			// 모든 scope 가 추가된 후에 공개.
+			this.tokenBuilder = builder;
 		}
 
-		return tokenBuilder;
+		return builder;
 	}
 	
 	private String getSessionToken(String CorpNum, String ForwardIP)
@@ -135,48 +601,87 @@ public abstract class BaseServiceImp implements BaseService {
 		if (CorpNum == null || CorpNum.isEmpty())
 			throw new PopbillException(-99999999, "회원 사업자번호가 입력되지 않았습니다.");
 
-		Token token = null;
-		Date UTCTime = null;
+		TokenRegistry.TokenLoader loader = ForwardIP == null ? tokenLoader
+				: new SessionTokenLoader(ForwardIP);
 
-		if (tokenTable.containsKey(CorpNum))
-			token = tokenTable.get(CorpNum);
+		return getTokenRegistry().get(getLinkID(), getServiceID(), CorpNum,
+				getScopeSet(), loader).getSession_token();
+	}
 
-		boolean expired = true;
+	private class SessionTokenLoader implements TokenRegistry.TokenLoader {
 
-		if (token != null) {
-			
+		private final String forwardIP;
+
+		SessionTokenLoader(String forwardIP) {
+			this.forwardIP = forwardIP;
+		}
+
+		@Override
+		public Token load(String CorpNum, Set<String> scopes)
+				throws PopbillException {
+			LinkhubAuthClient client = getAuthClient();
+			if (client != null)
+				return client.build(getServiceID(), CorpNum, scopes, forwardIP);
+
+			TokenBuilder builder = getTokenbuilder();
+
+			// 다른 서비스의 scope 를 합쳐서 발급하는 경우.
+			if (scopes.equals(getScopeSet()) == false) {
+				builder = TokenBuilder.getInstance(getLinkID(), getSecretKey())
+						.ServiceID(getServiceID());
+
+				for (String scope : scopes)
+					builder.addScope(scope);
+			}
+
+			try {
+				return builder.build(CorpNum, forwardIP);
+			} catch (LinkhubException le) {
+				throw new PopbillException(le);
+			}
+		}
+
+		@Override
+		public long getExpiration(Token token) {
 			SimpleDateFormat format = new SimpleDateFormat(
 					"yyyy-MM-dd'T'HH:mm:ss.SSS'Z'");
 			format.setTimeZone(TimeZone.getTimeZone("UTC"));
-			
-			SimpleDateFormat subFormat = new SimpleDateFormat(
-					"yyyy-MM-dd'T'HH:mm:ss'Z'");
-			subFormat.setTimeZone(TimeZone.getTimeZone("UTC"));
-			
+
 			try {
-				Date expiration = format.parse(token.getExpiration());
-				UTCTime = subFormat.parse(getTokenbuilder().getTime());
-				expired = expiration.before(UTCTime);
-				
-			} catch (LinkhubException le){
-				throw new PopbillException(le);
-			} catch (ParseException e){
+				return format.parse(token.getExpiration()).getTime();
+			} catch (ParseException e) {
+				return Long.MIN_VALUE;
 			}
 		}
 
-		if (expired) {
-			if (tokenTable.containsKey(CorpNum))
-				tokenTable.remove(CorpNum);
+		@Override
+		public long currentTimeMillis() throws PopbillException {
+			return serverClock.currentTimeMillis();
+		}
+	}
+
+	private class LinkhubServerClock extends ServerClock {
+
+		@Override
+		protected long fetchServerTime() throws PopbillException {
+			SimpleDateFormat format = new SimpleDateFormat(
+					"yyyy-MM-dd'T'HH:mm:ss'Z'");
+			format.setTimeZone(TimeZone.getTimeZone("UTC"));
+
+			LinkhubAuthClient client = getAuthClient();
 
 			try {
-				token = getTokenbuilder().build(CorpNum, ForwardIP);
-				tokenTable.put(CorpNum, token);
+				if (client != null)
+					return format.parse(client.getTime()).getTime();
+
+				return format.parse(getTokenbuilder().getTime()).getTime();
 			} catch (LinkhubException le) {
 				throw new PopbillException(le);
+			} catch (ParseException e) {
+				throw new PopbillException(-99999999,
+						"서버 시간을 확인할 수 없습니다.", e);
 			}
 		}
-
-		return token.getSession_token();
 	}
 
 	/* (non-Javadoc)
@@ -184,6 +689,11 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public double getBalance(String CorpNum) throws PopbillException {
+		LinkhubAuthClient client = getAuthClient();
+		if (client != null)
+			return client.getBalance(getServiceID(),
+					getSessionToken(CorpNum, null), false);
+
 		try {
 			return getTokenbuilder().getBalance(
 					this.getSessionToken(CorpNum, null));
@@ -197,6 +707,11 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public double getPartnerBalance(String CorpNum) throws PopbillException {
+		LinkhubAuthClient client = getAuthClient();
+		if (client != null)
+			return client.getBalance(getServiceID(),
+					getSessionToken(CorpNum, null), true);
+
 		try {
 			return getTokenbuilder().getPartnerBalance(
 					this.getSessionToken(CorpNum, null));
@@ -210,9 +725,7 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public Response joinMember(JoinForm joinInfo) throws PopbillException {
-		String postData = toJsonString(joinInfo);
-
-		return httppost("/Join", null, postData, null, Response.class);
+		return httppostJson("/Join", null, joinInfo, null, Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -245,7 +758,8 @@ public abstract class BaseServiceImp implements BaseService {
 	public ContactInfo[] listContact(String CorpNum, String UserID) 
 			throws PopbillException {
 			
-		return httpget("/IDs", CorpNum, UserID, ContactInfo[].class);
+		return httpget("/IDs", CorpNum, UserID, ResponseCache.Kind.CONTACT,
+				ContactInfo[].class);
 	}
 	
 	/* (non-Javadoc)
@@ -253,9 +767,12 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public Response updateContact(String CorpNum, ContactInfo contactInfo, String UserID) throws PopbillException {
-		String postData = toJsonString(contactInfo);
-
-		return httppost("/IDs", CorpNum, postData, UserID, Response.class);
+		try {
+			return httppostJson("/IDs", CorpNum, contactInfo, UserID, Response.class);
+		} finally {
+			// 응답을 받지 못한 경우에도 수정되었을 수 있습니다.
+			getResponseCache().invalidate(CorpNum, ResponseCache.Kind.CONTACT);
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -263,9 +780,11 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public Response registContact(String CorpNum, ContactInfo contactInfo, String UserID) throws PopbillException {
-		String postData = toJsonString(contactInfo);
-
-		return httppost("/IDs/New", CorpNum, postData, UserID, Response.class);
+		try {
+			return httppostJson("/IDs/New", CorpNum, contactInfo, UserID, Response.class);
+		} finally {
+			getResponseCache().invalidate(CorpNum, ResponseCache.Kind.CONTACT);
+		}
 	}
 	
 	/* (non-Javadoc)
@@ -283,7 +802,8 @@ public abstract class BaseServiceImp implements BaseService {
 	@Override
 	public CorpInfo getCorpInfo(String CorpNum, String UserID) throws PopbillException {
 		
-		return httpget("/CorpInfo", CorpNum, UserID, CorpInfo.class);
+		return httpget("/CorpInfo", CorpNum, UserID,
+				ResponseCache.Kind.CORP_INFO, CorpInfo.class);
 	}
 	
 	/* (non-Javadoc)
@@ -291,9 +811,11 @@ public abstract class BaseServiceImp implements BaseService {
 	 */
 	@Override
 	public Response updateCorpInfo(String CorpNum, CorpInfo corpInfo, String UserID) throws PopbillException {
-		String postData = toJsonString(corpInfo);
-
-		return httppost("/CorpInfo", CorpNum, postData, UserID, Response.class);
+		try {
+			return httppostJson("/CorpInfo", CorpNum, corpInfo, UserID, Response.class);
+		} finally {
+			getResponseCache().invalidate(CorpNum, ResponseCache.Kind.CORP_INFO);
+		}
 	}
 	
 	/**
@@ -303,7 +825,14 @@ public abstract class BaseServiceImp implements BaseService {
 	 * @return jsonString
 	 */
 	protected String toJsonString(Object Graph) {
-		return _gsonParser.toJson(Graph);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try {
+			getJsonCodec().write(Graph, output);
+			return output.toString("UTF-8");
+		} catch (IOException e) {
+			// ByteArrayOutputStream never fails.
+			throw new IllegalStateException(e);
+		}
 	}
 
 	/**
@@ -314,7 +843,37 @@ public abstract class BaseServiceImp implements BaseService {
 	 * @return Object of Clazz
 	 */
 	protected <T> T fromJsonString(String json, Class<T> clazz) {
-		return _gsonParser.fromJson(json, clazz);
+		return fromJsonBytes(json.getBytes(Charset.forName("UTF-8")), clazz);
+	}
+
+	/**
+	 * Convert Json bytes to Object of Clazz
+	 * 
+	 * @param json
+	 * @param clazz
+	 * @return Object of Clazz
+	 */
+	protected <T> T fromJsonBytes(byte[] json, Class<T> clazz) {
+		try {
+			return getJsonCodec().read(new ByteArrayInputStream(json), clazz);
+		} catch (IOException e) {
+			// ByteArrayInputStream never fails.
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Convert Json Stream to Object of Clazz. The stream is decoded
+	 * incrementally without buffering the whole document.
+	 * 
+	 * @param input
+	 * @param clazz
+	 * @return Object of Clazz
+	 * @throws IOException
+	 */
+	protected <T> T fromJsonStream(InputStream input, Class<T> clazz)
+			throws IOException {
+		return getJsonCodec().read(input, clazz);
 	}
 
 	/**
@@ -346,99 +905,131 @@ public abstract class BaseServiceImp implements BaseService {
 	protected <T> T httppost(String url, String CorpNum, String PostData,
 			String UserID, String Action, Class<T> clazz)
 			throws PopbillException {
-		HttpURLConnection httpURLConnection;
-		try {
-			URL uri = new URL(getServiceURL() + url);
-			httpURLConnection = (HttpURLConnection) uri.openConnection();
-		} catch (Exception e) {
-			throw new PopbillException(-99999999, "팝빌 API 서버 접속 실패", e);
-		}
-
-		if (CorpNum != null && CorpNum.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("Authorization", "Bearer "
-					+ getSessionToken(CorpNum, null));
-		}
+		return httppost(url, CorpNum, PostData, UserID, Action, null, clazz);
+	}
 
-		httpURLConnection.setRequestProperty("x-pb-version".toLowerCase(),
-				APIVersion);
+	/**
+	 * 응답을 받지 못한 경우 check 로 처리여부를 확인한 후 재시도합니다. (ex. 삭제)
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostData
+	 * @param UserID
+	 * @param Action
+	 * @param check
+	 *            confirms outcome of unanswered attempt. null if none.
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httppost(String url, String CorpNum, String PostData,
+			String UserID, String Action, OutcomeCheck check, Class<T> clazz)
+			throws PopbillException {
+		TransportRequest request = createRequest("POST", url, CorpNum, UserID);
 
 		if (Action != null && Action.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("X-HTTP-Method-Override",
-					Action);
+			request.setHeader("X-HTTP-Method-Override", Action);
 		}
 
-		httpURLConnection.setRequestProperty("Content-Type",
-				"application/json; charset=utf8");
-		
-		httpURLConnection.setRequestProperty("Accept-Encoding",
-				"gzip");
+		request.setHeader("Content-Type", "application/json; charset=utf8");
 
-		if (UserID != null && UserID.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("x-pb-userid", UserID);
-		}
-
-		try {
-			httpURLConnection.setRequestMethod("POST");
-		} catch (ProtocolException e1) {
+		if ((PostData == null || PostData.isEmpty()) == false) {
+			request.setBody(RequestBody.create(PostData.getBytes(Charset
+					.forName("UTF-8"))));
 		}
 
-		httpURLConnection.setUseCaches(false);
-		httpURLConnection.setDoOutput(true);
-
-		if ((PostData == null || PostData.isEmpty()) == false) {
+		Operation operation = getOperation("POST", url, Action);
+		compress(request, operation);
 
-			byte[] btPostData = PostData.getBytes(Charset.forName("UTF-8"));
+		return execute(request, CorpNum, operation, check, clazz);
+	}
 
-			httpURLConnection.setRequestProperty("Content-Length",
-					String.valueOf(btPostData.length));
+	/**
+	 * 객체를 JSON 으로 직렬화하여 전송. 중간 문자열을 만들지 않고 연결에 직접
+	 * 기록합니다.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostGraph
+	 * @param UserID
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httppostJson(String url, String CorpNum, Object PostGraph,
+			String UserID, Class<T> clazz) throws PopbillException {
+		return httppostJson(url, CorpNum, PostGraph, UserID, null, clazz);
+	}
 
-			try {
+	/**
+	 * 객체를 JSON 으로 직렬화하여 전송. 중간 문자열을 만들지 않고 연결에 직접
+	 * 기록합니다.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostGraph
+	 * @param UserID
+	 * @param Action
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httppostJson(String url, String CorpNum, Object PostGraph,
+			String UserID, String Action, Class<T> clazz)
+			throws PopbillException {
+		return httppostJson(url, CorpNum, PostGraph, UserID, Action, null,
+				clazz);
+	}
 
-				DataOutputStream output = new DataOutputStream(
-						httpURLConnection.getOutputStream());
-				output.write(btPostData);
-				output.flush();
-				output.close();
-			} catch (Exception e) {
-				throw new PopbillException(-99999999,
-						"Fail to POST data to Server.", e);
-			}
+	/**
+	 * 객체를 JSON 으로 직렬화하여 전송. 응답을 받지 못한 경우 check 로 처리여부를
+	 * 확인한 후 재시도합니다.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param PostGraph
+	 * @param UserID
+	 * @param Action
+	 * @param check
+	 *            confirms outcome of unanswered attempt. null if none.
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httppostJson(String url, String CorpNum, Object PostGraph,
+			String UserID, String Action, OutcomeCheck check, Class<T> clazz)
+			throws PopbillException {
+		TransportRequest request = createRequest("POST", url, CorpNum, UserID);
 
+		if (Action != null && Action.isEmpty() == false) {
+			request.setHeader("X-HTTP-Method-Override", Action);
 		}
-		String Result = "";
 
-		try {
-			InputStream input = httpURLConnection.getInputStream();
-			if (httpURLConnection.getContentEncoding().equals("gzip")) {
-				Result = fromGzipStream(input);
-			}else {
-				Result = fromStream(input);
-			}
-			input.close();
-		} catch (IOException e) {
+		request.setHeader("Content-Type", "application/json; charset=utf8");
+		request.setBody(new JsonRequestBody(getJsonCodec(), PostGraph));
 
-			ErrorResponse error = null;
+		Operation operation = getOperation("POST", url, Action);
+		compress(request, operation);
 
-			try {
-				InputStream input = httpURLConnection.getErrorStream();
-				Result = fromStream(input);
-				input.close();
-				error = fromJsonString(Result, ErrorResponse.class);
-			} catch (Exception E) {
-			}
+		return execute(request, CorpNum, operation, check, clazz);
+	}
 
-			if (error == null)
-				throw new PopbillException(-99999999,
-						"Fail to receive data from Server.", e);
-			else
-				throw new PopbillException(error.getCode(), error.getMessage());
+	/**
+	 * 압축 정책에 따라 요청 본문 압축. 파일 전송(multipart)은 대부분 이미 압축된
+	 * 형식이므로 압축하지 않습니다.
+	 */
+	private void compress(TransportRequest request, Operation operation) {
+		RequestBody body = request.getBody();
+		RequestBody compressed = getCompressionPolicy().compress(
+				getIsolationTarget(), operation, body);
+
+		if (compressed != body) {
+			request.setBody(compressed);
+			request.setHeader("Content-Encoding", "gzip");
 		}
-
-		return fromJsonString(Result, clazz);
 	}
 
 	private static final String boundary = "--u489jwe98j3498j394r23450--";
-	private static final String CRLF = "\r\n";
 
 	/**
 	 * 
@@ -454,189 +1045,700 @@ public abstract class BaseServiceImp implements BaseService {
 	protected <T> T httppostFiles(String url, String CorpNum, String form,
 			List<UploadFile> files, String UserID, Class<T> clazz)
 			throws PopbillException {
-		HttpURLConnection httpURLConnection;
-		try {
-			URL uri = new URL(getServiceURL() + url);
-			httpURLConnection = (HttpURLConnection) uri.openConnection();
-		} catch (Exception e) {
-			throw new PopbillException(-99999999, "팝빌 API 서버 접속 실패", e);
+		TransportRequest request = createRequest("POST", url, CorpNum, UserID);
+
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+
+		if ((form == null || form.isEmpty()) == false) {
+			body.addPart("form", "Application/json; charset=utf-8",
+					form.getBytes(Charset.forName("UTF-8")));
+		}
+
+		for (UploadFile f : files) {
+			if (f.file != null) {
+				body.addFilePart(f.fieldName, f.fileName,
+						"Application/octet-stream", f.file);
+			} else {
+				body.addStreamPart(f.fieldName, f.fileName,
+						"Application/octet-stream", f.fileData,
+						MultipartRequestBody.lengthOf(f.fileData));
+			}
+		}
+
+		request.setHeader("Content-Type", body.getContentType());
+		request.setBody(body);
+
+		return execute(request, CorpNum, getOperation("POST", url, null),
+				null, clazz);
+	}
+
+	/**
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param UserID
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httpget(String url, String CorpNum, String UserID,
+			Class<T> clazz) throws PopbillException {
+		final TransportRequest request = createRequest("GET", url, CorpNum,
+				UserID);
+		final Operation operation = getOperation("GET", url, null);
+		RequestCoalescer coalescer = getRequestCoalescer();
+
+		if (coalescer.isEnabled() == false
+				|| isCoalescable(operation, url) == false)
+			return execute(request, CorpNum, operation, null, clazz);
+
+		final String corpNum = CorpNum;
+
+		// 진행중인 같은 요청이 있으면 그 응답을 사용하며, 호출마다 새 객체를 반환합니다.
+		byte[] response = coalescer.execute(getLinkID(), isTest(), CorpNum,
+				UserID, request.getUrl(), request.getRemainingMillis(),
+				new RequestCoalescer.Call() {
+					@Override
+					public byte[] execute() throws PopbillException {
+						return BaseServiceImp.this.execute(request, corpNum,
+								operation, null, byte[].class);
+					}
+				});
+
+		if (clazz == byte[].class)
+			return clazz.cast(response);
+
+		return fromJsonBytes(response, clazz);
+	}
+
+	/**
+	 * 동일 요청 병합 가능여부. 상태를 변경하지 않는 요청 중 일회용 URL 을 발급하는
+	 * 팝빌 URL 조회(TG=)를 제외합니다.
+	 */
+	private static boolean isCoalescable(Operation operation, String url) {
+		return operation.getIdempotency() == Idempotency.SAFE
+				&& url.contains("TG=") == false;
+	}
+
+	/**
+	 * 응답 캐시를 사용하는 조회. 캐시를 사용하지 않거나 보관된 응답이 없으면 서버에
+	 * 요청합니다.
+	 * 
+	 * @param url
+	 * @param CorpNum
+	 * @param UserID
+	 * @param kind
+	 *            kind of response for TTL.
+	 * @param clazz
+	 * @return returned object
+	 * @throws PopbillException
+	 */
+	protected <T> T httpget(String url, String CorpNum, String UserID,
+			ResponseCache.Kind kind, Class<T> clazz) throws PopbillException {
+		ResponseCache cache = getResponseCache();
+
+		if (cache.isEnabled() == false)
+			return httpget(url, CorpNum, UserID, clazz);
+
+		String requestURL = getServiceURL() + url;
+		byte[] response = cache.get(kind, getLinkID(), isTest(), CorpNum,
+				UserID, requestURL);
+
+		if (response == null) {
+			// 조회 중에 수정된 경우 이전 응답을 보관하지 않도록 먼저 확인.
+			long generation = cache.generation();
+			response = httpget(url, CorpNum, UserID, byte[].class);
+			cache.put(kind, getLinkID(), isTest(), CorpNum, UserID,
+					requestURL, response, generation);
 		}
 
-		if (CorpNum != null && CorpNum.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("Authorization", "Bearer "
-					+ getSessionToken(CorpNum, null));
+		// 호출마다 새 객체를 반환합니다.
+		return fromJsonBytes(response, clazz);
+	}
+
+	private TransportRequest createRequest(String method, String url,
+			String CorpNum, String UserID) throws PopbillException {
+		TransportRequest request = new TransportRequest(method,
+				getServiceURL() + url);
+
+		Deadline deadline = Deadline.current();
+		if (callTimeout > 0)
+			deadline = Deadline.after(callTimeout, TimeUnit.MILLISECONDS).min(
+					deadline);
+
+		if (deadline != null) {
+			request.setDeadline(deadline.nanoTime());
+			checkDeadline(request);
 		}
 
-		httpURLConnection.setRequestProperty("x-pb-version".toLowerCase(),
-				APIVersion);
-		httpURLConnection.setRequestProperty("Connection", "Keep-Alive");
-		httpURLConnection.setRequestProperty("Content-Type",
-				"multipart/form-data;boundary=" + boundary);
+		request.setHeader("x-pb-version".toLowerCase(), APIVersion);
 
 		if (UserID != null && UserID.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("x-pb-userid", UserID);
+			request.setHeader("x-pb-userid", UserID);
 		}
-		
-		httpURLConnection.setRequestProperty("Accept-Encoding",
-				"gzip");
 
-		try {
-			httpURLConnection.setRequestMethod("POST");
-		} catch (ProtocolException e1) {
+		request.setHeader("Accept-Encoding", "gzip");
+
+		// 비동기 호출이 취소되면 진행중인 전송을 중단합니다.
+		CallCancellation.register(request);
+
+		return request;
+	}
+
+	/**
+	 * 요청의 멱등성 분류. 기본적으로 GET 은 SAFE, 수정(PATCH)과 삭제(DELETE)는
+	 * IDEMPOTENT, 그 외의 POST 는 UNSAFE 로 분류됩니다. 예약전송 취소(GET .../Cancel)는
+	 * 상태를 변경하므로 IDEMPOTENT 로 분류합니다. 조회용 POST 요청이 있는
+	 * 서비스는 재정의하여 SAFE 로 분류합니다. 전송된 IDEMPOTENT 요청도 OutcomeCheck
+	 * 가 지정된 경우(ex. 삭제) 재시도 전에 처리여부를 확인합니다.
+	 * 
+	 * @param method
+	 *            HTTP method.
+	 * @param url
+	 *            path of request.
+	 * @param Action
+	 *            X-HTTP-Method-Override. null if none.
+	 * @return idempotency of request.
+	 */
+	protected Idempotency getIdempotency(String method, String url,
+			String Action) {
+		if ("GET".equals(method))
+			return url.endsWith("/Cancel") ? Idempotency.IDEMPOTENT
+					: Idempotency.SAFE;
+
+		if ("PATCH".equals(Action) || "DELETE".equals(Action))
+			return Idempotency.IDEMPOTENT;
+
+		return Idempotency.UNSAFE;
+	}
+
+	/**
+	 * 서비스명. 기본값은 클래스명에서 "ServiceImp" 를 제외한 이름입니다.
+	 * (ex. TaxinvoiceServiceImp =&gt; Taxinvoice)
+	 * 
+	 * @return service name.
+	 */
+	protected String getServiceName() {
+		String name = this.serviceName;
+
+		if (name == null) {
+			Class<?> clazz = getClass();
+			while (clazz.isAnonymousClass())
+				clazz = clazz.getSuperclass();
+
+			name = clazz.getSimpleName();
+			if (name.endsWith("ServiceImp"))
+				name = name.substring(0, name.length() - "ServiceImp".length());
+
+			this.serviceName = name;
 		}
 
-		httpURLConnection.setUseCaches(false);
-		httpURLConnection.setDoOutput(true);
+		return name;
+	}
+
+	/**
+	 * 회로 차단기, 동시 호출 제한과 압축 거절 기록의 대상 서버. 팝빌 API 서버 URL 의
+	 * host[:port] 입니다.
+	 */
+	private String getIsolationTarget() {
+		String url = getServiceURL();
+		String[] target = isolationTarget;
+
+		if (target == null || target[0].equals(url) == false) {
+			String authority;
+			try {
+				authority = new URL(url).getAuthority();
+			} catch (MalformedURLException e) {
+				authority = url;
+			}
+
+			target = new String[] { url, authority };
+			isolationTarget = target;
+		}
+
+		return target[1];
+	}
+
+	private Operation getOperation(String method, String url, String Action) {
+		if (Action != null && Action.isEmpty())
+			Action = null;
+
+		String name = getServiceName();
+		OperationCache cache = operationCache;
+
+		if (cache == null || cache.getService().equals(name) == false)
+			operationCache = cache = new OperationCache(name);
+
+		return cache.get(method, url, Action,
+				getIdempotency(method, url, Action));
+	}
+
+	private <T> T execute(TransportRequest request, String CorpNum,
+			Operation operation, OutcomeCheck check, Class<T> clazz)
+			throws PopbillException {
+		PopbillMetrics metrics = getMetrics();
+		long start = System.nanoTime();
+		long errorCode = 0;
+
+		request.setIdempotency(operation.getIdempotency());
+		metrics.callStarted(operation);
+
+		PopbillCallListener[] listeners = callListeners;
+		PopbillCall call = null;
+
+		if (listeners.length > 0) {
+			call = new PopbillCall(operation, CorpNum, request, listeners);
+			call.fireStart();
+		}
 
 		try {
+			if (CorpNum != null && CorpNum.isEmpty() == false) {
+				long issuing = System.nanoTime();
+
+				request.setHeader("Authorization", "Bearer "
+						+ getSessionToken(CorpNum, null));
+
+				metrics.tokenIssued(operation, System.nanoTime() - issuing);
+
+				if (call != null)
+					call.fireTokenAcquired();
+
+				// 토큰 발급은 중단할 수 없으므로 완료 후 확인합니다.
+				checkDeadline(request);
+			}
+
+			T result = executeIsolated(request, CorpNum, operation, check,
+					clazz);
 
-			DataOutputStream output = new DataOutputStream(
-					httpURLConnection.getOutputStream());
+			if (call != null)
+				call.fireComplete();
 
-			if ((form == null || form.isEmpty()) == false) {
-				String formBody = "--" + boundary + CRLF;
-				formBody += "content-disposition: form-data; name=\"form\""
-						+ CRLF;
-				formBody += "content-type: Application/json; charset=utf-8"
-						+ CRLF + CRLF;
-				formBody += form + "\r\n";
-				byte[] btFormBody = formBody.getBytes(Charset.forName("UTF-8"));
+			return result;
+		} catch (PopbillException pe) {
+			errorCode = pe.getCode();
+
+			if (call != null)
+				call.fireError(pe);
+
+			throw pe;
+		} catch (RuntimeException e) {
+			errorCode = -99999999;
+
+			if (call != null)
+				call.fireError(new PopbillException(-99999999, e.getMessage(),
+						e));
+
+			throw e;
+		} finally {
+			metrics.callCompleted(operation, System.nanoTime() - start,
+					errorCode);
+		}
+	}
+
+	private <T> T executeIsolated(TransportRequest request, String CorpNum,
+			Operation operation, OutcomeCheck check, Class<T> clazz)
+			throws PopbillException {
+		IsolationPolicy isolation = getIsolationPolicy();
 
-				output.write(btFormBody);
+		// 재시도 대기중에도 동시 호출 한도를 점유합니다.
+		String target = getIsolationTarget();
+		Bulkhead serviceBulkhead = isolation.getBulkhead(target,
+				operation.getService());
+		acquire(serviceBulkhead);
+		try {
+			Bulkhead endpointBulkhead = isolation.getBulkhead(target,
+					operation);
+			acquire(endpointBulkhead);
+			try {
+				return executeWithRetry(request, CorpNum, operation, check,
+						isolation, clazz);
+			} finally {
+				if (endpointBulkhead != null)
+					endpointBulkhead.release();
 			}
+		} finally {
+			if (serviceBulkhead != null)
+				serviceBulkhead.release();
+		}
+	}
 
-			for (UploadFile f : files) {
-				String fileHeader = "--" + boundary + CRLF;
-				fileHeader += "content-disposition: form-data; name=\""
-						+ f.fieldName + "\"; filename=\"" + f.fileName + "\""
-						+ CRLF;
-				fileHeader += "content-type: Application/octet-stream" + CRLF
-						+ CRLF;
+	private void acquire(Bulkhead bulkhead) throws PopbillException {
+		if (bulkhead != null && bulkhead.tryAcquire() == false)
+			throw new PopbillException(PopbillException.BULKHEAD_FULL,
+					"동시 호출 한도를 초과했습니다. [" + bulkhead.getName() + "]");
+	}
+
+	private <T> T executeWithRetry(TransportRequest request, String CorpNum,
+			Operation operation, OutcomeCheck check,
+			IsolationPolicy isolation, Class<T> clazz) throws PopbillException {
+		RateLimiter limiter = getRateLimiter();
+		RetryPolicy policy = getRetryPolicy();
+		policy.getBudget().deposit();
+
+		for (int attempt = 1;; attempt++) {
+			try {
+				// 재시도도 각각 허가를 받습니다.
+				acquire(limiter, operation, CorpNum, request);
+
+				return attempt(request, operation, isolation, clazz);
+			} catch (PopbillException pe) {
+				if (attempt >= policy.getMaxAttempts()
+						|| policy.isRetryable(pe.getCause()) == false
+						|| pe.getCode() == PopbillException.DEADLINE_EXCEEDED)
+					throw pe;
+
+				RequestBody body = request.getBody();
+				if (body != null && body.isRepeatable() == false)
+					throw pe;
+
+				// 서버가 처리했을 수 있는 요청. 삭제와 같이 다시 보내면 오류가 되는
+				// IDEMPOTENT 요청도 확인 방법이 있으면 먼저 확인합니다.
+				boolean unconfirmed = request.isSent()
+						&& policy.isRejected(pe.getCause()) == false
+						&& (operation.getIdempotency() == Idempotency.UNSAFE || check != null);
+
+				if (unconfirmed && check == null)
+					throw pe;
+
+				long backoff = policy.getBackoff(attempt);
+
+				// 대기 후 기한이 남지 않는 경우.
+				if (backoff >= request.getRemainingMillis())
+					throw pe;
+
+				if (policy.acquireRetry() == false)
+					throw pe;
+
+				try {
+					Thread.sleep(backoff);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw pe;
+				}
 
-				byte[] btFileHeader = fileHeader.getBytes(Charset
-						.forName("UTF-8"));
+				if (unconfirmed) {
+					boolean applied;
 
-				output.write(btFileHeader);
+					try {
+						applied = check.isApplied();
+					} catch (PopbillException ce) {
+						throw pe;
+					}
 
-				byte[] buffer = new byte[32768];
-				int read;
-				while ((read = f.fileData.read(buffer, 0, buffer.length)) > 0) {
-					output.write(buffer, 0, read);
+					if (applied)
+						throw new PopbillException(
+								PopbillException.ALREADY_APPLIED,
+								"이전 요청이 이미 처리되었습니다.", pe);
 				}
-				
-				output.write(CRLF.getBytes(Charset
-						.forName("UTF-8")));
 			}
+		}
+	}
 
-			String boundaryFooter = "--" + boundary + "--" + CRLF;
-			byte[] btboundaryFooter = boundaryFooter.getBytes(Charset
-					.forName("UTF-8"));
+	private static void checkDeadline(TransportRequest request)
+			throws PopbillException {
+		if (request.isExpired())
+			throw deadlineExceeded(null);
+	}
 
-			output.write(btboundaryFooter);
+	static PopbillException deadlineExceeded(Throwable cause) {
+		return new PopbillException(PopbillException.DEADLINE_EXCEEDED,
+				"호출 제한시간을 초과했습니다.", cause);
+	}
 
-			output.flush();
-			output.close();
-		} catch (Exception e) {
-			throw new PopbillException(-99999999,
-					"Fail to POST data to Server.", e);
+	private static void acquire(RateLimiter limiter, Operation operation,
+			String CorpNum, TransportRequest request) throws PopbillException {
+		long maxWait = limiter.getMaxWait();
+		boolean bounded = request.getRemainingMillis() < maxWait;
+		boolean acquired;
+
+		try {
+			acquired = limiter.acquire(operation, CorpNum, bounded ? request
+					.getRemainingMillis() : maxWait, TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
 		}
 
-		String Result = "";
+		if (acquired == false && bounded)
+			throw deadlineExceeded(null);
+
+		if (acquired == false)
+			throw new PopbillException(PopbillException.RATE_LIMITED,
+					"호출 속도 제한을 초과했습니다. [" + operation.getService() + " "
+							+ operation.getEndpoint() + "]");
+	}
+
+	private <T> T attempt(TransportRequest request, Operation operation,
+			IsolationPolicy isolation, Class<T> clazz) throws PopbillException {
+		String target = getIsolationTarget();
+		CircuitBreaker serviceBreaker = isolation.getCircuitBreaker(target,
+				operation.getService());
+		CircuitBreaker endpointBreaker = isolation.getCircuitBreaker(target,
+				operation);
+
+		if (serviceBreaker != null && serviceBreaker.tryAcquire() == false)
+			throw circuitOpen(serviceBreaker);
+
+		if (endpointBreaker != null && endpointBreaker.tryAcquire() == false) {
+			if (serviceBreaker != null)
+				serviceBreaker.release();
+			throw circuitOpen(endpointBreaker);
+		}
+
+		// 0: 집계 제외, 1: 성공, 2: 실패
+		int outcome = 0;
+
+		HedgingPolicy hedging = getHedgingPolicy();
 
 		try {
-			InputStream input = httpURLConnection.getInputStream();
-			if (httpURLConnection.getContentEncoding().equals("gzip")) {
-				Result = fromGzipStream(input);
-			}else {
-				Result = fromStream(input);
+			T result = hedging.isEnabled(operation) ? executeHedged(request,
+					operation, hedging, clazz) : executeOnce(request, operation, clazz);
+			outcome = 1;
+			return result;
+		} catch (PopbillException pe) {
+			if (isolation.isFailure(pe.getCause()))
+				outcome = 2;
+			else if (pe.getCause() instanceof HttpStatusException == false)
+				outcome = 1;
+			throw pe;
+		} finally {
+			if (serviceBreaker != null)
+				record(serviceBreaker, outcome);
+			if (endpointBreaker != null)
+				record(endpointBreaker, outcome);
+		}
+	}
+
+	private <T> T executeHedged(final TransportRequest request,
+			final Operation operation, HedgingPolicy hedging,
+			final Class<T> clazz)
+			throws PopbillException {
+		final TransportRequest hedgeRequest = request.copy();
+		CallCancellation.register(hedgeRequest);
+
+		FutureTask<T> hedge = new FutureTask<T>(new Callable<T>() {
+			@Override
+			public T call() throws PopbillException {
+				T result = executeOnce(hedgeRequest, operation, clazz);
+
+				// 먼저 도착한 응답을 사용하고 원 요청은 취소합니다.
+				request.cancel();
+				return result;
 			}
-			input.close();
-		} catch (IOException e) {
+		});
 
-			ErrorResponse error = null;
+		long start = System.nanoTime();
+		Future<?> scheduled = hedging.schedule(hedge, hedging.getDelay(operation));
 
-			try {
-				InputStream input = httpURLConnection.getErrorStream();
-				Result = fromStream(input);
-				input.close();
-				error = fromJsonString(Result, ErrorResponse.class);
-			} catch (Exception E) {
+		T result;
+
+		try {
+			result = executeOnce(request, operation, clazz);
+		} catch (PopbillException pe) {
+			// 재전송이 시작되지 않았거나, 서버의 오류응답을 받은 경우.
+			if (hedging.cancel(scheduled)
+					|| pe.getCause() instanceof IOException == false
+					|| pe.getCause() instanceof HttpStatusException) {
+				hedgeRequest.cancel();
+				throw pe;
 			}
 
-			if (error == null)
-				throw new PopbillException(-99999999,
-						"Fail to receive data from Server.", e);
-			else
-				throw new PopbillException(error.getCode(), error.getMessage());
+			try {
+				result = hedge.get();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				hedgeRequest.cancel();
+				throw pe;
+			} catch (ExecutionException e) {
+				if (e.getCause() instanceof PopbillException)
+					throw (PopbillException) e.getCause();
+				throw pe;
+			} catch (CancellationException e) {
+				throw pe;
+			}
 		}
 
-		return fromJsonString(Result, clazz);
+		hedging.cancel(scheduled);
+		hedgeRequest.cancel();
+
+		hedging.record(operation,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+
+		return result;
 	}
 
-	/**
-	 * 
-	 * @param url
-	 * @param CorpNum
-	 * @param UserID
-	 * @param clazz
-	 * @return returned object
-	 * @throws PopbillException
-	 */
-	protected <T> T httpget(String url, String CorpNum, String UserID,
+	private static void record(CircuitBreaker breaker, int outcome) {
+		if (outcome == 1)
+			breaker.onSuccess();
+		else if (outcome == 2)
+			breaker.onFailure();
+		else
+			breaker.release();
+	}
+
+	private static PopbillException circuitOpen(CircuitBreaker breaker) {
+		return new PopbillException(PopbillException.CIRCUIT_OPEN,
+				"서비스 장애로 호출이 일시 중단되었습니다. [" + breaker.getName() + "]");
+	}
+
+	private <T> T executeOnce(TransportRequest request, Operation operation,
 			Class<T> clazz) throws PopbillException {
-		HttpURLConnection httpURLConnection;
+		PopbillMetrics metrics = getMetrics();
+		PopbillCall call = request.getTag() instanceof PopbillCall ? (PopbillCall) request
+				.getTag() : null;
+		TransportResponse response;
+
+		if (call != null)
+			call.attempt();
+
 		try {
-			URL uri = new URL(getServiceURL() + url);
-			httpURLConnection = (HttpURLConnection) uri.openConnection();
-		} catch (Exception e) {
+			response = getTransport().execute(request);
+		} catch (ConnectException e) {
+			throw new PopbillException(-99999999, "팝빌 API 서버 접속 실패", e);
+		} catch (UnknownHostException e) {
 			throw new PopbillException(-99999999, "팝빌 API 서버 접속 실패", e);
+		} catch (IOException e) {
+			if (request.isExpired())
+				throw deadlineExceeded(e);
+			throw new PopbillException(-99999999,
+					"Fail to receive data from Server.", e);
+		} finally {
+			if (request.getConnectTime() >= 0)
+				metrics.connected(operation, request.getConnectTime());
+			if (request.getFirstByteTime() >= 0)
+				metrics.firstByteReceived(operation, request.getFirstByteTime());
 		}
 
-		if (CorpNum != null && CorpNum.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("Authorization", "Bearer "
-					+ getSessionToken(CorpNum, null));
-		}
+		// 서버가 압축된 요청을 거절한 경우 압축하지 않고 다시 전송합니다.
+		if (response.getStatusCode() == CompressionPolicy.UNSUPPORTED_MEDIA_TYPE
+				&& request.getBody() instanceof GzipRequestBody) {
+			response.close();
+			getCompressionPolicy().markUnsupported(getIsolationTarget(),
+					operation);
 
-		httpURLConnection.setRequestProperty("x-pb-version".toLowerCase(),
-				APIVersion);
+			request.setBody(((GzipRequestBody) request.getBody()).getSource());
+			request.removeHeader("Content-Encoding");
 
-		if (UserID != null && UserID.isEmpty() == false) {
-			httpURLConnection.setRequestProperty("x-pb-userid", UserID);
+			return executeOnce(request, operation, clazz);
 		}
-		
-		httpURLConnection.setRequestProperty("Accept-Encoding",
-				"gzip");
 
-		String Result = "";
+		if (call != null)
+			call.fireResponseHeaders(response.getStatusCode());
+
+		CountingInputStream wire = null;
+		CountingInputStream decoded = null;
 
 		try {
-			InputStream input = httpURLConnection.getInputStream();
-			if (httpURLConnection.getContentEncoding().equals("gzip")) {
-				Result = fromGzipStream(input);
-			}else {
-				Result = fromStream(input);
+			InputStream input = response.getBody();
+
+			// 측정하지 않는 경우 스트림을 감싸지 않습니다.
+			if (metrics != PopbillMetrics.NONE)
+				input = wire = new CountingInputStream(input);
+
+			if ("gzip".equalsIgnoreCase(response.getContentEncoding())) {
+				input = new GZIPInputStream(input);
+
+				if (wire != null)
+					input = decoded = new CountingInputStream(input);
+			}
+
+			if (response.getStatusCode() >= 400) {
+				ErrorResponse error = null;
+
+				try {
+					error = fromJsonStream(input, ErrorResponse.class);
+				} catch (Exception E) {
+				}
+
+				if (error == null)
+					throw new PopbillException(-99999999,
+							"Fail to receive data from Server.",
+							new HttpStatusException(response.getStatusCode()));
+				else
+					throw new PopbillException(error.getCode(),
+							error.getMessage());
 			}
-			input.close();
+
+			// 병합과 캐시를 위해 응답을 변환하지 않고 보관합니다.
+			if (clazz == byte[].class)
+				return clazz.cast(readFully(input));
+
+			return fromJsonStream(input, clazz);
+
 		} catch (IOException e) {
+			if (request.isExpired())
+				throw deadlineExceeded(e);
+			throw new PopbillException(-99999999,
+					"Fail to receive data from Server.", e);
+		} finally {
+			response.close();
+
+			if (wire != null) {
+				long bytesSent = request.getBytesSent();
+				metrics.bytesTransferred(operation,
+						getUncompressedLength(request, bytesSent), bytesSent,
+						decoded == null ? wire.count : decoded.count,
+						wire.count);
+			}
+		}
+	}
+
+	private static byte[] readFully(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
 
-			ErrorResponse error = null;
+		while ((read = input.read(buffer)) != -1)
+			output.write(buffer, 0, read);
+
+		return output.toByteArray();
+	}
 
+	private static long getUncompressedLength(TransportRequest request,
+			long bytesSent) {
+		if (request.getBody() instanceof GzipRequestBody && bytesSent >= 0) {
 			try {
-				InputStream input = httpURLConnection.getErrorStream();
-				Result = fromStream(input);
-				input.close();
-				error = fromJsonString(Result, ErrorResponse.class);
-			} catch (Exception E) {
+				return ((GzipRequestBody) request.getBody())
+						.getUncompressedLength();
+			} catch (IOException e) {
 			}
+		}
+		return bytesSent;
+	}
 
-			if (error == null)
-				throw new PopbillException(-99999999,
-						"Fail to receive data from Server.", e);
-			else
-				throw new PopbillException(error.getCode(), error.getMessage());
+	/**
+	 * 수신 크기 측정.
+	 */
+	private static class CountingInputStream extends FilterInputStream {
+
+		long count;
+
+		CountingInputStream(InputStream input) {
+			super(input);
+		}
+
+		@Override
+		public int read() throws IOException {
+			int read = super.read();
+			if (read != -1)
+				count++;
+			return read;
 		}
 
-		return fromJsonString(Result, clazz);
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			int read = super.read(b, off, len);
+			if (read > 0)
+				count += read;
+			return read;
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			long skipped = super.skip(n);
+			count += skipped;
+			return skipped;
+		}
 	}
 
 	protected abstract List<String> getScopes();
@@ -669,44 +1771,12 @@ public abstract class BaseServiceImp implements BaseService {
 		public String fieldName;
 		public String fileName;
 		public InputStream fileData;
+		/** 전송할 파일. 지정된 경우 fileData 대신 파일에서 직접 읽습니다. */
+		public File file;
 	}
 
 	protected class URLResponse {
 		public String url;
 	}
-	
-	private static String fromStream(InputStream input) throws IOException {
-
-		InputStreamReader is = new InputStreamReader(input,
-				Charset.forName("UTF-8"));
-		StringBuilder sb = new StringBuilder();
-		BufferedReader br = new BufferedReader(is);
-
-		String read = br.readLine();
-
-		while (read != null) {
-			sb.append(read);
-			read = br.readLine();
-		}
-
-		return sb.toString();
-	}
-	
-	private static String fromGzipStream(InputStream input) throws IOException {
-		GZIPInputStream zipReader = new GZIPInputStream(input);
-		
-		InputStreamReader is = new InputStreamReader(zipReader, "UTF-8");
-		StringBuilder sb = new StringBuilder();
-		BufferedReader br = new BufferedReader(is);
-
-		String read = br.readLine();
-
-		while (read != null) {
-			sb.append(read);
-			read = br.readLine();
-		}
-
-		return sb.toString();
-	}
 
 }
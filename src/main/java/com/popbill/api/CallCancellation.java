@@ -0,0 +1,105 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.popbill.api.transport.TransportRequest;
+
+/**
+ * 비동기 호출의 취소 범위.
+ * 
+ * 작업 스레드에서 실행중인 호출이 만든 요청을 기록하고, PopbillFuture.cancel(true)
+ * 로 취소되면 진행중인 요청의 연결을 닫습니다. 스레드 인터럽트로는 소켓 입출력이
+ * 중단되지 않으므로 TransportRequest.cancel() 을 사용합니다. 취소된 이후에 만든
+ * 요청은 전송을 시작하지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class CallCancellation {
+
+	private static final ThreadLocal<CallCancellation> current = new ThreadLocal<CallCancellation>();
+
+	private final List<TransportRequest> requests = new ArrayList<TransportRequest>();
+	private boolean cancelled;
+
+	/**
+	 * 현재 스레드에 취소 범위 적용.
+	 * 
+	 * @param cancellation
+	 * @return previous cancellation to restore with exit(). null if none.
+	 */
+	static CallCancellation enter(CallCancellation cancellation) {
+		CallCancellation previous = current.get();
+		current.set(cancellation);
+		return previous;
+	}
+
+	/**
+	 * 이전 취소 범위로 복원.
+	 * 
+	 * @param previous
+	 *            returned by enter().
+	 */
+	static void exit(CallCancellation previous) {
+		if (previous == null)
+			current.remove();
+		else
+			current.set(previous);
+	}
+
+	/**
+	 * 현재 스레드의 취소 범위에 요청 등록. 범위가 없으면 무시합니다.
+	 * 
+	 * @param request
+	 */
+	static void register(TransportRequest request) {
+		CallCancellation cancellation = current.get();
+		if (cancellation != null)
+			cancellation.add(request);
+	}
+
+	private void add(TransportRequest request) {
+		synchronized (this) {
+			if (cancelled == false) {
+				requests.add(request);
+				return;
+			}
+		}
+
+		request.cancel();
+	}
+
+	/**
+	 * 등록된 요청을 모두 취소합니다.
+	 */
+	void cancel() {
+		List<TransportRequest> pending;
+
+		synchronized (this) {
+			if (cancelled)
+				return;
+
+			cancelled = true;
+			pending = new ArrayList<TransportRequest>(requests);
+			requests.clear();
+		}
+
+		for (TransportRequest request : pending)
+			request.cancel();
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 기한.
+ * 
+ * start() 로 시작한 기한은 end() 를 호출할 때까지 현재 스레드의 모든 API 호출에
+ * 적용되며, 토큰 발급, 연결, 전송, 수신과 재시도 대기를 모두 포함합니다. 기한이 지나면
+ * 진행중인 연결을 강제로 닫고 PopbillException.DEADLINE_EXCEEDED 로 실패합니다.
+ * 비동기 서비스에 등록한 호출에는 등록 시점의 기한이 적용됩니다.
+ * 
+ * <pre>
+ * Deadline deadline = Deadline.start(3, TimeUnit.SECONDS);
+ * try {
+ *     taxinvoiceService.getInfo(CorpNum, MgtKeyType.SELL, MgtKey);
+ * } finally {
+ *     deadline.end();
+ * }
+ * </pre>
+ * 
+ * 기한이 중첩된 경우 더 이른 기한이 적용됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class Deadline {
+
+	private static final ThreadLocal<Deadline> current = new ThreadLocal<Deadline>();
+
+	private final long expiresAt;
+	private final Deadline previous;
+
+	private Deadline(long expiresAt, Deadline previous) {
+		this.expiresAt = expiresAt;
+		this.previous = previous;
+	}
+
+	/**
+	 * 지금부터 timeout 후의 기한 생성. 현재 스레드에 적용되지 않습니다.
+	 * 
+	 * @param timeout
+	 * @param unit
+	 * @return Deadline
+	 */
+	public static Deadline after(long timeout, TimeUnit unit) {
+		return new Deadline(System.nanoTime() + unit.toNanos(timeout), null);
+	}
+
+	/**
+	 * 현재 스레드에 기한 시작.
+	 * 
+	 * @param timeout
+	 * @param unit
+	 * @return Deadline to end.
+	 */
+	public static Deadline start(long timeout, TimeUnit unit) {
+		return start(after(timeout, unit));
+	}
+
+	/**
+	 * 현재 스레드에 주어진 기한 시작. (ex. 다른 스레드의 기한을 이어받는 경우)
+	 * 
+	 * @param deadline
+	 * @return Deadline to end.
+	 */
+	public static Deadline start(Deadline deadline) {
+		Deadline previous = current.get();
+
+		long expiresAt = deadline.expiresAt;
+		if (previous != null && previous.expiresAt - expiresAt < 0)
+			expiresAt = previous.expiresAt;
+
+		Deadline started = new Deadline(expiresAt, previous);
+		current.set(started);
+
+		return started;
+	}
+
+	/**
+	 * 현재 스레드에 적용중인 기한.
+	 * 
+	 * @return Deadline, or null if none.
+	 */
+	public static Deadline current() {
+		return current.get();
+	}
+
+	/**
+	 * 기한 종료. 시작 이전의 기한으로 돌아갑니다.
+	 */
+	public void end() {
+		if (current.get() != this)
+			return;
+
+		if (previous == null)
+			current.remove();
+		else
+			current.set(previous);
+	}
+
+	/**
+	 * @return deadline in System.nanoTime().
+	 */
+	public long nanoTime() {
+		return expiresAt;
+	}
+
+	/**
+	 * 남은 시간.
+	 * 
+	 * @param unit
+	 * @return remaining time. negative if expired.
+	 */
+	public long remaining(TimeUnit unit) {
+		return unit.convert(expiresAt - System.nanoTime(),
+				TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 기한 경과여부.
+	 * 
+	 * @return true if expired.
+	 */
+	public boolean isExpired() {
+		return expiresAt - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * 두 기한 중 이른 기한.
+	 * 
+	 * @param other
+	 *            null is ignored.
+	 * @return earlier deadline.
+	 */
+	public Deadline min(Deadline other) {
+		if (other == null || expiresAt - other.expiresAt <= 0)
+			return this;
+
+		return other;
+	}
+
+	@Override
+	public String toString() {
+		return "Deadline [remaining=" + remaining(TimeUnit.MILLISECONDS)
+				+ "ms]";
+	}
+}
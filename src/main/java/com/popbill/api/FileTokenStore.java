@@ -0,0 +1,594 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileLock;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.crypto.Cipher;
+import javax.crypto.Mac;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import kr.co.linkhub.auth.Token;
+
+import com.google.gson.Gson;
+
+/**
+ * 암호화된 로컬 파일 토큰 저장소.
+ * 
+ * 토큰은 추가전용(append-only) 파일에 회원별 레코드로 기록됩니다. 각 레코드는
+ * 비밀번호로부터 생성한 키로 AES 암호화 후 HMAC-SHA256 으로 서명되며, 회원 식별자도
+ * HMAC 값으로만 기록되므로 파일에서 LinkID 나 사업자번호를 확인할 수 없습니다.
+ * 
+ * 파일은 처음 사용될 때 레코드 위치만 읽어두며, 토큰은 해당 회원이 사용될 때 복호화합니다.
+ * 만료된 레코드와 이전 레코드는 파일을 열 때 정리됩니다. 정리된 레코드는 임시파일에
+ * 기록한 후 기존 파일을 대체하며, 대체 도중 중단된 경우 다음에 열 때 임시파일로
+ * 복구합니다. 비밀번호가 다르거나 손상된 파일은 새로 생성합니다.
+ * 
+ * 여러 프로세스가 같은 파일을 사용할 수 있습니다. 읽기와 기록은 잠금파일(.lock)의
+ * FileLock 을 잡은 상태에서 이루어지며, 다른 프로세스가 추가한 레코드는 다음 사용시
+ * 읽어들입니다. 파일을 정리하거나 새로 생성하면 잠금파일의 세대(generation) 값을
+ * 증가시켜, 다른 프로세스가 파일을 다시 열도록 합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class FileTokenStore implements TokenStore {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final byte[] MAGIC = "PBTOKEN1".getBytes(UTF8);
+	private static final byte[] CHECK = "popbill-token-store".getBytes(UTF8);
+
+	private static final int SALT_LENGTH = 16;
+	private static final int MAC_LENGTH = 32;
+	private static final int IV_LENGTH = 16;
+	private static final int HEADER_LENGTH = 8 + SALT_LENGTH + MAC_LENGTH;
+	private static final int KDF_ITERATIONS = 10000;
+	private static final int MAX_RECORD_LENGTH = 1024 * 1024;
+
+	// 만료된 레코드 정리시 서버와의 시간차를 고려한 여유시간.
+	private static final long EXPIRATION_GRACE = 24 * 60 * 60 * 1000L;
+
+	// 같은 JVM 에서 같은 파일을 사용하는 저장소들의 잠금. FileLock 은 JVM 단위로
+	// 잡히므로 JVM 안에서는 이 객체로 먼저 동기화합니다.
+	private static final Map<String, Object> monitors = new HashMap<String, Object>();
+
+	private final File file;
+	private final File tempFile;
+	private final File lockPath;
+	private final Object monitor;
+	private final String passphrase;
+	private final Gson gson = new Gson();
+	private final SecureRandom random = new SecureRandom();
+
+	private RandomAccessFile raf;
+	private RandomAccessFile lockFile;
+	private long generation;
+	private long scanned;
+	private byte[] salt;
+	private SecretKeySpec encKey;
+	private SecretKeySpec macKey;
+
+	// tag -> 최근 레코드 위치
+	private final Map<ByteBuffer, Long> index = new HashMap<ByteBuffer, Long>();
+
+	/**
+	 * 저장소 생성. 파일은 처음 사용될 때 열립니다.
+	 * 
+	 * @param file
+	 *            store file.
+	 * @param passphrase
+	 *            passphrase to derive encryption key from.
+	 */
+	public FileTokenStore(File file, String passphrase) {
+		if (file == null)
+			throw new NullPointerException("file");
+		if (passphrase == null || passphrase.isEmpty())
+			throw new IllegalArgumentException("passphrase is required.");
+
+		this.file = file;
+		this.tempFile = new File(file.getPath() + ".tmp");
+		this.lockPath = new File(file.getPath() + ".lock");
+		this.monitor = monitorOf(file);
+		this.passphrase = passphrase;
+	}
+
+	private static Object monitorOf(File file) {
+		String path;
+		try {
+			path = file.getCanonicalPath();
+		} catch (IOException e) {
+			path = file.getAbsolutePath();
+		}
+
+		synchronized (monitors) {
+			Object monitor = monitors.get(path);
+			if (monitor == null) {
+				monitor = new Object();
+				monitors.put(path, monitor);
+			}
+			return monitor;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.TokenStore#load(java.lang.String, java.lang.String,
+	 * java.lang.String)
+	 */
+	@Override
+	public synchronized List<StoredToken> load(String LinkID,
+			String ServiceID, String CorpNum) throws IOException {
+		byte[] plain;
+
+		synchronized (monitor) {
+			FileLock lock = lock();
+			try {
+				open();
+
+				byte[] tag = tag(LinkID, ServiceID, CorpNum);
+				Long offset = index.get(ByteBuffer.wrap(tag));
+				if (offset == null)
+					return Collections.emptyList();
+
+				plain = readRecord(offset.longValue(), tag);
+			} finally {
+				lock.release();
+			}
+		}
+
+		if (plain == null)
+			return Collections.emptyList();
+
+		Record record = gson.fromJson(new String(plain, UTF8), Record.class);
+
+		List<StoredToken> tokens = new ArrayList<StoredToken>();
+		if (record.tokens != null) {
+			for (Record.Item item : record.tokens) {
+				Set<String> scopes = Collections
+						.unmodifiableSet(new TreeSet<String>(item.scopes));
+				tokens.add(new StoredToken(item.token, scopes, item.expiration));
+			}
+		}
+		return tokens;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.TokenStore#save(java.lang.String, java.lang.String,
+	 * java.lang.String, java.util.List)
+	 */
+	@Override
+	public synchronized void save(String LinkID, String ServiceID,
+			String CorpNum, List<StoredToken> tokens) throws IOException {
+		Record record = new Record();
+		record.tokens = new ArrayList<Record.Item>();
+		long expiration = Long.MIN_VALUE;
+
+		for (StoredToken stored : tokens) {
+			Record.Item item = new Record.Item();
+			item.token = stored.getToken();
+			item.scopes = new ArrayList<String>(stored.getScopes());
+			item.expiration = stored.getExpiration();
+			record.tokens.add(item);
+			expiration = Math.max(expiration, stored.getExpiration());
+		}
+
+		byte[] plain = gson.toJson(record).getBytes(UTF8);
+
+		synchronized (monitor) {
+			FileLock lock = lock();
+			try {
+				open();
+
+				byte[] tag = tag(LinkID, ServiceID, CorpNum);
+				byte[] encrypted = encryptRecord(tag, expiration, plain);
+
+				long offset = raf.length();
+				raf.seek(offset);
+				raf.write(encrypted);
+
+				index.put(ByteBuffer.wrap(tag), offset);
+				scanned = offset + encrypted.length;
+			} finally {
+				lock.release();
+			}
+		}
+	}
+
+	/**
+	 * 파일 닫기. 이후 다시 사용되면 파일을 다시 엽니다.
+	 * 
+	 * @throws IOException
+	 */
+	public synchronized void close() throws IOException {
+		try {
+			closeFile();
+		} finally {
+			if (lockFile != null) {
+				lockFile.close();
+				lockFile = null;
+			}
+		}
+	}
+
+	private void closeFile() throws IOException {
+		if (raf != null) {
+			index.clear();
+			try {
+				raf.close();
+			} finally {
+				raf = null;
+			}
+		}
+	}
+
+	/**
+	 * 저장된 회원수.
+	 * 
+	 * @return number of members in store.
+	 * @throws IOException
+	 */
+	public synchronized int size() throws IOException {
+		synchronized (monitor) {
+			FileLock lock = lock();
+			try {
+				open();
+				return index.size();
+			} finally {
+				lock.release();
+			}
+		}
+	}
+
+	/**
+	 * 잠금파일의 FileLock 획득. 잠금파일의 처음 8 byte 는 세대 값입니다.
+	 */
+	private FileLock lock() throws IOException {
+		if (lockFile == null)
+			lockFile = new RandomAccessFile(lockPath, "rw");
+
+		return lockFile.getChannel().lock();
+	}
+
+	private long readGeneration() throws IOException {
+		if (lockFile.length() < 8)
+			return 0;
+
+		lockFile.seek(0);
+		return lockFile.readLong();
+	}
+
+	/**
+	 * 파일을 정리하거나 새로 생성한 경우, 다른 프로세스가 다시 열도록 세대 값 증가.
+	 */
+	private void nextGeneration() throws IOException {
+		generation = readGeneration() + 1;
+		lockFile.seek(0);
+		lockFile.writeLong(generation);
+	}
+
+	/**
+	 * 파일 열기. 잠금을 잡은 상태에서 호출합니다. 이미 열려있으면 다른 프로세스가
+	 * 추가한 레코드를 읽고, 다른 프로세스가 파일을 대체한 경우 다시 엽니다.
+	 */
+	private void open() throws IOException {
+		long current = readGeneration();
+
+		if (raf != null && current == generation) {
+			if (raf.length() > scanned)
+				scan(scanned);
+			return;
+		}
+
+		closeFile();
+		generation = current;
+
+		// 정리 도중 기존 파일을 삭제한 후 중단된 경우 임시파일로 복구.
+		if (file.exists() == false && tempFile.exists())
+			tempFile.renameTo(file);
+		tempFile.delete();
+
+		boolean created = file.exists() == false || file.length() == 0;
+
+		raf = new RandomAccessFile(file, "rw");
+
+		try {
+			if (created || readHeader() == false) {
+				raf.setLength(0);
+				writeHeader();
+				restrictPermission();
+				scanned = raf.length();
+				nextGeneration();
+				return;
+			}
+
+			scan(HEADER_LENGTH);
+			compactIfNeeded();
+		} catch (IOException e) {
+			closeFile();
+			throw e;
+		}
+	}
+
+	private void restrictPermission() {
+		file.setReadable(false, false);
+		file.setReadable(true, true);
+		file.setWritable(false, false);
+		file.setWritable(true, true);
+	}
+
+	private boolean readHeader() throws IOException {
+		if (raf.length() < HEADER_LENGTH)
+			return false;
+
+		byte[] magic = new byte[MAGIC.length];
+		byte[] salt = new byte[SALT_LENGTH];
+		byte[] check = new byte[MAC_LENGTH];
+
+		raf.seek(0);
+		raf.readFully(magic);
+		raf.readFully(salt);
+		raf.readFully(check);
+
+		if (Arrays.equals(magic, MAGIC) == false)
+			return false;
+
+		deriveKeys(salt);
+
+		// 비밀번호가 다른 경우.
+		return MessageDigest.isEqual(check, mac(CHECK));
+	}
+
+	private void writeHeader() throws IOException {
+		byte[] salt = new byte[SALT_LENGTH];
+		random.nextBytes(salt);
+		deriveKeys(salt);
+
+		raf.seek(0);
+		raf.write(MAGIC);
+		raf.write(salt);
+		raf.write(mac(CHECK));
+	}
+
+	// 레코드 : [length][expiration][tag][iv][ciphertext][mac]
+	private void scan(long offset) throws IOException {
+		long length = raf.length();
+
+		byte[] tag = new byte[MAC_LENGTH];
+
+		while (offset + 4 <= length) {
+			raf.seek(offset);
+			int recordLength = raf.readInt();
+
+			if (recordLength < 8 + MAC_LENGTH + IV_LENGTH + MAC_LENGTH
+					|| recordLength > MAX_RECORD_LENGTH
+					|| offset + 4 + recordLength > length)
+				break;
+
+			raf.readLong();
+			raf.readFully(tag);
+			index.put(ByteBuffer.wrap(tag.clone()), offset);
+
+			offset += 4 + recordLength;
+		}
+
+		// 기록 도중 중단된 마지막 레코드 제거.
+		if (offset < length)
+			raf.setLength(offset);
+
+		scanned = offset;
+	}
+
+	private void compactIfNeeded() throws IOException {
+		long now = System.currentTimeMillis();
+		int records = 0;
+		List<Long> live = new ArrayList<Long>();
+
+		long length = raf.length();
+		long offset = HEADER_LENGTH;
+		while (offset < length) {
+			raf.seek(offset);
+			int recordLength = raf.readInt();
+			records++;
+			offset += 4 + recordLength;
+		}
+
+		for (Long position : index.values()) {
+			raf.seek(position.longValue() + 4);
+			if (raf.readLong() + EXPIRATION_GRACE >= now)
+				live.add(position);
+		}
+
+		if (records < 1000 || records < live.size() * 2)
+			return;
+
+		Collections.sort(live);
+
+		RandomAccessFile out = new RandomAccessFile(tempFile, "rw");
+		Map<ByteBuffer, Long> compacted = new HashMap<ByteBuffer, Long>();
+
+		try {
+			out.setLength(0);
+
+			byte[] header = new byte[HEADER_LENGTH];
+			raf.seek(0);
+			raf.readFully(header);
+			out.write(header);
+
+			byte[] tag = new byte[MAC_LENGTH];
+			for (Long position : live) {
+				raf.seek(position.longValue());
+				byte[] record = new byte[4 + raf.readInt()];
+				raf.seek(position.longValue());
+				raf.readFully(record);
+
+				System.arraycopy(record, 12, tag, 0, MAC_LENGTH);
+				compacted.put(ByteBuffer.wrap(tag.clone()), out.length());
+				out.write(record);
+			}
+
+			// 기존 파일을 대체하기 전에 임시파일을 디스크에 기록.
+			out.getFD().sync();
+		} finally {
+			out.close();
+		}
+
+		closeFile();
+
+		// POSIX 에서는 기존 파일을 원자적으로 대체합니다. 대상 파일이 있으면
+		// 실패하는 환경(Windows)에서는 삭제 후 이름을 변경하며, 그 사이에 중단되면
+		// 다음에 열 때 임시파일로 복구합니다.
+		if (tempFile.renameTo(file) == false
+				&& (file.delete() == false || tempFile.renameTo(file) == false))
+			throw new IOException("Fail to compact token store : " + file);
+
+		raf = new RandomAccessFile(file, "rw");
+		restrictPermission();
+
+		index.putAll(compacted);
+		scanned = raf.length();
+		nextGeneration();
+	}
+
+	private byte[] readRecord(long offset, byte[] tag) throws IOException {
+		raf.seek(offset);
+		int recordLength = raf.readInt();
+
+		byte[] body = new byte[recordLength];
+		raf.readFully(body);
+
+		int macOffset = recordLength - MAC_LENGTH;
+		byte[] expected = mac(body, 0, macOffset);
+		byte[] actual = Arrays.copyOfRange(body, macOffset, recordLength);
+
+		if (MessageDigest.isEqual(expected, actual) == false)
+			return null;
+
+		byte[] recordTag = Arrays.copyOfRange(body, 8, 8 + MAC_LENGTH);
+		if (MessageDigest.isEqual(recordTag, tag) == false)
+			return null;
+
+		int ivOffset = 8 + MAC_LENGTH;
+		int cipherOffset = ivOffset + IV_LENGTH;
+
+		try {
+			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+			cipher.init(Cipher.DECRYPT_MODE, encKey, new IvParameterSpec(body,
+					ivOffset, IV_LENGTH));
+			return cipher.doFinal(body, cipherOffset, macOffset - cipherOffset);
+		} catch (GeneralSecurityException e) {
+			return null;
+		}
+	}
+
+	private byte[] encryptRecord(byte[] tag, long expiration, byte[] plain)
+			throws IOException {
+		byte[] iv = new byte[IV_LENGTH];
+		random.nextBytes(iv);
+
+		byte[] encrypted;
+		try {
+			Cipher cipher = Cipher.getInstance("AES/CBC/PKCS5Padding");
+			cipher.init(Cipher.ENCRYPT_MODE, encKey, new IvParameterSpec(iv));
+			encrypted = cipher.doFinal(plain);
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Fail to encrypt token.", e);
+		}
+
+		int bodyLength = 8 + MAC_LENGTH + IV_LENGTH + encrypted.length
+				+ MAC_LENGTH;
+
+		ByteBuffer buffer = ByteBuffer.allocate(4 + bodyLength);
+		buffer.putInt(bodyLength);
+		buffer.putLong(expiration);
+		buffer.put(tag);
+		buffer.put(iv);
+		buffer.put(encrypted);
+		buffer.put(mac(buffer.array(), 4, bodyLength - MAC_LENGTH));
+
+		return buffer.array();
+	}
+
+	private void deriveKeys(byte[] salt) throws IOException {
+		// 정리된 파일은 같은 salt 를 사용하므로 다시 생성하지 않습니다.
+		if (encKey != null && Arrays.equals(salt, this.salt))
+			return;
+
+		try {
+			SecretKeyFactory factory = SecretKeyFactory
+					.getInstance("PBKDF2WithHmacSHA1");
+			byte[] derived = factory.generateSecret(
+					new PBEKeySpec(passphrase.toCharArray(), salt,
+							KDF_ITERATIONS, (16 + 32) * 8)).getEncoded();
+
+			encKey = new SecretKeySpec(derived, 0, 16, "AES");
+			macKey = new SecretKeySpec(derived, 16, 32, "HmacSHA256");
+			this.salt = salt.clone();
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Fail to derive key of token store.", e);
+		}
+	}
+
+	private byte[] tag(String LinkID, String ServiceID, String CorpNum)
+			throws IOException {
+		return mac((LinkID + '\n' + ServiceID + '\n' + CorpNum).getBytes(UTF8));
+	}
+
+	private byte[] mac(byte[] data) throws IOException {
+		return mac(data, 0, data.length);
+	}
+
+	private byte[] mac(byte[] data, int offset, int length) throws IOException {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA256");
+			mac.init(macKey);
+			mac.update(data, offset, length);
+			return mac.doFinal();
+		} catch (GeneralSecurityException e) {
+			throw new IOException("Fail to sign token.", e);
+		}
+	}
+
+	private static class Record {
+		List<Item> tokens;
+
+		static class Item {
+			Token token;
+			List<String> scopes;
+			long expiration;
+		}
+	}
+}
@@ -0,0 +1,880 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == AttachedFile.class)
+			return (TypeAdapter<T>) new AttachedFileAdapter(gson);
+		if (rawType == ChargeInfo.class)
+			return (TypeAdapter<T>) new ChargeInfoAdapter(gson);
+		if (rawType == ContactInfo.class)
+			return (TypeAdapter<T>) new ContactInfoAdapter(gson);
+		if (rawType == CorpInfo.class)
+			return (TypeAdapter<T>) new CorpInfoAdapter(gson);
+		if (rawType == CorpState.class)
+			return (TypeAdapter<T>) new CorpStateAdapter(gson);
+		if (rawType == FlatRateState.class)
+			return (TypeAdapter<T>) new FlatRateStateAdapter(gson);
+		if (rawType == JoinForm.class)
+			return (TypeAdapter<T>) new JoinFormAdapter(gson);
+		if (rawType == Response.class)
+			return (TypeAdapter<T>) new ResponseAdapter(gson);
+
+		return null;
+	}
+
+	private static final class AttachedFileAdapter extends TypeAdapter<AttachedFile> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"serialNum", "attachedFile", "displayName",
+				"regDT");
+
+		private static final Field FIELD_SERIAL_NUM = field(AttachedFile.class, "serialNum");
+		private static final Field FIELD_ATTACHED_FILE = field(AttachedFile.class, "attachedFile");
+		private static final Field FIELD_DISPLAY_NAME = field(AttachedFile.class, "displayName");
+		private static final Field FIELD_REG_DT = field(AttachedFile.class, "regDT");
+
+		AttachedFileAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, AttachedFile value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("attachedFile");
+			out.value(value.getAttachedFile());
+			out.name("displayName");
+			out.value(value.getDisplayName());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public AttachedFile read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			AttachedFile value = new AttachedFile();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_SERIAL_NUM, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_ATTACHED_FILE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_DISPLAY_NAME, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class ChargeInfoAdapter extends TypeAdapter<ChargeInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"unitCost", "chargeMethod", "rateSystem");
+
+		private static final Field FIELD_UNIT_COST = field(ChargeInfo.class, "unitCost");
+		private static final Field FIELD_CHARGE_METHOD = field(ChargeInfo.class, "chargeMethod");
+		private static final Field FIELD_RATE_SYSTEM = field(ChargeInfo.class, "rateSystem");
+
+		ChargeInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, ChargeInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("unitCost");
+			out.value(value.getUnitCost());
+			out.name("chargeMethod");
+			out.value(value.getChargeMethod());
+			out.name("rateSystem");
+			out.value(value.getRateSystem());
+			out.endObject();
+		}
+
+		@Override
+		public ChargeInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			ChargeInfo value = new ChargeInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_UNIT_COST, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_CHARGE_METHOD, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_RATE_SYSTEM, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class ContactInfoAdapter extends TypeAdapter<ContactInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"id", "pwd", "email",
+				"hp", "personName", "searchAllAllowYN",
+				"tel", "fax", "mgrYN",
+				"regDT");
+
+		private static final Field FIELD_REG_DT = field(ContactInfo.class, "regDT");
+
+		ContactInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, ContactInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("id");
+			out.value(value.getId());
+			out.name("pwd");
+			out.value(value.getPwd());
+			out.name("email");
+			out.value(value.getEmail());
+			out.name("hp");
+			out.value(value.getHp());
+			out.name("personName");
+			out.value(value.getPersonName());
+			out.name("searchAllAllowYN");
+			writeBoolean(out, value.getSearchAllAllowYN());
+			out.name("tel");
+			out.value(value.getTel());
+			out.name("fax");
+			out.value(value.getFax());
+			out.name("mgrYN");
+			writeBoolean(out, value.getMgrYN());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public ContactInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			ContactInfo value = new ContactInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setId(readString(in));
+						break;
+					case 1:
+						value.setPwd(readString(in));
+						break;
+					case 2:
+						value.setEmail(readString(in));
+						break;
+					case 3:
+						value.setHp(readString(in));
+						break;
+					case 4:
+						value.setPersonName(readString(in));
+						break;
+					case 5:
+						value.setSearchAllAllowYN(readBoolean(in));
+						break;
+					case 6:
+						value.setTel(readString(in));
+						break;
+					case 7:
+						value.setFax(readString(in));
+						break;
+					case 8:
+						value.setMgrYN(readBoolean(in));
+						break;
+					case 9:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class CorpInfoAdapter extends TypeAdapter<CorpInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"ceoname", "corpName", "addr",
+				"bizType", "bizClass");
+
+		CorpInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, CorpInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ceoname");
+			out.value(value.getCeoname());
+			out.name("corpName");
+			out.value(value.getCorpName());
+			out.name("addr");
+			out.value(value.getAddr());
+			out.name("bizType");
+			out.value(value.getBizType());
+			out.name("bizClass");
+			out.value(value.getBizClass());
+			out.endObject();
+		}
+
+		@Override
+		public CorpInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			CorpInfo value = new CorpInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setCeoname(readString(in));
+						break;
+					case 1:
+						value.setCorpName(readString(in));
+						break;
+					case 2:
+						value.setAddr(readString(in));
+						break;
+					case 3:
+						value.setBizType(readString(in));
+						break;
+					case 4:
+						value.setBizClass(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class CorpStateAdapter extends TypeAdapter<CorpState> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"corpNum", "type", "state",
+				"stateDate", "checkDate");
+
+		private static final Field FIELD_CORP_NUM = field(CorpState.class, "corpNum");
+		private static final Field FIELD_TYPE = field(CorpState.class, "type");
+		private static final Field FIELD_STATE = field(CorpState.class, "state");
+		private static final Field FIELD_STATE_DATE = field(CorpState.class, "stateDate");
+		private static final Field FIELD_CHECK_DATE = field(CorpState.class, "checkDate");
+
+		CorpStateAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, CorpState value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("corpNum");
+			out.value(value.getCorpNum());
+			out.name("type");
+			out.value(value.getType());
+			out.name("state");
+			out.value(value.getState());
+			out.name("stateDate");
+			out.value(value.getStateDate());
+			out.name("checkDate");
+			out.value(value.getCheckDate());
+			out.endObject();
+		}
+
+		@Override
+		public CorpState read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			CorpState value = new CorpState();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CORP_NUM, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TYPE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_STATE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_STATE_DATE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_CHECK_DATE, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class FlatRateStateAdapter extends TypeAdapter<FlatRateState> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"referenceID", "contractDT", "baseDate",
+				"useEndDate", "state", "closeRequestYN",
+				"useRestrictYN", "closeOnExpired", "unPaidYN");
+
+		private static final Field FIELD_REFERENCE_ID = field(FlatRateState.class, "referenceID");
+		private static final Field FIELD_CONTRACT_DT = field(FlatRateState.class, "contractDT");
+		private static final Field FIELD_BASE_DATE = field(FlatRateState.class, "baseDate");
+		private static final Field FIELD_USE_END_DATE = field(FlatRateState.class, "useEndDate");
+		private static final Field FIELD_STATE = field(FlatRateState.class, "state");
+		private static final Field FIELD_CLOSE_REQUEST_YN = field(FlatRateState.class, "closeRequestYN");
+		private static final Field FIELD_USE_RESTRICT_YN = field(FlatRateState.class, "useRestrictYN");
+		private static final Field FIELD_CLOSE_ON_EXPIRED = field(FlatRateState.class, "closeOnExpired");
+		private static final Field FIELD_UN_PAID_YN = field(FlatRateState.class, "unPaidYN");
+
+		FlatRateStateAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, FlatRateState value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("referenceID");
+			out.value(value.getReferenceID());
+			out.name("contractDT");
+			out.value(value.getContractDT());
+			out.name("baseDate");
+			out.value(value.getBaseDate());
+			out.name("useEndDate");
+			out.value(value.getUseEndDate());
+			out.name("state");
+			out.value(value.getState());
+			out.name("closeRequestYN");
+			writeBoolean(out, value.getCloseRequestYN());
+			out.name("useRestrictYN");
+			writeBoolean(out, value.getUseRestrictYN());
+			out.name("closeOnExpired");
+			writeBoolean(out, value.getCloseOnExpired());
+			out.name("unPaidYN");
+			writeBoolean(out, value.getUnPaidYN());
+			out.endObject();
+		}
+
+		@Override
+		public FlatRateState read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			FlatRateState value = new FlatRateState();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_REFERENCE_ID, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_CONTRACT_DT, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_BASE_DATE, value, readShort(in));
+						break;
+					case 3:
+						set(FIELD_USE_END_DATE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_STATE, value, readShort(in));
+						break;
+					case 5:
+						set(FIELD_CLOSE_REQUEST_YN, value, readBoolean(in));
+						break;
+					case 6:
+						set(FIELD_USE_RESTRICT_YN, value, readBoolean(in));
+						break;
+					case 7:
+						set(FIELD_CLOSE_ON_EXPIRED, value, readBoolean(in));
+						break;
+					case 8:
+						set(FIELD_UN_PAID_YN, value, readBoolean(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class JoinFormAdapter extends TypeAdapter<JoinForm> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"ID", "PWD", "LinkID",
+				"CorpNum", "CEOName", "CorpName",
+				"Addr", "ZipCode", "BizType",
+				"BizClass", "ContactName", "ContactTEL",
+				"ContactHP", "ContactFAX", "ContactEmail");
+
+		JoinFormAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, JoinForm value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ID");
+			out.value(value.getID());
+			out.name("PWD");
+			out.value(value.getPWD());
+			out.name("LinkID");
+			out.value(value.getLinkID());
+			out.name("CorpNum");
+			out.value(value.getCorpNum());
+			out.name("CEOName");
+			out.value(value.getCEOName());
+			out.name("CorpName");
+			out.value(value.getCorpName());
+			out.name("Addr");
+			out.value(value.getAddr());
+			out.name("ZipCode");
+			out.value(value.getZipCode());
+			out.name("BizType");
+			out.value(value.getBizType());
+			out.name("BizClass");
+			out.value(value.getBizClass());
+			out.name("ContactName");
+			out.value(value.getContactName());
+			out.name("ContactTEL");
+			out.value(value.getContactTEL());
+			out.name("ContactHP");
+			out.value(value.getContactHP());
+			out.name("ContactFAX");
+			out.value(value.getContactFAX());
+			out.name("ContactEmail");
+			out.value(value.getContactEmail());
+			out.endObject();
+		}
+
+		@Override
+		public JoinForm read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			JoinForm value = new JoinForm();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setID(readString(in));
+						break;
+					case 1:
+						value.setPWD(readString(in));
+						break;
+					case 2:
+						value.setLinkID(readString(in));
+						break;
+					case 3:
+						value.setCorpNum(readString(in));
+						break;
+					case 4:
+						value.setCEOName(readString(in));
+						break;
+					case 5:
+						value.setCorpName(readString(in));
+						break;
+					case 6:
+						value.setAddr(readString(in));
+						break;
+					case 7:
+						value.setZipCode(readString(in));
+						break;
+					case 8:
+						value.setBizType(readString(in));
+						break;
+					case 9:
+						value.setBizClass(readString(in));
+						break;
+					case 10:
+						value.setContactName(readString(in));
+						break;
+					case 11:
+						value.setContactTEL(readString(in));
+						break;
+					case 12:
+						value.setContactHP(readString(in));
+						break;
+					case 13:
+						value.setContactFAX(readString(in));
+						break;
+					case 14:
+						value.setContactEmail(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class ResponseAdapter extends TypeAdapter<Response> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "message");
+
+		private static final Field FIELD_CODE = field(Response.class, "code");
+		private static final Field FIELD_MESSAGE = field(Response.class, "message");
+
+		ResponseAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, Response value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("message");
+			out.value(value.getMessage());
+			out.endObject();
+		}
+
+		@Override
+		public Response read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Response value = new Response();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_CODE, value, readLong(in));
+						break;
+					case 1:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
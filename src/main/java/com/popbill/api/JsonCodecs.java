@@ -0,0 +1,101 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import com.popbill.api.transport.GsonJsonCodec;
+import com.popbill.api.transport.JsonCodec;
+
+/**
+ * 기본 JSON Codec.
+ * 
+ * 시스템 속성 popbill.json.codec 에 JsonCodec 구현 클래스 이름을 지정하면 그 구현을
+ * 기본으로 사용합니다. 구현 클래스에는 인자 없는 public 생성자가 있어야 합니다.
+ * 지정하지 않은 경우 PopbillGson 을 사용하는 GsonJsonCodec 입니다.
+ * 
+ * ex) -Dpopbill.json.codec=com.popbill.api.jackson.JacksonJsonCodec
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class JsonCodecs {
+
+	/** 기본 구현을 지정하는 시스템 속성 이름. */
+	public static final String CODEC_PROPERTY = "popbill.json.codec";
+
+	private static volatile JsonCodec defaultCodec;
+
+	private JsonCodecs() {
+	}
+
+	/**
+	 * 기본 JSON Codec 확인. 처음 호출할 때 시스템 속성을 확인합니다.
+	 * 
+	 * @return default JsonCodec.
+	 * @throws IllegalStateException
+	 *             if configured class can not be instantiated.
+	 */
+	public static JsonCodec getDefault() {
+		JsonCodec codec = defaultCodec;
+
+		if (codec == null) {
+			synchronized (JsonCodecs.class) {
+				if (defaultCodec == null)
+					defaultCodec = create(System.getProperty(CODEC_PROPERTY));
+				codec = defaultCodec;
+			}
+		}
+		return codec;
+	}
+
+	/**
+	 * PopbillGson 을 사용하는 Gson Codec 생성.
+	 * 
+	 * @return GsonJsonCodec.
+	 */
+	public static JsonCodec gson() {
+		return new GsonJsonCodec(PopbillGson.get());
+	}
+
+	/**
+	 * 클래스 이름으로 JSON Codec 생성.
+	 * 
+	 * @param className
+	 *            name of JsonCodec implementation. null or empty for Gson.
+	 * @return JsonCodec.
+	 * @throws IllegalStateException
+	 *             if class can not be instantiated.
+	 */
+	public static JsonCodec create(String className) {
+		if (className == null || className.trim().isEmpty())
+			return gson();
+
+		try {
+			Class<?> clazz = Class.forName(className.trim());
+			return clazz.asSubclass(JsonCodec.class).newInstance();
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("JsonCodec 구현을 찾을 수 없습니다. : "
+					+ className, e);
+		} catch (ClassCastException e) {
+			throw new IllegalStateException("JsonCodec 구현이 아닙니다. : "
+					+ className, e);
+		} catch (InstantiationException e) {
+			throw new IllegalStateException("JsonCodec 구현을 생성할 수 없습니다. : "
+					+ className, e);
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException("JsonCodec 구현을 생성할 수 없습니다. : "
+					+ className, e);
+		}
+	}
+}
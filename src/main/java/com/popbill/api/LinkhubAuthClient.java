@@ -0,0 +1,305 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import kr.co.linkhub.auth.Token;
+
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.JsonCodec;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RequestBody;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+/**
+ * 링크허브 인증 서버 클라이언트.
+ * 
+ * 인증 서버 URL 을 지정한 경우 linkhub-auth 의 TokenBuilder 대신 사용되며, 같은
+ * 방식으로 서명한 요청을 PopbillTransport 로 전송합니다. (ex. 시험용 Mock 서버)
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class LinkhubAuthClient {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final String APIVersion = "1.0";
+	private static final char[] BASE64 = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/"
+			.toCharArray();
+
+	private final String authURL;
+	private final String linkID;
+	private final String secretKey;
+	private final PopbillTransport transport;
+	private final JsonCodec codec;
+
+	LinkhubAuthClient(String authURL, String linkID, String secretKey,
+			PopbillTransport transport, JsonCodec codec) {
+		this.authURL = authURL;
+		this.linkID = linkID;
+		this.secretKey = secretKey;
+		this.transport = transport;
+		this.codec = codec;
+	}
+
+	private static class TokenRequest {
+		String access_id;
+		List<String> scope;
+	}
+
+	private static class PointResponse {
+		double remainPoint;
+	}
+
+	/**
+	 * 세션토큰 발급.
+	 * 
+	 * @param ServiceID
+	 * @param AccessID
+	 *            회원 사업자번호
+	 * @param scopes
+	 * @param ForwardIP
+	 *            null if none.
+	 * @return issued token.
+	 * @throws PopbillException
+	 */
+	Token build(String ServiceID, String AccessID, Set<String> scopes,
+			String ForwardIP) throws PopbillException {
+		TokenRequest tokenRequest = new TokenRequest();
+		tokenRequest.access_id = AccessID;
+		tokenRequest.scope = new ArrayList<String>(scopes);
+
+		ByteArrayOutputStream body = new ByteArrayOutputStream();
+		try {
+			codec.write(tokenRequest, body);
+		} catch (IOException e) {
+			// ByteArrayOutputStream never fails.
+			throw new IllegalStateException(e);
+		}
+		byte[] postData = body.toByteArray();
+
+		String uri = "/" + ServiceID + "/Token";
+		String invokeTime = formatUTC(new Date());
+
+		StringBuilder signTarget = new StringBuilder();
+		signTarget.append("POST\n");
+		signTarget.append(base64(digest(postData))).append('\n');
+		signTarget.append(invokeTime).append('\n');
+		if (ForwardIP != null && ForwardIP.isEmpty() == false)
+			signTarget.append(ForwardIP).append('\n');
+		signTarget.append(APIVersion).append('\n');
+		signTarget.append(uri);
+
+		TransportRequest request = new TransportRequest("POST", authURL + uri);
+		request.setHeader("x-lh-date", invokeTime);
+		request.setHeader("x-lh-version", APIVersion);
+		if (ForwardIP != null && ForwardIP.isEmpty() == false)
+			request.setHeader("x-lh-forwarded", ForwardIP);
+		request.setHeader("Authorization", "LINKHUB " + linkID + " "
+				+ base64(sign(signTarget.toString().getBytes(UTF8))));
+		request.setHeader("Content-Type", "application/json; charset=utf8");
+		request.setBody(RequestBody.create(postData));
+		// 토큰은 다시 발급받아도 되므로 응답을 받지 못하면 재전송할 수 있습니다.
+		request.setIdempotency(Idempotency.IDEMPOTENT);
+
+		return execute(request, Token.class);
+	}
+
+	/**
+	 * 인증 서버 시간 확인.
+	 * 
+	 * @return UTC time. (yyyy-MM-dd'T'HH:mm:ss'Z')
+	 * @throws PopbillException
+	 */
+	String getTime() throws PopbillException {
+		TransportRequest request = new TransportRequest("GET", authURL
+				+ "/Time");
+
+		try {
+			TransportResponse response = transport.execute(request);
+			try {
+				String body = new String(readFully(response.getBody()), UTF8)
+						.trim();
+				if (response.getStatusCode() >= 400)
+					throw new PopbillException(-99999999,
+							"Fail to receive time from Linkhub server.");
+				return body;
+			} finally {
+				response.close();
+			}
+		} catch (IOException e) {
+			throw new PopbillException(-99999999,
+					"Fail to receive time from Linkhub server.", e);
+		}
+	}
+
+	/**
+	 * 잔여포인트 확인.
+	 * 
+	 * @param ServiceID
+	 * @param SessionToken
+	 * @param partner
+	 *            true for partner point.
+	 * @return remaining point.
+	 * @throws PopbillException
+	 */
+	double getBalance(String ServiceID, String SessionToken, boolean partner)
+			throws PopbillException {
+		TransportRequest request = new TransportRequest("GET", authURL + "/"
+				+ ServiceID + (partner ? "/PartnerPoint" : "/Point"));
+		request.setHeader("Authorization", "Bearer " + SessionToken);
+
+		return execute(request, PointResponse.class).remainPoint;
+	}
+
+	private <T> T execute(TransportRequest request, Class<T> clazz)
+			throws PopbillException {
+		try {
+			TransportResponse response = transport.execute(request);
+			try {
+				InputStream input = response.getBody();
+
+				if (response.getStatusCode() >= 400) {
+					Response error = null;
+					try {
+						error = codec.read(input, Response.class);
+					} catch (RuntimeException e) {
+					}
+
+					if (error == null)
+						throw new PopbillException(-99999999,
+								"Fail to receive data from Linkhub server. HTTP "
+										+ response.getStatusCode());
+					throw new PopbillException(error.getCode(),
+							error.getMessage());
+				}
+
+				T result = codec.read(input, clazz);
+				if (result == null)
+					throw new PopbillException(-99999999,
+							"Empty response from Linkhub server.");
+				return result;
+			} finally {
+				response.close();
+			}
+		} catch (IOException e) {
+			throw new PopbillException(-99999999,
+					"Fail to receive data from Linkhub server.", e);
+		}
+	}
+
+	private byte[] sign(byte[] target) {
+		try {
+			Mac mac = Mac.getInstance("HmacSHA1");
+			mac.init(new SecretKeySpec(base64Decode(secretKey), "HmacSHA1"));
+			return mac.doFinal(target);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static byte[] digest(byte[] data) {
+		try {
+			return MessageDigest.getInstance("MD5").digest(data);
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	static String formatUTC(Date date) {
+		SimpleDateFormat format = new SimpleDateFormat(
+				"yyyy-MM-dd'T'HH:mm:ss'Z'");
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		return format.format(date);
+	}
+
+	private static byte[] readFully(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[1024];
+		int read;
+
+		while ((read = input.read(buffer)) != -1)
+			output.write(buffer, 0, read);
+
+		return output.toByteArray();
+	}
+
+	static String base64(byte[] data) {
+		StringBuilder result = new StringBuilder((data.length + 2) / 3 * 4);
+
+		for (int i = 0; i < data.length; i += 3) {
+			int b = (data[i] & 0xff) << 16;
+			if (i + 1 < data.length)
+				b |= (data[i + 1] & 0xff) << 8;
+			if (i + 2 < data.length)
+				b |= data[i + 2] & 0xff;
+
+			result.append(BASE64[(b >> 18) & 0x3f]);
+			result.append(BASE64[(b >> 12) & 0x3f]);
+			result.append(i + 1 < data.length ? BASE64[(b >> 6) & 0x3f] : '=');
+			result.append(i + 2 < data.length ? BASE64[b & 0x3f] : '=');
+		}
+		return result.toString();
+	}
+
+	static byte[] base64Decode(String data) {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		int bits = 0;
+		int count = 0;
+
+		for (int i = 0; i < data.length(); i++) {
+			char c = data.charAt(i);
+			int value;
+
+			if (c >= 'A' && c <= 'Z')
+				value = c - 'A';
+			else if (c >= 'a' && c <= 'z')
+				value = c - 'a' + 26;
+			else if (c >= '0' && c <= '9')
+				value = c - '0' + 52;
+			else if (c == '+' || c == '-')
+				value = 62;
+			else if (c == '/' || c == '_')
+				value = 63;
+			else
+				continue;
+
+			bits = (bits << 6) | value;
+			count += 6;
+
+			if (count >= 8) {
+				count -= 8;
+				output.write((bits >> count) & 0xff);
+			}
+		}
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * 처리여부 확인. 등록, 발행 등 중복 처리되면 안되는 요청이나 삭제와 같이 다시
+ * 보내면 오류가 되는 요청의 응답을 받지 못한 경우, 재시도 전에 이전 요청이
+ * 처리되었는지 확인하는데 사용됩니다. 처리된 경우 PopbillException.ALREADY_APPLIED
+ * 로 실패합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public interface OutcomeCheck {
+
+	/**
+	 * 이전 요청의 처리여부 확인. (ex. 등록은 checkMgtKeyInUse, 삭제는 그 반대)
+	 * 
+	 * @return true if previous attempt was applied on server.
+	 * @throws PopbillException
+	 */
+	public abstract boolean isApplied() throws PopbillException;
+}
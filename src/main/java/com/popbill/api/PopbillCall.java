@@ -0,0 +1,207 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.TransportRequest;
+
+/**
+ * Popbill API 호출 1건의 정보.
+ * 
+ * 호출마다 프로세스 안에서 고유한 상관 ID(correlation ID)가 부여되며, 재시도와
+ * 재전송은 같은 ID 를 사용합니다. Listener 가 등록된 경우에만 생성됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillCallListener
+ */
+public final class PopbillCall {
+
+	// 여러 프로세스의 로그를 합쳐도 구분되도록 시작할 때 정한 접두어를 붙입니다.
+	private static final String PREFIX = Long.toHexString(
+			new Random().nextInt() & 0xffffffL | 0x1000000L).substring(1);
+	private static final AtomicLong sequence = new AtomicLong();
+
+	private final String id;
+	private final Operation operation;
+	private final String corpNum;
+	private final TransportRequest request;
+	private final PopbillCallListener[] listeners;
+	private final long startTime = System.nanoTime();
+
+	private final AtomicInteger attempt = new AtomicInteger();
+	private volatile int statusCode;
+	private Map<String, Object> attributes;
+
+	PopbillCall(Operation operation, String CorpNum, TransportRequest request,
+			PopbillCallListener[] listeners) {
+		this.id = PREFIX + "-" + Long.toHexString(sequence.incrementAndGet());
+		this.operation = operation;
+		this.corpNum = CorpNum;
+		this.request = request;
+		this.listeners = listeners;
+
+		request.setTag(this);
+		request.setSentCallback(new Runnable() {
+			@Override
+			public void run() {
+				for (PopbillCallListener listener : PopbillCall.this.listeners) {
+					try {
+						listener.onRequestSent(PopbillCall.this);
+					} catch (RuntimeException e) {
+					}
+				}
+			}
+		});
+	}
+
+	/**
+	 * @return correlation ID of call.
+	 */
+	public String getId() {
+		return id;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return 회원 사업자번호. null if none.
+	 */
+	public String getCorpNum() {
+		return corpNum;
+	}
+
+	/**
+	 * 전송할 요청. onStart() 에서 추적용 헤더를 추가할 수 있습니다.
+	 * 
+	 * @return TransportRequest of call.
+	 */
+	public TransportRequest getRequest() {
+		return request;
+	}
+
+	/**
+	 * @return attempt number. 0 before first attempt.
+	 */
+	public int getAttempt() {
+		return attempt.get();
+	}
+
+	/**
+	 * @return HTTP status code of last response. 0 if none.
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	/**
+	 * 호출 시작 이후 경과시간.
+	 * 
+	 * @param unit
+	 * @return elapsed time.
+	 */
+	public long getElapsed(TimeUnit unit) {
+		return unit.convert(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * Listener 가 사용하는 값 확인. (ex. 추적 span)
+	 * 
+	 * @param name
+	 * @return value, or null.
+	 */
+	public synchronized Object getAttribute(String name) {
+		return attributes == null ? null : attributes.get(name);
+	}
+
+	/**
+	 * Listener 가 사용하는 값 저장.
+	 * 
+	 * @param name
+	 * @param value
+	 */
+	public synchronized void setAttribute(String name, Object value) {
+		if (attributes == null)
+			attributes = new HashMap<String, Object>();
+
+		attributes.put(name, value);
+	}
+
+	void fireStart() {
+		for (PopbillCallListener listener : listeners) {
+			try {
+				listener.onStart(this);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	void fireTokenAcquired() {
+		for (PopbillCallListener listener : listeners) {
+			try {
+				listener.onTokenAcquired(this);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	void attempt() {
+		attempt.incrementAndGet();
+	}
+
+	void fireResponseHeaders(int statusCode) {
+		this.statusCode = statusCode;
+
+		for (PopbillCallListener listener : listeners) {
+			try {
+				listener.onResponseHeaders(this, statusCode);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	void fireComplete() {
+		for (PopbillCallListener listener : listeners) {
+			try {
+				listener.onComplete(this);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	void fireError(PopbillException exception) {
+		for (PopbillCallListener listener : listeners) {
+			try {
+				listener.onError(this, exception);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PopbillCall [" + id + ", " + operation.getService() + " "
+				+ operation.getEndpoint() + ", attempt=" + attempt + "]";
+	}
+}
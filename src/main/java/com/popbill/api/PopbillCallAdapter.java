@@ -0,0 +1,48 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * 아무 동작도 하지 않는 PopbillCallListener. 필요한 메소드만 재정의하여 사용합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public abstract class PopbillCallAdapter implements PopbillCallListener {
+
+	@Override
+	public void onStart(PopbillCall call) {
+	}
+
+	@Override
+	public void onTokenAcquired(PopbillCall call) {
+	}
+
+	@Override
+	public void onRequestSent(PopbillCall call) {
+	}
+
+	@Override
+	public void onResponseHeaders(PopbillCall call, int statusCode) {
+	}
+
+	@Override
+	public void onComplete(PopbillCall call) {
+	}
+
+	@Override
+	public void onError(PopbillCall call, PopbillException exception) {
+	}
+}
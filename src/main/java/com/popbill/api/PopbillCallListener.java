@@ -0,0 +1,81 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * Popbill API Call Listener Interface.
+ * 
+ * 서비스 객체의 addCallListener() 로 등록하며, 호출마다 아래 순서로 알림을 받습니다.
+ * 재시도되는 경우 onRequestSent(), onResponseHeaders() 는 전송 시도마다
+ * 호출됩니다.
+ * 
+ * <pre>
+ * onStart → onTokenAcquired → (onRequestSent → onResponseHeaders)* → onComplete | onError
+ * </pre>
+ * 
+ * 호출 스레드에서 바로 실행되므로 대기하지 않도록 작성해야 하며, Listener 에서 발생한
+ * 예외는 무시됩니다. 필요한 메소드만 구현하려면 PopbillCallAdapter 를 상속합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillCall
+ */
+public interface PopbillCallListener {
+
+	/**
+	 * 호출 시작. 요청 헤더를 추가할 수 있습니다.
+	 * 
+	 * @param call
+	 */
+	public abstract void onStart(PopbillCall call);
+
+	/**
+	 * 세션 토큰 확인 완료. 회원 사업자번호가 없는 호출은 알리지 않습니다.
+	 * 
+	 * @param call
+	 */
+	public abstract void onTokenAcquired(PopbillCall call);
+
+	/**
+	 * 요청 본문까지 전송 완료.
+	 * 
+	 * @param call
+	 */
+	public abstract void onRequestSent(PopbillCall call);
+
+	/**
+	 * 응답 헤더 수신.
+	 * 
+	 * @param call
+	 * @param statusCode
+	 *            HTTP status code.
+	 */
+	public abstract void onResponseHeaders(PopbillCall call, int statusCode);
+
+	/**
+	 * 호출 성공.
+	 * 
+	 * @param call
+	 */
+	public abstract void onComplete(PopbillCall call);
+
+	/**
+	 * 호출 실패.
+	 * 
+	 * @param call
+	 * @param exception
+	 */
+	public abstract void onError(PopbillCall call, PopbillException exception);
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+/**
+ * Completion callback of PopbillFuture.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillFuture#addCallback(PopbillCallback)
+ */
+public interface PopbillCallback<T> {
+
+	/**
+	 * 처리 성공.
+	 * 
+	 * @param result
+	 *            result of call.
+	 */
+	public abstract void onSuccess(T result);
+
+	/**
+	 * 처리 실패.
+	 * 
+	 * @param exception
+	 *            cause of failure.
+	 */
+	public abstract void onFailure(PopbillException exception);
+}
@@ -25,6 +25,31 @@ import kr.co.linkhub.auth.LinkhubException;
 public class PopbillException extends Exception {
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * 응답을 받지 못해 재시도하려 했으나, 이전 요청이 이미 처리된 경우.
+	 */
+	public static final long ALREADY_APPLIED = -99999990;
+
+	/**
+	 * 회로 차단기가 열려 호출하지 않은 경우. 잠시 후 다시 시도해야 합니다.
+	 */
+	public static final long CIRCUIT_OPEN = -99999991;
+
+	/**
+	 * 서비스의 동시 호출 한도 또는 비동기 요청 대기열을 초과하여 호출하지 않은 경우.
+	 */
+	public static final long BULKHEAD_FULL = -99999992;
+
+	/**
+	 * 호출 속도 제한으로 대기시간 안에 허가를 받지 못한 경우.
+	 */
+	public static final long RATE_LIMITED = -99999993;
+
+	/**
+	 * 호출 제한시간(Deadline)을 초과한 경우.
+	 */
+	public static final long DEADLINE_EXCEEDED = -99999994;
+
 	private long code;
 
 	public PopbillException(LinkhubException linkhubException) {
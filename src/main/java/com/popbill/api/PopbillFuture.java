@@ -0,0 +1,57 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result of Popbill Async Service call.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncBaseService
+ */
+public interface PopbillFuture<T> extends Future<T> {
+
+	/**
+	 * 처리결과 확인. 처리가 끝날때까지 대기합니다.
+	 * 
+	 * @return result of call.
+	 * @throws PopbillException
+	 */
+	public abstract T getResult() throws PopbillException;
+
+	/**
+	 * 처리결과 확인. 지정한 시간까지만 대기합니다.
+	 * 
+	 * @param timeout
+	 *            maximum time to wait.
+	 * @param unit
+	 *            unit of timeout.
+	 * @return result of call.
+	 * @throws PopbillException
+	 */
+	public abstract T getResult(long timeout, TimeUnit unit)
+			throws PopbillException;
+
+	/**
+	 * 처리완료 콜백 등록. 이미 처리가 끝난 경우 즉시 호출됩니다.
+	 * 
+	 * @param callback
+	 *            callback to be notified.
+	 */
+	public abstract void addCallback(PopbillCallback<? super T> callback);
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * PopbillFuture implementation backed by FutureTask.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+class PopbillFutureTask<T> extends FutureTask<T> implements PopbillFuture<T> {
+
+	private final List<PopbillCallback<? super T>> callbacks = new ArrayList<PopbillCallback<? super T>>();
+	private final CallCancellation cancellation = new CallCancellation();
+	private boolean completed;
+
+	PopbillFutureTask(Callable<T> callable) {
+		super(callable);
+	}
+
+	@Override
+	public void run() {
+		CallCancellation previous = CallCancellation.enter(cancellation);
+		try {
+			super.run();
+		} finally {
+			CallCancellation.exit(previous);
+		}
+	}
+
+	/**
+	 * 호출 취소. mayInterruptIfRunning 이 true 이면 진행중인 요청의 연결도
+	 * 닫습니다.
+	 */
+	@Override
+	public boolean cancel(boolean mayInterruptIfRunning) {
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+
+		if (cancelled && mayInterruptIfRunning)
+			cancellation.cancel();
+
+		return cancelled;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.PopbillFuture#getResult()
+	 */
+	@Override
+	public T getResult() throws PopbillException {
+		try {
+			return get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PopbillException(-99999999, "처리결과 대기중 인터럽트가 발생했습니다.", e);
+		} catch (ExecutionException e) {
+			throw toPopbillException(e.getCause());
+		} catch (CancellationException e) {
+			throw toPopbillException(e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.PopbillFuture#getResult(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public T getResult(long timeout, TimeUnit unit) throws PopbillException {
+		try {
+			return get(timeout, unit);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PopbillException(-99999999, "처리결과 대기중 인터럽트가 발생했습니다.", e);
+		} catch (ExecutionException e) {
+			throw toPopbillException(e.getCause());
+		} catch (CancellationException e) {
+			throw toPopbillException(e);
+		} catch (TimeoutException e) {
+			throw new PopbillException(-99999999, "처리결과 대기시간이 초과되었습니다.", e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.PopbillFuture#addCallback(com.popbill.api.PopbillCallback)
+	 */
+	@Override
+	public void addCallback(PopbillCallback<? super T> callback) {
+		synchronized (callbacks) {
+			if (!completed) {
+				callbacks.add(callback);
+				return;
+			}
+		}
+
+		notify(callback);
+	}
+
+	/**
+	 * 실행 전에 실패한 경우(ex. executor 거부) 처리.
+	 */
+	void fail(Throwable cause) {
+		setException(cause);
+	}
+
+	@Override
+	protected void done() {
+		List<PopbillCallback<? super T>> pending;
+
+		synchronized (callbacks) {
+			completed = true;
+			pending = new ArrayList<PopbillCallback<? super T>>(callbacks);
+			callbacks.clear();
+		}
+
+		for (PopbillCallback<? super T> callback : pending) {
+			try {
+				notify(callback);
+			} catch (RuntimeException e) {
+				// 콜백 오류가 다른 콜백 호출을 막지 않도록 무시합니다.
+			}
+		}
+	}
+
+	private void notify(PopbillCallback<? super T> callback) {
+		T result;
+
+		try {
+			result = getResult();
+		} catch (PopbillException e) {
+			callback.onFailure(e);
+			return;
+		}
+
+		callback.onSuccess(result);
+	}
+
+	static PopbillException toPopbillException(Throwable cause) {
+		if (cause instanceof PopbillException)
+			return (PopbillException) cause;
+		if (cause instanceof CancellationException)
+			return new PopbillException(-99999999, "요청이 취소되었습니다.", cause);
+
+		return new PopbillException(-99999999, "요청 처리중 오류가 발생했습니다.", cause);
+	}
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+/**
+ * 모델 클래스용 Gson.
+ * 
+ * 패키지별 GeneratedTypeAdapterFactory 를 등록하여, 모델 클래스의 변환에 리플렉션을
+ * 사용하지 않습니다. 등록되지 않은 클래스는 Gson 기본 방식으로 변환됩니다.
+ * 
+ * 생성된 TypeAdapter 는 모델 클래스의 getter/setter 로 필드를 읽고 쓰며, setter 가
+ * 없는 조회 결과의 필드는 생성시 한번 확인한 Field 로 대입합니다. 모델 클래스의
+ * 필드는 private 으로 유지됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class PopbillGson {
+
+	private static final Gson GSON = registerTo(new GsonBuilder()).create();
+
+	private PopbillGson() {
+	}
+
+	/**
+	 * 공용 Gson 확인.
+	 * 
+	 * @return Gson instance (thread-safe)
+	 */
+	public static Gson get() {
+		return GSON;
+	}
+
+	/**
+	 * 모델 클래스 TypeAdapter 등록.
+	 * 
+	 * @param builder
+	 *            GsonBuilder
+	 * @return the same builder
+	 */
+	public static GsonBuilder registerTo(GsonBuilder builder) {
+		return builder
+				.registerTypeAdapterFactory(new com.popbill.api.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.cashbill.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.fax.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.hometax.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.message.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.statement.GeneratedTypeAdapterFactory())
+				.registerTypeAdapterFactory(new com.popbill.api.taxinvoice.GeneratedTypeAdapterFactory());
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동일 조회 요청 병합.
+ * 
+ * 같은 연동회원(LinkID, 테스트 여부), 같은 회원, 같은 사용자의 같은 URL 에 대한
+ * 조회(GET) 요청이 동시에 진행중인 경우,
+ * 먼저 시작한 요청 하나만 서버로 전송하고 나머지 호출은 그 응답을 함께 사용합니다.
+ * 응답은 JSON 으로 공유되어 호출마다 새 객체로 변환되며, 실패한 경우 대기중인 모든
+ * 호출이 같은 오류 코드로 실패합니다. 진행중인 요청이 없으면 병합하지 않으므로, 완료된
+ * 응답을 보관하지는 않습니다.
+ * 
+ * 대기중인 호출에도 각자의 호출 제한시간이 적용됩니다. 상태를 변경하는 요청과
+ * 팝빌 URL 조회(TG=)는 병합하지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.ResponseCache
+ */
+public class RequestCoalescer {
+
+	private static final RequestCoalescer defaultCoalescer = new RequestCoalescer();
+
+	/**
+	 * 병합할 요청.
+	 */
+	interface Call {
+		byte[] execute() throws PopbillException;
+	}
+
+	private static final class Key {
+		final String linkID;
+		final boolean test;
+		final String corpNum;
+		final String userID;
+		final String url;
+		final int hash;
+
+		Key(String LinkID, boolean test, String CorpNum, String UserID,
+				String url) {
+			this.linkID = LinkID;
+			this.test = test;
+			this.corpNum = CorpNum;
+			this.userID = UserID;
+			this.url = url;
+
+			int h = LinkID == null ? 0 : LinkID.hashCode();
+			h = 31 * h + (test ? 1 : 0);
+			h = 31 * h + (CorpNum == null ? 0 : CorpNum.hashCode());
+			h = 31 * h + (UserID == null ? 0 : UserID.hashCode());
+			this.hash = 31 * h + url.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj instanceof Key == false)
+				return false;
+
+			Key other = (Key) obj;
+			return test == other.test && equals(linkID, other.linkID)
+					&& equals(corpNum, other.corpNum)
+					&& equals(userID, other.userID) && url.equals(other.url);
+		}
+
+		private static boolean equals(String a, String b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+
+	private static final class Flight {
+		final CountDownLatch done = new CountDownLatch(1);
+		volatile byte[] response;
+		volatile PopbillException error;
+	}
+
+	private final ConcurrentMap<Key, Flight> flights = new ConcurrentHashMap<Key, Flight>();
+	private volatile boolean enabled = true;
+
+	private final AtomicLong requestCount = new AtomicLong();
+	private final AtomicLong coalescedCount = new AtomicLong();
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 병합기. 서로 다른 서비스 객체의 같은 요청도
+	 * 병합됩니다.
+	 * 
+	 * @return default RequestCoalescer.
+	 */
+	public static RequestCoalescer getDefault() {
+		return defaultCoalescer;
+	}
+
+	/**
+	 * 병합하지 않는 병합기 생성.
+	 * 
+	 * @return RequestCoalescer without coalescing.
+	 */
+	public static RequestCoalescer none() {
+		RequestCoalescer coalescer = new RequestCoalescer();
+		coalescer.setEnabled(false);
+		return coalescer;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 병합 사용여부 설정. 진행중인 요청에는 영향을 주지 않습니다.
+	 * 
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 요청 실행. 같은 요청이 진행중이면 전송하지 않고 그 응답을 기다립니다.
+	 * 
+	 * @param LinkID
+	 * @param test
+	 *            test mode of service.
+	 * @param CorpNum
+	 * @param UserID
+	 * @param url
+	 *            full URL of request.
+	 * @param timeout
+	 *            maximum time to wait for the request in progress, in
+	 *            milliseconds.
+	 * @param call
+	 *            sends the request.
+	 * @return JSON bytes of response.
+	 * @throws PopbillException
+	 */
+	byte[] execute(String LinkID, boolean test, String CorpNum,
+			String UserID, String url, long timeout, Call call)
+			throws PopbillException {
+		Key key = new Key(LinkID, test, CorpNum, UserID, url);
+		Flight flight = new Flight();
+		Flight running = flights.putIfAbsent(key, flight);
+
+		if (running != null) {
+			coalescedCount.incrementAndGet();
+			return await(running, timeout);
+		}
+
+		requestCount.incrementAndGet();
+
+		try {
+			flight.response = call.execute();
+			return flight.response;
+		} catch (PopbillException pe) {
+			flight.error = pe;
+			throw pe;
+		} catch (RuntimeException e) {
+			flight.error = new PopbillException(-99999999, e.getMessage(), e);
+			throw e;
+		} catch (Error e) {
+			flight.error = new PopbillException(-99999999, e.getMessage(), e);
+			throw e;
+		} finally {
+			// 완료 후 시작한 호출은 새로 요청합니다.
+			flights.remove(key, flight);
+			flight.done.countDown();
+		}
+	}
+
+	private static byte[] await(Flight flight, long timeout)
+			throws PopbillException {
+		try {
+			if (flight.done.await(timeout, TimeUnit.MILLISECONDS) == false)
+				throw BaseServiceImp.deadlineExceeded(null);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new PopbillException(-99999999, "병합된 요청 대기중 중단되었습니다.", e);
+		}
+
+		PopbillException error = flight.error;
+
+		// 호출한 스레드의 stack trace 를 남기도록 새 예외로 전달합니다.
+		if (error != null)
+			throw new PopbillException(error.getCode(), error.getMessage(),
+					error);
+
+		return flight.response;
+	}
+
+	/**
+	 * @return count of requests in progress.
+	 */
+	public int getInFlight() {
+		return flights.size();
+	}
+
+	/**
+	 * @return count of requests sent to server.
+	 */
+	public long getRequestCount() {
+		return requestCount.get();
+	}
+
+	/**
+	 * @return count of calls answered by a request in progress.
+	 */
+	public long getCoalescedCount() {
+		return coalescedCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "RequestCoalescer [enabled=" + enabled + ", inFlight="
+				+ flights.size() + ", requests=" + requestCount.get()
+				+ ", coalesced=" + coalescedCount.get() + "]";
+	}
+}
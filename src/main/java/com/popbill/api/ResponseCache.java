@@ -0,0 +1,546 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 조회 응답 캐시.
+ * 
+ * 단가, 과금정보, 회사정보, 담당자 목록과 같이 자주 바뀌지 않는 조회 응답을 종류(Kind)별
+ * 유효시간(TTL) 동안 보관합니다. 응답은 JSON 으로 보관되어 조회할 때마다 새 객체로
+ * 변환되므로, 반환된 객체를 수정해도 캐시에 영향을 주지 않습니다. 오류 응답은 보관하지
+ * 않습니다. 응답은 연동회원(LinkID)과 테스트 여부별로 구분하여 보관합니다.
+ * 
+ * 보관 건수가 maxEntries 를 넘으면 가장 오래전에 사용된 응답부터 90% 가 될때까지
+ * 제거됩니다. 회사정보와 담당자 정보를 수정하면 해당 회원의 응답이 자동으로 삭제되며,
+ * 그 밖의 변경은 invalidate() 로 삭제할 수 있습니다. 삭제 이전에 시작된 조회의 응답은
+ * 보관하지 않으므로, 수정 전의 응답이 삭제 후에 다시 보관되지 않습니다.
+ * 
+ * 조회는 잠금 없이 처리되며, 보관과 삭제는 회원 단위로 잠금합니다.
+ * 
+ * 기본적으로 사용하지 않으며, setEnabled(true) 로 사용합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class ResponseCache {
+
+	/**
+	 * 응답 종류.
+	 */
+	public enum Kind {
+		/** 단가 (getUnitCost), 기본 10분. */
+		UNIT_COST(10 * 60),
+		/** 과금정보 (getChargeInfo), 기본 10분. */
+		CHARGE_INFO(10 * 60),
+		/** 회사정보 (getCorpInfo), 기본 5분. */
+		CORP_INFO(5 * 60),
+		/** 담당자 목록 (listContact), 기본 5분. */
+		CONTACT(5 * 60),
+		/** 유통사업자 메일 목록 (getEmailPublicKeys), 기본 1시간. */
+		EMAIL_PUBLIC_KEYS(60 * 60),
+		/** 인증서 만료일시 (getCertificateExpireDate), 기본 10분. */
+		CERTIFICATE(10 * 60),
+		/** 정액제 상태 (getFlatRateState), 기본 1분. */
+		FLAT_RATE_STATE(60),
+		/** 080 수신거부 목록 (getAutoDenyList), 기본 1분. */
+		AUTO_DENY_LIST(60);
+
+		private final long defaultTtl;
+
+		private Kind(long defaultTtlSeconds) {
+			this.defaultTtl = TimeUnit.SECONDS.toNanos(defaultTtlSeconds);
+		}
+	}
+
+	/** 기본 최대 보관 건수. */
+	public static final int DEFAULT_MAX_ENTRIES = 10000;
+
+	private static final ResponseCache defaultCache = new ResponseCache();
+
+	private static final class Key {
+		final Kind kind;
+		final String linkID;
+		final boolean test;
+		final String corpNum;
+		final String userID;
+		final String url;
+		final int hash;
+
+		Key(Kind kind, String LinkID, boolean test, String CorpNum,
+				String UserID, String url) {
+			this.kind = kind;
+			this.linkID = LinkID;
+			this.test = test;
+			this.corpNum = CorpNum;
+			this.userID = UserID;
+			this.url = url;
+
+			int h = kind.hashCode();
+			h = 31 * h + (LinkID == null ? 0 : LinkID.hashCode());
+			h = 31 * h + (test ? 1 : 0);
+			h = 31 * h + (CorpNum == null ? 0 : CorpNum.hashCode());
+			h = 31 * h + (UserID == null ? 0 : UserID.hashCode());
+			this.hash = 31 * h + url.hashCode();
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj instanceof Key == false)
+				return false;
+
+			Key other = (Key) obj;
+			return kind == other.kind && test == other.test
+					&& equals(linkID, other.linkID)
+					&& equals(corpNum, other.corpNum)
+					&& equals(userID, other.userID) && url.equals(other.url);
+		}
+
+		private static boolean equals(String a, String b) {
+			return a == null ? b == null : a.equals(b);
+		}
+	}
+
+	private static final class CachedResponse {
+		final byte[] value;
+		final long expiresAt;
+
+		// 최근 사용시간. 조회시 잠금 없이 갱신.
+		volatile long usedAt;
+
+		CachedResponse(byte[] value, long expiresAt, long usedAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+			this.usedAt = usedAt;
+		}
+	}
+
+	/**
+	 * 회원별 응답 목록. 보관과 삭제는 회원 단위로 잠금합니다.
+	 */
+	private static final class Member {
+		final String name;
+		final Set<Key> keys = new HashSet<Key>();
+
+		// 마지막으로 삭제된 시점의 generation.
+		long invalidatedAt;
+
+		// 빈 목록이 제거된 경우. 제거된 목록에는 보관하지 않음.
+		boolean removed;
+
+		Member(String name, long invalidatedAt) {
+			this.name = name;
+			this.invalidatedAt = invalidatedAt;
+		}
+	}
+
+	private static final String NO_CORP_NUM = "";
+
+	private final int maxEntries;
+	private final long[] ttls = new long[Kind.values().length];
+	private volatile boolean enabled;
+
+	private final AtomicLongArray hits = new AtomicLongArray(Kind.values().length);
+	private final AtomicLongArray misses = new AtomicLongArray(Kind.values().length);
+	private final AtomicLong evictions = new AtomicLong();
+
+	private final ConcurrentMap<Key, CachedResponse> entries = new ConcurrentHashMap<Key, CachedResponse>();
+	private final ConcurrentMap<String, Member> members = new ConcurrentHashMap<String, Member>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final Object evictLock = new Object();
+
+	// 삭제할 때마다 증가. 조회 시작 이후 삭제된 경우 응답을 보관하지 않음.
+	private final AtomicLong generation = new AtomicLong();
+	private volatile long allInvalidatedAt;
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 캐시. setEnabled(true) 로 사용을 지정하기
+	 * 전까지는 보관하지 않습니다.
+	 * 
+	 * @return default ResponseCache.
+	 */
+	public static ResponseCache getDefault() {
+		return defaultCache;
+	}
+
+	/**
+	 * 보관하지 않는 캐시 생성.
+	 * 
+	 * @return ResponseCache without caching.
+	 */
+	public static ResponseCache none() {
+		return new ResponseCache();
+	}
+
+	public ResponseCache() {
+		this(DEFAULT_MAX_ENTRIES);
+	}
+
+	/**
+	 * @param maxEntries
+	 *            maximum number of responses.
+	 */
+	public ResponseCache(int maxEntries) {
+		if (maxEntries < 1)
+			throw new IllegalArgumentException("maxEntries must be positive.");
+
+		this.maxEntries = maxEntries;
+
+		for (Kind kind : Kind.values())
+			ttls[kind.ordinal()] = kind.defaultTtl;
+	}
+
+	public int getMaxEntries() {
+		return maxEntries;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 캐시 사용여부 설정. 사용하지 않도록 설정하면 보관중인 응답도 삭제됩니다.
+	 * 
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+
+		if (enabled == false)
+			invalidateAll();
+	}
+
+	/**
+	 * 응답 종류의 유효시간 설정. 0 인 경우 해당 종류는 보관하지 않습니다.
+	 * 
+	 * @param kind
+	 * @param ttl
+	 * @param unit
+	 */
+	public void setTtl(Kind kind, long ttl, TimeUnit unit) {
+		if (ttl < 0)
+			throw new IllegalArgumentException("ttl must not be negative.");
+
+		synchronized (ttls) {
+			ttls[kind.ordinal()] = unit.toNanos(ttl);
+		}
+		invalidate(null, kind);
+	}
+
+	/**
+	 * @param kind
+	 * @param unit
+	 * @return ttl of kind.
+	 */
+	public long getTtl(Kind kind, TimeUnit unit) {
+		return unit.convert(ttl(kind), TimeUnit.NANOSECONDS);
+	}
+
+	private long ttl(Kind kind) {
+		synchronized (ttls) {
+			return ttls[kind.ordinal()];
+		}
+	}
+
+	/**
+	 * 현재 generation. 조회를 요청하기 전에 확인하여 put() 에 전달하며, 그 사이에
+	 * 삭제된 회원의 응답은 보관하지 않습니다.
+	 * 
+	 * @return current generation.
+	 */
+	long generation() {
+		return generation.get();
+	}
+
+	/**
+	 * 보관중인 응답 확인. 조회 결과는 hit/miss 로 집계됩니다.
+	 * 
+	 * @return JSON bytes of response, or null if not cached.
+	 */
+	byte[] get(Kind kind, String LinkID, boolean test, String CorpNum,
+			String UserID, String url) {
+		if (enabled == false || ttl(kind) == 0)
+			return null;
+
+		Key key = new Key(kind, LinkID, test, CorpNum, UserID, url);
+		CachedResponse entry = entries.get(key);
+		long now = System.nanoTime();
+
+		if (entry != null && entry.expiresAt - now <= 0) {
+			remove(key, entry);
+			entry = null;
+		}
+
+		if (entry == null) {
+			misses.incrementAndGet(kind.ordinal());
+			return null;
+		}
+
+		entry.usedAt = now;
+		hits.incrementAndGet(kind.ordinal());
+		return entry.value;
+	}
+
+	/**
+	 * 응답 보관. generation 이후 해당 회원의 응답이 삭제된 경우 보관하지 않습니다.
+	 * 
+	 * @param generation
+	 *            generation() before request.
+	 */
+	void put(Kind kind, String LinkID, boolean test, String CorpNum,
+			String UserID, String url, byte[] value, long generation) {
+		long ttl = ttl(kind);
+
+		if (enabled == false || ttl == 0)
+			return;
+
+		Key key = new Key(kind, LinkID, test, CorpNum, UserID, url);
+		long now = System.nanoTime();
+		CachedResponse entry = new CachedResponse(value, now + ttl, now);
+
+		while (true) {
+			Member member = member(CorpNum);
+
+			synchronized (member) {
+				if (member.removed)
+					continue;
+
+				if (member.invalidatedAt > generation
+						|| allInvalidatedAt > generation)
+					return;
+
+				member.keys.add(key);
+				if (entries.put(key, entry) == null)
+					size.incrementAndGet();
+			}
+			break;
+		}
+
+		if (size.get() > maxEntries)
+			evictLeastRecentlyUsed();
+	}
+
+	private Member member(String CorpNum) {
+		String name = CorpNum == null ? NO_CORP_NUM : CorpNum;
+		Member member = members.get(name);
+
+		if (member == null) {
+			// 생성 이전에 시작된 조회는 보관하지 않도록 현재 generation 으로 시작.
+			Member created = new Member(name, generation.get());
+			member = members.putIfAbsent(name, created);
+			if (member == null)
+				member = created;
+		}
+
+		return member;
+	}
+
+	private void remove(Key key, CachedResponse entry) {
+		Member member = members.get(key.corpNum == null ? NO_CORP_NUM
+				: key.corpNum);
+
+		if (member == null) {
+			if (entries.remove(key, entry))
+				size.decrementAndGet();
+			return;
+		}
+
+		synchronized (member) {
+			if (entries.remove(key, entry)) {
+				size.decrementAndGet();
+				member.keys.remove(key);
+				if (member.keys.isEmpty())
+					removeMember(member);
+			}
+		}
+	}
+
+	private void evictLeastRecentlyUsed() {
+		synchronized (evictLock) {
+			int count = size.get();
+			if (count <= maxEntries)
+				return;
+
+			int target = Math.max(1, maxEntries - maxEntries / 10);
+
+			List<Map.Entry<Key, CachedResponse>> snapshot = new ArrayList<Map.Entry<Key, CachedResponse>>(
+					entries.entrySet());
+			count = snapshot.size();
+			if (count <= target)
+				return;
+
+			// 정렬 중 값이 바뀌지 않도록 사용시간을 먼저 복사.
+			final long[] usedAt = new long[count];
+			Integer[] order = new Integer[count];
+			for (int i = 0; i < count; i++) {
+				usedAt[i] = snapshot.get(i).getValue().usedAt;
+				order[i] = i;
+			}
+
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					long x = usedAt[a.intValue()];
+					long y = usedAt[b.intValue()];
+					return x - y < 0 ? -1 : x == y ? 0 : 1;
+				}
+			});
+
+			for (int i = 0; i < count - target; i++) {
+				Map.Entry<Key, CachedResponse> eldest = snapshot.get(order[i]
+						.intValue());
+				remove(eldest.getKey(), eldest.getValue());
+				evictions.incrementAndGet();
+			}
+
+			// 응답이 없는 회원 제거.
+			for (Member member : members.values()) {
+				synchronized (member) {
+					if (member.keys.isEmpty())
+						removeMember(member);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 회원의 응답 삭제.
+	 * 
+	 * @param CorpNum
+	 *            회원 사업자번호
+	 */
+	public void invalidate(String CorpNum) {
+		invalidate(CorpNum, null);
+	}
+
+	/**
+	 * 응답 삭제. 삭제 이전에 시작된 조회의 응답도 보관하지 않습니다.
+	 * 
+	 * @param CorpNum
+	 *            회원 사업자번호. null 인 경우 모든 회원.
+	 * @param kind
+	 *            응답 종류. null 인 경우 모든 종류.
+	 */
+	public void invalidate(String CorpNum, Kind kind) {
+		if (CorpNum == null) {
+			allInvalidatedAt = generation.incrementAndGet();
+
+			for (Member member : members.values())
+				invalidate(member, kind, allInvalidatedAt);
+			return;
+		}
+
+		// 목록이 없어도 이후 생성되는 목록은 증가된 generation 으로 시작.
+		long at = generation.incrementAndGet();
+		Member member = members.get(CorpNum);
+		if (member != null)
+			invalidate(member, kind, at);
+	}
+
+	private void invalidate(Member member, Kind kind, long at) {
+		synchronized (member) {
+			if (member.invalidatedAt < at)
+				member.invalidatedAt = at;
+
+			Iterator<Key> keys = member.keys.iterator();
+			while (keys.hasNext()) {
+				Key key = keys.next();
+
+				if (kind == null || kind == key.kind) {
+					keys.remove();
+					if (entries.remove(key) != null)
+						size.decrementAndGet();
+				}
+			}
+
+			if (member.keys.isEmpty())
+				removeMember(member);
+		}
+	}
+
+	// member 잠금 상태에서 호출.
+	private void removeMember(Member member) {
+		member.removed = true;
+		members.remove(member.name, member);
+	}
+
+	/**
+	 * 모든 응답 삭제.
+	 */
+	public void invalidateAll() {
+		invalidate(null, null);
+	}
+
+	public int size() {
+		return size.get();
+	}
+
+	public long getHitCount(Kind kind) {
+		return hits.get(kind.ordinal());
+	}
+
+	public long getMissCount(Kind kind) {
+		return misses.get(kind.ordinal());
+	}
+
+	public long getHitCount() {
+		long sum = 0;
+		for (int i = 0; i < hits.length(); i++)
+			sum += hits.get(i);
+		return sum;
+	}
+
+	public long getMissCount() {
+		long sum = 0;
+		for (int i = 0; i < misses.length(); i++)
+			sum += misses.get(i);
+		return sum;
+	}
+
+	/**
+	 * @return count of responses removed for maxEntries.
+	 */
+	public long getEvictionCount() {
+		return evictions.get();
+	}
+
+	@Override
+	public String toString() {
+		return "ResponseCache [size=" + size.get() + "/" + maxEntries
+				+ ", hit=" + getHitCount() + ", miss=" + getMissCount()
+				+ ", evicted=" + evictions.get() + "]";
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server Clock.
+ * 
+ * 서버 시간과 로컬 시간의 차이를 주기적으로 측정하여, 매 호출마다 서버 시간을
+ * 조회하지 않고 서버 기준 현재시간을 계산합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public abstract class ServerClock {
+
+	/**
+	 * 기본 재측정 주기. (30분)
+	 */
+	public static final long DEFAULT_SYNC_INTERVAL = 30 * 60 * 1000L;
+
+	/**
+	 * 재측정 실패시 다시 측정하기까지의 시간. (1분, 재측정 주기 이내)
+	 */
+	public static final long RETRY_INTERVAL = 60 * 1000L;
+
+	private final ReentrantLock syncLock = new ReentrantLock();
+
+	private volatile long syncInterval = DEFAULT_SYNC_INTERVAL;
+	private volatile long skew;
+	private volatile long lastSync;
+	private volatile long retryAt;
+	private volatile boolean synced;
+
+	/**
+	 * 서버 시간 조회.
+	 * 
+	 * @return current time of server in milliseconds since epoch.
+	 * @throws PopbillException
+	 */
+	protected abstract long fetchServerTime() throws PopbillException;
+
+	/**
+	 * 서버 기준 현재시간. 측정한지 재측정 주기가 지난 경우 한 쓰레드만 다시 측정하며,
+	 * 나머지 쓰레드는 이전 측정값을 사용합니다. 재측정에 실패하면 이전 측정값을
+	 * 계속 사용하고, 장애중에 호출마다 서버 시간을 조회하지 않도록 RETRY_INTERVAL
+	 * 이후에 다시 측정합니다.
+	 * 
+	 * @return estimated current time of server in milliseconds since epoch.
+	 * @throws PopbillException
+	 *             if server time has never been measured and measuring fails.
+	 */
+	public long currentTimeMillis() throws PopbillException {
+		long now = System.currentTimeMillis();
+
+		if (synced == false) {
+			syncLock.lock();
+			try {
+				if (synced == false)
+					sync();
+			} finally {
+				syncLock.unlock();
+			}
+		} else if (now - lastSync >= syncInterval && now - retryAt >= 0
+				&& syncLock.tryLock()) {
+			try {
+				if (now - lastSync >= syncInterval && now - retryAt >= 0)
+					sync();
+			} catch (PopbillException pe) {
+				// 이전 측정값을 계속 사용하고, 잠시 후 다시 측정.
+				retryAt = System.currentTimeMillis()
+						+ Math.min(RETRY_INTERVAL, syncInterval);
+			} finally {
+				syncLock.unlock();
+			}
+		}
+
+		return System.currentTimeMillis() + skew;
+	}
+
+	/**
+	 * 즉시 재측정.
+	 * 
+	 * @throws PopbillException
+	 */
+	public void sync() throws PopbillException {
+		long before = System.currentTimeMillis();
+		long serverTime = fetchServerTime();
+		long after = System.currentTimeMillis();
+
+		skew = serverTime - (before + after) / 2;
+		lastSync = after;
+		synced = true;
+	}
+
+	/**
+	 * 측정된 시간차.
+	 * 
+	 * @return server time minus local time in milliseconds.
+	 */
+	public long getSkew() {
+		return skew;
+	}
+
+	/**
+	 * 재측정 주기 확인.
+	 * 
+	 * @return sync interval in milliseconds.
+	 */
+	public long getSyncInterval() {
+		return syncInterval;
+	}
+
+	/**
+	 * 재측정 주기 설정.
+	 * 
+	 * @param syncInterval
+	 *            sync interval in milliseconds.
+	 */
+	public void setSyncInterval(long syncInterval) {
+		this.syncInterval = syncInterval;
+	}
+}
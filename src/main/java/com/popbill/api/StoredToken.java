@@ -0,0 +1,58 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.Set;
+
+import kr.co.linkhub.auth.Token;
+
+/**
+ * TokenStore 에 저장되는 세션토큰.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class StoredToken {
+
+	private final Token token;
+	private final Set<String> scopes;
+	private final long expiration;
+
+	/**
+	 * @param token
+	 *            session token.
+	 * @param scopes
+	 *            scopes of token.
+	 * @param expiration
+	 *            expiration in milliseconds since epoch (server time).
+	 */
+	public StoredToken(Token token, Set<String> scopes, long expiration) {
+		this.token = token;
+		this.scopes = scopes;
+		this.expiration = expiration;
+	}
+
+	public Token getToken() {
+		return token;
+	}
+
+	public Set<String> getScopes() {
+		return scopes;
+	}
+
+	public long getExpiration() {
+		return expiration;
+	}
+}
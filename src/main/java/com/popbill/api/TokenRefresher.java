@@ -0,0 +1,315 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Session Token Refresher.
+ * 
+ * 최근 사용된 회원의 토큰을 만료되기 전에 백그라운드에서 미리 재발급합니다. 재발급이
+ * 진행되는 동안에도 API 호출은 기존 토큰을 사용하므로, 만료 직후 첫 호출이 토큰 발급을
+ * 기다리지 않습니다. 유휴시간 동안 사용되지 않은 회원의 토큰은 캐시에서 제거됩니다.
+ * 
+ * 기본적으로 비활성화되어 있으며, start() 호출시 동작합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class TokenRefresher {
+
+	/**
+	 * 기본 재발급 여유시간. (5분)
+	 */
+	public static final long DEFAULT_REFRESH_MARGIN = 5 * 60 * 1000L;
+
+	/**
+	 * 기본 유휴시간. (30분)
+	 */
+	public static final long DEFAULT_IDLE_TIMEOUT = 30 * 60 * 1000L;
+
+	/**
+	 * 기본 확인주기. (30초)
+	 */
+	public static final long DEFAULT_CHECK_INTERVAL = 30 * 1000L;
+
+	/**
+	 * 기본 재발급 쓰레드 수.
+	 */
+	public static final int DEFAULT_THREADS = 2;
+
+	private static final AtomicInteger threadNumber = new AtomicInteger(1);
+
+	private final TokenRegistry tokenRegistry;
+
+	private volatile long refreshMargin = DEFAULT_REFRESH_MARGIN;
+	private volatile long idleTimeout = DEFAULT_IDLE_TIMEOUT;
+	private long checkInterval = DEFAULT_CHECK_INTERVAL;
+	private int threads = DEFAULT_THREADS;
+
+	private ScheduledExecutorService executor;
+	private ScheduledFuture<?> checkTask;
+
+	private final AtomicLong refreshCount = new AtomicLong();
+	private final AtomicLong failureCount = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final AtomicLong leadTimeTotal = new AtomicLong();
+	private final AtomicLong minLeadTime = new AtomicLong(Long.MAX_VALUE);
+	private volatile long lastLeadTime = -1;
+
+	/**
+	 * 토큰 재발급기 생성.
+	 * 
+	 * @param tokenRegistry
+	 *            token registry to refresh.
+	 */
+	public TokenRefresher(TokenRegistry tokenRegistry) {
+		if (tokenRegistry == null)
+			throw new NullPointerException("tokenRegistry");
+		this.tokenRegistry = tokenRegistry;
+	}
+
+	/**
+	 * 백그라운드 재발급 시작.
+	 */
+	public synchronized void start() {
+		if (executor != null)
+			return;
+
+		ScheduledThreadPoolExecutor pool = new ScheduledThreadPoolExecutor(
+				threads, new ThreadFactory() {
+					@Override
+					public Thread newThread(Runnable r) {
+						Thread thread = new Thread(r, "popbill-token-refresh-"
+								+ threadNumber.getAndIncrement());
+						thread.setDaemon(true);
+						return thread;
+					}
+				});
+
+		executor = pool;
+		checkTask = pool.scheduleWithFixedDelay(new Runnable() {
+			@Override
+			public void run() {
+				check();
+			}
+		}, checkInterval, checkInterval, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 백그라운드 재발급 중지.
+	 */
+	public synchronized void stop() {
+		if (executor == null)
+			return;
+
+		checkTask.cancel(false);
+		executor.shutdownNow();
+		executor = null;
+		checkTask = null;
+	}
+
+	/**
+	 * 동작여부 확인.
+	 * 
+	 * @return true if started.
+	 */
+	public synchronized boolean isRunning() {
+		return executor != null;
+	}
+
+	/**
+	 * 만료 예정 토큰 재발급 및 유휴 토큰 제거. 확인주기마다 호출됩니다.
+	 */
+	public void check() {
+		evictionCount.addAndGet(tokenRegistry.evictIdle(idleTimeout));
+
+		final long margin = refreshMargin;
+		List<TokenRegistry.Entry> expiring = tokenRegistry.expiring(margin);
+
+		ScheduledExecutorService pool;
+		synchronized (this) {
+			pool = executor;
+		}
+
+		for (final TokenRegistry.Entry entry : expiring) {
+			Runnable task = new Runnable() {
+				@Override
+				public void run() {
+					refresh(entry, margin);
+				}
+			};
+
+			if (pool == null) {
+				task.run();
+			} else {
+				try {
+					pool.execute(task);
+				} catch (RuntimeException e) {
+					// 중지됨.
+					return;
+				}
+			}
+		}
+	}
+
+	private void refresh(TokenRegistry.Entry entry, long margin) {
+		try {
+			long leadTime = tokenRegistry.refresh(entry, margin);
+			if (leadTime < 0)
+				return;
+
+			refreshCount.incrementAndGet();
+			leadTimeTotal.addAndGet(leadTime);
+			lastLeadTime = leadTime;
+
+			long min;
+			while (leadTime < (min = minLeadTime.get())
+					&& minLeadTime.compareAndSet(min, leadTime) == false)
+				;
+		} catch (PopbillException pe) {
+			// 재발급 실패시 기존 토큰은 만료시까지 유지되며, 이후 호출시 다시 발급.
+			failureCount.incrementAndGet();
+		}
+	}
+
+	/**
+	 * 재발급 여유시간 설정. 토큰 만료시간보다 이 시간만큼 먼저 재발급합니다.
+	 * 
+	 * @param refreshMargin
+	 *            margin before expiration in milliseconds.
+	 */
+	public void setRefreshMargin(long refreshMargin) {
+		this.refreshMargin = refreshMargin;
+	}
+
+	public long getRefreshMargin() {
+		return refreshMargin;
+	}
+
+	/**
+	 * 유휴시간 설정. 이 시간동안 사용되지 않은 토큰은 캐시에서 제거됩니다.
+	 * 
+	 * @param idleTimeout
+	 *            idle time in milliseconds.
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		this.idleTimeout = idleTimeout;
+	}
+
+	public long getIdleTimeout() {
+		return idleTimeout;
+	}
+
+	/**
+	 * 확인주기 설정. start() 이전에 설정해야 합니다.
+	 * 
+	 * @param checkInterval
+	 *            check interval in milliseconds.
+	 */
+	public synchronized void setCheckInterval(long checkInterval) {
+		this.checkInterval = checkInterval;
+	}
+
+	public synchronized long getCheckInterval() {
+		return checkInterval;
+	}
+
+	/**
+	 * 재발급 쓰레드 수 설정. start() 이전에 설정해야 합니다.
+	 * 
+	 * @param threads
+	 *            number of refresh threads.
+	 */
+	public synchronized void setThreads(int threads) {
+		this.threads = threads;
+	}
+
+	public synchronized int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * 선 재발급 횟수.
+	 * 
+	 * @return number of tokens refreshed before expiration.
+	 */
+	public long getRefreshCount() {
+		return refreshCount.get();
+	}
+
+	/**
+	 * 선 재발급 실패 횟수.
+	 * 
+	 * @return number of failed refreshes.
+	 */
+	public long getFailureCount() {
+		return failureCount.get();
+	}
+
+	/**
+	 * 유휴 토큰 제거 횟수.
+	 * 
+	 * @return number of evicted idle tokens.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	/**
+	 * 최근 재발급시 기존 토큰의 남은 유효시간.
+	 * 
+	 * @return lead time in milliseconds, or -1 if never refreshed.
+	 */
+	public long getLastLeadTime() {
+		return lastLeadTime;
+	}
+
+	/**
+	 * 재발급시 기존 토큰의 최소 남은 유효시간.
+	 * 
+	 * @return minimum lead time in milliseconds, or -1 if never refreshed.
+	 */
+	public long getMinLeadTime() {
+		long min = minLeadTime.get();
+		return min == Long.MAX_VALUE ? -1 : min;
+	}
+
+	/**
+	 * 재발급시 기존 토큰의 평균 남은 유효시간.
+	 * 
+	 * @return average lead time in milliseconds, or -1 if never refreshed.
+	 */
+	public long getAverageLeadTime() {
+		long count = refreshCount.get();
+		return count == 0 ? -1 : leadTimeTotal.get() / count;
+	}
+
+	@Override
+	public String toString() {
+		return "TokenRefresher [refreshed=" + getRefreshCount() + ", failed="
+				+ getFailureCount() + ", evicted=" + getEvictionCount()
+				+ ", lastLeadTime=" + getLastLeadTime() + ", minLeadTime="
+				+ getMinLeadTime() + ", averageLeadTime="
+				+ getAverageLeadTime() + "]";
+	}
+}
@@ -0,0 +1,655 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import kr.co.linkhub.auth.Token;
+
+/**
+ * Session Token Registry.
+ * 
+ * 서비스 객체들이 공유하는 세션토큰 저장소입니다. 토큰은 LinkID, ServiceID, 회원
+ * 사업자번호 별로 관리되며, 요청한 scope 를 모두 포함하는 토큰이 있으면 다른 서비스가
+ * 발급받은 토큰이라도 재사용합니다. 새로 발급할 때는 해당 회원에 대해 이미 사용된 scope
+ * 를 합쳐서 발급하므로, 여러 서비스를 사용하는 회원도 하나의 토큰을 공유하게 됩니다.
+ * 
+ * 토큰이 만료된 경우 회원 별로 하나의 쓰레드만 토큰을 재발급하며, 나머지 쓰레드는
+ * 재발급이 끝날때까지 대기한 후 새 토큰을 사용합니다. 저장된 회원수가 용량을 넘으면
+ * 가장 오래전에 사용된 회원의 토큰부터 제거됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class TokenRegistry {
+
+	/**
+	 * 기본 용량. (회원수)
+	 */
+	public static final int DEFAULT_CAPACITY = 10000;
+
+	/**
+	 * 토큰 발급 및 만료 확인.
+	 */
+	public interface TokenLoader {
+
+		/**
+		 * 토큰 발급.
+		 * 
+		 * @param CorpNum
+		 *            회원 사업자번호
+		 * @param scopes
+		 *            scopes of token.
+		 * @return issued token.
+		 * @throws PopbillException
+		 */
+		public abstract Token load(String CorpNum, Set<String> scopes)
+				throws PopbillException;
+
+		/**
+		 * 토큰 만료시간. 토큰 발급시 한번만 호출됩니다.
+		 * 
+		 * @param token
+		 *            issued token.
+		 * @return expiration in milliseconds since epoch (server time), or
+		 *         Long.MIN_VALUE if unknown.
+		 */
+		public abstract long getExpiration(Token token);
+
+		/**
+		 * 서버 기준 현재시간.
+		 * 
+		 * @return current time of server in milliseconds since epoch.
+		 * @throws PopbillException
+		 */
+		public abstract long currentTimeMillis() throws PopbillException;
+	}
+
+	private static TokenRegistry defaultRegistry;
+
+	// LinkID -> ServiceID -> CorpNum. 호출마다 키를 생성하지 않도록 중첩된 Map 사용.
+	private final ConcurrentMap<String, ConcurrentMap<String, ConcurrentMap<String, Entry>>> linkIDs = new ConcurrentHashMap<String, ConcurrentMap<String, ConcurrentMap<String, Entry>>>();
+	private final AtomicInteger size = new AtomicInteger();
+	private final AtomicLong epoch = new AtomicLong();
+	private final AtomicLong evictionCount = new AtomicLong();
+	private final Object evictLock = new Object();
+	private final TokenRefresher refresher;
+	private final AtomicLong storeFailureCount = new AtomicLong();
+
+	private volatile int capacity;
+	private volatile TokenStore tokenStore;
+
+	/**
+	 * 기본 용량의 저장소 생성.
+	 */
+	public TokenRegistry() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 저장소 생성.
+	 * 
+	 * @param capacity
+	 *            maximum number of cached members.
+	 */
+	public TokenRegistry(int capacity) {
+		setCapacity(capacity);
+		this.refresher = new TokenRefresher(this);
+	}
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 저장소.
+	 * 
+	 * @return shared TokenRegistry.
+	 */
+	public static synchronized TokenRegistry getDefault() {
+		if (defaultRegistry == null)
+			defaultRegistry = new TokenRegistry();
+
+		return defaultRegistry;
+	}
+
+	/**
+	 * 토큰 확인. 요청한 scope 를 포함하는 유효한 토큰이 없는 경우 loader 를 통해
+	 * 발급합니다.
+	 * 
+	 * @param LinkID
+	 *            링크아이디
+	 * @param ServiceID
+	 *            서비스아이디
+	 * @param CorpNum
+	 *            회원 사업자번호
+	 * @param scopes
+	 *            required scopes. must not be modified after call.
+	 * @param loader
+	 *            loader to issue token. 저장소는 loader 를 약한 참조로 보관하므로,
+	 *            loader 가 더 이상 사용되지 않으면 해당 토큰은 선 재발급되지 않고
+	 *            다음 호출시 발급됩니다.
+	 * @return valid token.
+	 * @throws PopbillException
+	 */
+	public Token get(String LinkID, String ServiceID, String CorpNum,
+			Set<String> scopes, TokenLoader loader) throws PopbillException {
+		ConcurrentMap<String, Entry> entries = corpNums(LinkID, ServiceID);
+
+		Entry entry = entries.get(CorpNum);
+		if (entry == null)
+			entry = add(entries, LinkID, ServiceID, CorpNum);
+
+		if (entry.accessed == false)
+			entry.accessed = true;
+
+		long current = epoch.get();
+		if (entry.usedEpoch != current)
+			entry.usedEpoch = current;
+
+		Cached[] variants = entry.variants;
+		Cached cached = find(variants, scopes, loader);
+
+		if (cached != null)
+			return cached.token;
+
+		entry.lock.lock();
+		try {
+			// 대기하는 동안 다른 쓰레드가 재발급했을 수 있음.
+			if (entry.variants != variants) {
+				cached = find(entry.variants, scopes, loader);
+				if (cached != null)
+					return cached.token;
+			}
+
+			// 처음 사용되는 회원은 저장소의 토큰 확인.
+			if (entry.restored == false) {
+				entry.restored = true;
+				if (restore(entry, loader)) {
+					cached = find(entry.variants, scopes, loader);
+					if (cached != null)
+						return cached.token;
+				}
+			}
+
+			cached = issue(entry, scopes, loader);
+			persist(entry);
+
+			return cached.token;
+		} finally {
+			entry.lock.unlock();
+		}
+	}
+
+	/**
+	 * 회원 토큰 제거.
+	 * 
+	 * @param LinkID
+	 *            링크아이디
+	 * @param ServiceID
+	 *            서비스아이디
+	 * @param CorpNum
+	 *            회원 사업자번호
+	 */
+	public void remove(String LinkID, String ServiceID, String CorpNum) {
+		Entry entry = corpNums(LinkID, ServiceID).get(CorpNum);
+		if (entry != null)
+			remove(entry);
+	}
+
+	/**
+	 * 전체 토큰 제거.
+	 */
+	public void clear() {
+		for (Entry entry : entries())
+			remove(entry);
+	}
+
+	/**
+	 * 저장된 회원수.
+	 * 
+	 * @return number of cached members.
+	 */
+	public int size() {
+		return size.get();
+	}
+
+	public int getCapacity() {
+		return capacity;
+	}
+
+	/**
+	 * 용량 설정. 저장된 회원수가 용량을 넘으면 가장 오래전에 사용된 회원부터 용량의
+	 * 90% 가 될때까지 제거합니다.
+	 * 
+	 * @param capacity
+	 *            maximum number of cached members.
+	 */
+	public void setCapacity(int capacity) {
+		if (capacity < 1)
+			throw new IllegalArgumentException("capacity must be positive.");
+		this.capacity = capacity;
+	}
+
+	/**
+	 * 용량 초과로 제거된 회원수.
+	 * 
+	 * @return number of evicted members.
+	 */
+	public long getEvictionCount() {
+		return evictionCount.get();
+	}
+
+	public TokenStore getTokenStore() {
+		return tokenStore;
+	}
+
+	/**
+	 * 토큰 저장소 설정. 설정된 경우 발급된 토큰을 저장하고, 회원이 처음 사용될 때 저장된
+	 * 토큰을 먼저 확인합니다.
+	 * 
+	 * @param tokenStore
+	 *            TokenStore, or null not to persist tokens.
+	 */
+	public void setTokenStore(TokenStore tokenStore) {
+		this.tokenStore = tokenStore;
+	}
+
+	/**
+	 * 토큰 저장소 오류 횟수.
+	 * 
+	 * @return number of failed load or save.
+	 */
+	public long getStoreFailureCount() {
+		return storeFailureCount.get();
+	}
+
+	/**
+	 * 토큰 선 재발급기. 이 저장소를 사용하는 모든 서비스 객체가 공유합니다.
+	 * 
+	 * @return token refresher of this registry.
+	 */
+	public TokenRefresher getRefresher() {
+		return refresher;
+	}
+
+	private ConcurrentMap<String, Entry> corpNums(String LinkID,
+			String ServiceID) {
+		ConcurrentMap<String, ConcurrentMap<String, Entry>> serviceIDs = linkIDs
+				.get(LinkID);
+
+		if (serviceIDs == null) {
+			ConcurrentMap<String, ConcurrentMap<String, Entry>> created = new ConcurrentHashMap<String, ConcurrentMap<String, Entry>>();
+			serviceIDs = linkIDs.putIfAbsent(LinkID, created);
+			if (serviceIDs == null)
+				serviceIDs = created;
+		}
+
+		ConcurrentMap<String, Entry> entries = serviceIDs.get(ServiceID);
+
+		if (entries == null) {
+			ConcurrentMap<String, Entry> created = new ConcurrentHashMap<String, Entry>();
+			entries = serviceIDs.putIfAbsent(ServiceID, created);
+			if (entries == null)
+				entries = created;
+		}
+
+		return entries;
+	}
+
+	private List<Entry> entries() {
+		List<Entry> entries = new ArrayList<Entry>(size.get());
+
+		for (ConcurrentMap<String, ConcurrentMap<String, Entry>> serviceIDs : linkIDs
+				.values()) {
+			for (ConcurrentMap<String, Entry> corpNums : serviceIDs.values())
+				entries.addAll(corpNums.values());
+		}
+
+		return entries;
+	}
+
+	private boolean remove(Entry entry) {
+		if (entry.owner.remove(entry.CorpNum, entry)) {
+			size.decrementAndGet();
+			return true;
+		}
+		return false;
+	}
+
+	private Entry add(ConcurrentMap<String, Entry> entries, String LinkID,
+			String ServiceID, String CorpNum) {
+		Entry created = new Entry(entries, LinkID, ServiceID, CorpNum);
+		Entry existing = entries.putIfAbsent(CorpNum, created);
+		if (existing != null)
+			return existing;
+
+		created.usedEpoch = epoch.incrementAndGet();
+
+		if (size.incrementAndGet() > capacity)
+			evictLeastRecentlyUsed();
+
+		return created;
+	}
+
+	private void evictLeastRecentlyUsed() {
+		synchronized (evictLock) {
+			if (size.get() <= capacity)
+				return;
+
+			int target = Math.max(1, capacity - capacity / 10);
+
+			List<Entry> entries = entries();
+			int count = entries.size();
+			if (count <= target)
+				return;
+
+			// 마지막 추가 이후 사용된 회원은 같은 epoch 를 가지므로, 기준값 이하를
+			// 모두 제거하지 않고 오래된 순서로 정확히 count - target 명만 제거.
+			// 정렬 중 값이 바뀌지 않도록 epoch 를 먼저 복사.
+			final long[] epochs = new long[count];
+			Integer[] order = new Integer[count];
+			for (int i = 0; i < count; i++) {
+				epochs[i] = entries.get(i).usedEpoch;
+				order[i] = i;
+			}
+
+			Arrays.sort(order, new Comparator<Integer>() {
+				@Override
+				public int compare(Integer a, Integer b) {
+					long x = epochs[a.intValue()];
+					long y = epochs[b.intValue()];
+					return x < y ? -1 : x == y ? 0 : 1;
+				}
+			});
+
+			for (int i = 0; i < count - target; i++) {
+				if (remove(entries.get(order[i].intValue())))
+					evictionCount.incrementAndGet();
+			}
+		}
+	}
+
+	private static Cached find(Cached[] variants, Set<String> scopes,
+			TokenLoader loader) throws PopbillException {
+		for (Cached cached : variants) {
+			if (cached.covers(scopes) && cached.isValid(loader))
+				return cached;
+		}
+		return null;
+	}
+
+	private Cached issue(Entry entry, Set<String> scopes, TokenLoader loader)
+			throws PopbillException {
+		Set<String> union = new TreeSet<String>(scopes);
+		for (Cached cached : entry.variants)
+			union.addAll(cached.scopes);
+
+		Cached issued = null;
+
+		if (union.size() > scopes.size()) {
+			try {
+				issued = load(entry, Collections.unmodifiableSet(union), loader);
+			} catch (PopbillException pe) {
+				// 합친 scope 로 발급할 수 없는 경우 요청한 scope 로만 발급.
+			}
+		}
+
+		if (issued == null)
+			issued = load(entry, scopes, loader);
+
+		// 새 토큰이 포함하지 않는 scope 의 토큰만 유지.
+		List<Cached> variants = new ArrayList<Cached>();
+		variants.add(issued);
+		for (Cached cached : entry.variants) {
+			if (issued.scopes.containsAll(cached.scopes) == false)
+				variants.add(cached);
+		}
+
+		entry.variants = variants.toArray(new Cached[variants.size()]);
+
+		return issued;
+	}
+
+	private boolean restore(Entry entry, TokenLoader loader) {
+		TokenStore store = tokenStore;
+		if (store == null)
+			return false;
+
+		List<StoredToken> stored;
+		try {
+			stored = store.load(entry.LinkID, entry.ServiceID, entry.CorpNum);
+		} catch (IOException e) {
+			storeFailureCount.incrementAndGet();
+			return false;
+		} catch (RuntimeException e) {
+			storeFailureCount.incrementAndGet();
+			return false;
+		}
+
+		List<Cached> variants = new ArrayList<Cached>(Arrays
+				.asList(entry.variants));
+		for (StoredToken token : stored) {
+			if (token.getToken() != null && token.getScopes() != null)
+				variants.add(new Cached(token.getToken(), token.getScopes(),
+						token.getExpiration(), loader));
+		}
+
+		entry.variants = variants.toArray(new Cached[variants.size()]);
+
+		return stored.isEmpty() == false;
+	}
+
+	private void persist(Entry entry) {
+		TokenStore store = tokenStore;
+		if (store == null)
+			return;
+
+		List<StoredToken> tokens = new ArrayList<StoredToken>();
+		for (Cached cached : entry.variants)
+			tokens.add(new StoredToken(cached.token, cached.scopes,
+					cached.expiration));
+
+		try {
+			store.save(entry.LinkID, entry.ServiceID, entry.CorpNum, tokens);
+		} catch (IOException e) {
+			storeFailureCount.incrementAndGet();
+		} catch (RuntimeException e) {
+			storeFailureCount.incrementAndGet();
+		}
+	}
+
+	private static Cached load(Entry entry, Set<String> scopes,
+			TokenLoader loader) throws PopbillException {
+		Token token = loader.load(entry.CorpNum, scopes);
+		return new Cached(token, scopes, loader.getExpiration(token), loader);
+	}
+
+	/**
+	 * 만료 예정 토큰의 회원 목록. 서버 기준 현재시간으로부터 margin 이내에 만료되는
+	 * 토큰이 있는 회원을 반환합니다.
+	 * 
+	 * @param margin
+	 *            margin before expiration in milliseconds.
+	 * @return members with expiring tokens.
+	 */
+	List<Entry> expiring(long margin) {
+		List<Entry> expiring = new ArrayList<Entry>();
+
+		for (Entry entry : entries()) {
+			for (Cached cached : entry.variants) {
+				TokenLoader loader = cached.loader.get();
+				if (loader == null)
+					continue;
+
+				try {
+					if (cached.expiration != Long.MIN_VALUE
+							&& cached.expiration - margin <= loader
+									.currentTimeMillis()) {
+						expiring.add(entry);
+						break;
+					}
+				} catch (PopbillException pe) {
+					// 서버시간 확인 불가. 다음 확인시 처리.
+				}
+			}
+		}
+
+		return expiring;
+	}
+
+	/**
+	 * 토큰 선 재발급. 재발급하는 동안 다른 쓰레드는 기존 토큰을 계속 사용합니다.
+	 * 
+	 * @param entry
+	 *            member to refresh.
+	 * @param margin
+	 *            margin before expiration in milliseconds.
+	 * @return minimum remaining time of reissued tokens, or -1 if skipped.
+	 * @throws PopbillException
+	 */
+	long refresh(Entry entry, long margin) throws PopbillException {
+		if (entry.lock.tryLock() == false)
+			return -1;
+
+		try {
+			long leadTime = -1;
+
+			for (int i = 0; i < entry.variants.length; i++) {
+				Cached cached = entry.variants[i];
+				if (cached.expiration == Long.MIN_VALUE)
+					continue;
+
+				// 발급한 서비스 객체가 수거된 경우 다음 호출시 발급.
+				TokenLoader loader = cached.loader.get();
+				if (loader == null)
+					continue;
+
+				long remain = cached.expiration - loader.currentTimeMillis();
+				if (remain > margin)
+					continue;
+
+				Cached reissued = load(entry, cached.scopes, loader);
+
+				// 배열은 공개된 후 변경하지 않음.
+				Cached[] variants = entry.variants.clone();
+				variants[i] = reissued;
+				entry.variants = variants;
+
+				remain = Math.max(remain, 0);
+				leadTime = leadTime < 0 ? remain : Math.min(leadTime, remain);
+			}
+
+			if (leadTime >= 0)
+				persist(entry);
+
+			return leadTime;
+		} finally {
+			entry.lock.unlock();
+		}
+	}
+
+	/**
+	 * 유휴 회원 제거. 호출시마다 시간을 기록하지 않도록, 이전 확인 이후 사용된 회원의
+	 * 최근 사용시간을 이 시점에 갱신합니다.
+	 * 
+	 * @param idleTimeout
+	 *            idle time in milliseconds.
+	 * @return number of evicted members.
+	 */
+	int evictIdle(long idleTimeout) {
+		long now = System.currentTimeMillis();
+		int evicted = 0;
+
+		for (Entry entry : entries()) {
+			if (entry.accessed) {
+				entry.accessed = false;
+				entry.lastAccess = now;
+			} else if (now - entry.lastAccess > idleTimeout && remove(entry)) {
+				evicted++;
+			}
+		}
+
+		return evicted;
+	}
+
+	static final class Entry {
+		final ConcurrentMap<String, Entry> owner;
+		final String LinkID;
+		final String ServiceID;
+		final String CorpNum;
+		final ReentrantLock lock = new ReentrantLock();
+		volatile Cached[] variants = new Cached[0];
+		volatile boolean accessed = true;
+		volatile long lastAccess = System.currentTimeMillis();
+		volatile long usedEpoch;
+
+		// lock 을 잡은 상태에서만 사용.
+		boolean restored;
+
+		Entry(ConcurrentMap<String, Entry> owner, String LinkID,
+				String ServiceID, String CorpNum) {
+			this.owner = owner;
+			this.LinkID = LinkID;
+			this.ServiceID = ServiceID;
+			this.CorpNum = CorpNum;
+		}
+	}
+
+	private static class Cached {
+		final Token token;
+		final Set<String> scopes;
+		final long expiration;
+
+		// loader 는 서비스 객체를 참조하므로, 저장소가 서비스 객체를 유지하지 않도록
+		// 약한 참조로 보관.
+		final WeakReference<TokenLoader> loader;
+
+		// 마지막으로 포함여부를 확인한 scope. 같은 Set 으로 반복 확인하지 않도록 기록.
+		Set<String> lastCovered;
+
+		Cached(Token token, Set<String> scopes, long expiration,
+				TokenLoader loader) {
+			this.token = token;
+			this.scopes = scopes;
+			this.expiration = expiration;
+			this.loader = new WeakReference<TokenLoader>(loader);
+		}
+
+		boolean covers(Set<String> required) {
+			if (required == lastCovered)
+				return true;
+			if (scopes.containsAll(required)) {
+				lastCovered = required;
+				return true;
+			}
+			return false;
+		}
+
+		boolean isValid(TokenLoader loader) throws PopbillException {
+			return expiration != Long.MIN_VALUE
+					&& expiration >= loader.currentTimeMillis();
+		}
+	}
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Session Token Store Interface.
+ * 
+ * 재시작 후에도 유효한 토큰을 재사용할 수 있도록 TokenRegistry 의 토큰을 저장합니다.
+ * TokenRegistry 는 회원이 처음 사용될 때 저장된 토큰을 읽고, 토큰을 발급할 때마다
+ * 저장합니다. 저장소 오류는 API 호출에 영향을 주지 않습니다.
+ * 
+ * 구현체는 여러 쓰레드에서 동시에 호출될 수 있습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.FileTokenStore
+ */
+public interface TokenStore {
+
+	/**
+	 * 저장된 토큰 확인.
+	 * 
+	 * @param LinkID
+	 *            링크아이디
+	 * @param ServiceID
+	 *            서비스아이디
+	 * @param CorpNum
+	 *            회원 사업자번호
+	 * @return stored tokens of member, or empty list.
+	 * @throws IOException
+	 */
+	public abstract List<StoredToken> load(String LinkID, String ServiceID,
+			String CorpNum) throws IOException;
+
+	/**
+	 * 토큰 저장. 회원의 기존 토큰은 모두 대체됩니다.
+	 * 
+	 * @param LinkID
+	 *            링크아이디
+	 * @param ServiceID
+	 *            서비스아이디
+	 * @param CorpNum
+	 *            회원 사업자번호
+	 * @param tokens
+	 *            current tokens of member.
+	 * @throws IOException
+	 */
+	public abstract void save(String LinkID, String ServiceID, String CorpNum,
+			List<StoredToken> tokens) throws IOException;
+}
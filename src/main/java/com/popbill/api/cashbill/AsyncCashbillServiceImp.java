@@ -0,0 +1,623 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.cashbill;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncCashbillService;
+import com.popbill.api.CashbillService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.Response;
+
+/**
+ * Implementation of Popbill AsyncCashbillService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncCashbillService
+ */
+public class AsyncCashbillServiceImp extends AsyncBaseServiceImp implements
+		AsyncCashbillService {
+
+	private final CashbillService cashbillService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param cashbillService
+	 *            CashbillService to call.
+	 */
+	public AsyncCashbillServiceImp(CashbillService cashbillService) {
+		this(cashbillService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param cashbillService
+	 *            CashbillService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncCashbillServiceImp(CashbillService cashbillService,
+			Executor executor) {
+		super(cashbillService, executor);
+		this.cashbillService = cashbillService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getUnitCost(String)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return cashbillService.getUnitCost(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#checkMgtKeyInUse(String, String)
+	 */
+	@Override
+	public PopbillFuture<Boolean> checkMgtKeyInUse(final String Corpnum,
+			final String MgtKey) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws PopbillException {
+				return cashbillService.checkMgtKeyInUse(Corpnum, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#register(String, Cashbill)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Cashbill cashbill) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.register(CorpNum, cashbill);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#register(String, Cashbill, String)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Cashbill cashbill, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.register(CorpNum, cashbill, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#update(String, String, Cashbill)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final String MgtKey, final Cashbill cashbill) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.update(CorpNum, MgtKey, cashbill);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#update(String, String, Cashbill, String)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final String MgtKey, final Cashbill cashbill, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.update(CorpNum, MgtKey, cashbill, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#delete(String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final String MgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.delete(CorpNum, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#delete(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final String MgtKey, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.delete(CorpNum, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#issue(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.issue(CorpNum, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#issue(String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final String MgtKey, final String Memo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.issue(CorpNum, MgtKey, Memo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#cancelIssue(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelIssue(final String CorpNum,
+			final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.cancelIssue(CorpNum, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#cancelIssue(String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelIssue(final String CorpNum,
+			final String MgtKey, final String Memo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.cancelIssue(CorpNum, MgtKey, Memo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendEmail(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final String MgtKey, final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendEmail(CorpNum, MgtKey, Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendEmail(String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final String MgtKey, final String Receiver, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendEmail(CorpNum, MgtKey, Receiver,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendSMS(String, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final String MgtKey, final String Sender, final String Receiver,
+			final String Contents) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendSMS(CorpNum, MgtKey, Sender,
+						Receiver, Contents);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendSMS(String, String, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final String MgtKey, final String Sender, final String Receiver,
+			final String Contents, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendSMS(CorpNum, MgtKey, Sender,
+						Receiver, Contents, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendFAX(String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final String MgtKey, final String Sender, final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendFAX(CorpNum, MgtKey, Sender, Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#sendFAX(String, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final String MgtKey, final String Sender, final String Receiver,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.sendFAX(CorpNum, MgtKey, Sender,
+						Receiver, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getDetailInfo(String, String)
+	 */
+	@Override
+	public PopbillFuture<Cashbill> getDetailInfo(final String CorpNum,
+			final String MgtKey) {
+		return submit(new Callable<Cashbill>() {
+			@Override
+			public Cashbill call() throws PopbillException {
+				return cashbillService.getDetailInfo(CorpNum, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getInfo(String, String)
+	 */
+	@Override
+	public PopbillFuture<CashbillInfo> getInfo(final String CorpNum,
+			final String MgtKey) {
+		return submit(new Callable<CashbillInfo>() {
+			@Override
+			public CashbillInfo call() throws PopbillException {
+				return cashbillService.getInfo(CorpNum, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getInfos(String, String[])
+	 */
+	@Override
+	public PopbillFuture<CashbillInfo[]> getInfos(final String CorpNum,
+			final String[] MgtKeyList) {
+		return submit(new Callable<CashbillInfo[]>() {
+			@Override
+			public CashbillInfo[] call() throws PopbillException {
+				return cashbillService.getInfos(CorpNum, MgtKeyList);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getLogs(String, String)
+	 */
+	@Override
+	public PopbillFuture<CashbillLog[]> getLogs(final String CorpNum,
+			final String MgtKey) {
+		return submit(new Callable<CashbillLog[]>() {
+			@Override
+			public CashbillLog[] call() throws PopbillException {
+				return cashbillService.getLogs(CorpNum, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getPrintURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPrintURL(final String CorpNum,
+			final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getPrintURL(CorpNum, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getEPrintURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getEPrintURL(final String CorpNum,
+			final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getEPrintURL(CorpNum, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getMassPrintURL(String, String[], String)
+	 */
+	@Override
+	public PopbillFuture<String> getMassPrintURL(final String CorpNum,
+			final String[] MgtKeyList, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getMassPrintURL(CorpNum, MgtKeyList,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getMailURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getMailURL(final String CorpNum,
+			final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getMailURL(CorpNum, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getPopUpURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPopUpURL(final String CorpNum,
+			final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return cashbillService.getPopUpURL(CorpNum, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#registIssue(String, Cashbill)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Cashbill cashbill) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.registIssue(CorpNum, cashbill);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#registIssue(String, Cashbill, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Cashbill cashbill, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.registIssue(CorpNum, cashbill, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#registIssue(String, Cashbill, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Cashbill cashbill, final String Memo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return cashbillService.registIssue(CorpNum, cashbill, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#search(String, String, String, String, String[], String[], String[], String[], int, int, String)
+	 */
+	@Override
+	public PopbillFuture<CBSearchResult> search(final String CorpNum,
+			final String DType, final String SDate, final String EDate,
+			final String[] State, final String[] TradeType,
+			final String[] TradeUsage, final String[] TaxationType,
+			final int Page, final int PerPage, final String Order) {
+		return submit(new Callable<CBSearchResult>() {
+			@Override
+			public CBSearchResult call() throws PopbillException {
+				return cashbillService.search(CorpNum, DType, SDate, EDate,
+						State, TradeType, TradeUsage, TaxationType, Page,
+						PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#search(String, String, String, String, String[], String[], String[], String[], String, int, int, String)
+	 */
+	@Override
+	public PopbillFuture<CBSearchResult> search(final String CorpNum,
+			final String DType, final String SDate, final String EDate,
+			final String[] State, final String[] TradeType,
+			final String[] TradeUsage, final String[] TaxationType,
+			final String QString, final int Page, final int PerPage,
+			final String Order) {
+		return submit(new Callable<CBSearchResult>() {
+			@Override
+			public CBSearchResult call() throws PopbillException {
+				return cashbillService.search(CorpNum, DType, SDate, EDate,
+						State, TradeType, TradeUsage, TaxationType, QString,
+						Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCashbillService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return cashbillService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+}
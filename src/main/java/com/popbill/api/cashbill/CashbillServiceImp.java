@@ -20,8 +20,11 @@ import java.util.List;
 import com.popbill.api.BaseServiceImp;
 import com.popbill.api.CashbillService;
 import com.popbill.api.ChargeInfo;
+import com.popbill.api.OutcomeCheck;
 import com.popbill.api.PopbillException;
 import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
+import com.popbill.api.transport.Idempotency;
 
 /**
  *  Implementation of Popbill CashbillService Interface
@@ -37,6 +40,47 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		return Arrays.asList("140");
 	}
 	
+	@Override
+	protected Idempotency getIdempotency(String method, String url,
+			String Action) {
+		// 다량 조회(getInfos)와 인쇄 URL(getMassPrintURL)은 POST 로 요청하는 조회입니다.
+		if ("/Cashbill/States".equals(url) || "/Cashbill/Prints".equals(url))
+			return Idempotency.SAFE;
+		
+		return super.getIdempotency(method, url, Action);
+	}
+	
+	/**
+	 * 등록 요청의 처리여부 확인. 응답을 받지 못한 경우 관리번호 사용여부로 등록되었는지
+	 * 확인합니다. 관리번호가 없으면 확인할 수 없으므로 null 을 반환합니다.
+	 */
+	private OutcomeCheck registered(final String CorpNum, Cashbill cashbill) {
+		final String MgtKey = cashbill.getMgtKey();
+		
+		if (MgtKey == null || MgtKey.isEmpty())
+			return null;
+		
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, MgtKey);
+			}
+		};
+	}
+	
+	/**
+	 * 삭제 요청의 처리여부 확인. 응답을 받지 못한 삭제를 다시 보내면 대상이 없다는
+	 * 오류가 되므로, 관리번호가 사용중이 아니면 삭제된 것으로 확인합니다.
+	 */
+	private OutcomeCheck deleted(final String CorpNum, final String MgtKey) {
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, MgtKey) == false;
+			}
+		};
+	}
+	
 	/* (non-Javadoc)
 	 * @see com.popbill.api.CashbillService#getURL(java.lang.String, java.lang.String,  java.lang.String)
 	 */
@@ -57,7 +101,7 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 	public float getUnitCost(String CorpNum) throws PopbillException {
 		
 		UnitCostResponse response = httpget("/Cashbill?cfg=UNITCOST",
-				CorpNum,null, UnitCostResponse.class);
+				CorpNum,null, ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 		
 		return response.unitCost;
 		
@@ -102,10 +146,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (cashbill == null)
 			throw new PopbillException(-99999999, "현금영수증정보가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(cashbill);
-		
-		return httppost("/Cashbill",CorpNum, PostData, 
-				UserID, Response.class);
+		return httppostJson("/Cashbill",CorpNum, cashbill, 
+				UserID, null, registered(CorpNum, cashbill), Response.class);
 		
 	}
 	/* (non-Javadoc)
@@ -129,10 +171,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(cashbill);
-		
-		return httppost("/Cashbill/"+MgtKey, CorpNum, 
-				PostData, UserID, "PATCH", Response.class);
+		return httppostJson("/Cashbill/"+MgtKey, CorpNum, 
+				cashbill, UserID, "PATCH", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -157,7 +197,7 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
 		return httppost("/Cashbill/"+MgtKey, CorpNum, null, 
-				UserID, "DELETE", Response.class);
+				UserID, "DELETE", deleted(CorpNum, MgtKey), Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -181,9 +221,9 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 		
-		return httppost("/Cashbill/" + MgtKey, CorpNum, PostData, 
+		return httppostJson("/Cashbill/" + MgtKey, CorpNum, request, 
 				UserID, "ISSUE", Response.class);
 	}
 	
@@ -207,9 +247,9 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 		
-		return httppost("/Cashbill/" + MgtKey, CorpNum, PostData,
+		return httppostJson("/Cashbill/" + MgtKey, CorpNum, request,
 				UserID, "CANCELISSUE", Response.class);
 	}
 	
@@ -238,9 +278,7 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		
 		request.receiver = Receiver;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Cashbill/" + MgtKey, CorpNum, PostData, 
+		return httppostJson("/Cashbill/" + MgtKey, CorpNum, request, 
 				UserID, "EMAIL", Response.class);
 	}
 
@@ -273,9 +311,7 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		request.receiver = Receiver;
 		request.contents = Contents;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Cashbill/" + MgtKey, CorpNum, PostData, 
+		return httppostJson("/Cashbill/" + MgtKey, CorpNum, request, 
 				UserID, "SMS", Response.class);
 	}
 	
@@ -305,10 +341,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		request.sender = Sender;
 		request.receiver = Receiver;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Cashbill/" + MgtKey, CorpNum, 
-				PostData, UserID, "FAX", Response.class);
+		return httppostJson("/Cashbill/" + MgtKey, CorpNum, 
+				request, UserID, "FAX", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -346,9 +380,7 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (MgtKeyList == null || MgtKeyList.length == 0)
 			throw new PopbillException(-99999999, "관리번호배열이 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(MgtKeyList);
-		
-		return httppost("/Cashbill/States", CorpNum, PostData, 
+		return httppostJson("/Cashbill/States", CorpNum, MgtKeyList, 
 				null, CashbillInfo[].class);
 	}
 
@@ -403,10 +435,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (MgtKeyList == null || MgtKeyList.length == 0)
 			throw new PopbillException(-99999999, "관리번호배열이 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(MgtKeyList);
-		
-		URLResponse response = httppost("/Cashbill/Prints", CorpNum, 
-				PostData, UserID, URLResponse.class);
+		URLResponse response = httppostJson("/Cashbill/Prints", CorpNum, 
+				MgtKeyList, UserID, URLResponse.class);
 		
 		return response.url;
 		
@@ -468,10 +498,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 		if (memo != null)
 			cashbill.setMemo(memo);
 		
-		String PostData = toJsonString(cashbill);
-		
-		return httppost("/Cashbill", CorpNum, PostData, 
-				UserID, "ISSUE", Response.class);
+		return httppostJson("/Cashbill", CorpNum, cashbill, 
+				UserID, "ISSUE", registered(CorpNum, cashbill), Response.class);
 	}
 	
 	/*
@@ -529,7 +557,8 @@ public class CashbillServiceImp extends BaseServiceImp implements CashbillServic
 	 */
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
-		return httpget("/Cashbill/ChargeInfo", CorpNum, null, ChargeInfo.class);
+		return httpget("/Cashbill/ChargeInfo", CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 	
 	protected class MemoRequest {
@@ -0,0 +1,743 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.cashbill;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == CBSearchResult.class)
+			return (TypeAdapter<T>) new CBSearchResultAdapter(gson);
+		if (rawType == Cashbill.class)
+			return (TypeAdapter<T>) new CashbillAdapter(gson);
+		if (rawType == CashbillInfo.class)
+			return (TypeAdapter<T>) new CashbillInfoAdapter(gson);
+		if (rawType == CashbillLog.class)
+			return (TypeAdapter<T>) new CashbillLogAdapter(gson);
+
+		return null;
+	}
+
+	private static final class CBSearchResultAdapter extends TypeAdapter<CBSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(CBSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(CBSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(CBSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(CBSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(CBSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(CBSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(CBSearchResult.class, "list");
+
+		private final TypeAdapter<List<CashbillInfo>> list;
+
+		CBSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<CashbillInfo>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, CBSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public CBSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			CBSearchResult value = new CBSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CODE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TOTAL, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PER_PAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PAGE_NUM, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PAGE_COUNT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class CashbillAdapter extends TypeAdapter<Cashbill> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"memo", "mgtKey", "tradeDate",
+				"tradeUsage", "tradeType", "taxationType",
+				"supplyCost", "tax", "serviceFee",
+				"totalAmount", "franchiseCorpNum", "franchiseCorpName",
+				"franchiseCEOName", "franchiseAddr", "franchiseTEL",
+				"identityNum", "customerName", "itemName",
+				"orderNumber", "email", "hp",
+				"fax", "faxsendYN", "smssendYN",
+				"confirmNum", "orgConfirmNum");
+
+		private static final Field FIELD_TRADE_DATE = field(Cashbill.class, "tradeDate");
+		private static final Field FIELD_CONFIRM_NUM = field(Cashbill.class, "confirmNum");
+
+		CashbillAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, Cashbill value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("memo");
+			out.value(value.getMemo());
+			out.name("mgtKey");
+			out.value(value.getMgtKey());
+			out.name("tradeDate");
+			out.value(value.getTradeDate());
+			out.name("tradeUsage");
+			out.value(value.getTradeUsage());
+			out.name("tradeType");
+			out.value(value.getTradeType());
+			out.name("taxationType");
+			out.value(value.getTaxationType());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("serviceFee");
+			out.value(value.getServiceFee());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("franchiseCorpNum");
+			out.value(value.getFranchiseCorpNum());
+			out.name("franchiseCorpName");
+			out.value(value.getFranchiseCorpName());
+			out.name("franchiseCEOName");
+			out.value(value.getFranchiseCEOName());
+			out.name("franchiseAddr");
+			out.value(value.getFranchiseAddr());
+			out.name("franchiseTEL");
+			out.value(value.getFranchiseTEL());
+			out.name("identityNum");
+			out.value(value.getIdentityNum());
+			out.name("customerName");
+			out.value(value.getCustomerName());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("orderNumber");
+			out.value(value.getOrderNumber());
+			out.name("email");
+			out.value(value.getEmail());
+			out.name("hp");
+			out.value(value.getHp());
+			out.name("fax");
+			out.value(value.getFax());
+			out.name("faxsendYN");
+			out.value(value.isFaxsendYN());
+			out.name("smssendYN");
+			out.value(value.isSmssendYN());
+			out.name("confirmNum");
+			out.value(value.getConfirmNum());
+			out.name("orgConfirmNum");
+			out.value(value.getOrgConfirmNum());
+			out.endObject();
+		}
+
+		@Override
+		public Cashbill read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Cashbill value = new Cashbill();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setMemo(readString(in));
+						break;
+					case 1:
+						value.setMgtKey(readString(in));
+						break;
+					case 2:
+						set(FIELD_TRADE_DATE, value, readString(in));
+						break;
+					case 3:
+						value.setTradeUsage(readString(in));
+						break;
+					case 4:
+						value.setTradeType(readString(in));
+						break;
+					case 5:
+						value.setTaxationType(readString(in));
+						break;
+					case 6:
+						value.setSupplyCost(readString(in));
+						break;
+					case 7:
+						value.setTax(readString(in));
+						break;
+					case 8:
+						value.setServiceFee(readString(in));
+						break;
+					case 9:
+						value.setTotalAmount(readString(in));
+						break;
+					case 10:
+						value.setFranchiseCorpNum(readString(in));
+						break;
+					case 11:
+						value.setFranchiseCorpName(readString(in));
+						break;
+					case 12:
+						value.setFranchiseCEOName(readString(in));
+						break;
+					case 13:
+						value.setFranchiseAddr(readString(in));
+						break;
+					case 14:
+						value.setFranchiseTEL(readString(in));
+						break;
+					case 15:
+						value.setIdentityNum(readString(in));
+						break;
+					case 16:
+						value.setCustomerName(readString(in));
+						break;
+					case 17:
+						value.setItemName(readString(in));
+						break;
+					case 18:
+						value.setOrderNumber(readString(in));
+						break;
+					case 19:
+						value.setEmail(readString(in));
+						break;
+					case 20:
+						value.setHp(readString(in));
+						break;
+					case 21:
+						value.setFax(readString(in));
+						break;
+					case 22:
+						if (skipNull(in) == false)
+							value.setFaxsendYN(readBoolean(in));
+						break;
+					case 23:
+						if (skipNull(in) == false)
+							value.setSmssendYN(readBoolean(in));
+						break;
+					case 24:
+						set(FIELD_CONFIRM_NUM, value, readString(in));
+						break;
+					case 25:
+						value.setOrgConfirmNum(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class CashbillInfoAdapter extends TypeAdapter<CashbillInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"itemKey", "mgtKey", "tradeDate",
+				"issueDT", "customerName", "itemName",
+				"identityNum", "taxationType", "totalAmount",
+				"tradeUsage", "tradeType", "stateCode",
+				"stateDT", "printYN", "confirmNum",
+				"orgTradeDate", "orgConfirmNum", "ntssendDT",
+				"ntsresult", "ntsresultDT", "ntsresultCode",
+				"ntsresultMessage", "regDT");
+
+		private static final Field FIELD_ITEM_KEY = field(CashbillInfo.class, "itemKey");
+		private static final Field FIELD_MGT_KEY = field(CashbillInfo.class, "mgtKey");
+		private static final Field FIELD_TRADE_DATE = field(CashbillInfo.class, "tradeDate");
+		private static final Field FIELD_ISSUE_DT = field(CashbillInfo.class, "issueDT");
+		private static final Field FIELD_CUSTOMER_NAME = field(CashbillInfo.class, "customerName");
+		private static final Field FIELD_ITEM_NAME = field(CashbillInfo.class, "itemName");
+		private static final Field FIELD_IDENTITY_NUM = field(CashbillInfo.class, "identityNum");
+		private static final Field FIELD_TAXATION_TYPE = field(CashbillInfo.class, "taxationType");
+		private static final Field FIELD_TOTAL_AMOUNT = field(CashbillInfo.class, "totalAmount");
+		private static final Field FIELD_TRADE_USAGE = field(CashbillInfo.class, "tradeUsage");
+		private static final Field FIELD_TRADE_TYPE = field(CashbillInfo.class, "tradeType");
+		private static final Field FIELD_STATE_CODE = field(CashbillInfo.class, "stateCode");
+		private static final Field FIELD_STATE_DT = field(CashbillInfo.class, "stateDT");
+		private static final Field FIELD_PRINT_YN = field(CashbillInfo.class, "printYN");
+		private static final Field FIELD_CONFIRM_NUM = field(CashbillInfo.class, "confirmNum");
+		private static final Field FIELD_ORG_TRADE_DATE = field(CashbillInfo.class, "orgTradeDate");
+		private static final Field FIELD_ORG_CONFIRM_NUM = field(CashbillInfo.class, "orgConfirmNum");
+		private static final Field FIELD_NTSSEND_DT = field(CashbillInfo.class, "ntssendDT");
+		private static final Field FIELD_NTSRESULT = field(CashbillInfo.class, "ntsresult");
+		private static final Field FIELD_NTSRESULT_DT = field(CashbillInfo.class, "ntsresultDT");
+		private static final Field FIELD_NTSRESULT_CODE = field(CashbillInfo.class, "ntsresultCode");
+		private static final Field FIELD_NTSRESULT_MESSAGE = field(CashbillInfo.class, "ntsresultMessage");
+		private static final Field FIELD_REG_DT = field(CashbillInfo.class, "regDT");
+
+		CashbillInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, CashbillInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("itemKey");
+			out.value(value.getItemKey());
+			out.name("mgtKey");
+			out.value(value.getMgtKey());
+			out.name("tradeDate");
+			out.value(value.getTradeDate());
+			out.name("issueDT");
+			out.value(value.getIssueDT());
+			out.name("customerName");
+			out.value(value.getCustomerName());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("identityNum");
+			out.value(value.getIdentityNum());
+			out.name("taxationType");
+			out.value(value.getTaxationType());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("tradeUsage");
+			out.value(value.getTradeUsage());
+			out.name("tradeType");
+			out.value(value.getTradeType());
+			out.name("stateCode");
+			out.value(value.getStateCode());
+			out.name("stateDT");
+			out.value(value.getStateDT());
+			out.name("printYN");
+			out.value(value.isPrintYN());
+			out.name("confirmNum");
+			out.value(value.getConfirmNum());
+			out.name("orgTradeDate");
+			out.value(value.getOrgTradeDate());
+			out.name("orgConfirmNum");
+			out.value(value.getOrgConfirmNum());
+			out.name("ntssendDT");
+			out.value(value.getNtssendDT());
+			out.name("ntsresult");
+			out.value(value.getNtsresult());
+			out.name("ntsresultDT");
+			out.value(value.getNtsresultDT());
+			out.name("ntsresultCode");
+			out.value(value.getNtsresultCode());
+			out.name("ntsresultMessage");
+			out.value(value.getNtsresultMessage());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public CashbillInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			CashbillInfo value = new CashbillInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_ITEM_KEY, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_MGT_KEY, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_TRADE_DATE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_ISSUE_DT, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_CUSTOMER_NAME, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_ITEM_NAME, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_IDENTITY_NUM, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_TAXATION_TYPE, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_TOTAL_AMOUNT, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_TRADE_USAGE, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_TRADE_TYPE, value, readString(in));
+						break;
+					case 11:
+						if (skipNull(in) == false)
+							set(FIELD_STATE_CODE, value, readInteger(in));
+						break;
+					case 12:
+						set(FIELD_STATE_DT, value, readString(in));
+						break;
+					case 13:
+						if (skipNull(in) == false)
+							set(FIELD_PRINT_YN, value, readBoolean(in));
+						break;
+					case 14:
+						set(FIELD_CONFIRM_NUM, value, readString(in));
+						break;
+					case 15:
+						set(FIELD_ORG_TRADE_DATE, value, readString(in));
+						break;
+					case 16:
+						set(FIELD_ORG_CONFIRM_NUM, value, readString(in));
+						break;
+					case 17:
+						set(FIELD_NTSSEND_DT, value, readString(in));
+						break;
+					case 18:
+						set(FIELD_NTSRESULT, value, readString(in));
+						break;
+					case 19:
+						set(FIELD_NTSRESULT_DT, value, readString(in));
+						break;
+					case 20:
+						set(FIELD_NTSRESULT_CODE, value, readString(in));
+						break;
+					case 21:
+						set(FIELD_NTSRESULT_MESSAGE, value, readString(in));
+						break;
+					case 22:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class CashbillLogAdapter extends TypeAdapter<CashbillLog> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"docLogType", "log", "procType",
+				"procMemo", "regDT", "ip");
+
+		private static final Field FIELD_DOC_LOG_TYPE = field(CashbillLog.class, "docLogType");
+		private static final Field FIELD_LOG = field(CashbillLog.class, "log");
+		private static final Field FIELD_PROC_TYPE = field(CashbillLog.class, "procType");
+		private static final Field FIELD_PROC_MEMO = field(CashbillLog.class, "procMemo");
+		private static final Field FIELD_REG_DT = field(CashbillLog.class, "regDT");
+		private static final Field FIELD_IP = field(CashbillLog.class, "ip");
+
+		CashbillLogAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, CashbillLog value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("docLogType");
+			out.value(value.getDocLogType());
+			out.name("log");
+			out.value(value.getLog());
+			out.name("procType");
+			out.value(value.getProcType());
+			out.name("procMemo");
+			out.value(value.getProcMemo());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.name("ip");
+			out.value(value.getIp());
+			out.endObject();
+		}
+
+		@Override
+		public CashbillLog read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			CashbillLog value = new CashbillLog();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_DOC_LOG_TYPE, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_LOG, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PROC_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PROC_MEMO, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_IP, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.closedown;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncCloseDownService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.CloseDownService;
+import com.popbill.api.CorpState;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+
+/**
+ * Implementation of Popbill AsyncCloseDownService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncCloseDownService
+ */
+public class AsyncCloseDownServiceImp extends AsyncBaseServiceImp implements
+		AsyncCloseDownService {
+
+	private final CloseDownService closeDownService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param closeDownService
+	 *            CloseDownService to call.
+	 */
+	public AsyncCloseDownServiceImp(CloseDownService closeDownService) {
+		this(closeDownService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param closeDownService
+	 *            CloseDownService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncCloseDownServiceImp(CloseDownService closeDownService,
+			Executor executor) {
+		super(closeDownService, executor);
+		this.closeDownService = closeDownService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCloseDownService#getUnitCost(String)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return closeDownService.getUnitCost(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCloseDownService#CheckCorpNum(String, String)
+	 */
+	@Override
+	public PopbillFuture<CorpState> CheckCorpNum(final String MemberCorpNum,
+			final String CheckCorpNum) {
+		return submit(new Callable<CorpState>() {
+			@Override
+			public CorpState call() throws PopbillException {
+				return closeDownService.CheckCorpNum(MemberCorpNum, CheckCorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCloseDownService#CheckCorpNum(String, String[])
+	 */
+	@Override
+	public PopbillFuture<CorpState[]> CheckCorpNum(final String MemberCorpNum,
+			final String[] CorpNumList) {
+		return submit(new Callable<CorpState[]>() {
+			@Override
+			public CorpState[] call() throws PopbillException {
+				return closeDownService.CheckCorpNum(MemberCorpNum, CorpNumList);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncCloseDownService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return closeDownService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+}
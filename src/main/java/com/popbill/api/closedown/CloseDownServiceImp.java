@@ -22,6 +22,8 @@ import com.popbill.api.ChargeInfo;
 import com.popbill.api.CloseDownService;
 import com.popbill.api.CorpState;
 import com.popbill.api.PopbillException;
+import com.popbill.api.ResponseCache;
+import com.popbill.api.transport.Idempotency;
 
 /**
  * Implementation of Popbill CloseDownService Interface
@@ -37,6 +39,16 @@ public class CloseDownServiceImp extends BaseServiceImp implements CloseDownServ
 		return Arrays.asList("170"); 
 	}
 
+	@Override
+	protected Idempotency getIdempotency(String method, String url,
+			String Action) {
+		// 휴폐업 조회는 POST 로 요청하는 조회입니다.
+		if ("/CloseDown".equals(url))
+			return Idempotency.SAFE;
+
+		return super.getIdempotency(method, url, Action);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -45,7 +57,7 @@ public class CloseDownServiceImp extends BaseServiceImp implements CloseDownServ
 	@Override
 	public float getUnitCost(String CorpNum) throws PopbillException {
 		UnitCostResponse response = httpget("/CloseDown/UnitCost",
-				CorpNum, null, UnitCostResponse.class);
+				CorpNum, null, ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 
 		return response.unitCost;
 	}
@@ -71,10 +83,8 @@ public class CloseDownServiceImp extends BaseServiceImp implements CloseDownServ
 	public CorpState[] CheckCorpNum(String MemberCorpNum, String[] CorpNumList)
 			throws PopbillException {
 		
-		String PostData = toJsonString(CorpNumList);
-		
-		return httppost("/CloseDown",
-				MemberCorpNum,PostData, null, CorpState[].class);
+		return httppostJson("/CloseDown",
+				MemberCorpNum,CorpNumList, null, CorpState[].class);
 	}
 	
 	/*
@@ -83,6 +93,7 @@ public class CloseDownServiceImp extends BaseServiceImp implements CloseDownServ
 	 */
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
-		return httpget("/CloseDown/ChargeInfo",CorpNum, null, ChargeInfo.class);
+		return httpget("/CloseDown/ChargeInfo",CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 }
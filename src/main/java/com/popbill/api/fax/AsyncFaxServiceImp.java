@@ -0,0 +1,252 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.fax;
+
+import java.io.File;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncFaxService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.FaxService;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.Response;
+
+/**
+ * Implementation of Popbill AsyncFaxService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncFaxService
+ */
+public class AsyncFaxServiceImp extends AsyncBaseServiceImp implements
+		AsyncFaxService {
+
+	private final FaxService faxService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param faxService
+	 *            FaxService to call.
+	 */
+	public AsyncFaxServiceImp(FaxService faxService) {
+		this(faxService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param faxService
+	 *            FaxService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncFaxServiceImp(FaxService faxService, Executor executor) {
+		super(faxService, executor);
+		this.faxService = faxService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#getUnitCost(String)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return faxService.getUnitCost(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#getURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.getURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#sendFAX(String, String, String, String, File, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendFAX(final String CorpNum,
+			final String sendNum, final String receiveNum,
+			final String receiveName, final File file, final Date reserveDT,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.sendFAX(CorpNum, sendNum, receiveNum,
+						receiveName, file, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#sendFAX(String, String, Receiver[], File, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendFAX(final String CorpNum,
+			final String sendNum, final Receiver[] receivers, final File file,
+			final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.sendFAX(CorpNum, sendNum, receivers, file,
+						reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#sendFAX(String, String, String, String, File[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendFAX(final String CorpNum,
+			final String sendNum, final String receiveNum,
+			final String receiveName, final File[] files, final Date reserveDT,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.sendFAX(CorpNum, sendNum, receiveNum,
+						receiveName, files, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#sendFAX(String, String, Receiver[], File[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendFAX(final String CorpNum,
+			final String sendNum, final Receiver[] receivers,
+			final File[] files, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.sendFAX(CorpNum, sendNum, receivers, files,
+						reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#sendFAX(String, String, String, Receiver[], File[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendFAX(final String CorpNum,
+			final String sendNum, final String senderName,
+			final Receiver[] receivers, final File[] files,
+			final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return faxService.sendFAX(CorpNum, sendNum, senderName,
+						receivers, files, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#getFaxResult(String, String)
+	 */
+	@Override
+	public PopbillFuture<FaxResult[]> getFaxResult(final String CorpNum,
+			final String receiptNum) {
+		return submit(new Callable<FaxResult[]>() {
+			@Override
+			public FaxResult[] call() throws PopbillException {
+				return faxService.getFaxResult(CorpNum, receiptNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#cancelReserve(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelReserve(final String CorpNum,
+			final String receiptNum, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return faxService.cancelReserve(CorpNum, receiptNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#search(String, String, String, String[], Boolean, Boolean, int, int, String)
+	 */
+	@Override
+	public PopbillFuture<FAXSearchResult> search(final String CorpNum,
+			final String SDate, final String EDate, final String[] State,
+			final Boolean ReserveYN, final Boolean SenderOnlyYN, final int Page,
+			final int PerPage, final String Order) {
+		return submit(new Callable<FAXSearchResult>() {
+			@Override
+			public FAXSearchResult call() throws PopbillException {
+				return faxService.search(CorpNum, SDate, EDate, State,
+						ReserveYN, SenderOnlyYN, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncFaxService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return faxService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+}
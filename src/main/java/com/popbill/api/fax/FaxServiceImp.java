@@ -15,9 +15,6 @@
 package com.popbill.api.fax;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -30,6 +27,7 @@ import com.popbill.api.ChargeInfo;
 import com.popbill.api.FaxService;
 import com.popbill.api.PopbillException;
 import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
 
 /**
  * Implementation of Popbill FaxService Interface
@@ -53,7 +51,7 @@ public class FaxServiceImp extends BaseServiceImp implements FaxService {
 	@Override
 	public float getUnitCost(String CorpNum) throws PopbillException {
 		UnitCostResponse response = httpget("/FAX/UnitCost",
-				CorpNum, null, UnitCostResponse.class);
+				CorpNum, null, ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 
 		return response.unitCost;
 	}
@@ -159,23 +157,14 @@ public class FaxServiceImp extends BaseServiceImp implements FaxService {
 			UploadFile uf = new UploadFile();
 			uf.fieldName = "file";
 			uf.fileName = f.getName();
-			try {
-				uf.fileData = new FileInputStream(f);
-			} catch (FileNotFoundException e) {
-				throw new PopbillException(-99999999,"전송할 파일을 찾을 수 없습니다.",e);
-			}
+			if (f.isFile() == false || f.canRead() == false)
+				throw new PopbillException(-99999999,"전송할 파일을 찾을 수 없습니다.");
+			uf.file = f;
 			uploadFiles.add(uf);
 		}
 		
 		ReceiptResponse response = httppostFiles("/FAX", CorpNum, PostData, uploadFiles, UserID, ReceiptResponse.class);
 		
-		for(UploadFile uf : uploadFiles) {
-			if(uf.fileData != null)
-				try {
-					uf.fileData.close();
-				} catch (IOException e) {}
-		}
-		
 		return response.receiptNum;
 	}
 	
@@ -256,7 +245,8 @@ public class FaxServiceImp extends BaseServiceImp implements FaxService {
 	
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
-		return httpget("/FAX/ChargeInfo", CorpNum, null, ChargeInfo.class);
+		return httpget("/FAX/ChargeInfo", CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 
 
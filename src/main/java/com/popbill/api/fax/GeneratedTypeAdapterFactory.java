@@ -0,0 +1,483 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.fax;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == FAXSearchResult.class)
+			return (TypeAdapter<T>) new FAXSearchResultAdapter(gson);
+		if (rawType == FaxResult.class)
+			return (TypeAdapter<T>) new FaxResultAdapter(gson);
+		if (rawType == Receiver.class)
+			return (TypeAdapter<T>) new ReceiverAdapter(gson);
+
+		return null;
+	}
+
+	private static final class FAXSearchResultAdapter extends TypeAdapter<FAXSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(FAXSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(FAXSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(FAXSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(FAXSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(FAXSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(FAXSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(FAXSearchResult.class, "list");
+
+		private final TypeAdapter<List<FaxResult>> list;
+
+		FAXSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<FaxResult>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, FAXSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public FAXSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			FAXSearchResult value = new FAXSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CODE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TOTAL, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PER_PAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PAGE_NUM, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PAGE_COUNT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class FaxResultAdapter extends TypeAdapter<FaxResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"sendState", "convState", "sendNum",
+				"senderName", "receiveNum", "receiveName",
+				"sendPageCnt", "successPageCnt", "failPageCnt",
+				"refundPageCnt", "cancelPageCnt", "reserveDT",
+				"sendDT", "resultDT", "sendResult",
+				"fileNames", "receiptDT");
+
+		private static final Field FIELD_SEND_STATE = field(FaxResult.class, "sendState");
+		private static final Field FIELD_CONV_STATE = field(FaxResult.class, "convState");
+		private static final Field FIELD_SEND_NUM = field(FaxResult.class, "sendNum");
+		private static final Field FIELD_SENDER_NAME = field(FaxResult.class, "senderName");
+		private static final Field FIELD_RECEIVE_NUM = field(FaxResult.class, "receiveNum");
+		private static final Field FIELD_RECEIVE_NAME = field(FaxResult.class, "receiveName");
+		private static final Field FIELD_SEND_PAGE_CNT = field(FaxResult.class, "sendPageCnt");
+		private static final Field FIELD_SUCCESS_PAGE_CNT = field(FaxResult.class, "successPageCnt");
+		private static final Field FIELD_FAIL_PAGE_CNT = field(FaxResult.class, "failPageCnt");
+		private static final Field FIELD_REFUND_PAGE_CNT = field(FaxResult.class, "refundPageCnt");
+		private static final Field FIELD_CANCEL_PAGE_CNT = field(FaxResult.class, "cancelPageCnt");
+		private static final Field FIELD_RESERVE_DT = field(FaxResult.class, "reserveDT");
+		private static final Field FIELD_SEND_DT = field(FaxResult.class, "sendDT");
+		private static final Field FIELD_RESULT_DT = field(FaxResult.class, "resultDT");
+		private static final Field FIELD_SEND_RESULT = field(FaxResult.class, "sendResult");
+		private static final Field FIELD_FILE_NAMES = field(FaxResult.class, "fileNames");
+		private static final Field FIELD_RECEIPT_DT = field(FaxResult.class, "receiptDT");
+
+		private final TypeAdapter<String[]> fileNames;
+
+		FaxResultAdapter(Gson gson) {
+			fileNames = gson.getAdapter(String[].class);
+		}
+
+		@Override
+		public void write(JsonWriter out, FaxResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("sendState");
+			out.value(value.getSendState());
+			out.name("convState");
+			out.value(value.getConvState());
+			out.name("sendNum");
+			out.value(value.getSendNum());
+			out.name("senderName");
+			out.value(value.getSenderName());
+			out.name("receiveNum");
+			out.value(value.getReceiveNum());
+			out.name("receiveName");
+			out.value(value.getReceiveName());
+			out.name("sendPageCnt");
+			out.value(value.getSendPageCnt());
+			out.name("successPageCnt");
+			out.value(value.getSuccessPageCnt());
+			out.name("failPageCnt");
+			out.value(value.getFailPageCnt());
+			out.name("refundPageCnt");
+			out.value(value.getRefundPageCnt());
+			out.name("cancelPageCnt");
+			out.value(value.getCancelPageCnt());
+			out.name("reserveDT");
+			out.value(value.getReserveDT());
+			out.name("sendDT");
+			out.value(value.getSendDT());
+			out.name("resultDT");
+			out.value(value.getResultDT());
+			out.name("sendResult");
+			out.value(value.getSendResult());
+			out.name("fileNames");
+			fileNames.write(out, value.getFileNames());
+			out.name("receiptDT");
+			out.value(value.getReceiptDT());
+			out.endObject();
+		}
+
+		@Override
+		public FaxResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			FaxResult value = new FaxResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_SEND_STATE, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_CONV_STATE, value, readInteger(in));
+						break;
+					case 2:
+						set(FIELD_SEND_NUM, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_SENDER_NAME, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_RECEIVE_NUM, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_RECEIVE_NAME, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_SEND_PAGE_CNT, value, readInteger(in));
+						break;
+					case 7:
+						set(FIELD_SUCCESS_PAGE_CNT, value, readInteger(in));
+						break;
+					case 8:
+						set(FIELD_FAIL_PAGE_CNT, value, readInteger(in));
+						break;
+					case 9:
+						set(FIELD_REFUND_PAGE_CNT, value, readInteger(in));
+						break;
+					case 10:
+						set(FIELD_CANCEL_PAGE_CNT, value, readInteger(in));
+						break;
+					case 11:
+						set(FIELD_RESERVE_DT, value, readString(in));
+						break;
+					case 12:
+						set(FIELD_SEND_DT, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_RESULT_DT, value, readString(in));
+						break;
+					case 14:
+						set(FIELD_SEND_RESULT, value, readInteger(in));
+						break;
+					case 15:
+						set(FIELD_FILE_NAMES, value, fileNames.read(in));
+						break;
+					case 16:
+						set(FIELD_RECEIPT_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class ReceiverAdapter extends TypeAdapter<Receiver> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"rcv", "rcvnm");
+
+		ReceiverAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, Receiver value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("rcv");
+			out.value(value.getReceiveNum());
+			out.name("rcvnm");
+			out.value(value.getReceiveName());
+			out.endObject();
+		}
+
+		@Override
+		public Receiver read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Receiver value = new Receiver();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setReceiveNum(readString(in));
+						break;
+					case 1:
+						value.setReceiveName(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
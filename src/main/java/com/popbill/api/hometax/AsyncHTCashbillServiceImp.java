@@ -0,0 +1,327 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.hometax;
+
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncHTCashbillService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.FlatRateState;
+import com.popbill.api.HTCashbillService;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+
+/**
+ * Implementation of Popbill AsyncHTCashbillService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncHTCashbillService
+ */
+public class AsyncHTCashbillServiceImp extends AsyncBaseServiceImp implements
+		AsyncHTCashbillService {
+
+	private final HTCashbillService hTCashbillService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param hTCashbillService
+	 *            HTCashbillService to call.
+	 */
+	public AsyncHTCashbillServiceImp(HTCashbillService hTCashbillService) {
+		this(hTCashbillService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param hTCashbillService
+	 *            HTCashbillService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncHTCashbillServiceImp(HTCashbillService hTCashbillService,
+			Executor executor) {
+		super(hTCashbillService, executor);
+		this.hTCashbillService = hTCashbillService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return hTCashbillService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#requestJob(String, QueryType, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> requestJob(final String CorpNum,
+			final QueryType queryType, final String SDate, final String EDate) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTCashbillService.requestJob(CorpNum, queryType, SDate,
+						EDate);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#requestJob(String, QueryType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> requestJob(final String CorpNum,
+			final QueryType queryType, final String SDate, final String EDate,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTCashbillService.requestJob(CorpNum, queryType, SDate,
+						EDate, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getJobState(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillJobState> getJobState(final String CorpNum,
+			final String JobID) {
+		return submit(new Callable<HTCashbillJobState>() {
+			@Override
+			public HTCashbillJobState call() throws PopbillException {
+				return hTCashbillService.getJobState(CorpNum, JobID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getJobState(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillJobState> getJobState(final String CorpNum,
+			final String JobID, final String UserID) {
+		return submit(new Callable<HTCashbillJobState>() {
+			@Override
+			public HTCashbillJobState call() throws PopbillException {
+				return hTCashbillService.getJobState(CorpNum, JobID, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#listActiveJob(String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillJobState[]> listActiveJob(final String CorpNum) {
+		return submit(new Callable<HTCashbillJobState[]>() {
+			@Override
+			public HTCashbillJobState[] call() throws PopbillException {
+				return hTCashbillService.listActiveJob(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#listActiveJob(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillJobState[]> listActiveJob(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<HTCashbillJobState[]>() {
+			@Override
+			public HTCashbillJobState[] call() throws PopbillException {
+				return hTCashbillService.listActiveJob(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#search(String, String, String[], String[], Integer, Integer, String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillSearchResult> search(final String CorpNum,
+			final String JobID, final String[] TradeUsage,
+			final String[] TradeType, final Integer Page, final Integer PerPage,
+			final String Order) {
+		return submit(new Callable<HTCashbillSearchResult>() {
+			@Override
+			public HTCashbillSearchResult call() throws PopbillException {
+				return hTCashbillService.search(CorpNum, JobID, TradeUsage,
+						TradeType, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#search(String, String, String[], String[], Integer, Integer, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillSearchResult> search(final String CorpNum,
+			final String JobID, final String[] TradeUsage,
+			final String[] TradeType, final Integer Page, final Integer PerPage,
+			final String Order, final String UserID) {
+		return submit(new Callable<HTCashbillSearchResult>() {
+			@Override
+			public HTCashbillSearchResult call() throws PopbillException {
+				return hTCashbillService.search(CorpNum, JobID, TradeUsage,
+						TradeType, Page, PerPage, Order, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#summary(String, String, String[], String[])
+	 */
+	@Override
+	public PopbillFuture<HTCashbillSummary> summary(final String CorpNum,
+			final String JobID, final String[] TradeUsage,
+			final String[] TradeType) {
+		return submit(new Callable<HTCashbillSummary>() {
+			@Override
+			public HTCashbillSummary call() throws PopbillException {
+				return hTCashbillService.summary(CorpNum, JobID, TradeUsage,
+						TradeType);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#summary(String, String, String[], String[], String)
+	 */
+	@Override
+	public PopbillFuture<HTCashbillSummary> summary(final String CorpNum,
+			final String JobID, final String[] TradeUsage,
+			final String[] TradeType, final String UserID) {
+		return submit(new Callable<HTCashbillSummary>() {
+			@Override
+			public HTCashbillSummary call() throws PopbillException {
+				return hTCashbillService.summary(CorpNum, JobID, TradeUsage,
+						TradeType, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getFlatRatePopUpURL(String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getFlatRatePopUpURL(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTCashbillService.getFlatRatePopUpURL(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getCertificatePopUpURL(String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getCertificatePopUpURL(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTCashbillService.getCertificatePopUpURL(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getFlatRateState(String)
+	 */
+	@Override
+	public PopbillFuture<FlatRateState> getFlatRateState(final String CorpNum) {
+		return submit(new Callable<FlatRateState>() {
+			@Override
+			public FlatRateState call() throws PopbillException {
+				return hTCashbillService.getFlatRateState(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getFlatRateState(String, String)
+	 */
+	@Override
+	public PopbillFuture<FlatRateState> getFlatRateState(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<FlatRateState>() {
+			@Override
+			public FlatRateState call() throws PopbillException {
+				return hTCashbillService.getFlatRateState(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTCashbillService#getCertificateExpireDate(String)
+	 */
+	@Override
+	public PopbillFuture<Date> getCertificateExpireDate(final String CorpNum) {
+		return submit(new Callable<Date>() {
+			@Override
+			public Date call() throws PopbillException {
+				return hTCashbillService.getCertificateExpireDate(CorpNum);
+			}
+		});
+	}
+}
@@ -0,0 +1,403 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.hometax;
+
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncHTTaxinvoiceService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.FlatRateState;
+import com.popbill.api.HTTaxinvoiceService;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+
+/**
+ * Implementation of Popbill AsyncHTTaxinvoiceService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncHTTaxinvoiceService
+ */
+public class AsyncHTTaxinvoiceServiceImp extends AsyncBaseServiceImp implements
+		AsyncHTTaxinvoiceService {
+
+	private final HTTaxinvoiceService hTTaxinvoiceService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param hTTaxinvoiceService
+	 *            HTTaxinvoiceService to call.
+	 */
+	public AsyncHTTaxinvoiceServiceImp(HTTaxinvoiceService hTTaxinvoiceService) {
+		this(hTTaxinvoiceService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param hTTaxinvoiceService
+	 *            HTTaxinvoiceService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncHTTaxinvoiceServiceImp(HTTaxinvoiceService hTTaxinvoiceService,
+			Executor executor) {
+		super(hTTaxinvoiceService, executor);
+		this.hTTaxinvoiceService = hTTaxinvoiceService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getFlatRatePopUpURL(String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getFlatRatePopUpURL(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTTaxinvoiceService.getFlatRatePopUpURL(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return hTTaxinvoiceService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#requestJob(String, QueryType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> requestJob(final String CorpNum,
+			final QueryType queryType, final String DType, final String SDate,
+			final String EDate) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTTaxinvoiceService.requestJob(CorpNum, queryType, DType,
+						SDate, EDate);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#requestJob(String, QueryType, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> requestJob(final String CorpNum,
+			final QueryType queryType, final String DType, final String SDate,
+			final String EDate, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTTaxinvoiceService.requestJob(CorpNum, queryType, DType,
+						SDate, EDate, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getJobState(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceJobState> getJobState(final String CorpNum,
+			final String JobID) {
+		return submit(new Callable<HTTaxinvoiceJobState>() {
+			@Override
+			public HTTaxinvoiceJobState call() throws PopbillException {
+				return hTTaxinvoiceService.getJobState(CorpNum, JobID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getJobState(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceJobState> getJobState(final String CorpNum,
+			final String JobID, final String UserID) {
+		return submit(new Callable<HTTaxinvoiceJobState>() {
+			@Override
+			public HTTaxinvoiceJobState call() throws PopbillException {
+				return hTTaxinvoiceService.getJobState(CorpNum, JobID, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#listActiveJob(String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceJobState[]> listActiveJob(final String CorpNum) {
+		return submit(new Callable<HTTaxinvoiceJobState[]>() {
+			@Override
+			public HTTaxinvoiceJobState[] call() throws PopbillException {
+				return hTTaxinvoiceService.listActiveJob(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#listActiveJob(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceJobState[]> listActiveJob(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<HTTaxinvoiceJobState[]>() {
+			@Override
+			public HTTaxinvoiceJobState[] call() throws PopbillException {
+				return hTTaxinvoiceService.listActiveJob(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#search(String, String, String[], String[], String[], String, String, String, Integer, Integer, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceSearchResult> search(final String CorpNum,
+			final String JobID, final String[] Type, final String[] TaxType,
+			final String[] PurposeType, final String TaxRegIDYN,
+			final String TaxRegIDType, final String TaxRegID,
+			final Integer Page, final Integer PerPage, final String Order) {
+		return submit(new Callable<HTTaxinvoiceSearchResult>() {
+			@Override
+			public HTTaxinvoiceSearchResult call() throws PopbillException {
+				return hTTaxinvoiceService.search(CorpNum, JobID, Type, TaxType,
+						PurposeType, TaxRegIDYN, TaxRegIDType, TaxRegID, Page,
+						PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#search(String, String, String[], String[], String[], String, String, String, Integer, Integer, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceSearchResult> search(final String CorpNum,
+			final String JobID, final String[] Type, final String[] TaxType,
+			final String[] PurposeType, final String TaxRegIDYN,
+			final String TaxRegIDType, final String TaxRegID,
+			final Integer Page, final Integer PerPage, final String Order,
+			final String UserID) {
+		return submit(new Callable<HTTaxinvoiceSearchResult>() {
+			@Override
+			public HTTaxinvoiceSearchResult call() throws PopbillException {
+				return hTTaxinvoiceService.search(CorpNum, JobID, Type, TaxType,
+						PurposeType, TaxRegIDYN, TaxRegIDType, TaxRegID, Page,
+						PerPage, Order, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#summary(String, String, String[], String[], String[], String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceSummary> summary(final String CorpNum,
+			final String JobID, final String[] Type, final String[] TaxType,
+			final String[] PurposeType, final String TaxRegIDYN,
+			final String TaxRegIDType, final String TaxRegID) {
+		return submit(new Callable<HTTaxinvoiceSummary>() {
+			@Override
+			public HTTaxinvoiceSummary call() throws PopbillException {
+				return hTTaxinvoiceService.summary(CorpNum, JobID, Type,
+						TaxType, PurposeType, TaxRegIDYN, TaxRegIDType, TaxRegID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#summary(String, String, String[], String[], String[], String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceSummary> summary(final String CorpNum,
+			final String JobID, final String[] Type, final String[] TaxType,
+			final String[] PurposeType, final String TaxRegIDYN,
+			final String TaxRegIDType, final String TaxRegID,
+			final String UserID) {
+		return submit(new Callable<HTTaxinvoiceSummary>() {
+			@Override
+			public HTTaxinvoiceSummary call() throws PopbillException {
+				return hTTaxinvoiceService.summary(CorpNum, JobID, Type,
+						TaxType, PurposeType, TaxRegIDYN, TaxRegIDType,
+						TaxRegID, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getTaxinvoice(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoice> getTaxinvoice(final String CorpNum,
+			final String NTSConfirmNum) {
+		return submit(new Callable<HTTaxinvoice>() {
+			@Override
+			public HTTaxinvoice call() throws PopbillException {
+				return hTTaxinvoiceService.getTaxinvoice(CorpNum, NTSConfirmNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getTaxinvoice(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoice> getTaxinvoice(final String CorpNum,
+			final String NTSConfirmNum, final String UserID) {
+		return submit(new Callable<HTTaxinvoice>() {
+			@Override
+			public HTTaxinvoice call() throws PopbillException {
+				return hTTaxinvoiceService.getTaxinvoice(CorpNum, NTSConfirmNum,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getXML(String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceXMLResponse> getXML(final String CorpNum,
+			final String NTSConfirmNum) {
+		return submit(new Callable<HTTaxinvoiceXMLResponse>() {
+			@Override
+			public HTTaxinvoiceXMLResponse call() throws PopbillException {
+				return hTTaxinvoiceService.getXML(CorpNum, NTSConfirmNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getXML(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<HTTaxinvoiceXMLResponse> getXML(final String CorpNum,
+			final String NTSConfirmNum, final String UserID) {
+		return submit(new Callable<HTTaxinvoiceXMLResponse>() {
+			@Override
+			public HTTaxinvoiceXMLResponse call() throws PopbillException {
+				return hTTaxinvoiceService.getXML(CorpNum, NTSConfirmNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getFlatRateState(String)
+	 */
+	@Override
+	public PopbillFuture<FlatRateState> getFlatRateState(final String CorpNum) {
+		return submit(new Callable<FlatRateState>() {
+			@Override
+			public FlatRateState call() throws PopbillException {
+				return hTTaxinvoiceService.getFlatRateState(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getFlatRateState(String, String)
+	 */
+	@Override
+	public PopbillFuture<FlatRateState> getFlatRateState(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<FlatRateState>() {
+			@Override
+			public FlatRateState call() throws PopbillException {
+				return hTTaxinvoiceService.getFlatRateState(CorpNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getCertificatePopUpURL(String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getCertificatePopUpURL(final String CorpNum,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return hTTaxinvoiceService.getCertificatePopUpURL(CorpNum,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncHTTaxinvoiceService#getCertificateExpireDate(String)
+	 */
+	@Override
+	public PopbillFuture<Date> getCertificateExpireDate(final String CorpNum) {
+		return submit(new Callable<Date>() {
+			@Override
+			public Date call() throws PopbillException {
+				return hTTaxinvoiceService.getCertificateExpireDate(CorpNum);
+			}
+		});
+	}
+}
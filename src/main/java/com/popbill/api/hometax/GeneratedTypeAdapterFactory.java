@@ -0,0 +1,1853 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.hometax;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == HTCashbill.class)
+			return (TypeAdapter<T>) new HTCashbillAdapter(gson);
+		if (rawType == HTCashbillJobState.class)
+			return (TypeAdapter<T>) new HTCashbillJobStateAdapter(gson);
+		if (rawType == HTCashbillSearchResult.class)
+			return (TypeAdapter<T>) new HTCashbillSearchResultAdapter(gson);
+		if (rawType == HTCashbillSummary.class)
+			return (TypeAdapter<T>) new HTCashbillSummaryAdapter(gson);
+		if (rawType == HTTaxinvoice.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceAdapter(gson);
+		if (rawType == HTTaxinvoiceAbbr.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceAbbrAdapter(gson);
+		if (rawType == HTTaxinvoiceDetail.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceDetailAdapter(gson);
+		if (rawType == HTTaxinvoiceJobState.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceJobStateAdapter(gson);
+		if (rawType == HTTaxinvoiceSearchResult.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceSearchResultAdapter(gson);
+		if (rawType == HTTaxinvoiceSummary.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceSummaryAdapter(gson);
+		if (rawType == HTTaxinvoiceXMLResponse.class)
+			return (TypeAdapter<T>) new HTTaxinvoiceXMLResponseAdapter(gson);
+
+		return null;
+	}
+
+	private static final class HTCashbillAdapter extends TypeAdapter<HTCashbill> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"ntsconfirmNum", "tradeDT", "tradeUsage",
+				"tradeType", "supplyCost", "tax",
+				"serviceFee", "totalAmount", "franchiseCorpNum",
+				"franchiseCorpName", "franchiseCorpType", "identityNumType",
+				"identityNum", "customerName", "cardOwnerName",
+				"deductionType");
+
+		private static final Field FIELD_NTSCONFIRM_NUM = field(HTCashbill.class, "ntsconfirmNum");
+		private static final Field FIELD_TRADE_DT = field(HTCashbill.class, "tradeDT");
+		private static final Field FIELD_TRADE_USAGE = field(HTCashbill.class, "tradeUsage");
+		private static final Field FIELD_TRADE_TYPE = field(HTCashbill.class, "tradeType");
+		private static final Field FIELD_SUPPLY_COST = field(HTCashbill.class, "supplyCost");
+		private static final Field FIELD_TAX = field(HTCashbill.class, "tax");
+		private static final Field FIELD_SERVICE_FEE = field(HTCashbill.class, "serviceFee");
+		private static final Field FIELD_TOTAL_AMOUNT = field(HTCashbill.class, "totalAmount");
+		private static final Field FIELD_FRANCHISE_CORP_NUM = field(HTCashbill.class, "franchiseCorpNum");
+		private static final Field FIELD_FRANCHISE_CORP_NAME = field(HTCashbill.class, "franchiseCorpName");
+		private static final Field FIELD_FRANCHISE_CORP_TYPE = field(HTCashbill.class, "franchiseCorpType");
+		private static final Field FIELD_IDENTITY_NUM_TYPE = field(HTCashbill.class, "identityNumType");
+		private static final Field FIELD_IDENTITY_NUM = field(HTCashbill.class, "identityNum");
+		private static final Field FIELD_CUSTOMER_NAME = field(HTCashbill.class, "customerName");
+		private static final Field FIELD_CARD_OWNER_NAME = field(HTCashbill.class, "cardOwnerName");
+		private static final Field FIELD_DEDUCTION_TYPE = field(HTCashbill.class, "deductionType");
+
+		HTCashbillAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTCashbill value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ntsconfirmNum");
+			out.value(value.getNtsconfirmNum());
+			out.name("tradeDT");
+			out.value(value.getTradeDT());
+			out.name("tradeUsage");
+			out.value(value.getTradeUsage());
+			out.name("tradeType");
+			out.value(value.getTradeType());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("serviceFee");
+			out.value(value.getServiceFee());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("franchiseCorpNum");
+			out.value(value.getFranchiseCorpNum());
+			out.name("franchiseCorpName");
+			out.value(value.getFranchiseCorpName());
+			out.name("franchiseCorpType");
+			out.value(value.getFranchiseCorpType());
+			out.name("identityNumType");
+			out.value(value.getIdentityNumType());
+			out.name("identityNum");
+			out.value(value.getIdentityNum());
+			out.name("customerName");
+			out.value(value.getCustomerName());
+			out.name("cardOwnerName");
+			out.value(value.getCardOwnerName());
+			out.name("deductionType");
+			out.value(value.getDeductionType());
+			out.endObject();
+		}
+
+		@Override
+		public HTCashbill read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTCashbill value = new HTCashbill();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TRADE_DT, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_TRADE_USAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_TRADE_TYPE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_SUPPLY_COST, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_TAX, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_SERVICE_FEE, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_TOTAL_AMOUNT, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_FRANCHISE_CORP_NUM, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_FRANCHISE_CORP_NAME, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_FRANCHISE_CORP_TYPE, value, readShort(in));
+						break;
+					case 11:
+						set(FIELD_IDENTITY_NUM_TYPE, value, readShort(in));
+						break;
+					case 12:
+						set(FIELD_IDENTITY_NUM, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_CUSTOMER_NAME, value, readString(in));
+						break;
+					case 14:
+						set(FIELD_CARD_OWNER_NAME, value, readString(in));
+						break;
+					case 15:
+						set(FIELD_DEDUCTION_TYPE, value, readShort(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTCashbillJobStateAdapter extends TypeAdapter<HTCashbillJobState> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"jobID", "jobState", "queryType",
+				"queryDateType", "queryStDate", "queryEnDate",
+				"errorCode", "errorReason", "jobStartDT",
+				"jobEndDT", "collectCount", "regDT");
+
+		private static final Field FIELD_JOB_ID = field(HTCashbillJobState.class, "jobID");
+		private static final Field FIELD_JOB_STATE = field(HTCashbillJobState.class, "jobState");
+		private static final Field FIELD_QUERY_TYPE = field(HTCashbillJobState.class, "queryType");
+		private static final Field FIELD_QUERY_DATE_TYPE = field(HTCashbillJobState.class, "queryDateType");
+		private static final Field FIELD_QUERY_ST_DATE = field(HTCashbillJobState.class, "queryStDate");
+		private static final Field FIELD_QUERY_EN_DATE = field(HTCashbillJobState.class, "queryEnDate");
+		private static final Field FIELD_ERROR_CODE = field(HTCashbillJobState.class, "errorCode");
+		private static final Field FIELD_ERROR_REASON = field(HTCashbillJobState.class, "errorReason");
+		private static final Field FIELD_JOB_START_DT = field(HTCashbillJobState.class, "jobStartDT");
+		private static final Field FIELD_JOB_END_DT = field(HTCashbillJobState.class, "jobEndDT");
+		private static final Field FIELD_COLLECT_COUNT = field(HTCashbillJobState.class, "collectCount");
+		private static final Field FIELD_REG_DT = field(HTCashbillJobState.class, "regDT");
+
+		HTCashbillJobStateAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTCashbillJobState value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("jobID");
+			out.value(value.getJobID());
+			out.name("jobState");
+			out.value(value.getJobState());
+			out.name("queryType");
+			out.value(value.getQueryType());
+			out.name("queryDateType");
+			out.value(value.getQueryDateType());
+			out.name("queryStDate");
+			out.value(value.getQueryStDate());
+			out.name("queryEnDate");
+			out.value(value.getQueryEnDate());
+			out.name("errorCode");
+			out.value(value.getErrorCode());
+			out.name("errorReason");
+			out.value(value.getErrorReason());
+			out.name("jobStartDT");
+			out.value(value.getJobStartDT());
+			out.name("jobEndDT");
+			out.value(value.getJobEndDT());
+			out.name("collectCount");
+			out.value(value.getCollectCount());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public HTCashbillJobState read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTCashbillJobState value = new HTCashbillJobState();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_JOB_ID, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_JOB_STATE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_QUERY_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_QUERY_DATE_TYPE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_QUERY_ST_DATE, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_QUERY_EN_DATE, value, readString(in));
+						break;
+					case 6:
+						if (skipNull(in) == false)
+							set(FIELD_ERROR_CODE, value, readLong(in));
+						break;
+					case 7:
+						set(FIELD_ERROR_REASON, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_JOB_START_DT, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_JOB_END_DT, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_COLLECT_COUNT, value, readInteger(in));
+						break;
+					case 11:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTCashbillSearchResultAdapter extends TypeAdapter<HTCashbillSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(HTCashbillSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(HTCashbillSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(HTCashbillSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(HTCashbillSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(HTCashbillSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(HTCashbillSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(HTCashbillSearchResult.class, "list");
+
+		private final TypeAdapter<List<HTCashbill>> list;
+
+		HTCashbillSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<HTCashbill>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, HTCashbillSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public HTCashbillSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTCashbillSearchResult value = new HTCashbillSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_CODE, value, readLong(in));
+						break;
+					case 1:
+						if (skipNull(in) == false)
+							set(FIELD_TOTAL, value, readLong(in));
+						break;
+					case 2:
+						if (skipNull(in) == false)
+							set(FIELD_PER_PAGE, value, readLong(in));
+						break;
+					case 3:
+						if (skipNull(in) == false)
+							set(FIELD_PAGE_NUM, value, readLong(in));
+						break;
+					case 4:
+						if (skipNull(in) == false)
+							set(FIELD_PAGE_COUNT, value, readLong(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTCashbillSummaryAdapter extends TypeAdapter<HTCashbillSummary> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"count", "supplyCostTotal", "taxTotal",
+				"serviceFeeTotal", "amountTotal");
+
+		private static final Field FIELD_COUNT = field(HTCashbillSummary.class, "count");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(HTCashbillSummary.class, "supplyCostTotal");
+		private static final Field FIELD_TAX_TOTAL = field(HTCashbillSummary.class, "taxTotal");
+		private static final Field FIELD_SERVICE_FEE_TOTAL = field(HTCashbillSummary.class, "serviceFeeTotal");
+		private static final Field FIELD_AMOUNT_TOTAL = field(HTCashbillSummary.class, "amountTotal");
+
+		HTCashbillSummaryAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTCashbillSummary value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("count");
+			out.value(value.getCount());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("serviceFeeTotal");
+			out.value(value.getServiceFeeTotal());
+			out.name("amountTotal");
+			out.value(value.getAmountTotal());
+			out.endObject();
+		}
+
+		@Override
+		public HTCashbillSummary read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTCashbillSummary value = new HTCashbillSummary();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_COUNT, value, readLong(in));
+						break;
+					case 1:
+						if (skipNull(in) == false)
+							set(FIELD_SUPPLY_COST_TOTAL, value, readLong(in));
+						break;
+					case 2:
+						if (skipNull(in) == false)
+							set(FIELD_TAX_TOTAL, value, readLong(in));
+						break;
+					case 3:
+						if (skipNull(in) == false)
+							set(FIELD_SERVICE_FEE_TOTAL, value, readLong(in));
+						break;
+					case 4:
+						if (skipNull(in) == false)
+							set(FIELD_AMOUNT_TOTAL, value, readLong(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceAdapter extends TypeAdapter<HTTaxinvoice> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"writeDate", "issueDT", "invoiceType",
+				"taxType", "invoicerCorpNum", "invoicerMgtKey",
+				"invoicerTaxRegID", "invoicerCorpName", "invoicerCEOName",
+				"invoicerAddr", "invoicerBizClass", "invoicerBizType",
+				"invoicerContactName", "invoicerDeptName", "invoicerTEL",
+				"invoicerEmail", "invoiceeCorpNum", "invoiceeType",
+				"invoiceeMgtKey", "invoiceeTaxRegID", "invoiceeCorpName",
+				"invoiceeCEOName", "invoiceeAddr", "invoiceeBizType",
+				"invoiceeBizClass", "invoiceeContactName1", "invoiceeDeptName1",
+				"invoiceeTEL1", "invoiceeEmail1", "invoiceeContactName2",
+				"invoiceeDeptName2", "invoiceeTEL2", "invoiceeEmail2",
+				"trusteeCorpNum", "trusteeMgtKey", "trusteeTaxRegID",
+				"trusteeCorpName", "trusteeCEOName", "trusteeAddr",
+				"trusteeBizType", "trusteeBizClass", "trusteeContactName",
+				"trusteeDeptName", "trusteeTEL", "trusteeEmail",
+				"taxTotal", "supplyCostTotal", "totalAmount",
+				"modifyCode", "orgNTSConfirmNum", "purposeType",
+				"serialNum", "cash", "chkBill",
+				"credit", "note", "remark1",
+				"remark2", "remark3", "ntsconfirmNum",
+				"detailList");
+
+		private static final Field FIELD_WRITE_DATE = field(HTTaxinvoice.class, "writeDate");
+		private static final Field FIELD_ISSUE_DT = field(HTTaxinvoice.class, "issueDT");
+		private static final Field FIELD_INVOICE_TYPE = field(HTTaxinvoice.class, "invoiceType");
+		private static final Field FIELD_TAX_TYPE = field(HTTaxinvoice.class, "taxType");
+		private static final Field FIELD_INVOICER_CORP_NUM = field(HTTaxinvoice.class, "invoicerCorpNum");
+		private static final Field FIELD_INVOICER_MGT_KEY = field(HTTaxinvoice.class, "invoicerMgtKey");
+		private static final Field FIELD_INVOICER_TAX_REG_ID = field(HTTaxinvoice.class, "invoicerTaxRegID");
+		private static final Field FIELD_INVOICER_CORP_NAME = field(HTTaxinvoice.class, "invoicerCorpName");
+		private static final Field FIELD_INVOICER_CEONAME = field(HTTaxinvoice.class, "invoicerCEOName");
+		private static final Field FIELD_INVOICER_ADDR = field(HTTaxinvoice.class, "invoicerAddr");
+		private static final Field FIELD_INVOICER_BIZ_CLASS = field(HTTaxinvoice.class, "invoicerBizClass");
+		private static final Field FIELD_INVOICER_BIZ_TYPE = field(HTTaxinvoice.class, "invoicerBizType");
+		private static final Field FIELD_INVOICER_CONTACT_NAME = field(HTTaxinvoice.class, "invoicerContactName");
+		private static final Field FIELD_INVOICER_DEPT_NAME = field(HTTaxinvoice.class, "invoicerDeptName");
+		private static final Field FIELD_INVOICER_TEL = field(HTTaxinvoice.class, "invoicerTEL");
+		private static final Field FIELD_INVOICER_EMAIL = field(HTTaxinvoice.class, "invoicerEmail");
+		private static final Field FIELD_INVOICEE_CORP_NUM = field(HTTaxinvoice.class, "invoiceeCorpNum");
+		private static final Field FIELD_INVOICEE_TYPE = field(HTTaxinvoice.class, "invoiceeType");
+		private static final Field FIELD_INVOICEE_MGT_KEY = field(HTTaxinvoice.class, "invoiceeMgtKey");
+		private static final Field FIELD_INVOICEE_TAX_REG_ID = field(HTTaxinvoice.class, "invoiceeTaxRegID");
+		private static final Field FIELD_INVOICEE_CORP_NAME = field(HTTaxinvoice.class, "invoiceeCorpName");
+		private static final Field FIELD_INVOICEE_CEONAME = field(HTTaxinvoice.class, "invoiceeCEOName");
+		private static final Field FIELD_INVOICEE_ADDR = field(HTTaxinvoice.class, "invoiceeAddr");
+		private static final Field FIELD_INVOICEE_BIZ_TYPE = field(HTTaxinvoice.class, "invoiceeBizType");
+		private static final Field FIELD_INVOICEE_BIZ_CLASS = field(HTTaxinvoice.class, "invoiceeBizClass");
+		private static final Field FIELD_INVOICEE_CONTACT_NAME1 = field(HTTaxinvoice.class, "invoiceeContactName1");
+		private static final Field FIELD_INVOICEE_DEPT_NAME1 = field(HTTaxinvoice.class, "invoiceeDeptName1");
+		private static final Field FIELD_INVOICEE_TEL1 = field(HTTaxinvoice.class, "invoiceeTEL1");
+		private static final Field FIELD_INVOICEE_EMAIL1 = field(HTTaxinvoice.class, "invoiceeEmail1");
+		private static final Field FIELD_INVOICEE_CONTACT_NAME2 = field(HTTaxinvoice.class, "invoiceeContactName2");
+		private static final Field FIELD_INVOICEE_DEPT_NAME2 = field(HTTaxinvoice.class, "invoiceeDeptName2");
+		private static final Field FIELD_INVOICEE_TEL2 = field(HTTaxinvoice.class, "invoiceeTEL2");
+		private static final Field FIELD_INVOICEE_EMAIL2 = field(HTTaxinvoice.class, "invoiceeEmail2");
+		private static final Field FIELD_TRUSTEE_CORP_NUM = field(HTTaxinvoice.class, "trusteeCorpNum");
+		private static final Field FIELD_TRUSTEE_MGT_KEY = field(HTTaxinvoice.class, "trusteeMgtKey");
+		private static final Field FIELD_TRUSTEE_TAX_REG_ID = field(HTTaxinvoice.class, "trusteeTaxRegID");
+		private static final Field FIELD_TRUSTEE_CORP_NAME = field(HTTaxinvoice.class, "trusteeCorpName");
+		private static final Field FIELD_TRUSTEE_CEONAME = field(HTTaxinvoice.class, "trusteeCEOName");
+		private static final Field FIELD_TRUSTEE_ADDR = field(HTTaxinvoice.class, "trusteeAddr");
+		private static final Field FIELD_TRUSTEE_BIZ_TYPE = field(HTTaxinvoice.class, "trusteeBizType");
+		private static final Field FIELD_TRUSTEE_BIZ_CLASS = field(HTTaxinvoice.class, "trusteeBizClass");
+		private static final Field FIELD_TRUSTEE_CONTACT_NAME = field(HTTaxinvoice.class, "trusteeContactName");
+		private static final Field FIELD_TRUSTEE_DEPT_NAME = field(HTTaxinvoice.class, "trusteeDeptName");
+		private static final Field FIELD_TRUSTEE_TEL = field(HTTaxinvoice.class, "trusteeTEL");
+		private static final Field FIELD_TRUSTEE_EMAIL = field(HTTaxinvoice.class, "trusteeEmail");
+		private static final Field FIELD_TAX_TOTAL = field(HTTaxinvoice.class, "taxTotal");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(HTTaxinvoice.class, "supplyCostTotal");
+		private static final Field FIELD_TOTAL_AMOUNT = field(HTTaxinvoice.class, "totalAmount");
+		private static final Field FIELD_MODIFY_CODE = field(HTTaxinvoice.class, "modifyCode");
+		private static final Field FIELD_ORG_NTSCONFIRM_NUM = field(HTTaxinvoice.class, "orgNTSConfirmNum");
+		private static final Field FIELD_PURPOSE_TYPE = field(HTTaxinvoice.class, "purposeType");
+		private static final Field FIELD_SERIAL_NUM = field(HTTaxinvoice.class, "serialNum");
+		private static final Field FIELD_CASH = field(HTTaxinvoice.class, "cash");
+		private static final Field FIELD_CHK_BILL = field(HTTaxinvoice.class, "chkBill");
+		private static final Field FIELD_CREDIT = field(HTTaxinvoice.class, "credit");
+		private static final Field FIELD_NOTE = field(HTTaxinvoice.class, "note");
+		private static final Field FIELD_REMARK1 = field(HTTaxinvoice.class, "remark1");
+		private static final Field FIELD_REMARK2 = field(HTTaxinvoice.class, "remark2");
+		private static final Field FIELD_REMARK3 = field(HTTaxinvoice.class, "remark3");
+		private static final Field FIELD_NTSCONFIRM_NUM = field(HTTaxinvoice.class, "ntsconfirmNum");
+		private static final Field FIELD_DETAIL_LIST = field(HTTaxinvoice.class, "detailList");
+
+		private final TypeAdapter<List<HTTaxinvoiceDetail>> detailList;
+
+		HTTaxinvoiceAdapter(Gson gson) {
+			detailList = gson.getAdapter(new TypeToken<List<HTTaxinvoiceDetail>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoice value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("issueDT");
+			out.value(value.getIssueDT());
+			out.name("invoiceType");
+			out.value(value.getInvoiceType());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("invoicerCorpNum");
+			out.value(value.getInvoicerCorpNum());
+			out.name("invoicerMgtKey");
+			out.value(value.getInvoicerMgtKey());
+			out.name("invoicerTaxRegID");
+			out.value(value.getInvoicerTaxRegID());
+			out.name("invoicerCorpName");
+			out.value(value.getInvoicerCorpName());
+			out.name("invoicerCEOName");
+			out.value(value.getInvoicerCEOName());
+			out.name("invoicerAddr");
+			out.value(value.getInvoicerAddr());
+			out.name("invoicerBizClass");
+			out.value(value.getInvoicerBizClass());
+			out.name("invoicerBizType");
+			out.value(value.getInvoicerBizType());
+			out.name("invoicerContactName");
+			out.value(value.getInvoicerContactName());
+			out.name("invoicerDeptName");
+			out.value(value.getInvoicerDeptName());
+			out.name("invoicerTEL");
+			out.value(value.getInvoicerTEL());
+			out.name("invoicerEmail");
+			out.value(value.getInvoicerEmail());
+			out.name("invoiceeCorpNum");
+			out.value(value.getInvoiceeCorpNum());
+			out.name("invoiceeType");
+			out.value(value.getInvoiceeType());
+			out.name("invoiceeMgtKey");
+			out.value(value.getInvoiceeMgtKey());
+			out.name("invoiceeTaxRegID");
+			out.value(value.getInvoiceeTaxRegID());
+			out.name("invoiceeCorpName");
+			out.value(value.getInvoiceeCorpName());
+			out.name("invoiceeCEOName");
+			out.value(value.getInvoiceeCEOName());
+			out.name("invoiceeAddr");
+			out.value(value.getInvoiceeAddr());
+			out.name("invoiceeBizType");
+			out.value(value.getInvoiceeBizType());
+			out.name("invoiceeBizClass");
+			out.value(value.getInvoiceeBizClass());
+			out.name("invoiceeContactName1");
+			out.value(value.getInvoiceeContactName1());
+			out.name("invoiceeDeptName1");
+			out.value(value.getInvoiceeDeptName1());
+			out.name("invoiceeTEL1");
+			out.value(value.getInvoiceeTEL1());
+			out.name("invoiceeEmail1");
+			out.value(value.getInvoiceeEmail1());
+			out.name("invoiceeContactName2");
+			out.value(value.getInvoiceeContactName2());
+			out.name("invoiceeDeptName2");
+			out.value(value.getInvoiceeDeptName2());
+			out.name("invoiceeTEL2");
+			out.value(value.getInvoiceeTEL2());
+			out.name("invoiceeEmail2");
+			out.value(value.getInvoiceeEmail2());
+			out.name("trusteeCorpNum");
+			out.value(value.getTrusteeCorpNum());
+			out.name("trusteeMgtKey");
+			out.value(value.getTrusteeMgtKey());
+			out.name("trusteeTaxRegID");
+			out.value(value.getTrusteeTaxRegID());
+			out.name("trusteeCorpName");
+			out.value(value.getTrusteeCorpName());
+			out.name("trusteeCEOName");
+			out.value(value.getTrusteeCEOName());
+			out.name("trusteeAddr");
+			out.value(value.getTrusteeAddr());
+			out.name("trusteeBizType");
+			out.value(value.getTrusteeBizType());
+			out.name("trusteeBizClass");
+			out.value(value.getTrusteeBizClass());
+			out.name("trusteeContactName");
+			out.value(value.getTrusteeContactName());
+			out.name("trusteeDeptName");
+			out.value(value.getTrusteeDeptName());
+			out.name("trusteeTEL");
+			out.value(value.getTrusteeTEL());
+			out.name("trusteeEmail");
+			out.value(value.getTrusteeEmail());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("modifyCode");
+			out.value(value.getModifyCode());
+			out.name("orgNTSConfirmNum");
+			out.value(value.getOrgNTSConfirmNum());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("cash");
+			out.value(value.getCash());
+			out.name("chkBill");
+			out.value(value.getChkBill());
+			out.name("credit");
+			out.value(value.getCredit());
+			out.name("note");
+			out.value(value.getNote());
+			out.name("remark1");
+			out.value(value.getRemark1());
+			out.name("remark2");
+			out.value(value.getRemark2());
+			out.name("remark3");
+			out.value(value.getRemark3());
+			out.name("ntsconfirmNum");
+			out.value(value.getNtsconfirmNum());
+			out.name("detailList");
+			detailList.write(out, value.getDetailList());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoice read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoice value = new HTTaxinvoice();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_WRITE_DATE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_ISSUE_DT, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_INVOICE_TYPE, value, readShort(in));
+						break;
+					case 3:
+						set(FIELD_TAX_TYPE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_INVOICER_CORP_NUM, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_INVOICER_MGT_KEY, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_INVOICER_TAX_REG_ID, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_INVOICER_CORP_NAME, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_INVOICER_CEONAME, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_INVOICER_ADDR, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_INVOICER_BIZ_CLASS, value, readString(in));
+						break;
+					case 11:
+						set(FIELD_INVOICER_BIZ_TYPE, value, readString(in));
+						break;
+					case 12:
+						set(FIELD_INVOICER_CONTACT_NAME, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_INVOICER_DEPT_NAME, value, readString(in));
+						break;
+					case 14:
+						set(FIELD_INVOICER_TEL, value, readString(in));
+						break;
+					case 15:
+						set(FIELD_INVOICER_EMAIL, value, readString(in));
+						break;
+					case 16:
+						set(FIELD_INVOICEE_CORP_NUM, value, readString(in));
+						break;
+					case 17:
+						set(FIELD_INVOICEE_TYPE, value, readString(in));
+						break;
+					case 18:
+						set(FIELD_INVOICEE_MGT_KEY, value, readString(in));
+						break;
+					case 19:
+						set(FIELD_INVOICEE_TAX_REG_ID, value, readString(in));
+						break;
+					case 20:
+						set(FIELD_INVOICEE_CORP_NAME, value, readString(in));
+						break;
+					case 21:
+						set(FIELD_INVOICEE_CEONAME, value, readString(in));
+						break;
+					case 22:
+						set(FIELD_INVOICEE_ADDR, value, readString(in));
+						break;
+					case 23:
+						set(FIELD_INVOICEE_BIZ_TYPE, value, readString(in));
+						break;
+					case 24:
+						set(FIELD_INVOICEE_BIZ_CLASS, value, readString(in));
+						break;
+					case 25:
+						set(FIELD_INVOICEE_CONTACT_NAME1, value, readString(in));
+						break;
+					case 26:
+						set(FIELD_INVOICEE_DEPT_NAME1, value, readString(in));
+						break;
+					case 27:
+						set(FIELD_INVOICEE_TEL1, value, readString(in));
+						break;
+					case 28:
+						set(FIELD_INVOICEE_EMAIL1, value, readString(in));
+						break;
+					case 29:
+						set(FIELD_INVOICEE_CONTACT_NAME2, value, readString(in));
+						break;
+					case 30:
+						set(FIELD_INVOICEE_DEPT_NAME2, value, readString(in));
+						break;
+					case 31:
+						set(FIELD_INVOICEE_TEL2, value, readString(in));
+						break;
+					case 32:
+						set(FIELD_INVOICEE_EMAIL2, value, readString(in));
+						break;
+					case 33:
+						set(FIELD_TRUSTEE_CORP_NUM, value, readString(in));
+						break;
+					case 34:
+						set(FIELD_TRUSTEE_MGT_KEY, value, readString(in));
+						break;
+					case 35:
+						set(FIELD_TRUSTEE_TAX_REG_ID, value, readString(in));
+						break;
+					case 36:
+						set(FIELD_TRUSTEE_CORP_NAME, value, readString(in));
+						break;
+					case 37:
+						set(FIELD_TRUSTEE_CEONAME, value, readString(in));
+						break;
+					case 38:
+						set(FIELD_TRUSTEE_ADDR, value, readString(in));
+						break;
+					case 39:
+						set(FIELD_TRUSTEE_BIZ_TYPE, value, readString(in));
+						break;
+					case 40:
+						set(FIELD_TRUSTEE_BIZ_CLASS, value, readString(in));
+						break;
+					case 41:
+						set(FIELD_TRUSTEE_CONTACT_NAME, value, readString(in));
+						break;
+					case 42:
+						set(FIELD_TRUSTEE_DEPT_NAME, value, readString(in));
+						break;
+					case 43:
+						set(FIELD_TRUSTEE_TEL, value, readString(in));
+						break;
+					case 44:
+						set(FIELD_TRUSTEE_EMAIL, value, readString(in));
+						break;
+					case 45:
+						set(FIELD_TAX_TOTAL, value, readString(in));
+						break;
+					case 46:
+						set(FIELD_SUPPLY_COST_TOTAL, value, readString(in));
+						break;
+					case 47:
+						set(FIELD_TOTAL_AMOUNT, value, readString(in));
+						break;
+					case 48:
+						set(FIELD_MODIFY_CODE, value, readShort(in));
+						break;
+					case 49:
+						set(FIELD_ORG_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 50:
+						set(FIELD_PURPOSE_TYPE, value, readString(in));
+						break;
+					case 51:
+						set(FIELD_SERIAL_NUM, value, readString(in));
+						break;
+					case 52:
+						set(FIELD_CASH, value, readString(in));
+						break;
+					case 53:
+						set(FIELD_CHK_BILL, value, readString(in));
+						break;
+					case 54:
+						set(FIELD_CREDIT, value, readString(in));
+						break;
+					case 55:
+						set(FIELD_NOTE, value, readString(in));
+						break;
+					case 56:
+						set(FIELD_REMARK1, value, readString(in));
+						break;
+					case 57:
+						set(FIELD_REMARK2, value, readString(in));
+						break;
+					case 58:
+						set(FIELD_REMARK3, value, readString(in));
+						break;
+					case 59:
+						set(FIELD_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 60:
+						set(FIELD_DETAIL_LIST, value, detailList.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceAbbrAdapter extends TypeAdapter<HTTaxinvoiceAbbr> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"ntsconfirmNum", "writeDate", "issueDate",
+				"sendDate", "taxType", "purposeType",
+				"modifyYN", "remark1", "invoicerCorpNum",
+				"invoicerCorpName", "invoicerEmail", "invoicerCEOName",
+				"invoicerTaxRegID", "invoiceeCorpNum", "invoiceeType",
+				"invoiceeCorpName", "invoiceeCEOName", "invoiceeEmail1",
+				"invoiceeTaxRegID", "invoiceeEmail2", "trusteeCorpNum",
+				"trusteeTaxRegID", "trusteeCorpName", "trusteeCEOName",
+				"trusteeEmail", "spec", "qty",
+				"unitCost", "supplyCostTotal", "taxTotal",
+				"totalAmount", "purchaseDate", "itemName",
+				"supplyCost", "tax", "remark",
+				"orgNTSConfirmNum");
+
+		private static final Field FIELD_NTSCONFIRM_NUM = field(HTTaxinvoiceAbbr.class, "ntsconfirmNum");
+		private static final Field FIELD_WRITE_DATE = field(HTTaxinvoiceAbbr.class, "writeDate");
+		private static final Field FIELD_ISSUE_DATE = field(HTTaxinvoiceAbbr.class, "issueDate");
+		private static final Field FIELD_SEND_DATE = field(HTTaxinvoiceAbbr.class, "sendDate");
+		private static final Field FIELD_TAX_TYPE = field(HTTaxinvoiceAbbr.class, "taxType");
+		private static final Field FIELD_PURPOSE_TYPE = field(HTTaxinvoiceAbbr.class, "purposeType");
+		private static final Field FIELD_MODIFY_YN = field(HTTaxinvoiceAbbr.class, "modifyYN");
+		private static final Field FIELD_REMARK1 = field(HTTaxinvoiceAbbr.class, "remark1");
+		private static final Field FIELD_INVOICER_CORP_NUM = field(HTTaxinvoiceAbbr.class, "invoicerCorpNum");
+		private static final Field FIELD_INVOICER_CORP_NAME = field(HTTaxinvoiceAbbr.class, "invoicerCorpName");
+		private static final Field FIELD_INVOICER_EMAIL = field(HTTaxinvoiceAbbr.class, "invoicerEmail");
+		private static final Field FIELD_INVOICER_CEONAME = field(HTTaxinvoiceAbbr.class, "invoicerCEOName");
+		private static final Field FIELD_INVOICER_TAX_REG_ID = field(HTTaxinvoiceAbbr.class, "invoicerTaxRegID");
+		private static final Field FIELD_INVOICEE_CORP_NUM = field(HTTaxinvoiceAbbr.class, "invoiceeCorpNum");
+		private static final Field FIELD_INVOICEE_TYPE = field(HTTaxinvoiceAbbr.class, "invoiceeType");
+		private static final Field FIELD_INVOICEE_CORP_NAME = field(HTTaxinvoiceAbbr.class, "invoiceeCorpName");
+		private static final Field FIELD_INVOICEE_CEONAME = field(HTTaxinvoiceAbbr.class, "invoiceeCEOName");
+		private static final Field FIELD_INVOICEE_EMAIL1 = field(HTTaxinvoiceAbbr.class, "invoiceeEmail1");
+		private static final Field FIELD_INVOICEE_TAX_REG_ID = field(HTTaxinvoiceAbbr.class, "invoiceeTaxRegID");
+		private static final Field FIELD_INVOICEE_EMAIL2 = field(HTTaxinvoiceAbbr.class, "invoiceeEmail2");
+		private static final Field FIELD_TRUSTEE_CORP_NUM = field(HTTaxinvoiceAbbr.class, "trusteeCorpNum");
+		private static final Field FIELD_TRUSTEE_TAX_REG_ID = field(HTTaxinvoiceAbbr.class, "trusteeTaxRegID");
+		private static final Field FIELD_TRUSTEE_CORP_NAME = field(HTTaxinvoiceAbbr.class, "trusteeCorpName");
+		private static final Field FIELD_TRUSTEE_CEONAME = field(HTTaxinvoiceAbbr.class, "trusteeCEOName");
+		private static final Field FIELD_TRUSTEE_EMAIL = field(HTTaxinvoiceAbbr.class, "trusteeEmail");
+		private static final Field FIELD_SPEC = field(HTTaxinvoiceAbbr.class, "spec");
+		private static final Field FIELD_QTY = field(HTTaxinvoiceAbbr.class, "qty");
+		private static final Field FIELD_UNIT_COST = field(HTTaxinvoiceAbbr.class, "unitCost");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(HTTaxinvoiceAbbr.class, "supplyCostTotal");
+		private static final Field FIELD_TAX_TOTAL = field(HTTaxinvoiceAbbr.class, "taxTotal");
+		private static final Field FIELD_TOTAL_AMOUNT = field(HTTaxinvoiceAbbr.class, "totalAmount");
+		private static final Field FIELD_PURCHASE_DATE = field(HTTaxinvoiceAbbr.class, "purchaseDate");
+		private static final Field FIELD_ITEM_NAME = field(HTTaxinvoiceAbbr.class, "itemName");
+		private static final Field FIELD_SUPPLY_COST = field(HTTaxinvoiceAbbr.class, "supplyCost");
+		private static final Field FIELD_TAX = field(HTTaxinvoiceAbbr.class, "tax");
+		private static final Field FIELD_REMARK = field(HTTaxinvoiceAbbr.class, "remark");
+		private static final Field FIELD_ORG_NTSCONFIRM_NUM = field(HTTaxinvoiceAbbr.class, "orgNTSConfirmNum");
+
+		HTTaxinvoiceAbbrAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceAbbr value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ntsconfirmNum");
+			out.value(value.getNtsconfirmNum());
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("issueDate");
+			out.value(value.getIssueDate());
+			out.name("sendDate");
+			out.value(value.getSendDate());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("modifyYN");
+			writeBoolean(out, value.getModifyYN());
+			out.name("remark1");
+			out.value(value.getRemark1());
+			out.name("invoicerCorpNum");
+			out.value(value.getInvoicerCorpNum());
+			out.name("invoicerCorpName");
+			out.value(value.getInvoicerCorpName());
+			out.name("invoicerEmail");
+			out.value(value.getInvoicerEmail());
+			out.name("invoicerCEOName");
+			out.value(value.getInvoicerCEOName());
+			out.name("invoicerTaxRegID");
+			out.value(value.getInvoicerTaxRegID());
+			out.name("invoiceeCorpNum");
+			out.value(value.getInvoiceeCorpNum());
+			out.name("invoiceeType");
+			out.value(value.getInvoiceeType());
+			out.name("invoiceeCorpName");
+			out.value(value.getInvoiceeCorpName());
+			out.name("invoiceeCEOName");
+			out.value(value.getInvoiceeCEOName());
+			out.name("invoiceeEmail1");
+			out.value(value.getInvoiceeEmail1());
+			out.name("invoiceeTaxRegID");
+			out.value(value.getInvoiceeTaxRegID());
+			out.name("invoiceeEmail2");
+			out.value(value.getInvoiceeEmail2());
+			out.name("trusteeCorpNum");
+			out.value(value.getTrusteeCorpNum());
+			out.name("trusteeTaxRegID");
+			out.value(value.getTrusteeTaxRegID());
+			out.name("trusteeCorpName");
+			out.value(value.getTrusteeCorpName());
+			out.name("trusteeCEOName");
+			out.value(value.getTrusteeCEOName());
+			out.name("trusteeEmail");
+			out.value(value.getTrusteeEmail());
+			out.name("spec");
+			out.value(value.getSpec());
+			out.name("qty");
+			out.value(value.getQty());
+			out.name("unitCost");
+			out.value(value.getUnitCost());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("purchaseDate");
+			out.value(value.getPurchaseDate());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("remark");
+			out.value(value.getRemark());
+			out.name("orgNTSConfirmNum");
+			out.value(value.getOrgNTSConfirmNum());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceAbbr read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceAbbr value = new HTTaxinvoiceAbbr();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_WRITE_DATE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_ISSUE_DATE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_SEND_DATE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_TAX_TYPE, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_PURPOSE_TYPE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_MODIFY_YN, value, readBoolean(in));
+						break;
+					case 7:
+						set(FIELD_REMARK1, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_INVOICER_CORP_NUM, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_INVOICER_CORP_NAME, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_INVOICER_EMAIL, value, readString(in));
+						break;
+					case 11:
+						set(FIELD_INVOICER_CEONAME, value, readString(in));
+						break;
+					case 12:
+						set(FIELD_INVOICER_TAX_REG_ID, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_INVOICEE_CORP_NUM, value, readString(in));
+						break;
+					case 14:
+						set(FIELD_INVOICEE_TYPE, value, readString(in));
+						break;
+					case 15:
+						set(FIELD_INVOICEE_CORP_NAME, value, readString(in));
+						break;
+					case 16:
+						set(FIELD_INVOICEE_CEONAME, value, readString(in));
+						break;
+					case 17:
+						set(FIELD_INVOICEE_EMAIL1, value, readString(in));
+						break;
+					case 18:
+						set(FIELD_INVOICEE_TAX_REG_ID, value, readString(in));
+						break;
+					case 19:
+						set(FIELD_INVOICEE_EMAIL2, value, readString(in));
+						break;
+					case 20:
+						set(FIELD_TRUSTEE_CORP_NUM, value, readString(in));
+						break;
+					case 21:
+						set(FIELD_TRUSTEE_TAX_REG_ID, value, readString(in));
+						break;
+					case 22:
+						set(FIELD_TRUSTEE_CORP_NAME, value, readString(in));
+						break;
+					case 23:
+						set(FIELD_TRUSTEE_CEONAME, value, readString(in));
+						break;
+					case 24:
+						set(FIELD_TRUSTEE_EMAIL, value, readString(in));
+						break;
+					case 25:
+						set(FIELD_SPEC, value, readString(in));
+						break;
+					case 26:
+						set(FIELD_QTY, value, readString(in));
+						break;
+					case 27:
+						set(FIELD_UNIT_COST, value, readString(in));
+						break;
+					case 28:
+						set(FIELD_SUPPLY_COST_TOTAL, value, readString(in));
+						break;
+					case 29:
+						set(FIELD_TAX_TOTAL, value, readString(in));
+						break;
+					case 30:
+						set(FIELD_TOTAL_AMOUNT, value, readString(in));
+						break;
+					case 31:
+						set(FIELD_PURCHASE_DATE, value, readString(in));
+						break;
+					case 32:
+						set(FIELD_ITEM_NAME, value, readString(in));
+						break;
+					case 33:
+						set(FIELD_SUPPLY_COST, value, readString(in));
+						break;
+					case 34:
+						set(FIELD_TAX, value, readString(in));
+						break;
+					case 35:
+						set(FIELD_REMARK, value, readString(in));
+						break;
+					case 36:
+						set(FIELD_ORG_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceDetailAdapter extends TypeAdapter<HTTaxinvoiceDetail> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"serialNum", "purchaseDT", "itemName",
+				"spec", "qty", "unitCost",
+				"supplyCost", "tax", "remark");
+
+		HTTaxinvoiceDetailAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceDetail value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("purchaseDT");
+			out.value(value.getPurchaseDT());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("spec");
+			out.value(value.getSpec());
+			out.name("qty");
+			out.value(value.getQty());
+			out.name("unitCost");
+			out.value(value.getUnitCost());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("remark");
+			out.value(value.getRemark());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceDetail read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceDetail value = new HTTaxinvoiceDetail();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setSerialNum(readShort(in));
+						break;
+					case 1:
+						value.setPurchaseDT(readString(in));
+						break;
+					case 2:
+						value.setItemName(readString(in));
+						break;
+					case 3:
+						value.setSpec(readString(in));
+						break;
+					case 4:
+						value.setQty(readString(in));
+						break;
+					case 5:
+						value.setUnitCost(readString(in));
+						break;
+					case 6:
+						value.setSupplyCost(readString(in));
+						break;
+					case 7:
+						value.setTax(readString(in));
+						break;
+					case 8:
+						value.setRemark(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceJobStateAdapter extends TypeAdapter<HTTaxinvoiceJobState> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"jobID", "jobState", "queryType",
+				"queryDateType", "queryStDate", "queryEnDate",
+				"errorCode", "errorReason", "jobStartDT",
+				"jobEndDT", "collectCount", "regDT");
+
+		private static final Field FIELD_JOB_ID = field(HTTaxinvoiceJobState.class, "jobID");
+		private static final Field FIELD_JOB_STATE = field(HTTaxinvoiceJobState.class, "jobState");
+		private static final Field FIELD_QUERY_TYPE = field(HTTaxinvoiceJobState.class, "queryType");
+		private static final Field FIELD_QUERY_DATE_TYPE = field(HTTaxinvoiceJobState.class, "queryDateType");
+		private static final Field FIELD_QUERY_ST_DATE = field(HTTaxinvoiceJobState.class, "queryStDate");
+		private static final Field FIELD_QUERY_EN_DATE = field(HTTaxinvoiceJobState.class, "queryEnDate");
+		private static final Field FIELD_ERROR_CODE = field(HTTaxinvoiceJobState.class, "errorCode");
+		private static final Field FIELD_ERROR_REASON = field(HTTaxinvoiceJobState.class, "errorReason");
+		private static final Field FIELD_JOB_START_DT = field(HTTaxinvoiceJobState.class, "jobStartDT");
+		private static final Field FIELD_JOB_END_DT = field(HTTaxinvoiceJobState.class, "jobEndDT");
+		private static final Field FIELD_COLLECT_COUNT = field(HTTaxinvoiceJobState.class, "collectCount");
+		private static final Field FIELD_REG_DT = field(HTTaxinvoiceJobState.class, "regDT");
+
+		HTTaxinvoiceJobStateAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceJobState value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("jobID");
+			out.value(value.getJobID());
+			out.name("jobState");
+			out.value(value.getJobState());
+			out.name("queryType");
+			out.value(value.getQueryType());
+			out.name("queryDateType");
+			out.value(value.getQueryDateType());
+			out.name("queryStDate");
+			out.value(value.getQueryStDate());
+			out.name("queryEnDate");
+			out.value(value.getQueryEnDate());
+			out.name("errorCode");
+			out.value(value.getErrorCode());
+			out.name("errorReason");
+			out.value(value.getErrorReason());
+			out.name("jobStartDT");
+			out.value(value.getJobStartDT());
+			out.name("jobEndDT");
+			out.value(value.getJobEndDT());
+			out.name("collectCount");
+			out.value(value.getCollectCount());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceJobState read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceJobState value = new HTTaxinvoiceJobState();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_JOB_ID, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_JOB_STATE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_QUERY_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_QUERY_DATE_TYPE, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_QUERY_ST_DATE, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_QUERY_EN_DATE, value, readString(in));
+						break;
+					case 6:
+						if (skipNull(in) == false)
+							set(FIELD_ERROR_CODE, value, readLong(in));
+						break;
+					case 7:
+						set(FIELD_ERROR_REASON, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_JOB_START_DT, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_JOB_END_DT, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_COLLECT_COUNT, value, readInteger(in));
+						break;
+					case 11:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceSearchResultAdapter extends TypeAdapter<HTTaxinvoiceSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(HTTaxinvoiceSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(HTTaxinvoiceSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(HTTaxinvoiceSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(HTTaxinvoiceSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(HTTaxinvoiceSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(HTTaxinvoiceSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(HTTaxinvoiceSearchResult.class, "list");
+
+		private final TypeAdapter<List<HTTaxinvoiceAbbr>> list;
+
+		HTTaxinvoiceSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<HTTaxinvoiceAbbr>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceSearchResult value = new HTTaxinvoiceSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_CODE, value, readLong(in));
+						break;
+					case 1:
+						if (skipNull(in) == false)
+							set(FIELD_TOTAL, value, readLong(in));
+						break;
+					case 2:
+						if (skipNull(in) == false)
+							set(FIELD_PER_PAGE, value, readLong(in));
+						break;
+					case 3:
+						if (skipNull(in) == false)
+							set(FIELD_PAGE_NUM, value, readLong(in));
+						break;
+					case 4:
+						if (skipNull(in) == false)
+							set(FIELD_PAGE_COUNT, value, readLong(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceSummaryAdapter extends TypeAdapter<HTTaxinvoiceSummary> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"count", "supplyCostTotal", "taxTotal",
+				"amountTotal");
+
+		private static final Field FIELD_COUNT = field(HTTaxinvoiceSummary.class, "count");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(HTTaxinvoiceSummary.class, "supplyCostTotal");
+		private static final Field FIELD_TAX_TOTAL = field(HTTaxinvoiceSummary.class, "taxTotal");
+		private static final Field FIELD_AMOUNT_TOTAL = field(HTTaxinvoiceSummary.class, "amountTotal");
+
+		HTTaxinvoiceSummaryAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceSummary value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("count");
+			out.value(value.getCount());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("amountTotal");
+			out.value(value.getAmountTotal());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceSummary read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceSummary value = new HTTaxinvoiceSummary();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_COUNT, value, readLong(in));
+						break;
+					case 1:
+						if (skipNull(in) == false)
+							set(FIELD_SUPPLY_COST_TOTAL, value, readLong(in));
+						break;
+					case 2:
+						if (skipNull(in) == false)
+							set(FIELD_TAX_TOTAL, value, readLong(in));
+						break;
+					case 3:
+						if (skipNull(in) == false)
+							set(FIELD_AMOUNT_TOTAL, value, readLong(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class HTTaxinvoiceXMLResponseAdapter extends TypeAdapter<HTTaxinvoiceXMLResponse> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"ResultCode", "Message", "retObject");
+
+		private static final Field FIELD_RESULT_CODE = field(HTTaxinvoiceXMLResponse.class, "ResultCode");
+		private static final Field FIELD_MESSAGE = field(HTTaxinvoiceXMLResponse.class, "Message");
+		private static final Field FIELD_RET_OBJECT = field(HTTaxinvoiceXMLResponse.class, "retObject");
+
+		HTTaxinvoiceXMLResponseAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, HTTaxinvoiceXMLResponse value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("ResultCode");
+			out.value(value.getResultCode());
+			out.name("Message");
+			out.value(value.getMessage());
+			out.name("retObject");
+			out.value(value.getRetObject());
+			out.endObject();
+		}
+
+		@Override
+		public HTTaxinvoiceXMLResponse read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			HTTaxinvoiceXMLResponse value = new HTTaxinvoiceXMLResponse();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							set(FIELD_RESULT_CODE, value, readLong(in));
+						break;
+					case 1:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_RET_OBJECT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
@@ -25,6 +25,7 @@ import com.popbill.api.ChargeInfo;
 import com.popbill.api.FlatRateState;
 import com.popbill.api.HTCashbillService;
 import com.popbill.api.PopbillException;
+import com.popbill.api.ResponseCache;
 
 /**
  * Implementation of Popbill Hometax Cashbill Service Interface
@@ -47,7 +48,8 @@ public class HTCashbillServiceImp extends BaseServiceImp implements HTCashbillSe
 	 */
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
-		return httpget("/HomeTax/Cashbill/ChargeInfo", CorpNum, null, ChargeInfo.class);
+		return httpget("/HomeTax/Cashbill/ChargeInfo", CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 	
 	/*
@@ -225,7 +227,8 @@ public class HTCashbillServiceImp extends BaseServiceImp implements HTCashbillSe
 	public FlatRateState getFlatRateState(String CorpNum, String UserID)
 			throws PopbillException {
 		
-		return httpget("/HomeTax/Cashbill/Contract", CorpNum, UserID, FlatRateState.class);
+		return httpget("/HomeTax/Cashbill/Contract", CorpNum, UserID,
+				ResponseCache.Kind.FLAT_RATE_STATE, FlatRateState.class);
 	}
 	
 	/*
@@ -236,7 +239,7 @@ public class HTCashbillServiceImp extends BaseServiceImp implements HTCashbillSe
 	public Date getCertificateExpireDate(String CorpNum)
 			throws PopbillException {
 		CertResponse response = httpget("/HomeTax/Cashbill/CertInfo", CorpNum, null,
-				CertResponse.class);
+				ResponseCache.Kind.CERTIFICATE, CertResponse.class);
 		
 		try {
 			return new SimpleDateFormat("yyyyMMddHHmmss")
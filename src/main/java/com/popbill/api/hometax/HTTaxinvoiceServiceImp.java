@@ -25,6 +25,7 @@ import com.popbill.api.ChargeInfo;
 import com.popbill.api.FlatRateState;
 import com.popbill.api.HTTaxinvoiceService;
 import com.popbill.api.PopbillException;
+import com.popbill.api.ResponseCache;
 
 /**
  * Implementation of Popbill HomeTax Taxinvoice Service Interface
@@ -58,7 +59,8 @@ public class HTTaxinvoiceServiceImp extends BaseServiceImp implements HTTaxinvoi
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
 		// TODO Auto-generated method stub
-		return httpget("/HomeTax/Taxinvoice/ChargeInfo", CorpNum, null, ChargeInfo.class);
+		return httpget("/HomeTax/Taxinvoice/ChargeInfo", CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 	
 	/*
@@ -299,7 +301,8 @@ public class HTTaxinvoiceServiceImp extends BaseServiceImp implements HTTaxinvoi
 	@Override
 	public FlatRateState getFlatRateState(String CorpNum, String UserID)
 			throws PopbillException {
-		return httpget("/HomeTax/Taxinvoice/Contract", CorpNum, UserID, FlatRateState.class);
+		return httpget("/HomeTax/Taxinvoice/Contract", CorpNum, UserID,
+				ResponseCache.Kind.FLAT_RATE_STATE, FlatRateState.class);
 	}
 	
 	/*
@@ -324,7 +327,7 @@ public class HTTaxinvoiceServiceImp extends BaseServiceImp implements HTTaxinvoi
 			throws PopbillException {
 		
 		CertResponse response = httpget("/HomeTax/Taxinvoice/CertInfo", CorpNum, null,
-				CertResponse.class);
+				ResponseCache.Kind.CERTIFICATE, CertResponse.class);
 		
 		try {
 			return new SimpleDateFormat("yyyyMMddHHmmss")
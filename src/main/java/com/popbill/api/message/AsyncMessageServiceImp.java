@@ -0,0 +1,629 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.message;
+
+import java.io.File;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncMessageService;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.MessageService;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.Response;
+
+/**
+ * Implementation of Popbill AsyncMessageService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncMessageService
+ */
+public class AsyncMessageServiceImp extends AsyncBaseServiceImp implements
+		AsyncMessageService {
+
+	private final MessageService messageService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param messageService
+	 *            MessageService to call.
+	 */
+	public AsyncMessageServiceImp(MessageService messageService) {
+		this(messageService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param messageService
+	 *            MessageService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncMessageServiceImp(MessageService messageService,
+			Executor executor) {
+		super(messageService, executor);
+		this.messageService = messageService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#getUnitCost(String, MessageType)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum,
+			final MessageType MsgType) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return messageService.getUnitCost(CorpNum, MsgType);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#getURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.getURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, String, String, String, String, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String content,
+			final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, sender, receiver,
+						receiverName, content, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, String, String, String, String, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String content,
+			final Date reserveDT, final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, sender, receiver,
+						receiverName, content, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final Message[] Messages, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, Messages, reserveDT,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, String, String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final String sender, final String content, final Message[] Messages,
+			final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, sender, content,
+						Messages, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final String sender, final String content, final Message[] Messages,
+			final Date reserveDT, final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, sender, content,
+						Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendSMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendSMS(final String CorpNum,
+			final String sender, final String senderName, final String content,
+			final Message[] Messages, final Date reserveDT, final Boolean adsYN,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendSMS(CorpNum, sender, senderName,
+						content, Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, String, String, String, String, String, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, sender, receiver,
+						receiverName, subject, content, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, String, String, String, String, String, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final Date reserveDT, final Boolean adsYN,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, sender, receiver,
+						receiverName, subject, content, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final Message[] Messages, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, Messages, reserveDT,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, String, String, String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, sender, subject, content,
+						Messages, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final Date reserveDT, final Boolean adsYN,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, sender, subject, content,
+						Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendLMS(String, String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendLMS(final String CorpNum,
+			final String sender, final String senderName, final String subject,
+			final String content, final Message[] Messages,
+			final Date reserveDT, final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendLMS(CorpNum, sender, senderName,
+						subject, content, Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, String, String, String, String, String, File, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final File file, final Date reserveDT,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, sender, receiver,
+						receiverName, subject, content, file, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, String, String, String, String, String, File, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final File file, final Date reserveDT,
+			final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, sender, receiver,
+						receiverName, subject, content, file, reserveDT, adsYN,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, Message[], File, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final Message[] Messages, final File file, final Date reserveDT,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, Messages, file,
+						reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, String, String, String, Message[], File, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final File file, final Date reserveDT,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, sender, subject, content,
+						Messages, file, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, String, String, String, Message[], File, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final File file, final Date reserveDT,
+			final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, sender, subject, content,
+						Messages, file, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendMMS(String, String, String, String, String, Message[], File, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendMMS(final String CorpNum,
+			final String sender, final String senderName, final String subject,
+			final String content, final Message[] Messages, final File file,
+			final Date reserveDT, final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendMMS(CorpNum, sender, senderName,
+						subject, content, Messages, file, reserveDT, adsYN,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, String, String, String, String, String, Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, sender, receiver,
+						receiverName, subject, content, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, String, String, String, String, String, Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final String sender, final String receiver,
+			final String receiverName, final String subject,
+			final String content, final Date reserveDT, final Boolean adsYN,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, sender, receiver,
+						receiverName, subject, content, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final Message[] Messages, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, Messages, reserveDT,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, String, String, String, Message[], Date, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final Date reserveDT, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, sender, subject, content,
+						Messages, reserveDT, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final String sender, final String subject, final String content,
+			final Message[] Messages, final Date reserveDT, final Boolean adsYN,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, sender, subject, content,
+						Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#sendXMS(String, String, String, String, String, Message[], Date, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<String> sendXMS(final String CorpNum,
+			final String sender, final String senderName, final String subject,
+			final String content, final Message[] Messages,
+			final Date reserveDT, final Boolean adsYN, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return messageService.sendXMS(CorpNum, sender, senderName,
+						subject, content, Messages, reserveDT, adsYN, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#getMessages(String, String)
+	 */
+	@Override
+	public PopbillFuture<SentMessage[]> getMessages(final String CorpNum,
+			final String receiptNum) {
+		return submit(new Callable<SentMessage[]>() {
+			@Override
+			public SentMessage[] call() throws PopbillException {
+				return messageService.getMessages(CorpNum, receiptNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#cancelReserve(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelReserve(final String CorpNum,
+			final String receiptNum, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return messageService.cancelReserve(CorpNum, receiptNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#search(String, String, String, String[], String[], Boolean, Boolean, int, int, String)
+	 */
+	@Override
+	public PopbillFuture<MSGSearchResult> search(final String CorpNum,
+			final String SDate, final String EDate, final String[] State,
+			final String[] Item, final Boolean ReserveYN,
+			final Boolean SenderYN, final int Page, final int PerPage,
+			final String Order) {
+		return submit(new Callable<MSGSearchResult>() {
+			@Override
+			public MSGSearchResult call() throws PopbillException {
+				return messageService.search(CorpNum, SDate, EDate, State, Item,
+						ReserveYN, SenderYN, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#getAutoDenyList(String)
+	 */
+	@Override
+	public PopbillFuture<AutoDeny[]> getAutoDenyList(final String CorpNum) {
+		return submit(new Callable<AutoDeny[]>() {
+			@Override
+			public AutoDeny[] call() throws PopbillException {
+				return messageService.getAutoDenyList(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncMessageService#getChargeInfo(String, MessageType)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum,
+			final MessageType MsgType) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return messageService.getChargeInfo(CorpNum, MsgType);
+			}
+		});
+	}
+}
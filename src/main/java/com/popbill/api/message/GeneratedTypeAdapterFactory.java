@@ -0,0 +1,547 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.message;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == AutoDeny.class)
+			return (TypeAdapter<T>) new AutoDenyAdapter(gson);
+		if (rawType == MSGSearchResult.class)
+			return (TypeAdapter<T>) new MSGSearchResultAdapter(gson);
+		if (rawType == Message.class)
+			return (TypeAdapter<T>) new MessageAdapter(gson);
+		if (rawType == SentMessage.class)
+			return (TypeAdapter<T>) new SentMessageAdapter(gson);
+
+		return null;
+	}
+
+	private static final class AutoDenyAdapter extends TypeAdapter<AutoDeny> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"number", "regDT");
+
+		private static final Field FIELD_NUMBER = field(AutoDeny.class, "number");
+		private static final Field FIELD_REG_DT = field(AutoDeny.class, "regDT");
+
+		AutoDenyAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, AutoDeny value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("number");
+			out.value(value.getNumber());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public AutoDeny read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			AutoDeny value = new AutoDeny();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_NUMBER, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class MSGSearchResultAdapter extends TypeAdapter<MSGSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(MSGSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(MSGSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(MSGSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(MSGSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(MSGSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(MSGSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(MSGSearchResult.class, "list");
+
+		private final TypeAdapter<List<SentMessage>> list;
+
+		MSGSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<SentMessage>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, MSGSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public MSGSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			MSGSearchResult value = new MSGSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CODE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TOTAL, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PER_PAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PAGE_NUM, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PAGE_COUNT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class MessageAdapter extends TypeAdapter<Message> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"snd", "sndnm", "rcv",
+				"rcvnm", "msg", "sjt");
+
+		MessageAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, Message value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("snd");
+			out.value(value.getSender());
+			out.name("sndnm");
+			out.value(value.getSenderName());
+			out.name("rcv");
+			out.value(value.getReceiver());
+			out.name("rcvnm");
+			out.value(value.getReceiverName());
+			out.name("msg");
+			out.value(value.getContent());
+			out.name("sjt");
+			out.value(value.getSubject());
+			out.endObject();
+		}
+
+		@Override
+		public Message read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Message value = new Message();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setSender(readString(in));
+						break;
+					case 1:
+						value.setSenderName(readString(in));
+						break;
+					case 2:
+						value.setReceiver(readString(in));
+						break;
+					case 3:
+						value.setReceiverName(readString(in));
+						break;
+					case 4:
+						value.setContent(readString(in));
+						break;
+					case 5:
+						value.setSubject(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class SentMessageAdapter extends TypeAdapter<SentMessage> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"state", "subject", "type",
+				"content", "sendNum", "senderName",
+				"receiveNum", "receiveName", "reserveDT",
+				"sendDT", "resultDT", "sendResult",
+				"tranNet", "receiptDT");
+
+		private static final Field FIELD_STATE = field(SentMessage.class, "state");
+		private static final Field FIELD_SUBJECT = field(SentMessage.class, "subject");
+		private static final Field FIELD_TYPE = field(SentMessage.class, "type");
+		private static final Field FIELD_CONTENT = field(SentMessage.class, "content");
+		private static final Field FIELD_SEND_NUM = field(SentMessage.class, "sendNum");
+		private static final Field FIELD_SENDER_NAME = field(SentMessage.class, "senderName");
+		private static final Field FIELD_RECEIVE_NUM = field(SentMessage.class, "receiveNum");
+		private static final Field FIELD_RECEIVE_NAME = field(SentMessage.class, "receiveName");
+		private static final Field FIELD_RESERVE_DT = field(SentMessage.class, "reserveDT");
+		private static final Field FIELD_SEND_DT = field(SentMessage.class, "sendDT");
+		private static final Field FIELD_RESULT_DT = field(SentMessage.class, "resultDT");
+		private static final Field FIELD_SEND_RESULT = field(SentMessage.class, "sendResult");
+		private static final Field FIELD_TRAN_NET = field(SentMessage.class, "tranNet");
+		private static final Field FIELD_RECEIPT_DT = field(SentMessage.class, "receiptDT");
+
+		SentMessageAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, SentMessage value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("state");
+			out.value(value.getState());
+			out.name("subject");
+			out.value(value.getSubject());
+			out.name("type");
+			out.value((String) get(FIELD_TYPE, value));
+			out.name("content");
+			out.value(value.getContent());
+			out.name("sendNum");
+			out.value(value.getSendNum());
+			out.name("senderName");
+			out.value(value.getSenderName());
+			out.name("receiveNum");
+			out.value(value.getReceiveNum());
+			out.name("receiveName");
+			out.value(value.getReceiveName());
+			out.name("reserveDT");
+			out.value(value.getReserveDT());
+			out.name("sendDT");
+			out.value(value.getSendDT());
+			out.name("resultDT");
+			out.value(value.getResultDT());
+			out.name("sendResult");
+			out.value(value.getSendResult());
+			out.name("tranNet");
+			out.value(value.getTranNet());
+			out.name("receiptDT");
+			out.value(value.getReceiptDT());
+			out.endObject();
+		}
+
+		@Override
+		public SentMessage read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			SentMessage value = new SentMessage();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_STATE, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_SUBJECT, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_CONTENT, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_SEND_NUM, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_SENDER_NAME, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_RECEIVE_NUM, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_RECEIVE_NAME, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_RESERVE_DT, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_SEND_DT, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_RESULT_DT, value, readString(in));
+						break;
+					case 11:
+						set(FIELD_SEND_RESULT, value, readString(in));
+						break;
+					case 12:
+						set(FIELD_TRAN_NET, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_RECEIPT_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
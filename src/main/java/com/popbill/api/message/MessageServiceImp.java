@@ -15,8 +15,6 @@
 package com.popbill.api.message;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -29,6 +27,7 @@ import com.popbill.api.ChargeInfo;
 import com.popbill.api.MessageService;
 import com.popbill.api.PopbillException;
 import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
 
 /**
  * Implementation of Popbill MessageService Interface
@@ -57,7 +56,7 @@ public class MessageServiceImp extends BaseServiceImp implements MessageService
 
 		UnitCostResponse response = httpget(
 				"/Message/UnitCost?Type=" + MsgType.name(), CorpNum, null,
-				UnitCostResponse.class);
+				ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 
 		return response.unitCost;
 	}
@@ -447,11 +446,9 @@ public class MessageServiceImp extends BaseServiceImp implements MessageService
 		UploadFile uf = new UploadFile();
 		uf.fieldName = "file";
 		uf.fileName = file.getName();
-		try {
-			uf.fileData = new FileInputStream(file);
-		} catch (FileNotFoundException e) {
-			throw new PopbillException(-99999999,"전송할 파일을 찾을 수 없습니다.",e);
-		}
+		if (file.isFile() == false || file.canRead() == false)
+			throw new PopbillException(-99999999,"전송할 파일을 찾을 수 없습니다.");
+		uf.file = file;
 		uploadFiles.add(uf);
 
 		ReceiptResponse response = httppostFiles("/MMS", CorpNum,
@@ -492,10 +489,8 @@ public class MessageServiceImp extends BaseServiceImp implements MessageService
 
 		request.msgs = Messages;
 
-		String PostData = toJsonString(request);
-
-		ReceiptResponse response = httppost("/" + MsgType.name(), CorpNum,
-				PostData, UserID, ReceiptResponse.class);
+		ReceiptResponse response = httppostJson("/" + MsgType.name(), CorpNum,
+				request, UserID, ReceiptResponse.class);
 
 		return response.receiptNum;
 	}
@@ -546,7 +541,8 @@ public class MessageServiceImp extends BaseServiceImp implements MessageService
 	 */
 	@Override
 	public AutoDeny[] getAutoDenyList(String CorpNum) throws PopbillException {	
-		return httpget("/Message/Denied", CorpNum, null, AutoDeny[].class);
+		return httpget("/Message/Denied", CorpNum, null,
+				ResponseCache.Kind.AUTO_DENY_LIST, AutoDeny[].class);
 	}
 	
 	/*
@@ -556,7 +552,8 @@ public class MessageServiceImp extends BaseServiceImp implements MessageService
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum, MessageType MsgType)
 			throws PopbillException {
-		return httpget("/Message/ChargeInfo?Type=" + MsgType.name(), CorpNum, null, ChargeInfo.class);
+		return httpget("/Message/ChargeInfo?Type=" + MsgType.name(), CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 	
 	protected class SendRequest {
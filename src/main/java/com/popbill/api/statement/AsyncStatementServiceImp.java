@@ -0,0 +1,798 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.statement;
+
+import java.io.InputStream;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncStatementService;
+import com.popbill.api.AttachedFile;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.Response;
+import com.popbill.api.StatementService;
+
+/**
+ * Implementation of Popbill AsyncStatementService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncStatementService
+ */
+public class AsyncStatementServiceImp extends AsyncBaseServiceImp implements
+		AsyncStatementService {
+
+	private final StatementService statementService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param statementService
+	 *            StatementService to call.
+	 */
+	public AsyncStatementServiceImp(StatementService statementService) {
+		this(statementService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param statementService
+	 *            StatementService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncStatementServiceImp(StatementService statementService,
+			Executor executor) {
+		super(statementService, executor);
+		this.statementService = statementService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getUnitCost(String, int)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum,
+			final int ItemCode) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return statementService.getUnitCost(CorpNum, ItemCode);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#checkMgtKeyInUse(String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Boolean> checkMgtKeyInUse(final String CorpNum,
+			final int ItemCode, final String MgtKey) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws PopbillException {
+				return statementService.checkMgtKeyInUse(CorpNum, ItemCode,
+						MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#register(String, Statement)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Statement statement) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.register(CorpNum, statement);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#register(String, Statement, String)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Statement statement, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.register(CorpNum, statement, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#update(String, int, String, Statement)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final int ItemCode, final String MgtKey, final Statement statement) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.update(CorpNum, ItemCode, MgtKey,
+						statement);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#update(String, int, String, Statement, String)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final int ItemCode, final String MgtKey, final Statement statement,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.update(CorpNum, ItemCode, MgtKey,
+						statement, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#delete(String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final int ItemCode, final String MgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.delete(CorpNum, ItemCode, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#delete(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.delete(CorpNum, ItemCode, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#issue(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.issue(CorpNum, ItemCode, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#issue(String, int, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.issue(CorpNum, ItemCode, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#issue(String, int, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Memo,
+			final String EmailSubject, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.issue(CorpNum, ItemCode, MgtKey, Memo,
+						EmailSubject, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#cancel(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancel(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Memeo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.cancel(CorpNum, ItemCode, MgtKey, Memeo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#cancel(String, int, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancel(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.cancel(CorpNum, ItemCode, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendEmail(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendEmail(CorpNum, ItemCode, MgtKey,
+						Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendEmail(String, int, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Receiver,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendEmail(CorpNum, ItemCode, MgtKey,
+						Receiver, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendSMS(String, int, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Sender,
+			final String Receiver, final String Contents) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendSMS(CorpNum, ItemCode, MgtKey,
+						Sender, Receiver, Contents);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendSMS(String, int, String, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Sender,
+			final String Receiver, final String Contents, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendSMS(CorpNum, ItemCode, MgtKey,
+						Sender, Receiver, Contents, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendFAX(String, int, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Sender,
+			final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendFAX(CorpNum, ItemCode, MgtKey,
+						Sender, Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#sendFAX(String, int, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String Sender,
+			final String Receiver, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.sendFAX(CorpNum, ItemCode, MgtKey,
+						Sender, Receiver, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getDetailInfo(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Statement> getDetailInfo(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<Statement>() {
+			@Override
+			public Statement call() throws PopbillException {
+				return statementService.getDetailInfo(CorpNum, ItemCode, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getInfo(String, int, String)
+	 */
+	@Override
+	public PopbillFuture<StatementInfo> getInfo(final String CorpNum,
+			final int ItemCode, final String MgtKey) {
+		return submit(new Callable<StatementInfo>() {
+			@Override
+			public StatementInfo call() throws PopbillException {
+				return statementService.getInfo(CorpNum, ItemCode, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getInfos(String, int, String[])
+	 */
+	@Override
+	public PopbillFuture<StatementInfo[]> getInfos(final String CorpNum,
+			final int ItemCode, final String[] MgtKeyList) {
+		return submit(new Callable<StatementInfo[]>() {
+			@Override
+			public StatementInfo[] call() throws PopbillException {
+				return statementService.getInfos(CorpNum, ItemCode, MgtKeyList);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getLogs(String, int, String)
+	 */
+	@Override
+	public PopbillFuture<StatementLog[]> getLogs(final String CorpNum,
+			final int ItemCode, final String MgtKey) {
+		return submit(new Callable<StatementLog[]>() {
+			@Override
+			public StatementLog[] call() throws PopbillException {
+				return statementService.getLogs(CorpNum, ItemCode, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getPopUpURL(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPopUpURL(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getPopUpURL(CorpNum, ItemCode, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getPrintURL(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPrintURL(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getPrintURL(CorpNum, ItemCode, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getEPrintURL(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getEPrintURL(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getEPrintURL(CorpNum, ItemCode, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getMailURL(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getMailURL(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getMailURL(CorpNum, ItemCode, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getMassPrintURL(String, int, String[], String)
+	 */
+	@Override
+	public PopbillFuture<String> getMassPrintURL(final String CorpNum,
+			final int ItemCode, final String[] MgtKeyList, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.getMassPrintURL(CorpNum, ItemCode,
+						MgtKeyList, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#attachFile(String, int, String, String, InputStream, String)
+	 */
+	@Override
+	public PopbillFuture<Response> attachFile(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String DisplayName,
+			final InputStream FileData, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.attachFile(CorpNum, ItemCode, MgtKey,
+						DisplayName, FileData, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getFiles(String, int, String)
+	 */
+	@Override
+	public PopbillFuture<AttachedFile[]> getFiles(final String CorpNum,
+			final int ItemCode, final String MgtKey) {
+		return submit(new Callable<AttachedFile[]>() {
+			@Override
+			public AttachedFile[] call() throws PopbillException {
+				return statementService.getFiles(CorpNum, ItemCode, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#deleteFile(String, int, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deleteFile(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String FileID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.deleteFile(CorpNum, ItemCode, MgtKey,
+						FileID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#deleteFile(String, int, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deleteFile(final String CorpNum,
+			final int ItemCode, final String MgtKey, final String FileID,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.deleteFile(CorpNum, ItemCode, MgtKey,
+						FileID, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#FAXSend(String, Statement, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> FAXSend(final String CorpNum,
+			final Statement statement, final String SendNum,
+			final String receiveNum) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.FAXSend(CorpNum, statement, SendNum,
+						receiveNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#FAXSend(String, Statement, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> FAXSend(final String CorpNum,
+			final Statement statement, final String sendNum,
+			final String receiveNum, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return statementService.FAXSend(CorpNum, statement, sendNum,
+						receiveNum, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#registIssue(String, Statement)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Statement statement) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.registIssue(CorpNum, statement);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#registIssue(String, Statement, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Statement statement, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.registIssue(CorpNum, statement, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#registIssue(String, Statement, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Statement statement, final String Memo, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.registIssue(CorpNum, statement, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#attachStatement(String, int, String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Response> attachStatement(final String CorpNum,
+			final int ItemCode, final String MgtKey, final int SubItemCode,
+			final String SubMgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.attachStatement(CorpNum, ItemCode,
+						MgtKey, SubItemCode, SubMgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#detachStatement(String, int, String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Response> detachStatement(final String CorpNum,
+			final int ItemCode, final String MgtKey, final int SubItemCode,
+			final String SubMgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return statementService.detachStatement(CorpNum, ItemCode,
+						MgtKey, SubItemCode, SubMgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#search(String, String, String, String, String[], int[], int, int, String)
+	 */
+	@Override
+	public PopbillFuture<StmtSearchResult> search(final String CorpNum,
+			final String DType, final String SDate, final String EDate,
+			final String[] State, final int[] ItemCode, final int Page,
+			final int PerPage, final String Order) {
+		return submit(new Callable<StmtSearchResult>() {
+			@Override
+			public StmtSearchResult call() throws PopbillException {
+				return statementService.search(CorpNum, DType, SDate, EDate,
+						State, ItemCode, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#search(String, String, String, String, String[], int[], String, int, int, String)
+	 */
+	@Override
+	public PopbillFuture<StmtSearchResult> search(final String CorpNum,
+			final String DType, final String SDate, final String EDate,
+			final String[] State, final int[] ItemCode, final String QString,
+			final int Page, final int PerPage, final String Order) {
+		return submit(new Callable<StmtSearchResult>() {
+			@Override
+			public StmtSearchResult call() throws PopbillException {
+				return statementService.search(CorpNum, DType, SDate, EDate,
+						State, ItemCode, QString, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncStatementService#getChargeInfo(String, int)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum,
+			final int ItemCode) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return statementService.getChargeInfo(CorpNum, ItemCode);
+			}
+		});
+	}
+}
@@ -0,0 +1,1006 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.statement;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == Statement.class)
+			return (TypeAdapter<T>) new StatementAdapter(gson);
+		if (rawType == StatementDetail.class)
+			return (TypeAdapter<T>) new StatementDetailAdapter(gson);
+		if (rawType == StatementInfo.class)
+			return (TypeAdapter<T>) new StatementInfoAdapter(gson);
+		if (rawType == StatementLog.class)
+			return (TypeAdapter<T>) new StatementLogAdapter(gson);
+		if (rawType == StmtSearchResult.class)
+			return (TypeAdapter<T>) new StmtSearchResultAdapter(gson);
+
+		return null;
+	}
+
+	private static final class StatementAdapter extends TypeAdapter<Statement> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"sendNum", "receiveNum", "memo",
+				"itemCode", "mgtKey", "formCode",
+				"writeDate", "taxType", "senderCorpNum",
+				"senderTaxRegID", "senderCorpName", "senderCEOName",
+				"senderAddr", "senderBizClass", "senderBizType",
+				"senderContactName", "senderDeptName", "senderTEL",
+				"senderHP", "senderEmail", "senderFAX",
+				"receiverCorpNum", "receiverTaxRegID", "receiverCorpName",
+				"receiverCEOName", "receiverAddr", "receiverBizClass",
+				"receiverBizType", "receiverContactName", "receiverDeptName",
+				"receiverTEL", "receiverHP", "receiverEmail",
+				"receiverFAX", "taxTotal", "supplyCostTotal",
+				"totalAmount", "purposeType", "serialNum",
+				"remark1", "remark2", "remark3",
+				"businessLicenseYN", "bankBookYN", "smssendYN",
+				"autoacceptYN", "detailList", "propertyBag");
+
+		private final TypeAdapter<List<StatementDetail>> detailList;
+		private final TypeAdapter<Map<String, String>> propertyBag;
+
+		StatementAdapter(Gson gson) {
+			detailList = gson.getAdapter(new TypeToken<List<StatementDetail>>() {
+			});
+			propertyBag = gson.getAdapter(new TypeToken<Map<String, String>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, Statement value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("sendNum");
+			out.value(value.getSendNum());
+			out.name("receiveNum");
+			out.value(value.getReceiveNum());
+			out.name("memo");
+			out.value(value.getMemo());
+			out.name("itemCode");
+			out.value(value.getItemCode());
+			out.name("mgtKey");
+			out.value(value.getMgtKey());
+			out.name("formCode");
+			out.value(value.getFormCode());
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("senderCorpNum");
+			out.value(value.getSenderCorpNum());
+			out.name("senderTaxRegID");
+			out.value(value.getSenderTaxRegID());
+			out.name("senderCorpName");
+			out.value(value.getSenderCorpName());
+			out.name("senderCEOName");
+			out.value(value.getSenderCEOName());
+			out.name("senderAddr");
+			out.value(value.getSenderAddr());
+			out.name("senderBizClass");
+			out.value(value.getSenderBizClass());
+			out.name("senderBizType");
+			out.value(value.getSenderBizType());
+			out.name("senderContactName");
+			out.value(value.getSenderContactName());
+			out.name("senderDeptName");
+			out.value(value.getSenderDeptName());
+			out.name("senderTEL");
+			out.value(value.getSenderTEL());
+			out.name("senderHP");
+			out.value(value.getSenderHP());
+			out.name("senderEmail");
+			out.value(value.getSenderEmail());
+			out.name("senderFAX");
+			out.value(value.getSenderFAX());
+			out.name("receiverCorpNum");
+			out.value(value.getReceiverCorpNum());
+			out.name("receiverTaxRegID");
+			out.value(value.getReceiverTaxRegID());
+			out.name("receiverCorpName");
+			out.value(value.getReceiverCorpName());
+			out.name("receiverCEOName");
+			out.value(value.getReceiverCEOName());
+			out.name("receiverAddr");
+			out.value(value.getReceiverAddr());
+			out.name("receiverBizClass");
+			out.value(value.getReceiverBizClass());
+			out.name("receiverBizType");
+			out.value(value.getReceiverBizType());
+			out.name("receiverContactName");
+			out.value(value.getReceiverContactName());
+			out.name("receiverDeptName");
+			out.value(value.getReceiverDeptName());
+			out.name("receiverTEL");
+			out.value(value.getReceiverTEL());
+			out.name("receiverHP");
+			out.value(value.getReceiverHP());
+			out.name("receiverEmail");
+			out.value(value.getReceiverEmail());
+			out.name("receiverFAX");
+			out.value(value.getReceiverFAX());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("remark1");
+			out.value(value.getRemark1());
+			out.name("remark2");
+			out.value(value.getRemark2());
+			out.name("remark3");
+			out.value(value.getRemark3());
+			out.name("businessLicenseYN");
+			out.value(value.getBusinessLicenseYN());
+			out.name("bankBookYN");
+			out.value(value.getBankBookYN());
+			out.name("smssendYN");
+			out.value(value.getSmssendYN());
+			out.name("autoacceptYN");
+			out.value(value.getAutoacceptYN());
+			out.name("detailList");
+			detailList.write(out, value.getDetailList());
+			out.name("propertyBag");
+			propertyBag.write(out, value.getPropertyBag());
+			out.endObject();
+		}
+
+		@Override
+		public Statement read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Statement value = new Statement();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setSendNum(readString(in));
+						break;
+					case 1:
+						value.setReceiveNum(readString(in));
+						break;
+					case 2:
+						value.setMemo(readString(in));
+						break;
+					case 3:
+						value.setItemCode(readShort(in));
+						break;
+					case 4:
+						value.setMgtKey(readString(in));
+						break;
+					case 5:
+						value.setFormCode(readString(in));
+						break;
+					case 6:
+						value.setWriteDate(readString(in));
+						break;
+					case 7:
+						value.setTaxType(readString(in));
+						break;
+					case 8:
+						value.setSenderCorpNum(readString(in));
+						break;
+					case 9:
+						value.setSenderTaxRegID(readString(in));
+						break;
+					case 10:
+						value.setSenderCorpName(readString(in));
+						break;
+					case 11:
+						value.setSenderCEOName(readString(in));
+						break;
+					case 12:
+						value.setSenderAddr(readString(in));
+						break;
+					case 13:
+						value.setSenderBizClass(readString(in));
+						break;
+					case 14:
+						value.setSenderBizType(readString(in));
+						break;
+					case 15:
+						value.setSenderContactName(readString(in));
+						break;
+					case 16:
+						value.setSenderDeptName(readString(in));
+						break;
+					case 17:
+						value.setSenderTEL(readString(in));
+						break;
+					case 18:
+						value.setSenderHP(readString(in));
+						break;
+					case 19:
+						value.setSenderEmail(readString(in));
+						break;
+					case 20:
+						value.setSenderFAX(readString(in));
+						break;
+					case 21:
+						value.setReceiverCorpNum(readString(in));
+						break;
+					case 22:
+						value.setReceiverTaxRegID(readString(in));
+						break;
+					case 23:
+						value.setReceiverCorpName(readString(in));
+						break;
+					case 24:
+						value.setReceiverCEOName(readString(in));
+						break;
+					case 25:
+						value.setReceiverAddr(readString(in));
+						break;
+					case 26:
+						value.setReceiverBizClass(readString(in));
+						break;
+					case 27:
+						value.setReceiverBizType(readString(in));
+						break;
+					case 28:
+						value.setReceiverContactName(readString(in));
+						break;
+					case 29:
+						value.setReceiverDeptName(readString(in));
+						break;
+					case 30:
+						value.setReceiverTEL(readString(in));
+						break;
+					case 31:
+						value.setReceiverHP(readString(in));
+						break;
+					case 32:
+						value.setReceiverEmail(readString(in));
+						break;
+					case 33:
+						value.setReceiverFAX(readString(in));
+						break;
+					case 34:
+						value.setTaxTotal(readString(in));
+						break;
+					case 35:
+						value.setSupplyCostTotal(readString(in));
+						break;
+					case 36:
+						value.setTotalAmount(readString(in));
+						break;
+					case 37:
+						value.setPurposeType(readString(in));
+						break;
+					case 38:
+						value.setSerialNum(readString(in));
+						break;
+					case 39:
+						value.setRemark1(readString(in));
+						break;
+					case 40:
+						value.setRemark2(readString(in));
+						break;
+					case 41:
+						value.setRemark3(readString(in));
+						break;
+					case 42:
+						if (skipNull(in) == false)
+							value.setBusinessLicenseYN(readBoolean(in));
+						break;
+					case 43:
+						if (skipNull(in) == false)
+							value.setBankBookYN(readBoolean(in));
+						break;
+					case 44:
+						if (skipNull(in) == false)
+							value.setSmssendYN(readBoolean(in));
+						break;
+					case 45:
+						if (skipNull(in) == false)
+							value.setAutoacceptYN(readBoolean(in));
+						break;
+					case 46:
+						value.setDetailList(detailList.read(in));
+						break;
+					case 47:
+						value.setPropertyBag(propertyBag.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class StatementDetailAdapter extends TypeAdapter<StatementDetail> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"serialNum", "purchaseDT", "itemName",
+				"spec", "unit", "qty",
+				"unitCost", "supplyCost", "tax",
+				"remark", "spare1", "spare2",
+				"spare3", "spare4", "spare5");
+
+		StatementDetailAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, StatementDetail value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("purchaseDT");
+			out.value(value.getPurchaseDT());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("spec");
+			out.value(value.getSpec());
+			out.name("unit");
+			out.value(value.getUnit());
+			out.name("qty");
+			out.value(value.getQty());
+			out.name("unitCost");
+			out.value(value.getUnitCost());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("remark");
+			out.value(value.getRemark());
+			out.name("spare1");
+			out.value(value.getSpare1());
+			out.name("spare2");
+			out.value(value.getSpare2());
+			out.name("spare3");
+			out.value(value.getSpare3());
+			out.name("spare4");
+			out.value(value.getSpare4());
+			out.name("spare5");
+			out.value(value.getSpare5());
+			out.endObject();
+		}
+
+		@Override
+		public StatementDetail read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			StatementDetail value = new StatementDetail();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setSerialNum(readShort(in));
+						break;
+					case 1:
+						value.setPurchaseDT(readString(in));
+						break;
+					case 2:
+						value.setItemName(readString(in));
+						break;
+					case 3:
+						value.setSpec(readString(in));
+						break;
+					case 4:
+						value.setUnit(readString(in));
+						break;
+					case 5:
+						value.setQty(readString(in));
+						break;
+					case 6:
+						value.setUnitCost(readString(in));
+						break;
+					case 7:
+						value.setSupplyCost(readString(in));
+						break;
+					case 8:
+						value.setTax(readString(in));
+						break;
+					case 9:
+						value.setRemark(readString(in));
+						break;
+					case 10:
+						value.setSpare1(readString(in));
+						break;
+					case 11:
+						value.setSpare2(readString(in));
+						break;
+					case 12:
+						value.setSpare3(readString(in));
+						break;
+					case 13:
+						value.setSpare4(readString(in));
+						break;
+					case 14:
+						value.setSpare5(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class StatementInfoAdapter extends TypeAdapter<StatementInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"itemKey", "itemCode", "invoiceNum",
+				"mgtKey", "stateCode", "taxType",
+				"purposeType", "writeDate", "senderCorpName",
+				"senderCorpNum", "senderPrintYN", "receiverCorpName",
+				"receiverCorpNum", "receiverPrintYN", "supplyCostTotal",
+				"taxTotal", "issueDT", "stateDT",
+				"openYN", "openDT", "stateMemo",
+				"regDT");
+
+		private static final Field FIELD_ITEM_KEY = field(StatementInfo.class, "itemKey");
+		private static final Field FIELD_ITEM_CODE = field(StatementInfo.class, "itemCode");
+		private static final Field FIELD_INVOICE_NUM = field(StatementInfo.class, "invoiceNum");
+		private static final Field FIELD_MGT_KEY = field(StatementInfo.class, "mgtKey");
+		private static final Field FIELD_STATE_CODE = field(StatementInfo.class, "stateCode");
+		private static final Field FIELD_TAX_TYPE = field(StatementInfo.class, "taxType");
+		private static final Field FIELD_PURPOSE_TYPE = field(StatementInfo.class, "purposeType");
+		private static final Field FIELD_WRITE_DATE = field(StatementInfo.class, "writeDate");
+		private static final Field FIELD_SENDER_CORP_NAME = field(StatementInfo.class, "senderCorpName");
+		private static final Field FIELD_SENDER_CORP_NUM = field(StatementInfo.class, "senderCorpNum");
+		private static final Field FIELD_SENDER_PRINT_YN = field(StatementInfo.class, "senderPrintYN");
+		private static final Field FIELD_RECEIVER_CORP_NAME = field(StatementInfo.class, "receiverCorpName");
+		private static final Field FIELD_RECEIVER_CORP_NUM = field(StatementInfo.class, "receiverCorpNum");
+		private static final Field FIELD_RECEIVER_PRINT_YN = field(StatementInfo.class, "receiverPrintYN");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(StatementInfo.class, "supplyCostTotal");
+		private static final Field FIELD_TAX_TOTAL = field(StatementInfo.class, "taxTotal");
+		private static final Field FIELD_ISSUE_DT = field(StatementInfo.class, "issueDT");
+		private static final Field FIELD_STATE_DT = field(StatementInfo.class, "stateDT");
+		private static final Field FIELD_OPEN_YN = field(StatementInfo.class, "openYN");
+		private static final Field FIELD_OPEN_DT = field(StatementInfo.class, "openDT");
+		private static final Field FIELD_STATE_MEMO = field(StatementInfo.class, "stateMemo");
+		private static final Field FIELD_REG_DT = field(StatementInfo.class, "regDT");
+
+		StatementInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, StatementInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("itemKey");
+			out.value(value.getItemKey());
+			out.name("itemCode");
+			out.value(value.getItemCode());
+			out.name("invoiceNum");
+			out.value(value.getInvoiceNum());
+			out.name("mgtKey");
+			out.value(value.getMgtKey());
+			out.name("stateCode");
+			out.value(value.getStateCode());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("senderCorpName");
+			out.value(value.getSenderCorpName());
+			out.name("senderCorpNum");
+			out.value(value.getSenderCorpNum());
+			out.name("senderPrintYN");
+			out.value(value.isSenderPrintYN());
+			out.name("receiverCorpName");
+			out.value(value.getReceiverCorpName());
+			out.name("receiverCorpNum");
+			out.value(value.getReceiverCorpNum());
+			out.name("receiverPrintYN");
+			out.value(value.isReceiverPrintYN());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("issueDT");
+			out.value(value.getIssueDT());
+			out.name("stateDT");
+			out.value(value.getStateDT());
+			out.name("openYN");
+			out.value(value.isOpenYN());
+			out.name("openDT");
+			out.value(value.getOpenDT());
+			out.name("stateMemo");
+			out.value(value.getStateMemo());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.endObject();
+		}
+
+		@Override
+		public StatementInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			StatementInfo value = new StatementInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_ITEM_KEY, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_ITEM_CODE, value, readInteger(in));
+						break;
+					case 2:
+						set(FIELD_INVOICE_NUM, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_MGT_KEY, value, readString(in));
+						break;
+					case 4:
+						if (skipNull(in) == false)
+							set(FIELD_STATE_CODE, value, readInteger(in));
+						break;
+					case 5:
+						set(FIELD_TAX_TYPE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_PURPOSE_TYPE, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_WRITE_DATE, value, readString(in));
+						break;
+					case 8:
+						set(FIELD_SENDER_CORP_NAME, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_SENDER_CORP_NUM, value, readString(in));
+						break;
+					case 10:
+						if (skipNull(in) == false)
+							set(FIELD_SENDER_PRINT_YN, value, readBoolean(in));
+						break;
+					case 11:
+						set(FIELD_RECEIVER_CORP_NAME, value, readString(in));
+						break;
+					case 12:
+						set(FIELD_RECEIVER_CORP_NUM, value, readString(in));
+						break;
+					case 13:
+						if (skipNull(in) == false)
+							set(FIELD_RECEIVER_PRINT_YN, value, readBoolean(in));
+						break;
+					case 14:
+						set(FIELD_SUPPLY_COST_TOTAL, value, readString(in));
+						break;
+					case 15:
+						set(FIELD_TAX_TOTAL, value, readString(in));
+						break;
+					case 16:
+						set(FIELD_ISSUE_DT, value, readString(in));
+						break;
+					case 17:
+						set(FIELD_STATE_DT, value, readString(in));
+						break;
+					case 18:
+						if (skipNull(in) == false)
+							set(FIELD_OPEN_YN, value, readBoolean(in));
+						break;
+					case 19:
+						set(FIELD_OPEN_DT, value, readString(in));
+						break;
+					case 20:
+						set(FIELD_STATE_MEMO, value, readString(in));
+						break;
+					case 21:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class StatementLogAdapter extends TypeAdapter<StatementLog> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"docLogType", "log", "procType",
+				"procCorpName", "procContactName", "procMemo",
+				"regDT", "ip");
+
+		private static final Field FIELD_DOC_LOG_TYPE = field(StatementLog.class, "docLogType");
+		private static final Field FIELD_LOG = field(StatementLog.class, "log");
+		private static final Field FIELD_PROC_TYPE = field(StatementLog.class, "procType");
+		private static final Field FIELD_PROC_CORP_NAME = field(StatementLog.class, "procCorpName");
+		private static final Field FIELD_PROC_CONTACT_NAME = field(StatementLog.class, "procContactName");
+		private static final Field FIELD_PROC_MEMO = field(StatementLog.class, "procMemo");
+		private static final Field FIELD_REG_DT = field(StatementLog.class, "regDT");
+		private static final Field FIELD_IP = field(StatementLog.class, "ip");
+
+		StatementLogAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, StatementLog value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("docLogType");
+			out.value(value.getDocLogType());
+			out.name("log");
+			out.value(value.getLog());
+			out.name("procType");
+			out.value(value.getProcType());
+			out.name("procCorpName");
+			out.value(value.getProcCorpName());
+			out.name("procContactName");
+			out.value(value.getProcContactName());
+			out.name("procMemo");
+			out.value(value.getProcMemo());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.name("ip");
+			out.value(value.getIp());
+			out.endObject();
+		}
+
+		@Override
+		public StatementLog read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			StatementLog value = new StatementLog();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_DOC_LOG_TYPE, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_LOG, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PROC_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PROC_CORP_NAME, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PROC_CONTACT_NAME, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_PROC_MEMO, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_IP, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class StmtSearchResultAdapter extends TypeAdapter<StmtSearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(StmtSearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(StmtSearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(StmtSearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(StmtSearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(StmtSearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(StmtSearchResult.class, "message");
+		private static final Field FIELD_LIST = field(StmtSearchResult.class, "list");
+
+		private final TypeAdapter<List<StatementInfo>> list;
+
+		StmtSearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<StatementInfo>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, StmtSearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public StmtSearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			StmtSearchResult value = new StmtSearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CODE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TOTAL, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PER_PAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PAGE_NUM, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PAGE_COUNT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
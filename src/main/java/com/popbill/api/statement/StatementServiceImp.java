@@ -24,9 +24,12 @@ import java.util.List;
 import com.popbill.api.AttachedFile;
 import com.popbill.api.BaseServiceImp;
 import com.popbill.api.ChargeInfo;
+import com.popbill.api.OutcomeCheck;
 import com.popbill.api.PopbillException;
 import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
 import com.popbill.api.StatementService;
+import com.popbill.api.transport.Idempotency;
 
 /**
  *  Implementation of Popbill StatemenService Interface
@@ -42,6 +45,76 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		return Arrays.asList("121","122","123","124","125","126");
 	}
 	
+	@Override
+	protected Idempotency getIdempotency(String method, String url,
+			String Action) {
+		// 다량 조회(getInfos)와 인쇄 URL(getMassPrintURL)은 POST 로 요청하는 조회입니다.
+		if ("POST".equals(method) && Action == null) {
+			if (url.endsWith("?Print"))
+				return Idempotency.SAFE;
+			if (url.startsWith("/Statement/")
+					&& url.indexOf('/', "/Statement/".length()) < 0)
+				return Idempotency.SAFE;
+		}
+		
+		return super.getIdempotency(method, url, Action);
+	}
+	
+	/**
+	 * 등록 요청의 처리여부 확인. 응답을 받지 못한 경우 관리번호 사용여부로 등록되었는지
+	 * 확인합니다. 관리번호가 없으면 확인할 수 없으므로 null 을 반환합니다.
+	 */
+	private OutcomeCheck registered(final String CorpNum, Statement statement) {
+		final Short ItemCode = statement.getItemCode();
+		final String MgtKey = statement.getMgtKey();
+		
+		if (ItemCode == null || MgtKey == null || MgtKey.isEmpty())
+			return null;
+		
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, ItemCode, MgtKey);
+			}
+		};
+	}
+	
+	/**
+	 * 삭제 요청의 처리여부 확인. 응답을 받지 못한 삭제를 다시 보내면 대상이 없다는
+	 * 오류가 되므로, 관리번호가 사용중이 아니면 삭제된 것으로 확인합니다.
+	 */
+	private OutcomeCheck deleted(final String CorpNum, final int ItemCode,
+			final String MgtKey) {
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, ItemCode, MgtKey) == false;
+			}
+		};
+	}
+	
+	/**
+	 * 첨부파일 삭제 요청의 처리여부 확인. 첨부파일 목록에 없으면 삭제된 것으로
+	 * 확인합니다.
+	 */
+	private OutcomeCheck fileDeleted(final String CorpNum, final int ItemCode,
+			final String MgtKey, final String FileID) {
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				AttachedFile[] files = getFiles(CorpNum, ItemCode, MgtKey);
+				
+				if (files != null) {
+					for (AttachedFile file : files) {
+						if (FileID.equals(file.getAttachedFile()))
+							return false;
+					}
+				}
+				return true;
+			}
+		};
+	}
+	
 	/* (non-Javadoc)
 	 * @see com.popbill.api.StatementService#getURL(java.lang.String, java.lang.String, java.lang.String)
 	 */
@@ -62,7 +135,7 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 			throws PopbillException {
 		
 		UnitCostResponse response = httpget("/Statement/" + ItemCode + "?cfg=UNITCOST",
-				CorpNum, null, UnitCostResponse.class);
+				CorpNum, null, ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 		
 		return response.unitCost;
 	}
@@ -106,9 +179,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 	public Response register(String CorpNum, Statement statement, String UserID)
 			throws PopbillException {
 		
-		String PostData = toJsonString(statement);
-		
-		return httppost("/Statement", CorpNum, PostData, UserID, Response.class);
+		return httppostJson("/Statement", CorpNum, statement, UserID, null,
+				registered(CorpNum, statement), Response.class);
 	}
 		
 	/* (non-Javadoc)
@@ -132,10 +204,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(statement);
-		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey, CorpNum, 
-				PostData, UserID, "PATCH", Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey, CorpNum, 
+				statement, UserID, "PATCH", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -160,7 +230,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 				
 		return httppost("/Statement/" + ItemCode + "/" + MgtKey, CorpNum, 
-				null, UserID, "DELETE", Response.class);
+				null, UserID, "DELETE", deleted(CorpNum, ItemCode, MgtKey),
+				Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -191,10 +262,10 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 				
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey,
-				CorpNum, PostData, UserID, "ISSUE", Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey,
+				CorpNum, request, UserID, "ISSUE", Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -218,10 +289,10 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey, 
-				CorpNum, PostData, UserID, "CANCEL", Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey, 
+				CorpNum, request, UserID, "CANCEL", Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -249,10 +320,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		
 		request.receiver = Receiver;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey, 
-				CorpNum, PostData, UserID, "EMAIL", Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey, 
+				CorpNum, request, UserID, "EMAIL", Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -282,9 +351,7 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		request.receiver = Receiver;
 		request.contents = Contents;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey, CorpNum, PostData, 
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey, CorpNum, request, 
 				UserID, "SMS", Response.class);
 	}
 
@@ -312,9 +379,7 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		request.sender = Sender;
 		request.receiver = Receiver;
 				
-		String PostData = toJsonString(request);
-		
-		return httppost("/Statement/"+ItemCode+"/"+MgtKey, CorpNum, PostData, 
+		return httppostJson("/Statement/"+ItemCode+"/"+MgtKey, CorpNum, request, 
 					UserID, "FAX", Response.class);
 	}
 	
@@ -354,10 +419,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		if (MgtKeyList == null)
 			throw new PopbillException(-99999999, "관리번호 배열이 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(MgtKeyList);
-		
-		return httppost("/Statement/" + ItemCode, CorpNum, 
-					PostData, null, StatementInfo[].class);
+		return httppostJson("/Statement/" + ItemCode, CorpNum, 
+					MgtKeyList, null, StatementInfo[].class);
 	}
 	
 	/* (non-Javadoc)
@@ -442,10 +505,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		if (MgtKeyList == null)
 			throw new PopbillException(-99999999, "관리번호배열이 입력되지 않았습니다.");
 		
-		String PostData = toJsonString(MgtKeyList);
-		
-		URLResponse response = httppost("/Statement/" + ItemCode + "?Print",
-				CorpNum, PostData, UserID, URLResponse.class);
+		URLResponse response = httppostJson("/Statement/" + ItemCode + "?Print",
+				CorpNum, MgtKeyList, UserID, URLResponse.class);
 		
 		return response.url;
 	}
@@ -510,7 +571,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 			throw new PopbillException(-99999999, "파일아이디가 입력되지 않았습니다.");
 		
 		return httppost("/Statement/" + ItemCode + "/" + MgtKey + "/Files/" + FileID,
-				CorpNum, null, UserID, "DELETE", Response.class);
+				CorpNum, null, UserID, "DELETE",
+				fileDeleted(CorpNum, ItemCode, MgtKey, FileID), Response.class);
 		
 	}
 	
@@ -535,10 +597,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		statement.setSendNum(sendNum);
 		statement.setReceiveNum(receiveNum);
 		
-		String PostData = toJsonString(statement);
-		
-		ReceiptResponse response = httppost("/Statement",
-				CorpNum, PostData, UserID, "FAX", ReceiptResponse.class);
+		ReceiptResponse response = httppostJson("/Statement",
+				CorpNum, statement, UserID, "FAX", ReceiptResponse.class);
 		
 		return response.receiptNum;
 	}
@@ -572,10 +632,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 			
 		statement.setMemo(memo);
 		
-		String PostData = toJsonString(statement);
-		
-		return httppost("/Statement",
-				CorpNum, PostData, UserID, "ISSUE", Response.class);
+		return httppostJson("/Statement", CorpNum, statement, UserID,
+				"ISSUE", registered(CorpNum, statement), Response.class);
 	}
 	
 	/*
@@ -589,10 +647,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		request.ItemCode = SubItemCode;
 		request.MgtKey = SubMgtKey;
 				
-		String PostData = toJsonString(request);
-		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey + "/AttachStmt/",
-				CorpNum, PostData, null, Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey + "/AttachStmt/",
+				CorpNum, request, null, Response.class);
 		
 	}
 	
@@ -607,10 +663,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 		request.ItemCode = SubItemCode;
 		request.MgtKey = SubMgtKey;
 				
-		String PostData = toJsonString(request);
-		
-		return httppost("/Statement/" + ItemCode + "/" + MgtKey + "/DetachStmt/",
-				CorpNum, PostData, null, Response.class);
+		return httppostJson("/Statement/" + ItemCode + "/" + MgtKey + "/DetachStmt/",
+				CorpNum, request, null, Response.class);
 	}
 
 	@Override
@@ -654,7 +708,8 @@ public class StatementServiceImp extends BaseServiceImp implements StatementServ
 	 */
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum, int ItemCode) throws PopbillException{
-		return httpget("/Statement/ChargeInfo/" + Integer.toString(ItemCode), CorpNum, null, ChargeInfo.class);
+		return httpget("/Statement/ChargeInfo/" + Integer.toString(ItemCode), CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 
 		
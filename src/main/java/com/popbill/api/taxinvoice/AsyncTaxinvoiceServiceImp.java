@@ -0,0 +1,1195 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.taxinvoice;
+
+import java.io.InputStream;
+import java.util.Date;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+import com.popbill.api.AsyncBaseServiceImp;
+import com.popbill.api.AsyncTaxinvoiceService;
+import com.popbill.api.AttachedFile;
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.Response;
+import com.popbill.api.TaxinvoiceService;
+
+/**
+ * Implementation of Popbill AsyncTaxinvoiceService Interface
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.AsyncTaxinvoiceService
+ */
+public class AsyncTaxinvoiceServiceImp extends AsyncBaseServiceImp implements
+		AsyncTaxinvoiceService {
+
+	private final TaxinvoiceService taxinvoiceService;
+
+	/**
+	 * AsyncBaseServiceImp.getDefaultExecutor() 에서 실행합니다.
+	 * 
+	 * @param taxinvoiceService
+	 *            TaxinvoiceService to call.
+	 */
+	public AsyncTaxinvoiceServiceImp(TaxinvoiceService taxinvoiceService) {
+		this(taxinvoiceService, getDefaultExecutor());
+	}
+
+	/**
+	 * @param taxinvoiceService
+	 *            TaxinvoiceService to call.
+	 * @param executor
+	 *            Executor to run calls.
+	 */
+	public AsyncTaxinvoiceServiceImp(TaxinvoiceService taxinvoiceService,
+			Executor executor) {
+		super(taxinvoiceService, executor);
+		this.taxinvoiceService = taxinvoiceService;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getUnitCost(String)
+	 */
+	@Override
+	public PopbillFuture<Float> getUnitCost(final String CorpNum) {
+		return submit(new Callable<Float>() {
+			@Override
+			public Float call() throws PopbillException {
+				return taxinvoiceService.getUnitCost(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getCertificateExpireDate(String)
+	 */
+	@Override
+	public PopbillFuture<Date> getCertificateExpireDate(final String CorpNum) {
+		return submit(new Callable<Date>() {
+			@Override
+			public Date call() throws PopbillException {
+				return taxinvoiceService.getCertificateExpireDate(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getURL(String, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getURL(final String CorpNum,
+			final String UserID, final String TOGO) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getURL(CorpNum, UserID, TOGO);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#checkMgtKeyInUse(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<Boolean> checkMgtKeyInUse(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<Boolean>() {
+			@Override
+			public Boolean call() throws PopbillException {
+				return taxinvoiceService.checkMgtKeyInUse(CorpNum, KeyType,
+						MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getEmailPublicKeys(String)
+	 */
+	@Override
+	public PopbillFuture<EmailPublicKey[]> getEmailPublicKeys(final String CorpNum) {
+		return submit(new Callable<EmailPublicKey[]>() {
+			@Override
+			public EmailPublicKey[] call() throws PopbillException {
+				return taxinvoiceService.getEmailPublicKeys(CorpNum);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#register(String, Taxinvoice)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Taxinvoice taxinvoice) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.register(CorpNum, taxinvoice);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#register(String, Taxinvoice, String)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Taxinvoice taxinvoice, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.register(CorpNum, taxinvoice, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#register(String, Taxinvoice, String, boolean)
+	 */
+	@Override
+	public PopbillFuture<Response> register(final String CorpNum,
+			final Taxinvoice taxinvoice, final String UserID,
+			final boolean writeSpecification) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.register(CorpNum, taxinvoice, UserID,
+						writeSpecification);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#update(String, MgtKeyType, String, Taxinvoice)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final Taxinvoice taxinvoice) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.update(CorpNum, KeyType, MgtKey,
+						taxinvoice);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#update(String, MgtKeyType, String, Taxinvoice, String)
+	 */
+	@Override
+	public PopbillFuture<Response> update(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final Taxinvoice taxinvoice, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.update(CorpNum, KeyType, MgtKey,
+						taxinvoice, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#delete(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.delete(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#delete(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> delete(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.delete(CorpNum, KeyType, MgtKey, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#send(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> send(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.send(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#send(String, MgtKeyType, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> send(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String EmailSubject, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.send(CorpNum, KeyType, MgtKey, Memo,
+						EmailSubject, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#send(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> send(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.send(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelSend(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelSend(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelSend(CorpNum, KeyType, MgtKey,
+						Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelSend(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelSend(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelSend(CorpNum, KeyType, MgtKey,
+						Memo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#accept(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> accept(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.accept(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#accept(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> accept(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.accept(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#deny(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deny(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.deny(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#deny(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deny(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.deny(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#issue(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.issue(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#issue(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.issue(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#issue(String, MgtKeyType, String, String, boolean, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final boolean ForceIssue, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.issue(CorpNum, KeyType, MgtKey, Memo,
+						ForceIssue, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#issue(String, MgtKeyType, String, String, String, boolean, String)
+	 */
+	@Override
+	public PopbillFuture<Response> issue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String EmailSubject, final boolean ForceIssue,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.issue(CorpNum, KeyType, MgtKey, Memo,
+						EmailSubject, ForceIssue, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelIssue(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelIssue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelIssue(CorpNum, KeyType, MgtKey,
+						Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelIssue(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelIssue(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelIssue(CorpNum, KeyType, MgtKey,
+						Memo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#request(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> request(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.request(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#request(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> request(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.request(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#refuse(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> refuse(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.refuse(CorpNum, KeyType, MgtKey, Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#refuse(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> refuse(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.refuse(CorpNum, KeyType, MgtKey, Memo,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelRequest(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelRequest(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelRequest(CorpNum, KeyType, MgtKey,
+						Memo);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#cancelRequest(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> cancelRequest(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Memo,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.cancelRequest(CorpNum, KeyType, MgtKey,
+						Memo, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendToNTS(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendToNTS(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendToNTS(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendToNTS(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendToNTS(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendToNTS(CorpNum, KeyType, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendEmail(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendEmail(CorpNum, KeyType, MgtKey,
+						Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendEmail(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendEmail(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final String Receiver, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendEmail(CorpNum, KeyType, MgtKey,
+						Receiver, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendSMS(String, MgtKeyType, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Sender,
+			final String Receiver, final String Contents) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendSMS(CorpNum, KeyType, MgtKey,
+						Sender, Receiver, Contents);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendSMS(String, MgtKeyType, String, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendSMS(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Sender,
+			final String Receiver, final String Contents, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendSMS(CorpNum, KeyType, MgtKey,
+						Sender, Receiver, Contents, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendFAX(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Sender,
+			final String Receiver) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendFAX(CorpNum, KeyType, MgtKey,
+						Sender, Receiver);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#sendFAX(String, MgtKeyType, String, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> sendFAX(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String Sender,
+			final String Receiver, final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.sendFAX(CorpNum, KeyType, MgtKey,
+						Sender, Receiver, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getDetailInfo(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<Taxinvoice> getDetailInfo(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<Taxinvoice>() {
+			@Override
+			public Taxinvoice call() throws PopbillException {
+				return taxinvoiceService.getDetailInfo(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getInfo(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<TaxinvoiceInfo> getInfo(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<TaxinvoiceInfo>() {
+			@Override
+			public TaxinvoiceInfo call() throws PopbillException {
+				return taxinvoiceService.getInfo(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getInfos(String, MgtKeyType, String[])
+	 */
+	@Override
+	public PopbillFuture<TaxinvoiceInfo[]> getInfos(final String CorpNum,
+			final MgtKeyType KeyType, final String[] MgtKeyList) {
+		return submit(new Callable<TaxinvoiceInfo[]>() {
+			@Override
+			public TaxinvoiceInfo[] call() throws PopbillException {
+				return taxinvoiceService.getInfos(CorpNum, KeyType, MgtKeyList);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getLogs(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<TaxinvoiceLog[]> getLogs(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<TaxinvoiceLog[]>() {
+			@Override
+			public TaxinvoiceLog[] call() throws PopbillException {
+				return taxinvoiceService.getLogs(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getPopUpURL(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPopUpURL(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getPopUpURL(CorpNum, KeyType, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getMailURL(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getMailURL(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getMailURL(CorpNum, KeyType, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getPrintURL(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getPrintURL(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getPrintURL(CorpNum, KeyType, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getEPrintURL(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<String> getEPrintURL(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getEPrintURL(CorpNum, KeyType, MgtKey,
+						UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getMassPrintURL(String, MgtKeyType, String[], String)
+	 */
+	@Override
+	public PopbillFuture<String> getMassPrintURL(final String CorpNum,
+			final MgtKeyType KeyType, final String[] MgtKeyList,
+			final String UserID) {
+		return submit(new Callable<String>() {
+			@Override
+			public String call() throws PopbillException {
+				return taxinvoiceService.getMassPrintURL(CorpNum, KeyType,
+						MgtKeyList, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#attachFile(String, MgtKeyType, String, String, InputStream)
+	 */
+	@Override
+	public PopbillFuture<Response> attachFile(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final String DisplayName, final InputStream FileData) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.attachFile(CorpNum, KeyType, MgtKey,
+						DisplayName, FileData);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#attachFile(String, MgtKeyType, String, String, InputStream, String)
+	 */
+	@Override
+	public PopbillFuture<Response> attachFile(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final String DisplayName, final InputStream FileData,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.attachFile(CorpNum, KeyType, MgtKey,
+						DisplayName, FileData, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getFiles(String, MgtKeyType, String)
+	 */
+	@Override
+	public PopbillFuture<AttachedFile[]> getFiles(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return submit(new Callable<AttachedFile[]>() {
+			@Override
+			public AttachedFile[] call() throws PopbillException {
+				return taxinvoiceService.getFiles(CorpNum, KeyType, MgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#deleteFile(String, MgtKeyType, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deleteFile(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String FileID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.deleteFile(CorpNum, KeyType, MgtKey,
+						FileID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#deleteFile(String, MgtKeyType, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> deleteFile(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String FileID,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.deleteFile(CorpNum, KeyType, MgtKey,
+						FileID, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, Integer, Integer, String)
+	 */
+	@Override
+	public PopbillFuture<TISearchResult> Search(final String CorpNum,
+			final MgtKeyType KeyType, final String DType, final String SDate,
+			final String EDate, final String[] State, final String[] Type,
+			final String[] TaxType, final Boolean LateOnly, final Integer Page,
+			final Integer PerPage, final String Order) {
+		return submit(new Callable<TISearchResult>() {
+			@Override
+			public TISearchResult call() throws PopbillException {
+				return taxinvoiceService.Search(CorpNum, KeyType, DType, SDate,
+						EDate, State, Type, TaxType, LateOnly, Page, PerPage,
+						Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, String, String, String, Integer, Integer, String)
+	 */
+	@Override
+	public PopbillFuture<TISearchResult> Search(final String CorpNum,
+			final MgtKeyType KeyType, final String DType, final String SDate,
+			final String EDate, final String[] State, final String[] Type,
+			final String[] TaxType, final Boolean LateOnly,
+			final String TaxRegIDType, final String TaxRegID,
+			final String TaxRegIDYN, final Integer Page, final Integer PerPage,
+			final String Order) {
+		return submit(new Callable<TISearchResult>() {
+			@Override
+			public TISearchResult call() throws PopbillException {
+				return taxinvoiceService.Search(CorpNum, KeyType, DType, SDate,
+						EDate, State, Type, TaxType, LateOnly, TaxRegIDType,
+						TaxRegID, TaxRegIDYN, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#Search(String, MgtKeyType, String, String, String, String[], String[], String[], Boolean, String, String, String, String, Integer, Integer, String)
+	 */
+	@Override
+	public PopbillFuture<TISearchResult> Search(final String CorpNum,
+			final MgtKeyType KeyType, final String DType, final String SDate,
+			final String EDate, final String[] State, final String[] Type,
+			final String[] TaxType, final Boolean LateOnly,
+			final String TaxRegIDType, final String TaxRegID,
+			final String TaxRegIDYN, final String QString, final Integer Page,
+			final Integer PerPage, final String Order) {
+		return submit(new Callable<TISearchResult>() {
+			@Override
+			public TISearchResult call() throws PopbillException {
+				return taxinvoiceService.Search(CorpNum, KeyType, DType, SDate,
+						EDate, State, Type, TaxType, LateOnly, TaxRegIDType,
+						TaxRegID, TaxRegIDYN, QString, Page, PerPage, Order);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#registIssue(String, Taxinvoice, Boolean)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Taxinvoice taxinvoice, final Boolean WriteSpecification) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.registIssue(CorpNum, taxinvoice,
+						WriteSpecification);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#registIssue(String, Taxinvoice, String, Boolean)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Taxinvoice taxinvoice, final String Memo,
+			final Boolean ForceIssue) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.registIssue(CorpNum, taxinvoice, Memo,
+						ForceIssue);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#registIssue(String, Taxinvoice, Boolean, String, Boolean, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Taxinvoice taxinvoice, final Boolean WriteSpecification,
+			final String Memo, final Boolean ForceIssue,
+			final String DealInvoiceKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.registIssue(CorpNum, taxinvoice,
+						WriteSpecification, Memo, ForceIssue, DealInvoiceKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#registIssue(String, Taxinvoice, Boolean, String, Boolean, String, String, String)
+	 */
+	@Override
+	public PopbillFuture<Response> registIssue(final String CorpNum,
+			final Taxinvoice taxinvoice, final Boolean WriteSpecification,
+			final String Memo, final Boolean ForceIssue,
+			final String DealInvoiceKey, final String EmailSubject,
+			final String UserID) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.registIssue(CorpNum, taxinvoice,
+						WriteSpecification, Memo, ForceIssue, DealInvoiceKey,
+						EmailSubject, UserID);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#attachStatement(String, MgtKeyType, String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Response> attachStatement(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final int SubItemCode, final String SubMgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.attachStatement(CorpNum, KeyType,
+						MgtKey, SubItemCode, SubMgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#detachStatement(String, MgtKeyType, String, int, String)
+	 */
+	@Override
+	public PopbillFuture<Response> detachStatement(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey,
+			final int SubItemCode, final String SubMgtKey) {
+		return submit(new Callable<Response>() {
+			@Override
+			public Response call() throws PopbillException {
+				return taxinvoiceService.detachStatement(CorpNum, KeyType,
+						MgtKey, SubItemCode, SubMgtKey);
+			}
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.AsyncTaxinvoiceService#getChargeInfo(String)
+	 */
+	@Override
+	public PopbillFuture<ChargeInfo> getChargeInfo(final String CorpNum) {
+		return submit(new Callable<ChargeInfo>() {
+			@Override
+			public ChargeInfo call() throws PopbillException {
+				return taxinvoiceService.getChargeInfo(CorpNum);
+			}
+		});
+	}
+}
@@ -0,0 +1,1353 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.taxinvoice;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * 모델 클래스 Gson TypeAdapter.
+ * 
+ * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를
+ * 수정한 경우 다시 생성합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.PopbillGson
+ */
+public final class GeneratedTypeAdapterFactory implements TypeAdapterFactory {
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)
+	 */
+	@SuppressWarnings("unchecked")
+	@Override
+	public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+		Class<? super T> rawType = type.getRawType();
+
+		if (rawType == EmailPublicKey.class)
+			return (TypeAdapter<T>) new EmailPublicKeyAdapter(gson);
+		if (rawType == TISearchResult.class)
+			return (TypeAdapter<T>) new TISearchResultAdapter(gson);
+		if (rawType == Taxinvoice.class)
+			return (TypeAdapter<T>) new TaxinvoiceAdapter(gson);
+		if (rawType == TaxinvoiceAddContact.class)
+			return (TypeAdapter<T>) new TaxinvoiceAddContactAdapter(gson);
+		if (rawType == TaxinvoiceDetail.class)
+			return (TypeAdapter<T>) new TaxinvoiceDetailAdapter(gson);
+		if (rawType == TaxinvoiceInfo.class)
+			return (TypeAdapter<T>) new TaxinvoiceInfoAdapter(gson);
+		if (rawType == TaxinvoiceLog.class)
+			return (TypeAdapter<T>) new TaxinvoiceLogAdapter(gson);
+
+		return null;
+	}
+
+	private static final class EmailPublicKeyAdapter extends TypeAdapter<EmailPublicKey> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"confirmNum", "email");
+
+		private static final Field FIELD_CONFIRM_NUM = field(EmailPublicKey.class, "confirmNum");
+		private static final Field FIELD_EMAIL = field(EmailPublicKey.class, "email");
+
+		EmailPublicKeyAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, EmailPublicKey value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("confirmNum");
+			out.value(value.getConfirmNum());
+			out.name("email");
+			out.value(value.getEmail());
+			out.endObject();
+		}
+
+		@Override
+		public EmailPublicKey read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			EmailPublicKey value = new EmailPublicKey();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CONFIRM_NUM, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_EMAIL, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TISearchResultAdapter extends TypeAdapter<TISearchResult> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"code", "total", "perPage",
+				"pageNum", "pageCount", "message",
+				"list");
+
+		private static final Field FIELD_CODE = field(TISearchResult.class, "code");
+		private static final Field FIELD_TOTAL = field(TISearchResult.class, "total");
+		private static final Field FIELD_PER_PAGE = field(TISearchResult.class, "perPage");
+		private static final Field FIELD_PAGE_NUM = field(TISearchResult.class, "pageNum");
+		private static final Field FIELD_PAGE_COUNT = field(TISearchResult.class, "pageCount");
+		private static final Field FIELD_MESSAGE = field(TISearchResult.class, "message");
+		private static final Field FIELD_LIST = field(TISearchResult.class, "list");
+
+		private final TypeAdapter<List<TaxinvoiceInfo>> list;
+
+		TISearchResultAdapter(Gson gson) {
+			list = gson.getAdapter(new TypeToken<List<TaxinvoiceInfo>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, TISearchResult value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("code");
+			out.value(value.getCode());
+			out.name("total");
+			out.value(value.getTotal());
+			out.name("perPage");
+			out.value(value.getPerPage());
+			out.name("pageNum");
+			out.value(value.getPageNum());
+			out.name("pageCount");
+			out.value(value.getPageCount());
+			out.name("message");
+			out.value(value.getMessage());
+			out.name("list");
+			list.write(out, value.getList());
+			out.endObject();
+		}
+
+		@Override
+		public TISearchResult read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			TISearchResult value = new TISearchResult();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_CODE, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TOTAL, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PER_PAGE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PAGE_NUM, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PAGE_COUNT, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_MESSAGE, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_LIST, value, list.read(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TaxinvoiceAdapter extends TypeAdapter<Taxinvoice> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"writeSpecification", "forceIssue", "memo",
+				"emailSubject", "dealInvoiceMgtKey", "writeDate",
+				"chargeDirection", "issueType", "issueTiming",
+				"taxType", "invoicerCorpNum", "invoicerMgtKey",
+				"invoicerTaxRegID", "invoicerCorpName", "invoicerCEOName",
+				"invoicerAddr", "invoicerBizClass", "invoicerBizType",
+				"invoicerContactName", "invoicerDeptName", "invoicerTEL",
+				"invoicerHP", "invoicerEmail", "invoicerSMSSendYN",
+				"invoiceeCorpNum", "invoiceeType", "invoiceeMgtKey",
+				"invoiceeTaxRegID", "invoiceeCorpName", "invoiceeCEOName",
+				"invoiceeAddr", "invoiceeBizType", "invoiceeBizClass",
+				"invoiceeContactName1", "invoiceeDeptName1", "invoiceeTEL1",
+				"invoiceeHP1", "invoiceeEmail1", "invoiceeContactName2",
+				"invoiceeDeptName2", "invoiceeTEL2", "invoiceeHP2",
+				"invoiceeEmail2", "invoiceeSMSSendYN", "trusteeCorpNum",
+				"trusteeMgtKey", "trusteeTaxRegID", "trusteeCorpName",
+				"trusteeCEOName", "trusteeAddr", "trusteeBizType",
+				"trusteeBizClass", "trusteeContactName", "trusteeDeptName",
+				"trusteeTEL", "trusteeHP", "trusteeEmail",
+				"trusteeSMSSendYN", "taxTotal", "supplyCostTotal",
+				"totalAmount", "modifyCode", "orgNTSConfirmNum",
+				"purposeType", "serialNum", "cash",
+				"chkBill", "credit", "note",
+				"remark1", "remark2", "remark3",
+				"kwon", "ho", "businessLicenseYN",
+				"bankBookYN", "ntsconfirmNum", "detailList",
+				"addContactList", "originalTaxinvoiceKey");
+
+		private static final Field FIELD_ORG_NTSCONFIRM_NUM = field(Taxinvoice.class, "orgNTSConfirmNum");
+		private static final Field FIELD_NTSCONFIRM_NUM = field(Taxinvoice.class, "ntsconfirmNum");
+
+		private final TypeAdapter<List<TaxinvoiceDetail>> detailList;
+		private final TypeAdapter<List<TaxinvoiceAddContact>> addContactList;
+
+		TaxinvoiceAdapter(Gson gson) {
+			detailList = gson.getAdapter(new TypeToken<List<TaxinvoiceDetail>>() {
+			});
+			addContactList = gson.getAdapter(new TypeToken<List<TaxinvoiceAddContact>>() {
+			});
+		}
+
+		@Override
+		public void write(JsonWriter out, Taxinvoice value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("writeSpecification");
+			writeBoolean(out, value.getWriteSpecification());
+			out.name("forceIssue");
+			writeBoolean(out, value.getForceIssue());
+			out.name("memo");
+			out.value(value.getMemo());
+			out.name("emailSubject");
+			out.value(value.getEmailSubject());
+			out.name("dealInvoiceMgtKey");
+			out.value(value.getDealInvoiceMgtKey());
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("chargeDirection");
+			out.value(value.getChargeDirection());
+			out.name("issueType");
+			out.value(value.getIssueType());
+			out.name("issueTiming");
+			out.value(value.getIssueTiming());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("invoicerCorpNum");
+			out.value(value.getInvoicerCorpNum());
+			out.name("invoicerMgtKey");
+			out.value(value.getInvoicerMgtKey());
+			out.name("invoicerTaxRegID");
+			out.value(value.getInvoicerTaxRegID());
+			out.name("invoicerCorpName");
+			out.value(value.getInvoicerCorpName());
+			out.name("invoicerCEOName");
+			out.value(value.getInvoicerCEOName());
+			out.name("invoicerAddr");
+			out.value(value.getInvoicerAddr());
+			out.name("invoicerBizClass");
+			out.value(value.getInvoicerBizClass());
+			out.name("invoicerBizType");
+			out.value(value.getInvoicerBizType());
+			out.name("invoicerContactName");
+			out.value(value.getInvoicerContactName());
+			out.name("invoicerDeptName");
+			out.value(value.getInvoicerDeptName());
+			out.name("invoicerTEL");
+			out.value(value.getInvoicerTEL());
+			out.name("invoicerHP");
+			out.value(value.getInvoicerHP());
+			out.name("invoicerEmail");
+			out.value(value.getInvoicerEmail());
+			out.name("invoicerSMSSendYN");
+			writeBoolean(out, value.getInvoicerSMSSendYN());
+			out.name("invoiceeCorpNum");
+			out.value(value.getInvoiceeCorpNum());
+			out.name("invoiceeType");
+			out.value(value.getInvoiceeType());
+			out.name("invoiceeMgtKey");
+			out.value(value.getInvoiceeMgtKey());
+			out.name("invoiceeTaxRegID");
+			out.value(value.getInvoiceeTaxRegID());
+			out.name("invoiceeCorpName");
+			out.value(value.getInvoiceeCorpName());
+			out.name("invoiceeCEOName");
+			out.value(value.getInvoiceeCEOName());
+			out.name("invoiceeAddr");
+			out.value(value.getInvoiceeAddr());
+			out.name("invoiceeBizType");
+			out.value(value.getInvoiceeBizType());
+			out.name("invoiceeBizClass");
+			out.value(value.getInvoiceeBizClass());
+			out.name("invoiceeContactName1");
+			out.value(value.getInvoiceeContactName1());
+			out.name("invoiceeDeptName1");
+			out.value(value.getInvoiceeDeptName1());
+			out.name("invoiceeTEL1");
+			out.value(value.getInvoiceeTEL1());
+			out.name("invoiceeHP1");
+			out.value(value.getInvoiceeHP1());
+			out.name("invoiceeEmail1");
+			out.value(value.getInvoiceeEmail1());
+			out.name("invoiceeContactName2");
+			out.value(value.getInvoiceeContactName2());
+			out.name("invoiceeDeptName2");
+			out.value(value.getInvoiceeDeptName2());
+			out.name("invoiceeTEL2");
+			out.value(value.getInvoiceeTEL2());
+			out.name("invoiceeHP2");
+			out.value(value.getInvoiceeHP2());
+			out.name("invoiceeEmail2");
+			out.value(value.getInvoiceeEmail2());
+			out.name("invoiceeSMSSendYN");
+			writeBoolean(out, value.getInvoiceeSMSSendYN());
+			out.name("trusteeCorpNum");
+			out.value(value.getTrusteeCorpNum());
+			out.name("trusteeMgtKey");
+			out.value(value.getTrusteeMgtKey());
+			out.name("trusteeTaxRegID");
+			out.value(value.getTrusteeTaxRegID());
+			out.name("trusteeCorpName");
+			out.value(value.getTrusteeCorpName());
+			out.name("trusteeCEOName");
+			out.value(value.getTrusteeCEOName());
+			out.name("trusteeAddr");
+			out.value(value.getTrusteeAddr());
+			out.name("trusteeBizType");
+			out.value(value.getTrusteeBizType());
+			out.name("trusteeBizClass");
+			out.value(value.getTrusteeBizClass());
+			out.name("trusteeContactName");
+			out.value(value.getTrusteeContactName());
+			out.name("trusteeDeptName");
+			out.value(value.getTrusteeDeptName());
+			out.name("trusteeTEL");
+			out.value(value.getTrusteeTEL());
+			out.name("trusteeHP");
+			out.value(value.getTrusteeHP());
+			out.name("trusteeEmail");
+			out.value(value.getTrusteeEmail());
+			out.name("trusteeSMSSendYN");
+			writeBoolean(out, value.getTrusteeSMSSendYN());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("totalAmount");
+			out.value(value.getTotalAmount());
+			out.name("modifyCode");
+			out.value(value.getModifyCode());
+			out.name("orgNTSConfirmNum");
+			out.value(value.getOrgNTSConfirmNum());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("cash");
+			out.value(value.getCash());
+			out.name("chkBill");
+			out.value(value.getChkBill());
+			out.name("credit");
+			out.value(value.getCredit());
+			out.name("note");
+			out.value(value.getNote());
+			out.name("remark1");
+			out.value(value.getRemark1());
+			out.name("remark2");
+			out.value(value.getRemark2());
+			out.name("remark3");
+			out.value(value.getRemark3());
+			out.name("kwon");
+			out.value(value.getKwon());
+			out.name("ho");
+			out.value(value.getHo());
+			out.name("businessLicenseYN");
+			writeBoolean(out, value.getBusinessLicenseYN());
+			out.name("bankBookYN");
+			writeBoolean(out, value.getBankBookYN());
+			out.name("ntsconfirmNum");
+			out.value(value.getNTSConfirmNum());
+			out.name("detailList");
+			detailList.write(out, value.getDetailList());
+			out.name("addContactList");
+			addContactList.write(out, value.getAddContactList());
+			out.name("originalTaxinvoiceKey");
+			out.value(value.getOriginalTaxinvoiceKey());
+			out.endObject();
+		}
+
+		@Override
+		public Taxinvoice read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			Taxinvoice value = new Taxinvoice();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setWriteSpecification(readBoolean(in));
+						break;
+					case 1:
+						value.setForceIssue(readBoolean(in));
+						break;
+					case 2:
+						value.setMemo(readString(in));
+						break;
+					case 3:
+						value.setEmailSubject(readString(in));
+						break;
+					case 4:
+						value.setDealInvoiceMgtKey(readString(in));
+						break;
+					case 5:
+						value.setWriteDate(readString(in));
+						break;
+					case 6:
+						value.setChargeDirection(readString(in));
+						break;
+					case 7:
+						value.setIssueType(readString(in));
+						break;
+					case 8:
+						value.setIssueTiming(readString(in));
+						break;
+					case 9:
+						value.setTaxType(readString(in));
+						break;
+					case 10:
+						value.setInvoicerCorpNum(readString(in));
+						break;
+					case 11:
+						value.setInvoicerMgtKey(readString(in));
+						break;
+					case 12:
+						value.setInvoicerTaxRegID(readString(in));
+						break;
+					case 13:
+						value.setInvoicerCorpName(readString(in));
+						break;
+					case 14:
+						value.setInvoicerCEOName(readString(in));
+						break;
+					case 15:
+						value.setInvoicerAddr(readString(in));
+						break;
+					case 16:
+						value.setInvoicerBizClass(readString(in));
+						break;
+					case 17:
+						value.setInvoicerBizType(readString(in));
+						break;
+					case 18:
+						value.setInvoicerContactName(readString(in));
+						break;
+					case 19:
+						value.setInvoicerDeptName(readString(in));
+						break;
+					case 20:
+						value.setInvoicerTEL(readString(in));
+						break;
+					case 21:
+						value.setInvoicerHP(readString(in));
+						break;
+					case 22:
+						value.setInvoicerEmail(readString(in));
+						break;
+					case 23:
+						value.setInvoicerSMSSendYN(readBoolean(in));
+						break;
+					case 24:
+						value.setInvoiceeCorpNum(readString(in));
+						break;
+					case 25:
+						value.setInvoiceeType(readString(in));
+						break;
+					case 26:
+						value.setInvoiceeMgtKey(readString(in));
+						break;
+					case 27:
+						value.setInvoiceeTaxRegID(readString(in));
+						break;
+					case 28:
+						value.setInvoiceeCorpName(readString(in));
+						break;
+					case 29:
+						value.setInvoiceeCEOName(readString(in));
+						break;
+					case 30:
+						value.setInvoiceeAddr(readString(in));
+						break;
+					case 31:
+						value.setInvoiceeBizType(readString(in));
+						break;
+					case 32:
+						value.setInvoiceeBizClass(readString(in));
+						break;
+					case 33:
+						value.setInvoiceeContactName1(readString(in));
+						break;
+					case 34:
+						value.setInvoiceeDeptName1(readString(in));
+						break;
+					case 35:
+						value.setInvoiceeTEL1(readString(in));
+						break;
+					case 36:
+						value.setInvoiceeHP1(readString(in));
+						break;
+					case 37:
+						value.setInvoiceeEmail1(readString(in));
+						break;
+					case 38:
+						value.setInvoiceeContactName2(readString(in));
+						break;
+					case 39:
+						value.setInvoiceeDeptName2(readString(in));
+						break;
+					case 40:
+						value.setInvoiceeTEL2(readString(in));
+						break;
+					case 41:
+						value.setInvoiceeHP2(readString(in));
+						break;
+					case 42:
+						value.setInvoiceeEmail2(readString(in));
+						break;
+					case 43:
+						value.setInvoiceeSMSSendYN(readBoolean(in));
+						break;
+					case 44:
+						value.setTrusteeCorpNum(readString(in));
+						break;
+					case 45:
+						value.setTrusteeMgtKey(readString(in));
+						break;
+					case 46:
+						value.setTrusteeTaxRegID(readString(in));
+						break;
+					case 47:
+						value.setTrusteeCorpName(readString(in));
+						break;
+					case 48:
+						value.setTrusteeCEOName(readString(in));
+						break;
+					case 49:
+						value.setTrusteeAddr(readString(in));
+						break;
+					case 50:
+						value.setTrusteeBizType(readString(in));
+						break;
+					case 51:
+						value.setTrusteeBizClass(readString(in));
+						break;
+					case 52:
+						value.setTrusteeContactName(readString(in));
+						break;
+					case 53:
+						value.setTrusteeDeptName(readString(in));
+						break;
+					case 54:
+						value.setTrusteeTEL(readString(in));
+						break;
+					case 55:
+						value.setTrusteeHP(readString(in));
+						break;
+					case 56:
+						value.setTrusteeEmail(readString(in));
+						break;
+					case 57:
+						value.setTrusteeSMSSendYN(readBoolean(in));
+						break;
+					case 58:
+						value.setTaxTotal(readString(in));
+						break;
+					case 59:
+						value.setSupplyCostTotal(readString(in));
+						break;
+					case 60:
+						value.setTotalAmount(readString(in));
+						break;
+					case 61:
+						value.setModifyCode(readShort(in));
+						break;
+					case 62:
+						set(FIELD_ORG_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 63:
+						value.setPurposeType(readString(in));
+						break;
+					case 64:
+						value.setSerialNum(readString(in));
+						break;
+					case 65:
+						value.setCash(readString(in));
+						break;
+					case 66:
+						value.setChkBill(readString(in));
+						break;
+					case 67:
+						value.setCredit(readString(in));
+						break;
+					case 68:
+						value.setNote(readString(in));
+						break;
+					case 69:
+						value.setRemark1(readString(in));
+						break;
+					case 70:
+						value.setRemark2(readString(in));
+						break;
+					case 71:
+						value.setRemark3(readString(in));
+						break;
+					case 72:
+						value.setKwon(readShort(in));
+						break;
+					case 73:
+						value.setHo(readShort(in));
+						break;
+					case 74:
+						value.setBusinessLicenseYN(readBoolean(in));
+						break;
+					case 75:
+						value.setBankBookYN(readBoolean(in));
+						break;
+					case 76:
+						set(FIELD_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 77:
+						value.setDetailList(detailList.read(in));
+						break;
+					case 78:
+						value.setAddContactList(addContactList.read(in));
+						break;
+					case 79:
+						value.setOriginalTaxinvoiceKey(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TaxinvoiceAddContactAdapter extends TypeAdapter<TaxinvoiceAddContact> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"serialNum", "email", "contactName");
+
+		TaxinvoiceAddContactAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, TaxinvoiceAddContact value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("email");
+			out.value(value.getEmail());
+			out.name("contactName");
+			out.value(value.getContactName());
+			out.endObject();
+		}
+
+		@Override
+		public TaxinvoiceAddContact read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			TaxinvoiceAddContact value = new TaxinvoiceAddContact();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						if (skipNull(in) == false)
+							value.setSerialNum(readInteger(in));
+						break;
+					case 1:
+						value.setEmail(readString(in));
+						break;
+					case 2:
+						value.setContactName(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TaxinvoiceDetailAdapter extends TypeAdapter<TaxinvoiceDetail> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"serialNum", "purchaseDT", "itemName",
+				"spec", "qty", "unitCost",
+				"supplyCost", "tax", "remark");
+
+		TaxinvoiceDetailAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, TaxinvoiceDetail value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("serialNum");
+			out.value(value.getSerialNum());
+			out.name("purchaseDT");
+			out.value(value.getPurchaseDT());
+			out.name("itemName");
+			out.value(value.getItemName());
+			out.name("spec");
+			out.value(value.getSpec());
+			out.name("qty");
+			out.value(value.getQty());
+			out.name("unitCost");
+			out.value(value.getUnitCost());
+			out.name("supplyCost");
+			out.value(value.getSupplyCost());
+			out.name("tax");
+			out.value(value.getTax());
+			out.name("remark");
+			out.value(value.getRemark());
+			out.endObject();
+		}
+
+		@Override
+		public TaxinvoiceDetail read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			TaxinvoiceDetail value = new TaxinvoiceDetail();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						value.setSerialNum(readShort(in));
+						break;
+					case 1:
+						value.setPurchaseDT(readString(in));
+						break;
+					case 2:
+						value.setItemName(readString(in));
+						break;
+					case 3:
+						value.setSpec(readString(in));
+						break;
+					case 4:
+						value.setQty(readString(in));
+						break;
+					case 5:
+						value.setUnitCost(readString(in));
+						break;
+					case 6:
+						value.setSupplyCost(readString(in));
+						break;
+					case 7:
+						value.setTax(readString(in));
+						break;
+					case 8:
+						value.setRemark(readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TaxinvoiceInfoAdapter extends TypeAdapter<TaxinvoiceInfo> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"itemKey", "taxType", "writeDate",
+				"regDT", "invoicerCorpName", "invoicerCorpNum",
+				"invoicerMgtKey", "invoicerPrintYN", "invoiceeCorpName",
+				"invoiceeCorpNum", "invoiceeMgtKey", "invoiceePrintYN",
+				"trusteeCorpName", "trusteeCorpNum", "trusteeMgtKey",
+				"trusteePrintYN", "supplyCostTotal", "taxTotal",
+				"purposeType", "modifyCode", "issueType",
+				"issueDT", "preIssueDT", "stateCode",
+				"stateDT", "openYN", "openDT",
+				"ntsresult", "ntsconfirmNum", "ntssendDT",
+				"ntsresultDT", "ntssendErrCode", "stateMemo",
+				"lateIssueYN");
+
+		private static final Field FIELD_ITEM_KEY = field(TaxinvoiceInfo.class, "itemKey");
+		private static final Field FIELD_TAX_TYPE = field(TaxinvoiceInfo.class, "taxType");
+		private static final Field FIELD_WRITE_DATE = field(TaxinvoiceInfo.class, "writeDate");
+		private static final Field FIELD_REG_DT = field(TaxinvoiceInfo.class, "regDT");
+		private static final Field FIELD_INVOICER_CORP_NAME = field(TaxinvoiceInfo.class, "invoicerCorpName");
+		private static final Field FIELD_INVOICER_CORP_NUM = field(TaxinvoiceInfo.class, "invoicerCorpNum");
+		private static final Field FIELD_INVOICER_MGT_KEY = field(TaxinvoiceInfo.class, "invoicerMgtKey");
+		private static final Field FIELD_INVOICER_PRINT_YN = field(TaxinvoiceInfo.class, "invoicerPrintYN");
+		private static final Field FIELD_INVOICEE_CORP_NAME = field(TaxinvoiceInfo.class, "invoiceeCorpName");
+		private static final Field FIELD_INVOICEE_CORP_NUM = field(TaxinvoiceInfo.class, "invoiceeCorpNum");
+		private static final Field FIELD_INVOICEE_MGT_KEY = field(TaxinvoiceInfo.class, "invoiceeMgtKey");
+		private static final Field FIELD_INVOICEE_PRINT_YN = field(TaxinvoiceInfo.class, "invoiceePrintYN");
+		private static final Field FIELD_TRUSTEE_CORP_NAME = field(TaxinvoiceInfo.class, "trusteeCorpName");
+		private static final Field FIELD_TRUSTEE_CORP_NUM = field(TaxinvoiceInfo.class, "trusteeCorpNum");
+		private static final Field FIELD_TRUSTEE_MGT_KEY = field(TaxinvoiceInfo.class, "trusteeMgtKey");
+		private static final Field FIELD_TRUSTEE_PRINT_YN = field(TaxinvoiceInfo.class, "trusteePrintYN");
+		private static final Field FIELD_SUPPLY_COST_TOTAL = field(TaxinvoiceInfo.class, "supplyCostTotal");
+		private static final Field FIELD_TAX_TOTAL = field(TaxinvoiceInfo.class, "taxTotal");
+		private static final Field FIELD_PURPOSE_TYPE = field(TaxinvoiceInfo.class, "purposeType");
+		private static final Field FIELD_MODIFY_CODE = field(TaxinvoiceInfo.class, "modifyCode");
+		private static final Field FIELD_ISSUE_TYPE = field(TaxinvoiceInfo.class, "issueType");
+		private static final Field FIELD_ISSUE_DT = field(TaxinvoiceInfo.class, "issueDT");
+		private static final Field FIELD_PRE_ISSUE_DT = field(TaxinvoiceInfo.class, "preIssueDT");
+		private static final Field FIELD_STATE_CODE = field(TaxinvoiceInfo.class, "stateCode");
+		private static final Field FIELD_STATE_DT = field(TaxinvoiceInfo.class, "stateDT");
+		private static final Field FIELD_OPEN_YN = field(TaxinvoiceInfo.class, "openYN");
+		private static final Field FIELD_OPEN_DT = field(TaxinvoiceInfo.class, "openDT");
+		private static final Field FIELD_NTSRESULT = field(TaxinvoiceInfo.class, "ntsresult");
+		private static final Field FIELD_NTSCONFIRM_NUM = field(TaxinvoiceInfo.class, "ntsconfirmNum");
+		private static final Field FIELD_NTSSEND_DT = field(TaxinvoiceInfo.class, "ntssendDT");
+		private static final Field FIELD_NTSRESULT_DT = field(TaxinvoiceInfo.class, "ntsresultDT");
+		private static final Field FIELD_NTSSEND_ERR_CODE = field(TaxinvoiceInfo.class, "ntssendErrCode");
+		private static final Field FIELD_STATE_MEMO = field(TaxinvoiceInfo.class, "stateMemo");
+		private static final Field FIELD_LATE_ISSUE_YN = field(TaxinvoiceInfo.class, "lateIssueYN");
+
+		TaxinvoiceInfoAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, TaxinvoiceInfo value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("itemKey");
+			out.value(value.getItemKey());
+			out.name("taxType");
+			out.value(value.getTaxType());
+			out.name("writeDate");
+			out.value(value.getWriteDate());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.name("invoicerCorpName");
+			out.value(value.getInvoicerCorpName());
+			out.name("invoicerCorpNum");
+			out.value(value.getInvoicerCorpNum());
+			out.name("invoicerMgtKey");
+			out.value(value.getInvoicerMgtKey());
+			out.name("invoicerPrintYN");
+			out.value(value.isInvoicerPrintYN());
+			out.name("invoiceeCorpName");
+			out.value(value.getInvoiceeCorpName());
+			out.name("invoiceeCorpNum");
+			out.value(value.getInvoiceeCorpNum());
+			out.name("invoiceeMgtKey");
+			out.value(value.getInvoiceeMgtKey());
+			out.name("invoiceePrintYN");
+			out.value(value.isInvoiceePrintYN());
+			out.name("trusteeCorpName");
+			out.value(value.getTrusteeCorpName());
+			out.name("trusteeCorpNum");
+			out.value(value.getTrusteeCorpNum());
+			out.name("trusteeMgtKey");
+			out.value(value.getTrusteeMgtKey());
+			out.name("trusteePrintYN");
+			out.value(value.isTrusteePrintYN());
+			out.name("supplyCostTotal");
+			out.value(value.getSupplyCostTotal());
+			out.name("taxTotal");
+			out.value(value.getTaxTotal());
+			out.name("purposeType");
+			out.value(value.getPurposeType());
+			out.name("modifyCode");
+			out.value(value.getModifyCode());
+			out.name("issueType");
+			out.value(value.getIssueType());
+			out.name("issueDT");
+			out.value(value.getIssueDT());
+			out.name("preIssueDT");
+			out.value(value.getPreIssueDT());
+			out.name("stateCode");
+			out.value(value.getStateCode());
+			out.name("stateDT");
+			out.value(value.getStateDT());
+			out.name("openYN");
+			out.value(value.isOpenYN());
+			out.name("openDT");
+			out.value(value.getOpenDT());
+			out.name("ntsresult");
+			out.value(value.getNTSResult());
+			out.name("ntsconfirmNum");
+			out.value(value.getNTSConfirmNum());
+			out.name("ntssendDT");
+			out.value(value.getNTSSendDT());
+			out.name("ntsresultDT");
+			out.value(value.getNTSResultDT());
+			out.name("ntssendErrCode");
+			out.value(value.getNTSSendErrCode());
+			out.name("stateMemo");
+			out.value(value.getStateMemo());
+			out.name("lateIssueYN");
+			out.value(value.getLateIssueYN());
+			out.endObject();
+		}
+
+		@Override
+		public TaxinvoiceInfo read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			TaxinvoiceInfo value = new TaxinvoiceInfo();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_ITEM_KEY, value, readString(in));
+						break;
+					case 1:
+						set(FIELD_TAX_TYPE, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_WRITE_DATE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_INVOICER_CORP_NAME, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_INVOICER_CORP_NUM, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_INVOICER_MGT_KEY, value, readString(in));
+						break;
+					case 7:
+						if (skipNull(in) == false)
+							set(FIELD_INVOICER_PRINT_YN, value, readBoolean(in));
+						break;
+					case 8:
+						set(FIELD_INVOICEE_CORP_NAME, value, readString(in));
+						break;
+					case 9:
+						set(FIELD_INVOICEE_CORP_NUM, value, readString(in));
+						break;
+					case 10:
+						set(FIELD_INVOICEE_MGT_KEY, value, readString(in));
+						break;
+					case 11:
+						if (skipNull(in) == false)
+							set(FIELD_INVOICEE_PRINT_YN, value, readBoolean(in));
+						break;
+					case 12:
+						set(FIELD_TRUSTEE_CORP_NAME, value, readString(in));
+						break;
+					case 13:
+						set(FIELD_TRUSTEE_CORP_NUM, value, readString(in));
+						break;
+					case 14:
+						set(FIELD_TRUSTEE_MGT_KEY, value, readString(in));
+						break;
+					case 15:
+						if (skipNull(in) == false)
+							set(FIELD_TRUSTEE_PRINT_YN, value, readBoolean(in));
+						break;
+					case 16:
+						set(FIELD_SUPPLY_COST_TOTAL, value, readString(in));
+						break;
+					case 17:
+						set(FIELD_TAX_TOTAL, value, readString(in));
+						break;
+					case 18:
+						set(FIELD_PURPOSE_TYPE, value, readString(in));
+						break;
+					case 19:
+						set(FIELD_MODIFY_CODE, value, readInteger(in));
+						break;
+					case 20:
+						set(FIELD_ISSUE_TYPE, value, readString(in));
+						break;
+					case 21:
+						set(FIELD_ISSUE_DT, value, readString(in));
+						break;
+					case 22:
+						set(FIELD_PRE_ISSUE_DT, value, readString(in));
+						break;
+					case 23:
+						set(FIELD_STATE_CODE, value, readInteger(in));
+						break;
+					case 24:
+						set(FIELD_STATE_DT, value, readString(in));
+						break;
+					case 25:
+						if (skipNull(in) == false)
+							set(FIELD_OPEN_YN, value, readBoolean(in));
+						break;
+					case 26:
+						set(FIELD_OPEN_DT, value, readString(in));
+						break;
+					case 27:
+						set(FIELD_NTSRESULT, value, readString(in));
+						break;
+					case 28:
+						set(FIELD_NTSCONFIRM_NUM, value, readString(in));
+						break;
+					case 29:
+						set(FIELD_NTSSEND_DT, value, readString(in));
+						break;
+					case 30:
+						set(FIELD_NTSRESULT_DT, value, readString(in));
+						break;
+					case 31:
+						set(FIELD_NTSSEND_ERR_CODE, value, readString(in));
+						break;
+					case 32:
+						set(FIELD_STATE_MEMO, value, readString(in));
+						break;
+					case 33:
+						set(FIELD_LATE_ISSUE_YN, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static final class TaxinvoiceLogAdapter extends TypeAdapter<TaxinvoiceLog> {
+
+		private static final Map<String, Integer> NAMES = names(
+				"docLogType", "log", "procType",
+				"procCorpName", "procContactName", "procMemo",
+				"regDT", "ip");
+
+		private static final Field FIELD_DOC_LOG_TYPE = field(TaxinvoiceLog.class, "docLogType");
+		private static final Field FIELD_LOG = field(TaxinvoiceLog.class, "log");
+		private static final Field FIELD_PROC_TYPE = field(TaxinvoiceLog.class, "procType");
+		private static final Field FIELD_PROC_CORP_NAME = field(TaxinvoiceLog.class, "procCorpName");
+		private static final Field FIELD_PROC_CONTACT_NAME = field(TaxinvoiceLog.class, "procContactName");
+		private static final Field FIELD_PROC_MEMO = field(TaxinvoiceLog.class, "procMemo");
+		private static final Field FIELD_REG_DT = field(TaxinvoiceLog.class, "regDT");
+		private static final Field FIELD_IP = field(TaxinvoiceLog.class, "ip");
+
+		TaxinvoiceLogAdapter(Gson gson) {
+		}
+
+		@Override
+		public void write(JsonWriter out, TaxinvoiceLog value) throws IOException {
+			if (value == null) {
+				out.nullValue();
+				return;
+			}
+
+			out.beginObject();
+			out.name("docLogType");
+			out.value(value.getDocLogType());
+			out.name("log");
+			out.value(value.getLog());
+			out.name("procType");
+			out.value(value.getProcType());
+			out.name("procCorpName");
+			out.value(value.getProcCorpName());
+			out.name("procContactName");
+			out.value(value.getProcContactName());
+			out.name("procMemo");
+			out.value(value.getProcMemo());
+			out.name("regDT");
+			out.value(value.getRegDT());
+			out.name("ip");
+			out.value(value.getIP());
+			out.endObject();
+		}
+
+		@Override
+		public TaxinvoiceLog read(JsonReader in) throws IOException {
+			if (in.peek() == JsonToken.NULL) {
+				in.nextNull();
+				return null;
+			}
+
+			TaxinvoiceLog value = new TaxinvoiceLog();
+
+			try {
+				in.beginObject();
+				while (in.hasNext()) {
+					Integer index = NAMES.get(in.nextName());
+
+					if (index == null) {
+						in.skipValue();
+						continue;
+					}
+
+					switch (index.intValue()) {
+					case 0:
+						set(FIELD_DOC_LOG_TYPE, value, readInteger(in));
+						break;
+					case 1:
+						set(FIELD_LOG, value, readString(in));
+						break;
+					case 2:
+						set(FIELD_PROC_TYPE, value, readString(in));
+						break;
+					case 3:
+						set(FIELD_PROC_CORP_NAME, value, readString(in));
+						break;
+					case 4:
+						set(FIELD_PROC_CONTACT_NAME, value, readString(in));
+						break;
+					case 5:
+						set(FIELD_PROC_MEMO, value, readString(in));
+						break;
+					case 6:
+						set(FIELD_REG_DT, value, readString(in));
+						break;
+					case 7:
+						set(FIELD_IP, value, readString(in));
+						break;
+					}
+				}
+				in.endObject();
+			} catch (IllegalStateException e) {
+				throw new JsonSyntaxException(e);
+			}
+
+			return value;
+		}
+	}
+
+	private static Map<String, Integer> names(String... names) {
+		Map<String, Integer> map = new HashMap<String, Integer>(names.length * 2);
+		for (int i = 0; i < names.length; i++)
+			map.put(names[i], i);
+		return map;
+	}
+
+	private static Field field(Class<?> type, String name) {
+		try {
+			Field field = type.getDeclaredField(name);
+			field.setAccessible(true);
+			return field;
+		} catch (NoSuchFieldException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static Object get(Field field, Object target) {
+		try {
+			return field.get(target);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static void set(Field field, Object target, Object value) {
+		try {
+			field.set(target, value);
+		} catch (IllegalAccessException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static boolean skipNull(JsonReader in) throws IOException {
+		if (in.peek() != JsonToken.NULL)
+			return false;
+		in.nextNull();
+		return true;
+	}
+
+	private static void writeBoolean(JsonWriter out, Boolean value)
+			throws IOException {
+		if (value == null)
+			out.nullValue();
+		else
+			out.value(value.booleanValue());
+	}
+
+	private static String readString(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.BOOLEAN)
+			return Boolean.toString(in.nextBoolean());
+		return in.nextString();
+	}
+
+	private static Boolean readBoolean(JsonReader in) throws IOException {
+		JsonToken peek = in.peek();
+		if (peek == JsonToken.NULL) {
+			in.nextNull();
+			return null;
+		}
+		if (peek == JsonToken.STRING)
+			return Boolean.parseBoolean(in.nextString());
+		return in.nextBoolean();
+	}
+
+	private static Integer readInteger(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Long readLong(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return in.nextLong();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+
+	private static Short readShort(JsonReader in) throws IOException {
+		if (skipNull(in))
+			return null;
+		try {
+			return (short) in.nextInt();
+		} catch (NumberFormatException e) {
+			throw new JsonSyntaxException(e);
+		}
+	}
+}
@@ -25,9 +25,12 @@ import java.util.List;
 import com.popbill.api.AttachedFile;
 import com.popbill.api.BaseServiceImp;
 import com.popbill.api.ChargeInfo;
+import com.popbill.api.OutcomeCheck;
 import com.popbill.api.PopbillException;
 import com.popbill.api.Response;
+import com.popbill.api.ResponseCache;
 import com.popbill.api.TaxinvoiceService;
+import com.popbill.api.transport.Idempotency;
 
 /**
  *  Implementation of Popbill TaxinvoiceService Interface
@@ -43,13 +46,94 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		return Arrays.asList("110");
 	}
 
+	@Override
+	protected Idempotency getIdempotency(String method, String url,
+			String Action) {
+		// 다량 조회(getInfos)와 인쇄 URL(getMassPrintURL)은 POST 로 요청하는 조회입니다.
+		if ("POST".equals(method) && Action == null) {
+			if (url.endsWith("?Print"))
+				return Idempotency.SAFE;
+			if (url.startsWith("/Taxinvoice/")
+					&& url.indexOf('/', "/Taxinvoice/".length()) < 0)
+				return Idempotency.SAFE;
+		}
+
+		return super.getIdempotency(method, url, Action);
+	}
+
+	/**
+	 * 등록 요청의 처리여부 확인. 응답을 받지 못한 경우 관리번호 사용여부로 등록되었는지
+	 * 확인합니다. 관리번호가 없으면 확인할 수 없으므로 null 을 반환합니다.
+	 */
+	private OutcomeCheck registered(final String CorpNum, Taxinvoice taxinvoice) {
+		final MgtKeyType KeyType;
+		final String MgtKey;
+
+		if ("역발행".equals(taxinvoice.getIssueType())) {
+			KeyType = MgtKeyType.BUY;
+			MgtKey = taxinvoice.getInvoiceeMgtKey();
+		} else if ("위수탁".equals(taxinvoice.getIssueType())) {
+			KeyType = MgtKeyType.TRUSTEE;
+			MgtKey = taxinvoice.getTrusteeMgtKey();
+		} else {
+			KeyType = MgtKeyType.SELL;
+			MgtKey = taxinvoice.getInvoicerMgtKey();
+		}
+
+		if (MgtKey == null || MgtKey.isEmpty())
+			return null;
+
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, KeyType, MgtKey);
+			}
+		};
+	}
+
+	/**
+	 * 삭제 요청의 처리여부 확인. 응답을 받지 못한 삭제를 다시 보내면 대상이 없다는
+	 * 오류가 되므로, 관리번호가 사용중이 아니면 삭제된 것으로 확인합니다.
+	 */
+	private OutcomeCheck deleted(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey) {
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				return checkMgtKeyInUse(CorpNum, KeyType, MgtKey) == false;
+			}
+		};
+	}
+
+	/**
+	 * 첨부파일 삭제 요청의 처리여부 확인. 첨부파일 목록에 없으면 삭제된 것으로
+	 * 확인합니다.
+	 */
+	private OutcomeCheck fileDeleted(final String CorpNum,
+			final MgtKeyType KeyType, final String MgtKey, final String FileID) {
+		return new OutcomeCheck() {
+			@Override
+			public boolean isApplied() throws PopbillException {
+				AttachedFile[] files = getFiles(CorpNum, KeyType, MgtKey);
+
+				if (files != null) {
+					for (AttachedFile file : files) {
+						if (FileID.equals(file.getAttachedFile()))
+							return false;
+					}
+				}
+				return true;
+			}
+		};
+	}
+
 	/* (non-Javadoc)
 	 * @see com.popbill.api.TaxinvoiceService#getUnitCost(java.lang.String)
 	 */
 	@Override
 	public float getUnitCost(String CorpNum) throws PopbillException {
 		UnitCostResponse response = httpget("/Taxinvoice?cfg=UNITCOST",
-				CorpNum, null, UnitCostResponse.class);
+				CorpNum, null, ResponseCache.Kind.UNIT_COST, UnitCostResponse.class);
 
 		return response.unitCost;
 	}
@@ -62,7 +146,7 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 			throws PopbillException {
 
 		CertResponse response = httpget("/Taxinvoice?cfg=CERT", CorpNum, null,
-				CertResponse.class);
+				ResponseCache.Kind.CERTIFICATE, CertResponse.class);
 
 		try {
 			return new SimpleDateFormat("yyyyMMddHHmmss")
@@ -119,7 +203,7 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 			throws PopbillException {
 
 		return httpget("/Taxinvoice/EmailPublicKeys", CorpNum, null,
-				EmailPublicKey[].class);
+				ResponseCache.Kind.EMAIL_PUBLIC_KEYS, EmailPublicKey[].class);
 	}
 
 	/* (non-Javadoc)
@@ -149,14 +233,12 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (taxinvoice == null)
 			throw new PopbillException(-99999999, "세금계산서 정보가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(taxinvoice);
-
 		if (writeSpecification) {
-			PostData = "{\"writeSpecification\":true," + PostData.substring(1);
+			taxinvoice.setWriteSpecification(true);
 		}
 
-		return httppost("/Taxinvoice", CorpNum, PostData, UserID,
-				Response.class);
+		return httppostJson("/Taxinvoice", CorpNum, taxinvoice, UserID, null,
+				registered(CorpNum, taxinvoice), Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -182,10 +264,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (taxinvoice == null)
 			throw new PopbillException(-99999999, "세금계산서 정보가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(taxinvoice);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "PATCH", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, taxinvoice, UserID, "PATCH", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -209,7 +289,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
 		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, null, UserID, "DELETE", Response.class);
+				CorpNum, null, UserID, "DELETE",
+				deleted(CorpNum, KeyType, MgtKey), Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -245,10 +326,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.memo = Memo;
 		request.emailSubject = EmailSubject;
 		
-		String PostData = toJsonString(request);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "SEND", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "SEND", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -272,10 +351,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "CANCELSEND", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "CANCELSEND", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -298,10 +377,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "ACCEPT", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "ACCEPT", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -324,10 +403,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "DENY", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "DENY", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -375,10 +454,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.emailSubject = EmailSubject;
 		request.forceIssue = ForceIssue;
 
-		String PostData = toJsonString(request);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "ISSUE", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "ISSUE", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -402,10 +479,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "CANCELISSUE", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "CANCELISSUE", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -429,10 +506,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "REQUEST", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "REQUEST", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -456,10 +533,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "REFUSE", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "REFUSE", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -483,10 +560,10 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKey == null || MgtKey.isEmpty())
 			throw new PopbillException(-99999999, "관리번호가 입력되지 않았습니다.");
 
-		String PostData = toJsonString(new MemoRequest(Memo));
+		MemoRequest request = new MemoRequest(Memo);
 
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "CANCELREQUEST", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "CANCELREQUEST", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -538,10 +615,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 
 		request.receiver = Receiver;
 
-		String PostData = toJsonString(request);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "EMAIL", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "EMAIL", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -573,10 +648,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.receiver = Receiver;
 		request.contents = Contents;
 
-		String PostData = toJsonString(request);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "SMS", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "SMS", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -605,10 +678,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.sender = Sender;
 		request.receiver = Receiver;
 
-		String PostData = toJsonString(request);
-
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
-				CorpNum, PostData, UserID, "FAX", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey,
+				CorpNum, request, UserID, "FAX", Response.class);
 	}
 
 	/* (non-Javadoc)
@@ -652,9 +723,7 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKeyList == null || MgtKeyList.length == 0)
 			throw new PopbillException(-99999999, "관리번호 목록이 입력되지 않았습니다.");
 
-		String PostData = toJsonString(MgtKeyList);
-
-		return httppost("/Taxinvoice/" + KeyType.name(), CorpNum, PostData,
+		return httppostJson("/Taxinvoice/" + KeyType.name(), CorpNum, MgtKeyList,
 				null, TaxinvoiceInfo[].class);
 	}
 
@@ -753,10 +822,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (MgtKeyList == null || MgtKeyList.length == 0)
 			throw new PopbillException(-99999999, "관리번호 목록이 입력되지 않았습니다.");
 
-		String PostData = toJsonString(MgtKeyList);
-
-		URLResponse response = httppost("/Taxinvoice/" + KeyType.name()
-				+ "?Print", CorpNum, PostData, UserID, URLResponse.class);
+		URLResponse response = httppostJson("/Taxinvoice/" + KeyType.name()
+				+ "?Print", CorpNum, MgtKeyList, UserID, URLResponse.class);
 
 		return response.url;
 	}
@@ -840,7 +907,7 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 
 		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey
 				+ "/Files/" + FileID, CorpNum, null, UserID, "DELETE",
-				Response.class);
+				fileDeleted(CorpNum, KeyType, MgtKey, FileID), Response.class);
 	}
 	
 	/* (non-Javadoc)
@@ -995,11 +1062,9 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		if (EmailSubject != null)
 			taxinvoice.setEmailSubject(EmailSubject);
 		
-		String PostData = toJsonString(taxinvoice);
-
 		
-		return httppost("/Taxinvoice", CorpNum, PostData, 
-				UserID, "ISSUE", Response.class);
+		return httppostJson("/Taxinvoice", CorpNum, taxinvoice, 
+				UserID, "ISSUE", registered(CorpNum, taxinvoice), Response.class);
 	}
 	
 	/*
@@ -1014,10 +1079,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.ItemCode = Integer.toString(SubItemCode);
 		request.MgtKey = SubMgtKey;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey + "/AttachStmt",
-				CorpNum, PostData, null, "", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey + "/AttachStmt",
+				CorpNum, request, null, "", Response.class);
 	}
 	
 	/*
@@ -1032,10 +1095,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 		request.ItemCode = Integer.toString(SubItemCode);
 		request.MgtKey = SubMgtKey;
 		
-		String PostData = toJsonString(request);
-		
-		return httppost("/Taxinvoice/" + KeyType.name() + "/" + MgtKey + "/DetachStmt",
-				CorpNum, PostData, null, "", Response.class);
+		return httppostJson("/Taxinvoice/" + KeyType.name() + "/" + MgtKey + "/DetachStmt",
+				CorpNum, request, null, "", Response.class);
 	}
 	
 	/*
@@ -1044,7 +1105,8 @@ public class TaxinvoiceServiceImp extends BaseServiceImp implements TaxinvoiceSe
 	 */
 	@Override
 	public ChargeInfo getChargeInfo(String CorpNum) throws PopbillException {
-		return httpget("/Taxinvoice/ChargeInfo", CorpNum, null, ChargeInfo.class);
+		return httpget("/Taxinvoice/ChargeInfo", CorpNum, null,
+				ResponseCache.Kind.CHARGE_INFO, ChargeInfo.class);
 	}
 	
 
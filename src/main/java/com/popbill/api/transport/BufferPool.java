@@ -0,0 +1,56 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 본문 전송용 버퍼 Pool.
+ * 
+ * 파일 전송시 호출마다 버퍼를 새로 할당하지 않도록 고정크기 버퍼를 재사용합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class BufferPool {
+
+	static final int BUFFER_SIZE = 32768;
+	private static final int MAX_POOLED = PooledTransport.DEFAULT_MAX_CONNECTIONS;
+
+	private static final ConcurrentLinkedQueue<byte[]> buffers = new ConcurrentLinkedQueue<byte[]>();
+	private static final AtomicInteger pooled = new AtomicInteger();
+
+	private BufferPool() {
+	}
+
+	static byte[] acquire() {
+		byte[] buffer = buffers.poll();
+		if (buffer == null)
+			return new byte[BUFFER_SIZE];
+		pooled.decrementAndGet();
+		return buffer;
+	}
+
+	static void release(byte[] buffer) {
+		if (buffer == null || buffer.length != BUFFER_SIZE)
+			return;
+		if (pooled.incrementAndGet() > MAX_POOLED) {
+			pooled.decrementAndGet();
+			return;
+		}
+		buffers.offer(buffer);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 호출 제한. 느려진 서비스의 호출이 스레드와 연결을 모두 점유하여 다른 서비스의
+ * 호출까지 지연되는 것을 막습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.IsolationPolicy
+ */
+public class Bulkhead {
+
+	private final String name;
+	private final int maxConcurrent;
+	private final long maxWait;
+	private final Semaphore permits;
+
+	private final AtomicLong rejectedCount = new AtomicLong();
+
+	/**
+	 * @param name
+	 *            name of bulkhead. (ex. Fax)
+	 * @param maxConcurrent
+	 *            maximum concurrent calls.
+	 * @param maxWait
+	 *            time to wait for a permit in milliseconds. 0 to fail fast.
+	 */
+	public Bulkhead(String name, int maxConcurrent, long maxWait) {
+		if (maxConcurrent < 1)
+			throw new IllegalArgumentException("maxConcurrent must be positive.");
+		if (maxWait < 0)
+			throw new IllegalArgumentException("maxWait must not be negative.");
+
+		this.name = name;
+		this.maxConcurrent = maxConcurrent;
+		this.maxWait = maxWait;
+		this.permits = new Semaphore(maxConcurrent);
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public int getMaxConcurrent() {
+		return maxConcurrent;
+	}
+
+	/**
+	 * 호출 허가 요청. 허가된 경우 호출이 끝난 후 release() 를 호출해야 합니다.
+	 * 
+	 * @return false if all permits are in use for maxWait.
+	 */
+	public boolean tryAcquire() {
+		boolean acquired;
+
+		if (maxWait == 0) {
+			acquired = permits.tryAcquire();
+		} else {
+			try {
+				acquired = permits.tryAcquire(maxWait, TimeUnit.MILLISECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				acquired = false;
+			}
+		}
+
+		if (acquired == false)
+			rejectedCount.incrementAndGet();
+
+		return acquired;
+	}
+
+	/**
+	 * 허가 반환.
+	 */
+	public void release() {
+		permits.release();
+	}
+
+	/**
+	 * 진행중인 호출 수.
+	 * 
+	 * @return count of calls in flight.
+	 */
+	public int getInFlight() {
+		return maxConcurrent - permits.availablePermits();
+	}
+
+	/**
+	 * 허가를 받지 못해 거절된 호출 수.
+	 * 
+	 * @return count of rejected calls.
+	 */
+	public long getRejectedCount() {
+		return rejectedCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "Bulkhead [" + name + ", inFlight=" + getInFlight() + "/"
+				+ maxConcurrent + ", rejected=" + getRejectedCount() + "]";
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Transfer-Encoding: chunked 응답 본문. 하위 스트림은 닫지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+class ChunkedInputStream extends InputStream {
+
+	private final InputStream input;
+	private long chunkRemaining;
+	private boolean eof;
+
+	ChunkedInputStream(InputStream input) {
+		this.input = input;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (!nextChunk())
+			return -1;
+
+		int read = input.read();
+		if (read == -1)
+			throw new IOException("Unexpected end of chunked body.");
+
+		chunkRemaining--;
+		return read;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (len == 0)
+			return 0;
+		if (!nextChunk())
+			return -1;
+
+		int read = input.read(b, off, (int) Math.min(len, chunkRemaining));
+		if (read == -1)
+			throw new IOException("Unexpected end of chunked body.");
+
+		chunkRemaining -= read;
+		return read;
+	}
+
+	@Override
+	public int available() throws IOException {
+		if (eof)
+			return 0;
+		return (int) Math.min(input.available(), chunkRemaining);
+	}
+
+	@Override
+	public void close() {
+	}
+
+	private boolean nextChunk() throws IOException {
+		if (eof)
+			return false;
+		if (chunkRemaining > 0)
+			return true;
+
+		String line = PooledConnection.readLine(input);
+
+		// 이전 chunk 데이터 뒤의 CRLF
+		if (line != null && line.length() == 0)
+			line = PooledConnection.readLine(input);
+
+		if (line == null)
+			throw new IOException("Unexpected end of chunked body.");
+
+		int extension = line.indexOf(';');
+		if (extension != -1)
+			line = line.substring(0, extension);
+
+		try {
+			chunkRemaining = Long.parseLong(line.trim(), 16);
+		} catch (NumberFormatException e) {
+			throw new IOException("Invalid chunk size [" + line + "]");
+		}
+
+		if (chunkRemaining == 0) {
+			// trailer 헤더 무시
+			String trailer = PooledConnection.readLine(input);
+			while (trailer != null && trailer.length() > 0)
+				trailer = PooledConnection.readLine(input);
+
+			eof = true;
+			return false;
+		}
+
+		return true;
+	}
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Transfer-Encoding: chunked 요청 본문. 하위 스트림은 닫지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+class ChunkedOutputStream extends OutputStream {
+
+	private static final byte[] CRLF = { '\r', '\n' };
+	private static final byte[] LAST_CHUNK = { '0', '\r', '\n', '\r', '\n' };
+
+	private final OutputStream output;
+	private boolean finished;
+
+	ChunkedOutputStream(OutputStream output) {
+		this.output = output;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		write(new byte[] { (byte) b }, 0, 1);
+	}
+
+	@Override
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (finished)
+			throw new IOException("Chunked body already finished.");
+		if (len == 0)
+			return;
+
+		output.write(Integer.toHexString(len).getBytes("ISO-8859-1"));
+		output.write(CRLF);
+		output.write(b, off, len);
+		output.write(CRLF);
+	}
+
+	@Override
+	public void flush() throws IOException {
+		output.flush();
+	}
+
+	/**
+	 * 마지막 chunk 를 기록합니다.
+	 */
+	void finish() throws IOException {
+		if (finished)
+			return;
+
+		finished = true;
+		output.write(LAST_CHUNK);
+	}
+
+	@Override
+	public void close() throws IOException {
+		finish();
+		flush();
+	}
+}
@@ -0,0 +1,297 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * 회로 차단기.
+ * 
+ * 최근 windowSize 건의 호출 중 실패 비율이 failureRate(%) 이상이면 열림(OPEN)
+ * 상태가 되어, openDuration 동안 호출을 즉시 거절합니다. 이후 반열림(HALF_OPEN)
+ * 상태에서 halfOpenCalls 건의 시험 호출이 모두 성공하면 닫히고, 하나라도 실패하면
+ * 다시 열립니다.
+ * 
+ * 실패는 응답을 받지 못했거나 5xx 응답을 받은 경우입니다. 서버의 오류 응답(오류코드)은
+ * 서버가 정상 동작한 것이므로 성공으로 집계됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.IsolationPolicy
+ */
+public class CircuitBreaker {
+
+	/**
+	 * 차단기 상태.
+	 */
+	public enum State {
+		/** 정상. 모든 호출을 허용합니다. */
+		CLOSED,
+		/** 차단. 모든 호출을 거절합니다. */
+		OPEN,
+		/** 시험. 일부 호출만 허용하여 회복여부를 확인합니다. */
+		HALF_OPEN
+	}
+
+	/**
+	 * 차단기 상태 변경 통지.
+	 */
+	public interface Listener {
+
+		/**
+		 * 상태 변경시 호출됩니다. 차단기의 잠금을 보유한 상태로 호출되므로 오래 걸리는
+		 * 작업을 수행해서는 안됩니다.
+		 * 
+		 * @param breaker
+		 *            CircuitBreaker of which state changed.
+		 * @param from
+		 *            previous state.
+		 * @param to
+		 *            new state.
+		 */
+		public abstract void onStateChange(CircuitBreaker breaker, State from,
+				State to);
+	}
+
+	private final String name;
+	private final int minimumCalls;
+	private final int failureRate;
+	private final long openDuration;
+	private final int halfOpenCalls;
+	private final Listener listener;
+
+	// 최근 호출 결과. (true 는 실패)
+	private final boolean[] window;
+	private int windowIndex;
+	private int windowCount;
+	private int windowFailures;
+
+	private volatile State state = State.CLOSED;
+	private long openedAt;
+	private int trialPermits;
+	private int trialSuccesses;
+
+	private long rejectedCount;
+	private long openCount;
+
+	/**
+	 * @param name
+	 *            name of breaker. (ex. Fax POST /FAX)
+	 * @param windowSize
+	 *            number of recent calls to evaluate.
+	 * @param minimumCalls
+	 *            minimum calls in window before breaker can open.
+	 * @param failureRate
+	 *            failure rate in percent to open breaker. (1 ~ 100)
+	 * @param openDuration
+	 *            time to reject calls after opened, in milliseconds.
+	 * @param halfOpenCalls
+	 *            trial calls to close breaker.
+	 * @param listener
+	 *            state change listener. null if none.
+	 */
+	public CircuitBreaker(String name, int windowSize, int minimumCalls,
+			int failureRate, long openDuration, int halfOpenCalls,
+			Listener listener) {
+		if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize)
+			throw new IllegalArgumentException(
+					"1 <= minimumCalls <= windowSize required.");
+		if (failureRate < 1 || failureRate > 100)
+			throw new IllegalArgumentException("failureRate must be 1 ~ 100.");
+		if (openDuration < 0 || halfOpenCalls < 1)
+			throw new IllegalArgumentException(
+					"openDuration >= 0, halfOpenCalls >= 1 required.");
+
+		this.name = name;
+		this.window = new boolean[windowSize];
+		this.minimumCalls = minimumCalls;
+		this.failureRate = failureRate;
+		this.openDuration = openDuration;
+		this.halfOpenCalls = halfOpenCalls;
+		this.listener = listener;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * 호출 허가 요청. 허가된 호출은 결과에 따라 onSuccess(), onFailure(),
+	 * release() 중 하나를 반드시 호출해야 합니다.
+	 * 
+	 * @return false if breaker is open.
+	 */
+	public boolean tryAcquire() {
+		if (state == State.CLOSED)
+			return true;
+
+		synchronized (this) {
+			if (state == State.OPEN) {
+				if (now() - openedAt < openDuration) {
+					rejectedCount++;
+					return false;
+				}
+
+				trialPermits = halfOpenCalls;
+				trialSuccesses = 0;
+				transition(State.HALF_OPEN);
+			}
+
+			if (state == State.HALF_OPEN) {
+				if (trialPermits == 0) {
+					rejectedCount++;
+					return false;
+				}
+
+				trialPermits--;
+			}
+
+			return true;
+		}
+	}
+
+	/**
+	 * 결과를 집계하지 않고 허가 반환. (ex. 요청 제한으로 거절된 경우)
+	 */
+	public synchronized void release() {
+		if (state == State.HALF_OPEN && trialPermits < halfOpenCalls)
+			trialPermits++;
+	}
+
+	/**
+	 * 성공 집계.
+	 */
+	public synchronized void onSuccess() {
+		if (state == State.HALF_OPEN) {
+			if (++trialSuccesses >= halfOpenCalls) {
+				clearWindow();
+				transition(State.CLOSED);
+			}
+		} else if (state == State.CLOSED) {
+			record(false);
+		}
+	}
+
+	/**
+	 * 실패 집계.
+	 */
+	public synchronized void onFailure() {
+		if (state == State.HALF_OPEN) {
+			open();
+		} else if (state == State.CLOSED) {
+			record(true);
+
+			if (windowCount >= minimumCalls
+					&& windowFailures * 100 >= failureRate * windowCount)
+				open();
+		}
+	}
+
+	/**
+	 * 닫힘 상태로 초기화.
+	 */
+	public synchronized void reset() {
+		clearWindow();
+		if (state != State.CLOSED)
+			transition(State.CLOSED);
+	}
+
+	/**
+	 * 현재 상태. 열림 상태는 openDuration 이 지난 후 첫 호출에서 반열림 상태로
+	 * 바뀝니다.
+	 * 
+	 * @return state of breaker.
+	 */
+	public State getState() {
+		return state;
+	}
+
+	/**
+	 * 최근 호출의 실패 비율.
+	 * 
+	 * @return failure rate in percent. 0 if no calls.
+	 */
+	public synchronized float getFailureRate() {
+		return windowCount == 0 ? 0 : windowFailures * 100f / windowCount;
+	}
+
+	/**
+	 * 열림 상태로 거절된 호출 수.
+	 * 
+	 * @return count of rejected calls.
+	 */
+	public synchronized long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	/**
+	 * 열림 상태가 된 횟수.
+	 * 
+	 * @return count of opens.
+	 */
+	public synchronized long getOpenCount() {
+		return openCount;
+	}
+
+	private void record(boolean failure) {
+		if (windowCount == window.length) {
+			if (window[windowIndex])
+				windowFailures--;
+		} else {
+			windowCount++;
+		}
+
+		window[windowIndex] = failure;
+		if (failure)
+			windowFailures++;
+
+		windowIndex = (windowIndex + 1) % window.length;
+	}
+
+	private void clearWindow() {
+		windowIndex = 0;
+		windowCount = 0;
+		windowFailures = 0;
+	}
+
+	private void open() {
+		openedAt = now();
+		openCount++;
+		clearWindow();
+		transition(State.OPEN);
+	}
+
+	private void transition(State to) {
+		State from = state;
+		state = to;
+
+		if (listener != null) {
+			try {
+				listener.onStateChange(this, from, to);
+			} catch (RuntimeException e) {
+			}
+		}
+	}
+
+	private static long now() {
+		return System.nanoTime() / 1000000;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "CircuitBreaker [" + name + ", state=" + state
+				+ ", failureRate=" + getFailureRate() + "%, calls="
+				+ windowCount + ", rejected=" + rejectedCount + ", opened="
+				+ openCount + "]";
+	}
+}
@@ -0,0 +1,267 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 본문 압축 정책.
+ * 
+ * 본문이 threshold 이상인 요청을 gzip 으로 압축하여 Content-Encoding: gzip 으로
+ * 전송합니다. 대량 문자 전송, 휴폐업 대량 조회와 같이 본문이 큰 요청의 전송량을 줄이며,
+ * 압축에 CPU 를 사용합니다. 서버가 압축된 요청을 거절(415 Unsupported Media Type)하면
+ * 같은 요청을 압축하지 않고 다시 전송하며, 이후 fallbackDuration 동안 같은 대상 서버의
+ * 같은 요청 유형(endpoint)은 압축하지 않습니다. 거절 기록의 이름은 회로 차단기와 같은
+ * "서비스@대상 요청유형" 형식입니다. (ex. Message@popbill.linkhub.co.kr POST /SMS)
+ * 
+ * 재전송할 수 없는 본문(isRepeatable() == false)은 압축하지 않습니다. 기본적으로
+ * 사용하지 않으며, setEnabled(true) 로 사용합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.GzipRequestBody
+ */
+public class CompressionPolicy {
+
+	/** 기본 압축 기준 크기. (bytes) */
+	public static final int DEFAULT_THRESHOLD = 16384;
+	/** 기본 압축 수준. 대부분의 JSON 은 빠른 압축으로도 크기가 충분히 줄어듭니다. */
+	public static final int DEFAULT_LEVEL = 1;
+
+	/** 기본 거절 기록 유지시간. (ms) */
+	public static final long DEFAULT_FALLBACK_DURATION = 10 * 60 * 1000;
+
+	/** 압축된 요청을 거절하는 응답 코드. */
+	public static final int UNSUPPORTED_MEDIA_TYPE = 415;
+
+	private static final CompressionPolicy defaultPolicy = new CompressionPolicy();
+
+	private volatile boolean enabled;
+	private volatile int threshold = DEFAULT_THRESHOLD;
+	private volatile int level = DEFAULT_LEVEL;
+	private volatile long fallbackDuration = DEFAULT_FALLBACK_DURATION;
+
+	// 거절된 "서비스@대상 요청유형" 과 기록이 만료되는 시각.
+	private final ConcurrentMap<String, Long> unsupported = new ConcurrentHashMap<String, Long>();
+
+	private final AtomicLong compressedCount = new AtomicLong();
+	private final AtomicLong fallbackCount = new AtomicLong();
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 정책. setEnabled(true) 로 사용을 지정하기
+	 * 전까지는 압축하지 않습니다.
+	 * 
+	 * @return default CompressionPolicy.
+	 */
+	public static CompressionPolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * 압축하지 않는 정책 생성.
+	 * 
+	 * @return CompressionPolicy without compression.
+	 */
+	public static CompressionPolicy none() {
+		return new CompressionPolicy();
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	public int getThreshold() {
+		return threshold;
+	}
+
+	/**
+	 * 압축 기준 크기 설정.
+	 * 
+	 * @param threshold
+	 *            minimum body size to compress, in bytes.
+	 */
+	public void setThreshold(int threshold) {
+		if (threshold < 0)
+			throw new IllegalArgumentException(
+					"threshold must not be negative.");
+		this.threshold = threshold;
+	}
+
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * 압축 수준 설정. 높을수록 전송량이 줄고 CPU 사용량이 늘어납니다.
+	 * 
+	 * @param level
+	 *            compression level. (1 ~ 9)
+	 */
+	public void setLevel(int level) {
+		if (level < 1 || level > 9)
+			throw new IllegalArgumentException("level must be in 1 ~ 9.");
+		this.level = level;
+	}
+
+	public long getFallbackDuration() {
+		return fallbackDuration;
+	}
+
+	/**
+	 * 거절 기록 유지시간 설정. 이 시간이 지나면 다시 압축하여 전송합니다.
+	 * 
+	 * @param fallbackDuration
+	 *            in milliseconds.
+	 */
+	public void setFallbackDuration(long fallbackDuration) {
+		if (fallbackDuration < 0)
+			throw new IllegalArgumentException(
+					"fallbackDuration must not be negative.");
+		this.fallbackDuration = fallbackDuration;
+	}
+
+	/**
+	 * 요청 본문 압축. 압축 대상이 아니면 본문을 그대로 반환합니다.
+	 * 
+	 * @param operation
+	 * @param body
+	 * @return GzipRequestBody, or body if not compressed.
+	 */
+	public RequestBody compress(Operation operation, RequestBody body) {
+		return compress(null, operation, body);
+	}
+
+	/**
+	 * 대상 서버에 보낼 요청 본문 압축. 압축 대상이 아니면 본문을 그대로 반환합니다.
+	 * 
+	 * @param target
+	 *            target server. (ex. popbill.linkhub.co.kr) null for none.
+	 * @param operation
+	 * @param body
+	 * @return GzipRequestBody, or body if not compressed.
+	 */
+	public RequestBody compress(String target, Operation operation,
+			RequestBody body) {
+		if (enabled == false || body == null || body.isRepeatable() == false
+				|| isSupported(target, operation) == false)
+			return body;
+
+		long length = body.getContentLength();
+		if (length < 0 || length < threshold)
+			return body;
+
+		compressedCount.incrementAndGet();
+		return new GzipRequestBody(body, level);
+	}
+
+	/**
+	 * 압축된 요청이 거절된 요청 유형 기록.
+	 * 
+	 * @param operation
+	 */
+	public void markUnsupported(Operation operation) {
+		markUnsupported(null, operation);
+	}
+
+	/**
+	 * 대상 서버가 압축된 요청을 거절한 요청 유형 기록. fallbackDuration 동안
+	 * 해당 요청 유형은 압축하지 않습니다.
+	 * 
+	 * @param target
+	 *            target server. null for none.
+	 * @param operation
+	 */
+	public void markUnsupported(String target, Operation operation) {
+		fallbackCount.incrementAndGet();
+		unsupported.put(nameOf(target, operation), Long.valueOf(System
+				.currentTimeMillis() + fallbackDuration));
+	}
+
+	/**
+	 * @param operation
+	 * @return false if compressed requests of operation were rejected.
+	 */
+	public boolean isSupported(Operation operation) {
+		return isSupported(null, operation);
+	}
+
+	/**
+	 * @param target
+	 *            target server. null for none.
+	 * @param operation
+	 * @return false if compressed requests of operation were rejected by
+	 *         target, within fallbackDuration.
+	 */
+	public boolean isSupported(String target, Operation operation) {
+		if (unsupported.isEmpty())
+			return true;
+
+		String name = nameOf(target, operation);
+		Long expiresAt = unsupported.get(name);
+
+		if (expiresAt == null)
+			return true;
+
+		if (System.currentTimeMillis() - expiresAt.longValue() < 0)
+			return false;
+
+		unsupported.remove(name, expiresAt);
+		return true;
+	}
+
+	private static String nameOf(String target, Operation operation) {
+		String service = target == null || target.isEmpty() ? operation
+				.getService() : operation.getService() + "@" + target;
+
+		return service + " " + operation.getEndpoint();
+	}
+
+	/**
+	 * 거절 기록 삭제. 서버 설정이 바뀐 경우 다시 압축합니다.
+	 */
+	public void reset() {
+		unsupported.clear();
+	}
+
+	/**
+	 * @return count of compressed requests.
+	 */
+	public long getCompressedCount() {
+		return compressedCount.get();
+	}
+
+	/**
+	 * @return count of compressed requests resent uncompressed.
+	 */
+	public long getFallbackCount() {
+		return fallbackCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "CompressionPolicy [enabled=" + enabled + ", threshold="
+				+ threshold + ", level=" + level + ", compressed="
+				+ compressedCount.get() + ", fallback=" + fallbackCount.get()
+				+ ", unsupported=" + new TreeSet<String>(unsupported.keySet())
+				+ "]";
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 호출 기한이 지난 연결을 닫는 타이머.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class DeadlineTimer {
+
+	// 취소된 작업은 예정 시간까지 대기열에 남으므로 주기적으로 정리합니다.
+	private static final int PURGE_INTERVAL = 1024;
+
+	private static ScheduledThreadPoolExecutor executor;
+	private static final AtomicInteger cancelled = new AtomicInteger();
+
+	private DeadlineTimer() {
+	}
+
+	private static synchronized ScheduledThreadPoolExecutor getExecutor() {
+		if (executor == null) {
+			executor = new ScheduledThreadPoolExecutor(1, new ThreadFactory() {
+				@Override
+				public Thread newThread(Runnable runnable) {
+					Thread thread = new Thread(runnable, "popbill-deadline");
+					thread.setDaemon(true);
+					return thread;
+				}
+			});
+		}
+
+		return executor;
+	}
+
+	/**
+	 * 기한에 연결 강제 종료 예약.
+	 * 
+	 * @param connection
+	 * @param deadline
+	 *            deadline in System.nanoTime().
+	 * @return Future to cancel.
+	 */
+	static Future<?> abortAt(final PooledConnection connection, long deadline) {
+		return getExecutor().schedule(new Runnable() {
+			@Override
+			public void run() {
+				connection.abort();
+			}
+		}, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * 예약 취소.
+	 * 
+	 * @param future
+	 *            Future returned by abortAt(). null is ignored.
+	 * @return false if connection was already aborted.
+	 */
+	static boolean cancel(Future<?> future) {
+		if (future == null)
+			return true;
+
+		if (future.cancel(false) == false)
+			return false;
+
+		if (cancelled.incrementAndGet() % PURGE_INTERVAL == 0)
+			getExecutor().purge();
+
+		return true;
+	}
+}
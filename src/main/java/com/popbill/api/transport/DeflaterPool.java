@@ -0,0 +1,63 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.Deflater;
+
+/**
+ * 요청 본문 압축용 Deflater Pool.
+ * 
+ * Deflater 는 생성 비용이 크고 native 메모리를 사용하므로, 호출마다 새로 생성하지
+ * 않도록 재사용합니다. Pool 을 넘는 Deflater 는 즉시 해제됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class DeflaterPool {
+
+	private static final int MAX_POOLED = PooledTransport.DEFAULT_MAX_CONNECTIONS;
+
+	private static final ConcurrentLinkedQueue<Deflater> deflaters = new ConcurrentLinkedQueue<Deflater>();
+	private static final AtomicInteger pooled = new AtomicInteger();
+
+	private DeflaterPool() {
+	}
+
+	/**
+	 * gzip 본문용(nowrap) Deflater.
+	 */
+	static Deflater acquire(int level) {
+		Deflater deflater = deflaters.poll();
+		if (deflater == null)
+			return new Deflater(level, true);
+		pooled.decrementAndGet();
+		deflater.setLevel(level);
+		return deflater;
+	}
+
+	static void release(Deflater deflater) {
+		if (deflater == null)
+			return;
+		if (pooled.incrementAndGet() > MAX_POOLED) {
+			pooled.decrementAndGet();
+			deflater.end();
+			return;
+		}
+		deflater.reset();
+		deflaters.offer(deflater);
+	}
+}
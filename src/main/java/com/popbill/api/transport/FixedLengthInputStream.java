@@ -0,0 +1,72 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Content-Length 로 길이가 정해진 응답 본문. 하위 스트림은 닫지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+class FixedLengthInputStream extends InputStream {
+
+	private final InputStream input;
+	private long remaining;
+
+	FixedLengthInputStream(InputStream input, long length) {
+		this.input = input;
+		this.remaining = length;
+	}
+
+	@Override
+	public int read() throws IOException {
+		if (remaining <= 0)
+			return -1;
+
+		int read = input.read();
+		if (read == -1)
+			throw new IOException("Unexpected end of response body.");
+
+		remaining--;
+		return read;
+	}
+
+	@Override
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (remaining <= 0)
+			return -1;
+		if (len == 0)
+			return 0;
+
+		int read = input.read(b, off, (int) Math.min(len, remaining));
+		if (read == -1)
+			throw new IOException("Unexpected end of response body.");
+
+		remaining -= read;
+		return read;
+	}
+
+	@Override
+	public int available() throws IOException {
+		return (int) Math.min(input.available(), remaining);
+	}
+
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.MalformedJsonException;
+
+/**
+ * Gson JSON Codec.
+ * 
+ * Gson 의 스트리밍 API 로 읽고 씁니다. Gson 이 감싸서 전달하는 스트림 I/O 오류는
+ * IOException 으로 풀어서 전달합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class GsonJsonCodec implements JsonCodec {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final int BUFFER_SIZE = 8192;
+
+	private final Gson gson;
+
+	/**
+	 * @param gson
+	 *            Gson instance to use. (ex. PopbillGson.get())
+	 */
+	public GsonJsonCodec(Gson gson) {
+		if (gson == null)
+			throw new NullPointerException("gson");
+		this.gson = gson;
+	}
+
+	/**
+	 * @return Gson instance of this codec.
+	 */
+	public Gson getGson() {
+		return gson;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.JsonCodec#write(java.lang.Object,
+	 * java.io.OutputStream)
+	 */
+	@Override
+	public void write(Object value, OutputStream output) throws IOException {
+		Writer writer = new BufferedWriter(new OutputStreamWriter(output, UTF8),
+				BUFFER_SIZE);
+		try {
+			gson.toJson(value, writer);
+		} catch (JsonParseException e) {
+			throw unwrap(e);
+		}
+		writer.flush();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.JsonCodec#read(java.io.InputStream,
+	 * java.lang.Class)
+	 */
+	@Override
+	public <T> T read(InputStream input, Class<T> type) throws IOException {
+		JsonReader reader = new JsonReader(new InputStreamReader(input, UTF8));
+
+		try {
+			return gson.fromJson(reader, type);
+		} catch (JsonParseException e) {
+			throw unwrap(e);
+		}
+	}
+
+	/**
+	 * 수신중 발생한 I/O 오류는 그대로, 형식 오류는 JsonCodecException 으로 전달.
+	 */
+	private static IOException unwrap(JsonParseException e) {
+		Throwable cause = e.getCause();
+
+		if (cause instanceof IOException
+				&& (cause instanceof MalformedJsonException) == false)
+			return (IOException) cause;
+
+		throw new JsonCodecException(e.getMessage(), e);
+	}
+}
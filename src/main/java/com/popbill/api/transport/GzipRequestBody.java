@@ -0,0 +1,181 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * gzip 압축 Request Body.
+ * 
+ * 원본 본문을 처음 사용할 때 한번 압축하여 보관하므로, 재전송과 길이 확인에 다시
+ * 압축하지 않습니다. 압축에는 DeflaterPool 의 Deflater 를 사용합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.CompressionPolicy
+ */
+public class GzipRequestBody extends RequestBody {
+
+	private static final byte[] HEADER = { 0x1f, (byte) 0x8b, Deflater.DEFLATED,
+			0, 0, 0, 0, 0, 0, (byte) 0xff };
+
+	private final RequestBody source;
+	private final int level;
+
+	private byte[] compressed;
+	private long uncompressedLength = -1;
+
+	/**
+	 * @param source
+	 *            body to compress.
+	 * @param level
+	 *            compression level. (0 ~ 9)
+	 */
+	public GzipRequestBody(RequestBody source, int level) {
+		if (source == null)
+			throw new NullPointerException("source");
+		if (level < 0 || level > 9)
+			throw new IllegalArgumentException("level must be in 0 ~ 9.");
+		this.source = source;
+		this.level = level;
+	}
+
+	/**
+	 * 압축 전 본문.
+	 * 
+	 * @return source body.
+	 */
+	public RequestBody getSource() {
+		return source;
+	}
+
+	/**
+	 * 압축 전 길이.
+	 * 
+	 * @return length of source body in bytes.
+	 * @throws IOException
+	 */
+	public long getUncompressedLength() throws IOException {
+		compress();
+		return uncompressedLength;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#getContentLength()
+	 */
+	@Override
+	public long getContentLength() {
+		try {
+			compress();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		return compressed.length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#isRepeatable()
+	 */
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream output) throws IOException {
+		compress();
+		output.write(compressed);
+	}
+
+	private synchronized void compress() throws IOException {
+		if (compressed != null)
+			return;
+
+		// JSON 은 대개 1/4 이하로 압축됩니다.
+		long length = source.getContentLength();
+		ByteArrayOutputStream buffer = new ByteArrayOutputStream(
+				length > 0 ? (int) Math.min(length / 4 + 64,
+						BufferPool.BUFFER_SIZE) : 512);
+
+		Deflater deflater = DeflaterPool.acquire(level);
+		try {
+			buffer.write(HEADER);
+
+			DeflaterOutputStream deflated = new DeflaterOutputStream(buffer,
+					deflater, 8192);
+			CheckedOutputStream checked = new CheckedOutputStream(deflated);
+
+			source.writeTo(checked);
+			deflated.finish();
+
+			writeInt(buffer, (int) checked.crc.getValue());
+			writeInt(buffer, (int) checked.count);
+
+			uncompressedLength = checked.count;
+			compressed = buffer.toByteArray();
+		} finally {
+			DeflaterPool.release(deflater);
+		}
+	}
+
+	private static void writeInt(OutputStream output, int value)
+			throws IOException {
+		output.write(value & 0xff);
+		output.write((value >> 8) & 0xff);
+		output.write((value >> 16) & 0xff);
+		output.write((value >> 24) & 0xff);
+	}
+
+	/**
+	 * 원본 본문의 CRC 와 길이 계산.
+	 */
+	private static class CheckedOutputStream extends FilterOutputStream {
+		final CRC32 crc = new CRC32();
+		long count;
+
+		CheckedOutputStream(OutputStream output) {
+			super(output);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			crc.update(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			crc.update(b, off, len);
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 조회 요청 재전송(hedging) 정책.
+ * 
+ * 조회(SAFE) 요청의 응답이 최근 응답시간의 percentile 백분위수 안에 오지 않으면 같은
+ * 요청을 한번 더 전송하고, 먼저 도착한 응답을 사용하며 나머지 요청은 취소합니다.
+ * 대기시간은 요청 유형(endpoint)별로 측정하며 minDelay ~ maxDelay 범위로 제한되고,
+ * 표본이 부족한 동안에는 maxDelay 를 사용합니다. 추가 전송은 예산(RetryBudget)
+ * 안에서만 이루어지므로 전체 요청의 일정 비율을 넘지 않습니다.
+ * 
+ * 기본적으로 사용하지 않으며, 전체 또는 서비스, 요청 유형을 지정하여 사용합니다.
+ * 
+ * <pre>
+ * HedgingPolicy.getDefault().setEndpointEnabled("Taxinvoice",
+ *         "GET /Taxinvoice/SELL/*", true);
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class HedgingPolicy {
+
+	/** 기본 백분위수. */
+	public static final double DEFAULT_PERCENTILE = 95;
+	/** 기본 최소 대기시간. (ms) */
+	public static final long DEFAULT_MIN_DELAY = 10;
+	/** 기본 최대 대기시간. (ms) */
+	public static final long DEFAULT_MAX_DELAY = 1000;
+	/** 기본 추가 전송 비율. (요청의 10%) */
+	public static final double DEFAULT_BUDGET_RATIO = 0.1;
+	/** 기본 최대 적립 추가 전송 횟수. */
+	public static final int DEFAULT_BUDGET_RESERVE = 5;
+
+	// 백분위수를 사용하기 위한 최소 표본 수.
+	private static final int MIN_SAMPLES = 20;
+
+	// 취소된 예약은 예정 시간까지 대기열에 남으므로 주기적으로 정리합니다.
+	private static final int PURGE_INTERVAL = 1024;
+
+	private static final HedgingPolicy defaultPolicy = new HedgingPolicy();
+
+	private static ScheduledThreadPoolExecutor timer;
+	private static ExecutorService executor;
+	private static final AtomicInteger cancelled = new AtomicInteger();
+
+	private final double percentile;
+	private final long minDelay;
+	private final long maxDelay;
+	private final RetryBudget budget;
+
+	private volatile boolean enabled;
+	private final ConcurrentMap<String, Boolean> services = new ConcurrentHashMap<String, Boolean>();
+	private final ConcurrentMap<String, Boolean> endpoints = new ConcurrentHashMap<String, Boolean>();
+
+	private final ConcurrentMap<Operation, LatencyWindow> latencies = new ConcurrentHashMap<Operation, LatencyWindow>();
+
+	private final AtomicLong hedgeCount = new AtomicLong();
+	private final AtomicLong exhaustedCount = new AtomicLong();
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 정책. 사용을 지정하기 전까지는 재전송하지
+	 * 않습니다.
+	 * 
+	 * @return default HedgingPolicy.
+	 */
+	public static HedgingPolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * 재전송하지 않는 정책 생성.
+	 * 
+	 * @return HedgingPolicy without hedging.
+	 */
+	public static HedgingPolicy none() {
+		return new HedgingPolicy();
+	}
+
+	public HedgingPolicy() {
+		this(DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY, DEFAULT_MAX_DELAY,
+				new RetryBudget(DEFAULT_BUDGET_RATIO, DEFAULT_BUDGET_RESERVE));
+	}
+
+	/**
+	 * @param percentile
+	 *            percentile of recent latencies to wait before hedging. (0 ~
+	 *            100)
+	 * @param minDelay
+	 *            minimum delay in milliseconds.
+	 * @param maxDelay
+	 *            maximum delay in milliseconds. used until enough samples.
+	 * @param budget
+	 *            budget of hedged requests.
+	 */
+	public HedgingPolicy(double percentile, long minDelay, long maxDelay,
+			RetryBudget budget) {
+		if (percentile <= 0 || percentile > 100)
+			throw new IllegalArgumentException("percentile must be in 0 ~ 100");
+		if (minDelay < 0 || maxDelay < minDelay)
+			throw new IllegalArgumentException(
+					"delay must be 0 <= minDelay <= maxDelay.");
+		if (budget == null)
+			throw new IllegalArgumentException("budget must not be null.");
+
+		this.percentile = percentile;
+		this.minDelay = minDelay;
+		this.maxDelay = maxDelay;
+		this.budget = budget;
+	}
+
+	public double getPercentile() {
+		return percentile;
+	}
+
+	public long getMinDelay() {
+		return minDelay;
+	}
+
+	public long getMaxDelay() {
+		return maxDelay;
+	}
+
+	public RetryBudget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * 전체 조회 요청의 재전송 사용여부 설정. 서비스 또는 요청 유형에 지정한 설정이
+	 * 우선합니다.
+	 * 
+	 * @param enabled
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * 서비스의 재전송 사용여부 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Taxinvoice)
+	 * @param enabled
+	 */
+	public void setServiceEnabled(String service, boolean enabled) {
+		services.put(service, enabled);
+	}
+
+	/**
+	 * 요청 유형의 재전송 사용여부 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Taxinvoice)
+	 * @param endpoint
+	 *            endpoint of Operation. (ex. GET /Taxinvoice/SELL/*)
+	 * @param enabled
+	 */
+	public void setEndpointEnabled(String service, String endpoint,
+			boolean enabled) {
+		endpoints.put(service + " " + endpoint, enabled);
+	}
+
+	/**
+	 * 재전송 사용여부 확인. 조회(SAFE) 요청만 재전송합니다.
+	 * 
+	 * @param operation
+	 * @return true if operation may be hedged.
+	 */
+	public boolean isEnabled(Operation operation) {
+		if (operation.getIdempotency() != Idempotency.SAFE)
+			return false;
+
+		Boolean value = endpoints.get(operation.getService() + " "
+				+ operation.getEndpoint());
+		if (value == null)
+			value = services.get(operation.getService());
+
+		return value == null ? enabled : value.booleanValue();
+	}
+
+	/**
+	 * 재전송 전 대기시간.
+	 * 
+	 * @param operation
+	 * @return delay in milliseconds.
+	 */
+	public long getDelay(Operation operation) {
+		LatencyWindow window = latencies.get(operation);
+		long delay = window == null ? -1 : window.percentile(percentile,
+				MIN_SAMPLES);
+
+		if (delay < 0)
+			return maxDelay;
+
+		return Math.max(minDelay, Math.min(delay, maxDelay));
+	}
+
+	/**
+	 * 응답시간 기록.
+	 * 
+	 * @param operation
+	 * @param millis
+	 *            latency of call in milliseconds.
+	 */
+	public void record(Operation operation, long millis) {
+		LatencyWindow window = latencies.get(operation);
+
+		if (window == null) {
+			window = new LatencyWindow();
+			LatencyWindow previous = latencies.putIfAbsent(operation, window);
+			if (previous != null)
+				window = previous;
+		}
+
+		window.record(millis);
+	}
+
+	/**
+	 * 재전송 예약. 대기시간이 지나면 예산을 확인하여 재전송을 실행하며, 예산이
+	 * 부족하면 hedge 를 취소합니다. 요청 1건에 대한 예산 적립도 함께 이루어집니다.
+	 * 
+	 * @param hedge
+	 *            task to send hedged request.
+	 * @param delay
+	 *            delay in milliseconds.
+	 * @return Future to cancel by cancel().
+	 */
+	public Future<?> schedule(final FutureTask<?> hedge, long delay) {
+		budget.deposit();
+
+		return getTimer().schedule(new Runnable() {
+			@Override
+			public void run() {
+				if (budget.tryWithdraw() == false) {
+					exhaustedCount.incrementAndGet();
+					hedge.cancel(false);
+					return;
+				}
+
+				hedgeCount.incrementAndGet();
+
+				try {
+					getExecutor().execute(hedge);
+				} catch (RejectedExecutionException e) {
+					hedge.cancel(false);
+				}
+			}
+		}, delay, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 재전송 예약 취소.
+	 * 
+	 * @param scheduled
+	 *            Future returned by schedule().
+	 * @return false if hedge was already started or skipped.
+	 */
+	public boolean cancel(Future<?> scheduled) {
+		if (scheduled.cancel(false) == false)
+			return false;
+
+		if (cancelled.incrementAndGet() % PURGE_INTERVAL == 0)
+			getTimer().purge();
+
+		return true;
+	}
+
+	/**
+	 * @return count of hedged requests sent.
+	 */
+	public long getHedgeCount() {
+		return hedgeCount.get();
+	}
+
+	/**
+	 * @return count of hedges skipped for lack of budget.
+	 */
+	public long getExhaustedCount() {
+		return exhaustedCount.get();
+	}
+
+	private static synchronized ScheduledThreadPoolExecutor getTimer() {
+		if (timer == null)
+			timer = new ScheduledThreadPoolExecutor(1, daemon("popbill-hedge-timer"));
+
+		return timer;
+	}
+
+	private static synchronized ExecutorService getExecutor() {
+		if (executor == null)
+			executor = new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60L,
+					TimeUnit.SECONDS, new SynchronousQueue<Runnable>(),
+					daemon("popbill-hedge"));
+
+		return executor;
+	}
+
+	private static ThreadFactory daemon(final String name) {
+		return new ThreadFactory() {
+			@Override
+			public Thread newThread(Runnable runnable) {
+				Thread thread = new Thread(runnable, name);
+				thread.setDaemon(true);
+				return thread;
+			}
+		};
+	}
+
+	@Override
+	public String toString() {
+		return "HedgingPolicy [percentile=" + percentile + ", delay=" + minDelay
+				+ "~" + maxDelay + "ms, hedged=" + hedgeCount + ", exhausted="
+				+ exhaustedCount + "]";
+	}
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 메모리 히스토그램.
+ * 
+ * HdrHistogram 과 같이 2의 거듭제곱 구간마다 64개의 하위 구간을 두는 로그-선형
+ * 구간을 사용하므로, 값의 크기와 관계없이 상대오차는 약 1.6% 이내입니다. 기록은
+ * 객체를 생성하지 않고 잠금 없이 이루어집니다. maxValue 를 넘는 값은 maxValue 로
+ * 기록됩니다. 쓰레드마다 기록한 히스토그램은 add() 로 합칠 수 있습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class Histogram {
+
+	private static final int SUB_BUCKET_BITS = 7;
+	private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+	private static final int SUB_BUCKET_HALF = SUB_BUCKET_COUNT >> 1;
+
+	private final long maxValue;
+	private final AtomicLongArray counts;
+	private final AtomicLong count = new AtomicLong();
+	private final AtomicLong sum = new AtomicLong();
+	private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * @param maxValue
+	 *            largest value to distinguish.
+	 */
+	public Histogram(long maxValue) {
+		if (maxValue < 1)
+			throw new IllegalArgumentException("maxValue must be positive.");
+
+		this.maxValue = maxValue;
+		this.counts = new AtomicLongArray(indexOf(maxValue) + 1);
+	}
+
+	static int indexOf(long value) {
+		if (value < SUB_BUCKET_COUNT)
+			return (int) value;
+
+		// value >> shift 가 [64, 128) 에 들도록 이동.
+		int shift = 63 - Long.numberOfLeadingZeros(value) - (SUB_BUCKET_BITS - 1);
+
+		return SUB_BUCKET_COUNT + (shift - 1) * SUB_BUCKET_HALF
+				+ (int) (value >> shift) - SUB_BUCKET_HALF;
+	}
+
+	/**
+	 * 구간이 나타내는 가장 큰 값.
+	 */
+	static long highestValueOf(int index) {
+		if (index < SUB_BUCKET_COUNT)
+			return index;
+
+		int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_HALF + 1;
+		long sub = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_HALF + SUB_BUCKET_HALF;
+
+		return ((sub + 1) << shift) - 1;
+	}
+
+	/**
+	 * 값 기록.
+	 * 
+	 * @param value
+	 *            negative value is ignored.
+	 */
+	public void record(long value) {
+		if (value < 0)
+			return;
+
+		if (value > maxValue)
+			value = maxValue;
+
+		counts.incrementAndGet(indexOf(value));
+		count.incrementAndGet();
+		sum.addAndGet(value);
+
+		updateMin(value);
+		updateMax(value);
+	}
+
+	/**
+	 * 다른 히스토그램의 기록을 합침. 이 히스토그램의 maxValue 를 넘는 값은
+	 * maxValue 로 기록됩니다.
+	 * 
+	 * @param other
+	 */
+	public void add(Histogram other) {
+		int last = counts.length() - 1;
+
+		for (int i = 0; i < other.counts.length(); i++) {
+			long n = other.counts.get(i);
+			if (n > 0)
+				counts.addAndGet(Math.min(i, last), n);
+		}
+
+		long n = other.count.get();
+		if (n == 0)
+			return;
+
+		count.addAndGet(n);
+		sum.addAndGet(other.sum.get());
+
+		updateMin(Math.min(other.min.get(), maxValue));
+		updateMax(Math.min(other.max.get(), maxValue));
+	}
+
+	private void updateMin(long value) {
+		long current;
+		while (value < (current = min.get())) {
+			if (min.compareAndSet(current, value))
+				break;
+		}
+	}
+
+	private void updateMax(long value) {
+		long current;
+		while (value > (current = max.get())) {
+			if (max.compareAndSet(current, value))
+				break;
+		}
+	}
+
+	public long getCount() {
+		return count.get();
+	}
+
+	/**
+	 * @return smallest recorded value. 0 if empty.
+	 */
+	public long getMin() {
+		return count.get() == 0 ? 0 : min.get();
+	}
+
+	public long getMax() {
+		return max.get();
+	}
+
+	public double getMean() {
+		long n = count.get();
+		return n == 0 ? 0 : (double) sum.get() / n;
+	}
+
+	/**
+	 * 백분위수. 해당 구간의 가장 큰 값을 반환합니다.
+	 * 
+	 * @param percentile
+	 *            0 ~ 100
+	 * @return value at percentile. 0 if empty.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		long total = count.get();
+		if (total == 0)
+			return 0;
+
+		long target = (long) Math.ceil(Math.min(percentile, 100) / 100 * total);
+		if (target < 1)
+			target = 1;
+
+		long seen = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			seen += counts.get(i);
+			if (seen >= target)
+				return Math.min(highestValueOf(i), getMax());
+		}
+
+		return getMax();
+	}
+
+	/**
+	 * 기록 초기화. 기록중인 값과 동시에 호출되면 일부 값이 누락될 수 있습니다.
+	 */
+	public void reset() {
+		for (int i = 0; i < counts.length(); i++)
+			counts.set(i, 0);
+		count.set(0);
+		sum.set(0);
+		min.set(Long.MAX_VALUE);
+		max.set(0);
+	}
+
+	@Override
+	public String toString() {
+		return "count=" + getCount() + ", mean=" + Math.round(getMean())
+				+ ", p50=" + getValueAtPercentile(50) + ", p90="
+				+ getValueAtPercentile(90) + ", p99="
+				+ getValueAtPercentile(99) + ", max=" + getMax();
+	}
+}
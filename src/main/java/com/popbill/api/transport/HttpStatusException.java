@@ -0,0 +1,43 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+
+/**
+ * 오류 정보 없이 HTTP 오류 상태가 수신된 경우. (ex. 프록시의 502, 503 응답)
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class HttpStatusException extends IOException {
+	private static final long serialVersionUID = 1L;
+
+	private final int statusCode;
+
+	public HttpStatusException(int statusCode) {
+		super("Server returned HTTP response code: " + statusCode);
+		this.statusCode = statusCode;
+	}
+
+	/**
+	 * HTTP 응답코드 확인.
+	 * 
+	 * @return status code of response.
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * 요청의 멱등성 분류. 전송 실패시 재시도 가능여부를 결정합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.RetryPolicy
+ */
+public enum Idempotency {
+
+	/** 조회 요청. 서버 상태를 변경하지 않으므로 항상 재시도할 수 있습니다. */
+	SAFE,
+
+	/** 여러번 처리되어도 결과가 같은 요청. (ex. 수정, 삭제) */
+	IDEMPOTENT,
+
+	/**
+	 * 중복 처리시 결과가 달라지는 요청. (ex. 등록, 발행, 전송) 서버에 전달되었을 수
+	 * 있는 경우, 처리여부를 확인한 후에만 재시도합니다.
+	 */
+	UNSAFE
+}
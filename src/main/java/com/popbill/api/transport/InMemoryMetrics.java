@@ -0,0 +1,142 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 메모리에 집계하는 PopbillMetrics 구현.
+ * 
+ * 요청 유형(Operation)마다 OperationMetrics 를 하나씩 두며, 처음 호출된 요청 유형을
+ * 등록할 때를 제외하고는 기록중에 객체를 생성하지 않습니다.
+ * 
+ * <pre>
+ * InMemoryMetrics metrics = new InMemoryMetrics();
+ * taxinvoiceService.setMetrics(metrics);
+ * ...
+ * for (OperationMetrics operation : metrics.getOperations().values())
+ *     System.out.println(operation);
+ * </pre>
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class InMemoryMetrics implements PopbillMetrics {
+
+	private final ConcurrentMap<Operation, OperationMetrics> operations = new ConcurrentHashMap<Operation, OperationMetrics>();
+
+	/**
+	 * 요청 유형의 측정값.
+	 * 
+	 * @param operation
+	 * @return OperationMetrics, or null if not called yet.
+	 */
+	public OperationMetrics get(Operation operation) {
+		return operations.get(operation);
+	}
+
+	/**
+	 * @return metrics of all called operations.
+	 */
+	public Map<Operation, OperationMetrics> getOperations() {
+		return Collections.unmodifiableMap(operations);
+	}
+
+	/**
+	 * 모든 측정값 삭제.
+	 */
+	public void clear() {
+		operations.clear();
+	}
+
+	private OperationMetrics metricsOf(Operation operation) {
+		OperationMetrics metrics = operations.get(operation);
+
+		if (metrics == null) {
+			metrics = new OperationMetrics(operation);
+			OperationMetrics previous = operations.putIfAbsent(operation,
+					metrics);
+			if (previous != null)
+				metrics = previous;
+		}
+
+		return metrics;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#callStarted(com.popbill.api.transport.Operation)
+	 */
+	@Override
+	public void callStarted(Operation operation) {
+		metricsOf(operation).started();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#tokenIssued(com.popbill.api.transport.Operation, long)
+	 */
+	@Override
+	public void tokenIssued(Operation operation, long nanos) {
+		metricsOf(operation).getToken().record(nanos / 1000);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#connected(com.popbill.api.transport.Operation, long)
+	 */
+	@Override
+	public void connected(Operation operation, long nanos) {
+		metricsOf(operation).getConnect().record(nanos / 1000);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#firstByteReceived(com.popbill.api.transport.Operation, long)
+	 */
+	@Override
+	public void firstByteReceived(Operation operation, long nanos) {
+		metricsOf(operation).getFirstByte().record(nanos / 1000);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#bytesTransferred(com.popbill.api.transport.Operation, long, long, long, long)
+	 */
+	@Override
+	public void bytesTransferred(Operation operation, long requestBytes,
+			long requestWireBytes, long responseBytes, long responseWireBytes) {
+		metricsOf(operation).bytes(requestBytes, requestWireBytes,
+				responseBytes, responseWireBytes);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillMetrics#callCompleted(com.popbill.api.transport.Operation, long, long)
+	 */
+	@Override
+	public void callCompleted(Operation operation, long nanos, long errorCode) {
+		metricsOf(operation).completed(nanos, errorCode);
+	}
+}
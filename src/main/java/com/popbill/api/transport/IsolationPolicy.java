@@ -0,0 +1,526 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 서비스 및 요청 유형(endpoint)별 회로 차단기와 동시 호출 제한.
+ * 
+ * 회로 차단기는 서비스(ex. Fax)와 요청 유형(ex. Fax POST /FAX)마다 하나씩
+ * 생성되며, 두 차단기가 모두 허용해야 호출할 수 있습니다. 동시 호출 제한은 기본적으로
+ * 사용하지 않으며, setServiceConcurrency() 등으로 한도를 지정한 경우에만 적용됩니다.
+ * 
+ * 차단기와 동시 호출 제한은 요청 대상 서버(target)별로 따로 생성되므로, 테스트
+ * 서버나 시험용 Mock 서버의 장애가 운영 서버 호출을 차단하지 않습니다. 이때 이름은
+ * "서비스@대상" 형식입니다. (ex. Fax@popbill.linkhub.co.kr) 동시 호출 한도는
+ * 대상과 관계없이 서비스명과 요청 유형으로 지정하며, 대상마다 적용됩니다.
+ * 
+ * 설정을 변경하면 기존 차단기와 동시 호출 제한은 초기화됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class IsolationPolicy {
+
+	/** 기본 집계 대상 호출 수. */
+	public static final int DEFAULT_WINDOW_SIZE = 20;
+	/** 기본 최소 호출 수. */
+	public static final int DEFAULT_MINIMUM_CALLS = 10;
+	/** 기본 차단 실패율. (%) */
+	public static final int DEFAULT_FAILURE_RATE = 50;
+	/** 기본 차단 시간. (ms) */
+	public static final long DEFAULT_OPEN_DURATION = 30 * 1000;
+	/** 기본 시험 호출 수. */
+	public static final int DEFAULT_HALF_OPEN_CALLS = 3;
+
+	private static final IsolationPolicy defaultPolicy = new IsolationPolicy();
+
+	private volatile boolean circuitBreakerEnabled = true;
+	private volatile int windowSize = DEFAULT_WINDOW_SIZE;
+	private volatile int minimumCalls = DEFAULT_MINIMUM_CALLS;
+	private volatile int failureRate = DEFAULT_FAILURE_RATE;
+	private volatile long openDuration = DEFAULT_OPEN_DURATION;
+	private volatile int halfOpenCalls = DEFAULT_HALF_OPEN_CALLS;
+
+	private volatile int defaultServiceConcurrency;
+	private volatile int defaultEndpointConcurrency;
+	private volatile long maxWait;
+	private final ConcurrentMap<String, Integer> concurrency = new ConcurrentHashMap<String, Integer>();
+
+	/**
+	 * 요청 대상 서버별 차단기와 동시 호출 제한.
+	 */
+	private static final class Scope {
+		final ConcurrentMap<String, CircuitBreaker> serviceBreakers = new ConcurrentHashMap<String, CircuitBreaker>();
+		final ConcurrentMap<String, ConcurrentMap<String, CircuitBreaker>> endpointBreakers = new ConcurrentHashMap<String, ConcurrentMap<String, CircuitBreaker>>();
+		final ConcurrentMap<String, Bulkhead> serviceBulkheads = new ConcurrentHashMap<String, Bulkhead>();
+		final ConcurrentMap<String, ConcurrentMap<String, Bulkhead>> endpointBulkheads = new ConcurrentHashMap<String, ConcurrentMap<String, Bulkhead>>();
+	}
+
+	// 대상을 지정하지 않은 경우의 key.
+	private static final String NO_TARGET = "";
+
+	private final ConcurrentMap<String, Scope> scopes = new ConcurrentHashMap<String, Scope>();
+
+	// 한도가 지정되지 않은 경우의 표시.
+	private static final Bulkhead UNLIMITED = new Bulkhead("UNLIMITED", 1, 0);
+
+	private final CopyOnWriteArrayList<CircuitBreaker.Listener> listeners = new CopyOnWriteArrayList<CircuitBreaker.Listener>();
+
+	private final CircuitBreaker.Listener dispatcher = new CircuitBreaker.Listener() {
+		@Override
+		public void onStateChange(CircuitBreaker breaker,
+				CircuitBreaker.State from, CircuitBreaker.State to) {
+			for (CircuitBreaker.Listener listener : listeners)
+				listener.onStateChange(breaker, from, to);
+		}
+	};
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 정책.
+	 * 
+	 * @return default IsolationPolicy.
+	 */
+	public static IsolationPolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * 회로 차단기와 동시 호출 제한을 사용하지 않는 정책 생성.
+	 * 
+	 * @return IsolationPolicy without isolation.
+	 */
+	public static IsolationPolicy none() {
+		IsolationPolicy policy = new IsolationPolicy();
+		policy.setCircuitBreakerEnabled(false);
+		return policy;
+	}
+
+	public boolean isCircuitBreakerEnabled() {
+		return circuitBreakerEnabled;
+	}
+
+	/**
+	 * 회로 차단기 사용여부 설정.
+	 * 
+	 * @param enabled
+	 */
+	public void setCircuitBreakerEnabled(boolean enabled) {
+		this.circuitBreakerEnabled = enabled;
+		clearCircuitBreakers();
+	}
+
+	/**
+	 * 회로 차단기 설정.
+	 * 
+	 * @param windowSize
+	 *            number of recent calls to evaluate.
+	 * @param minimumCalls
+	 *            minimum calls in window before breaker can open.
+	 * @param failureRate
+	 *            failure rate in percent to open breaker. (1 ~ 100)
+	 * @param openDuration
+	 *            time to reject calls after opened, in milliseconds.
+	 * @param halfOpenCalls
+	 *            trial calls to close breaker.
+	 */
+	public synchronized void setCircuitBreaker(int windowSize,
+			int minimumCalls, int failureRate, long openDuration,
+			int halfOpenCalls) {
+		// 설정값 검증.
+		new CircuitBreaker(null, windowSize, minimumCalls, failureRate,
+				openDuration, halfOpenCalls, null);
+
+		this.windowSize = windowSize;
+		this.minimumCalls = minimumCalls;
+		this.failureRate = failureRate;
+		this.openDuration = openDuration;
+		this.halfOpenCalls = halfOpenCalls;
+
+		clearCircuitBreakers();
+	}
+
+	/**
+	 * 서비스별 기본 동시 호출 한도 설정.
+	 * 
+	 * @param maxConcurrent
+	 *            maximum concurrent calls per service. 0 for unlimited.
+	 */
+	public void setDefaultServiceConcurrency(int maxConcurrent) {
+		this.defaultServiceConcurrency = Math.max(maxConcurrent, 0);
+		clearBulkheads();
+	}
+
+	/**
+	 * 요청 유형별 기본 동시 호출 한도 설정.
+	 * 
+	 * @param maxConcurrent
+	 *            maximum concurrent calls per endpoint. 0 for unlimited.
+	 */
+	public void setDefaultEndpointConcurrency(int maxConcurrent) {
+		this.defaultEndpointConcurrency = Math.max(maxConcurrent, 0);
+		clearBulkheads();
+	}
+
+	/**
+	 * 서비스의 동시 호출 한도 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Fax)
+	 * @param maxConcurrent
+	 *            maximum concurrent calls. 0 for unlimited.
+	 */
+	public void setServiceConcurrency(String service, int maxConcurrent) {
+		concurrency.put(service, Math.max(maxConcurrent, 0));
+		clearBulkheads();
+	}
+
+	/**
+	 * 요청 유형의 동시 호출 한도 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Fax)
+	 * @param endpoint
+	 *            endpoint. (ex. POST /FAX)
+	 * @param maxConcurrent
+	 *            maximum concurrent calls. 0 for unlimited.
+	 */
+	public void setEndpointConcurrency(String service, String endpoint,
+			int maxConcurrent) {
+		concurrency.put(service + " " + endpoint, Math.max(maxConcurrent, 0));
+		clearBulkheads();
+	}
+
+	/**
+	 * 동시 호출 한도 초과시 대기시간 설정. 기본값은 0 으로, 대기하지 않고 즉시
+	 * 실패합니다.
+	 * 
+	 * @param maxWait
+	 *            time to wait in milliseconds.
+	 */
+	public void setMaxWait(long maxWait) {
+		this.maxWait = Math.max(maxWait, 0);
+		clearBulkheads();
+	}
+
+	/**
+	 * 서비스의 회로 차단기.
+	 * 
+	 * @param service
+	 *            service name.
+	 * @return CircuitBreaker, or null if disabled.
+	 */
+	public CircuitBreaker getCircuitBreaker(String service) {
+		return getCircuitBreaker(null, service);
+	}
+
+	/**
+	 * 대상 서버에 대한 서비스의 회로 차단기.
+	 * 
+	 * @param target
+	 *            target server. (ex. popbill.linkhub.co.kr) null for none.
+	 * @param service
+	 *            service name.
+	 * @return CircuitBreaker, or null if disabled.
+	 */
+	public CircuitBreaker getCircuitBreaker(String target, String service) {
+		if (circuitBreakerEnabled == false)
+			return null;
+
+		Scope scope = scope(target);
+		CircuitBreaker breaker = scope.serviceBreakers.get(service);
+
+		if (breaker == null) {
+			breaker = newCircuitBreaker(nameOf(target, service));
+			CircuitBreaker prev = scope.serviceBreakers.putIfAbsent(service,
+					breaker);
+			if (prev != null)
+				breaker = prev;
+		}
+
+		return breaker;
+	}
+
+	/**
+	 * 요청 유형의 회로 차단기.
+	 * 
+	 * @param operation
+	 *            operation.
+	 * @return CircuitBreaker, or null if disabled.
+	 */
+	public CircuitBreaker getCircuitBreaker(Operation operation) {
+		return getCircuitBreaker(null, operation);
+	}
+
+	/**
+	 * 대상 서버에 대한 요청 유형의 회로 차단기.
+	 * 
+	 * @param target
+	 *            target server. (ex. popbill.linkhub.co.kr) null for none.
+	 * @param operation
+	 *            operation.
+	 * @return CircuitBreaker, or null if disabled.
+	 */
+	public CircuitBreaker getCircuitBreaker(String target, Operation operation) {
+		if (circuitBreakerEnabled == false)
+			return null;
+
+		Scope scope = scope(target);
+		ConcurrentMap<String, CircuitBreaker> breakers = scope.endpointBreakers
+				.get(operation.getService());
+
+		if (breakers == null) {
+			breakers = new ConcurrentHashMap<String, CircuitBreaker>();
+			ConcurrentMap<String, CircuitBreaker> prev = scope.endpointBreakers
+					.putIfAbsent(operation.getService(), breakers);
+			if (prev != null)
+				breakers = prev;
+		}
+
+		CircuitBreaker breaker = breakers.get(operation.getEndpoint());
+
+		if (breaker == null) {
+			breaker = newCircuitBreaker(nameOf(target, operation.getService())
+					+ " " + operation.getEndpoint());
+			CircuitBreaker prev = breakers.putIfAbsent(
+					operation.getEndpoint(), breaker);
+			if (prev != null)
+				breaker = prev;
+		}
+
+		return breaker;
+	}
+
+	/**
+	 * 서비스의 동시 호출 제한.
+	 * 
+	 * @param service
+	 *            service name.
+	 * @return Bulkhead, or null if unlimited.
+	 */
+	public Bulkhead getBulkhead(String service) {
+		return getBulkhead(null, service);
+	}
+
+	/**
+	 * 대상 서버에 대한 서비스의 동시 호출 제한.
+	 * 
+	 * @param target
+	 *            target server. (ex. popbill.linkhub.co.kr) null for none.
+	 * @param service
+	 *            service name.
+	 * @return Bulkhead, or null if unlimited.
+	 */
+	public Bulkhead getBulkhead(String target, String service) {
+		Scope scope = scope(target);
+		Bulkhead bulkhead = scope.serviceBulkheads.get(service);
+
+		if (bulkhead == null) {
+			bulkhead = newBulkhead(service, nameOf(target, service),
+					defaultServiceConcurrency);
+			Bulkhead prev = scope.serviceBulkheads.putIfAbsent(service,
+					bulkhead);
+			if (prev != null)
+				bulkhead = prev;
+		}
+
+		return bulkhead == UNLIMITED ? null : bulkhead;
+	}
+
+	/**
+	 * 요청 유형의 동시 호출 제한.
+	 * 
+	 * @param operation
+	 *            operation.
+	 * @return Bulkhead, or null if unlimited.
+	 */
+	public Bulkhead getBulkhead(Operation operation) {
+		return getBulkhead(null, operation);
+	}
+
+	/**
+	 * 대상 서버에 대한 요청 유형의 동시 호출 제한.
+	 * 
+	 * @param target
+	 *            target server. (ex. popbill.linkhub.co.kr) null for none.
+	 * @param operation
+	 *            operation.
+	 * @return Bulkhead, or null if unlimited.
+	 */
+	public Bulkhead getBulkhead(String target, Operation operation) {
+		Scope scope = scope(target);
+		ConcurrentMap<String, Bulkhead> bulkheads = scope.endpointBulkheads
+				.get(operation.getService());
+
+		if (bulkheads == null) {
+			bulkheads = new ConcurrentHashMap<String, Bulkhead>();
+			ConcurrentMap<String, Bulkhead> prev = scope.endpointBulkheads
+					.putIfAbsent(operation.getService(), bulkheads);
+			if (prev != null)
+				bulkheads = prev;
+		}
+
+		Bulkhead bulkhead = bulkheads.get(operation.getEndpoint());
+
+		if (bulkhead == null) {
+			String key = operation.getService() + " " + operation.getEndpoint();
+			bulkhead = newBulkhead(key, nameOf(target, operation.getService())
+					+ " " + operation.getEndpoint(), defaultEndpointConcurrency);
+			Bulkhead prev = bulkheads.putIfAbsent(operation.getEndpoint(),
+					bulkhead);
+			if (prev != null)
+				bulkhead = prev;
+		}
+
+		return bulkhead == UNLIMITED ? null : bulkhead;
+	}
+
+	/**
+	 * 생성된 회로 차단기 목록.
+	 * 
+	 * @return breakers by name.
+	 */
+	public Map<String, CircuitBreaker> getCircuitBreakers() {
+		Map<String, CircuitBreaker> result = new TreeMap<String, CircuitBreaker>();
+
+		for (Scope scope : scopes.values()) {
+			for (CircuitBreaker breaker : scope.serviceBreakers.values())
+				result.put(breaker.getName(), breaker);
+
+			for (ConcurrentMap<String, CircuitBreaker> breakers : scope.endpointBreakers
+					.values()) {
+				for (CircuitBreaker breaker : breakers.values())
+					result.put(breaker.getName(), breaker);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 한도가 지정된 동시 호출 제한 목록.
+	 * 
+	 * @return bulkheads by name.
+	 */
+	public Map<String, Bulkhead> getBulkheads() {
+		Map<String, Bulkhead> result = new TreeMap<String, Bulkhead>();
+
+		for (Scope scope : scopes.values()) {
+			for (Bulkhead bulkhead : scope.serviceBulkheads.values()) {
+				if (bulkhead != UNLIMITED)
+					result.put(bulkhead.getName(), bulkhead);
+			}
+
+			for (ConcurrentMap<String, Bulkhead> bulkheads : scope.endpointBulkheads
+					.values()) {
+				for (Bulkhead bulkhead : bulkheads.values()) {
+					if (bulkhead != UNLIMITED)
+						result.put(bulkhead.getName(), bulkhead);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * 회로 차단기 상태 변경 통지 등록.
+	 * 
+	 * @param listener
+	 */
+	public void addListener(CircuitBreaker.Listener listener) {
+		listeners.addIfAbsent(listener);
+	}
+
+	public void removeListener(CircuitBreaker.Listener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * 회로 차단기 실패 집계 대상 여부. 응답을 받지 못했거나 5xx 응답을 받은 경우입니다.
+	 * 
+	 * @param cause
+	 *            cause of failure.
+	 * @return true if failure indicates unhealthy server.
+	 */
+	public boolean isFailure(Throwable cause) {
+		if (cause instanceof HttpStatusException)
+			return ((HttpStatusException) cause).getStatusCode() >= 500;
+
+		return cause instanceof IOException;
+	}
+
+	private CircuitBreaker newCircuitBreaker(String name) {
+		synchronized (this) {
+			return new CircuitBreaker(name, windowSize, minimumCalls,
+					failureRate, openDuration, halfOpenCalls, dispatcher);
+		}
+	}
+
+	/**
+	 * @param key
+	 *            key of concurrency. (ex. Fax, Fax POST /FAX)
+	 * @param name
+	 *            name of bulkhead.
+	 */
+	private Bulkhead newBulkhead(String key, String name,
+			int defaultConcurrency) {
+		Integer maxConcurrent = concurrency.get(key);
+		int limit = maxConcurrent == null ? defaultConcurrency : maxConcurrent;
+
+		return limit == 0 ? UNLIMITED : new Bulkhead(name, limit, maxWait);
+	}
+
+	private Scope scope(String target) {
+		if (target == null)
+			target = NO_TARGET;
+
+		Scope scope = scopes.get(target);
+
+		if (scope == null) {
+			scope = new Scope();
+			Scope prev = scopes.putIfAbsent(target, scope);
+			if (prev != null)
+				scope = prev;
+		}
+
+		return scope;
+	}
+
+	private static String nameOf(String target, String service) {
+		return target == null || target.isEmpty() ? service : service + "@"
+				+ target;
+	}
+
+	private void clearCircuitBreakers() {
+		for (Scope scope : scopes.values()) {
+			scope.serviceBreakers.clear();
+			scope.endpointBreakers.clear();
+		}
+	}
+
+	private void clearBulkheads() {
+		for (Scope scope : scopes.values()) {
+			scope.serviceBulkheads.clear();
+			scope.endpointBulkheads.clear();
+		}
+	}
+}
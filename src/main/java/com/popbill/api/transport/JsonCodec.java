@@ -0,0 +1,63 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * JSON Codec Interface.
+ *
+ * 요청 본문의 직렬화와 응답 본문의 역직렬화를 담당합니다. 문자열을 거치지 않고
+ * 연결의 스트림을 직접 읽고 씁니다. 기본 구현은 GsonJsonCodec 이며,
+ * BaseServiceImp.setJsonCodec() 또는 시스템 속성 popbill.json.codec 으로
+ * 변경할 수 있습니다.
+ *
+ * 구현은 스레드에 안전해야 합니다. 스트림의 I/O 오류는 IOException 으로 그대로
+ * 전달하고, JSON 형식 오류나 변환할 수 없는 값은 JsonCodecException 으로
+ * 전달합니다.
+ *
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.GsonJsonCodec
+ */
+public interface JsonCodec {
+
+	/**
+	 * 객체를 UTF-8 JSON 으로 기록. 기록 후 output 을 flush 하며, 닫지는 않습니다.
+	 *
+	 * @param value
+	 *            Object to serialize. may be null.
+	 * @param output
+	 *            Stream to write to.
+	 * @throws IOException
+	 */
+	public abstract void write(Object value, OutputStream output)
+			throws IOException;
+
+	/**
+	 * UTF-8 JSON 을 읽어 객체로 변환. input 을 닫지 않습니다.
+	 *
+	 * @param input
+	 *            Stream to read from.
+	 * @param type
+	 *            Class of result.
+	 * @return Object of type. null if input is empty or JSON null.
+	 * @throws IOException
+	 */
+	public abstract <T> T read(InputStream input, Class<T> type)
+			throws IOException;
+}
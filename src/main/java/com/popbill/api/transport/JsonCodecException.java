@@ -0,0 +1,29 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * JSON 형식 오류 또는 변환할 수 없는 값.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class JsonCodecException extends RuntimeException {
+	private static final long serialVersionUID = 1L;
+
+	public JsonCodecException(String message, Throwable cause) {
+		super(message, cause);
+	}
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import com.google.gson.Gson;
+
+/**
+ * JSON Request Body.
+ * 
+ * 객체를 중간 문자열이나 byte 배열 없이 연결의 출력 스트림으로 직접 직렬화합니다.
+ * 고정길이 방식에서는 길이 계산을 위해 한번 더 직렬화하며, 이때 출력은 버려집니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class JsonRequestBody extends RequestBody {
+
+	private final JsonCodec codec;
+	private final Object graph;
+	private final boolean chunked;
+
+	private long contentLength = -2;
+
+	/**
+	 * 고정길이 JSON 본문 생성.
+	 * 
+	 * @param gson
+	 *            Gson instance to serialize with.
+	 * @param graph
+	 *            Object to serialize.
+	 */
+	public JsonRequestBody(Gson gson, Object graph) {
+		this(gson, graph, false);
+	}
+
+	/**
+	 * JSON 본문 생성.
+	 * 
+	 * @param gson
+	 *            Gson instance to serialize with.
+	 * @param graph
+	 *            Object to serialize.
+	 * @param chunked
+	 *            true to send with chunked transfer-encoding, which skips the
+	 *            length calculation pass.
+	 */
+	public JsonRequestBody(Gson gson, Object graph, boolean chunked) {
+		this(new GsonJsonCodec(gson), graph, chunked);
+	}
+
+	/**
+	 * 고정길이 JSON 본문 생성.
+	 *
+	 * @param codec
+	 *            JsonCodec to serialize with.
+	 * @param graph
+	 *            Object to serialize.
+	 */
+	public JsonRequestBody(JsonCodec codec, Object graph) {
+		this(codec, graph, false);
+	}
+
+	/**
+	 * JSON 본문 생성.
+	 *
+	 * @param codec
+	 *            JsonCodec to serialize with.
+	 * @param graph
+	 *            Object to serialize.
+	 * @param chunked
+	 *            true to send with chunked transfer-encoding, which skips the
+	 *            length calculation pass.
+	 */
+	public JsonRequestBody(JsonCodec codec, Object graph, boolean chunked) {
+		if (codec == null)
+			throw new NullPointerException("codec");
+		this.codec = codec;
+		this.graph = graph;
+		this.chunked = chunked;
+	}
+
+	/**
+	 * 직렬화 대상 객체.
+	 * 
+	 * @return object to serialize.
+	 */
+	public Object getGraph() {
+		return graph;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#getContentLength()
+	 */
+	@Override
+	public long getContentLength() {
+		if (chunked)
+			return -1;
+
+		if (contentLength == -2) {
+			CountingSink sink = new CountingSink();
+			try {
+				serialize(sink);
+			} catch (IOException e) {
+				// CountingSink never fails.
+				throw new IllegalStateException(e);
+			}
+			contentLength = sink.count;
+		}
+		return contentLength;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#isRepeatable()
+	 */
+	@Override
+	public boolean isRepeatable() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream output) throws IOException {
+		serialize(output);
+	}
+
+	private void serialize(OutputStream output) throws IOException {
+		codec.write(graph, output);
+	}
+
+	private static class CountingSink extends OutputStream {
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
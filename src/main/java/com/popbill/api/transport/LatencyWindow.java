@@ -0,0 +1,68 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.Arrays;
+
+/**
+ * 최근 응답시간 표본. 백분위수는 일정 건수가 기록될 때마다 다시 계산됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+final class LatencyWindow {
+
+	private static final int SIZE = 128;
+	private static final int REFRESH_INTERVAL = 16;
+
+	private final long[] samples = new long[SIZE];
+	private final long[] sorted = new long[SIZE];
+	private int count;
+	private int next;
+	private int recorded;
+	private long cached = -1;
+
+	synchronized void record(long millis) {
+		samples[next] = millis;
+		next = (next + 1) % SIZE;
+
+		if (count < SIZE)
+			count++;
+
+		if (++recorded % REFRESH_INTERVAL == 0)
+			cached = -1;
+	}
+
+	/**
+	 * @param percentile
+	 *            0 ~ 100
+	 * @param minSamples
+	 * @return percentile in milliseconds, -1 if samples are not enough.
+	 */
+	synchronized long percentile(double percentile, int minSamples) {
+		if (count < minSamples)
+			return -1;
+
+		if (cached < 0) {
+			System.arraycopy(samples, 0, sorted, 0, count);
+			Arrays.sort(sorted, 0, count);
+
+			int index = (int) Math.ceil(percentile / 100 * count) - 1;
+			cached = sorted[Math.max(0, Math.min(index, count - 1))];
+		}
+
+		return cached;
+	}
+}
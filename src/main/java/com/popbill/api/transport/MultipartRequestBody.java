@@ -0,0 +1,268 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * multipart/form-data Request Body.
+ * 
+ * 각 파트의 길이로 전체 본문 길이를 미리 계산하여 고정길이로 전송하며, 파일 내용은
+ * 메모리에 적재하지 않고 Pool 버퍼를 통해 연결로 바로 복사합니다. 길이를 알 수 없는
+ * 스트림 파트가 있는 경우에만 chunked 방식으로 전송됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class MultipartRequestBody extends RequestBody {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+	private static final String CRLF = "\r\n";
+
+	private final String boundary;
+	private final List<Part> parts = new ArrayList<Part>();
+
+	/**
+	 * multipart 본문 생성.
+	 * 
+	 * @param boundary
+	 *            multipart boundary.
+	 */
+	public MultipartRequestBody(String boundary) {
+		if (boundary == null || boundary.isEmpty())
+			throw new IllegalArgumentException("boundary");
+		this.boundary = boundary;
+	}
+
+	/**
+	 * Content-Type 헤더 값.
+	 * 
+	 * @return multipart/form-data content type with boundary.
+	 */
+	public String getContentType() {
+		return "multipart/form-data;boundary=" + boundary;
+	}
+
+	/**
+	 * 폼 데이터 파트 추가.
+	 * 
+	 * @param name
+	 *            field name.
+	 * @param contentType
+	 *            content type of part.
+	 * @param data
+	 *            part data.
+	 * @return this
+	 */
+	public MultipartRequestBody addPart(String name, String contentType,
+			byte[] data) {
+		parts.add(new Part(header(name, null, contentType), null, null, data,
+				data.length));
+		return this;
+	}
+
+	/**
+	 * 파일 파트 추가. 파일은 전송시점에 열리며, 재전송시 다시 읽습니다.
+	 * 
+	 * @param name
+	 *            field name.
+	 * @param fileName
+	 *            file name.
+	 * @param contentType
+	 *            content type of part.
+	 * @param file
+	 *            file to send.
+	 * @return this
+	 */
+	public MultipartRequestBody addFilePart(String name, String fileName,
+			String contentType, File file) {
+		parts.add(new Part(header(name, fileName, contentType), file, null,
+				null, file.length()));
+		return this;
+	}
+
+	/**
+	 * 스트림 파트 추가. 스트림은 한번만 읽을 수 있으므로 본문은 재전송할 수 없습니다.
+	 * 
+	 * @param name
+	 *            field name.
+	 * @param fileName
+	 *            file name.
+	 * @param contentType
+	 *            content type of part.
+	 * @param data
+	 *            stream of data.
+	 * @param length
+	 *            length of data in bytes, or -1 if unknown.
+	 * @return this
+	 */
+	public MultipartRequestBody addStreamPart(String name, String fileName,
+			String contentType, InputStream data, long length) {
+		parts.add(new Part(header(name, fileName, contentType), null, data,
+				null, length));
+		return this;
+	}
+
+	/**
+	 * 스트림의 남은 길이 확인. FileInputStream, ByteArrayInputStream 만
+	 * 확인 가능합니다.
+	 * 
+	 * @param data
+	 *            stream of data.
+	 * @return remaining length in bytes, or -1 if unknown.
+	 */
+	public static long lengthOf(InputStream data) {
+		try {
+			if (data instanceof FileInputStream) {
+				FileInputStream fis = (FileInputStream) data;
+				return fis.getChannel().size() - fis.getChannel().position();
+			}
+			if (data instanceof ByteArrayInputStream)
+				return data.available();
+		} catch (IOException e) {
+			// fall through, unknown length.
+		}
+		return -1;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#getContentLength()
+	 */
+	@Override
+	public long getContentLength() {
+		long length = footer().length;
+		for (Part part : parts) {
+			if (part.length < 0)
+				return -1;
+			length += part.header.length + part.length + 2;
+		}
+		return length;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#isRepeatable()
+	 */
+	@Override
+	public boolean isRepeatable() {
+		for (Part part : parts) {
+			if (part.stream != null)
+				return false;
+		}
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.RequestBody#writeTo(java.io.OutputStream)
+	 */
+	@Override
+	public void writeTo(OutputStream output) throws IOException {
+		byte[] crlf = CRLF.getBytes(UTF8);
+
+		for (Part part : parts) {
+			output.write(part.header);
+
+			if (part.data != null) {
+				output.write(part.data);
+			} else if (part.file != null) {
+				InputStream input = new FileInputStream(part.file);
+				try {
+					copy(input, output, part.length);
+				} finally {
+					input.close();
+				}
+			} else {
+				copy(part.stream, output, part.length);
+			}
+
+			output.write(crlf);
+		}
+
+		output.write(footer());
+	}
+
+	private static void copy(InputStream input, OutputStream output,
+			long length) throws IOException {
+		byte[] buffer = BufferPool.acquire();
+		try {
+			long remain = length;
+			while (length < 0 || remain > 0) {
+				int size = buffer.length;
+				if (length >= 0 && remain < size)
+					size = (int) remain;
+
+				int read = input.read(buffer, 0, size);
+				if (read < 0) {
+					if (length < 0)
+						break;
+					throw new EOFException("Part is shorter than its length. "
+							+ remain + " bytes remain.");
+				}
+				output.write(buffer, 0, read);
+				remain -= read;
+			}
+		} finally {
+			BufferPool.release(buffer);
+		}
+	}
+
+	private byte[] header(String name, String fileName, String contentType) {
+		StringBuilder header = new StringBuilder();
+		header.append("--").append(boundary).append(CRLF);
+		header.append("content-disposition: form-data; name=\"").append(name)
+				.append("\"");
+		if (fileName != null)
+			header.append("; filename=\"").append(fileName).append("\"");
+		header.append(CRLF);
+		header.append("content-type: ").append(contentType).append(CRLF)
+				.append(CRLF);
+		return header.toString().getBytes(UTF8);
+	}
+
+	private byte[] footer() {
+		return ("--" + boundary + "--" + CRLF).getBytes(UTF8);
+	}
+
+	private static class Part {
+		final byte[] header;
+		final File file;
+		final InputStream stream;
+		final byte[] data;
+		final long length;
+
+		Part(byte[] header, File file, InputStream stream, byte[] data,
+				long length) {
+			this.header = header;
+			this.file = file;
+			this.stream = stream;
+			this.data = data;
+			this.length = length;
+		}
+	}
+}
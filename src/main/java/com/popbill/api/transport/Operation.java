@@ -0,0 +1,245 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * API 호출 분류. 서비스명, 요청 경로의 유형(endpoint), 멱등성으로 구성되며
+ * 재시도 등의 정책을 적용하는 단위로 사용됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class Operation {
+
+	private static final int MAX_LITERAL_LENGTH = 24;
+
+	private final String service;
+	private final String endpoint;
+	private final Idempotency idempotency;
+
+	/**
+	 * @param service
+	 *            service name. (ex. Taxinvoice)
+	 * @param endpoint
+	 *            normalized endpoint. see endpointOf()
+	 * @param idempotency
+	 *            idempotency of operation.
+	 */
+	public Operation(String service, String endpoint, Idempotency idempotency) {
+		if (idempotency == null)
+			throw new IllegalArgumentException("idempotency is null.");
+
+		this.service = service;
+		this.endpoint = endpoint;
+		this.idempotency = idempotency;
+	}
+
+	public String getService() {
+		return service;
+	}
+
+	public String getEndpoint() {
+		return endpoint;
+	}
+
+	public Idempotency getIdempotency() {
+		return idempotency;
+	}
+
+	/**
+	 * 요청 경로의 유형 생성. 질의문자열은 제거되며, 관리번호 등 호출마다 달라지는
+	 * 경로 요소는 "*" 로 치환됩니다.
+	 * 
+	 * (ex. POST /Taxinvoice/SELL/20150101-01 ISSUE =&gt; POST /Taxinvoice/SELL/* ISSUE)
+	 * 
+	 * @param method
+	 *            HTTP method.
+	 * @param path
+	 *            path of request, relative to service URL.
+	 * @param Action
+	 *            X-HTTP-Method-Override. null if none.
+	 * @return endpoint
+	 */
+	public static String endpointOf(String method, String path, String Action) {
+		StringBuilder endpoint = new StringBuilder(64);
+		endpoint.append(method).append(' ');
+
+		int end = path.indexOf('?');
+		if (end < 0)
+			end = path.length();
+
+		int start = 0;
+		while (start < end) {
+			int slash = path.indexOf('/', start + 1);
+			if (slash < 0 || slash > end)
+				slash = end;
+
+			// 경로 요소 앞의 '/' 를 포함한 구간.
+			if (isLiteral(path, start + 1, slash))
+				endpoint.append(path, start, slash);
+			else
+				endpoint.append(path.charAt(start)).append('*');
+
+			start = slash;
+		}
+
+		if (endpoint.length() == method.length() + 1)
+			endpoint.append('/');
+
+		if (Action != null && Action.isEmpty() == false)
+			endpoint.append(' ').append(Action);
+
+		return endpoint.toString();
+	}
+
+	private static int queryStart(String path) {
+		int end = path.indexOf('?');
+		return end < 0 ? path.length() : end;
+	}
+
+	private static int nextSlash(String path, int start, int end) {
+		int slash = path.indexOf('/', start + 1);
+		return slash < 0 || slash > end ? end : slash;
+	}
+
+	/**
+	 * endpointOf() 가 같은 요청은 같은 값을 반환하는 hash. 문자열을 생성하지 않고
+	 * 계산합니다.
+	 */
+	static int endpointHash(String method, String path, String Action) {
+		int h = method.hashCode();
+		h = 31 * h + ' ';
+
+		int end = queryStart(path);
+		int start = 0;
+
+		if (end == 0)
+			h = 31 * h + '/';
+
+		while (start < end) {
+			int slash = nextSlash(path, start, end);
+
+			if (isLiteral(path, start + 1, slash)) {
+				for (int i = start; i < slash; i++)
+					h = 31 * h + path.charAt(i);
+			} else {
+				h = 31 * h + path.charAt(start);
+				h = 31 * h + '*';
+			}
+
+			start = slash;
+		}
+
+		if (Action != null && Action.isEmpty() == false) {
+			h = 31 * h + ' ';
+			h = 31 * h + Action.hashCode();
+		}
+
+		return h;
+	}
+
+	/**
+	 * 두 요청의 endpointOf() 가 같은지 확인. 문자열을 생성하지 않고 비교합니다.
+	 */
+	static boolean sameEndpoint(String method, String path, String Action,
+			String otherMethod, String otherPath, String otherAction) {
+		if (method.equals(otherMethod) == false)
+			return false;
+
+		boolean hasAction = Action != null && Action.isEmpty() == false;
+		boolean otherHasAction = otherAction != null
+				&& otherAction.isEmpty() == false;
+
+		if (hasAction != otherHasAction
+				|| (hasAction && Action.equals(otherAction) == false))
+			return false;
+
+		int end = queryStart(path), otherEnd = queryStart(otherPath);
+		int start = 0, otherStart = 0;
+
+		while (start < end && otherStart < otherEnd) {
+			int slash = nextSlash(path, start, end);
+			int otherSlash = nextSlash(otherPath, otherStart, otherEnd);
+
+			boolean literal = isLiteral(path, start + 1, slash);
+			if (literal != isLiteral(otherPath, otherStart + 1, otherSlash))
+				return false;
+
+			if (literal) {
+				if (slash - start != otherSlash - otherStart
+						|| path.regionMatches(start, otherPath, otherStart,
+								slash - start) == false)
+					return false;
+			} else if (path.charAt(start) != otherPath.charAt(otherStart)) {
+				return false;
+			}
+
+			start = slash;
+			otherStart = otherSlash;
+		}
+
+		// 경로가 없는 경우는 "/" 와 같습니다.
+		if (start < end)
+			return start == 0 && end - start == 1 && path.charAt(0) == '/'
+					&& otherEnd == 0;
+		if (otherStart < otherEnd)
+			return otherStart == 0 && otherEnd == 1
+					&& otherPath.charAt(0) == '/' && end == 0;
+
+		return true;
+	}
+
+	private static boolean isLiteral(String path, int start, int end) {
+		if (end - start > MAX_LITERAL_LENGTH)
+			return false;
+
+		for (int i = start; i < end; i++) {
+			char c = path.charAt(i);
+			if ((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z'))
+				continue;
+			return false;
+		}
+
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int h = service == null ? 0 : service.hashCode();
+		h = 31 * h + (endpoint == null ? 0 : endpoint.hashCode());
+		return 31 * h + idempotency.ordinal();
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj instanceof Operation == false)
+			return false;
+
+		Operation other = (Operation) obj;
+
+		return (service == null ? other.service == null : service
+				.equals(other.service))
+				&& (endpoint == null ? other.endpoint == null : endpoint
+						.equals(other.endpoint))
+				&& idempotency == other.idempotency;
+	}
+
+	@Override
+	public String toString() {
+		return service + " " + endpoint + " (" + idempotency + ")";
+	}
+}
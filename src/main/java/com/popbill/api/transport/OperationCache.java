@@ -0,0 +1,149 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 서비스별 Operation 보관소.
+ * 
+ * 호출마다 요청 경로를 정규화하고 Operation 을 생성하지 않도록, 같은 endpoint 의
+ * Operation 을 재사용합니다. 조회는 요청 경로를 정규화한 문자열을 만들지 않고
+ * 비교하므로 보관된 Operation 을 찾을 때는 객체를 생성하지 않습니다.
+ * 
+ * 관리번호 등이 경로 요소로 구분되지 않아 endpoint 가 계속 늘어나는 경우를 대비해
+ * 최대 MAX_ENDPOINTS 개까지만 보관합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public final class OperationCache {
+
+	static final int MAX_ENDPOINTS = 1024;
+
+	private static final ThreadLocal<Key> probes = new ThreadLocal<Key>() {
+		@Override
+		protected Key initialValue() {
+			return new Key();
+		}
+	};
+
+	/**
+	 * 요청의 (method, path, Action). endpointOf() 가 같으면 같은 Key 입니다.
+	 */
+	private static final class Key {
+		String method;
+		String path;
+		String action;
+		int hash;
+
+		Key set(String method, String path, String Action) {
+			this.method = method;
+			this.path = path;
+			this.action = Action;
+			this.hash = Operation.endpointHash(method, path, Action);
+			return this;
+		}
+
+		void clear() {
+			method = path = action = null;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj instanceof Key == false)
+				return false;
+
+			Key other = (Key) obj;
+			return hash == other.hash
+					&& Operation.sameEndpoint(method, path, action,
+							other.method, other.path, other.action);
+		}
+	}
+
+	private final String service;
+
+	// 멱등성별 Operation. 동시에 생성되어도 같은 값이므로 동기화하지 않습니다.
+	private final ConcurrentMap<Key, Operation[]> operations = new ConcurrentHashMap<Key, Operation[]>();
+
+	/**
+	 * @param service
+	 *            service name of operations.
+	 */
+	public OperationCache(String service) {
+		this.service = service;
+	}
+
+	public String getService() {
+		return service;
+	}
+
+	/**
+	 * 요청의 Operation.
+	 * 
+	 * @param method
+	 *            HTTP method.
+	 * @param path
+	 *            path of request, relative to service URL.
+	 * @param Action
+	 *            X-HTTP-Method-Override. null if none.
+	 * @param idempotency
+	 *            idempotency of request.
+	 * @return operation
+	 */
+	public Operation get(String method, String path, String Action,
+			Idempotency idempotency) {
+		Key probe = probes.get().set(method, path, Action);
+		Operation[] byIdempotency = operations.get(probe);
+		probe.clear();
+
+		if (byIdempotency == null) {
+			if (operations.size() >= MAX_ENDPOINTS)
+				return new Operation(service, Operation.endpointOf(method,
+						path, Action), idempotency);
+
+			byIdempotency = new Operation[Idempotency.values().length];
+			Operation[] existing = operations.putIfAbsent(
+					new Key().set(method, path, Action), byIdempotency);
+			if (existing != null)
+				byIdempotency = existing;
+		}
+
+		Operation operation = byIdempotency[idempotency.ordinal()];
+
+		if (operation == null) {
+			operation = new Operation(service, Operation.endpointOf(method,
+					path, Action), idempotency);
+			byIdempotency[idempotency.ordinal()] = operation;
+		}
+
+		return operation;
+	}
+
+	/**
+	 * @return number of cached endpoints.
+	 */
+	public int size() {
+		return operations.size();
+	}
+}
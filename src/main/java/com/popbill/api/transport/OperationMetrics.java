@@ -0,0 +1,177 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 유형(Operation)별 측정값. 시간은 microseconds 단위로 기록됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.InMemoryMetrics
+ */
+public class OperationMetrics {
+
+	// 1시간. (us)
+	private static final long MAX_MICROS = 60L * 60 * 1000 * 1000;
+
+	private final Operation operation;
+
+	private final Histogram token = new Histogram(MAX_MICROS);
+	private final Histogram connect = new Histogram(MAX_MICROS);
+	private final Histogram firstByte = new Histogram(MAX_MICROS);
+	private final Histogram total = new Histogram(MAX_MICROS);
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final AtomicLong requestBytes = new AtomicLong();
+	private final AtomicLong requestWireBytes = new AtomicLong();
+	private final AtomicLong responseBytes = new AtomicLong();
+	private final AtomicLong responseWireBytes = new AtomicLong();
+	private final AtomicLong errors = new AtomicLong();
+	private final ConcurrentMap<Long, AtomicLong> errorCodes = new ConcurrentHashMap<Long, AtomicLong>();
+
+	OperationMetrics(Operation operation) {
+		this.operation = operation;
+	}
+
+	public Operation getOperation() {
+		return operation;
+	}
+
+	/**
+	 * @return histogram of session token time.
+	 */
+	public Histogram getToken() {
+		return token;
+	}
+
+	/**
+	 * @return histogram of connect time of new connections.
+	 */
+	public Histogram getConnect() {
+		return connect;
+	}
+
+	/**
+	 * @return histogram of time to first byte.
+	 */
+	public Histogram getFirstByte() {
+		return firstByte;
+	}
+
+	/**
+	 * @return histogram of total time of calls.
+	 */
+	public Histogram getTotal() {
+		return total;
+	}
+
+	/**
+	 * @return calls in progress.
+	 */
+	public int getInFlight() {
+		return inFlight.get();
+	}
+
+	public long getRequestBytes() {
+		return requestBytes.get();
+	}
+
+	public long getRequestWireBytes() {
+		return requestWireBytes.get();
+	}
+
+	public long getResponseBytes() {
+		return responseBytes.get();
+	}
+
+	public long getResponseWireBytes() {
+		return responseWireBytes.get();
+	}
+
+	/**
+	 * @return count of failed calls.
+	 */
+	public long getErrorCount() {
+		return errors.get();
+	}
+
+	/**
+	 * 오류코드별 실패 횟수.
+	 * 
+	 * @return snapshot of counts by code of PopbillException.
+	 */
+	public Map<Long, Long> getErrorCodes() {
+		Map<Long, Long> snapshot = new TreeMap<Long, Long>();
+
+		for (Map.Entry<Long, AtomicLong> entry : errorCodes.entrySet())
+			snapshot.put(entry.getKey(), entry.getValue().get());
+
+		return snapshot;
+	}
+
+	void started() {
+		inFlight.incrementAndGet();
+	}
+
+	void completed(long nanos, long errorCode) {
+		inFlight.decrementAndGet();
+		total.record(nanos / 1000);
+
+		if (errorCode != 0) {
+			errors.incrementAndGet();
+
+			// 실패한 호출에서만 생성합니다.
+			AtomicLong counter = errorCodes.get(errorCode);
+			if (counter == null) {
+				counter = new AtomicLong();
+				AtomicLong previous = errorCodes.putIfAbsent(errorCode, counter);
+				if (previous != null)
+					counter = previous;
+			}
+			counter.incrementAndGet();
+		}
+	}
+
+	void bytes(long request, long requestWire, long response,
+			long responseWire) {
+		if (request > 0)
+			requestBytes.addAndGet(request);
+		if (requestWire > 0)
+			requestWireBytes.addAndGet(requestWire);
+		if (response > 0)
+			responseBytes.addAndGet(response);
+		if (responseWire > 0)
+			responseWireBytes.addAndGet(responseWire);
+	}
+
+	@Override
+	public String toString() {
+		return "OperationMetrics [" + operation.getService() + " "
+				+ operation.getEndpoint() + ", inFlight=" + getInFlight()
+				+ ", errors=" + getErrorCodes() + "]\n  token(us)     : "
+				+ token + "\n  connect(us)   : " + connect
+				+ "\n  firstByte(us) : " + firstByte + "\n  total(us)     : "
+				+ total + "\n  bytes         : request=" + getRequestBytes()
+				+ "/" + getRequestWireBytes() + ", response="
+				+ getResponseBytes() + "/" + getResponseWireBytes();
+	}
+}
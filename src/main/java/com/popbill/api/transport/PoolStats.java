@@ -0,0 +1,110 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * Connection pool statistics of PooledTransport.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.PooledTransport#getStats()
+ */
+public class PoolStats {
+
+	private final int maxConnections;
+	private final int leased;
+	private final int idle;
+	private final int pending;
+	private final long created;
+	private final long reused;
+	private final long evicted;
+	private final long discarded;
+
+	PoolStats(int maxConnections, int leased, int idle, int pending,
+			long created, long reused, long evicted, long discarded) {
+		this.maxConnections = maxConnections;
+		this.leased = leased;
+		this.idle = idle;
+		this.pending = pending;
+		this.created = created;
+		this.reused = reused;
+		this.evicted = evicted;
+		this.discarded = discarded;
+	}
+
+	/**
+	 * 최대 연결 수.
+	 */
+	public int getMaxConnections() {
+		return maxConnections;
+	}
+
+	/**
+	 * 사용중인 연결 수.
+	 */
+	public int getLeased() {
+		return leased;
+	}
+
+	/**
+	 * 유휴 연결 수.
+	 */
+	public int getIdle() {
+		return idle;
+	}
+
+	/**
+	 * 연결을 기다리고 있는 요청 수.
+	 */
+	public int getPending() {
+		return pending;
+	}
+
+	/**
+	 * 누적 생성 연결 수.
+	 */
+	public long getCreated() {
+		return created;
+	}
+
+	/**
+	 * 누적 재사용 횟수.
+	 */
+	public long getReused() {
+		return reused;
+	}
+
+	/**
+	 * 유휴시간 초과로 정리된 연결 수.
+	 */
+	public long getEvicted() {
+		return evicted;
+	}
+
+	/**
+	 * 오류 또는 서버 요청으로 재사용하지 않고 닫은 연결 수.
+	 */
+	public long getDiscarded() {
+		return discarded;
+	}
+
+	@Override
+	public String toString() {
+		return "PoolStats [max=" + maxConnections + ", leased=" + leased
+				+ ", idle=" + idle + ", pending=" + pending + ", created="
+				+ created + ", reused=" + reused + ", evicted=" + evicted
+				+ ", discarded=" + discarded + "]";
+	}
+}
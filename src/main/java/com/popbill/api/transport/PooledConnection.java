@@ -0,0 +1,493 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLPeerUnverifiedException;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+
+/**
+ * Keep-Alive HTTP/1.1 connection managed by PooledTransport.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+class PooledConnection {
+
+	private static final int MAX_LINE_LENGTH = 16384;
+	private static final String CRLF = "\r\n";
+
+	// Java 7 이상의 SSLParameters.setEndpointIdentificationAlgorithm(String)
+	private static final Method SET_ENDPOINT_IDENTIFICATION = getEndpointIdentificationMethod();
+
+	private final String route;
+	private final Socket socket;
+	// TLS 연결인 경우 하위 TCP 소켓. 강제 종료시 TLS 종료절차 없이 닫습니다.
+	private final Socket rawSocket;
+	private final InputStream input;
+	private final OutputStream output;
+
+	private int requestCount;
+	private long keepAliveTimeout = -1;
+	private long lastUsed;
+	private long expiry;
+
+	private PooledConnection(String route, Socket socket, Socket rawSocket)
+			throws IOException {
+		this.route = route;
+		this.socket = socket;
+		this.rawSocket = rawSocket;
+		this.input = new BufferedInputStream(socket.getInputStream(), 8192);
+		this.output = new BufferedOutputStream(socket.getOutputStream(), 8192);
+	}
+
+	/**
+	 * @param hostnameVerifier
+	 *            null to verify hostname by JSSE. (Java 7 or later)
+	 * @param connectTimeout
+	 *            connect timeout in milliseconds. 0 for infinite.
+	 * @param readTimeout
+	 *            socket read timeout in milliseconds, also applied to TLS
+	 *            handshake. 0 for infinite.
+	 */
+	static PooledConnection open(String route, URL url,
+			SSLSocketFactory sslSocketFactory, HostnameVerifier hostnameVerifier,
+			int connectTimeout, int readTimeout) throws IOException {
+
+		String host = getHost(url);
+		int port = url.getPort() != -1 ? url.getPort() : url.getDefaultPort();
+
+		Socket socket = new Socket();
+		Socket rawSocket = socket;
+
+		try {
+			socket.setTcpNoDelay(true);
+			socket.setKeepAlive(true);
+			socket.setSoTimeout(readTimeout);
+			socket.connect(new InetSocketAddress(host, port), connectTimeout);
+
+			if ("https".equalsIgnoreCase(url.getProtocol())) {
+				SSLSocket sslSocket = (SSLSocket) sslSocketFactory.createSocket(
+						socket, host, port, true);
+				socket = sslSocket;
+
+				// 호스트명은 JSSE 가 핸드셰이크 중에 확인합니다.
+				if (hostnameVerifier == null
+						&& enableEndpointIdentification(sslSocket) == false)
+					hostnameVerifier = HttpsURLConnection
+							.getDefaultHostnameVerifier();
+
+				sslSocket.startHandshake();
+
+				if (hostnameVerifier != null
+						&& !hostnameVerifier.verify(host, sslSocket.getSession()))
+					throw new SSLPeerUnverifiedException("Hostname " + host
+							+ " not verified.");
+			}
+
+			return new PooledConnection(route, socket, rawSocket);
+		} catch (IOException e) {
+			try {
+				rawSocket.close();
+			} catch (IOException ignore) {
+			}
+			throw e;
+		}
+	}
+
+	private static Method getEndpointIdentificationMethod() {
+		try {
+			return SSLParameters.class.getMethod(
+					"setEndpointIdentificationAlgorithm", String.class);
+		} catch (NoSuchMethodException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * 핸드셰이크에서 HTTPS(RFC 2818) 방식으로 호스트명을 확인하도록 설정.
+	 * 
+	 * @return false if not supported by runtime.
+	 */
+	private static boolean enableEndpointIdentification(SSLSocket sslSocket) {
+		if (SET_ENDPOINT_IDENTIFICATION == null)
+			return false;
+
+		SSLParameters parameters = sslSocket.getSSLParameters();
+
+		try {
+			SET_ENDPOINT_IDENTIFICATION.invoke(parameters, "HTTPS");
+		} catch (IllegalAccessException e) {
+			return false;
+		} catch (InvocationTargetException e) {
+			return false;
+		}
+
+		sslSocket.setSSLParameters(parameters);
+		return true;
+	}
+
+	String getRoute() {
+		return route;
+	}
+
+	int getRequestCount() {
+		return requestCount;
+	}
+
+	InputStream getInputStream() {
+		return input;
+	}
+
+	long getLastUsed() {
+		return lastUsed;
+	}
+
+	boolean isOpen() {
+		return !socket.isClosed() && !socket.isInputShutdown()
+				&& !socket.isOutputShutdown();
+	}
+
+	void markIdle(long now, long idleTimeout) {
+		lastUsed = now;
+
+		long timeout = idleTimeout;
+		if (keepAliveTimeout >= 0 && keepAliveTimeout < timeout)
+			timeout = keepAliveTimeout;
+
+		expiry = now + timeout;
+	}
+
+	boolean isExpired(long now) {
+		return now >= expiry;
+	}
+
+	/**
+	 * 유휴 상태에서 서버가 연결을 닫았는지 확인.
+	 */
+	boolean isStale() {
+		if (!isOpen())
+			return true;
+
+		try {
+			// 유휴 연결에 읽을 데이터가 남아있다면 응답 동기가 깨진 상태입니다.
+			if (input.available() > 0)
+				return true;
+
+			int timeout = socket.getSoTimeout();
+			try {
+				socket.setSoTimeout(1);
+				input.mark(1);
+				int read = input.read();
+				if (read != -1)
+					input.reset();
+				return true;
+			} catch (SocketTimeoutException e) {
+				return false;
+			} finally {
+				socket.setSoTimeout(timeout);
+			}
+		} catch (IOException e) {
+			return true;
+		}
+	}
+
+	void writeRequest(TransportRequest request, URL url) throws IOException {
+		RequestBody body = request.getBody();
+
+		String path = url.getFile();
+		if (path == null || path.length() == 0)
+			path = "/";
+
+		StringBuilder head = new StringBuilder(512);
+		head.append(request.getMethod()).append(' ').append(path)
+				.append(" HTTP/1.1").append(CRLF);
+		head.append("Host: ").append(url.getHost());
+		if (url.getPort() != -1 && url.getPort() != url.getDefaultPort())
+			head.append(':').append(url.getPort());
+		head.append(CRLF);
+
+		for (Map.Entry<String, String> header : request.getHeaders()
+				.entrySet()) {
+			String name = header.getKey();
+			if (name.equalsIgnoreCase("Host")
+					|| name.equalsIgnoreCase("Content-Length")
+					|| name.equalsIgnoreCase("Transfer-Encoding")
+					|| name.equalsIgnoreCase("Connection"))
+				continue;
+
+			head.append(name).append(": ").append(header.getValue())
+					.append(CRLF);
+		}
+
+		long contentLength = body == null ? 0 : body.getContentLength();
+
+		if (contentLength >= 0) {
+			if (body != null || !"GET".equals(request.getMethod()))
+				head.append("Content-Length: ").append(contentLength)
+						.append(CRLF);
+		} else {
+			head.append("Transfer-Encoding: chunked").append(CRLF);
+		}
+
+		head.append(CRLF);
+
+		requestCount++;
+
+		output.write(head.toString().getBytes("ISO-8859-1"));
+
+		if (body != null) {
+			if (contentLength >= 0) {
+				CountingOutputStream counter = new CountingOutputStream(output);
+				body.writeTo(counter);
+
+				if (counter.count != contentLength)
+					throw new IOException("Request body length mismatch. expected "
+							+ contentLength + " but was " + counter.count);
+			} else {
+				ChunkedOutputStream chunked = new ChunkedOutputStream(output);
+				CountingOutputStream counter = new CountingOutputStream(
+						new BufferedOutputStream(chunked, 8192));
+				body.writeTo(counter);
+				counter.flush();
+				chunked.finish();
+				contentLength = counter.count;
+			}
+		}
+
+		request.setBytesSent(contentLength);
+
+		// 이후로는 서버가 요청을 처리했을 수 있습니다.
+		request.markSent();
+
+		output.flush();
+	}
+
+	ResponseHead readResponseHead() throws IOException {
+		while (true) {
+			String statusLine = readLine(input);
+			if (statusLine == null)
+				throw new NoHttpResponseException(
+						"The server closed the connection without response.");
+
+			ResponseHead head = new ResponseHead();
+
+			int firstSpace = statusLine.indexOf(' ');
+			if (firstSpace == -1 || !statusLine.startsWith("HTTP/"))
+				throw new IOException("Invalid status line [" + statusLine + "]");
+
+			head.version = statusLine.substring(0, firstSpace);
+
+			int secondSpace = statusLine.indexOf(' ', firstSpace + 1);
+			String code = secondSpace == -1 ? statusLine
+					.substring(firstSpace + 1) : statusLine.substring(
+					firstSpace + 1, secondSpace);
+
+			try {
+				head.statusCode = Integer.parseInt(code.trim());
+			} catch (NumberFormatException e) {
+				throw new IOException("Invalid status line [" + statusLine + "]");
+			}
+
+			String line = readLine(input);
+			while (line != null && line.length() > 0) {
+				int colon = line.indexOf(':');
+				if (colon > 0) {
+					String name = line.substring(0, colon).trim();
+					String value = line.substring(colon + 1).trim();
+
+					String previous = head.headers.get(name);
+					head.headers.put(name, previous == null ? value : previous
+							+ ", " + value);
+				}
+				line = readLine(input);
+			}
+
+			if (line == null)
+				throw new IOException("Unexpected end of response headers.");
+
+			// 1xx 응답은 건너뜁니다.
+			if (head.statusCode >= 100 && head.statusCode < 200)
+				continue;
+
+			keepAliveTimeout = parseKeepAliveTimeout(head.headers
+					.get("Keep-Alive"));
+
+			return head;
+		}
+	}
+
+	void close() {
+		try {
+			socket.close();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * 다른 스레드에서 강제 종료. 진행중인 읽기, 쓰기는 SocketException 으로
+	 * 실패합니다.
+	 */
+	void abort() {
+		try {
+			rawSocket.close();
+		} catch (IOException e) {
+		}
+	}
+
+	/**
+	 * 소켓 읽기 제한시간 설정.
+	 * 
+	 * @param readTimeout
+	 *            in milliseconds. 0 for infinite.
+	 */
+	void setReadTimeout(int readTimeout) throws IOException {
+		if (socket.getSoTimeout() != readTimeout)
+			socket.setSoTimeout(readTimeout);
+	}
+
+	/**
+	 * CRLF(또는 LF) 로 끝나는 한 줄을 읽습니다. 읽기 전에 스트림이 끝난 경우 null 을 반환합니다.
+	 */
+	static String readLine(InputStream input) throws IOException {
+		ByteArrayOutputStream line = null;
+
+		while (true) {
+			int read = input.read();
+
+			if (read == -1) {
+				if (line == null)
+					return null;
+				throw new IOException("Unexpected end of stream.");
+			}
+
+			if (line == null)
+				line = new ByteArrayOutputStream(64);
+
+			if (read == '\n')
+				break;
+
+			if (line.size() >= MAX_LINE_LENGTH)
+				throw new IOException("HTTP line too long.");
+
+			line.write(read);
+		}
+
+		String result = line.toString("ISO-8859-1");
+		if (result.endsWith("\r"))
+			result = result.substring(0, result.length() - 1);
+
+		return result;
+	}
+
+	private static long parseKeepAliveTimeout(String keepAlive) {
+		if (keepAlive == null)
+			return -1;
+
+		for (String param : keepAlive.split(",")) {
+			String trimmed = param.trim();
+			if (trimmed.regionMatches(true, 0, "timeout=", 0, 8)) {
+				try {
+					return Long.parseLong(trimmed.substring(8).trim()) * 1000L;
+				} catch (NumberFormatException e) {
+					return -1;
+				}
+			}
+		}
+		return -1;
+	}
+
+	private static String getHost(URL url) {
+		String host = url.getHost();
+		if (host.startsWith("[") && host.endsWith("]"))
+			host = host.substring(1, host.length() - 1);
+		return host;
+	}
+
+	static class ResponseHead {
+		String version;
+		int statusCode;
+		Map<String, String> headers = new TreeMap<String, String>(
+				String.CASE_INSENSITIVE_ORDER);
+
+		boolean isKeepAlive() {
+			String connection = headers.get("Connection");
+
+			if ("HTTP/1.0".equals(version))
+				return connection != null
+						&& connection.toLowerCase().indexOf("keep-alive") != -1;
+
+			return connection == null
+					|| connection.toLowerCase().indexOf("close") == -1;
+		}
+	}
+
+	static class NoHttpResponseException extends IOException {
+		private static final long serialVersionUID = 1L;
+
+		NoHttpResponseException(String message) {
+			super(message);
+		}
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		private final OutputStream output;
+		private long count;
+
+		CountingOutputStream(OutputStream output) {
+			this.output = output;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			output.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			output.write(b, off, len);
+			count += len;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			output.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			output.flush();
+		}
+	}
+}
@@ -0,0 +1,736 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.ConnectException;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Future;
+
+import javax.net.ssl.HostnameVerifier;
+import javax.net.ssl.SSLSocketFactory;
+
+import com.popbill.api.transport.PooledConnection.NoHttpResponseException;
+import com.popbill.api.transport.PooledConnection.ResponseHead;
+
+/**
+ * Keep-Alive 연결을 재사용하는 기본 PopbillTransport 구현.
+ * 
+ * 호스트별로 유휴 연결을 보관하며, 전체 연결 수는 maxConnections 로 제한됩니다. 
+ * idleTimeout 을 초과한 유휴 연결은 정리됩니다.
+ * 
+ * 연결은 connectTimeout, 응답 대기는 readTimeout 으로 제한되며, 요청에 호출 기한이
+ * 지정된 경우 각 제한시간은 남은 기한을 넘지 않고 기한이 지나면 연결을 강제로 닫습니다.
+ * 취소된 요청(TransportRequest.cancel())의 연결도 강제로 닫으며 재사용하지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.PopbillTransport
+ */
+public class PooledTransport implements PopbillTransport {
+
+	public static final int DEFAULT_MAX_CONNECTIONS = 20;
+	public static final long DEFAULT_IDLE_TIMEOUT = 30000L;
+	public static final long DEFAULT_LEASE_TIMEOUT = 30000L;
+	public static final int DEFAULT_CONNECT_TIMEOUT = 10000;
+	public static final int DEFAULT_READ_TIMEOUT = 30000;
+
+	/** 응답 본문을 다 읽지 않고 닫은 경우, 연결 재사용을 위해 버릴 최대 크기 */
+	private static final int MAX_DRAIN_BYTES = 65536;
+
+	/** 재사용 전에 서버가 닫았는지 확인할 최소 유휴시간 */
+	private static final long STALE_CHECK_IDLE_TIME = 1000L;
+
+	private static PooledTransport defaultTransport;
+
+	private final Object lock = new Object();
+	private final Map<String, LinkedList<PooledConnection>> idleConnections = new HashMap<String, LinkedList<PooledConnection>>();
+
+	private int maxConnections;
+	private long idleTimeout;
+	private long leaseTimeout = DEFAULT_LEASE_TIMEOUT;
+	private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+	private int readTimeout = DEFAULT_READ_TIMEOUT;
+
+	private SSLSocketFactory sslSocketFactory;
+	private HostnameVerifier hostnameVerifier;
+
+	private int leased;
+	private int idle;
+	private int pending;
+	private long created;
+	private long reused;
+	private long evicted;
+	private long discarded;
+	private boolean shutdown;
+
+	public PooledTransport() {
+		this(DEFAULT_MAX_CONNECTIONS, DEFAULT_IDLE_TIMEOUT);
+	}
+
+	/**
+	 * @param maxConnections
+	 *            maximum number of connections.
+	 * @param idleTimeout
+	 *            idle connection timeout in milliseconds.
+	 */
+	public PooledTransport(int maxConnections, long idleTimeout) {
+		if (maxConnections < 1)
+			throw new IllegalArgumentException("maxConnections must be positive.");
+
+		this.maxConnections = maxConnections;
+		this.idleTimeout = idleTimeout;
+	}
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 Transport.
+	 * 
+	 * @return shared PooledTransport.
+	 */
+	public static synchronized PooledTransport getDefault() {
+		if (defaultTransport == null)
+			defaultTransport = new PooledTransport();
+
+		return defaultTransport;
+	}
+
+	public int getMaxConnections() {
+		synchronized (lock) {
+			return maxConnections;
+		}
+	}
+
+	/**
+	 * 최대 연결 수 설정. 기본값은 20.
+	 * 
+	 * @param maxConnections
+	 */
+	public void setMaxConnections(int maxConnections) {
+		if (maxConnections < 1)
+			throw new IllegalArgumentException("maxConnections must be positive.");
+
+		synchronized (lock) {
+			this.maxConnections = maxConnections;
+			lock.notifyAll();
+		}
+	}
+
+	public long getIdleTimeout() {
+		synchronized (lock) {
+			return idleTimeout;
+		}
+	}
+
+	/**
+	 * 유휴 연결 유지시간 설정(ms). 기본값은 30초. 서버가 Keep-Alive 헤더로 더 짧은
+	 * 시간을 알려주는 경우 서버 값을 따릅니다.
+	 * 
+	 * @param idleTimeout
+	 */
+	public void setIdleTimeout(long idleTimeout) {
+		synchronized (lock) {
+			this.idleTimeout = idleTimeout;
+		}
+	}
+
+	public long getLeaseTimeout() {
+		synchronized (lock) {
+			return leaseTimeout;
+		}
+	}
+
+	/**
+	 * 모든 연결이 사용중일때 대기할 최대시간 설정(ms). 기본값은 30초.
+	 * 
+	 * @param leaseTimeout
+	 */
+	public void setLeaseTimeout(long leaseTimeout) {
+		synchronized (lock) {
+			this.leaseTimeout = leaseTimeout;
+		}
+	}
+
+	public int getConnectTimeout() {
+		synchronized (lock) {
+			return connectTimeout;
+		}
+	}
+
+	/**
+	 * 연결 제한시간 설정(ms). 기본값은 10초. 0 은 무제한.
+	 * 
+	 * @param connectTimeout
+	 */
+	public void setConnectTimeout(int connectTimeout) {
+		if (connectTimeout < 0)
+			throw new IllegalArgumentException(
+					"connectTimeout must not be negative.");
+
+		synchronized (lock) {
+			this.connectTimeout = connectTimeout;
+		}
+	}
+
+	public int getReadTimeout() {
+		synchronized (lock) {
+			return readTimeout;
+		}
+	}
+
+	/**
+	 * 응답 대기 제한시간 설정(ms). 기본값은 30초. 0 은 무제한. 응답 헤더와 본문을
+	 * 읽는 동안 이 시간 이상 수신이 없으면 실패합니다.
+	 * 
+	 * @param readTimeout
+	 */
+	public void setReadTimeout(int readTimeout) {
+		if (readTimeout < 0)
+			throw new IllegalArgumentException(
+					"readTimeout must not be negative.");
+
+		synchronized (lock) {
+			this.readTimeout = readTimeout;
+		}
+	}
+
+	public synchronized SSLSocketFactory getSSLSocketFactory() {
+		if (sslSocketFactory == null)
+			sslSocketFactory = (SSLSocketFactory) SSLSocketFactory.getDefault();
+
+		return sslSocketFactory;
+	}
+
+	public synchronized void setSSLSocketFactory(SSLSocketFactory sslSocketFactory) {
+		this.sslSocketFactory = sslSocketFactory;
+	}
+
+	/**
+	 * @return HostnameVerifier set by setHostnameVerifier(). null if none.
+	 */
+	public synchronized HostnameVerifier getHostnameVerifier() {
+		return hostnameVerifier;
+	}
+
+	/**
+	 * 호스트명 확인 방식 설정. 기본값(null)은 Java 7 이상에서 JSSE 가 TLS 핸드셰이크
+	 * 중에 HTTPS 방식으로 확인하며, Java 6 에서는
+	 * HttpsURLConnection.getDefaultHostnameVerifier() 를 사용합니다.
+	 * 
+	 * @param hostnameVerifier
+	 *            null to use default.
+	 */
+	public synchronized void setHostnameVerifier(HostnameVerifier hostnameVerifier) {
+		this.hostnameVerifier = hostnameVerifier;
+	}
+
+	/**
+	 * 연결 풀 상태 확인.
+	 * 
+	 * @return snapshot of pool statistics.
+	 */
+	public PoolStats getStats() {
+		synchronized (lock) {
+			return new PoolStats(maxConnections, leased, idle, pending,
+					created, reused, evicted, discarded);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillTransport#execute(com.popbill.api.transport.TransportRequest)
+	 */
+	@Override
+	public TransportResponse execute(TransportRequest request)
+			throws IOException {
+
+		URL url = new URL(request.getUrl());
+		String protocol = url.getProtocol().toLowerCase();
+
+		if (!protocol.equals("http") && !protocol.equals("https"))
+			throw new IOException("Unsupported protocol [" + protocol + "]");
+
+		String route = protocol + "://" + url.getHost() + ":"
+				+ (url.getPort() != -1 ? url.getPort() : url.getDefaultPort());
+
+		RequestBody body = request.getBody();
+
+		for (int attempt = 0;; attempt++) {
+			if (request.isCancelled())
+				throw cancelled(null);
+
+			request.resetTimings();
+
+			final PooledConnection connection = lease(route, url, request);
+			boolean reusedConnection = connection.getRequestCount() > 0;
+
+			Future<?> abort = null;
+			ResponseHead head;
+
+			try {
+				request.setCancelAction(new Runnable() {
+					@Override
+					public void run() {
+						connection.abort();
+					}
+				});
+
+				if (request.hasDeadline())
+					abort = DeadlineTimer.abortAt(connection,
+							request.getDeadline());
+
+				connection.setReadTimeout(timeout(getReadTimeout(), request));
+
+				long sending = System.nanoTime();
+				connection.writeRequest(request, url);
+				head = connection.readResponseHead();
+				request.setFirstByteTime(System.nanoTime() - sending);
+			} catch (IOException e) {
+				DeadlineTimer.cancel(abort);
+				request.clearCancelAction();
+				release(connection, false);
+
+				if (request.isCancelled())
+					throw cancelled(e);
+
+				if (request.isExpired())
+					throw deadlineExceeded(e);
+
+				// 서버가 먼저 닫은 Keep-Alive 연결이었다면 새 연결로 한번 더 전송합니다.
+				// 이미 전송된 UNSAFE 요청은 서버가 처리했을 수 있으므로 다시 보내지
+				// 않고, 호출측에서 처리여부를 확인하도록 합니다.
+				if (reusedConnection && attempt == 0
+						&& (body == null || body.isRepeatable())
+						&& (request.isSent() == false || request
+								.getIdempotency() != Idempotency.UNSAFE)
+						&& (e instanceof NoHttpResponseException || e instanceof SocketException))
+					continue;
+
+				throw e;
+			}
+
+			return createResponse(connection, request, head, abort);
+		}
+	}
+
+	/**
+	 * 제한시간을 호출 기한까지 남은 시간 이내로 조정.
+	 */
+	private static int timeout(int timeout, TransportRequest request)
+			throws IOException {
+		if (request.hasDeadline() == false)
+			return timeout;
+
+		long remaining = request.getRemainingMillis();
+		if (remaining == 0)
+			throw deadlineExceeded(null);
+
+		if (timeout == 0 || remaining < timeout)
+			return (int) Math.min(remaining, Integer.MAX_VALUE);
+
+		return timeout;
+	}
+
+	private static SocketTimeoutException deadlineExceeded(IOException cause) {
+		SocketTimeoutException e = new SocketTimeoutException(
+				"Call deadline exceeded.");
+		if (cause != null)
+			e.initCause(cause);
+		return e;
+	}
+
+	private static InterruptedIOException cancelled(IOException cause) {
+		InterruptedIOException e = new InterruptedIOException(
+				"Request cancelled.");
+		if (cause != null)
+			e.initCause(cause);
+		return e;
+	}
+
+	/**
+	 * 유휴시간이 지난 연결 정리.
+	 */
+	public void evictIdleConnections() {
+		List<PooledConnection> expired = new ArrayList<PooledConnection>();
+
+		synchronized (lock) {
+			collectExpired(System.currentTimeMillis(), expired);
+		}
+
+		closeAll(expired);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see com.popbill.api.transport.PopbillTransport#shutdown()
+	 */
+	@Override
+	public void shutdown() {
+		List<PooledConnection> connections = new ArrayList<PooledConnection>();
+
+		synchronized (lock) {
+			shutdown = true;
+
+			for (LinkedList<PooledConnection> queue : idleConnections.values())
+				connections.addAll(queue);
+
+			idleConnections.clear();
+			idle = 0;
+			lock.notifyAll();
+		}
+
+		closeAll(connections);
+	}
+
+	private TransportResponse createResponse(PooledConnection connection,
+			TransportRequest request, ResponseHead head, Future<?> abort)
+			throws IOException {
+
+		InputStream input = connection.getInputStream();
+		InputStream content;
+		boolean keepAlive = head.isKeepAlive();
+
+		String transferEncoding = head.headers.get("Transfer-Encoding");
+		String contentLength = head.headers.get("Content-Length");
+
+		if ("HEAD".equals(request.getMethod()) || head.statusCode == 204
+				|| head.statusCode == 304) {
+			content = new FixedLengthInputStream(input, 0);
+		} else if (transferEncoding != null
+				&& transferEncoding.toLowerCase().indexOf("chunked") != -1) {
+			content = new ChunkedInputStream(input);
+		} else if (contentLength != null) {
+			try {
+				content = new FixedLengthInputStream(input,
+						Long.parseLong(contentLength.trim()));
+			} catch (NumberFormatException e) {
+				DeadlineTimer.cancel(abort);
+				request.clearCancelAction();
+				release(connection, false);
+				throw new IOException("Invalid Content-Length [" + contentLength + "]");
+			}
+		} else {
+			// 길이 정보가 없으면 연결이 닫힐때까지 읽습니다.
+			content = input;
+			keepAlive = false;
+		}
+
+		ResponseBody responseBody = new ResponseBody(connection, request,
+				content, keepAlive, abort);
+
+		return new TransportResponse(head.statusCode, head.headers,
+				responseBody);
+	}
+
+	private PooledConnection lease(String route, URL url,
+			TransportRequest request) throws IOException {
+		long deadline = System.currentTimeMillis()
+				+ Math.min(getLeaseTimeout(), request.getRemainingMillis());
+
+		while (true) {
+			PooledConnection connection = null;
+			List<PooledConnection> toClose = new ArrayList<PooledConnection>();
+
+			try {
+				synchronized (lock) {
+					pending++;
+
+					try {
+						while (true) {
+							if (shutdown)
+								throw new IOException("PooledTransport is shut down.");
+
+							long now = System.currentTimeMillis();
+							collectExpired(now, toClose);
+
+							LinkedList<PooledConnection> queue = idleConnections
+									.get(route);
+
+							if (queue != null && !queue.isEmpty()) {
+								connection = queue.removeFirst();
+								idle--;
+								leased++;
+								break;
+							}
+
+							if (leased + idle < maxConnections) {
+								leased++;
+								break;
+							}
+
+							if (idle > 0) {
+								// 다른 호스트의 가장 오래된 유휴 연결을 닫고 자리를 만듭니다.
+								toClose.add(removeOldestIdle());
+								evicted++;
+								leased++;
+								break;
+							}
+
+							long remaining = deadline - now;
+							if (remaining <= 0)
+								throw new ConnectException(
+										"Timeout waiting for connection from pool.");
+
+							try {
+								lock.wait(remaining);
+							} catch (InterruptedException e) {
+								Thread.currentThread().interrupt();
+								throw new InterruptedIOException(
+										"Interrupted while waiting for connection.");
+							}
+						}
+					} finally {
+						pending--;
+					}
+				}
+			} finally {
+				closeAll(toClose);
+			}
+
+			if (connection == null) {
+				long connecting = System.nanoTime();
+
+				try {
+					connection = PooledConnection.open(route, url,
+							getSSLSocketFactory(), getHostnameVerifier(),
+							timeout(getConnectTimeout(), request),
+							timeout(getReadTimeout(), request));
+				} catch (IOException e) {
+					synchronized (lock) {
+						leased--;
+						lock.notifyAll();
+					}
+					throw e;
+				}
+
+				synchronized (lock) {
+					created++;
+				}
+
+				request.setConnectTime(System.nanoTime() - connecting);
+				return connection;
+			}
+
+			// 확인에 소켓 읽기가 필요하므로 잠시 유휴였던 연결은 확인하지 않습니다.
+			// 그 사이 서버가 닫았다면 execute() 에서 새 연결로 다시 전송합니다.
+			long idleTime = System.currentTimeMillis()
+					- connection.getLastUsed();
+
+			if (connection.isOpen() == false
+					|| (idleTime >= STALE_CHECK_IDLE_TIME && connection.isStale())) {
+				release(connection, false);
+				continue;
+			}
+
+			synchronized (lock) {
+				reused++;
+			}
+
+			return connection;
+		}
+	}
+
+	private void release(PooledConnection connection, boolean reusable) {
+		boolean close = true;
+
+		synchronized (lock) {
+			leased--;
+
+			if (reusable && !shutdown && connection.isOpen()) {
+				connection.markIdle(System.currentTimeMillis(), idleTimeout);
+
+				LinkedList<PooledConnection> queue = idleConnections
+						.get(connection.getRoute());
+				if (queue == null) {
+					queue = new LinkedList<PooledConnection>();
+					idleConnections.put(connection.getRoute(), queue);
+				}
+
+				queue.addFirst(connection);
+				idle++;
+				close = false;
+			} else {
+				discarded++;
+			}
+
+			lock.notifyAll();
+		}
+
+		if (close)
+			connection.close();
+	}
+
+	private void collectExpired(long now, List<PooledConnection> expired) {
+		Iterator<LinkedList<PooledConnection>> queues = idleConnections
+				.values().iterator();
+
+		while (queues.hasNext()) {
+			LinkedList<PooledConnection> queue = queues.next();
+
+			// 오래된 연결이 뒤쪽에 있습니다.
+			while (!queue.isEmpty() && queue.getLast().isExpired(now)) {
+				expired.add(queue.removeLast());
+				idle--;
+				evicted++;
+			}
+
+			if (queue.isEmpty())
+				queues.remove();
+		}
+	}
+
+	private PooledConnection removeOldestIdle() {
+		LinkedList<PooledConnection> oldestQueue = null;
+
+		for (LinkedList<PooledConnection> queue : idleConnections.values()) {
+			if (queue.isEmpty())
+				continue;
+			if (oldestQueue == null
+					|| queue.getLast().getLastUsed() < oldestQueue.getLast()
+							.getLastUsed())
+				oldestQueue = queue;
+		}
+
+		PooledConnection oldest = oldestQueue.removeLast();
+		idle--;
+
+		if (oldestQueue.isEmpty())
+			idleConnections.remove(oldest.getRoute());
+
+		return oldest;
+	}
+
+	private static void closeAll(List<PooledConnection> connections) {
+		for (PooledConnection connection : connections)
+			connection.close();
+	}
+
+	/**
+	 * 본문을 끝까지 읽으면 연결을 풀에 반환하는 응답 스트림.
+	 */
+	private class ResponseBody extends InputStream {
+
+		private final PooledConnection connection;
+		private final TransportRequest request;
+		private final InputStream content;
+		private final boolean keepAlive;
+		private final Future<?> abort;
+		private boolean released;
+
+		ResponseBody(PooledConnection connection, TransportRequest request,
+				InputStream content, boolean keepAlive, Future<?> abort) {
+			this.connection = connection;
+			this.request = request;
+			this.content = content;
+			this.keepAlive = keepAlive;
+			this.abort = abort;
+		}
+
+		@Override
+		public int read() throws IOException {
+			if (released)
+				return -1;
+
+			try {
+				int read = content.read();
+				if (read == -1)
+					complete(keepAlive);
+				return read;
+			} catch (IOException e) {
+				complete(false);
+				throw e;
+			}
+		}
+
+		@Override
+		public int read(byte[] b, int off, int len) throws IOException {
+			if (released)
+				return -1;
+
+			try {
+				int read = content.read(b, off, len);
+				if (read == -1)
+					complete(keepAlive);
+				return read;
+			} catch (IOException e) {
+				complete(false);
+				throw e;
+			}
+		}
+
+		@Override
+		public int available() throws IOException {
+			if (released)
+				return 0;
+			return content.available();
+		}
+
+		@Override
+		public void close() {
+			if (released)
+				return;
+
+			if (!keepAlive) {
+				complete(false);
+				return;
+			}
+
+			// 남은 본문을 버리고 연결을 재사용합니다.
+			try {
+				byte[] buffer = new byte[4096];
+				int drained = 0;
+
+				while (drained < MAX_DRAIN_BYTES) {
+					int read = content.read(buffer);
+					if (read == -1) {
+						complete(true);
+						return;
+					}
+					drained += read;
+				}
+			} catch (IOException e) {
+			}
+
+			complete(false);
+		}
+
+		private void complete(boolean reusable) {
+			if (released)
+				return;
+
+			released = true;
+
+			// 강제 종료가 이미 실행된 연결은 재사용하지 않습니다.
+			if (DeadlineTimer.cancel(abort) == false)
+				reusable = false;
+
+			if (request.clearCancelAction() == false)
+				reusable = false;
+
+			release(connection, reusable);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+/**
+ * Popbill API 호출 측정 Interface.
+ * 
+ * BaseServiceImp 가 호출마다 요청 유형(Operation)별로 측정값을 전달합니다. 호출 1건은
+ * callStarted() 로 시작하여 callCompleted() 로 끝나며, 그 사이에 토큰 발급과 각
+ * 전송 시도의 측정값이 전달됩니다. 모든 시간은 nanoseconds 단위입니다.
+ * 
+ * 호출 스레드에서 바로 실행되므로 구현체는 스레드 안전해야 하며, 대기하거나 객체를
+ * 생성하지 않도록 작성해야 합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.InMemoryMetrics
+ */
+public interface PopbillMetrics {
+
+	/**
+	 * 측정하지 않는 구현.
+	 */
+	public static final PopbillMetrics NONE = new PopbillMetrics() {
+
+		@Override
+		public void callStarted(Operation operation) {
+		}
+
+		@Override
+		public void tokenIssued(Operation operation, long nanos) {
+		}
+
+		@Override
+		public void connected(Operation operation, long nanos) {
+		}
+
+		@Override
+		public void firstByteReceived(Operation operation, long nanos) {
+		}
+
+		@Override
+		public void bytesTransferred(Operation operation, long requestBytes,
+				long requestWireBytes, long responseBytes,
+				long responseWireBytes) {
+		}
+
+		@Override
+		public void callCompleted(Operation operation, long nanos,
+				long errorCode) {
+		}
+	};
+
+	/**
+	 * 호출 시작. 진행중인 호출 수에 더합니다.
+	 * 
+	 * @param operation
+	 */
+	public abstract void callStarted(Operation operation);
+
+	/**
+	 * 세션 토큰 확인 시간. 보관중인 토큰을 사용한 경우도 포함합니다.
+	 * 
+	 * @param operation
+	 * @param nanos
+	 */
+	public abstract void tokenIssued(Operation operation, long nanos);
+
+	/**
+	 * 새 연결의 연결 시간. 연결을 재사용한 시도는 전달되지 않습니다.
+	 * 
+	 * @param operation
+	 * @param nanos
+	 */
+	public abstract void connected(Operation operation, long nanos);
+
+	/**
+	 * 요청 전송 시작부터 응답 헤더 수신까지의 시간.
+	 * 
+	 * @param operation
+	 * @param nanos
+	 */
+	public abstract void firstByteReceived(Operation operation, long nanos);
+
+	/**
+	 * 전송 시도 1건의 송수신 크기. 압축된 경우 wire 크기는 압축된 크기이며, 측정하지
+	 * 못한 값은 -1 입니다.
+	 * 
+	 * @param operation
+	 * @param requestBytes
+	 *            request body before compression.
+	 * @param requestWireBytes
+	 *            request body on the wire.
+	 * @param responseBytes
+	 *            response body after decompression.
+	 * @param responseWireBytes
+	 *            response body on the wire.
+	 */
+	public abstract void bytesTransferred(Operation operation,
+			long requestBytes, long requestWireBytes, long responseBytes,
+			long responseWireBytes);
+
+	/**
+	 * 호출 종료. 토큰 발급, 재시도 대기를 포함한 전체 시간이며, 진행중인 호출 수에서
+	 * 뺍니다.
+	 * 
+	 * @param operation
+	 * @param nanos
+	 *            total time of call.
+	 * @param errorCode
+	 *            code of PopbillException. 0 if succeeded.
+	 */
+	public abstract void callCompleted(Operation operation, long nanos,
+			long errorCode);
+}
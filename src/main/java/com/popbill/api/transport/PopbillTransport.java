@@ -0,0 +1,53 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+
+/**
+ * Popbill HTTP Transport Interface.
+ *
+ * 팝빌 API 서버와의 HTTP 통신을 담당합니다. BaseServiceImp 의 모든 API 호출은
+ * 이 인터페이스를 통해 전송됩니다.
+ *
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.PooledTransport
+ */
+public interface PopbillTransport {
+
+	/**
+	 * HTTP 요청 전송.
+	 *
+	 * 반환된 응답의 본문을 모두 읽거나 close() 를 호출해야 연결이 반환됩니다.
+	 * 요청 본문까지 모두 기록한 후에는 request.markSent() 를 호출해야 하며, 그
+	 * 이전에 발생한 오류는 서버가 처리하지 않은 것으로 간주되어 재시도됩니다.
+	 * 요청이 취소될 수 있도록 연결을 얻은 후 request.setCancelAction() 으로 전송을
+	 * 중단하는 방법을 등록하는 것을 권장합니다. 연결, 첫 응답 시간과 전송 크기를
+	 * request 에 기록하면 PopbillMetrics 에 집계됩니다.
+	 *
+	 * @param request
+	 *            Request to send.
+	 * @return Response of server. must be closed after use.
+	 * @throws IOException
+	 */
+	public abstract TransportResponse execute(TransportRequest request)
+			throws IOException;
+
+	/**
+	 * Transport 종료. 유지중인 모든 연결을 닫습니다.
+	 */
+	public abstract void shutdown();
+}
@@ -0,0 +1,459 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 호출 속도 제한.
+ * 
+ * 전체, 서비스별, 회원(CorpNum)별, 요청 유형(endpoint)별 토큰 버킷을 둘 수 있으며,
+ * 호출은 해당하는 모든 버킷의 허가를 받아야 진행됩니다. 재시도도 각각 허가를
+ * 받습니다. 기본적으로 제한이 없으며, 속도를 지정한 버킷만 적용됩니다.
+ * 
+ * 허가가 부족한 경우 최대 maxWait 동안 대기하며(blocking), maxWait 가 0 이면
+ * 대기하지 않고 즉시 거절합니다(try).
+ * 
+ * 설정을 변경하면 기존 버킷은 초기화됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class RateLimiter {
+
+	/** 기본 최대 대기시간. (ms) */
+	public static final long DEFAULT_MAX_WAIT = 30 * 1000;
+
+	// 유휴 회원 버킷 정리 기준.
+	private static final int CORPNUM_SWEEP_THRESHOLD = 10000;
+
+	private static final RateLimiter defaultLimiter = new RateLimiter();
+
+	private static final class Limit {
+		final double rate;
+		final int burst;
+
+		Limit(double rate, int burst) {
+			if (rate < 0)
+				throw new IllegalArgumentException("rate must not be negative.");
+			if (rate > 0 && burst < 1)
+				throw new IllegalArgumentException("burst must be positive.");
+
+			this.rate = rate;
+			this.burst = burst;
+		}
+	}
+
+	private static final Limit NO_LIMIT = new Limit(0, 0);
+
+	// 제한이 없는 경우의 표시.
+	private static final TokenBucket UNLIMITED = new TokenBucket("UNLIMITED", 1, 1);
+
+	private volatile long maxWait = DEFAULT_MAX_WAIT;
+	private volatile boolean enabled;
+
+	private volatile Limit globalLimit = NO_LIMIT;
+	private volatile Limit defaultServiceLimit = NO_LIMIT;
+	private volatile Limit defaultCorpNumLimit = NO_LIMIT;
+	private volatile Limit defaultEndpointLimit = NO_LIMIT;
+	private final ConcurrentMap<String, Limit> serviceLimits = new ConcurrentHashMap<String, Limit>();
+	private final ConcurrentMap<String, Limit> corpNumLimits = new ConcurrentHashMap<String, Limit>();
+	private final ConcurrentMap<String, Limit> endpointLimits = new ConcurrentHashMap<String, Limit>();
+
+	private volatile TokenBucket globalBucket = UNLIMITED;
+	private final ConcurrentMap<String, TokenBucket> serviceBuckets = new ConcurrentHashMap<String, TokenBucket>();
+	private final ConcurrentMap<String, TokenBucket> corpNumBuckets = new ConcurrentHashMap<String, TokenBucket>();
+	private final ConcurrentMap<String, ConcurrentMap<String, TokenBucket>> endpointBuckets = new ConcurrentHashMap<String, ConcurrentMap<String, TokenBucket>>();
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 제한. 설정하지 않으면 제한이 없습니다.
+	 * 
+	 * @return default RateLimiter.
+	 */
+	public static RateLimiter getDefault() {
+		return defaultLimiter;
+	}
+
+	public long getMaxWait() {
+		return maxWait;
+	}
+
+	/**
+	 * 허가 대기시간 설정. 0 인 경우 대기하지 않고 즉시 거절합니다.
+	 * 
+	 * @param maxWait
+	 *            time to wait for permits in milliseconds.
+	 */
+	public void setMaxWait(long maxWait) {
+		if (maxWait < 0)
+			throw new IllegalArgumentException("maxWait must not be negative.");
+
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * 전체 호출 속도 설정.
+	 * 
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setGlobalRate(double permitsPerSecond, int burst) {
+		globalLimit = new Limit(permitsPerSecond, burst);
+		globalBucket = newBucket("*", globalLimit);
+		updateEnabled();
+	}
+
+	/**
+	 * 서비스별 기본 호출 속도 설정.
+	 * 
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setDefaultServiceRate(double permitsPerSecond,
+			int burst) {
+		defaultServiceLimit = new Limit(permitsPerSecond, burst);
+		serviceBuckets.clear();
+		updateEnabled();
+	}
+
+	/**
+	 * 서비스의 호출 속도 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Message)
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setServiceRate(String service,
+			double permitsPerSecond, int burst) {
+		serviceLimits.put(service, new Limit(permitsPerSecond, burst));
+		serviceBuckets.remove(service);
+		updateEnabled();
+	}
+
+	/**
+	 * 회원별 기본 호출 속도 설정.
+	 * 
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setDefaultCorpNumRate(double permitsPerSecond,
+			int burst) {
+		defaultCorpNumLimit = new Limit(permitsPerSecond, burst);
+		corpNumBuckets.clear();
+		updateEnabled();
+	}
+
+	/**
+	 * 회원의 호출 속도 설정.
+	 * 
+	 * @param CorpNum
+	 *            member's corporation number.
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setCorpNumRate(String CorpNum,
+			double permitsPerSecond, int burst) {
+		corpNumLimits.put(CorpNum, new Limit(permitsPerSecond, burst));
+		corpNumBuckets.remove(CorpNum);
+		updateEnabled();
+	}
+
+	/**
+	 * 요청 유형별 기본 호출 속도 설정.
+	 * 
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setDefaultEndpointRate(double permitsPerSecond,
+			int burst) {
+		defaultEndpointLimit = new Limit(permitsPerSecond, burst);
+		endpointBuckets.clear();
+		updateEnabled();
+	}
+
+	/**
+	 * 요청 유형의 호출 속도 설정.
+	 * 
+	 * @param service
+	 *            service name. (ex. Taxinvoice)
+	 * @param endpoint
+	 *            endpoint. (ex. POST /Taxinvoice/SELL)
+	 * @param permitsPerSecond
+	 *            calls per second. 0 for unlimited.
+	 * @param burst
+	 *            calls allowed at once.
+	 */
+	public synchronized void setEndpointRate(String service, String endpoint,
+			double permitsPerSecond, int burst) {
+		endpointLimits.put(service + " " + endpoint, new Limit(
+				permitsPerSecond, burst));
+		endpointBuckets.clear();
+		updateEnabled();
+	}
+
+	/**
+	 * 대기하지 않고 허가 요청.
+	 * 
+	 * @param operation
+	 *            operation to call.
+	 * @param CorpNum
+	 *            member's corporation number. null if none.
+	 * @return false if any bucket has no permit now.
+	 */
+	public boolean tryAcquire(Operation operation, String CorpNum) {
+		return reserve(operation, CorpNum, 0) == 0;
+	}
+
+	/**
+	 * 허가를 받을 때까지 최대 timeout 동안 대기.
+	 * 
+	 * @param operation
+	 *            operation to call.
+	 * @param CorpNum
+	 *            member's corporation number. null if none.
+	 * @param timeout
+	 * @param unit
+	 * @return false if permits are not available within timeout.
+	 * @throws InterruptedException
+	 */
+	public boolean acquire(Operation operation, String CorpNum, long timeout,
+			TimeUnit unit) throws InterruptedException {
+		long wait = reserve(operation, CorpNum, unit.toNanos(timeout));
+
+		if (wait < 0)
+			return false;
+
+		if (wait > 0)
+			TimeUnit.NANOSECONDS.sleep(wait);
+
+		return true;
+	}
+
+	/**
+	 * 허가를 받을 때까지 최대 maxWait 동안 대기. maxWait 가 0 이면 tryAcquire() 와
+	 * 같습니다.
+	 * 
+	 * @param operation
+	 *            operation to call.
+	 * @param CorpNum
+	 *            member's corporation number. null if none.
+	 * @return false if permits are not available within maxWait.
+	 * @throws InterruptedException
+	 */
+	public boolean acquire(Operation operation, String CorpNum)
+			throws InterruptedException {
+		if (enabled == false)
+			return true;
+
+		return acquire(operation, CorpNum, maxWait, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 생성된 버킷 목록.
+	 * 
+	 * @return buckets by name.
+	 */
+	public Map<String, TokenBucket> getBuckets() {
+		Map<String, TokenBucket> result = new TreeMap<String, TokenBucket>();
+
+		add(result, globalBucket);
+
+		for (TokenBucket bucket : serviceBuckets.values())
+			add(result, bucket);
+
+		for (TokenBucket bucket : corpNumBuckets.values())
+			add(result, bucket);
+
+		for (ConcurrentMap<String, TokenBucket> buckets : endpointBuckets
+				.values()) {
+			for (TokenBucket bucket : buckets.values())
+				add(result, bucket);
+		}
+
+		return result;
+	}
+
+	private static void add(Map<String, TokenBucket> result, TokenBucket bucket) {
+		if (bucket != UNLIMITED)
+			result.put(bucket.getName(), bucket);
+	}
+
+	private long reserve(Operation operation, String CorpNum, long maxWaitNanos) {
+		if (enabled == false)
+			return 0;
+
+		TokenBucket global = globalBucket;
+		TokenBucket service = serviceBucket(operation.getService());
+		TokenBucket corpNum = CorpNum == null || CorpNum.isEmpty() ? UNLIMITED
+				: corpNumBucket(CorpNum);
+		TokenBucket endpoint = endpointBucket(operation);
+
+		long wait = 0;
+
+		long w = reserve(global, maxWaitNanos);
+		if (w < 0)
+			return -1;
+		wait = Math.max(wait, w);
+
+		w = reserve(service, maxWaitNanos);
+		if (w < 0) {
+			refund(global);
+			return -1;
+		}
+		wait = Math.max(wait, w);
+
+		w = reserve(corpNum, maxWaitNanos);
+		if (w < 0) {
+			refund(global);
+			refund(service);
+			return -1;
+		}
+		wait = Math.max(wait, w);
+
+		w = reserve(endpoint, maxWaitNanos);
+		if (w < 0) {
+			refund(global);
+			refund(service);
+			refund(corpNum);
+			return -1;
+		}
+
+		return Math.max(wait, w);
+	}
+
+	private static long reserve(TokenBucket bucket, long maxWaitNanos) {
+		return bucket == UNLIMITED ? 0 : bucket.reserve(maxWaitNanos);
+	}
+
+	private static void refund(TokenBucket bucket) {
+		if (bucket != UNLIMITED)
+			bucket.refund();
+	}
+
+	private TokenBucket serviceBucket(String service) {
+		TokenBucket bucket = serviceBuckets.get(service);
+
+		if (bucket == null) {
+			Limit limit = serviceLimits.get(service);
+			bucket = newBucket(service, limit == null ? defaultServiceLimit
+					: limit);
+
+			TokenBucket prev = serviceBuckets.putIfAbsent(service, bucket);
+			if (prev != null)
+				bucket = prev;
+		}
+
+		return bucket;
+	}
+
+	private TokenBucket corpNumBucket(String CorpNum) {
+		TokenBucket bucket = corpNumBuckets.get(CorpNum);
+
+		if (bucket == null) {
+			Limit limit = corpNumLimits.get(CorpNum);
+			bucket = newBucket(CorpNum, limit == null ? defaultCorpNumLimit
+					: limit);
+
+			if (corpNumBuckets.size() >= CORPNUM_SWEEP_THRESHOLD)
+				sweepCorpNumBuckets();
+
+			TokenBucket prev = corpNumBuckets.putIfAbsent(CorpNum, bucket);
+			if (prev != null)
+				bucket = prev;
+		}
+
+		return bucket;
+	}
+
+	// 가득 찬 버킷은 최근 사용되지 않았으므로 다시 생성해도 결과가 같습니다.
+	private void sweepCorpNumBuckets() {
+		Iterator<TokenBucket> it = corpNumBuckets.values().iterator();
+
+		while (it.hasNext()) {
+			TokenBucket bucket = it.next();
+			if (bucket == UNLIMITED || bucket.isFull())
+				it.remove();
+		}
+	}
+
+	private TokenBucket endpointBucket(Operation operation) {
+		ConcurrentMap<String, TokenBucket> buckets = endpointBuckets
+				.get(operation.getService());
+
+		if (buckets == null) {
+			buckets = new ConcurrentHashMap<String, TokenBucket>();
+			ConcurrentMap<String, TokenBucket> prev = endpointBuckets
+					.putIfAbsent(operation.getService(), buckets);
+			if (prev != null)
+				buckets = prev;
+		}
+
+		TokenBucket bucket = buckets.get(operation.getEndpoint());
+
+		if (bucket == null) {
+			String name = operation.getService() + " "
+					+ operation.getEndpoint();
+			Limit limit = endpointLimits.get(name);
+			bucket = newBucket(name, limit == null ? defaultEndpointLimit
+					: limit);
+
+			TokenBucket prev = buckets.putIfAbsent(operation.getEndpoint(),
+					bucket);
+			if (prev != null)
+				bucket = prev;
+		}
+
+		return bucket;
+	}
+
+	private static TokenBucket newBucket(String name, Limit limit) {
+		return limit.rate == 0 ? UNLIMITED : new TokenBucket(name, limit.rate,
+				limit.burst);
+	}
+
+	private void updateEnabled() {
+		boolean limited = globalLimit.rate > 0
+				|| defaultServiceLimit.rate > 0
+				|| defaultCorpNumLimit.rate > 0
+				|| defaultEndpointLimit.rate > 0;
+
+		for (Limit limit : serviceLimits.values())
+			limited |= limit.rate > 0;
+		for (Limit limit : corpNumLimits.values())
+			limited |= limit.rate > 0;
+		for (Limit limit : endpointLimits.values())
+			limited |= limit.rate > 0;
+
+		this.enabled = limited;
+	}
+}
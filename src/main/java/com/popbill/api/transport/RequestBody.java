@@ -0,0 +1,79 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * HTTP Request Body.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public abstract class RequestBody {
+
+	/**
+	 * 본문 길이. 알 수 없는 경우 -1 을 반환하며, 이때 chunked 방식으로 전송됩니다.
+	 * 
+	 * @return length of body in bytes, or -1.
+	 */
+	public abstract long getContentLength();
+
+	/**
+	 * 재전송 가능여부. 
+	 * 
+	 * @return true if writeTo() can be called more than once.
+	 */
+	public boolean isRepeatable() {
+		return false;
+	}
+
+	/**
+	 * 본문을 출력 스트림에 기록.
+	 * 
+	 * @param output
+	 *            Output stream of connection.
+	 * @throws IOException
+	 */
+	public abstract void writeTo(OutputStream output) throws IOException;
+
+	/**
+	 * byte 배열 본문 생성.
+	 * 
+	 * @param data
+	 *            body data.
+	 * @return RequestBody
+	 */
+	public static RequestBody create(final byte[] data) {
+		return new RequestBody() {
+
+			@Override
+			public long getContentLength() {
+				return data.length;
+			}
+
+			@Override
+			public boolean isRepeatable() {
+				return true;
+			}
+
+			@Override
+			public void writeTo(OutputStream output) throws IOException {
+				output.write(data);
+			}
+		};
+	}
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 재시도 예산. 요청마다 ratio 만큼 적립되고 재시도마다 1 씩 차감되므로, 장애가
+ * 지속되어도 재시도는 전체 요청의 ratio 비율을 넘지 않습니다. 적립은 reserve 까지만
+ * 가능하며, 처음에는 reserve 만큼 채워진 상태로 시작합니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class RetryBudget {
+
+	/** 기본 재시도 비율. (요청의 20%) */
+	public static final double DEFAULT_RATIO = 0.2;
+	/** 기본 최대 적립 재시도 횟수. */
+	public static final int DEFAULT_RESERVE = 10;
+
+	private static final long UNIT = 1000;
+
+	private final double ratio;
+	private final long deposit;
+	private final long capacity;
+	private final AtomicLong balance;
+
+	public RetryBudget() {
+		this(DEFAULT_RATIO, DEFAULT_RESERVE);
+	}
+
+	/**
+	 * @param ratio
+	 *            retries allowed per request. (0.0 ~ 1.0)
+	 * @param reserve
+	 *            maximum retries that can be saved up.
+	 */
+	public RetryBudget(double ratio, int reserve) {
+		if (ratio < 0 || ratio > 1)
+			throw new IllegalArgumentException("ratio must be in 0.0 ~ 1.0");
+		if (reserve < 0)
+			throw new IllegalArgumentException("reserve must not be negative.");
+
+		this.ratio = ratio;
+		this.deposit = (long) (ratio * UNIT);
+		this.capacity = Math.max(reserve * UNIT, UNIT);
+		this.balance = new AtomicLong(reserve * UNIT);
+	}
+
+	public double getRatio() {
+		return ratio;
+	}
+
+	/**
+	 * 요청 1건에 대한 적립.
+	 */
+	public void deposit() {
+		if (deposit == 0)
+			return;
+
+		for (;;) {
+			long current = balance.get();
+
+			// 가득 찬 상태에서는 쓰지 않습니다.
+			if (current >= capacity)
+				return;
+
+			long next = Math.min(current + deposit, capacity);
+			if (balance.compareAndSet(current, next))
+				return;
+		}
+	}
+
+	/**
+	 * 재시도 1회 차감.
+	 * 
+	 * @return false if budget is exhausted.
+	 */
+	public boolean tryWithdraw() {
+		for (;;) {
+			long current = balance.get();
+
+			if (current < UNIT)
+				return false;
+
+			if (balance.compareAndSet(current, current - UNIT))
+				return true;
+		}
+	}
+
+	/**
+	 * 현재 가능한 재시도 횟수.
+	 * 
+	 * @return available retries.
+	 */
+	public double getBalance() {
+		return (double) balance.get() / UNIT;
+	}
+}
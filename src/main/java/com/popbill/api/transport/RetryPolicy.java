@@ -0,0 +1,254 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 전송 실패시 재시도 정책.
+ * 
+ * 재시도 간격은 지수적으로 증가하며(initialBackoff * 2^n, 최대 maxBackoff), 동시에
+ * 실패한 요청들이 함께 재시도하지 않도록 0 ~ 간격 사이의 임의값을 사용합니다.
+ * 재시도 횟수는 RetryBudget 으로 제한됩니다.
+ * 
+ * 재시도 대상은 응답을 받지 못한 경우와 429, 502, 503, 504 응답입니다. 서버의 오류
+ * 응답(오류코드)은 재시도하지 않습니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class RetryPolicy {
+
+	/** 기본 최대 시도횟수. (최초 요청 포함) */
+	public static final int DEFAULT_MAX_ATTEMPTS = 3;
+	/** 기본 최초 재시도 간격. (ms) */
+	public static final long DEFAULT_INITIAL_BACKOFF = 100;
+	/** 기본 최대 재시도 간격. (ms) */
+	public static final long DEFAULT_MAX_BACKOFF = 1000;
+
+	private static final RetryPolicy defaultPolicy = new RetryPolicy();
+
+	private static final Random random = new Random();
+
+	private volatile int maxAttempts;
+	private volatile long initialBackoff;
+	private volatile long maxBackoff;
+	private final RetryBudget budget;
+
+	private final AtomicLong retryCount = new AtomicLong();
+	private final AtomicLong exhaustedCount = new AtomicLong();
+
+	/**
+	 * 서비스 객체들이 공유하는 기본 정책.
+	 * 
+	 * @return default RetryPolicy.
+	 */
+	public static RetryPolicy getDefault() {
+		return defaultPolicy;
+	}
+
+	/**
+	 * 재시도하지 않는 정책 생성.
+	 * 
+	 * @return RetryPolicy without retry.
+	 */
+	public static RetryPolicy none() {
+		return new RetryPolicy(1, 0, 0, new RetryBudget(0, 0));
+	}
+
+	public RetryPolicy() {
+		this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF,
+				DEFAULT_MAX_BACKOFF, new RetryBudget());
+	}
+
+	/**
+	 * @param maxAttempts
+	 *            maximum attempts including first one.
+	 * @param initialBackoff
+	 *            backoff before first retry in milliseconds.
+	 * @param maxBackoff
+	 *            upper bound of backoff in milliseconds.
+	 * @param budget
+	 *            RetryBudget shared by requests under this policy.
+	 */
+	public RetryPolicy(int maxAttempts, long initialBackoff, long maxBackoff,
+			RetryBudget budget) {
+		if (budget == null)
+			throw new IllegalArgumentException("budget is null.");
+
+		setMaxAttempts(maxAttempts);
+		setBackoff(initialBackoff, maxBackoff);
+		this.budget = budget;
+	}
+
+	public int getMaxAttempts() {
+		return maxAttempts;
+	}
+
+	/**
+	 * 최대 시도횟수 설정. 1 인 경우 재시도하지 않습니다.
+	 * 
+	 * @param maxAttempts
+	 *            maximum attempts including first one.
+	 */
+	public void setMaxAttempts(int maxAttempts) {
+		if (maxAttempts < 1)
+			throw new IllegalArgumentException("maxAttempts must be positive.");
+
+		this.maxAttempts = maxAttempts;
+	}
+
+	public long getInitialBackoff() {
+		return initialBackoff;
+	}
+
+	public long getMaxBackoff() {
+		return maxBackoff;
+	}
+
+	/**
+	 * 재시도 간격 설정.
+	 * 
+	 * @param initialBackoff
+	 *            backoff before first retry in milliseconds.
+	 * @param maxBackoff
+	 *            upper bound of backoff in milliseconds.
+	 */
+	public void setBackoff(long initialBackoff, long maxBackoff) {
+		if (initialBackoff < 0 || maxBackoff < initialBackoff)
+			throw new IllegalArgumentException(
+					"0 <= initialBackoff <= maxBackoff required.");
+
+		this.initialBackoff = initialBackoff;
+		this.maxBackoff = maxBackoff;
+	}
+
+	public RetryBudget getBudget() {
+		return budget;
+	}
+
+	/**
+	 * n 번째 재시도 전 대기시간. (full jitter)
+	 * 
+	 * @param retry
+	 *            1 for first retry.
+	 * @return backoff in milliseconds.
+	 */
+	public long getBackoff(int retry) {
+		long initial = this.initialBackoff;
+		long max = this.maxBackoff;
+
+		if (max == 0)
+			return 0;
+		if (retry < 1)
+			retry = 1;
+
+		long ceiling = max;
+		if (retry - 1 < 31 && initial << (retry - 1) < max)
+			ceiling = initial << (retry - 1);
+
+		if (ceiling <= 0)
+			return 0;
+
+		return (long) (random.nextDouble() * (ceiling + 1));
+	}
+
+	/**
+	 * 재시도 대상 오류 여부.
+	 * 
+	 * @param cause
+	 *            cause of failure.
+	 * @return true if failure is transient.
+	 */
+	public boolean isRetryable(Throwable cause) {
+		if (cause instanceof HttpStatusException)
+			return isRetryableStatus(((HttpStatusException) cause)
+					.getStatusCode());
+
+		return cause instanceof IOException;
+	}
+
+	/**
+	 * 재시도 대상 응답코드 여부.
+	 * 
+	 * @param statusCode
+	 *            HTTP status code.
+	 * @return true for 429, 502, 503, 504.
+	 */
+	public boolean isRetryableStatus(int statusCode) {
+		return statusCode == 429 || statusCode == 502 || statusCode == 503
+				|| statusCode == 504;
+	}
+
+	/**
+	 * 서버가 요청을 처리하지 않았음이 확실한 오류인지 여부. 요청 제한(429)과
+	 * 서비스 불가(503) 응답은 처리 전에 거절된 것으로 간주합니다.
+	 * 
+	 * @param cause
+	 *            cause of failure.
+	 * @return true if request was rejected without processing.
+	 */
+	public boolean isRejected(Throwable cause) {
+		if (cause instanceof HttpStatusException) {
+			int statusCode = ((HttpStatusException) cause).getStatusCode();
+			return statusCode == 429 || statusCode == 503;
+		}
+
+		return false;
+	}
+
+	/**
+	 * 재시도 1회 허가 요청. 예산이 소진된 경우 false 를 반환합니다.
+	 * 
+	 * @return true if retry is allowed.
+	 */
+	public boolean acquireRetry() {
+		if (budget.tryWithdraw()) {
+			retryCount.incrementAndGet();
+			return true;
+		}
+
+		exhaustedCount.incrementAndGet();
+		return false;
+	}
+
+	/**
+	 * 재시도 횟수.
+	 * 
+	 * @return count of retries.
+	 */
+	public long getRetryCount() {
+		return retryCount.get();
+	}
+
+	/**
+	 * 예산 소진으로 재시도하지 못한 횟수.
+	 * 
+	 * @return count of retries denied by budget.
+	 */
+	public long getExhaustedCount() {
+		return exhaustedCount.get();
+	}
+
+	@Override
+	public String toString() {
+		return "RetryPolicy [maxAttempts=" + maxAttempts + ", backoff="
+				+ initialBackoff + "~" + maxBackoff + "ms, budget="
+				+ budget.getBalance() + ", retries=" + getRetryCount()
+				+ ", exhausted=" + getExhaustedCount() + "]";
+	}
+}
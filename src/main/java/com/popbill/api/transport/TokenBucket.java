@@ -0,0 +1,180 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 버킷. 초당 rate 개의 허가가 채워지며 최대 burst 개까지 모아둘 수 있습니다.
+ * 
+ * 허가가 부족한 경우 다음 허가를 미리 예약하고 그 시점까지 대기하므로, 대기중인
+ * 호출들은 요청한 순서대로 rate 간격에 맞춰 진행됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ * @see com.popbill.api.transport.RateLimiter
+ */
+public class TokenBucket {
+
+	private static final long NANOS_PER_SECOND = 1000000000L;
+
+	private final String name;
+	private final double rate;
+	private final int burst;
+
+	private double tokens;
+	private long refilledAt;
+
+	private long rejectedCount;
+
+	/**
+	 * @param name
+	 *            name of bucket.
+	 * @param permitsPerSecond
+	 *            refill rate.
+	 * @param burst
+	 *            maximum permits that can be saved up.
+	 */
+	public TokenBucket(String name, double permitsPerSecond, int burst) {
+		if (permitsPerSecond <= 0)
+			throw new IllegalArgumentException(
+					"permitsPerSecond must be positive.");
+		if (burst < 1)
+			throw new IllegalArgumentException("burst must be positive.");
+
+		this.name = name;
+		this.rate = permitsPerSecond;
+		this.burst = burst;
+		this.tokens = burst;
+		this.refilledAt = System.nanoTime();
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public double getRate() {
+		return rate;
+	}
+
+	public int getBurst() {
+		return burst;
+	}
+
+	/**
+	 * 대기하지 않고 허가 요청.
+	 * 
+	 * @return false if no permit is available now.
+	 */
+	public boolean tryAcquire() {
+		return reserve(0) == 0;
+	}
+
+	/**
+	 * 허가를 받을 때까지 최대 timeout 동안 대기.
+	 * 
+	 * @param timeout
+	 * @param unit
+	 * @return false if permit is not available within timeout.
+	 * @throws InterruptedException
+	 */
+	public boolean acquire(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		long wait = reserve(unit.toNanos(timeout));
+
+		if (wait < 0)
+			return false;
+
+		if (wait > 0)
+			TimeUnit.NANOSECONDS.sleep(wait);
+
+		return true;
+	}
+
+	/**
+	 * 허가 예약. 허가가 부족하면 다음 허가를 미리 차감합니다.
+	 * 
+	 * @param maxWaitNanos
+	 *            maximum time to wait for permit.
+	 * @return nanoseconds to wait before proceeding, or -1 if wait exceeds
+	 *         maxWaitNanos.
+	 */
+	synchronized long reserve(long maxWaitNanos) {
+		refill();
+
+		if (tokens >= 1) {
+			tokens -= 1;
+			return 0;
+		}
+
+		long wait = (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / rate);
+
+		if (wait > maxWaitNanos) {
+			rejectedCount++;
+			return -1;
+		}
+
+		tokens -= 1;
+		return wait;
+	}
+
+	/**
+	 * 사용하지 않은 예약 반환.
+	 */
+	synchronized void refund() {
+		tokens = Math.min(tokens + 1, burst);
+	}
+
+	/**
+	 * 현재 사용 가능한 허가 수. 예약된 대기가 있으면 음수입니다.
+	 * 
+	 * @return available permits.
+	 */
+	public synchronized double getAvailable() {
+		refill();
+		return tokens;
+	}
+
+	/**
+	 * 허가를 받지 못해 거절된 횟수.
+	 * 
+	 * @return count of rejections.
+	 */
+	public synchronized long getRejectedCount() {
+		return rejectedCount;
+	}
+
+	synchronized boolean isFull() {
+		refill();
+		return tokens >= burst;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		long elapsed = now - refilledAt;
+
+		if (elapsed > 0) {
+			tokens = Math.min(burst, tokens + elapsed * rate / NANOS_PER_SECOND);
+			refilledAt = now;
+		}
+	}
+
+	@Override
+	public synchronized String toString() {
+		return "TokenBucket [" + name + ", rate=" + rate + "/s, burst="
+				+ burst + ", available=" + getAvailable() + ", rejected="
+				+ rejectedCount + "]";
+	}
+}
@@ -0,0 +1,349 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * HTTP Request for PopbillTransport.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class TransportRequest {
+
+	private final String method;
+	private final String url;
+	private final Map<String, String> headers = new LinkedHashMap<String, String>();
+	private RequestBody body;
+	private Idempotency idempotency;
+	private volatile boolean sent;
+	private boolean hasDeadline;
+	private long deadline;
+	private boolean cancelled;
+	private Runnable cancelAction;
+	private long connectTime = -1;
+	private long firstByteTime = -1;
+	private long bytesSent = -1;
+	private volatile Object tag;
+	private volatile Runnable sentCallback;
+
+	/**
+	 * @param method
+	 *            HTTP method. (ex. GET, POST)
+	 * @param url
+	 *            absolute URL of request.
+	 */
+	public TransportRequest(String method, String url) {
+		this.method = method;
+		this.url = url;
+	}
+
+	/**
+	 * 같은 요청의 복사본 생성. 전송 및 취소 상태는 복사되지 않으며, 본문은
+	 * 공유되므로 재전송 가능한 본문이어야 합니다.
+	 * 
+	 * @return copy of this request.
+	 */
+	public TransportRequest copy() {
+		TransportRequest copy = new TransportRequest(method, url);
+		copy.headers.putAll(headers);
+		copy.body = body;
+		copy.idempotency = idempotency;
+		copy.hasDeadline = hasDeadline;
+		copy.deadline = deadline;
+		copy.tag = tag;
+		copy.sentCallback = sentCallback;
+		return copy;
+	}
+
+	public String getMethod() {
+		return method;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	/**
+	 * 요청 헤더 설정. 같은 이름의 헤더는 덮어씁니다.
+	 * 
+	 * @param name
+	 * @param value
+	 */
+	public void setHeader(String name, String value) {
+		removeHeader(name);
+		headers.put(name, value);
+	}
+
+	public void removeHeader(String name) {
+		for (String key : headers.keySet()) {
+			if (key.equalsIgnoreCase(name)) {
+				headers.remove(key);
+				break;
+			}
+		}
+	}
+
+	public String getHeader(String name) {
+		for (Map.Entry<String, String> entry : headers.entrySet()) {
+			if (entry.getKey().equalsIgnoreCase(name))
+				return entry.getValue();
+		}
+		return null;
+	}
+
+	public Map<String, String> getHeaders() {
+		return Collections.unmodifiableMap(headers);
+	}
+
+	public RequestBody getBody() {
+		return body;
+	}
+
+	public void setBody(RequestBody body) {
+		this.body = body;
+	}
+
+	/**
+	 * 요청의 멱등성 분류. 지정하지 않으면 GET 은 SAFE, 그 외는 UNSAFE 로
+	 * 분류됩니다. PopbillTransport 구현체는 전송된 UNSAFE 요청을 다시 전송하지
+	 * 않아야 합니다.
+	 * 
+	 * @return idempotency of request.
+	 */
+	public Idempotency getIdempotency() {
+		if (idempotency != null)
+			return idempotency;
+
+		return "GET".equals(method) ? Idempotency.SAFE : Idempotency.UNSAFE;
+	}
+
+	public void setIdempotency(Idempotency idempotency) {
+		this.idempotency = idempotency;
+	}
+
+	/**
+	 * 호출 기한 설정. 기한이 지나면 진행중인 연결을 강제로 닫습니다.
+	 * 
+	 * @param deadline
+	 *            deadline in System.nanoTime().
+	 */
+	public void setDeadline(long deadline) {
+		this.deadline = deadline;
+		this.hasDeadline = true;
+	}
+
+	public boolean hasDeadline() {
+		return hasDeadline;
+	}
+
+	/**
+	 * @return deadline in System.nanoTime(). meaningless if hasDeadline() is
+	 *         false.
+	 */
+	public long getDeadline() {
+		return deadline;
+	}
+
+	/**
+	 * 기한까지 남은 시간.
+	 * 
+	 * @return remaining milliseconds. Long.MAX_VALUE if no deadline, 0 if
+	 *         expired.
+	 */
+	public long getRemainingMillis() {
+		if (hasDeadline == false)
+			return Long.MAX_VALUE;
+
+		long remaining = deadline - System.nanoTime();
+		if (remaining <= 0)
+			return 0;
+
+		// 1ms 미만이 남은 경우에도 0 이 되지 않도록 올림.
+		return (remaining + 999999) / 1000000;
+	}
+
+	/**
+	 * 기한 경과여부.
+	 * 
+	 * @return true if deadline has passed.
+	 */
+	public boolean isExpired() {
+		return hasDeadline && deadline - System.nanoTime() <= 0;
+	}
+
+	/**
+	 * 전송여부 확인. 요청 본문까지 모두 기록된 이후에는 서버가 요청을 처리했을 수
+	 * 있으므로, 응답을 받지 못했더라도 재시도 전에 처리여부를 확인해야 합니다. 한번
+	 * 전송된 요청은 다시 false 가 되지 않습니다.
+	 * 
+	 * @return true if request may have reached the server.
+	 */
+	public boolean isSent() {
+		return sent;
+	}
+
+	/**
+	 * 전송 완료 표시. PopbillTransport 구현체는 요청 본문까지 모두 기록한 후
+	 * 호출해야 합니다.
+	 */
+	public void markSent() {
+		this.sent = true;
+
+		Runnable callback = sentCallback;
+		if (callback != null)
+			callback.run();
+	}
+
+	/**
+	 * 전송 완료시 실행할 동작 설정. markSent() 가 호출될 때마다 실행됩니다.
+	 * 
+	 * @param callback
+	 *            null to clear.
+	 */
+	public void setSentCallback(Runnable callback) {
+		this.sentCallback = callback;
+	}
+
+	/**
+	 * 요청에 연결된 객체. 서비스 객체는 Listener 가 등록된 경우 PopbillCall 을
+	 * 연결하므로, 직접 구현한 PopbillTransport 에서 호출 정보를 확인할 수 있습니다.
+	 * 
+	 * @return tag, or null.
+	 */
+	public Object getTag() {
+		return tag;
+	}
+
+	public void setTag(Object tag) {
+		this.tag = tag;
+	}
+
+	/**
+	 * 측정값 초기화. PopbillTransport 구현체가 전송을 시작할 때 호출합니다.
+	 */
+	public void resetTimings() {
+		connectTime = -1;
+		firstByteTime = -1;
+		bytesSent = -1;
+	}
+
+	/**
+	 * 연결 시간 기록. 새로 연결한 경우에만 기록합니다.
+	 * 
+	 * @param nanos
+	 *            time to connect in nanoseconds.
+	 */
+	public void setConnectTime(long nanos) {
+		this.connectTime = nanos;
+	}
+
+	/**
+	 * @return time to connect in nanoseconds. -1 if connection was reused or
+	 *         not measured.
+	 */
+	public long getConnectTime() {
+		return connectTime;
+	}
+
+	/**
+	 * 첫 응답 시간 기록. 요청 전송 시작부터 응답 헤더 수신까지의 시간입니다.
+	 * 
+	 * @param nanos
+	 *            time to first byte in nanoseconds.
+	 */
+	public void setFirstByteTime(long nanos) {
+		this.firstByteTime = nanos;
+	}
+
+	/**
+	 * @return time to first byte in nanoseconds. -1 if not measured.
+	 */
+	public long getFirstByteTime() {
+		return firstByteTime;
+	}
+
+	/**
+	 * 전송한 본문 크기 기록.
+	 * 
+	 * @param bytes
+	 *            bytes of body written to connection.
+	 */
+	public void setBytesSent(long bytes) {
+		this.bytesSent = bytes;
+	}
+
+	/**
+	 * @return bytes of body written to connection. -1 if not measured.
+	 */
+	public long getBytesSent() {
+		return bytesSent;
+	}
+
+	/**
+	 * 요청 취소. 진행중인 전송은 등록된 취소 동작으로 중단되며, 이후의 전송은
+	 * 시작되지 않습니다.
+	 */
+	public void cancel() {
+		Runnable action;
+
+		synchronized (this) {
+			if (cancelled)
+				return;
+
+			cancelled = true;
+			action = cancelAction;
+			cancelAction = null;
+		}
+
+		if (action != null)
+			action.run();
+	}
+
+	public synchronized boolean isCancelled() {
+		return cancelled;
+	}
+
+	/**
+	 * 진행중인 전송을 중단하는 동작 등록. PopbillTransport 구현체가 연결을 얻은 후
+	 * 호출하며, 이미 취소된 요청이면 즉시 실행합니다.
+	 * 
+	 * @param action
+	 *            action to abort transfer. (ex. close socket)
+	 */
+	public void setCancelAction(Runnable action) {
+		synchronized (this) {
+			if (cancelled == false) {
+				cancelAction = action;
+				return;
+			}
+		}
+
+		action.run();
+	}
+
+	/**
+	 * 등록된 취소 동작 해제. 전송이 끝난 연결을 재사용하기 전에 호출합니다.
+	 * 
+	 * @return false if request was cancelled and action may have run.
+	 */
+	public synchronized boolean clearCancelAction() {
+		cancelAction = null;
+		return cancelled == false;
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License").
+ * You may not use this file except in compliance with the License.
+ * A copy of the License is located at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0.txt
+ *
+ * or in the "license" file accompanying this file. This file is distributed
+ * on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either
+ * express or implied. See the License for the specific language governing
+ * permissions and limitations under the License.
+ */
+package com.popbill.api.transport;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * HTTP Response of PopbillTransport.
+ * 
+ * 본문 스트림을 끝까지 읽거나 close() 를 호출해야 연결이 반환됩니다.
+ * 
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class TransportResponse implements Closeable {
+
+	private final int statusCode;
+	private final Map<String, String> headers;
+	private final InputStream body;
+
+	/**
+	 * @param statusCode
+	 *            HTTP status code.
+	 * @param headers
+	 *            response headers.
+	 * @param body
+	 *            response body stream.
+	 */
+	public TransportResponse(int statusCode, Map<String, String> headers,
+			InputStream body) {
+		this.statusCode = statusCode;
+		this.headers = new TreeMap<String, String>(
+				String.CASE_INSENSITIVE_ORDER);
+		this.headers.putAll(headers);
+		this.body = body;
+	}
+
+	public int getStatusCode() {
+		return statusCode;
+	}
+
+	public String getHeader(String name) {
+		return headers.get(name);
+	}
+
+	public Map<String, String> getHeaders() {
+		return Collections.unmodifiableMap(headers);
+	}
+
+	public String getContentEncoding() {
+		return headers.get("Content-Encoding");
+	}
+
+	public InputStream getBody() {
+		return body;
+	}
+
+	@Override
+	public void close() {
+		try {
+			body.close();
+		} catch (IOException e) {
+		}
+	}
+}
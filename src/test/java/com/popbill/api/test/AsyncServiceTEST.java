@@ -0,0 +1,289 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Collections;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+
+import com.popbill.api.AsyncCashbillService;
+import com.popbill.api.AsyncTaxinvoiceService;
+import com.popbill.api.PopbillCallback;
+import com.popbill.api.PopbillException;
+import com.popbill.api.PopbillFuture;
+import com.popbill.api.cashbill.AsyncCashbillServiceImp;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.taxinvoice.AsyncTaxinvoiceServiceImp;
+import com.popbill.api.taxinvoice.TaxinvoiceServiceImp;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class AsyncServiceTEST {
+
+	/** 단가 조회에 응답하고, block 이면 요청이 취소될 때까지 대기하는 Transport. */
+	private static class FakeTransport implements PopbillTransport {
+		final CountDownLatch started = new CountDownLatch(1);
+		final CountDownLatch aborted = new CountDownLatch(1);
+		volatile boolean block;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			if (block) {
+				request.setCancelAction(new Runnable() {
+					@Override
+					public void run() {
+						aborted.countDown();
+					}
+				});
+				started.countDown();
+
+				// 인터럽트로는 중단되지 않는 소켓 읽기처럼 대기합니다.
+				while (true) {
+					try {
+						if (aborted.await(10, TimeUnit.SECONDS))
+							throw new InterruptedIOException("Request cancelled.");
+					} catch (InterruptedException e) {
+						// 무시
+					}
+				}
+			}
+
+			request.markSent();
+
+			return new TransportResponse(200,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream("{\"unitCost\":\"4.5\"}"
+							.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private static AsyncCashbillService asyncCashbillService(
+			FakeTransport transport, ThreadPoolExecutor executor) {
+		CashbillServiceImp service = new CashbillServiceImp();
+
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+
+		return new AsyncCashbillServiceImp(service, executor);
+	}
+
+	/** 같은 조회는 진행중인 요청에 합류하므로, 다음 시험 전에 요청을 모두 끝냅니다. */
+	private static void shutdown(ThreadPoolExecutor executor)
+			throws InterruptedException {
+		executor.shutdownNow();
+		assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+	}
+
+	private static ThreadPoolExecutor executor(int threads, int queueCapacity) {
+		return new ThreadPoolExecutor(threads, threads, 0L,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(
+						queueCapacity));
+	}
+
+	private final String testLinkID = "TESTER";
+	private final String testSecretKey = "SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=";
+
+	private AsyncTaxinvoiceService asyncTaxinvoiceService;
+
+	public AsyncServiceTEST() {
+		TaxinvoiceServiceImp service = new TaxinvoiceServiceImp();
+
+		service.setLinkID(testLinkID);
+		service.setSecretKey(testSecretKey);
+		service.setTest(true);
+
+		asyncTaxinvoiceService = new AsyncTaxinvoiceServiceImp(service);
+	}
+
+	@Test
+	public void getResult_Failure_TEST() {
+		PopbillFuture<Boolean> future = asyncTaxinvoiceService
+				.checkMgtKeyInUse("1231212312", null, "20150101-01");
+
+		try {
+			future.getResult(10, TimeUnit.SECONDS);
+			assertTrue("PopbillException expected", false);
+		} catch (PopbillException e) {
+			assertEquals(-99999999, e.getCode());
+			System.out.println(e.getMessage());
+		}
+	}
+
+	@Test
+	public void addCallback_TEST() throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(1);
+		final AtomicReference<PopbillException> failure = new AtomicReference<PopbillException>();
+
+		PopbillFuture<Boolean> future = asyncTaxinvoiceService
+				.checkMgtKeyInUse("1231212312", null, "20150101-01");
+
+		future.addCallback(new PopbillCallback<Boolean>() {
+			@Override
+			public void onSuccess(Boolean result) {
+				latch.countDown();
+			}
+
+			@Override
+			public void onFailure(PopbillException exception) {
+				failure.set(exception);
+				latch.countDown();
+			}
+		});
+
+		assertTrue(latch.await(10, TimeUnit.SECONDS));
+		assertEquals(-99999999, failure.get().getCode());
+	}
+
+	@Test
+	public void getResult_Success_TEST() throws Exception {
+		ThreadPoolExecutor executor = executor(1, 1);
+
+		try {
+			PopbillFuture<Float> future = asyncCashbillService(
+					new FakeTransport(), executor).getUnitCost(null);
+
+			assertEquals(4.5f, future.getResult(10, TimeUnit.SECONDS), 0.0f);
+			assertTrue(future.isDone());
+		} finally {
+			shutdown(executor);
+		}
+	}
+
+	@Test
+	public void addCallback_Success_TEST() throws InterruptedException {
+		ThreadPoolExecutor executor = executor(1, 1);
+		final AtomicReference<Float> result = new AtomicReference<Float>();
+		final AtomicReference<CountDownLatch> latch = new AtomicReference<CountDownLatch>(
+				new CountDownLatch(1));
+
+		PopbillCallback<Float> callback = new PopbillCallback<Float>() {
+			@Override
+			public void onSuccess(Float unitCost) {
+				result.set(unitCost);
+				latch.get().countDown();
+			}
+
+			@Override
+			public void onFailure(PopbillException exception) {
+			}
+		};
+
+		try {
+			PopbillFuture<Float> future = asyncCashbillService(
+					new FakeTransport(), executor).getUnitCost(null);
+
+			future.addCallback(callback);
+			assertTrue(latch.get().await(10, TimeUnit.SECONDS));
+			assertEquals(4.5f, result.get(), 0.0f);
+
+			// 처리가 끝난 뒤 등록한 콜백은 즉시 호출.
+			latch.set(new CountDownLatch(1));
+			future.addCallback(callback);
+			assertEquals(0, latch.get().getCount());
+		} finally {
+			shutdown(executor);
+		}
+	}
+
+	@Test
+	public void cancel_TEST() throws InterruptedException {
+		ThreadPoolExecutor executor = executor(1, 1);
+		FakeTransport transport = new FakeTransport();
+		transport.block = true;
+
+		try {
+			PopbillFuture<Float> future = asyncCashbillService(transport,
+					executor).getUnitCost(null);
+
+			assertTrue(transport.started.await(10, TimeUnit.SECONDS));
+			assertTrue(future.cancel(true));
+
+			// 진행중인 요청의 연결을 닫음.
+			assertTrue(transport.aborted.await(10, TimeUnit.SECONDS));
+			assertTrue(future.isCancelled());
+
+			try {
+				future.getResult();
+				assertTrue("PopbillException expected", false);
+			} catch (PopbillException e) {
+				assertEquals(-99999999, e.getCode());
+			}
+		} finally {
+			shutdown(executor);
+		}
+	}
+
+	@Test
+	public void cancelWithoutInterrupt_TEST() throws Exception {
+		ThreadPoolExecutor executor = executor(1, 1);
+		FakeTransport transport = new FakeTransport();
+		transport.block = true;
+
+		try {
+			PopbillFuture<Float> future = asyncCashbillService(transport,
+					executor).getUnitCost(null);
+
+			assertTrue(transport.started.await(10, TimeUnit.SECONDS));
+			assertTrue(future.cancel(false));
+
+			// 진행중인 요청은 중단하지 않음.
+			assertFalse(transport.aborted.await(200, TimeUnit.MILLISECONDS));
+		} finally {
+			transport.aborted.countDown();
+			shutdown(executor);
+		}
+	}
+
+	@Test
+	public void queueFull_TEST() throws InterruptedException {
+		ThreadPoolExecutor executor = executor(1, 1);
+		FakeTransport transport = new FakeTransport();
+		transport.block = true;
+
+		try {
+			AsyncCashbillService service = asyncCashbillService(transport,
+					executor);
+
+			PopbillFuture<Float> running = service.getUnitCost(null);
+			assertTrue(transport.started.await(10, TimeUnit.SECONDS));
+
+			PopbillFuture<Float> queued = service.getUnitCost(null);
+			PopbillFuture<Float> rejected = service.getUnitCost(null);
+
+			assertTrue(rejected.isDone());
+			assertFalse(queued.isDone());
+
+			try {
+				rejected.getResult();
+				assertTrue("PopbillException expected", false);
+			} catch (PopbillException e) {
+				assertEquals(PopbillException.BULKHEAD_FULL, e.getCode());
+			}
+
+			running.cancel(true);
+			queued.cancel(true);
+		} finally {
+			shutdown(executor);
+		}
+	}
+}
@@ -0,0 +1,181 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.PopbillCall;
+import com.popbill.api.PopbillCallAdapter;
+import com.popbill.api.PopbillCallListener;
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryBudget;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class CallListenerTEST {
+
+	/** 실패 횟수만큼 전송 후 실패한 다음 응답하는 Transport. */
+	private static class FlakyTransport implements PopbillTransport {
+		final LinkedList<Integer> statusCodes = new LinkedList<Integer>();
+		final List<TransportRequest> requests = new ArrayList<TransportRequest>();
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			requests.add(request);
+			request.markSent();
+
+			int statusCode = statusCodes.isEmpty() ? 200 : statusCodes
+					.removeFirst();
+			if (statusCode < 0)
+				throw new IOException("Connection reset");
+
+			String body = statusCode == 200 ? "{\"itemKey\":\"0123\"}"
+					: "{\"code\":-14000001,\"message\":\"error\"}";
+
+			return new TransportResponse(statusCode,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(body.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	/** 알림을 기록하는 Listener. */
+	private static class RecordingListener implements PopbillCallListener {
+		final List<String> events = new ArrayList<String>();
+		final List<String> ids = new ArrayList<String>();
+
+		private void add(PopbillCall call, String event) {
+			events.add(event);
+			if (ids.contains(call.getId()) == false)
+				ids.add(call.getId());
+		}
+
+		@Override
+		public void onStart(PopbillCall call) {
+			call.getRequest().setHeader("X-Trace-ID", call.getId());
+			add(call, "start");
+		}
+
+		@Override
+		public void onTokenAcquired(PopbillCall call) {
+			add(call, "token");
+		}
+
+		@Override
+		public void onRequestSent(PopbillCall call) {
+			add(call, "sent#" + call.getAttempt());
+		}
+
+		@Override
+		public void onResponseHeaders(PopbillCall call, int statusCode) {
+			add(call, "headers:" + statusCode);
+		}
+
+		@Override
+		public void onComplete(PopbillCall call) {
+			add(call, "complete");
+		}
+
+		@Override
+		public void onError(PopbillCall call, PopbillException exception) {
+			add(call, "error:" + exception.getCode());
+		}
+	}
+
+	private FlakyTransport transport;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new FlakyTransport();
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(new RetryPolicy(3, 0, 0, new RetryBudget()));
+		service.setIsolationPolicy(IsolationPolicy.none());
+	}
+
+	@Test
+	public void events_TEST() throws PopbillException {
+		RecordingListener listener = new RecordingListener();
+		service.addCallListener(listener);
+
+		transport.statusCodes.add(-1);
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+
+		assertEquals("[start, sent#1, sent#2, headers:200, complete]",
+				listener.events.toString());
+
+		// 재시도는 같은 ID 를 사용하며, Listener 가 추가한 헤더가 전송됨.
+		assertEquals(1, listener.ids.size());
+		assertEquals(listener.ids.get(0), transport.requests.get(1).getHeader(
+				"X-Trace-ID"));
+
+		listener.events.clear();
+		transport.statusCodes.add(400);
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-02");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-14000001, pe.getCode());
+		}
+
+		assertEquals("[start, sent#1, headers:400, error:-14000001]",
+				listener.events.toString());
+		assertEquals(2, listener.ids.size());
+		assertTrue(listener.ids.get(0).equals(listener.ids.get(1)) == false);
+		System.out.println(listener.ids);
+	}
+
+	@Test
+	public void failingListener_TEST() throws PopbillException {
+		RecordingListener listener = new RecordingListener();
+
+		service.addCallListener(new PopbillCallAdapter() {
+			@Override
+			public void onStart(PopbillCall call) {
+				throw new IllegalStateException("listener error");
+			}
+		});
+		service.addCallListener(listener);
+
+		// Listener 의 예외는 호출과 다른 Listener 에 영향을 주지 않음.
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+		assertEquals("[start, sent#1, headers:200, complete]",
+				listener.events.toString());
+	}
+
+	@Test
+	public void noListener_TEST() throws PopbillException {
+		RecordingListener listener = new RecordingListener();
+		service.addCallListener(listener);
+		service.removeCallListener(listener);
+
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+
+		// Listener 가 없으면 호출 정보를 만들지 않음.
+		assertTrue(listener.events.isEmpty());
+		assertNull(transport.requests.get(0).getTag());
+	}
+}
@@ -0,0 +1,159 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.SocketTimeoutException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.Deadline;
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryBudget;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class DeadlineTEST {
+
+	/** 지정된 시간 또는 요청 기한까지 지연 후 실패하거나 응답하는 Transport. */
+	private static class SlowTransport implements PopbillTransport {
+		final AtomicInteger calls = new AtomicInteger();
+		volatile long delay;
+		volatile boolean fail;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			calls.incrementAndGet();
+
+			long wait = Math.min(delay, request.getRemainingMillis());
+			try {
+				Thread.sleep(wait);
+			} catch (InterruptedException e) {
+			}
+
+			if (wait < delay)
+				throw new SocketTimeoutException("Call deadline exceeded.");
+
+			if (fail)
+				throw new IOException("Connection reset");
+
+			request.markSent();
+			return new TransportResponse(200,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream("{\"itemKey\":\"0123\"}"
+							.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private SlowTransport transport;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new SlowTransport();
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(new RetryPolicy(5, 0, 0, new RetryBudget()));
+		service.setIsolationPolicy(IsolationPolicy.none());
+	}
+
+	@Test
+	public void callTimeout_TEST() throws PopbillException {
+		service.setCallTimeout(100);
+		transport.delay = 1000;
+
+		long start = System.nanoTime();
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.DEADLINE_EXCEEDED, pe.getCode());
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 기한 초과는 재시도하지 않음.
+		assertEquals(1, transport.calls.get());
+		assertTrue(elapsed < 500);
+
+		transport.delay = 0;
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+	}
+
+	@Test
+	public void retryWithinDeadline_TEST() {
+		// 재시도를 포함한 전체 호출이 기한 안에서 끝나야 합니다.
+		service.setRetryPolicy(new RetryPolicy(100, 0, 0, new RetryBudget(1.0,
+				100)));
+		transport.delay = 40;
+		transport.fail = true;
+
+		Deadline deadline = Deadline.start(150, TimeUnit.MILLISECONDS);
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.DEADLINE_EXCEEDED, pe.getCode());
+		} finally {
+			deadline.end();
+		}
+
+		assertTrue(transport.calls.get() <= 4);
+	}
+
+	@Test
+	public void expired_TEST() {
+		Deadline deadline = Deadline.start(0, TimeUnit.MILLISECONDS);
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.DEADLINE_EXCEEDED, pe.getCode());
+		} finally {
+			deadline.end();
+		}
+
+		assertEquals(0, transport.calls.get());
+	}
+
+	@Test
+	public void nesting_TEST() {
+		assertNull(Deadline.current());
+
+		Deadline outer = Deadline.start(100, TimeUnit.MILLISECONDS);
+		Deadline inner = Deadline.start(10, TimeUnit.SECONDS);
+
+		// 바깥 기한이 더 이름.
+		assertSame(inner, Deadline.current());
+		assertEquals(outer.nanoTime(), inner.nanoTime());
+
+		inner.end();
+		assertSame(outer, Deadline.current());
+
+		Deadline shorter = Deadline.start(10, TimeUnit.MILLISECONDS);
+		assertTrue(shorter.nanoTime() < outer.nanoTime());
+		shorter.end();
+
+		outer.end();
+		assertNull(Deadline.current());
+	}
+}
@@ -0,0 +1,319 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import kr.co.linkhub.auth.Token;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.FileTokenStore;
+import com.popbill.api.PopbillException;
+import com.popbill.api.StoredToken;
+import com.popbill.api.TokenRegistry;
+
+public class FileTokenStoreTEST {
+
+	private static final String LinkID = "TESTER";
+	private static final String ServiceID = "POPBILL_TEST";
+	private static final String passphrase = "SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=";
+
+	private static final Set<String> SCOPES = Collections
+			.unmodifiableSet(new TreeSet<String>(Arrays.asList("member", "110")));
+
+	private File file;
+
+	@Before
+	public void setUp() throws IOException {
+		file = File.createTempFile("popbill-token", ".store");
+		file.delete();
+	}
+
+	@After
+	public void tearDown() {
+		file.delete();
+		new File(file.getPath() + ".lock").delete();
+		new File(file.getPath() + ".tmp").delete();
+	}
+
+	@Test
+	public void roundTrip_TEST() throws IOException {
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		store.save(LinkID, ServiceID, "1234567890",
+				Collections.singletonList(stored("token-1", 1000)));
+		store.save(LinkID, ServiceID, "1234567890",
+				Collections.singletonList(stored("token-2", 2000)));
+		store.close();
+
+		// 재시작 후 최근 토큰 확인.
+		store = new FileTokenStore(file, passphrase);
+		List<StoredToken> tokens = store.load(LinkID, ServiceID, "1234567890");
+
+		assertEquals(1, tokens.size());
+		assertEquals("token-2", tokens.get(0).getToken().getSession_token());
+		assertEquals(SCOPES, tokens.get(0).getScopes());
+		assertEquals(2000, tokens.get(0).getExpiration());
+		assertEquals(0, store.load(LinkID, ServiceID, "0000000000").size());
+		store.close();
+
+		// 파일에 평문 노출 없음.
+		String content = new String(readAll(file), "ISO-8859-1");
+		assertTrue(content.indexOf("token-2") < 0);
+		assertTrue(content.indexOf("1234567890") < 0);
+	}
+
+	@Test
+	public void wrongPassphrase_TEST() throws IOException {
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		store.save(LinkID, ServiceID, "1234567890",
+				Collections.singletonList(stored("token-1", 1000)));
+		store.close();
+
+		store = new FileTokenStore(file, "other passphrase");
+		assertEquals(0, store.load(LinkID, ServiceID, "1234567890").size());
+		store.close();
+	}
+
+	@Test
+	public void tamperedAndTruncated_TEST() throws IOException {
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		store.save(LinkID, ServiceID, "1111111111",
+				Collections.singletonList(stored("token-1", 1000)));
+		long firstEnd = file.length();
+		store.save(LinkID, ServiceID, "2222222222",
+				Collections.singletonList(stored("token-2", 1000)));
+		store.close();
+
+		// 두번째 레코드 손상.
+		RandomAccessFile raf = new RandomAccessFile(file, "rw");
+		raf.seek(raf.length() - 40);
+		raf.write(0xFF ^ raf.read());
+		raf.close();
+
+		store = new FileTokenStore(file, passphrase);
+		assertEquals(1, store.load(LinkID, ServiceID, "1111111111").size());
+		assertEquals(0, store.load(LinkID, ServiceID, "2222222222").size());
+		store.close();
+
+		// 기록 도중 중단.
+		raf = new RandomAccessFile(file, "rw");
+		raf.setLength(firstEnd + 10);
+		raf.close();
+
+		store = new FileTokenStore(file, passphrase);
+		assertEquals(1, store.size());
+		store.save(LinkID, ServiceID, "3333333333",
+				Collections.singletonList(stored("token-3", 1000)));
+		store.close();
+
+		store = new FileTokenStore(file, passphrase);
+		assertEquals(1, store.load(LinkID, ServiceID, "3333333333").size());
+		store.close();
+	}
+
+	@Test
+	public void compaction_TEST() throws IOException {
+		long future = System.currentTimeMillis() + 3600000;
+
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 300; i++)
+				store.save(LinkID, ServiceID, "C" + i, Collections
+						.singletonList(stored("token-" + round, i < 100 ? 0
+								: future)));
+		}
+		store.close();
+		long before = file.length();
+
+		store = new FileTokenStore(file, passphrase);
+		assertEquals(200, store.size());
+		assertEquals("token-4", store.load(LinkID, ServiceID, "C150").get(0)
+				.getToken().getSession_token());
+		store.close();
+
+		System.out.println("compaction : " + before + " -> " + file.length()
+				+ " bytes");
+		assertTrue(file.length() < before / 5);
+	}
+
+	@Test
+	public void compactionRecovery_TEST() throws IOException {
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		store.save(LinkID, ServiceID, "1234567890",
+				Collections.singletonList(stored("token-1", 1000)));
+		store.close();
+
+		// 기존 파일을 삭제한 후, 임시파일의 이름을 변경하기 전에 중단된 경우.
+		File temp = new File(file.getPath() + ".tmp");
+		assertTrue(file.renameTo(temp));
+
+		store = new FileTokenStore(file, passphrase);
+		assertEquals(1, store.load(LinkID, ServiceID, "1234567890").size());
+		store.close();
+		assertTrue(temp.exists() == false);
+	}
+
+	@Test
+	public void sharedFile_TEST() throws IOException {
+		long future = System.currentTimeMillis() + 3600000;
+
+		// 같은 파일을 사용하는 두 프로세스.
+		FileTokenStore first = new FileTokenStore(file, passphrase);
+		FileTokenStore second = new FileTokenStore(file, passphrase);
+
+		first.save(LinkID, ServiceID, "1111111111",
+				Collections.singletonList(stored("token-1", future)));
+		second.save(LinkID, ServiceID, "2222222222",
+				Collections.singletonList(stored("token-2", future)));
+
+		// 다른 프로세스가 추가한 레코드.
+		assertEquals("token-2", first.load(LinkID, ServiceID, "2222222222")
+				.get(0).getToken().getSession_token());
+		assertEquals(2, first.size());
+
+		for (int i = 0; i < 1000; i++)
+			second.save(LinkID, ServiceID, "3333333333",
+					Collections.singletonList(stored("token-" + i, future)));
+		second.close();
+
+		// 다시 열면서 파일을 정리하면, 다른 프로세스도 정리된 파일을 다시 엽니다.
+		long before = file.length();
+		second = new FileTokenStore(file, passphrase);
+		assertEquals(3, second.size());
+		assertTrue(file.length() < before / 10);
+
+		assertEquals("token-999", first.load(LinkID, ServiceID, "3333333333")
+				.get(0).getToken().getSession_token());
+		first.save(LinkID, ServiceID, "4444444444",
+				Collections.singletonList(stored("token-4", future)));
+
+		assertEquals(4, second.size());
+		assertEquals("token-1", second.load(LinkID, ServiceID, "1111111111")
+				.get(0).getToken().getSession_token());
+
+		first.close();
+		second.close();
+	}
+
+	@Test
+	public void restartLoad_TEST() throws Exception {
+		int members = 2000;
+
+		long cold = steadyState(members, null);
+
+		FileTokenStore store = new FileTokenStore(file, passphrase);
+		long first = steadyState(members, store);
+		store.close();
+
+		// 재시작 : 새 registry, 같은 파일.
+		store = new FileTokenStore(file, passphrase);
+		long warm = steadyState(members, store);
+		store.close();
+
+		System.out.println(String.format(
+				"restart-to-steady-state (%d members) : without store %dms, "
+						+ "with store (first start) %dms, "
+						+ "with store (restart) %dms", members, cold, first,
+				warm));
+
+		assertTrue(warm < cold);
+	}
+
+	private long steadyState(int members, FileTokenStore store)
+			throws Exception {
+		final TokenRegistry registry = new TokenRegistry(members * 2);
+		registry.setTokenStore(store);
+		final SlowLoader loader = new SlowLoader(20);
+
+		ExecutorService workers = Executors.newFixedThreadPool(32);
+		long begin = System.nanoTime();
+
+		for (int i = 0; i < members; i++) {
+			final String CorpNum = String.format("%010d", i);
+			workers.execute(new Runnable() {
+				@Override
+				public void run() {
+					try {
+						registry.get(LinkID, ServiceID, CorpNum, SCOPES,
+								loader);
+					} catch (PopbillException e) {
+						e.printStackTrace();
+					}
+				}
+			});
+		}
+
+		workers.shutdown();
+		workers.awaitTermination(5, TimeUnit.MINUTES);
+
+		long elapsed = (System.nanoTime() - begin) / 1000000;
+		System.out.println("  issued " + loader.loads.get() + " tokens in "
+				+ elapsed + "ms, store failures "
+				+ registry.getStoreFailureCount());
+		return elapsed;
+	}
+
+	private static StoredToken stored(String session, long expiration) {
+		return new StoredToken(token(session), SCOPES, expiration);
+	}
+
+	private static Token token(String session) {
+		return new Gson().fromJson("{\"session_token\":\"" + session
+				+ "\",\"scope\":[\"member\",\"110\"]}", Token.class);
+	}
+
+	private static byte[] readAll(File file) throws IOException {
+		RandomAccessFile raf = new RandomAccessFile(file, "r");
+		byte[] data = new byte[(int) raf.length()];
+		raf.readFully(data);
+		raf.close();
+		return data;
+	}
+
+	private static class SlowLoader implements TokenRegistry.TokenLoader {
+		final AtomicInteger loads = new AtomicInteger();
+		final long latency;
+		final long expiration = System.currentTimeMillis() + 3600000;
+
+		SlowLoader(long latency) {
+			this.latency = latency;
+		}
+
+		@Override
+		public Token load(String CorpNum, Set<String> scopes) {
+			loads.incrementAndGet();
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return token(CorpNum);
+		}
+
+		@Override
+		public long getExpiration(Token token) {
+			return expiration;
+		}
+
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+	}
+}
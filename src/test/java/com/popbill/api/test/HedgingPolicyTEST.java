@@ -0,0 +1,167 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.Cashbill;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.HedgingPolicy;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryBudget;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class HedgingPolicyTEST {
+
+	/** 첫번째 요청만 취소될 때까지 지연시키는 Transport. */
+	private static class SlowFirstTransport implements PopbillTransport {
+		final AtomicInteger calls = new AtomicInteger();
+		final AtomicInteger cancelled = new AtomicInteger();
+		volatile boolean slowAll;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			int call = calls.incrementAndGet();
+
+			if (call == 1 || slowAll) {
+				final CountDownLatch latch = new CountDownLatch(1);
+				request.setCancelAction(new Runnable() {
+					@Override
+					public void run() {
+						latch.countDown();
+					}
+				});
+
+				try {
+					if (latch.await(2, TimeUnit.SECONDS)) {
+						cancelled.incrementAndGet();
+						throw new IOException("Socket closed");
+					}
+				} catch (InterruptedException e) {
+				}
+			}
+
+			request.markSent();
+			return new TransportResponse(200,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream("{\"itemKey\":\"0123\"}"
+							.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private SlowFirstTransport transport;
+	private HedgingPolicy hedging;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new SlowFirstTransport();
+		hedging = new HedgingPolicy(95, 10, 50, new RetryBudget(0.1, 1));
+		hedging.setServiceEnabled("Cashbill", true);
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setHedgingPolicy(hedging);
+	}
+
+	@Test
+	public void hedge_TEST() throws PopbillException {
+		long start = System.nanoTime();
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		System.out.println("hedged call : " + elapsed + "ms, " + hedging);
+
+		// 재전송 응답을 사용하고 느린 원 요청은 취소됨.
+		assertTrue(elapsed < 1000);
+		assertEquals(2, transport.calls.get());
+		assertEquals(1, transport.cancelled.get());
+		assertEquals(1, hedging.getHedgeCount());
+	}
+
+	@Test
+	public void budget_TEST() throws PopbillException {
+		transport.slowAll = true;
+
+		service.checkMgtKeyInUse(null, "20150101-01");
+		assertEquals(1, hedging.getHedgeCount());
+
+		// 예산 소진으로 재전송하지 않고 원 요청의 응답을 기다림.
+		transport.calls.set(1);
+		long start = System.nanoTime();
+		service.checkMgtKeyInUse(null, "20150101-01");
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsed >= 1500);
+		assertEquals(2, transport.calls.get());
+		assertEquals(1, hedging.getHedgeCount());
+		assertEquals(1, hedging.getExhaustedCount());
+	}
+
+	@Test
+	public void unsafe_TEST() throws PopbillException {
+		// 조회가 아닌 요청은 재전송하지 않음.
+		hedging.setEnabled(true);
+		transport.calls.set(1);
+
+		Cashbill cashbill = new Cashbill();
+		service.register(null, cashbill);
+
+		assertEquals(2, transport.calls.get());
+		assertEquals(0, hedging.getHedgeCount());
+
+		assertTrue(hedging.isEnabled(new Operation("Message", "GET /Message/*",
+				Idempotency.SAFE)));
+		hedging.setServiceEnabled("Message", false);
+		hedging.setEndpointEnabled("Message", "GET /Message/*", true);
+		assertTrue(hedging.isEnabled(new Operation("Message", "GET /Message/*",
+				Idempotency.SAFE)));
+		assertTrue(hedging.isEnabled(new Operation("Message",
+				"GET /Message/*/*", Idempotency.SAFE)) == false);
+		assertTrue(HedgingPolicy.none().isEnabled(
+				new Operation("Message", "GET /Message/*", Idempotency.SAFE)) == false);
+	}
+
+	@Test
+	public void delay_TEST() {
+		HedgingPolicy policy = new HedgingPolicy(95, 10, 500, new RetryBudget());
+		Operation operation = new Operation("Taxinvoice",
+				"GET /Taxinvoice/SELL/*", Idempotency.SAFE);
+
+		// 표본이 부족하면 최대 대기시간.
+		assertEquals(500, policy.getDelay(operation));
+
+		for (int i = 1; i <= 100; i++)
+			policy.record(operation, i);
+
+		assertEquals(95, policy.getDelay(operation));
+
+		for (int i = 0; i < 128; i++)
+			policy.record(operation, 1);
+
+		assertEquals(10, policy.getDelay(operation));
+	}
+}
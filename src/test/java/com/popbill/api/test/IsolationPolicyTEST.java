@@ -0,0 +1,275 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.closedown.CloseDownServiceImp;
+import com.popbill.api.transport.CircuitBreaker;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class IsolationPolicyTEST {
+
+	/** 테스트 서버. 차단기는 요청 대상 서버별로 생성됩니다. */
+	private static final String TARGET = "popbill_test.linkhub.co.kr";
+
+	/** 지정된 상태코드로 응답하며, gate 가 설정된 경우 열릴 때까지 대기하는 Transport. */
+	private static class FakeTransport implements PopbillTransport {
+		final AtomicInteger calls = new AtomicInteger();
+		volatile int statusCode = 200;
+		volatile String body = "{\"itemKey\":\"0123\"}";
+		volatile CountDownLatch gate;
+		final CountDownLatch entered = new CountDownLatch(1);
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			calls.incrementAndGet();
+			entered.countDown();
+
+			if (gate != null) {
+				try {
+					gate.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+				}
+			}
+
+			request.markSent();
+			if (statusCode < 0)
+				throw new IOException("Connection reset");
+
+			return new TransportResponse(statusCode,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(body.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private FakeTransport transport;
+	private IsolationPolicy isolation;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new FakeTransport();
+		isolation = new IsolationPolicy();
+		isolation.setCircuitBreaker(4, 4, 50, 60000, 1);
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(isolation);
+	}
+
+	@Test
+	public void stateTransition_TEST() throws InterruptedException {
+		final List<String> transitions = new ArrayList<String>();
+
+		CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 50, 50, 2,
+				new CircuitBreaker.Listener() {
+					@Override
+					public void onStateChange(CircuitBreaker breaker,
+							CircuitBreaker.State from, CircuitBreaker.State to) {
+						transitions.add(from + ">" + to);
+					}
+				});
+
+		breaker.onFailure();
+		breaker.onSuccess();
+		breaker.onSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+		breaker.onFailure();
+		assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+		assertTrue(breaker.tryAcquire() == false);
+
+		Thread.sleep(80);
+
+		// 시험 호출은 2건만 허용.
+		assertTrue(breaker.tryAcquire());
+		assertTrue(breaker.tryAcquire());
+		assertTrue(breaker.tryAcquire() == false);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+
+		// 집계 제외된 허가는 반환.
+		breaker.release();
+		assertTrue(breaker.tryAcquire());
+
+		breaker.onSuccess();
+		breaker.onSuccess();
+		assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+		assertEquals("[CLOSED>OPEN, OPEN>HALF_OPEN, HALF_OPEN>CLOSED]",
+				transitions.toString());
+		assertEquals(2, breaker.getRejectedCount());
+		assertEquals(1, breaker.getOpenCount());
+	}
+
+	@Test
+	public void failFast_TEST() {
+		transport.statusCode = -1;
+
+		for (int i = 0; i < 4; i++) {
+			try {
+				service.checkMgtKeyInUse(null, "20150101-01");
+				fail("expected exception");
+			} catch (PopbillException pe) {
+				assertEquals(-99999999, pe.getCode());
+			}
+		}
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.CIRCUIT_OPEN, pe.getCode());
+			System.out.println(pe.getMessage());
+		}
+
+		assertEquals(4, transport.calls.get());
+		assertEquals(CircuitBreaker.State.OPEN,
+				isolation.getCircuitBreaker(TARGET, "Cashbill").getState());
+
+		for (CircuitBreaker breaker : isolation.getCircuitBreakers().values())
+			System.out.println(breaker);
+	}
+
+	@Test
+	public void targets_TEST() throws PopbillException {
+		transport.statusCode = -1;
+
+		for (int i = 0; i < 5; i++) {
+			try {
+				service.checkMgtKeyInUse(null, "20150101-01");
+				fail("expected exception");
+			} catch (PopbillException pe) {
+			}
+		}
+
+		assertEquals(CircuitBreaker.State.OPEN,
+				isolation.getCircuitBreaker(TARGET, "Cashbill").getState());
+
+		// 테스트 서버의 장애는 운영 서버 호출을 차단하지 않음.
+		FakeTransport production = new FakeTransport();
+
+		CashbillServiceImp real = new CashbillServiceImp();
+		real.setTest(false);
+		real.setTransport(production);
+		real.setRetryPolicy(RetryPolicy.none());
+		real.setIsolationPolicy(isolation);
+
+		real.checkMgtKeyInUse(null, "20150101-01");
+		assertEquals(1, production.calls.get());
+
+		assertEquals(CircuitBreaker.State.OPEN, isolation.getCircuitBreakers()
+				.get("Cashbill@" + TARGET).getState());
+		assertEquals(CircuitBreaker.State.CLOSED, isolation
+				.getCircuitBreakers().get("Cashbill@popbill.linkhub.co.kr")
+				.getState());
+	}
+
+	@Test
+	public void businessError_TEST() throws PopbillException {
+		transport.statusCode = 400;
+		transport.body = "{\"code\":-14000001,\"message\":\"error\"}";
+
+		for (int i = 0; i < 10; i++) {
+			try {
+				service.checkMgtKeyInUse(null, "20150101-01");
+				fail("expected exception");
+			} catch (PopbillException pe) {
+				assertEquals(-14000001, pe.getCode());
+			}
+		}
+
+		assertEquals(CircuitBreaker.State.CLOSED,
+				isolation.getCircuitBreaker(TARGET, "Cashbill").getState());
+	}
+
+	@Test
+	public void disabled_TEST() {
+		service.setIsolationPolicy(IsolationPolicy.none());
+		transport.statusCode = -1;
+
+		for (int i = 0; i < 10; i++) {
+			try {
+				service.checkMgtKeyInUse(null, "20150101-01");
+				fail("expected exception");
+			} catch (PopbillException pe) {
+				assertEquals(-99999999, pe.getCode());
+			}
+		}
+
+		assertEquals(10, transport.calls.get());
+		assertNull(IsolationPolicy.none().getCircuitBreaker("Cashbill"));
+	}
+
+	@Test
+	public void bulkhead_TEST() throws Exception {
+		isolation.setServiceConcurrency("Cashbill", 1);
+		transport.gate = new CountDownLatch(1);
+
+		Thread blocked = new Thread() {
+			@Override
+			public void run() {
+				try {
+					service.checkMgtKeyInUse(null, "20150101-01");
+				} catch (PopbillException e) {
+				}
+			}
+		};
+		blocked.start();
+		assertTrue(transport.entered.await(5, TimeUnit.SECONDS));
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-02");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.BULKHEAD_FULL, pe.getCode());
+		}
+
+		assertEquals(1, isolation.getBulkhead(TARGET, "Cashbill").getInFlight());
+
+		// 다른 서비스는 영향을 받지 않음.
+		FakeTransport other = new FakeTransport();
+		other.body = "[]";
+
+		CloseDownServiceImp closeDown = new CloseDownServiceImp();
+		closeDown.setTest(true);
+		closeDown.setTransport(other);
+		closeDown.setIsolationPolicy(isolation);
+
+		assertEquals(0, closeDown.CheckCorpNum(null,
+				new String[] { "1234567890" }).length);
+		assertNull(isolation.getBulkhead(TARGET, "CloseDown"));
+
+		transport.gate.countDown();
+		blocked.join(5000);
+
+		assertEquals(0, isolation.getBulkhead(TARGET, "Cashbill").getInFlight());
+		assertEquals(1, isolation.getBulkhead(TARGET, "Cashbill").getRejectedCount());
+	}
+}
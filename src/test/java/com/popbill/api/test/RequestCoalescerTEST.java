@@ -0,0 +1,217 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.RequestCoalescer;
+import com.popbill.api.cashbill.CashbillInfo;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class RequestCoalescerTEST {
+
+	/** gate 가 열릴 때까지 응답을 지연하는 Transport. */
+	private static class GatedTransport implements PopbillTransport {
+		final AtomicInteger calls = new AtomicInteger();
+		final CountDownLatch gate = new CountDownLatch(1);
+		volatile int statusCode = 200;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			calls.incrementAndGet();
+
+			try {
+				gate.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+			}
+
+			request.markSent();
+
+			String body = statusCode == 200 ? "{\"itemKey\":\"0123\"}"
+					: "{\"code\":-14000001,\"message\":\"error\"}";
+
+			return new TransportResponse(statusCode,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(body.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private GatedTransport transport;
+	private RequestCoalescer coalescer;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new GatedTransport();
+		coalescer = new RequestCoalescer();
+		service = createService("TESTER", true);
+	}
+
+	private CashbillServiceImp createService(String LinkID, boolean test) {
+		CashbillServiceImp service = new CashbillServiceImp();
+		service.setLinkID(LinkID);
+		service.setTest(test);
+		// 테스트 여부와 관계없이 같은 URL 로 요청합니다.
+		service.setServiceURL("https://popbill-test.linkhub.co.kr");
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setRequestCoalescer(coalescer);
+		return service;
+	}
+
+	/** 동시에 조회하고, 모두 대기중이 된 후 gate 를 엽니다. */
+	private Object[] getInfoConcurrently(String[] MgtKeys)
+			throws InterruptedException {
+		CashbillServiceImp[] services = new CashbillServiceImp[MgtKeys.length];
+		for (int i = 0; i < services.length; i++)
+			services[i] = service;
+
+		return getInfoConcurrently(services, MgtKeys);
+	}
+
+	private Object[] getInfoConcurrently(
+			final CashbillServiceImp[] services, final String[] MgtKeys)
+			throws InterruptedException {
+		final Object[] results = new Object[MgtKeys.length];
+		Thread[] threads = new Thread[MgtKeys.length];
+
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						results[index] = services[index].getInfo(null,
+								MgtKeys[index]);
+					} catch (PopbillException pe) {
+						results[index] = pe;
+					}
+				}
+			};
+			threads[i].start();
+		}
+
+		long waitUntil = System.currentTimeMillis() + 5000;
+		while (coalescer.getRequestCount()
+				+ coalescer.getCoalescedCount() < results.length
+				&& System.currentTimeMillis() < waitUntil)
+			Thread.sleep(5);
+
+		transport.gate.countDown();
+		for (Thread thread : threads)
+			thread.join(5000);
+
+		return results;
+	}
+
+	@Test
+	public void coalesce_TEST() throws Exception {
+		String[] MgtKeys = new String[32];
+		for (int i = 0; i < MgtKeys.length; i++)
+			MgtKeys[i] = "20150101-01";
+
+		Object[] results = getInfoConcurrently(MgtKeys);
+
+		assertEquals(1, transport.calls.get());
+		assertEquals(1, coalescer.getRequestCount());
+		assertEquals(31, coalescer.getCoalescedCount());
+		assertEquals(0, coalescer.getInFlight());
+
+		// 응답은 공유하지만 호출마다 새 객체를 반환.
+		for (int i = 1; i < results.length; i++) {
+			assertTrue(results[i] instanceof CashbillInfo);
+			assertNotSame(results[0], results[i]);
+			assertEquals("0123", ((CashbillInfo) results[i]).getItemKey());
+		}
+
+		System.out.println(coalescer);
+	}
+
+	@Test
+	public void distinctKeys_TEST() throws Exception {
+		Object[] results = getInfoConcurrently(new String[] { "20150101-01",
+				"20150101-02", "20150101-01", "20150101-02" });
+
+		assertEquals(2, transport.calls.get());
+		assertEquals(2, coalescer.getCoalescedCount());
+		for (Object result : results)
+			assertTrue(result instanceof CashbillInfo);
+	}
+
+	@Test
+	public void distinctPartners_TEST() throws Exception {
+		CashbillServiceImp partner = createService("PARTNER", true);
+		CashbillServiceImp production = createService("TESTER", false);
+
+		Object[] results = getInfoConcurrently(new CashbillServiceImp[] {
+				service, partner, production, service },
+				new String[] { "20150101-01", "20150101-01", "20150101-01",
+						"20150101-01" });
+
+		// 연동회원과 테스트 여부가 다르면 병합하지 않음.
+		assertEquals(3, transport.calls.get());
+		assertEquals(1, coalescer.getCoalescedCount());
+		for (Object result : results)
+			assertTrue(result instanceof CashbillInfo);
+	}
+
+	@Test
+	public void error_TEST() throws Exception {
+		transport.statusCode = 400;
+
+		Object[] results = getInfoConcurrently(new String[] { "20150101-01",
+				"20150101-01", "20150101-01" });
+
+		assertEquals(1, transport.calls.get());
+		for (Object result : results)
+			assertEquals(-14000001, ((PopbillException) result).getCode());
+
+		// 실패 후의 호출은 새로 요청.
+		try {
+			service.getInfo(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-14000001, pe.getCode());
+		}
+		assertEquals(2, transport.calls.get());
+	}
+
+	@Test
+	public void disabled_TEST() throws Exception {
+		service.setRequestCoalescer(RequestCoalescer.none());
+		transport.gate.countDown();
+
+		for (int i = 0; i < 3; i++)
+			service.getInfo(null, "20150101-01");
+
+		// 팝빌 URL 은 병합하지 않음.
+		service.setRequestCoalescer(coalescer);
+		service.getURL(null, null, "TBOX");
+
+		assertEquals(4, transport.calls.get());
+		assertEquals(0, coalescer.getRequestCount());
+	}
+}
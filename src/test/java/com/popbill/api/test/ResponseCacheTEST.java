@@ -0,0 +1,312 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.ChargeInfo;
+import com.popbill.api.CorpInfo;
+import com.popbill.api.PopbillException;
+import com.popbill.api.ResponseCache;
+import com.popbill.api.TokenRegistry;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class ResponseCacheTEST {
+
+	/** 요청 경로에 따라 응답하는 Transport. */
+	private static class FakeTransport implements PopbillTransport {
+		final List<String> requests = new ArrayList<String>();
+		volatile int statusCode = 200;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			requests.add(request.getMethod() + " " + request.getUrl());
+			request.markSent();
+
+			String body;
+			if (request.getUrl().endsWith("/Token"))
+				body = "{\"session_token\":\"TOKEN\",\"expiration\":"
+						+ "\"2099-01-01T00:00:00.000Z\"}";
+			else if (request.getUrl().endsWith("/Time"))
+				body = time();
+			else if (statusCode != 200)
+				body = "{\"code\":-11000001,\"message\":\"error\"}";
+			else if (request.getUrl().endsWith("cfg=UNITCOST"))
+				body = "{\"unitCost\":\"4.5\"}";
+			else if (request.getUrl().endsWith("/ChargeInfo"))
+				body = "{\"unitCost\":\"4.5\",\"chargeMethod\":\"1\"}";
+			else if (request.getUrl().endsWith("/CorpInfo")
+					&& request.getMethod().equals("GET"))
+				body = "{\"ceoname\":\"CEO\",\"corpName\":\"Corp\"}";
+			else
+				body = "{\"code\":1,\"message\":\"OK\"}";
+
+			return new TransportResponse(statusCode,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(body.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+
+		int count(String path) {
+			int count = 0;
+			for (String request : requests) {
+				if (request.endsWith(path))
+					count++;
+			}
+			return count;
+		}
+	}
+
+	private static String time() {
+		SimpleDateFormat format = new SimpleDateFormat(
+				"yyyy-MM-dd'T'HH:mm:ss'Z'");
+		format.setTimeZone(TimeZone.getTimeZone("UTC"));
+		return format.format(new Date());
+	}
+
+	private FakeTransport transport;
+	private ResponseCache cache;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new FakeTransport();
+		cache = new ResponseCache();
+		cache.setEnabled(true);
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setResponseCache(cache);
+
+		// 회원 조회는 FakeTransport 가 발급한 토큰을 사용.
+		service.setLinkID("TESTER");
+		service.setSecretKey("SwWxqU+0TErBXy/9TVjIPEnI0VTUMMSQZtJf3Ed8q3I=");
+		service.setAuthURL("http://auth.linkhub.test");
+		service.setTokenRegistry(new TokenRegistry());
+	}
+
+	@Test
+	public void hit_TEST() throws PopbillException {
+		for (int i = 0; i < 10; i++)
+			assertEquals(4.5f, service.getUnitCost(null), 0.0f);
+
+		ChargeInfo first = service.getChargeInfo(null);
+		ChargeInfo second = service.getChargeInfo(null);
+
+		// 호출마다 새 객체를 반환.
+		assertNotSame(first, second);
+		assertEquals("1", second.getChargeMethod());
+
+		assertEquals(2, transport.requests.size());
+		assertEquals(9, cache.getHitCount(ResponseCache.Kind.UNIT_COST));
+		assertEquals(1, cache.getMissCount(ResponseCache.Kind.UNIT_COST));
+		assertEquals(10, cache.getHitCount());
+		assertEquals(2, cache.size());
+
+		System.out.println(cache);
+	}
+
+	@Test
+	public void distinctPartners_TEST() throws PopbillException {
+		service.setLinkID("TESTER");
+		service.setServiceURL("https://popbill-test.linkhub.co.kr");
+
+		CashbillServiceImp partner = new CashbillServiceImp();
+		partner.setLinkID("PARTNER");
+		partner.setTest(true);
+		partner.setServiceURL("https://popbill-test.linkhub.co.kr");
+		partner.setTransport(transport);
+		partner.setRetryPolicy(RetryPolicy.none());
+		partner.setIsolationPolicy(IsolationPolicy.none());
+		partner.setResponseCache(cache);
+
+		service.getUnitCost(null);
+		partner.getUnitCost(null);
+
+		// 같은 URL 이라도 테스트 여부가 다르면 구분.
+		partner.setLinkID("TESTER");
+		partner.setTest(false);
+		partner.getUnitCost(null);
+
+		assertEquals(3, transport.requests.size());
+		assertEquals(0, cache.getHitCount());
+
+		service.getUnitCost(null);
+		assertEquals(1, cache.getHitCount());
+	}
+
+	@Test
+	public void disabled_TEST() throws PopbillException {
+		service.setResponseCache(ResponseCache.none());
+
+		for (int i = 0; i < 3; i++)
+			service.getUnitCost(null);
+
+		// 기본 캐시는 사용을 지정하기 전까지 보관하지 않음.
+		service.setResponseCache(null);
+		assertTrue(service.getResponseCache().isEnabled() == false);
+		service.getUnitCost(null);
+
+		assertEquals(4, transport.requests.size());
+	}
+
+	@Test
+	public void ttl_TEST() throws Exception {
+		cache.setTtl(ResponseCache.Kind.UNIT_COST, 50, TimeUnit.MILLISECONDS);
+		assertEquals(50,
+				cache.getTtl(ResponseCache.Kind.UNIT_COST, TimeUnit.MILLISECONDS));
+
+		service.getUnitCost(null);
+		service.getUnitCost(null);
+		assertEquals(1, transport.requests.size());
+
+		Thread.sleep(80);
+		service.getUnitCost(null);
+		assertEquals(2, transport.requests.size());
+
+		// 유효시간 0 은 보관하지 않음.
+		cache.setTtl(ResponseCache.Kind.CHARGE_INFO, 0, TimeUnit.SECONDS);
+		service.getChargeInfo(null);
+		service.getChargeInfo(null);
+		assertEquals(4, transport.requests.size());
+	}
+
+	@Test
+	public void eviction_TEST() throws PopbillException {
+		cache = new ResponseCache(1);
+		cache.setEnabled(true);
+		service.setResponseCache(cache);
+
+		service.getUnitCost(null);
+		service.getChargeInfo(null);
+		service.getUnitCost(null);
+
+		assertEquals(3, transport.requests.size());
+		assertEquals(1, cache.size());
+		assertEquals(2, cache.getEvictionCount());
+	}
+
+	@Test
+	public void invalidate_TEST() throws PopbillException {
+		service.getCorpInfo(null, null);
+		service.getUnitCost(null);
+		assertEquals("CEO", service.getCorpInfo(null, null).getCeoname());
+		assertEquals(2, transport.requests.size());
+
+		// 회사정보 수정시 회사정보만 삭제.
+		service.updateCorpInfo(null, new CorpInfo(), null);
+		service.getCorpInfo(null, null);
+		service.getUnitCost(null);
+		assertEquals(4, transport.requests.size());
+
+		cache.invalidate(null);
+		assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void invalidateDuringFetch_TEST() throws Exception {
+		final CountDownLatch fetching = new CountDownLatch(1);
+		final CountDownLatch updated = new CountDownLatch(1);
+
+		// 수정 전에 시작된 조회가 수정 후에 응답을 받는 경우.
+		service.setTransport(new FakeTransport() {
+			@Override
+			public TransportResponse execute(TransportRequest request)
+					throws IOException {
+				if (request.getUrl().endsWith("/CorpInfo")
+						&& request.getMethod().equals("GET")
+						&& fetching.getCount() > 0) {
+					fetching.countDown();
+					try {
+						updated.await();
+					} catch (InterruptedException e) {
+						throw new IOException(e.toString());
+					}
+				}
+				return transport.execute(request);
+			}
+		});
+
+		Thread reader = new Thread() {
+			@Override
+			public void run() {
+				try {
+					service.getCorpInfo("1234567890", null);
+				} catch (PopbillException e) {
+					e.printStackTrace();
+				}
+			}
+		};
+		reader.start();
+
+		fetching.await();
+		service.updateCorpInfo("1234567890", new CorpInfo(), null);
+		updated.countDown();
+		reader.join();
+
+		// 이전 응답은 보관되지 않음.
+		assertEquals(0, cache.size());
+		service.getCorpInfo("1234567890", null);
+		assertEquals(3, transport.count("/CorpInfo"));
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void invalidateMember_TEST() throws PopbillException {
+		service.getCorpInfo("1234567890", null);
+		service.getCorpInfo("1234567891", null);
+		service.getUnitCost("1234567890");
+		assertEquals(3, cache.size());
+
+		cache.invalidate("1234567890");
+		assertEquals(1, cache.size());
+
+		service.getCorpInfo("1234567891", null);
+		assertEquals(1, cache.getHitCount(ResponseCache.Kind.CORP_INFO));
+	}
+
+	@Test
+	public void error_TEST() {
+		transport.statusCode = 500;
+
+		for (int i = 0; i < 2; i++) {
+			try {
+				service.getUnitCost(null);
+				fail("expected exception");
+			} catch (PopbillException pe) {
+				assertEquals(-11000001, pe.getCode());
+			}
+		}
+
+		// 오류 응답은 보관하지 않음.
+		assertEquals(2, transport.requests.size());
+		assertEquals(0, cache.size());
+	}
+}
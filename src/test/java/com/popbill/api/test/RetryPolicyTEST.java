@@ -0,0 +1,361 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.Response;
+import com.popbill.api.cashbill.Cashbill;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.OperationCache;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryBudget;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class RetryPolicyTEST {
+
+	/** 미리 정해진 순서대로 응답하거나 실패하는 Transport. */
+	private static class ScriptedTransport implements PopbillTransport {
+		final LinkedList<Object[]> script = new LinkedList<Object[]>();
+		final List<String> requests = new ArrayList<String>();
+
+		ScriptedTransport fail(boolean sent) {
+			script.add(new Object[] { sent });
+			return this;
+		}
+
+		ScriptedTransport respond(int statusCode, String body) {
+			script.add(new Object[] { statusCode, body });
+			return this;
+		}
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			String action = request.getHeader("X-HTTP-Method-Override");
+			requests.add(request.getMethod() + " " + request.getUrl()
+					+ (action == null ? "" : " " + action));
+
+			Object[] step = script.removeFirst();
+
+			if (step.length == 1) {
+				if ((Boolean) step[0]) {
+					request.markSent();
+					throw new IOException("Connection reset");
+				}
+				throw new ConnectException("Connection refused");
+			}
+
+			request.markSent();
+			return new TransportResponse((Integer) step[0],
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(((String) step[1])
+							.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private ScriptedTransport transport;
+	private CashbillServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new ScriptedTransport();
+
+		service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(new RetryPolicy(3, 0, 0, new RetryBudget()));
+		service.setIsolationPolicy(IsolationPolicy.none());
+	}
+
+	private Cashbill cashbill(String MgtKey) {
+		Cashbill cashbill = new Cashbill();
+		cashbill.setMgtKey(MgtKey);
+		return cashbill;
+	}
+
+	@Test
+	public void safeRetry_TEST() throws PopbillException {
+		transport.fail(true).fail(true).respond(200, "{\"itemKey\":\"0123\"}");
+
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+		assertEquals(3, transport.requests.size());
+	}
+
+	@Test
+	public void maxAttempts_TEST() {
+		transport.fail(true).fail(true).fail(true).fail(true);
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+
+		assertEquals(3, transport.requests.size());
+	}
+
+	@Test
+	public void unsentUnsafeRetry_TEST() throws PopbillException {
+		// 접속 실패는 서버가 처리하지 않았으므로 확인없이 재시도.
+		transport.fail(false).respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		Response response = service.register(null, cashbill(null));
+
+		assertEquals(1, response.getCode());
+		assertEquals(2, transport.requests.size());
+	}
+
+	@Test
+	public void unconfirmedUnsafe_TEST() {
+		// 관리번호가 없으면 처리여부를 확인할 수 없으므로 재시도하지 않음.
+		transport.fail(true).respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		try {
+			service.register(null, cashbill(null));
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+
+		assertEquals(1, transport.requests.size());
+	}
+
+	@Test
+	public void confirmedNotApplied_TEST() throws PopbillException {
+		transport.fail(true)
+				.respond(400, "{\"code\":-14000003,\"message\":\"not found\"}")
+				.respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		Response response = service.registIssue(null, cashbill("20150101-01"));
+
+		assertEquals(1, response.getCode());
+		assertEquals(3, transport.requests.size());
+		assertTrue(transport.requests.get(1).startsWith("GET "));
+		assertTrue(transport.requests.get(2).endsWith(" ISSUE"));
+	}
+
+	@Test
+	public void confirmedApplied_TEST() {
+		transport.fail(true).respond(200, "{\"itemKey\":\"0123\"}");
+
+		try {
+			service.registIssue(null, cashbill("20150101-01"));
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.ALREADY_APPLIED, pe.getCode());
+		}
+
+		assertEquals(2, transport.requests.size());
+	}
+
+	@Test
+	public void deleteApplied_TEST() {
+		// 응답을 받지 못한 삭제가 처리된 경우 다시 보내지 않음.
+		transport.fail(true).respond(400,
+				"{\"code\":-14000003,\"message\":\"not found\"}");
+
+		try {
+			service.delete(null, "20150101-01", null);
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.ALREADY_APPLIED, pe.getCode());
+		}
+
+		assertEquals(2, transport.requests.size());
+		assertTrue(transport.requests.get(1).startsWith("GET "));
+	}
+
+	@Test
+	public void deleteNotApplied_TEST() throws PopbillException {
+		transport.fail(true).respond(200, "{\"itemKey\":\"0123\"}")
+				.respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		assertEquals(1, service.delete(null, "20150101-01", null).getCode());
+
+		assertEquals(3, transport.requests.size());
+		assertTrue(transport.requests.get(2).endsWith(" DELETE"));
+	}
+
+	@Test
+	public void updateRetry_TEST() throws PopbillException {
+		// 수정은 다시 보내도 결과가 같으므로 확인없이 재시도.
+		transport.fail(true).respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		assertEquals(1, service.update(null, "20150101-01",
+				cashbill("20150101-01"), null).getCode());
+
+		assertEquals(2, transport.requests.size());
+		assertTrue(transport.requests.get(1).endsWith(" PATCH"));
+	}
+
+	@Test
+	public void statusCode_TEST() throws PopbillException {
+		// 503 은 처리 전 거절로 간주하여 확인없이 재시도.
+		transport.respond(503, "<html>Service Unavailable</html>")
+				.respond(200, "{\"code\":1,\"message\":\"OK\"}");
+
+		assertEquals(1, service.register(null, cashbill(null)).getCode());
+		assertEquals(2, transport.requests.size());
+
+		// 502 는 처리되었을 수 있음.
+		transport.requests.clear();
+		transport.respond(502, "Bad Gateway");
+
+		try {
+			service.register(null, cashbill(null));
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+
+		assertEquals(1, transport.requests.size());
+	}
+
+	@Test
+	public void businessError_TEST() {
+		transport.respond(400, "{\"code\":-14000001,\"message\":\"error\"}");
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-14000001, pe.getCode());
+		}
+
+		assertEquals(1, transport.requests.size());
+	}
+
+	@Test
+	public void budget_TEST() throws PopbillException {
+		RetryPolicy policy = new RetryPolicy(3, 0, 0, new RetryBudget(0.0, 1));
+		service.setRetryPolicy(policy);
+
+		transport.fail(true).respond(200, "{\"itemKey\":\"0123\"}");
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+
+		// 예산 소진.
+		transport.fail(true).respond(200, "{\"itemKey\":\"0123\"}");
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+
+		assertEquals(1, policy.getRetryCount());
+		assertEquals(1, policy.getExhaustedCount());
+
+		RetryBudget budget = new RetryBudget(0.5, 1);
+		assertTrue(budget.tryWithdraw());
+		assertTrue(budget.tryWithdraw() == false);
+		budget.deposit();
+		budget.deposit();
+		assertTrue(budget.tryWithdraw());
+	}
+
+	@Test
+	public void backoff_TEST() {
+		RetryPolicy policy = new RetryPolicy(5, 100, 1000, new RetryBudget());
+
+		long[] ceilings = { 100, 200, 400, 800, 1000, 1000 };
+
+		for (int retry = 1; retry <= ceilings.length; retry++) {
+			for (int i = 0; i < 1000; i++) {
+				long backoff = policy.getBackoff(retry);
+				assertTrue(backoff >= 0 && backoff <= ceilings[retry - 1]);
+			}
+		}
+
+		assertEquals(0, RetryPolicy.none().getBackoff(1));
+		assertEquals(1, RetryPolicy.none().getMaxAttempts());
+	}
+
+	@Test
+	public void endpoint_TEST() {
+		assertEquals("POST /Taxinvoice/SELL/* ISSUE", Operation.endpointOf(
+				"POST", "/Taxinvoice/SELL/20150101-01", "ISSUE"));
+		assertEquals("GET /Cashbill", Operation.endpointOf("GET",
+				"/Cashbill?TG=LOGIN", null));
+		assertEquals("GET /", Operation.endpointOf("GET", "/?TG=LOGIN", null));
+		assertEquals("POST /Statement/*", Operation.endpointOf("POST",
+				"/Statement/121?Print", null));
+	}
+
+	@Test
+	public void operationCache_TEST() {
+		OperationCache cache = new OperationCache("Taxinvoice");
+
+		Operation issue = cache.get("POST", "/Taxinvoice/SELL/20150101-01",
+				"ISSUE", Idempotency.UNSAFE);
+
+		// 관리번호가 달라도 같은 Operation 을 재사용.
+		assertSame(issue, cache.get("POST", "/Taxinvoice/SELL/20150101-02",
+				"ISSUE", Idempotency.UNSAFE));
+		assertEquals("POST /Taxinvoice/SELL/* ISSUE", issue.getEndpoint());
+
+		Operation idempotent = cache.get("POST",
+				"/Taxinvoice/SELL/20150101-01", "ISSUE", Idempotency.IDEMPOTENT);
+		assertTrue(issue.equals(idempotent) == false);
+		assertEquals(Idempotency.IDEMPOTENT, idempotent.getIdempotency());
+
+		// endpointOf() 가 같은 경우에만 같은 Operation.
+		String[][] requests = { { "GET", "/", null }, { "GET", "", null },
+				{ "GET", "/?TG=LOGIN", null }, { "GET", "/Cashbill", null },
+				{ "GET", "/Cashbill?TG=LOGIN", null },
+				{ "GET", "/Cashbill/", null },
+				{ "GET", "/Cashbill/20150101-01", null },
+				{ "GET", "/Cashbill/20150101-01/Logs", null },
+				{ "POST", "/Cashbill/20150101-01", "ISSUE" },
+				{ "POST", "/Cashbill/20150101-01", "" },
+				{ "POST", "/Cashbill/20150101-01", null },
+				{ "POST", "/Statement/121?Print", null },
+				{ "POST", "/Statement/122", null } };
+
+		for (String[] a : requests) {
+			for (String[] b : requests) {
+				boolean same = Operation.endpointOf(a[0], a[1], a[2]).equals(
+						Operation.endpointOf(b[0], b[1], b[2]));
+
+				assertEquals(a[1] + " " + b[1], same, cache.get(a[0], a[1],
+						a[2], Idempotency.SAFE) == cache.get(b[0], b[1], b[2],
+						Idempotency.SAFE));
+			}
+		}
+
+		// Operation 의 equals 와 hashCode 는 같은 속성을 비교.
+		Operation safe = new Operation("Cashbill", "GET /Cashbill",
+				Idempotency.SAFE);
+		Operation unsafe = new Operation("Cashbill", "GET /Cashbill",
+				Idempotency.UNSAFE);
+		assertTrue(safe.equals(unsafe) == false);
+		assertTrue(safe.hashCode() != unsafe.hashCode());
+		assertEquals(safe, new Operation("Cashbill", "GET /Cashbill",
+				Idempotency.SAFE));
+		assertEquals(safe.hashCode(), new Operation("Cashbill",
+				"GET /Cashbill", Idempotency.SAFE).hashCode());
+	}
+}
@@ -0,0 +1,94 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.ServerClock;
+
+public class ServerClockTEST {
+
+	private static class FakeClock extends ServerClock {
+		final AtomicInteger fetches = new AtomicInteger();
+		volatile long offset;
+		volatile boolean fail;
+
+		@Override
+		protected long fetchServerTime() throws PopbillException {
+			fetches.incrementAndGet();
+			if (fail)
+				throw new PopbillException(-99999999, "time failed");
+			return System.currentTimeMillis() + offset;
+		}
+	}
+
+	@Test
+	public void skew_TEST() throws PopbillException {
+		FakeClock clock = new FakeClock();
+		clock.offset = 60000;
+
+		for (int i = 0; i < 1000; i++) {
+			long diff = clock.currentTimeMillis() - System.currentTimeMillis();
+			assertTrue(Math.abs(diff - 60000) < 1000);
+		}
+
+		// 측정은 한번만.
+		assertEquals(1, clock.fetches.get());
+	}
+
+	@Test
+	public void resync_TEST() throws Exception {
+		FakeClock clock = new FakeClock();
+		clock.setSyncInterval(50);
+
+		clock.currentTimeMillis();
+		clock.offset = -30000;
+		Thread.sleep(60);
+		clock.currentTimeMillis();
+
+		assertEquals(2, clock.fetches.get());
+		assertTrue(Math.abs(clock.getSkew() + 30000) < 1000);
+	}
+
+	@Test
+	public void resyncFailure_TEST() throws Exception {
+		FakeClock clock = new FakeClock();
+		clock.setSyncInterval(100);
+		clock.offset = 5000;
+		clock.currentTimeMillis();
+
+		clock.fail = true;
+		Thread.sleep(120);
+
+		// 재측정 실패시 이전 측정값 사용.
+		long diff = clock.currentTimeMillis() - System.currentTimeMillis();
+		assertTrue(Math.abs(diff - 5000) < 1000);
+
+		// 실패 직후의 호출은 다시 측정하지 않음.
+		for (int i = 0; i < 100; i++)
+			clock.currentTimeMillis();
+		assertEquals(2, clock.fetches.get());
+
+		Thread.sleep(120);
+		clock.currentTimeMillis();
+		assertEquals(3, clock.fetches.get());
+	}
+
+	@Test
+	public void firstSyncFailure_TEST() {
+		FakeClock clock = new FakeClock();
+		clock.fail = true;
+
+		try {
+			clock.currentTimeMillis();
+			fail("first sync must fail.");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+	}
+}
@@ -0,0 +1,189 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import kr.co.linkhub.auth.Token;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.PopbillException;
+import com.popbill.api.TokenRegistry;
+import com.popbill.api.TokenRefresher;
+
+public class TokenRefresherTEST {
+
+	private static final String LinkID = "TESTER";
+	private static final String ServiceID = "POPBILL_TEST";
+	private static final Set<String> SCOPES = Collections.singleton("member");
+
+	private static class ShortLivedLoader implements TokenRegistry.TokenLoader {
+		final AtomicInteger loads = new AtomicInteger();
+		final long lifetime;
+		final long latency;
+
+		ShortLivedLoader(long lifetime, long latency) {
+			this.lifetime = lifetime;
+			this.latency = latency;
+		}
+
+		@Override
+		public Token load(String key, Set<String> scopes)
+				throws PopbillException {
+			int count = loads.incrementAndGet();
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new Gson().fromJson("{\"session_token\":\"" + key + "-"
+					+ count + "\"}", Token.class);
+		}
+
+		@Override
+		public long getExpiration(Token token) {
+			return System.currentTimeMillis() + lifetime;
+		}
+
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+	}
+
+	@Test
+	public void refresh_TEST() throws Exception {
+		TokenRegistry cache = new TokenRegistry();
+		ShortLivedLoader loader = new ShortLivedLoader(1000, 0);
+		TokenRefresher refresher = cache.getRefresher();
+		refresher.setRefreshMargin(500);
+
+		Token first = cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+
+		// 여유시간 전에는 재발급하지 않음.
+		refresher.check();
+		assertEquals(0, refresher.getRefreshCount());
+
+		Thread.sleep(600);
+		refresher.check();
+
+		assertEquals(1, refresher.getRefreshCount());
+		assertTrue(refresher.getLastLeadTime() <= 500);
+		assertTrue(first != cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader));
+		assertEquals(2, loader.loads.get());
+
+		System.out.println(refresher);
+	}
+
+	@Test
+	public void evictIdle_TEST() throws Exception {
+		TokenRegistry cache = new TokenRegistry();
+		ShortLivedLoader loader = new ShortLivedLoader(60000, 0);
+		TokenRefresher refresher = cache.getRefresher();
+		refresher.setIdleTimeout(100);
+
+		cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+		cache.get(LinkID, ServiceID, "1234567891", SCOPES, loader);
+		refresher.check();
+
+		Thread.sleep(150);
+		cache.get(LinkID, ServiceID, "1234567891", SCOPES, loader);
+		refresher.check();
+
+		assertEquals(1, refresher.getEvictionCount());
+		assertEquals(1, cache.size());
+	}
+
+	@Test
+	public void noWaitDuringRefresh_TEST() throws Exception {
+		final TokenRegistry cache = new TokenRegistry();
+		final ShortLivedLoader loader = new ShortLivedLoader(2000, 300);
+		final TokenRefresher refresher = cache.getRefresher();
+		refresher.setRefreshMargin(5000);
+
+		Token first = cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+
+		Thread background = new Thread() {
+			@Override
+			public void run() {
+				refresher.check();
+			}
+		};
+		background.start();
+		Thread.sleep(50);
+
+		// 재발급 중에도 기존 토큰을 대기없이 사용.
+		long begin = System.currentTimeMillis();
+		assertSame(first, cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader));
+		assertTrue(System.currentTimeMillis() - begin < 100);
+
+		background.join();
+		assertEquals(1, refresher.getRefreshCount());
+	}
+
+	@Test
+	public void scheduled_TEST() throws Exception {
+		TokenRegistry cache = new TokenRegistry();
+		ShortLivedLoader loader = new ShortLivedLoader(300, 0);
+		TokenRefresher refresher = cache.getRefresher();
+		refresher.setRefreshMargin(200);
+		refresher.setCheckInterval(20);
+		refresher.start();
+
+		try {
+			cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+			Thread.sleep(1000);
+			assertTrue(refresher.getRefreshCount() >= 3);
+			assertTrue(refresher.getMinLeadTime() >= 0);
+
+			// 호출시 토큰 발급은 일어나지 않음.
+			int loads = loader.loads.get();
+			cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+			assertTrue(loader.loads.get() - loads <= 1);
+		} finally {
+			refresher.stop();
+		}
+		System.out.println(refresher);
+	}
+
+	@Test
+	public void collectedLoader_TEST() throws Exception {
+		TokenRegistry cache = new TokenRegistry();
+		TokenRefresher refresher = cache.getRefresher();
+		refresher.setRefreshMargin(500);
+
+		WeakReference<ShortLivedLoader> reference = issue(cache);
+
+		// 저장소가 loader (서비스 객체) 를 유지하지 않음.
+		for (int i = 0; i < 50 && reference.get() != null; i++) {
+			System.gc();
+			Thread.sleep(10);
+		}
+		assertNull(reference.get());
+		assertEquals(1, cache.size());
+
+		// 수거된 loader 의 토큰은 선 재발급하지 않고, 만료 후 호출시 발급.
+		Thread.sleep(1100);
+		refresher.check();
+		assertEquals(0, refresher.getRefreshCount());
+
+		ShortLivedLoader loader = new ShortLivedLoader(1000, 0);
+		cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+		assertEquals(1, loader.loads.get());
+	}
+
+	private static WeakReference<ShortLivedLoader> issue(TokenRegistry cache)
+			throws PopbillException {
+		ShortLivedLoader loader = new ShortLivedLoader(1000, 0);
+		cache.get(LinkID, ServiceID, "1234567890", SCOPES, loader);
+		return new WeakReference<ShortLivedLoader>(loader);
+	}
+}
@@ -0,0 +1,281 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import kr.co.linkhub.auth.Token;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.PopbillException;
+import com.popbill.api.TokenRegistry;
+
+public class TokenRegistryTEST {
+
+	private static final int[] THREADS = { 1, 2, 4, 8, 16, 32, 64, 128, 256 };
+	private static final int CALLS_PER_THREAD = 20000;
+
+	private static final String LinkID = "TESTER";
+	private static final String ServiceID = "POPBILL_TEST";
+
+	private static final Set<String> TAXINVOICE = scopes("member", "110");
+	private static final Set<String> CLOSEDOWN = scopes("member", "170");
+
+	@Test
+	public void singleFlight_TEST() throws Exception {
+		final TokenRegistry registry = new TokenRegistry();
+		final CountingLoader loader = new CountingLoader(50);
+
+		final Token[] results = new Token[64];
+		final CountDownLatch start = new CountDownLatch(1);
+		Thread[] threads = new Thread[results.length];
+
+		for (int i = 0; i < threads.length; i++) {
+			final int index = i;
+			threads[i] = new Thread() {
+				@Override
+				public void run() {
+					try {
+						start.await();
+						results[index] = registry.get(LinkID, ServiceID,
+								"1234567890", TAXINVOICE, loader);
+					} catch (Exception e) {
+						e.printStackTrace();
+					}
+				}
+			};
+			threads[i].start();
+		}
+
+		start.countDown();
+		for (Thread thread : threads)
+			thread.join();
+
+		assertEquals(1, loader.loads.get());
+		for (Token token : results)
+			assertSame(results[0], token);
+	}
+
+	@Test
+	public void expiredRefresh_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry();
+		CountingLoader loader = new CountingLoader(0);
+
+		loader.expireNext = true;
+		Token first = registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader);
+		Token second = registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader);
+
+		assertTrue(first != second);
+		assertSame(second, registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader));
+		assertEquals(2, loader.loads.get());
+	}
+
+	@Test
+	public void loadFailure_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry();
+		CountingLoader loader = new CountingLoader(0);
+		loader.fail = true;
+
+		try {
+			registry.get(LinkID, ServiceID, "1234567890", TAXINVOICE, loader);
+			fail("token issue must fail.");
+		} catch (PopbillException pe) {
+			assertEquals(-99999999, pe.getCode());
+		}
+
+		loader.fail = false;
+		registry.get(LinkID, ServiceID, "1234567890", TAXINVOICE, loader);
+		assertEquals(2, loader.loads.get());
+	}
+
+	@Test
+	public void sharedScopes_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry();
+		CountingLoader loader = new CountingLoader(0);
+
+		registry.get(LinkID, ServiceID, "1234567890", TAXINVOICE, loader);
+
+		// 다른 서비스는 합친 scope 로 발급.
+		Token shared = registry.get(LinkID, ServiceID, "1234567890",
+				CLOSEDOWN, loader);
+		assertEquals(scopes("member", "110", "170"), loader.lastScopes);
+
+		// 이후 두 서비스 모두 같은 토큰 사용.
+		assertSame(shared, registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader));
+		assertSame(shared, registry.get(LinkID, ServiceID, "1234567890",
+				scopes("member", "110"), loader));
+		assertEquals(2, loader.loads.get());
+
+		// 다른 ServiceID, LinkID 는 공유하지 않음.
+		registry.get(LinkID, "POPBILL", "1234567890", TAXINVOICE, loader);
+		registry.get("OTHER", ServiceID, "1234567890", TAXINVOICE, loader);
+		assertEquals(4, loader.loads.get());
+	}
+
+	@Test
+	public void unionRejected_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry();
+		CountingLoader loader = new CountingLoader(0);
+		loader.maxScopes = 2;
+
+		Token taxinvoice = registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader);
+		Token closedown = registry.get(LinkID, ServiceID, "1234567890",
+				CLOSEDOWN, loader);
+
+		// 합친 scope 발급 실패시 서비스별 토큰 유지.
+		assertTrue(taxinvoice != closedown);
+		assertSame(taxinvoice, registry.get(LinkID, ServiceID, "1234567890",
+				TAXINVOICE, loader));
+		assertSame(closedown, registry.get(LinkID, ServiceID, "1234567890",
+				CLOSEDOWN, loader));
+	}
+
+	@Test
+	public void capacity_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry(100);
+		CountingLoader loader = new CountingLoader(0);
+
+		for (int i = 0; i < 10; i++)
+			registry.get(LinkID, ServiceID, "hot" + i, TAXINVOICE, loader);
+
+		for (int i = 0; i < 1000; i++) {
+			registry.get(LinkID, ServiceID, "cold" + i, TAXINVOICE, loader);
+
+			for (int h = 0; h < 10; h++)
+				registry.get(LinkID, ServiceID, "hot" + h, TAXINVOICE, loader);
+		}
+
+		assertTrue(registry.size() <= 100);
+		assertTrue(registry.getEvictionCount() >= 900);
+
+		// 자주 사용된 회원은 제거되지 않음.
+		assertEquals(1010, loader.loads.get());
+	}
+
+	@Test
+	public void capacityTouched_TEST() throws Exception {
+		TokenRegistry registry = new TokenRegistry(100);
+		CountingLoader loader = new CountingLoader(0);
+
+		for (int i = 0; i < 100; i++)
+			registry.get(LinkID, ServiceID, "corp" + i, TAXINVOICE, loader);
+
+		// 추가 이후 모두 사용되어 같은 epoch 를 가지는 상태.
+		for (int i = 0; i < 100; i++)
+			registry.get(LinkID, ServiceID, "corp" + i, TAXINVOICE, loader);
+
+		registry.get(LinkID, ServiceID, "new", TAXINVOICE, loader);
+
+		// 용량의 90% 까지만 제거.
+		assertEquals(90, registry.size());
+		assertEquals(11, registry.getEvictionCount());
+	}
+
+	@Test
+	public void contention_TEST() throws Exception {
+		for (int threadCount : THREADS) {
+			final TokenRegistry registry = new TokenRegistry();
+			final CountingLoader loader = new CountingLoader(20);
+			final AtomicLong failures = new AtomicLong();
+			final CountDownLatch start = new CountDownLatch(1);
+
+			Thread[] threads = new Thread[threadCount];
+			for (int i = 0; i < threadCount; i++) {
+				final String CorpNum = "12345678" + (i % 4);
+				threads[i] = new Thread() {
+					@Override
+					public void run() {
+						try {
+							start.await();
+							for (int c = 0; c < CALLS_PER_THREAD; c++)
+								registry.get(LinkID, ServiceID, CorpNum,
+										TAXINVOICE, loader);
+						} catch (Exception e) {
+							failures.incrementAndGet();
+						}
+					}
+				};
+				threads[i].start();
+			}
+
+			long begin = System.nanoTime();
+			start.countDown();
+			for (Thread thread : threads)
+				thread.join();
+			long elapsed = System.nanoTime() - begin;
+
+			long calls = (long) threadCount * CALLS_PER_THREAD;
+			System.out.println(String.format(
+					"threads=%3d calls=%8d loads=%d elapsed=%6dms ops/s=%d",
+					threadCount, calls, loader.loads.get(),
+					elapsed / 1000000, calls * 1000000000L / elapsed));
+
+			assertEquals(0, failures.get());
+			assertTrue(loader.loads.get() <= Math.min(threadCount, 4));
+		}
+	}
+
+	private static Set<String> scopes(String... scopes) {
+		return Collections.unmodifiableSet(new TreeSet<String>(Arrays
+				.asList(scopes)));
+	}
+
+	private static class CountingLoader implements TokenRegistry.TokenLoader {
+		final AtomicInteger loads = new AtomicInteger();
+		final long latency;
+		volatile boolean expireNext;
+		volatile boolean fail;
+		volatile int maxScopes = Integer.MAX_VALUE;
+		volatile Set<String> lastScopes;
+
+		CountingLoader(long latency) {
+			this.latency = latency;
+		}
+
+		@Override
+		public Token load(String CorpNum, Set<String> scopes)
+				throws PopbillException {
+			int count = loads.incrementAndGet();
+			if (fail || scopes.size() > maxScopes)
+				throw new PopbillException(-99999999, "issue failed");
+			lastScopes = scopes;
+			try {
+				Thread.sleep(latency);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			return new Gson().fromJson("{\"session_token\":\"" + CorpNum
+					+ "-" + count + "\"}", Token.class);
+		}
+
+		@Override
+		public long getExpiration(Token token) {
+			if (expireNext) {
+				expireNext = false;
+				return 0;
+			}
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public long currentTimeMillis() {
+			return System.currentTimeMillis();
+		}
+	}
+}
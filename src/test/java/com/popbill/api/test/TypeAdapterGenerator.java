@@ -0,0 +1,775 @@
+package com.popbill.api.test;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import com.google.gson.annotations.SerializedName;
+import com.popbill.api.BaseServiceImp;
+
+/**
+ * 모델 클래스의 Gson TypeAdapter 생성기.
+ *
+ * com.popbill.api 와 하위 서비스 패키지의 모델 클래스마다 getter/setter 로 필드를
+ * 읽고 쓰는 TypeAdapter 를 생성하여, 패키지별 GeneratedTypeAdapterFactory 로
+ * 기록합니다. 모델 클래스는 기본 생성자가 있고 final 필드가 없으며 모든 필드가 JSON
+ * 으로 표현되는 형식인 public class 입니다. 필드와 같은 형식의 getter 또는 setter
+ * 가 없는 필드(조회 결과의 setter 등)는 생성시 한번 확인한 Field 로 읽고 씁니다.
+ *
+ * 모델 클래스를 수정한 후 컴파일된 클래스를 대상으로 실행합니다.
+ *
+ * <pre>
+ * mvn -P generate-adapters process-test-classes
+ * </pre>
+ *
+ * @author KimSeongjun
+ * @version 1.0.0
+ */
+public class TypeAdapterGenerator {
+
+	static final String ROOT_PACKAGE = "com.popbill.api";
+	static final String FACTORY_NAME = "GeneratedTypeAdapterFactory";
+
+	private static final Set<String> EXCLUDED_PACKAGES = new TreeSet<String>(
+			Arrays.asList("com.popbill.api.transport"));
+
+	private static final String HEADER = "/*\n"
+			+ " * Copyright 2006-2014 innopost.com, Inc. or its affiliates. All Rights Reserved.\n"
+			+ " *\n"
+			+ " * Licensed under the Apache License, Version 2.0 (the \"License\").\n"
+			+ " * You may not use this file except in compliance with the License.\n"
+			+ " * A copy of the License is located at\n"
+			+ " *\n"
+			+ " *  http://www.apache.org/licenses/LICENSE-2.0.txt\n"
+			+ " *\n"
+			+ " * or in the \"license\" file accompanying this file. This file is distributed\n"
+			+ " * on an \"AS IS\" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either\n"
+			+ " * express or implied. See the License for the specific language governing\n"
+			+ " * permissions and limitations under the License.\n"
+			+ " */\n";
+
+	/**
+	 * @param args
+	 *            source directory to write to. (ex. src/main/java)
+	 */
+	public static void main(String[] args) throws Exception {
+		if (args.length != 1) {
+			System.err.println("Usage: TypeAdapterGenerator <source directory>");
+			System.exit(1);
+		}
+
+		File sourceDir = new File(args[0]);
+
+		for (Map.Entry<String, List<Class<?>>> entry : findModels().entrySet()) {
+			String packageName = entry.getKey();
+			File file = sourceFile(sourceDir, packageName);
+			byte[] source = generate(packageName, entry.getValue()).getBytes(
+					"UTF-8");
+
+			if (Arrays.equals(source, read(file)))
+				continue;
+
+			OutputStream output = new FileOutputStream(file);
+			try {
+				output.write(source);
+			} finally {
+				output.close();
+			}
+			System.out.println("Generated " + file + " ("
+					+ entry.getValue().size() + " models)");
+		}
+	}
+
+	static File sourceFile(File sourceDir, String packageName) {
+		return new File(sourceDir, packageName.replace('.', File.separatorChar)
+				+ File.separator + FACTORY_NAME + ".java");
+	}
+
+	static byte[] read(File file) throws IOException {
+		if (file.exists() == false)
+			return null;
+
+		InputStream input = new FileInputStream(file);
+		try {
+			byte[] data = new byte[(int) file.length()];
+			int offset = 0;
+			while (offset < data.length) {
+				int read = input.read(data, offset, data.length - offset);
+				if (read < 0)
+					break;
+				offset += read;
+			}
+			return data;
+		} finally {
+			input.close();
+		}
+	}
+
+	/**
+	 * 컴파일된 클래스에서 모델 클래스 검색.
+	 *
+	 * @return model classes by package name.
+	 */
+	static Map<String, List<Class<?>>> findModels() throws Exception {
+		File root = new File(BaseServiceImp.class.getProtectionDomain()
+				.getCodeSource().getLocation().toURI());
+
+		List<Class<?>> classes = new ArrayList<Class<?>>();
+		scan(new File(root, ROOT_PACKAGE.replace('.', File.separatorChar)),
+				ROOT_PACKAGE, classes);
+
+		Map<String, Class<?>> candidates = new TreeMap<String, Class<?>>();
+		for (Class<?> clazz : classes) {
+			if (isCandidate(clazz))
+				candidates.put(clazz.getName(), clazz);
+		}
+
+		// 다른 모델을 참조하는 경우 그 모델도 대상이어야 합니다.
+		boolean changed = true;
+		while (changed) {
+			changed = false;
+			for (Class<?> clazz : new ArrayList<Class<?>>(candidates.values())) {
+				for (Field field : fields(clazz)) {
+					if (isJsonType(field.getGenericType(), candidates) == false) {
+						candidates.remove(clazz.getName());
+						changed = true;
+						break;
+					}
+				}
+			}
+		}
+
+		Map<String, List<Class<?>>> models = new TreeMap<String, List<Class<?>>>();
+		for (Class<?> clazz : candidates.values()) {
+			String packageName = clazz.getPackage().getName();
+			List<Class<?>> list = models.get(packageName);
+			if (list == null) {
+				list = new ArrayList<Class<?>>();
+				models.put(packageName, list);
+			}
+			list.add(clazz);
+		}
+		return models;
+	}
+
+	private static void scan(File dir, String packageName,
+			List<Class<?>> classes) throws ClassNotFoundException {
+		if (EXCLUDED_PACKAGES.contains(packageName)
+				|| packageName.endsWith(".test"))
+			return;
+
+		File[] files = dir.listFiles();
+		if (files == null)
+			return;
+
+		Arrays.sort(files);
+		for (File file : files) {
+			String name = file.getName();
+			if (file.isDirectory())
+				scan(file, packageName + "." + name, classes);
+			else if (name.endsWith(".class") && name.indexOf('$') < 0)
+				classes.add(Class.forName(packageName + "."
+						+ name.substring(0, name.length() - 6)));
+		}
+	}
+
+	private static boolean isCandidate(Class<?> clazz) {
+		int modifiers = clazz.getModifiers();
+		if (Modifier.isPublic(modifiers) == false
+				|| Modifier.isAbstract(modifiers) || clazz.isInterface()
+				|| clazz.isEnum() || clazz.isAnnotation()
+				|| clazz.getSuperclass() != Object.class
+				|| Throwable.class.isAssignableFrom(clazz))
+			return false;
+
+		try {
+			Constructor<?> constructor = clazz.getDeclaredConstructor();
+			if (Modifier.isPrivate(constructor.getModifiers()))
+				return false;
+		} catch (NoSuchMethodException e) {
+			return false;
+		}
+
+		List<Field> fields = fields(clazz);
+		if (fields.isEmpty())
+			return false;
+
+		for (Field field : fields) {
+			if (Modifier.isFinal(field.getModifiers()))
+				return false;
+		}
+		return true;
+	}
+
+	private static boolean isJsonType(Type type, Map<String, Class<?>> models) {
+		if (type instanceof Class) {
+			Class<?> clazz = (Class<?>) type;
+			if (clazz.isPrimitive() || clazz == String.class
+					|| clazz == Boolean.class || clazz.isEnum()
+					|| Number.class.isAssignableFrom(clazz)
+					&& clazz.getName().startsWith("java.lang."))
+				return true;
+			if (clazz.isArray())
+				return isJsonType(clazz.getComponentType(), models);
+			return models.containsKey(clazz.getName());
+		}
+
+		if (type instanceof ParameterizedType) {
+			ParameterizedType parameterized = (ParameterizedType) type;
+			Class<?> raw = (Class<?>) parameterized.getRawType();
+			Type[] arguments = parameterized.getActualTypeArguments();
+
+			if (raw == List.class || raw == Collection.class)
+				return isJsonType(arguments[0], models);
+			if (raw == Map.class)
+				return arguments[0] == String.class
+						&& isJsonType(arguments[1], models);
+			return false;
+		}
+
+		if (type instanceof GenericArrayType)
+			return isJsonType(
+					((GenericArrayType) type).getGenericComponentType(), models);
+
+		return false;
+	}
+
+	/**
+	 * Gson 과 같은 순서의 직렬화 대상 필드.
+	 */
+	static List<Field> fields(Class<?> clazz) {
+		List<Field> fields = new ArrayList<Field>();
+		for (Field field : clazz.getDeclaredFields()) {
+			int modifiers = field.getModifiers();
+			if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)
+					|| field.isSynthetic())
+				continue;
+			fields.add(field);
+		}
+		return fields;
+	}
+
+	static String serializedName(Field field) {
+		SerializedName annotation = field.getAnnotation(SerializedName.class);
+		return annotation == null ? field.getName() : annotation.value();
+	}
+
+	/**
+	 * 패키지의 GeneratedTypeAdapterFactory 소스 생성.
+	 *
+	 * @param packageName
+	 * @param models
+	 *            model classes of package.
+	 * @return source of factory.
+	 */
+	static String generate(String packageName, List<Class<?>> models) {
+		List<Class<?>> sorted = new ArrayList<Class<?>>(models);
+		boolean reflective = false;
+		for (Class<?> model : sorted) {
+			for (Field field : fields(model)) {
+				if (getter(field) == null || setter(field) == null)
+					reflective = true;
+			}
+		}
+
+		Collections.sort(sorted, new Comparator<Class<?>>() {
+			@Override
+			public int compare(Class<?> a, Class<?> b) {
+				return a.getSimpleName().compareTo(b.getSimpleName());
+			}
+		});
+
+		Imports imports = new Imports(packageName);
+		StringBuilder body = new StringBuilder();
+
+		imports.add("java.io.IOException");
+		if (reflective)
+			imports.add("java.lang.reflect.Field");
+		imports.add("java.util.HashMap");
+		imports.add("java.util.Map");
+		imports.add("com.google.gson.Gson");
+		imports.add("com.google.gson.JsonSyntaxException");
+		imports.add("com.google.gson.TypeAdapter");
+		imports.add("com.google.gson.TypeAdapterFactory");
+		imports.add("com.google.gson.reflect.TypeToken");
+		imports.add("com.google.gson.stream.JsonReader");
+		imports.add("com.google.gson.stream.JsonToken");
+		imports.add("com.google.gson.stream.JsonWriter");
+
+		body.append("\t/*\n");
+		body.append("\t * (non-Javadoc)\n");
+		body.append("\t * \n");
+		body.append("\t * @see com.google.gson.TypeAdapterFactory#create(com.google.gson.Gson, com.google.gson.reflect.TypeToken)\n");
+		body.append("\t */\n");
+		body.append("\t@SuppressWarnings(\"unchecked\")\n");
+		body.append("\t@Override\n");
+		body.append("\tpublic <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {\n");
+		body.append("\t\tClass<? super T> rawType = type.getRawType();\n\n");
+		for (Class<?> model : sorted) {
+			body.append("\t\tif (rawType == ").append(model.getSimpleName())
+					.append(".class)\n");
+			body.append("\t\t\treturn (TypeAdapter<T>) new ")
+					.append(model.getSimpleName()).append("Adapter(gson);\n");
+		}
+		body.append("\n\t\treturn null;\n");
+		body.append("\t}\n");
+
+		for (Class<?> model : sorted)
+			generateAdapter(model, imports, body);
+
+		generateHelpers(body, reflective);
+
+		StringBuilder source = new StringBuilder();
+		source.append(HEADER);
+		source.append("package ").append(packageName).append(";\n\n");
+		source.append(imports);
+		source.append("/**\n");
+		source.append(" * 모델 클래스 Gson TypeAdapter.\n");
+		source.append(" * \n");
+		source.append(" * TypeAdapterGenerator 로 생성된 코드입니다. 직접 수정하지 않으며, 모델 클래스를\n");
+		source.append(" * 수정한 경우 다시 생성합니다.\n");
+		source.append(" * \n");
+		source.append(" * @author KimSeongjun\n");
+		source.append(" * @version 1.0.0\n");
+		source.append(" * @see com.popbill.api.PopbillGson\n");
+		source.append(" */\n");
+		source.append("public final class ").append(FACTORY_NAME)
+				.append(" implements TypeAdapterFactory {\n\n");
+		source.append(body);
+		source.append("}\n");
+		return source.toString();
+	}
+
+	private static void generateAdapter(Class<?> model, Imports imports,
+			StringBuilder out) {
+		String name = model.getSimpleName();
+		List<Field> fields = fields(model);
+
+		out.append("\n\tprivate static final class ").append(name)
+				.append("Adapter extends TypeAdapter<").append(name)
+				.append("> {\n\n");
+
+		out.append("\t\tprivate static final Map<String, Integer> NAMES = names(");
+		for (int i = 0; i < fields.size(); i++) {
+			out.append(i % 3 == 0 ? "\n\t\t\t\t" : " ");
+			out.append('"').append(serializedName(fields.get(i))).append('"');
+			if (i < fields.size() - 1)
+				out.append(',');
+		}
+		out.append(");\n");
+
+		// 직접 읽고 쓸 수 없는 형식은 Gson 의 TypeAdapter 를 사용합니다.
+		List<Field> delegated = new ArrayList<Field>();
+		for (Field field : fields) {
+			if (inline(field.getType()) == null)
+				delegated.add(field);
+		}
+
+		// getter 또는 setter 가 없는 필드.
+		boolean unchecked = false;
+		List<Field> reflected = new ArrayList<Field>();
+		for (Field field : fields) {
+			if (getter(field) == null || setter(field) == null) {
+				reflected.add(field);
+				if (getter(field) == null
+						&& field.getGenericType() instanceof Class == false)
+					unchecked = true;
+			}
+		}
+
+		if (reflected.isEmpty() == false) {
+			out.append("\n");
+			for (Field field : reflected)
+				out.append("\t\tprivate static final Field ")
+						.append(constant(field)).append(" = field(")
+						.append(name).append(".class, \"")
+						.append(field.getName()).append("\");\n");
+		}
+
+		if (delegated.isEmpty() == false) {
+			out.append("\n");
+			for (Field field : delegated)
+				out.append("\t\tprivate final TypeAdapter<")
+						.append(imports.name(boxed(field.getGenericType())))
+						.append("> ").append(field.getName()).append(";\n");
+		}
+
+		out.append("\n\t\t").append(name).append("Adapter(Gson gson) {\n");
+		for (Field field : delegated) {
+			Type type = field.getGenericType();
+			out.append("\t\t\t").append(field.getName())
+					.append(" = gson.getAdapter(");
+			if (type instanceof Class)
+				out.append(imports.name(boxed(type))).append(".class);\n");
+			else
+				out.append("new TypeToken<").append(imports.name(type))
+						.append(">() {\n\t\t\t});\n");
+		}
+		out.append("\t\t}\n");
+
+		out.append("\n");
+		if (unchecked)
+			out.append("\t\t@SuppressWarnings(\"unchecked\")\n");
+		out.append("\t\t@Override\n");
+		out.append("\t\tpublic void write(JsonWriter out, ").append(name)
+				.append(" value) throws IOException {\n");
+		out.append("\t\t\tif (value == null) {\n");
+		out.append("\t\t\t\tout.nullValue();\n");
+		out.append("\t\t\t\treturn;\n");
+		out.append("\t\t\t}\n\n");
+		out.append("\t\t\tout.beginObject();\n");
+		for (Field field : fields) {
+			String inline = inline(field.getType());
+			String source = read(field, imports);
+			out.append("\t\t\tout.name(\"").append(serializedName(field))
+					.append("\");\n");
+			if (inline == null)
+				out.append("\t\t\t").append(field.getName())
+						.append(".write(out, ").append(source).append(");\n");
+			else if (inline.equals("Boolean")
+					&& (field.getType().isPrimitive() == false || getter(field) == null))
+				out.append("\t\t\twriteBoolean(out, ").append(source)
+						.append(");\n");
+			else
+				out.append("\t\t\tout.value(").append(source)
+						.append(");\n");
+		}
+		out.append("\t\t\tout.endObject();\n");
+		out.append("\t\t}\n");
+
+		out.append("\n\t\t@Override\n");
+		out.append("\t\tpublic ").append(name)
+				.append(" read(JsonReader in) throws IOException {\n");
+		out.append("\t\t\tif (in.peek() == JsonToken.NULL) {\n");
+		out.append("\t\t\t\tin.nextNull();\n");
+		out.append("\t\t\t\treturn null;\n");
+		out.append("\t\t\t}\n\n");
+		out.append("\t\t\t").append(name).append(" value = new ").append(name)
+				.append("();\n\n");
+		out.append("\t\t\ttry {\n");
+		out.append("\t\t\t\tin.beginObject();\n");
+		out.append("\t\t\t\twhile (in.hasNext()) {\n");
+		out.append("\t\t\t\t\tInteger index = NAMES.get(in.nextName());\n\n");
+		out.append("\t\t\t\t\tif (index == null) {\n");
+		out.append("\t\t\t\t\t\tin.skipValue();\n");
+		out.append("\t\t\t\t\t\tcontinue;\n");
+		out.append("\t\t\t\t\t}\n\n");
+		out.append("\t\t\t\t\tswitch (index.intValue()) {\n");
+		for (int i = 0; i < fields.size(); i++) {
+			Field field = fields.get(i);
+			Class<?> type = field.getType();
+			String inline = inline(type);
+			String reader = inline == null ? field.getName() + ".read(in)"
+					: "read" + inline + "(in)";
+
+			out.append("\t\t\t\t\tcase ").append(i).append(":\n");
+
+			// null 은 primitive 필드에 대입하지 않습니다.
+			if (type.isPrimitive()) {
+				out.append("\t\t\t\t\t\tif (skipNull(in) == false)\n\t");
+			}
+
+			Method setter = setter(field);
+			if (setter == null)
+				out.append("\t\t\t\t\t\tset(").append(constant(field))
+						.append(", value, ").append(reader).append(");\n");
+			else
+				out.append("\t\t\t\t\t\tvalue.").append(setter.getName())
+						.append("(").append(reader).append(");\n");
+			out.append("\t\t\t\t\t\tbreak;\n");
+		}
+		out.append("\t\t\t\t\t}\n");
+		out.append("\t\t\t\t}\n");
+		out.append("\t\t\t\tin.endObject();\n");
+		out.append("\t\t\t} catch (IllegalStateException e) {\n");
+		out.append("\t\t\t\tthrow new JsonSyntaxException(e);\n");
+		out.append("\t\t\t}\n\n");
+		out.append("\t\t\treturn value;\n");
+		out.append("\t\t}\n");
+		out.append("\t}\n");
+	}
+
+	/**
+	 * 필드 값을 읽는 식. getter 가 없으면 Field 로 읽습니다.
+	 */
+	private static String read(Field field, Imports imports) {
+		Method getter = getter(field);
+		if (getter != null)
+			return "value." + getter.getName() + "()";
+
+		return "(" + imports.name(boxed(field.getGenericType())) + ") get("
+				+ constant(field) + ", value)";
+	}
+
+	/**
+	 * 필드와 같은 형식을 반환하는 public getter. 이름은 대소문자를 구분하지 않습니다.
+	 * (ex. ntsconfirmNum - getNTSConfirmNum)
+	 *
+	 * @return getter, or null if not found.
+	 */
+	static Method getter(Field field) {
+		for (Method method : field.getDeclaringClass().getMethods()) {
+			String name = method.getName();
+			if (method.getDeclaringClass() == field.getDeclaringClass()
+					&& method.getParameterTypes().length == 0
+					&& (name.equalsIgnoreCase("get" + field.getName()) || name
+							.equalsIgnoreCase("is" + field.getName()))
+					&& method.getGenericReturnType().equals(
+							field.getGenericType()))
+				return method;
+		}
+		return null;
+	}
+
+	/**
+	 * 필드와 같은 형식(또는 그 boxed 형식)을 받는 public setter.
+	 *
+	 * @return setter, or null if not found.
+	 */
+	static Method setter(Field field) {
+		for (Method method : field.getDeclaringClass().getMethods()) {
+			Type[] parameters = method.getGenericParameterTypes();
+			if (method.getDeclaringClass() == field.getDeclaringClass()
+					&& parameters.length == 1
+					&& method.getName().equalsIgnoreCase("set" + field.getName())
+					&& boxed(parameters[0]).equals(boxed(field.getGenericType())))
+				return method;
+		}
+		return null;
+	}
+
+	private static String constant(Field field) {
+		StringBuilder name = new StringBuilder("FIELD_");
+		String fieldName = field.getName();
+		for (int i = 0; i < fieldName.length(); i++) {
+			char c = fieldName.charAt(i);
+			if (i > 0 && Character.isUpperCase(c)
+					&& Character.isLowerCase(fieldName.charAt(i - 1)))
+				name.append('_');
+			name.append(Character.toUpperCase(c));
+		}
+		return name.toString();
+	}
+
+	/**
+	 * 직접 읽고 쓰는 형식. 읽기 방법은 Gson 의 기본 TypeAdapter 와 같습니다.
+	 *
+	 * @return name of read method, or null if delegated.
+	 */
+	private static String inline(Class<?> type) {
+		if (type == String.class)
+			return "String";
+		if (type == Boolean.class || type == boolean.class)
+			return "Boolean";
+		if (type == Integer.class || type == int.class)
+			return "Integer";
+		if (type == Long.class || type == long.class)
+			return "Long";
+		if (type == Short.class || type == short.class)
+			return "Short";
+		return null;
+	}
+
+	private static Type boxed(Type type) {
+		if (type == boolean.class)
+			return Boolean.class;
+		if (type == int.class)
+			return Integer.class;
+		if (type == long.class)
+			return Long.class;
+		if (type == short.class)
+			return Short.class;
+		if (type == byte.class)
+			return Byte.class;
+		if (type == char.class)
+			return Character.class;
+		if (type == float.class)
+			return Float.class;
+		if (type == double.class)
+			return Double.class;
+		return type;
+	}
+
+	private static void generateHelpers(StringBuilder out, boolean reflective) {
+		out.append("\n\tprivate static Map<String, Integer> names(String... names) {\n");
+		out.append("\t\tMap<String, Integer> map = new HashMap<String, Integer>(names.length * 2);\n");
+		out.append("\t\tfor (int i = 0; i < names.length; i++)\n");
+		out.append("\t\t\tmap.put(names[i], i);\n");
+		out.append("\t\treturn map;\n");
+		out.append("\t}\n");
+
+		if (reflective) {
+			out.append("\n\tprivate static Field field(Class<?> type, String name) {\n");
+			out.append("\t\ttry {\n");
+			out.append("\t\t\tField field = type.getDeclaredField(name);\n");
+			out.append("\t\t\tfield.setAccessible(true);\n");
+			out.append("\t\t\treturn field;\n");
+			out.append("\t\t} catch (NoSuchFieldException e) {\n");
+			out.append("\t\t\tthrow new AssertionError(e);\n");
+			out.append("\t\t}\n");
+			out.append("\t}\n");
+
+			out.append("\n\tprivate static Object get(Field field, Object target) {\n");
+			out.append("\t\ttry {\n");
+			out.append("\t\t\treturn field.get(target);\n");
+			out.append("\t\t} catch (IllegalAccessException e) {\n");
+			out.append("\t\t\tthrow new AssertionError(e);\n");
+			out.append("\t\t}\n");
+			out.append("\t}\n");
+
+			out.append("\n\tprivate static void set(Field field, Object target, Object value) {\n");
+			out.append("\t\ttry {\n");
+			out.append("\t\t\tfield.set(target, value);\n");
+			out.append("\t\t} catch (IllegalAccessException e) {\n");
+			out.append("\t\t\tthrow new AssertionError(e);\n");
+			out.append("\t\t}\n");
+			out.append("\t}\n");
+		}
+
+		out.append("\n\tprivate static boolean skipNull(JsonReader in) throws IOException {\n");
+		out.append("\t\tif (in.peek() != JsonToken.NULL)\n");
+		out.append("\t\t\treturn false;\n");
+		out.append("\t\tin.nextNull();\n");
+		out.append("\t\treturn true;\n");
+		out.append("\t}\n");
+
+		out.append("\n\tprivate static void writeBoolean(JsonWriter out, Boolean value)\n");
+		out.append("\t\t\tthrows IOException {\n");
+		out.append("\t\tif (value == null)\n");
+		out.append("\t\t\tout.nullValue();\n");
+		out.append("\t\telse\n");
+		out.append("\t\t\tout.value(value.booleanValue());\n");
+		out.append("\t}\n");
+
+		out.append("\n\tprivate static String readString(JsonReader in) throws IOException {\n");
+		out.append("\t\tJsonToken peek = in.peek();\n");
+		out.append("\t\tif (peek == JsonToken.NULL) {\n");
+		out.append("\t\t\tin.nextNull();\n");
+		out.append("\t\t\treturn null;\n");
+		out.append("\t\t}\n");
+		out.append("\t\tif (peek == JsonToken.BOOLEAN)\n");
+		out.append("\t\t\treturn Boolean.toString(in.nextBoolean());\n");
+		out.append("\t\treturn in.nextString();\n");
+		out.append("\t}\n");
+
+		out.append("\n\tprivate static Boolean readBoolean(JsonReader in) throws IOException {\n");
+		out.append("\t\tJsonToken peek = in.peek();\n");
+		out.append("\t\tif (peek == JsonToken.NULL) {\n");
+		out.append("\t\t\tin.nextNull();\n");
+		out.append("\t\t\treturn null;\n");
+		out.append("\t\t}\n");
+		out.append("\t\tif (peek == JsonToken.STRING)\n");
+		out.append("\t\t\treturn Boolean.parseBoolean(in.nextString());\n");
+		out.append("\t\treturn in.nextBoolean();\n");
+		out.append("\t}\n");
+
+		String[][] numbers = { { "Integer", "in.nextInt()" },
+				{ "Long", "in.nextLong()" },
+				{ "Short", "(short) in.nextInt()" } };
+		for (String[] number : numbers) {
+			out.append("\n\tprivate static ").append(number[0]).append(" read")
+					.append(number[0])
+					.append("(JsonReader in) throws IOException {\n");
+			out.append("\t\tif (skipNull(in))\n");
+			out.append("\t\t\treturn null;\n");
+			out.append("\t\ttry {\n");
+			out.append("\t\t\treturn ").append(number[1]).append(";\n");
+			out.append("\t\t} catch (NumberFormatException e) {\n");
+			out.append("\t\t\tthrow new JsonSyntaxException(e);\n");
+			out.append("\t\t}\n");
+			out.append("\t}\n");
+		}
+	}
+
+	/**
+	 * 생성 코드의 import 목록.
+	 */
+	private static class Imports {
+		private final String packageName;
+		private final Set<String> names = new TreeSet<String>();
+
+		Imports(String packageName) {
+			this.packageName = packageName;
+		}
+
+		void add(String name) {
+			names.add(name);
+		}
+
+		String name(Type type) {
+			if (type instanceof Class) {
+				Class<?> clazz = (Class<?>) type;
+				if (clazz.isArray())
+					return name(clazz.getComponentType()) + "[]";
+				if (clazz.isPrimitive())
+					return clazz.getName();
+
+				String packageOf = clazz.getPackage().getName();
+				if (packageOf.equals(packageName) == false
+						&& packageOf.equals("java.lang") == false)
+					names.add(clazz.getName().replace('$', '.'));
+				return clazz.getSimpleName();
+			}
+
+			if (type instanceof ParameterizedType) {
+				ParameterizedType parameterized = (ParameterizedType) type;
+				StringBuilder name = new StringBuilder(
+						name(parameterized.getRawType()));
+				name.append('<');
+				Type[] arguments = parameterized.getActualTypeArguments();
+				for (int i = 0; i < arguments.length; i++) {
+					if (i > 0)
+						name.append(", ");
+					name.append(name(arguments[i]));
+				}
+				return name.append('>').toString();
+			}
+
+			if (type instanceof GenericArrayType)
+				return name(((GenericArrayType) type)
+						.getGenericComponentType()) + "[]";
+
+			throw new IllegalArgumentException("Unsupported type : " + type);
+		}
+
+		@Override
+		public String toString() {
+			StringBuilder out = new StringBuilder();
+			String[] groups = { "java.", "com.google.", "" };
+			Set<String> written = new TreeSet<String>();
+
+			for (String group : groups) {
+				boolean empty = true;
+				for (String name : names) {
+					if (name.startsWith(group) && written.add(name)) {
+						out.append("import ").append(name).append(";\n");
+						empty = false;
+					}
+				}
+				if (empty == false)
+					out.append('\n');
+			}
+			return out.toString();
+		}
+	}
+}
@@ -0,0 +1,166 @@
+package com.popbill.api.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.popbill.api.ContactInfo;
+import com.popbill.api.PopbillGson;
+import com.popbill.api.Response;
+import com.popbill.api.cashbill.Cashbill;
+import com.popbill.api.hometax.HTTaxinvoiceJobState;
+import com.popbill.api.message.Message;
+import com.popbill.api.message.MSGSearchResult;
+import com.popbill.api.statement.Statement;
+import com.popbill.api.statement.StatementDetail;
+import com.popbill.api.taxinvoice.TISearchResult;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceDetail;
+
+public class TypeAdapterTEST {
+
+	private final Gson reflective = new Gson();
+	private final Gson generated = PopbillGson.get();
+
+	@Test
+	public void generatedSources_UpToDate() throws Exception {
+		Map<String, List<Class<?>>> models = TypeAdapterGenerator.findModels();
+		assertEquals(7, models.size());
+
+		for (Map.Entry<String, List<Class<?>>> entry : models.entrySet()) {
+			File file = TypeAdapterGenerator.sourceFile(
+					new File("src/main/java"), entry.getKey());
+			byte[] source = TypeAdapterGenerator.generate(entry.getKey(),
+					entry.getValue()).getBytes("UTF-8");
+
+			assertTrue(file + " is out of date. run TypeAdapterGenerator.",
+					Arrays.equals(source, TypeAdapterGenerator.read(file)));
+		}
+	}
+
+	@Test
+	public void write_SameAsReflective() throws Exception {
+		Taxinvoice taxinvoice = new Taxinvoice();
+		taxinvoice.setWriteDate("20261017");
+		taxinvoice.setChargeDirection("정과금");
+		taxinvoice.setIssueType("정발행");
+		taxinvoice.setInvoicerCorpNum("1234567890");
+		taxinvoice.setInvoicerCorpName("공급자 \"상호\"");
+		taxinvoice.setSupplyCostTotal("100000");
+		taxinvoice.setTaxTotal("10000");
+		taxinvoice.setWriteSpecification(true);
+		taxinvoice.setForceIssue(false);
+
+		List<TaxinvoiceDetail> details = new ArrayList<TaxinvoiceDetail>();
+		for (short i = 1; i <= 3; i++) {
+			TaxinvoiceDetail detail = new TaxinvoiceDetail();
+			detail.setSerialNum(i);
+			detail.setItemName("품목 " + i);
+			detail.setSupplyCost("1000");
+			details.add(detail);
+		}
+		taxinvoice.setDetailList(details);
+
+		assertSameJson(taxinvoice);
+
+		Statement statement = new Statement();
+		statement.setItemCode((short) 121);
+		statement.setMgtKey("20261017-01");
+		statement.setDetailList(new ArrayList<StatementDetail>());
+		statement.getPropertyBag().put("Balance", "15000");
+		statement.getPropertyBag().put("Deposit", "5000");
+
+		assertSameJson(statement);
+
+		Message message = new Message();
+		message.setSender("07043042991");
+		message.setReceiver("010111222");
+		message.setContent("메시지 내용\n줄바꿈");
+
+		String json = generated.toJson(message);
+		assertTrue(json, json.contains("\"snd\":\"07043042991\""));
+		assertTrue(json, json.contains("\"msg\":\"메시지 내용\\n줄바꿈\""));
+		assertSameJson(message);
+
+		assertSameJson(new Cashbill());
+		assertSameJson(new ContactInfo());
+		assertEquals("null", generated.toJson((Object) null));
+	}
+
+	@Test
+	public void read_SameAsReflective() throws Exception {
+		assertSameRead(TISearchResult.class, "{\"code\":1,\"total\":2,"
+				+ "\"perPage\":500,\"pageNum\":1,\"pageCount\":1,"
+				+ "\"message\":null,\"list\":[{\"itemKey\":\"K1\","
+				+ "\"stateCode\":300,\"openYN\":true,\"unknown\":{\"a\":[1]}},"
+				+ "{\"itemKey\":\"K2\",\"lateIssueYN\":\"false\"}]}");
+
+		assertSameRead(MSGSearchResult.class, "{\"code\":1,\"total\":1,"
+				+ "\"list\":[{\"sendNum\":\"070\",\"receiveNum\":\"010\","
+				+ "\"state\":3,\"result\":100}]}");
+
+		assertSameRead(Statement.class, "{\"itemCode\":121,\"mgtKey\":\"M\","
+				+ "\"propertyBag\":{\"Balance\":\"15000\"},"
+				+ "\"detailList\":[{\"serialNum\":\"1\",\"itemName\":\"A\"}]}");
+
+		assertSameRead(HTTaxinvoiceJobState.class, "{\"jobID\":\"J\","
+				+ "\"jobState\":3,\"errorCode\":\"0\",\"collectCount\":10,"
+				+ "\"errorReason\":null}");
+
+		assertSameRead(ContactInfo.class, "{\"id\":\"user\","
+				+ "\"searchAllAllowYN\":\"true\",\"mgrYN\":false}");
+	}
+
+	@Test
+	public void read_Primitives() throws Exception {
+		Response response = generated.fromJson(
+				"{\"code\":\"-11000001\",\"message\":\"error\"}",
+				Response.class);
+		assertEquals(-11000001, response.getCode());
+
+		response = generated.fromJson("{\"code\":null,\"message\":1}",
+				Response.class);
+		assertEquals(0, response.getCode());
+		assertEquals("1", response.getMessage());
+
+		assertNull(generated.fromJson("null", Response.class));
+
+		try {
+			generated.fromJson("{\"code\":\"abc\"}", Response.class);
+			fail("non-numeric code must be rejected.");
+		} catch (JsonSyntaxException e) {
+			assertNotNull(e);
+		}
+
+		try {
+			generated.fromJson("{\"code\":[1]}", Response.class);
+			fail("array code must be rejected.");
+		} catch (JsonSyntaxException e) {
+			assertNotNull(e);
+		}
+	}
+
+	private void assertSameJson(Object value) {
+		assertEquals(reflective.toJson(value), generated.toJson(value));
+	}
+
+	private <T> void assertSameRead(Class<T> type, String json) {
+		T expected = reflective.fromJson(json, type);
+		T actual = generated.fromJson(json, type);
+
+		assertEquals(reflective.toJson(expected), reflective.toJson(actual));
+		assertEquals(reflective.toJson(expected), generated.toJson(actual));
+	}
+}
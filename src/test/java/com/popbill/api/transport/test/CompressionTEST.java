@@ -0,0 +1,309 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.PopbillException;
+import com.popbill.api.closedown.CloseDownServiceImp;
+import com.popbill.api.message.Message;
+import com.popbill.api.transport.CompressionPolicy;
+import com.popbill.api.transport.GzipRequestBody;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.InMemoryMetrics;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.JsonRequestBody;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.OperationMetrics;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RequestBody;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class CompressionTEST {
+
+	private static final Operation SMS = new Operation("Message", "POST /SMS",
+			Idempotency.UNSAFE);
+
+	/** 요청 본문을 기록하며, rejectGzip 인 경우 압축된 요청을 415 로 거절하는 Transport. */
+	private static class RecordingTransport implements PopbillTransport {
+		final List<String> encodings = new ArrayList<String>();
+		final List<byte[]> bodies = new ArrayList<byte[]>();
+		volatile boolean rejectGzip;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			String encoding = request.getHeader("Content-Encoding");
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			request.getBody().writeTo(body);
+
+			encodings.add(encoding);
+			bodies.add(body.toByteArray());
+			request.setBytesSent(body.size());
+			request.markSent();
+
+			if (rejectGzip && "gzip".equals(encoding))
+				return new TransportResponse(415,
+						Collections.<String, String> emptyMap(),
+						new ByteArrayInputStream(new byte[0]));
+
+			return new TransportResponse(200,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream("[]".getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private RecordingTransport transport;
+	private CompressionPolicy compression;
+	private CloseDownServiceImp service;
+
+	@Before
+	public void setUp() {
+		transport = new RecordingTransport();
+		compression = new CompressionPolicy();
+		compression.setEnabled(true);
+
+		service = new CloseDownServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setCompressionPolicy(compression);
+	}
+
+	private static Message[] messages(int count) {
+		Message[] messages = new Message[count];
+		for (int i = 0; i < count; i++) {
+			messages[i] = new Message();
+			messages[i].setSender("07075103710");
+			messages[i].setReceiver("010" + (11110000 + i));
+			messages[i].setReceiverName("수신자 " + i);
+			messages[i].setContent("[팝빌] 고객님의 세금계산서가 발행되었습니다. 문의 1600-8536");
+		}
+		return messages;
+	}
+
+	private static String[] corpNums(int count) {
+		String[] corpNums = new String[count];
+		for (int i = 0; i < count; i++)
+			corpNums[i] = Long.toString(1000000000L + i * 7919L);
+		return corpNums;
+	}
+
+	private static byte[] gunzip(byte[] data) throws IOException {
+		InputStream input = new GZIPInputStream(new ByteArrayInputStream(data));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = input.read(buffer)) != -1)
+			output.write(buffer, 0, read);
+		return output.toByteArray();
+	}
+
+	private static byte[] toBytes(RequestBody body) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		body.writeTo(output);
+		return output.toByteArray();
+	}
+
+	@Test
+	public void gzip_TEST() throws IOException {
+		RequestBody source = new JsonRequestBody(new Gson(), messages(100));
+		GzipRequestBody body = new GzipRequestBody(source, 6);
+
+		byte[] original = toBytes(source);
+		byte[] compressed = toBytes(body);
+
+		assertEquals(compressed.length, body.getContentLength());
+		assertEquals(original.length, body.getUncompressedLength());
+		assertTrue(compressed.length < original.length / 4);
+		assertEquals(new String(original, "UTF-8"), new String(
+				gunzip(compressed), "UTF-8"));
+
+		// 재전송시 같은 본문.
+		assertEquals(new String(compressed, "ISO-8859-1"), new String(
+				toBytes(body), "ISO-8859-1"));
+	}
+
+	@Test
+	public void threshold_TEST() {
+		compression.setThreshold(1024);
+
+		RequestBody small = RequestBody.create(new byte[1023]);
+		assertSame(small, compression.compress(SMS, small));
+
+		RequestBody large = RequestBody.create(new byte[1024]);
+		assertTrue(compression.compress(SMS, large) instanceof GzipRequestBody);
+
+		// 재전송할 수 없는 본문.
+		RequestBody stream = new RequestBody() {
+			@Override
+			public long getContentLength() {
+				return 4096;
+			}
+
+			@Override
+			public void writeTo(OutputStream output) throws IOException {
+				output.write(new byte[4096]);
+			}
+		};
+		assertSame(stream, compression.compress(SMS, stream));
+
+		assertSame(large, CompressionPolicy.none().compress(SMS, large));
+		assertEquals(1, compression.getCompressedCount());
+	}
+
+	@Test
+	public void service_TEST() throws Exception {
+		InMemoryMetrics metrics = new InMemoryMetrics();
+		service.setMetrics(metrics);
+
+		assertEquals(0, service.CheckCorpNum(null, corpNums(10000)).length);
+
+		assertEquals("gzip", transport.encodings.get(0));
+
+		String json = new String(gunzip(transport.bodies.get(0)), "UTF-8");
+		assertTrue(json.startsWith("[\"1000000000\","));
+
+		OperationMetrics checkCorpNum = metrics.getOperations().values()
+				.iterator().next();
+		System.out.println("10000 CorpNum : "
+				+ checkCorpNum.getRequestBytes() + " -> "
+				+ checkCorpNum.getRequestWireBytes() + " bytes");
+		assertEquals(json.getBytes("UTF-8").length,
+				checkCorpNum.getRequestBytes());
+		assertEquals(transport.bodies.get(0).length,
+				checkCorpNum.getRequestWireBytes());
+
+		// 작은 요청은 압축하지 않음.
+		service.CheckCorpNum(null, corpNums(10));
+		assertNull(transport.encodings.get(1));
+	}
+
+	@Test
+	public void fallback_TEST() throws PopbillException {
+		transport.rejectGzip = true;
+
+		assertEquals(0, service.CheckCorpNum(null, corpNums(10000)).length);
+
+		// 거절된 후 압축하지 않고 다시 전송.
+		assertEquals(2, transport.encodings.size());
+		assertEquals("gzip", transport.encodings.get(0));
+		assertNull(transport.encodings.get(1));
+		assertEquals(1, compression.getFallbackCount());
+
+		Operation checkCorpNum = new Operation("CloseDown", "POST /CloseDown",
+				Idempotency.SAFE);
+		assertTrue(compression.isSupported("popbill_test.linkhub.co.kr",
+				checkCorpNum) == false);
+		System.out.println(compression);
+
+		// 이후로는 압축하지 않음.
+		service.CheckCorpNum(null, corpNums(10000));
+		assertEquals(3, transport.encodings.size());
+		assertNull(transport.encodings.get(2));
+
+		compression.reset();
+		assertTrue(compression.isSupported("popbill_test.linkhub.co.kr",
+				checkCorpNum));
+	}
+
+	@Test
+	public void fallbackScope_TEST() throws IOException {
+		RequestBody body = RequestBody.create(new byte[32768]);
+		Operation fax = new Operation("Message", "POST /FAX",
+				Idempotency.UNSAFE);
+
+		compression.markUnsupported("popbill_test.linkhub.co.kr", SMS);
+
+		// 거절한 대상 서버의 요청 유형만 압축하지 않음.
+		assertSame(body, compression.compress("popbill_test.linkhub.co.kr",
+				SMS, body));
+		assertTrue(compression.compress("popbill.linkhub.co.kr", SMS, body) instanceof GzipRequestBody);
+		assertTrue(compression.compress("popbill_test.linkhub.co.kr", fax,
+				body) instanceof GzipRequestBody);
+	}
+
+	@Test
+	public void fallbackExpiry_TEST() throws Exception {
+		transport.rejectGzip = true;
+		compression.setFallbackDuration(100);
+
+		service.CheckCorpNum(null, corpNums(10000));
+		assertEquals(2, transport.encodings.size());
+
+		Thread.sleep(150);
+
+		// 유지시간이 지나면 다시 압축하여 전송.
+		transport.rejectGzip = false;
+		service.CheckCorpNum(null, corpNums(10000));
+		assertEquals(3, transport.encodings.size());
+		assertEquals("gzip", transport.encodings.get(2));
+	}
+
+	@Test
+	public void benchmark_TEST() throws IOException {
+		RequestBody source = new JsonRequestBody(new Gson(), messages(1000));
+		long length = source.getContentLength();
+		int iterations = 200;
+
+		// 직렬화만 하는 경우와 비교.
+		OutputStream sink = new OutputStream() {
+			@Override
+			public void write(int b) {
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) {
+			}
+		};
+		for (int i = 0; i < 20; i++)
+			source.writeTo(sink);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < iterations; i++)
+			source.writeTo(sink);
+
+		System.out.println("1000 SMS body : " + length + " bytes, "
+				+ (System.nanoTime() - start) / 1000 / iterations
+				+ "us/request");
+
+		for (int level : new int[] { 1, 6, 9 }) {
+			// warm-up
+			for (int i = 0; i < 20; i++)
+				new GzipRequestBody(source, level).getContentLength();
+
+			long wire = 0;
+			start = System.nanoTime();
+			for (int i = 0; i < iterations; i++)
+				wire = new GzipRequestBody(source, level).getContentLength();
+			long micros = (System.nanoTime() - start) / 1000 / iterations;
+
+			System.out.println("level " + level + " : " + wire + " bytes ("
+					+ (wire * 100 / length) + "%), " + micros + "us/request");
+
+			assertTrue(wire < length / 4);
+		}
+	}
+}
@@ -0,0 +1,215 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.popbill.api.CorpState;
+import com.popbill.api.JsonCodecs;
+import com.popbill.api.PopbillGson;
+import com.popbill.api.Response;
+import com.popbill.api.closedown.CloseDownServiceImp;
+import com.popbill.api.transport.GsonJsonCodec;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.JsonCodec;
+import com.popbill.api.transport.JsonCodecException;
+import com.popbill.api.transport.JsonRequestBody;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class JsonCodecTEST {
+
+	/** 호출 횟수를 세는 Codec. 시스템 속성으로 지정할 수 있도록 public 입니다. */
+	public static class CountingCodec implements JsonCodec {
+		final JsonCodec delegate = JsonCodecs.gson();
+		final AtomicInteger writes = new AtomicInteger();
+		final AtomicInteger reads = new AtomicInteger();
+
+		@Override
+		public void write(Object value, OutputStream output)
+				throws IOException {
+			writes.incrementAndGet();
+			delegate.write(value, output);
+		}
+
+		@Override
+		public <T> T read(InputStream input, Class<T> type)
+				throws IOException {
+			reads.incrementAndGet();
+			return delegate.read(input, type);
+		}
+	}
+
+	/** 요청 본문을 기록하고 고정된 응답을 반환하는 Transport. */
+	private static class EchoTransport implements PopbillTransport {
+		volatile String requestBody;
+
+		@Override
+		public TransportResponse execute(TransportRequest request)
+				throws IOException {
+			ByteArrayOutputStream body = new ByteArrayOutputStream();
+			request.getBody().writeTo(body);
+			requestBody = body.toString("UTF-8");
+			request.markSent();
+
+			return new TransportResponse(200,
+					Collections.<String, String> emptyMap(),
+					new ByteArrayInputStream(
+							"[{\"corpNum\":\"1234567890\",\"state\":\"1\"}]"
+									.getBytes("UTF-8")));
+		}
+
+		@Override
+		public void shutdown() {
+		}
+	}
+
+	private static InputStream stream(String json) throws IOException {
+		return new ByteArrayInputStream(json.getBytes("UTF-8"));
+	}
+
+	@Test
+	public void gson_Stream() throws Exception {
+		JsonCodec codec = new GsonJsonCodec(PopbillGson.get());
+		final boolean[] closed = new boolean[1];
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream() {
+			@Override
+			public void close() throws IOException {
+				closed[0] = true;
+			}
+		};
+		codec.write(new String[] { "한글", "\"quoted\"" }, output);
+
+		assertEquals("[\"한글\",\"\\\"quoted\\\"\"]", output.toString("UTF-8"));
+		assertTrue("output must not be closed.", closed[0] == false);
+
+		Response response = codec.read(
+				stream("{\"code\":1,\"message\":\"OK\",\"unknown\":[1,2]}"),
+				Response.class);
+		assertEquals(1, response.getCode());
+		assertEquals("OK", response.getMessage());
+
+		assertNull(codec.read(stream(""), Response.class));
+		assertNull(codec.read(stream("null"), Response.class));
+	}
+
+	@Test
+	public void gson_Errors() throws Exception {
+		JsonCodec codec = JsonCodecs.gson();
+		final IOException failure = new IOException("connection reset");
+
+		InputStream broken = new InputStream() {
+			private int count;
+
+			@Override
+			public int read() throws IOException {
+				if (count++ < 10)
+					return "{\"code\":1,".charAt(count - 1);
+				throw failure;
+			}
+		};
+
+		try {
+			codec.read(broken, Response.class);
+			fail("I/O error must be thrown.");
+		} catch (IOException e) {
+			assertSame(failure, e);
+		}
+
+		// 응답이 중간에 끊긴 경우는 수신 오류로 전달됩니다.
+		try {
+			codec.read(stream("{\"code\":1,"), Response.class);
+			fail("truncated document must be rejected.");
+		} catch (EOFException e) {
+			assertTrue(e.getMessage(), e.getMessage() != null);
+		}
+
+		try {
+			codec.read(stream("{\"code\":[1]}"), Response.class);
+			fail("unexpected array must be rejected.");
+		} catch (JsonCodecException e) {
+			assertTrue(e.getMessage(), e.getMessage() != null);
+		}
+
+		try {
+			codec.read(stream("{\"code\":\"abc\"}"), Response.class);
+			fail("invalid number must be rejected.");
+		} catch (JsonCodecException e) {
+			assertTrue(e.getMessage(), e.getMessage() != null);
+		}
+
+		OutputStream closedOutput = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw failure;
+			}
+		};
+
+		try {
+			new JsonRequestBody(codec, new String[] { "a" })
+					.writeTo(closedOutput);
+			fail("I/O error must be thrown.");
+		} catch (IOException e) {
+			assertSame(failure, e);
+		}
+	}
+
+	@Test
+	public void service_UsesCodec() throws Exception {
+		EchoTransport transport = new EchoTransport();
+		CountingCodec codec = new CountingCodec();
+
+		CloseDownServiceImp service = new CloseDownServiceImp();
+		service.setTest(true);
+		service.setTransport(transport);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setJsonCodec(codec);
+
+		CorpState[] states = service.CheckCorpNum(null,
+				new String[] { "1234567890" });
+
+		assertEquals(1, states.length);
+		assertEquals("1234567890", states[0].getCorpNum());
+		assertEquals("[\"1234567890\"]", transport.requestBody);
+		assertEquals(1, codec.reads.get());
+		assertTrue(codec.writes.get() >= 1);
+	}
+
+	@Test
+	public void create_ByClassName() throws Exception {
+		assertTrue(JsonCodecs.create(null) instanceof GsonJsonCodec);
+		assertTrue(JsonCodecs.create(" ") instanceof GsonJsonCodec);
+		assertTrue(JsonCodecs.create(CountingCodec.class.getName()) instanceof CountingCodec);
+
+		try {
+			JsonCodecs.create("com.popbill.api.NoSuchCodec");
+			fail("unknown class must be rejected.");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("NoSuchCodec"));
+		}
+
+		try {
+			JsonCodecs.create(String.class.getName());
+			fail("non-codec class must be rejected.");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage(), e.getMessage().contains("String"));
+		}
+	}
+}
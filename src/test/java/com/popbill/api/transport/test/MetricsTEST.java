@@ -0,0 +1,191 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.Histogram;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.InMemoryMetrics;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.OperationMetrics;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class MetricsTEST {
+
+	private static final Operation GET_INFO = new Operation("Cashbill",
+			"GET /Cashbill/*", Idempotency.SAFE);
+
+	@Test
+	public void histogram_TEST() {
+		Histogram histogram = new Histogram(3600L * 1000 * 1000);
+
+		for (long i = 1; i <= 10000; i++)
+			histogram.record(i * 100);
+
+		assertEquals(10000, histogram.getCount());
+		assertEquals(1000000, histogram.getMax());
+
+		// 상대오차 1.6% 이내.
+		assertNear(500000, histogram.getValueAtPercentile(50));
+		assertNear(990000, histogram.getValueAtPercentile(99));
+		assertEquals(1000000, histogram.getValueAtPercentile(100));
+		assertEquals(500050, Math.round(histogram.getMean()));
+
+		System.out.println(histogram);
+
+		// 범위를 넘는 값.
+		histogram.record(Long.MAX_VALUE);
+		assertEquals(3600L * 1000 * 1000, histogram.getMax());
+
+		histogram.reset();
+		assertEquals(0, histogram.getValueAtPercentile(50));
+		assertEquals(0, histogram.getMin());
+	}
+
+	@Test
+	public void histogramAdd_TEST() {
+		Histogram total = new Histogram(3600L * 1000 * 1000);
+		Histogram first = new Histogram(3600L * 1000 * 1000);
+		Histogram second = new Histogram(3600L * 1000 * 1000);
+
+		for (long i = 1; i <= 5000; i++) {
+			first.record(i * 100);
+			second.record((i + 5000) * 100);
+		}
+
+		total.add(first);
+		total.add(second);
+		total.add(new Histogram(1000));
+
+		assertEquals(10000, total.getCount());
+		assertEquals(100, total.getMin());
+		assertEquals(1000000, total.getMax());
+		assertNear(500000, total.getValueAtPercentile(50));
+		assertNear(990000, total.getValueAtPercentile(99));
+		assertEquals(500050, Math.round(total.getMean()));
+	}
+
+	@Test
+	public void service_TEST() throws Exception {
+		InMemoryMetrics metrics = new InMemoryMetrics();
+		final Map<String, Object> reply = new HashMap<String, Object>();
+
+		CashbillServiceImp service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setMetrics(metrics);
+		service.setTransport(new PopbillTransport() {
+			@Override
+			public TransportResponse execute(TransportRequest request)
+					throws IOException {
+				request.setConnectTime(2000000);
+				request.setFirstByteTime(5000000);
+				request.markSent();
+
+				return new TransportResponse((Integer) reply.get("status"),
+						Collections.singletonMap("Content-Encoding",
+								"gzip"), new ByteArrayInputStream(
+								(byte[]) reply.get("body")));
+			}
+
+			@Override
+			public void shutdown() {
+			}
+		});
+
+		byte[] ok = gzip("{\"itemKey\":\"0123\"}");
+		reply.put("status", 200);
+		reply.put("body", ok);
+
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-02"));
+
+		reply.put("status", 400);
+		reply.put("body", gzip("{\"code\":-14000001,\"message\":\"error\"}"));
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-03");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(-14000001, pe.getCode());
+		}
+
+		OperationMetrics operation = metrics.get(GET_INFO);
+		System.out.println(operation);
+
+		assertEquals(3, operation.getTotal().getCount());
+		assertEquals(0, operation.getInFlight());
+		assertEquals(3, operation.getConnect().getCount());
+		assertNear(5000, operation.getFirstByte().getValueAtPercentile(50));
+		assertEquals(1, operation.getErrorCount());
+		assertEquals(Long.valueOf(1), operation.getErrorCodes().get(-14000001L));
+		assertEquals(2 * "{\"itemKey\":\"0123\"}".length()
+				+ "{\"code\":-14000001,\"message\":\"error\"}".length(),
+				operation.getResponseBytes());
+	}
+
+	@Test
+	public void allocation_TEST() {
+		InMemoryMetrics metrics = new InMemoryMetrics();
+
+		for (int i = 0; i < 10000; i++)
+			record(metrics, i);
+
+		long allocated = allocated();
+		for (int i = 0; i < 10000; i++)
+			record(metrics, i);
+		allocated = allocated() - allocated;
+
+		System.out.println("metrics : " + allocated + " bytes for 10000 calls");
+
+		// 측정 자체의 할당 오차만 허용.
+		assertTrue(allocated < 10000);
+	}
+
+	private static void record(InMemoryMetrics metrics, long value) {
+		metrics.callStarted(GET_INFO);
+		metrics.tokenIssued(GET_INFO, value);
+		metrics.connected(GET_INFO, value);
+		metrics.firstByteReceived(GET_INFO, value * 10);
+		metrics.bytesTransferred(GET_INFO, 100, 100, 1000, 200);
+		metrics.callCompleted(GET_INFO, value * 20, 0);
+	}
+
+	private static void assertNear(long expected, long actual) {
+		assertTrue(expected + " ~ " + actual,
+				Math.abs(actual - expected) <= expected * 0.016);
+	}
+
+	private static byte[] gzip(String text) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		GZIPOutputStream gzip = new GZIPOutputStream(output);
+		gzip.write(text.getBytes("UTF-8"));
+		gzip.close();
+		return output.toByteArray();
+	}
+
+	private static long allocated() {
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+}
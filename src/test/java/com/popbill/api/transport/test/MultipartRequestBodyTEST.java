@@ -0,0 +1,159 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import com.popbill.api.transport.MultipartRequestBody;
+
+public class MultipartRequestBodyTEST {
+
+	private static final String boundary = "--u489jwe98j3498j394r23450--";
+
+	@Test
+	public void format_TEST() throws IOException {
+		File file = tempFile(1000);
+
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+		body.addPart("form", "Application/json; charset=utf-8",
+				"{\"snd\":\"07075103710\"}".getBytes("UTF-8"));
+		body.addFilePart("file", "팩스.pdf", "Application/octet-stream", file);
+
+		ByteArrayOutputStream expected = new ByteArrayOutputStream();
+		expected.write(("--" + boundary + "\r\n"
+				+ "content-disposition: form-data; name=\"form\"\r\n"
+				+ "content-type: Application/json; charset=utf-8\r\n\r\n"
+				+ "{\"snd\":\"07075103710\"}\r\n" + "--" + boundary + "\r\n"
+				+ "content-disposition: form-data; name=\"file\"; filename=\"팩스.pdf\"\r\n"
+				+ "content-type: Application/octet-stream\r\n\r\n")
+				.getBytes("UTF-8"));
+		expected.write(readAll(new FileInputStream(file)));
+		expected.write(("\r\n--" + boundary + "--\r\n").getBytes("UTF-8"));
+
+		ByteArrayOutputStream actual = new ByteArrayOutputStream();
+		body.writeTo(actual);
+
+		assertEquals(expected.size(), body.getContentLength());
+		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+
+		// File part is reopened on every write.
+		assertTrue(body.isRepeatable());
+		actual.reset();
+		body.writeTo(actual);
+		assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+
+		file.delete();
+	}
+
+	@Test
+	public void streamLength_TEST() throws IOException {
+		File file = tempFile(5000);
+
+		FileInputStream input = new FileInputStream(file);
+		input.skip(1000);
+		assertEquals(4000, MultipartRequestBody.lengthOf(input));
+		input.close();
+
+		assertEquals(3, MultipartRequestBody.lengthOf(new ByteArrayInputStream(
+				new byte[3])));
+
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+		body.addStreamPart("Filedata", "a.txt", "Application/octet-stream",
+				new InputStream() {
+					@Override
+					public int read() {
+						return -1;
+					}
+				}, -1);
+
+		// unknown length : chunked, not repeatable.
+		assertEquals(-1, body.getContentLength());
+		assertFalse(body.isRepeatable());
+
+		file.delete();
+	}
+
+	@Test
+	public void largeFile_TEST() throws IOException {
+		int size = 20 * 1024 * 1024;
+		File file = tempFile(size);
+
+		MultipartRequestBody body = new MultipartRequestBody(boundary);
+		for (int i = 0; i < 5; i++)
+			body.addFilePart("file", "fax" + i + ".pdf",
+					"Application/octet-stream", file);
+
+		CountingOutputStream sink = new CountingOutputStream();
+
+		// warm up buffer pool.
+		body.writeTo(new CountingOutputStream());
+
+		long before = allocated();
+		body.writeTo(sink);
+		long allocated = allocated() - before;
+
+		System.out.println("5 x 20MB multipart : " + sink.count
+				+ " bytes written, " + allocated + " bytes allocated");
+
+		assertEquals(body.getContentLength(), sink.count);
+		assertTrue(allocated < size);
+
+		file.delete();
+	}
+
+	private static long allocated() {
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static File tempFile(int size) throws IOException {
+		File file = File.createTempFile("popbill", ".bin");
+		file.deleteOnExit();
+		OutputStream output = new FileOutputStream(file);
+		byte[] chunk = new byte[8192];
+		for (int i = 0; i < chunk.length; i++)
+			chunk[i] = (byte) i;
+		for (int written = 0; written < size; written += chunk.length)
+			output.write(chunk, 0, Math.min(chunk.length, size - written));
+		output.close();
+		return file;
+	}
+
+	private static byte[] readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[8192];
+		int read;
+		while ((read = input.read(buffer)) > 0)
+			output.write(buffer, 0, read);
+		input.close();
+		return output.toByteArray();
+	}
+
+	private static class CountingOutputStream extends OutputStream {
+		long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
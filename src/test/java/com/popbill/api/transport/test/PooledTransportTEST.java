@@ -0,0 +1,496 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.PoolStats;
+import com.popbill.api.transport.PooledTransport;
+import com.popbill.api.transport.RequestBody;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+public class PooledTransportTEST {
+
+	private HttpServer server;
+	private String baseURL;
+
+	@Before
+	public void setUp() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+
+		server.createContext("/fixed", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				byte[] body = "{\"code\":1}".getBytes("UTF-8");
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+				exchange.close();
+			}
+		});
+
+		server.createContext("/echo", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				byte[] body = readAll(exchange.getRequestBody());
+				// length 0 : chunked response
+				exchange.sendResponseHeaders(200, 0);
+				exchange.getResponseBody().write(body);
+				exchange.close();
+			}
+		});
+
+		server.createContext("/slow", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				sleep(1000);
+				byte[] body = "{\"code\":1}".getBytes("UTF-8");
+				exchange.sendResponseHeaders(200, body.length);
+				exchange.getResponseBody().write(body);
+				exchange.close();
+			}
+		});
+
+		server.createContext("/trickle", new HttpHandler() {
+			@Override
+			public void handle(HttpExchange exchange) throws IOException {
+				// 응답 헤더 이후 본문을 조금씩 전송.
+				exchange.sendResponseHeaders(200, 0);
+				try {
+					for (int i = 0; i < 40; i++) {
+						exchange.getResponseBody().write(' ');
+						exchange.getResponseBody().flush();
+						sleep(50);
+					}
+				} catch (IOException e) {
+				}
+				exchange.close();
+			}
+		});
+
+		server.setExecutor(Executors.newCachedThreadPool());
+		server.start();
+		baseURL = "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	@After
+	public void tearDown() {
+		server.stop(0);
+	}
+
+	@Test
+	public void reuseConnection_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		for (int i = 0; i < 3; i++) {
+			TransportResponse response = transport
+					.execute(new TransportRequest("GET", baseURL + "/fixed"));
+
+			assertEquals(200, response.getStatusCode());
+			assertEquals("{\"code\":1}",
+					new String(readAll(response.getBody()), "UTF-8"));
+			response.close();
+		}
+
+		PoolStats stats = transport.getStats();
+
+		System.out.println(stats);
+
+		assertEquals(1, stats.getCreated());
+		assertEquals(2, stats.getReused());
+		assertEquals(1, stats.getIdle());
+		assertEquals(0, stats.getLeased());
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void chunkedBody_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		final byte[] data = new byte[100000];
+		for (int i = 0; i < data.length; i++)
+			data[i] = (byte) ('a' + i % 26);
+
+		TransportRequest request = new TransportRequest("POST", baseURL + "/echo");
+		request.setBody(new RequestBody() {
+			@Override
+			public long getContentLength() {
+				return -1;
+			}
+
+			@Override
+			public void writeTo(OutputStream output) throws IOException {
+				output.write(data);
+			}
+		});
+
+		TransportResponse response = transport.execute(request);
+		byte[] echoed = readAll(response.getBody());
+		response.close();
+
+		assertEquals(data.length, echoed.length);
+		assertEquals(new String(data, "UTF-8"), new String(echoed, "UTF-8"));
+
+		// 본문을 다 읽었으므로 연결이 반환되어야 합니다.
+		assertEquals(1, transport.getStats().getIdle());
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void idleEviction_TEST() throws Exception {
+		PooledTransport transport = new PooledTransport(5, 50);
+
+		transport.execute(new TransportRequest("GET", baseURL + "/fixed"))
+				.close();
+		assertEquals(1, transport.getStats().getIdle());
+
+		Thread.sleep(100);
+		transport.evictIdleConnections();
+
+		assertEquals(0, transport.getStats().getIdle());
+		assertEquals(1, transport.getStats().getEvicted());
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void maxConnections_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(1, 30000);
+		transport.setLeaseTimeout(100);
+
+		TransportResponse first = transport.execute(new TransportRequest(
+				"GET", baseURL + "/fixed"));
+
+		try {
+			transport.execute(new TransportRequest("GET", baseURL + "/fixed"));
+			assertTrue("pool limit exceeded", false);
+		} catch (IOException e) {
+			System.out.println(e.getMessage());
+		}
+
+		first.close();
+
+		transport.execute(new TransportRequest("GET", baseURL + "/fixed"))
+				.close();
+		assertEquals(1, transport.getStats().getCreated());
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void readTimeout_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(5, 30000);
+		transport.setReadTimeout(200);
+
+		long start = System.nanoTime();
+		try {
+			transport.execute(new TransportRequest("GET", baseURL + "/slow"));
+			assertTrue("read timeout expected", false);
+		} catch (SocketTimeoutException e) {
+			System.out.println(e.getMessage());
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(elapsed < 900);
+		assertEquals(0, transport.getStats().getLeased());
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void deadline_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		// 수신 대기 제한에 걸리지 않고 조금씩 수신되는 응답도 기한에 중단됩니다.
+		TransportRequest request = new TransportRequest("GET", baseURL
+				+ "/trickle");
+		request.setDeadline(System.nanoTime()
+				+ TimeUnit.MILLISECONDS.toNanos(300));
+
+		long start = System.nanoTime();
+		TransportResponse response = transport.execute(request);
+		try {
+			readAll(response.getBody());
+			assertTrue("deadline exceeded expected", false);
+		} catch (IOException e) {
+			System.out.println(e.getMessage());
+		} finally {
+			response.close();
+		}
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		assertTrue(request.isExpired());
+		assertTrue(elapsed < 1500);
+
+		// 중단된 연결은 재사용하지 않습니다.
+		assertEquals(0, transport.getStats().getIdle());
+
+		// 이미 지난 기한.
+		try {
+			transport.execute(request);
+			assertTrue("deadline exceeded expected", false);
+		} catch (SocketTimeoutException e) {
+		}
+
+		transport.execute(new TransportRequest("GET", baseURL + "/fixed"))
+				.close();
+
+		transport.shutdown();
+	}
+
+	@Test
+	public void cancel_TEST() throws IOException {
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		final TransportRequest request = new TransportRequest("GET", baseURL
+				+ "/trickle");
+		TransportResponse response = transport.execute(request);
+
+		new Thread() {
+			@Override
+			public void run() {
+				PooledTransportTEST.sleep(100);
+				request.cancel();
+			}
+		}.start();
+
+		try {
+			readAll(response.getBody());
+			assertTrue("cancelled", false);
+		} catch (IOException e) {
+			System.out.println(e.getMessage());
+		} finally {
+			response.close();
+		}
+
+		assertTrue(request.isCancelled());
+		assertEquals(0, transport.getStats().getIdle());
+
+		// 취소된 요청은 전송하지 않음.
+		try {
+			transport.execute(request);
+			assertTrue("cancelled", false);
+		} catch (InterruptedIOException e) {
+		}
+
+		transport.shutdown();
+	}
+
+	/**
+	 * 연결마다 첫 요청에만 응답하고, 두번째 요청은 모두 읽은 후 연결을 끊는 서버.
+	 * closeIdle 이면 첫 응답 후 바로 연결을 닫습니다.
+	 */
+	private static class ResetServer extends Thread {
+		final ServerSocket serverSocket;
+		final AtomicInteger requests = new AtomicInteger();
+		final boolean closeIdle;
+
+		ResetServer() throws IOException {
+			this(false);
+		}
+
+		ResetServer(boolean closeIdle) throws IOException {
+			serverSocket = new ServerSocket(0, 50,
+					InetAddress.getByName("127.0.0.1"));
+			this.closeIdle = closeIdle;
+			setDaemon(true);
+		}
+
+		String getURL() {
+			return "http://127.0.0.1:" + serverSocket.getLocalPort();
+		}
+
+		@Override
+		public void run() {
+			while (serverSocket.isClosed() == false) {
+				try {
+					final Socket socket = serverSocket.accept();
+					new Thread() {
+						@Override
+						public void run() {
+							serve(socket);
+						}
+					}.start();
+				} catch (IOException e) {
+					return;
+				}
+			}
+		}
+
+		void serve(Socket socket) {
+			try {
+				InputStream input = socket.getInputStream();
+				OutputStream output = socket.getOutputStream();
+
+				for (int count = 1;; count++) {
+					if (readRequest(input) == false)
+						break;
+					requests.incrementAndGet();
+
+					if (count > 1) {
+						// RST 로 연결 종료.
+						socket.setSoLinger(true, 0);
+						break;
+					}
+
+					output.write(("HTTP/1.1 200 OK\r\nContent-Length: 10\r\n"
+							+ "\r\n{\"code\":1}").getBytes("ISO-8859-1"));
+					output.flush();
+
+					if (closeIdle)
+						break;
+				}
+			} catch (IOException e) {
+			} finally {
+				try {
+					socket.close();
+				} catch (IOException e) {
+				}
+			}
+		}
+
+		static boolean readRequest(InputStream input) throws IOException {
+			StringBuilder line = new StringBuilder();
+			int contentLength = 0;
+			boolean started = false;
+			int c;
+
+			while ((c = input.read()) != -1) {
+				started = true;
+				if (c == '\r')
+					continue;
+				if (c != '\n') {
+					line.append((char) c);
+					continue;
+				}
+				if (line.length() == 0)
+					break;
+				if (line.toString().toLowerCase().startsWith("content-length:"))
+					contentLength = Integer.parseInt(line.substring(15).trim());
+				line.setLength(0);
+			}
+
+			if (started == false || c == -1)
+				return false;
+
+			for (int i = 0; i < contentLength; i++)
+				input.read();
+			return true;
+		}
+
+		void shutdown() throws IOException {
+			serverSocket.close();
+		}
+	}
+
+	@Test
+	public void staleConnection_TEST() throws Exception {
+		ResetServer resetServer = new ResetServer();
+		resetServer.start();
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		try {
+			// 조회 요청은 새 연결로 다시 전송됩니다.
+			readAll(transport.execute(
+					new TransportRequest("GET", resetServer.getURL() + "/a"))
+					.getBody());
+			TransportResponse response = transport.execute(new TransportRequest(
+					"GET", resetServer.getURL() + "/a"));
+			readAll(response.getBody());
+			response.close();
+			assertEquals(3, resetServer.requests.get());
+
+			// 전송된 UNSAFE 요청은 다시 전송하지 않습니다.
+			TransportRequest request = new TransportRequest("POST",
+					resetServer.getURL() + "/b");
+			request.setIdempotency(Idempotency.UNSAFE);
+			request.setBody(RequestBody.create("{}".getBytes("UTF-8")));
+
+			try {
+				transport.execute(request);
+				assertTrue("connection reset", false);
+			} catch (IOException e) {
+				assertTrue(request.isSent());
+			}
+
+			sleep(100);
+			assertEquals(4, resetServer.requests.get());
+		} finally {
+			transport.shutdown();
+			resetServer.shutdown();
+		}
+	}
+
+	@Test
+	public void idleClosedConnection_TEST() throws Exception {
+		ResetServer closingServer = new ResetServer(true);
+		closingServer.start();
+		PooledTransport transport = new PooledTransport(5, 30000);
+
+		try {
+			readAll(transport.execute(
+					new TransportRequest("GET", closingServer.getURL() + "/a"))
+					.getBody());
+
+			// 오래 유휴였던 연결은 재사용 전에 확인하여 버립니다.
+			sleep(1100);
+			readAll(transport.execute(
+					new TransportRequest("GET", closingServer.getURL() + "/a"))
+					.getBody());
+
+			assertEquals(2, transport.getStats().getCreated());
+			assertEquals(0, transport.getStats().getReused());
+
+			// 방금 반환된 연결은 확인 없이 사용하고, 실패하면 새 연결로 다시 전송.
+			readAll(transport.execute(
+					new TransportRequest("GET", closingServer.getURL() + "/a"))
+					.getBody());
+
+			assertEquals(3, transport.getStats().getCreated());
+			assertEquals(1, transport.getStats().getReused());
+			assertEquals(3, closingServer.requests.get());
+		} finally {
+			transport.shutdown();
+			closingServer.shutdown();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+		}
+	}
+
+	private static byte[] readAll(InputStream input) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] buffer = new byte[4096];
+		int read;
+		while ((read = input.read(buffer)) != -1)
+			output.write(buffer, 0, read);
+		return output.toByteArray();
+	}
+}
@@ -0,0 +1,149 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import com.popbill.api.PopbillException;
+import com.popbill.api.cashbill.CashbillServiceImp;
+import com.popbill.api.transport.Idempotency;
+import com.popbill.api.transport.IsolationPolicy;
+import com.popbill.api.transport.Operation;
+import com.popbill.api.transport.PopbillTransport;
+import com.popbill.api.transport.RateLimiter;
+import com.popbill.api.transport.RetryPolicy;
+import com.popbill.api.transport.TokenBucket;
+import com.popbill.api.transport.TransportRequest;
+import com.popbill.api.transport.TransportResponse;
+
+public class RateLimiterTEST {
+
+	private static final Operation SMS = new Operation("Message", "POST /SMS",
+			Idempotency.UNSAFE);
+	private static final Operation GET_INFOS = new Operation("Taxinvoice",
+			"POST /Taxinvoice/SELL", Idempotency.SAFE);
+
+	@Test
+	public void tokenBucket_TEST() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket("test", 10, 2);
+
+		assertTrue(bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire());
+		assertTrue(bucket.tryAcquire() == false);
+		assertEquals(1, bucket.getRejectedCount());
+
+		Thread.sleep(150);
+		assertTrue(bucket.tryAcquire());
+	}
+
+	@Test
+	public void blockingPace_TEST() throws InterruptedException {
+		TokenBucket bucket = new TokenBucket("test", 50, 1);
+
+		long start = System.nanoTime();
+		for (int i = 0; i < 11; i++)
+			assertTrue(bucket.acquire(1, TimeUnit.SECONDS));
+		long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+		// 첫 허가 이후 10 건은 20ms 간격.
+		System.out.println("11 permits at 50/s : " + elapsed + "ms");
+		assertTrue(elapsed >= 190);
+
+		// 대기시간 안에 받을 수 없으면 예약하지 않음.
+		assertTrue(bucket.acquire(1, TimeUnit.MILLISECONDS) == false);
+	}
+
+	@Test
+	public void corpNum_TEST() {
+		RateLimiter limiter = new RateLimiter();
+		limiter.setGlobalRate(0.001, 3);
+		limiter.setDefaultCorpNumRate(0.001, 1);
+
+		assertTrue(limiter.tryAcquire(GET_INFOS, "1111111111"));
+
+		// 한 회원이 한도를 넘어도 다른 회원은 영향을 받지 않으며, 거절된 호출은
+		// 전체 한도를 소모하지 않음.
+		assertTrue(limiter.tryAcquire(GET_INFOS, "1111111111") == false);
+		assertTrue(limiter.tryAcquire(GET_INFOS, "1111111111") == false);
+		assertTrue(limiter.tryAcquire(GET_INFOS, "2222222222"));
+		assertTrue(limiter.tryAcquire(GET_INFOS, "3333333333"));
+
+		// 전체 한도 소진.
+		assertTrue(limiter.tryAcquire(GET_INFOS, "4444444444") == false);
+
+		for (TokenBucket bucket : limiter.getBuckets().values())
+			System.out.println(bucket);
+	}
+
+	@Test
+	public void serviceAndEndpoint_TEST() throws InterruptedException {
+		RateLimiter limiter = new RateLimiter();
+		limiter.setEndpointRate("Message", "POST /SMS", 0.001, 2);
+		limiter.setServiceRate("Taxinvoice", 0.001, 1);
+
+		assertTrue(limiter.tryAcquire(SMS, null));
+		assertTrue(limiter.tryAcquire(SMS, null));
+		assertTrue(limiter.tryAcquire(SMS, null) == false);
+
+		assertTrue(limiter.tryAcquire(GET_INFOS, null));
+		assertTrue(limiter.tryAcquire(GET_INFOS, null) == false);
+
+		// 제한이 없는 요청 유형.
+		Operation LMS = new Operation("Message", "POST /LMS",
+				Idempotency.UNSAFE);
+		for (int i = 0; i < 100; i++)
+			assertTrue(limiter.acquire(LMS, null));
+
+		assertEquals(2, limiter.getBuckets().size());
+	}
+
+	@Test
+	public void service_TEST() throws PopbillException {
+		final AtomicInteger calls = new AtomicInteger();
+
+		RateLimiter limiter = new RateLimiter();
+		limiter.setServiceRate("Cashbill", 0.001, 1);
+		limiter.setMaxWait(0);
+
+		CashbillServiceImp service = new CashbillServiceImp();
+		service.setTest(true);
+		service.setRetryPolicy(RetryPolicy.none());
+		service.setIsolationPolicy(IsolationPolicy.none());
+		service.setRateLimiter(limiter);
+		service.setTransport(new PopbillTransport() {
+			@Override
+			public TransportResponse execute(TransportRequest request)
+					throws IOException {
+				calls.incrementAndGet();
+				request.markSent();
+				return new TransportResponse(200,
+						Collections.<String, String> emptyMap(),
+						new ByteArrayInputStream("{\"itemKey\":\"0123\"}"
+								.getBytes("UTF-8")));
+			}
+
+			@Override
+			public void shutdown() {
+			}
+		});
+
+		assertTrue(service.checkMgtKeyInUse(null, "20150101-01"));
+
+		try {
+			service.checkMgtKeyInUse(null, "20150101-01");
+			fail("expected exception");
+		} catch (PopbillException pe) {
+			assertEquals(PopbillException.RATE_LIMITED, pe.getCode());
+		}
+
+		assertEquals(1, calls.get());
+	}
+}
@@ -0,0 +1,148 @@
+package com.popbill.api.transport.test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.gson.Gson;
+import com.popbill.api.message.Message;
+import com.popbill.api.taxinvoice.Taxinvoice;
+import com.popbill.api.taxinvoice.TaxinvoiceDetail;
+import com.popbill.api.transport.JsonRequestBody;
+import com.popbill.api.transport.RequestBody;
+
+/**
+ * 요청본문 직렬화 방식별 할당량 비교.
+ * 
+ * 기존 방식(toJson() 문자열 → getBytes())과 JsonRequestBody 스트리밍 방식의
+ * 호출당 할당 byte 를 측정하여 출력합니다.
+ */
+public class RequestBodyAllocationTEST {
+
+	private static final int WARMUP = 200;
+	private static final int ITERATIONS = 500;
+
+	private final Gson gson = new Gson();
+
+	@Test
+	public void sameBytes_TEST() throws IOException {
+		Object graph = largeTaxinvoice();
+
+		byte[] legacy = gson.toJson(graph).getBytes(Charset.forName("UTF-8"));
+
+		JsonRequestBody body = new JsonRequestBody(gson, graph);
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		body.writeTo(output);
+
+		assertEquals(legacy.length, body.getContentLength());
+		assertArrayEquals(legacy, output.toByteArray());
+	}
+
+	@Test
+	public void bulkMessage_TEST() throws IOException {
+		measure("Message[1000]", bulkMessages());
+	}
+
+	@Test
+	public void largeTaxinvoice_TEST() throws IOException {
+		measure("Taxinvoice(99 details)", largeTaxinvoice());
+	}
+
+	private void measure(String name, Object graph) throws IOException {
+		OutputStream sink = new NullOutputStream();
+
+		for (int i = 0; i < WARMUP; i++) {
+			legacy(graph, sink);
+			streaming(graph, sink);
+		}
+
+		long legacyBytes = allocated();
+		for (int i = 0; i < ITERATIONS; i++)
+			legacy(graph, sink);
+		legacyBytes = (allocated() - legacyBytes) / ITERATIONS;
+
+		long streamingBytes = allocated();
+		for (int i = 0; i < ITERATIONS; i++)
+			streaming(graph, sink);
+		streamingBytes = (allocated() - streamingBytes) / ITERATIONS;
+
+		System.out.println(name + " : legacy " + legacyBytes
+				+ " B/op, streaming " + streamingBytes + " B/op");
+	}
+
+	private void legacy(Object graph, OutputStream sink) throws IOException {
+		RequestBody body = RequestBody.create(gson.toJson(graph).getBytes(
+				Charset.forName("UTF-8")));
+		body.getContentLength();
+		body.writeTo(sink);
+	}
+
+	private void streaming(Object graph, OutputStream sink) throws IOException {
+		RequestBody body = new JsonRequestBody(gson, graph);
+		body.getContentLength();
+		body.writeTo(sink);
+	}
+
+	private static long allocated() {
+		com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory
+				.getThreadMXBean();
+		return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private static Message[] bulkMessages() {
+		Message[] messages = new Message[1000];
+		for (int i = 0; i < messages.length; i++) {
+			Message message = new Message();
+			message.setSender("07075103710");
+			message.setSenderName("발신자명");
+			message.setReceiver("010111222" + i);
+			message.setReceiverName("수신자명" + i);
+			message.setSubject("메시지 제목");
+			message.setContent("장문 메시지 내용입니다. 팝빌 대량전송 테스트 " + i);
+			messages[i] = message;
+		}
+		return messages;
+	}
+
+	private static Taxinvoice largeTaxinvoice() {
+		Taxinvoice taxinvoice = new Taxinvoice();
+		taxinvoice.setInvoicerCorpName("공급자 상호");
+		taxinvoice.setRemark1("비고");
+
+		List<TaxinvoiceDetail> details = new ArrayList<TaxinvoiceDetail>();
+		for (short i = 1; i <= 99; i++) {
+			TaxinvoiceDetail detail = new TaxinvoiceDetail();
+			detail.setSerialNum(i);
+			detail.setPurchaseDT("20140101");
+			detail.setItemName("품목명 " + i);
+			detail.setSpec("규격");
+			detail.setQty("1");
+			detail.setUnitCost("100000");
+			detail.setSupplyCost("100000");
+			detail.setTax("10000");
+			detail.setRemark("품목비고");
+			details.add(detail);
+		}
+		taxinvoice.setDetailList(details);
+		return taxinvoice;
+	}
+
+	private static class NullOutputStream extends OutputStream {
+		@Override
+		public void write(int b) {
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+		}
+	}
+}